@@ -0,0 +1,20 @@
+package com.example.fas.application.port.in;
+
+import com.example.fas.domain.model.autojournal.AutoJournalHistory;
+import com.example.fas.domain.model.autojournal.AutoJournalSalesLine;
+import java.util.List;
+
+/**
+ * 自動仕訳ユースケース（Input Port）.
+ */
+public interface AutoJournalUseCase {
+
+    /**
+     * 売上明細から自動仕訳を一括生成し、仕訳として転記する.
+     *
+     * @param salesLines 売上明細
+     * @param processedBy 処理者
+     * @return 自動仕訳処理履歴
+     */
+    AutoJournalHistory generateEntries(List<AutoJournalSalesLine> salesLines, String processedBy);
+}
@@ -4,6 +4,8 @@ import com.example.fas.application.port.in.command.CreateJournalCommand;
 import com.example.fas.application.port.in.dto.JournalImportResult;
 import com.example.fas.application.port.in.dto.JournalResponse;
 import com.example.fas.domain.model.common.PageResult;
+import com.example.fas.domain.model.journal.JournalCursor;
+import com.example.fas.domain.model.journal.JournalSearchCondition;
 import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
@@ -73,6 +75,20 @@ public interface JournalUseCase {
      */
     PageResult<JournalResponse> getJournals(int page, int size, LocalDate fromDate, LocalDate toDate, String keyword);
 
+    /**
+     * 検索条件に一致する仕訳をカーソルの後ろから取得.
+     *
+     * <p>前ページ末尾の {@link JournalCursor} を渡すと、ページ位置の探索を省いて
+     * 続きを読み出す。カーソルが null の場合はページ番号から位置を求める。</p>
+     *
+     * @param page ページ番号（0始まり、表示用）
+     * @param size ページサイズ
+     * @param condition 検索条件
+     * @param after 前ページ末尾のカーソル（任意）
+     * @return ページネーション結果
+     */
+    PageResult<JournalResponse> getJournals(int page, int size, JournalSearchCondition condition, JournalCursor after);
+
     /**
      * CSV ファイルから仕訳を取り込む.
      *
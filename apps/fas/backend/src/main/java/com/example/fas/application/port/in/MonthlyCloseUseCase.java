@@ -0,0 +1,30 @@
+package com.example.fas.application.port.in;
+
+import com.example.fas.application.port.in.dto.MonthlyCloseResult;
+
+/**
+ * 月次締めユースケース（Input Port）.
+ */
+public interface MonthlyCloseUseCase {
+
+    /**
+     * 全勘定科目の月次締めを行う.
+     *
+     * @param fiscalYear 決算期
+     * @param month 月度
+     * @return 月次締め結果
+     */
+    MonthlyCloseResult closeMonth(int fiscalYear, int month);
+
+    /**
+     * 勘定科目コードの範囲を指定して月次締めを行う（中断した締めの再実行に使う）.
+     *
+     * @param fiscalYear 決算期
+     * @param month 月度
+     * @param fromAccountCode 開始勘定科目コード（この科目を含む、null の場合は先頭から）
+     * @param toAccountCode 終了勘定科目コード（この科目を含む、null の場合は末尾まで）
+     * @return 月次締め結果
+     */
+    MonthlyCloseResult closeMonth(int fiscalYear, int month,
+            String fromAccountCode, String toAccountCode);
+}
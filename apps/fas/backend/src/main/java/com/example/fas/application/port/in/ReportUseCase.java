@@ -2,13 +2,16 @@ package com.example.fas.application.port.in;
 
 import com.example.fas.domain.model.common.PageResult;
 import com.example.fas.domain.model.report.BalanceSheet;
+import com.example.fas.domain.model.report.ComparativeStatement;
 import com.example.fas.domain.model.report.DailyReport;
 import com.example.fas.domain.model.report.GeneralLedger;
+import com.example.fas.domain.model.report.GeneralLedgerCursor;
 import com.example.fas.domain.model.report.GeneralLedgerEntry;
 import com.example.fas.domain.model.report.IncomeStatement;
 import com.example.fas.domain.model.report.TrialBalance;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.List;
 
 /**
  * 帳票出力ユースケース（Input Port）.
@@ -24,7 +27,7 @@ public interface ReportUseCase {
     DailyReport getDailyReport(LocalDate date);
 
     /**
-     * 総勘定元帳を取得（ページネーション対応）.
+     * 総勘定元帳を取得（ページネーション対応、残高計算済み）.
      *
      * @param accountCode 勘定科目コード
      * @param fromDate 期間開始日
@@ -40,6 +43,29 @@ public interface ReportUseCase {
             int page,
             int size);
 
+    /**
+     * 総勘定元帳をカーソルの後ろから取得（残高計算済み）.
+     *
+     * <p>前ページ末尾の {@link GeneralLedgerCursor} を渡すと、ページ位置の探索を省いて
+     * 続きを読み出す。残高はカーソルの明細までの日次残高と当日の明細から求め直す。
+     * カーソルが null の場合はページ番号から位置を求める。</p>
+     *
+     * @param accountCode 勘定科目コード
+     * @param fromDate 期間開始日
+     * @param toDate 期間終了日
+     * @param page ページ番号（0始まり、表示用）
+     * @param size ページサイズ
+     * @param after 前ページ末尾のカーソル（任意）
+     * @return ページネーション結果
+     */
+    PageResult<GeneralLedgerEntry> getGeneralLedger(
+            String accountCode,
+            LocalDate fromDate,
+            LocalDate toDate,
+            int page,
+            int size,
+            GeneralLedgerCursor after);
+
     /**
      * 総勘定元帳のメタデータを取得.
      *
@@ -70,6 +96,27 @@ public interface ReportUseCase {
      */
     IncomeStatement getIncomeStatement(YearMonth fromMonth, YearMonth toMonth);
 
+    /**
+     * 期間内の各月度を列に並べた比較財務諸表を取得.
+     *
+     * @param bsplType BSPL区分（BS/PL、null の場合は全科目の試算表）
+     * @param fromMonth 期間開始月
+     * @param toMonth 期間終了月
+     * @return 比較財務諸表
+     */
+    ComparativeStatement getComparativeStatement(String bsplType, YearMonth fromMonth, YearMonth toMonth);
+
+    /**
+     * 指定した月度を列に並べた比較財務諸表を取得（前年同月比較など）.
+     *
+     * <p>全列の残高を 1 回の問い合わせで取得し、メモリ上で列に展開する。</p>
+     *
+     * @param bsplType BSPL区分（BS/PL、null の場合は全科目の試算表）
+     * @param columns 列に並べる月度（重複は除く）
+     * @return 比較財務諸表
+     */
+    ComparativeStatement getComparativeStatement(String bsplType, List<YearMonth> columns);
+
     /**
      * 合計残高試算表を取得.
      *
@@ -36,6 +36,21 @@ public class JournalImportResult {
      */
     private int errorCount;
 
+    /**
+     * 読込行数.
+     */
+    private long lineCount;
+
+    /**
+     * 処理時間（ミリ秒）.
+     */
+    private long elapsedMillis;
+
+    /**
+     * 1 秒あたりの読込行数.
+     */
+    private long linesPerSecond;
+
     /**
      * エラー詳細リスト.
      */
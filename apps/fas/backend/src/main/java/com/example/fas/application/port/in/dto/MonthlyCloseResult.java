@@ -0,0 +1,60 @@
+package com.example.fas.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 月次締め結果 DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyCloseResult {
+
+    /**
+     * 決算期.
+     */
+    private int fiscalYear;
+
+    /**
+     * 月度.
+     */
+    private int month;
+
+    /**
+     * 締めた勘定科目数.
+     */
+    private int closedAccountCount;
+
+    /**
+     * 登録・更新した月次残高の件数.
+     */
+    private int balanceCount;
+
+    /**
+     * 最後に締めた勘定科目コード（未処理の場合は null）.
+     */
+    private String lastClosedAccountCode;
+
+    /**
+     * 失敗した範囲の先頭勘定科目コード（再実行の開始位置、成功時は null）.
+     */
+    private String failedAccountCode;
+
+    /**
+     * 失敗理由（成功時は null）.
+     */
+    private String errorMessage;
+
+    /**
+     * 全範囲を締めたかどうか.
+     *
+     * @return 失敗した範囲がなければ true
+     */
+    public boolean isCompleted() {
+        return failedAccountCode == null;
+    }
+}
@@ -33,6 +33,8 @@ public interface AutoJournalRepository {
 
     void saveEntry(AutoJournalEntry entry);
 
+    void saveEntries(List<AutoJournalEntry> entries);
+
     Optional<AutoJournalEntry> findEntryByNumber(String autoJournalNumber);
 
     List<AutoJournalEntry> findEntriesBySalesNumber(String salesNumber);
@@ -18,6 +18,41 @@ public interface ChangeLogRepository {
      */
     void save(ChangeLog changeLog);
 
+    /**
+     * 複数の変更ログを一括保存する.
+     *
+     * <p>呼び出し元のトランザクションとは別のトランザクションで登録する。</p>
+     *
+     * @param changeLogs 変更ログリスト
+     */
+    void saveAll(List<ChangeLog> changeLogs);
+
+    /**
+     * テーブルの最新の操作日時を取得する.
+     *
+     * @param tableName テーブル名
+     * @return 最新の操作日時（ログがない場合は空）
+     */
+    Optional<LocalDateTime> findLatestOperatedAt(String tableName);
+
+    /**
+     * 変更ログを補完済みの日時を取得する.
+     *
+     * @param tableName テーブル名
+     * @return この日時より前に作成されたレコードは変更ログを確認済み（未補完の場合は空）
+     */
+    Optional<LocalDateTime> findRecoveredUntil(String tableName);
+
+    /**
+     * 変更ログを補完済みの日時を保存する.
+     *
+     * <p>保存済みの日時より前の日時では更新しない。</p>
+     *
+     * @param tableName テーブル名
+     * @param recoveredUntil 補完済日時
+     */
+    void saveRecoveredUntil(String tableName, LocalDateTime recoveredUntil);
+
     /**
      * ログIDで検索する.
      *
@@ -3,6 +3,7 @@ package com.example.fas.application.port.out;
 import com.example.fas.domain.model.balance.DailyAccountBalance;
 import com.example.fas.domain.model.balance.DailyReportLine;
 import com.example.fas.domain.model.common.PageResult;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +20,13 @@ public interface DailyAccountBalanceRepository {
      */
     void upsert(DailyAccountBalance balance);
 
+    /**
+     * 借方・貸方金額を一括で加算（行がなければ登録）.
+     *
+     * @param balances 加算する日次残高（複合キーは重複しないこと）
+     */
+    void addAmounts(List<DailyAccountBalance> balances);
+
     /**
      * 複合キーで検索.
      *
@@ -54,6 +62,26 @@ public interface DailyAccountBalanceRepository {
      */
     List<DailyReportLine> getDailyReport(LocalDate postingDate);
 
+    /**
+     * 勘定科目の期間内の借方金額−貸方金額の合計を取得.
+     *
+     * @param accountCode 勘定科目コード
+     * @param fromDate 開始日
+     * @param toDate 終了日
+     * @return 借方金額−貸方金額（該当なしの場合は 0）
+     */
+    BigDecimal sumNetAmount(String accountCode, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * 勘定科目の期間内の起票日ごとの借方金額・貸方金額・明細件数を取得.
+     *
+     * @param accountCode 勘定科目コード
+     * @param fromDate 開始日
+     * @param toDate 終了日
+     * @return 起票日・勘定科目コードと合計だけを設定した日次残高（起票日順、明細のない日は含まない）
+     */
+    List<DailyAccountBalance> findDailyTotals(String accountCode, LocalDate fromDate, LocalDate toDate);
+
     /**
      * 楽観ロック対応の更新.
      *
@@ -1,10 +1,14 @@
 package com.example.fas.application.port.out;
 
-import com.example.fas.domain.model.common.PageResult;
 import com.example.fas.domain.model.journal.Journal;
+import com.example.fas.domain.model.journal.JournalCursor;
+import com.example.fas.domain.model.journal.JournalSearchCondition;
+import com.example.fas.domain.model.report.GeneralLedgerCursor;
 import com.example.fas.domain.model.report.GeneralLedgerEntry;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +19,23 @@ public interface JournalRepository {
 
     void save(Journal journal);
 
+    /**
+     * 複数の仕訳を一括登録.
+     *
+     * @param journals 仕訳（明細・貸借明細を含む）
+     */
+    void saveAll(List<Journal> journals);
+
     Optional<Journal> findByVoucherNumber(String voucherNumber);
 
+    /**
+     * 伝票番号の集合で明細を含む仕訳を一括取得.
+     *
+     * @param voucherNumbers 仕訳伝票番号
+     * @return 仕訳（伝票番号順、存在しない伝票番号は含まない）
+     */
+    List<Journal> findByVoucherNumbers(Collection<String> voucherNumbers);
+
     List<Journal> findByPostingDateBetween(LocalDate fromDate, LocalDate toDate);
 
     List<Journal> findByAccountCode(String accountCode);
@@ -44,42 +63,101 @@ public interface JournalRepository {
     void update(Journal journal);
 
     /**
-     * ページネーション付きで仕訳を検索.
-     *
-     * @param page ページ番号（0始まり）
-     * @param size ページサイズ
-     * @param fromDate 開始日（null 可）
-     * @param toDate 終了日（null 可）
-     * @param keyword キーワード（null 可）
-     * @return ページネーション結果
+     * 検索条件に一致する仕訳ヘッダをカーソルの後ろから取得.
+     *
+     * <p>(起票日, 仕訳伝票番号) の降順のキーセット読み出しのため、読み出し位置によらず
+     * 件数分のコストで取得できる。明細は読み込まない。</p>
+     *
+     * @param condition 検索条件
+     * @param after 読み出し位置（null または先頭カーソルの場合は先頭から）
+     * @param limit 取得件数
+     * @return 仕訳リスト
+     */
+    List<Journal> findJournalsAfter(JournalSearchCondition condition, JournalCursor after, int limit);
+
+    /**
+     * 検索条件に一致する仕訳のうち、指定位置の仕訳のキーを取得.
+     *
+     * @param condition 検索条件
+     * @param offset 位置（0始まり）
+     * @return 指定位置の仕訳の直後を表すカーソル（範囲外の場合は空）
+     */
+    Optional<JournalCursor> findJournalKeyAt(JournalSearchCondition condition, long offset);
+
+    /**
+     * 検索条件に一致する仕訳件数を取得.
+     *
+     * <p>同じ検索条件の件数は仕訳が更新されるまでキャッシュする。</p>
+     *
+     * @param condition 検索条件
+     * @return 件数
+     */
+    long countJournals(JournalSearchCondition condition);
+
+    /**
+     * 総勘定元帳エントリをカーソルの後ろから取得.
+     *
+     * <p>(起票日, 仕訳伝票番号, 仕訳行番号, 仕訳行貸借区分) 順のキーセット読み出しのため、
+     * 読み出し位置によらず件数分のコストで取得できる。残高は設定しない。</p>
+     *
+     * @param accountCode 勘定科目コード
+     * @param fromDate 開始日
+     * @param toDate 終了日
+     * @param after 読み出し位置（null または先頭カーソルの場合は期間の先頭から）
+     * @param limit 取得件数
+     * @return 総勘定元帳エントリリスト
      */
-    PageResult<Journal> findWithPagination(int page, int size, LocalDate fromDate, LocalDate toDate, String keyword);
+    List<GeneralLedgerEntry> findGeneralLedgerEntriesAfter(
+            String accountCode,
+            LocalDate fromDate,
+            LocalDate toDate,
+            GeneralLedgerCursor after,
+            int limit);
 
     /**
-     * 総勘定元帳エントリを取得（ページネーション対応）.
+     * 総勘定元帳の指定位置の明細キーと、期間の先頭からその明細までの借方−貸方累計を取得.
      *
      * @param accountCode 勘定科目コード
      * @param fromDate 開始日
      * @param toDate 終了日
-     * @param page ページ番号（0始まり）
-     * @param size ページサイズ
-     * @return ページネーション結果
+     * @param offset 位置（0始まり）
+     * @return キーと累計（balance）のみを設定したエントリ
      */
-    PageResult<GeneralLedgerEntry> findGeneralLedgerEntries(
+    Optional<GeneralLedgerEntry> findGeneralLedgerKeyAt(
             String accountCode,
             LocalDate fromDate,
             LocalDate toDate,
-            int page,
-            int size);
+            long offset);
 
     /**
-     * 指定期間の勘定科目別期首残高を取得.
+     * カーソルの起票日の先頭からカーソルの明細（を含む）までの借方−貸方累計を取得.
+     *
+     * <p>カーソルから残高を求め直すときに、その日の途中までの金額を得るために使う。
+     * 読む明細は 1 日分だけになる。</p>
      *
      * @param accountCode 勘定科目コード
-     * @param beforeDate 期首日の前日
-     * @return 期首残高
+     * @param through カーソル（先頭カーソル以外）
+     * @return 借方−貸方累計（該当なしの場合は 0）
+     */
+    BigDecimal sumGeneralLedgerAmountThrough(String accountCode, GeneralLedgerCursor through);
+
+    /**
+     * 総勘定元帳エントリ件数を取得.
+     *
+     * @param accountCode 勘定科目コード
+     * @param fromDate 開始日
+     * @param toDate 終了日
+     * @return 件数
+     */
+    long countGeneralLedgerEntries(String accountCode, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * 指定日時以降に作成され、変更ログが記録されていない仕訳の伝票番号を取得.
+     *
+     * @param since 作成日時の下限
+     * @return 仕訳伝票番号リスト（伝票番号順）
      */
-    BigDecimal getOpeningBalance(String accountCode, LocalDate beforeDate);
+    List<String> findVoucherNumbersWithoutChangeLog(LocalDateTime since);
 
     /**
      * 期間指定で仕訳件数を取得.
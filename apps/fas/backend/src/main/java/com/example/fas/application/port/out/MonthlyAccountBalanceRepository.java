@@ -1,11 +1,17 @@
 package com.example.fas.application.port.out;
 
+import com.example.fas.domain.model.balance.AccountCumulativeBalance;
+import com.example.fas.domain.model.balance.ClosingPeriod;
 import com.example.fas.domain.model.balance.MonthlyAccountBalance;
 import com.example.fas.domain.model.balance.TrialBalanceLine;
 import com.example.fas.domain.model.common.PageResult;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 月次勘定科目残高リポジトリ（Output Port）.
@@ -19,6 +25,34 @@ public interface MonthlyAccountBalanceRepository {
      */
     void save(MonthlyAccountBalance balance);
 
+    /**
+     * 借方・貸方金額を一括で加算し、月末残高に反映（行がなければ登録）.
+     *
+     * @param balances 加算する月次残高（複合キーは重複しないこと）
+     */
+    void addAmounts(List<MonthlyAccountBalance> balances);
+
+    /**
+     * 月次締めの結果を一括で登録・上書き（月初・月末残高と借方・貸方金額を置き換える）.
+     *
+     * @param balances 締め後の月次残高（複合キーは重複しないこと）
+     */
+    void saveAll(List<MonthlyAccountBalance> balances);
+
+    /**
+     * 月次締めの集計元を複合キー順に 1 件ずつ読み出して処理する.
+     *
+     * <p>月初残高には前月の月末残高、借方・貸方金額には当月の日次残高の合計を設定する
+     * （決算期・月度と月末残高は設定しない）。</p>
+     *
+     * @param period 締め対象期間
+     * @param fromAccountCode 開始勘定科目コード（この科目を含む）
+     * @param toAccountCode 終了勘定科目コード（この科目を含む）
+     * @param action 集計元ごとの処理
+     */
+    void forEachClosingSource(ClosingPeriod period, String fromAccountCode, String toAccountCode,
+            Consumer<MonthlyAccountBalance> action);
+
     /**
      * 複合キーで検索.
      *
@@ -65,6 +99,15 @@ public interface MonthlyAccountBalanceRepository {
     List<TrialBalanceLine> getTrialBalanceByBSPL(
             Integer fiscalYear, Integer month, String bsplType);
 
+    /**
+     * 複数月度の試算表データを 1 回の問い合わせで取得.
+     *
+     * @param periods 月度（決算期・月度の組）
+     * @param bsplType BSPL区分（null の場合は全科目）
+     * @return 勘定科目・決算期・月度ごとの試算表データ（勘定科目コード・決算期・月度順）
+     */
+    List<TrialBalanceLine> getTrialBalanceByPeriods(List<YearMonth> periods, String bsplType);
+
     /**
      * 日次残高から月次残高を集計.
      *
@@ -87,6 +130,43 @@ public interface MonthlyAccountBalanceRepository {
      */
     int carryForward(Integer fiscalYear, Integer fromMonth, Integer toMonth);
 
+    /**
+     * 勘定科目の期間内の借方金額−貸方金額の合計を取得.
+     *
+     * @param accountCode 勘定科目コード
+     * @param after 開始月度（この月度は含まない。null の場合は最初の月度から）
+     * @param before 終了月度（この月度は含まない）
+     * @return 借方金額−貸方金額（該当なしの場合は 0）
+     */
+    BigDecimal sumNetAmountBetween(String accountCode, ClosingPeriod after, ClosingPeriod before);
+
+    /**
+     * 指定月度より前で直近に締めた勘定科目累計残高を取得.
+     *
+     * @param accountCode 勘定科目コード
+     * @param before 月度（この月度は含まない）
+     * @return 勘定科目累計残高（締めた月度がない場合は空）
+     */
+    Optional<AccountCumulativeBalance> findLatestCumulativeBalanceBefore(String accountCode, ClosingPeriod before);
+
+    /**
+     * 勘定科目範囲の締め月までの累計残高を月次残高から集計し、勘定科目累計残高として記録（上書き）.
+     *
+     * @param period 締め対象期間
+     * @param fromAccountCode 開始勘定科目コード（この科目を含む）
+     * @param toAccountCode 終了勘定科目コード（この科目を含む）
+     * @return 記録件数
+     */
+    int saveCumulativeBalances(ClosingPeriod period, String fromAccountCode, String toAccountCode);
+
+    /**
+     * 指定月度以降の勘定科目累計残高を削除（締め月以前へ転記した場合）.
+     *
+     * @param accountCodes 勘定科目コード
+     * @param from 月度（この月度を含む）
+     */
+    void deleteCumulativeBalancesFrom(Collection<String> accountCodes, ClosingPeriod from);
+
     /**
      * 楽観ロック対応の更新.
      *
@@ -95,7 +175,7 @@ public interface MonthlyAccountBalanceRepository {
     void updateWithOptimisticLock(MonthlyAccountBalance balance);
 
     /**
-     * 全件削除.
+     * 全件削除（勘定科目累計残高を含む）.
      */
     void deleteAll();
 
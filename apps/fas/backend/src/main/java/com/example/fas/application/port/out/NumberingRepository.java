@@ -0,0 +1,20 @@
+package com.example.fas.application.port.out;
+
+/**
+ * 採番リポジトリ（Output Port）.
+ */
+public interface NumberingRepository {
+
+    /**
+     * 採番履歴の最終番号を指定件数だけ進め、進めた後の最終番号を返す.
+     *
+     * <p>呼び出し元のトランザクションとは独立してコミットされる。
+     * 該当する採番履歴がなければ作成する。</p>
+     *
+     * @param numberingCode 採番コード
+     * @param yearMonth 採番年月（採番の区切りとなる期間）
+     * @param count 確保する件数
+     * @return 確保した番号の最大値
+     */
+    long reserveNumbers(String numberingCode, String yearMonth, int count);
+}
@@ -0,0 +1,171 @@
+package com.example.fas.application.service;
+
+import com.example.fas.application.port.out.DailyAccountBalanceRepository;
+import com.example.fas.application.port.out.MonthlyAccountBalanceRepository;
+import com.example.fas.domain.model.account.DebitCreditType;
+import com.example.fas.domain.model.balance.ClosingPeriod;
+import com.example.fas.domain.model.balance.DailyAccountBalance;
+import com.example.fas.domain.model.balance.MonthlyAccountBalance;
+import com.example.fas.domain.model.journal.Journal;
+import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
+import com.example.fas.domain.model.journal.JournalDetail;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 勘定科目残高の転記.
+ *
+ * <p>登録・取消・削除した仕訳の貸借金額を、勘定科目・補助科目・部門・プロジェクト・
+ * 起票日（月次は決算期・月度）ごとにメモリ上で集計し、日次勘定科目残高と
+ * 月次勘定科目残高へ一括で加算する。呼び出し元のトランザクション内で実行するため、
+ * 仕訳と残高は常に整合する。</p>
+ *
+ * <p>残高行はキー順に更新するので、同時に転記するトランザクション同士が
+ * 行ロックを逆順に取り合うことはない。決算期・月度は起票日の年・月とする
+ * （{@link ReportApplicationService} と同じ扱い）。日次残高には転記した仕訳貸借明細の
+ * 行数も加算し、転記した月度以降の勘定科目累計残高は破棄する。</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountBalancePoster {
+
+    private static final String DEFAULT_SUB_ACCOUNT_CODE = "";
+    private static final String DEFAULT_DEPARTMENT_CODE = "00000";
+    private static final String DEFAULT_PROJECT_CODE = "";
+
+    private static final Comparator<BalanceKey> KEY_ORDER = Comparator
+            .comparing(BalanceKey::postingDate)
+            .thenComparing(BalanceKey::accountCode)
+            .thenComparing(BalanceKey::subAccountCode)
+            .thenComparing(BalanceKey::departmentCode)
+            .thenComparing(BalanceKey::projectCode)
+            .thenComparing(BalanceKey::closingJournal);
+
+    private final DailyAccountBalanceRepository dailyAccountBalanceRepository;
+    private final MonthlyAccountBalanceRepository monthlyAccountBalanceRepository;
+
+    /**
+     * 仕訳の貸借金額を残高に加算する.
+     *
+     * @param journals 登録した仕訳（赤伝を含む）
+     */
+    public void post(Collection<Journal> journals) {
+        apply(journals, false);
+    }
+
+    /**
+     * 仕訳の貸借金額を残高から減算する（仕訳を物理削除した場合）.
+     *
+     * @param journal 削除した仕訳
+     */
+    public void unpost(Journal journal) {
+        apply(List.of(journal), true);
+    }
+
+    private void apply(Collection<Journal> journals, boolean negate) {
+        Map<BalanceKey, BigDecimal[]> dailyAmounts = new TreeMap<>(KEY_ORDER);
+        Map<BalanceKey, Integer> dailyCounts = new HashMap<>();
+        int countDelta = negate ? -1 : 1;
+        for (Journal journal : journals) {
+            boolean closingJournal = Boolean.TRUE.equals(journal.getClosingJournalFlag());
+            for (JournalDetail detail : journal.getDetails()) {
+                for (JournalDebitCreditDetail dcDetail : detail.getDebitCreditDetails()) {
+                    BigDecimal amount = negate ? dcDetail.getAmount().negate() : dcDetail.getAmount();
+                    BalanceKey key = BalanceKey.of(journal.getPostingDate(), dcDetail, closingJournal);
+                    BigDecimal[] amounts = dailyAmounts.computeIfAbsent(
+                            key, k -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+                    int side = dcDetail.getDebitCreditType() == DebitCreditType.DEBIT ? 0 : 1;
+                    amounts[side] = amounts[side].add(amount);
+                    dailyCounts.merge(key, countDelta, Integer::sum);
+                }
+            }
+        }
+        if (dailyAmounts.isEmpty()) {
+            return;
+        }
+
+        List<DailyAccountBalance> dailyBalances = new ArrayList<>(dailyAmounts.size());
+        Map<BalanceKey, BigDecimal[]> monthlyAmounts = new TreeMap<>(KEY_ORDER);
+        for (Map.Entry<BalanceKey, BigDecimal[]> entry : dailyAmounts.entrySet()) {
+            BalanceKey key = entry.getKey();
+            BigDecimal[] amounts = entry.getValue();
+            dailyBalances.add(DailyAccountBalance.builder()
+                    .postingDate(key.postingDate())
+                    .accountCode(key.accountCode())
+                    .subAccountCode(key.subAccountCode())
+                    .departmentCode(key.departmentCode())
+                    .projectCode(key.projectCode())
+                    .closingJournalFlag(key.closingJournal())
+                    .debitAmount(amounts[0])
+                    .creditAmount(amounts[1])
+                    .entryCount(dailyCounts.get(key))
+                    .build());
+
+            BigDecimal[] monthly = monthlyAmounts.computeIfAbsent(key.monthKey(),
+                    k -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+            monthly[0] = monthly[0].add(amounts[0]);
+            monthly[1] = monthly[1].add(amounts[1]);
+        }
+
+        List<MonthlyAccountBalance> monthlyBalances = new ArrayList<>(monthlyAmounts.size());
+        for (Map.Entry<BalanceKey, BigDecimal[]> entry : monthlyAmounts.entrySet()) {
+            BalanceKey key = entry.getKey();
+            monthlyBalances.add(MonthlyAccountBalance.builder()
+                    .fiscalYear(key.postingDate().getYear())
+                    .month(key.postingDate().getMonthValue())
+                    .accountCode(key.accountCode())
+                    .subAccountCode(key.subAccountCode())
+                    .departmentCode(key.departmentCode())
+                    .projectCode(key.projectCode())
+                    .closingJournalFlag(key.closingJournal())
+                    .debitAmount(entry.getValue()[0])
+                    .creditAmount(entry.getValue()[1])
+                    .build());
+        }
+
+        dailyAccountBalanceRepository.addAmounts(dailyBalances);
+        monthlyAccountBalanceRepository.addAmounts(monthlyBalances);
+
+        // 締め月以前への転記で古くなった勘定科目累計残高は、次の月次締めで作り直す
+        LocalDate earliest = dailyAmounts.keySet().iterator().next().postingDate();
+        Set<String> accountCodes = new TreeSet<>();
+        dailyAmounts.keySet().forEach(key -> accountCodes.add(key.accountCode()));
+        monthlyAccountBalanceRepository.deleteCumulativeBalancesFrom(
+                accountCodes, ClosingPeriod.of(earliest.getYear(), earliest.getMonthValue()));
+    }
+
+    /**
+     * 残高の集計キー（月次では起票日を月初日に丸めて使う）.
+     */
+    private record BalanceKey(LocalDate postingDate, String accountCode, String subAccountCode,
+            String departmentCode, String projectCode, Boolean closingJournal) {
+
+        static BalanceKey of(LocalDate postingDate, JournalDebitCreditDetail dcDetail, boolean closingJournal) {
+            return new BalanceKey(postingDate, dcDetail.getAccountCode(),
+                    orDefault(dcDetail.getSubAccountCode(), DEFAULT_SUB_ACCOUNT_CODE),
+                    orDefault(dcDetail.getDepartmentCode(), DEFAULT_DEPARTMENT_CODE),
+                    orDefault(dcDetail.getProjectCode(), DEFAULT_PROJECT_CODE),
+                    closingJournal);
+        }
+
+        BalanceKey monthKey() {
+            return new BalanceKey(postingDate.withDayOfMonth(1), accountCode, subAccountCode,
+                    departmentCode, projectCode, closingJournal);
+        }
+
+        private static String orDefault(String value, String defaultValue) {
+            return value == null || value.isEmpty() ? defaultValue : value;
+        }
+    }
+}
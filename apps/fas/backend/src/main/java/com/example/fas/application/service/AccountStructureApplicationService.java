@@ -27,6 +27,7 @@ public class AccountStructureApplicationService implements AccountStructureUseCa
 
     private final AccountStructureRepository accountStructureRepository;
     private final AccountRepository accountRepository;
+    private final AccountTreeCache accountTreeCache;
 
     @Override
     public AccountStructureResponse getAccountStructure(String accountCode) {
@@ -78,6 +79,7 @@ public class AccountStructureApplicationService implements AccountStructureUseCa
                 .build();
 
         accountStructureRepository.save(structure);
+        accountTreeCache.refresh();
 
         String accountName = getAccountName(command.accountCode());
         return AccountStructureResponse.from(structure, accountName);
@@ -95,6 +97,7 @@ public class AccountStructureApplicationService implements AccountStructureUseCa
         structure.setUpdatedBy("system");
 
         accountStructureRepository.update(structure);
+        accountTreeCache.refresh();
 
         String accountName = getAccountName(accountCode);
         return AccountStructureResponse.from(structure, accountName);
@@ -106,6 +109,7 @@ public class AccountStructureApplicationService implements AccountStructureUseCa
         accountStructureRepository.findByCode(accountCode)
                 .orElseThrow(() -> new AccountStructureNotFoundException(accountCode));
         accountStructureRepository.delete(accountCode);
+        accountTreeCache.refresh();
     }
 
     private String buildPath(String parentCode, String accountCode) {
@@ -0,0 +1,67 @@
+package com.example.fas.application.service;
+
+import com.example.fas.application.port.out.AccountStructureRepository;
+import com.example.fas.domain.model.account.AccountTree;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 勘定科目構成ツリーのキャッシュ.
+ *
+ * <p>最初の参照時に勘定科目構成を全件読んでツリーを構築し、以降は同じツリーを返す。
+ * 勘定科目構成を更新したら {@link #refresh()} を呼ぶこと。トランザクション中であれば
+ * コミット後に破棄するので、コミット前の構成や取り消された構成をキャッシュしない。</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountTreeCache {
+
+    private final AccountStructureRepository accountStructureRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile AccountTree tree;
+
+    /**
+     * 勘定科目構成ツリーを取得.
+     *
+     * @return 勘定科目構成ツリー
+     */
+    public AccountTree get() {
+        AccountTree current = tree;
+        if (current == null) {
+            // 構築中に破棄された場合は、古い構成かもしれないのでキャッシュしない
+            long loadedGeneration = generation.get();
+            current = AccountTree.of(accountStructureRepository.findAll());
+            synchronized (this) {
+                if (generation.get() == loadedGeneration) {
+                    tree = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * キャッシュを破棄し、次の参照時に構築し直す.
+     */
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate();
+                }
+            });
+        }
+        invalidate();
+    }
+
+    private synchronized void invalidate() {
+        generation.incrementAndGet();
+        tree = null;
+    }
+}
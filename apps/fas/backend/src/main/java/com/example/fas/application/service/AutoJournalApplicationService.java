@@ -0,0 +1,238 @@
+package com.example.fas.application.service;
+
+import com.example.fas.application.port.in.AutoJournalUseCase;
+import com.example.fas.application.port.out.AutoJournalRepository;
+import com.example.fas.application.port.out.JournalRepository;
+import com.example.fas.domain.model.account.DebitCreditType;
+import com.example.fas.domain.model.autojournal.AutoJournalEntry;
+import com.example.fas.domain.model.autojournal.AutoJournalHistory;
+import com.example.fas.domain.model.autojournal.AutoJournalPattern;
+import com.example.fas.domain.model.autojournal.AutoJournalPatternIndex;
+import com.example.fas.domain.model.autojournal.AutoJournalSalesLine;
+import com.example.fas.domain.model.autojournal.AutoJournalStatus;
+import com.example.fas.domain.model.journal.Journal;
+import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
+import com.example.fas.domain.model.journal.JournalDetail;
+import com.example.fas.domain.model.journal.JournalVoucherType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 自動仕訳アプリケーションサービス.
+ *
+ * <p>売上明細ごとに自動仕訳パターンを決定し、借方・貸方の自動仕訳データと仕訳を生成する。
+ * パターンは処理の開始時に 1 回だけ読み込んで {@link AutoJournalPatternIndex} に変換し、
+ * 明細ごとのデータベース検索やパターンの全件走査は行わない。</p>
+ *
+ * <p>仕訳は起票日ごとに売上明細 {@value #MAX_LINES_PER_JOURNAL} 行ずつまとめて 1 伝票とし、
+ * 自動仕訳データ・仕訳・勘定科目残高はそれぞれ一括で登録する。処理履歴は呼び出し 1 回に
+ * つき 1 件登録する。パターンが見つからない明細は仕訳せず、エラー件数に数える。</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+public class AutoJournalApplicationService implements AutoJournalUseCase {
+
+    /** 1 伝票にまとめる売上明細の行数. */
+    static final int MAX_LINES_PER_JOURNAL = 999;
+
+    /** 備考に記録するパターン未登録明細の件数. */
+    private static final int MAX_UNMATCHED_REMARKS = 10;
+
+    private static final String CURRENCY_CODE = "JPY";
+
+    private final AutoJournalRepository autoJournalRepository;
+    private final JournalRepository journalRepository;
+    private final DocumentNumberAllocator documentNumberAllocator;
+    private final AccountBalancePoster accountBalancePoster;
+
+    @Override
+    @Transactional
+    public AutoJournalHistory generateEntries(List<AutoJournalSalesLine> salesLines, String processedBy) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        AutoJournalPatternIndex index = AutoJournalPatternIndex.of(autoJournalRepository.findAllPatterns());
+
+        Map<LocalDate, List<MatchedLine>> matchedByDate = new TreeMap<>();
+        List<String> unmatched = new ArrayList<>();
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        LocalDate fromDate = null;
+        LocalDate toDate = null;
+        for (AutoJournalSalesLine line : salesLines) {
+            fromDate = fromDate == null || line.getSalesDate().isBefore(fromDate) ? line.getSalesDate() : fromDate;
+            toDate = toDate == null || line.getSalesDate().isAfter(toDate) ? line.getSalesDate() : toDate;
+            Optional<AutoJournalPattern> pattern = index.find(line.getProductGroup(),
+                    line.getCustomerGroup(), line.getSalesType(), line.getSalesDate());
+            if (pattern.isEmpty()) {
+                unmatched.add(line.getSalesNumber() + "-" + line.getSalesLineNumber());
+                continue;
+            }
+            matchedByDate.computeIfAbsent(line.getSalesDate(), k -> new ArrayList<>())
+                    .add(new MatchedLine(line, pattern.get()));
+            totalAmount = totalAmount.add(line.getAmount());
+        }
+
+        List<Journal> journals = new ArrayList<>();
+        List<AutoJournalEntry> entries = new ArrayList<>((salesLines.size() - unmatched.size()) * 2);
+        for (Map.Entry<LocalDate, List<MatchedLine>> dateLines : matchedByDate.entrySet()) {
+            List<MatchedLine> lines = dateLines.getValue();
+            Iterator<String> entryNumbers = documentNumberAllocator
+                    .nextAutoJournalNumbers(dateLines.getKey(), lines.size() * 2).iterator();
+            for (int from = 0; from < lines.size(); from += MAX_LINES_PER_JOURNAL) {
+                List<MatchedLine> chunk = lines.subList(from, Math.min(from + MAX_LINES_PER_JOURNAL, lines.size()));
+                String voucherNumber = documentNumberAllocator.nextJournalVoucherNumber(today);
+                journals.add(buildJournal(voucherNumber, dateLines.getKey(), today, chunk, now));
+                for (MatchedLine matched : chunk) {
+                    entries.add(buildEntry(entryNumbers.next(), matched, DebitCreditType.DEBIT,
+                            voucherNumber, today));
+                    entries.add(buildEntry(entryNumbers.next(), matched, DebitCreditType.CREDIT,
+                            voucherNumber, today));
+                }
+            }
+        }
+
+        journalRepository.saveAll(journals);
+        accountBalancePoster.post(journals);
+        autoJournalRepository.saveEntries(entries);
+
+        AutoJournalHistory history = AutoJournalHistory.builder()
+                .processNumber(documentNumberAllocator.nextAutoJournalProcessNumber(today))
+                .processDateTime(now)
+                .targetFromDate(fromDate != null ? fromDate : today)
+                .targetToDate(toDate != null ? toDate : today)
+                .totalCount(salesLines.size())
+                .successCount(salesLines.size() - unmatched.size())
+                .errorCount(unmatched.size())
+                .totalAmount(totalAmount)
+                .processedBy(processedBy)
+                .remarks(unmatchedRemarks(unmatched))
+                .build();
+        autoJournalRepository.saveHistory(history);
+        log.info("自動仕訳を生成しました: 処理番号={}, 明細={}, 仕訳={}, エラー={}",
+                history.getProcessNumber(), salesLines.size(), journals.size(), unmatched.size());
+        return history;
+    }
+
+    private Journal buildJournal(String voucherNumber, LocalDate postingDate, LocalDate entryDate,
+            List<MatchedLine> lines, LocalDateTime now) {
+        List<JournalDetail> details = new ArrayList<>(lines.size());
+        int lineNumber = 1;
+        for (MatchedLine matched : lines) {
+            AutoJournalSalesLine line = matched.line();
+            String debitAccountCode = matched.accountCode(DebitCreditType.DEBIT);
+            String creditAccountCode = matched.accountCode(DebitCreditType.CREDIT);
+            details.add(JournalDetail.builder()
+                    .journalVoucherNumber(voucherNumber)
+                    .lineNumber(lineNumber)
+                    .lineSummary(line.getSummary())
+                    .debitCreditDetails(List.of(
+                            buildDebitCreditDetail(voucherNumber, lineNumber, DebitCreditType.DEBIT,
+                                    debitAccountCode, creditAccountCode, line, now),
+                            buildDebitCreditDetail(voucherNumber, lineNumber, DebitCreditType.CREDIT,
+                                    creditAccountCode, debitAccountCode, line, now)))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+            lineNumber++;
+        }
+        return Journal.builder()
+                .journalVoucherNumber(voucherNumber)
+                .postingDate(postingDate)
+                .entryDate(entryDate)
+                .voucherType(JournalVoucherType.NORMAL)
+                .closingJournalFlag(false)
+                .singleEntryFlag(false)
+                .periodicPostingFlag(false)
+                .redSlipFlag(false)
+                .details(details)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private JournalDebitCreditDetail buildDebitCreditDetail(String voucherNumber, int lineNumber,
+            DebitCreditType type, String accountCode, String counterAccountCode,
+            AutoJournalSalesLine line, LocalDateTime now) {
+        return JournalDebitCreditDetail.builder()
+                .journalVoucherNumber(voucherNumber)
+                .lineNumber(lineNumber)
+                .debitCreditType(type)
+                .accountCode(accountCode)
+                .departmentCode(line.getDepartmentCode())
+                .amount(line.getAmount())
+                .currencyCode(CURRENCY_CODE)
+                .exchangeRate(BigDecimal.ONE)
+                .baseCurrencyAmount(line.getAmount())
+                .cashFlowFlag(false)
+                .counterAccountCode(counterAccountCode)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private AutoJournalEntry buildEntry(String autoJournalNumber, MatchedLine matched, DebitCreditType type,
+            String voucherNumber, LocalDate postedDate) {
+        AutoJournalSalesLine line = matched.line();
+        return AutoJournalEntry.builder()
+                .autoJournalNumber(autoJournalNumber)
+                .salesNumber(line.getSalesNumber())
+                .salesLineNumber(line.getSalesLineNumber())
+                .patternCode(matched.pattern().getPatternCode())
+                .postingDate(line.getSalesDate())
+                .debitCreditType(type)
+                .accountCode(matched.accountCode(type))
+                .departmentCode(line.getDepartmentCode())
+                .amount(line.getAmount())
+                .taxAmount(line.getTaxAmount())
+                .status(AutoJournalStatus.POSTED)
+                .postedFlag(true)
+                .postedDate(postedDate)
+                .journalVoucherNumber(voucherNumber)
+                .build();
+    }
+
+    private static String unmatchedRemarks(List<String> unmatched) {
+        if (unmatched.isEmpty()) {
+            return null;
+        }
+        String remarks = "自動仕訳パターンが見つからない売上明細: "
+                + String.join(", ", unmatched.subList(0, Math.min(MAX_UNMATCHED_REMARKS, unmatched.size())));
+        return unmatched.size() > MAX_UNMATCHED_REMARKS
+                ? remarks + " 他" + (unmatched.size() - MAX_UNMATCHED_REMARKS) + "件"
+                : remarks;
+    }
+
+    /**
+     * パターンを決定した売上明細.
+     */
+    private record MatchedLine(AutoJournalSalesLine line, AutoJournalPattern pattern) {
+
+        /**
+         * 仕訳する勘定科目を取得（返品は返品用の科目、未設定の場合は貸借を逆にする）.
+         */
+        String accountCode(DebitCreditType type) {
+            if (!line.isReturned()) {
+                return type == DebitCreditType.DEBIT ? pattern.getDebitAccountCode() : pattern.getCreditAccountCode();
+            }
+            if (type == DebitCreditType.DEBIT) {
+                return pattern.getReturnDebitAccountCode() != null
+                        ? pattern.getReturnDebitAccountCode() : pattern.getCreditAccountCode();
+            }
+            return pattern.getReturnCreditAccountCode() != null
+                    ? pattern.getReturnCreditAccountCode() : pattern.getDebitAccountCode();
+        }
+    }
+}
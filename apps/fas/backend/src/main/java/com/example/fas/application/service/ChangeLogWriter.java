@@ -0,0 +1,217 @@
+package com.example.fas.application.service;
+
+import com.example.fas.application.port.out.ChangeLogRepository;
+import com.example.fas.domain.model.audit.ChangeLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 変更ログの非同期書き込み（ライトビハインド）.
+ *
+ * <p>{@link #record(ChangeLog)} した変更ログを、トランザクションのコミット後に固定長のバッファへ積み、
+ * バックグラウンドの仮想スレッドがまとめて一括登録する。仕訳登録のトランザクションは
+ * 変更ログの INSERT を待たない。ロールバックしたトランザクションの変更ログは積まない。</p>
+ *
+ * <p>バッファが一杯の場合は呼び出し元のスレッドでそのまま書き込む（背圧）。一括登録に失敗した
+ * 変更ログは捨てずに、間隔を空けて同じバッチを書き直す。停止時はバッファに残った変更ログを
+ * 書き切ってから終了する。再試行しても書けなかった変更ログや、プロセスが異常終了して失った
+ * バッファの内容は、{@link JournalChangeLogRecovery} が次の起動時に仕訳から補完する。</p>
+ *
+ * <p>バッファの使用量と書き込み件数は Actuator のメトリクス {@code fas.change-log.*} で確認できる。</p>
+ */
+@Slf4j
+@Component
+public class ChangeLogWriter implements SmartLifecycle {
+
+    /** バッファが空のときに次の変更ログを待つ時間（ミリ秒）. */
+    private static final long POLL_TIMEOUT_MILLIS = 200L;
+
+    /** 停止時に書き込みスレッドの終了を待つ時間. */
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+
+    /** 一括登録に失敗したバッチを書き直す回数の上限. */
+    private static final int MAX_RETRIES = 5;
+
+    /** 最初の書き直しまで待つ時間（ミリ秒）. 書き直すたびに倍にする. */
+    private static final long RETRY_BACKOFF_MILLIS = 500L;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final BlockingQueue<ChangeLog> buffer;
+    private final int batchSize;
+
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    public ChangeLogWriter(ChangeLogRepository changeLogRepository,
+            MeterRegistry meterRegistry,
+            @Value("${fas.change-log.buffer-size:10000}") int bufferSize,
+            @Value("${fas.change-log.batch-size:500}") int batchSize) {
+        this.changeLogRepository = changeLogRepository;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+
+        Gauge.builder("fas.change-log.buffer.size", buffer, BlockingQueue::size)
+                .description("書き込み待ちの変更ログ件数")
+                .register(meterRegistry);
+        Gauge.builder("fas.change-log.buffer.remaining", buffer, BlockingQueue::remainingCapacity)
+                .description("変更ログバッファの空き件数")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("fas.change-log.written")
+                .description("書き込んだ変更ログ件数")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("fas.change-log.overflow")
+                .description("バッファが一杯で呼び出し元が直接書き込んだ変更ログ件数")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("fas.change-log.retried")
+                .description("一括登録に失敗して書き直した変更ログ件数")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("fas.change-log.failed")
+                .description("書き込みに失敗した変更ログ件数（次の起動時に仕訳から補完する）")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 変更ログを記録する.
+     *
+     * <p>トランザクション中であればコミット後にバッファへ積む。</p>
+     *
+     * @param changeLog 変更ログ
+     */
+    public void record(ChangeLog changeLog) {
+        if (changeLog.getOperatedAt() == null) {
+            changeLog.setOperatedAt(LocalDateTime.now());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(changeLog);
+                }
+            });
+            return;
+        }
+        enqueue(changeLog);
+    }
+
+    private void enqueue(ChangeLog changeLog) {
+        if (running && buffer.offer(changeLog)) {
+            return;
+        }
+        // バッファが一杯（または停止中）の場合は呼び出し元で書き込む
+        overflowCounter.increment();
+        write(List.of(changeLog));
+    }
+
+    private void drain() {
+        List<ChangeLog> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                ChangeLog first = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 一括登録に失敗したら間隔を空けて同じバッチを書き直す.
+     *
+     * <p>停止要求を受けた場合は書き直しをやめ、残りは次の起動時の補完に任せる。</p>
+     */
+    private void writeWithRetry(List<ChangeLog> changeLogs) throws InterruptedException {
+        long backoff = RETRY_BACKOFF_MILLIS;
+        for (int retry = 0; !tryWrite(changeLogs); retry++) {
+            if (retry == MAX_RETRIES || !running) {
+                giveUp(changeLogs);
+                return;
+            }
+            retriedCounter.increment(changeLogs.size());
+            TimeUnit.MILLISECONDS.sleep(backoff);
+            backoff *= 2;
+        }
+    }
+
+    private void write(List<ChangeLog> changeLogs) {
+        if (!tryWrite(changeLogs)) {
+            giveUp(changeLogs);
+        }
+    }
+
+    private boolean tryWrite(List<ChangeLog> changeLogs) {
+        try {
+            changeLogRepository.saveAll(changeLogs);
+            writtenCounter.increment(changeLogs.size());
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("変更ログの書き込みに失敗しました: {} 件", changeLogs.size(), e);
+            return false;
+        }
+    }
+
+    private void giveUp(List<ChangeLog> changeLogs) {
+        failedCounter.increment(changeLogs.size());
+        log.error("変更ログ {} 件を書き込めませんでした。次の起動時に仕訳から補完します", changeLogs.size());
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        drainer = Thread.ofVirtual().name("change-log-writer").start(this::drain);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            drainer.join(STOP_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 書き込みスレッドが時間内に終わらなかった分は停止処理のスレッドで書き込む
+        List<ChangeLog> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.fas.application.service;
+
+import com.example.fas.application.port.out.NumberingRepository;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 伝票番号の採番.
+ *
+ * <p>採番履歴データの最終番号をブロック単位で確保し（hi-lo 方式）、
+ * ブロック内の番号はメモリ上で払い出す。確保は独立トランザクションで行うため、
+ * 伝票テーブルの走査や採番行の長時間ロックは発生しない。</p>
+ *
+ * <p>確保したまま使われなかった番号は、プロセス停止や業務トランザクションの
+ * ロールバックにより欠番となる。番号が重複することはない。</p>
+ */
+@Component
+public class DocumentNumberAllocator {
+
+    /** 一度に確保する番号の件数. */
+    static final int BLOCK_SIZE = 20;
+
+    /** 仕訳伝票番号の採番コード. */
+    private static final String JOURNAL_NUMBERING_CODE = "JOURNAL";
+
+    /** 仕訳伝票番号の月内連番の上限（8 桁）. */
+    private static final long MAX_JOURNAL_SEQUENCE = 99_999_999;
+
+    /** 自動仕訳番号の採番コード. */
+    private static final String AUTO_JOURNAL_NUMBERING_CODE = "AUTO_JOURNAL";
+
+    /** 自動仕訳処理番号の採番コード. */
+    private static final String AUTO_JOURNAL_PROCESS_NUMBERING_CODE = "AUTO_JOURNAL_PROCESS";
+
+    /** 自動仕訳番号の月内連番の上限（8 桁）. */
+    private static final long MAX_AUTO_JOURNAL_SEQUENCE = 99_999_999;
+
+    /** 自動仕訳処理番号の月内連番の上限（6 桁）. */
+    private static final long MAX_AUTO_JOURNAL_PROCESS_SEQUENCE = 999_999;
+
+    private static final DateTimeFormatter JOURNAL_PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyMM");
+
+    private final NumberingRepository numberingRepository;
+    private final ConcurrentMap<BlockKey, NumberBlock> blocks = new ConcurrentHashMap<>();
+
+    public DocumentNumberAllocator(NumberingRepository numberingRepository) {
+        this.numberingRepository = numberingRepository;
+    }
+
+    /**
+     * 次の連番を払い出す.
+     *
+     * @param numberingCode 採番コード（採番マスタに登録済みであること）
+     * @param period 連番を区切る期間（例: yyMM）
+     * @return 期間内の連番（1 始まり）
+     */
+    public long next(String numberingCode, String period) {
+        BlockKey key = new BlockKey(numberingCode, period);
+        NumberBlock block = blocks.computeIfAbsent(key, k -> new NumberBlock());
+        block.lock.lock();
+        try {
+            if (block.next > block.last) {
+                long last = reserve(numberingCode, period);
+                block.next = last - BLOCK_SIZE + 1;
+                block.last = last;
+                evictPreviousPeriods(key);
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    /**
+     * 仕訳伝票番号を払い出す.
+     * 形式: J + yyMM + 月内連番 8 桁
+     *
+     * @param date 起票日
+     * @return 仕訳伝票番号
+     */
+    public String nextJournalVoucherNumber(LocalDate date) {
+        String period = date.format(JOURNAL_PERIOD_FORMAT);
+        long sequence = next(JOURNAL_NUMBERING_CODE, period);
+        if (sequence > MAX_JOURNAL_SEQUENCE) {
+            throw new IllegalStateException("仕訳伝票番号の月内連番が上限に達しました: " + period);
+        }
+        return String.format("J%s%08d", period, sequence);
+    }
+
+    /**
+     * 自動仕訳番号をまとめて払い出す.
+     * 形式: AJ + yyMM + 月内連番 8 桁
+     *
+     * <p>ブロックを経由せず、件数分の連続した番号を 1 回の確保で払い出す。</p>
+     *
+     * @param date 起票日
+     * @param count 払い出す件数
+     * @return 自動仕訳番号（昇順）
+     */
+    public List<String> nextAutoJournalNumbers(LocalDate date, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        String period = date.format(JOURNAL_PERIOD_FORMAT);
+        long last = reserve(AUTO_JOURNAL_NUMBERING_CODE, period, count);
+        if (last > MAX_AUTO_JOURNAL_SEQUENCE) {
+            throw new IllegalStateException("自動仕訳番号の月内連番が上限に達しました: " + period);
+        }
+        List<String> numbers = new ArrayList<>(count);
+        for (long sequence = last - count + 1; sequence <= last; sequence++) {
+            numbers.add(String.format("AJ%s%08d", period, sequence));
+        }
+        return numbers;
+    }
+
+    /**
+     * 自動仕訳処理番号を払い出す.
+     * 形式: AP + yyMM + 月内連番 6 桁
+     *
+     * @param date 処理日
+     * @return 自動仕訳処理番号
+     */
+    public String nextAutoJournalProcessNumber(LocalDate date) {
+        String period = date.format(JOURNAL_PERIOD_FORMAT);
+        long sequence = next(AUTO_JOURNAL_PROCESS_NUMBERING_CODE, period);
+        if (sequence > MAX_AUTO_JOURNAL_PROCESS_SEQUENCE) {
+            throw new IllegalStateException("自動仕訳処理番号の月内連番が上限に達しました: " + period);
+        }
+        return String.format("AP%s%06d", period, sequence);
+    }
+
+    private long reserve(String numberingCode, String period) {
+        return reserve(numberingCode, period, BLOCK_SIZE);
+    }
+
+    private long reserve(String numberingCode, String period, int count) {
+        try {
+            return numberingRepository.reserveNumbers(numberingCode, period, count);
+        } catch (DuplicateKeyException e) {
+            // 同じ期間の初回確保が他のプロセスと競合した場合は、作成済みの履歴を加算する
+            return numberingRepository.reserveNumbers(numberingCode, period, count);
+        }
+    }
+
+    /**
+     * 過去の期間のブロックを破棄する（残りの番号は欠番になる）.
+     */
+    private void evictPreviousPeriods(BlockKey current) {
+        blocks.keySet().removeIf(key -> key.numberingCode().equals(current.numberingCode())
+                && key.period().compareTo(current.period()) < 0);
+    }
+
+    private record BlockKey(String numberingCode, String period) {
+    }
+
+    /**
+     * 確保済みの番号ブロック.
+     */
+    private static final class NumberBlock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next = 1;
+        private long last;
+    }
+}
@@ -5,35 +5,31 @@ import com.example.fas.application.port.in.command.CreateJournalCommand;
 import com.example.fas.application.port.in.command.CreateJournalCommand.DebitCreditCommand;
 import com.example.fas.application.port.in.command.CreateJournalCommand.JournalDetailCommand;
 import com.example.fas.application.port.in.dto.JournalImportResult;
-import com.example.fas.application.port.in.dto.JournalImportResult.ImportError;
 import com.example.fas.application.port.in.dto.JournalResponse;
+import com.example.fas.application.port.out.ChangeLogRepository;
 import com.example.fas.application.port.out.JournalRepository;
 import com.example.fas.domain.model.common.PageResult;
-import java.io.BufferedReader;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import com.example.fas.domain.exception.JournalAlreadyCancelledException;
 import com.example.fas.domain.exception.JournalBalanceException;
 import com.example.fas.domain.exception.JournalNotFoundException;
 import com.example.fas.domain.model.account.DebitCreditType;
 import com.example.fas.domain.model.journal.Journal;
+import com.example.fas.domain.model.journal.JournalCursor;
 import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
 import com.example.fas.domain.model.journal.JournalDetail;
+import com.example.fas.domain.model.journal.JournalSearchCondition;
 import com.example.fas.domain.model.journal.JournalVoucherType;
 import com.example.fas.domain.model.journal.TaxCalculationType;
 import com.example.fas.domain.model.journal.TaxType;
-import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-import java.util.UUID;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -50,10 +46,12 @@ import org.springframework.transaction.annotation.Transactional;
 })
 public class JournalApplicationService implements JournalUseCase {
 
-    private static final int MIN_CSV_COLUMNS = 6;
-
     private final JournalRepository journalRepository;
-    private final JournalImportHelper journalImportHelper;
+    private final JournalCsvImporter journalCsvImporter;
+    private final AccountBalancePoster accountBalancePoster;
+    private final DocumentNumberAllocator documentNumberAllocator;
+    private final ChangeLogWriter changeLogWriter;
+    private final ChangeLogRepository changeLogRepository;
 
     @Override
     public JournalResponse getJournal(String voucherNumber) {
@@ -87,6 +85,8 @@ public class JournalApplicationService implements JournalUseCase {
         }
 
         journalRepository.save(journal);
+        accountBalancePoster.post(List.of(journal));
+        changeLogWriter.record(JournalChangeLogs.inserted(journal, null));
 
         return JournalResponse.from(journal);
     }
@@ -103,6 +103,8 @@ public class JournalApplicationService implements JournalUseCase {
 
         Journal reversal = createReversalJournal(original);
         journalRepository.save(reversal);
+        accountBalancePoster.post(List.of(reversal));
+        changeLogWriter.record(JournalChangeLogs.inserted(reversal, "取消元: " + voucherNumber));
 
         return JournalResponse.from(reversal);
     }
@@ -110,232 +112,52 @@ public class JournalApplicationService implements JournalUseCase {
     @Override
     @Transactional
     public void deleteJournal(String voucherNumber) {
-        journalRepository.findByVoucherNumber(voucherNumber)
+        Journal journal = journalRepository.findByVoucherNumber(voucherNumber)
                 .orElseThrow(() -> new JournalNotFoundException(voucherNumber));
         journalRepository.delete(voucherNumber);
+        accountBalancePoster.unpost(journal);
+        // 削除した仕訳は起動時に補完できないので、同じトランザクションで記録する
+        changeLogRepository.save(JournalChangeLogs.deleted(journal));
     }
 
     @Override
     public PageResult<JournalResponse> getJournals(int page, int size,
             LocalDate fromDate, LocalDate toDate, String keyword) {
-        PageResult<Journal> pageResult = journalRepository.findWithPagination(
-                page, size, fromDate, toDate, keyword);
-        return new PageResult<>(
-                pageResult.getContent().stream()
-                        .map(JournalResponse::from)
-                        .toList(),
-                pageResult.getPage(),
-                pageResult.getSize(),
-                pageResult.getTotalElements());
+        return getJournals(page, size, JournalSearchCondition.of(fromDate, toDate, keyword, null), null);
     }
 
     @Override
-    @SuppressWarnings({
-        "PMD.CognitiveComplexity",
-        "PMD.CyclomaticComplexity",
-        "PMD.AssignmentInOperand",
-        "PMD.AvoidCatchingGenericException"
-    })
-    public JournalImportResult importJournalsFromCsv(InputStream inputStream,
-            boolean skipHeaderLine, boolean skipEmptyLines) {
-        List<ImportError> errors = new ArrayList<>();
-        int totalCount = 0;
-        int successCount = 0;
-        int skippedCount = 0;
-
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-
-            // まず全行を読み込んでパース
-            List<CsvLineRecord> records = new ArrayList<>();
-            String line;
-            int lineNumber = 0;
-
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-
-                // ヘッダー行スキップ
-                if (skipHeaderLine && lineNumber == 1) {
-                    continue;
-                }
-
-                // 空行スキップ
-                if (skipEmptyLines && line.isBlank()) {
-                    skippedCount++;
-                    continue;
-                }
-
-                try {
-                    CsvLineRecord record = parseCsvLineToRecord(line, lineNumber);
-                    records.add(record);
-                } catch (Exception e) {
-                    errors.add(ImportError.builder()
-                            .lineNumber(lineNumber)
-                            .message(e.getMessage())
-                            .lineContent(line.length() > 100 ? line.substring(0, 100) + "..." : line)
-                            .build());
-                }
-            }
-
-            // 起票日＋摘要でグループ化
-            java.util.Map<String, List<CsvLineRecord>> grouped = records.stream()
-                    .collect(java.util.stream.Collectors.groupingBy(
-                            r -> r.postingDate().toString() + "|" + r.lineSummary(),
-                            java.util.LinkedHashMap::new,
-                            java.util.stream.Collectors.toList()));
-
-            totalCount = grouped.size();
-
-            // グループごとに仕訳を作成（各仕訳は独立したトランザクション）
-            for (var entry : grouped.entrySet()) {
-                List<CsvLineRecord> groupRecords = entry.getValue();
-                try {
-                    CreateJournalCommand command = buildJournalCommandFromRecords(groupRecords);
-                    journalImportHelper.createJournalInNewTransaction(command);
-                    successCount++;
-                } catch (Exception e) {
-                    int firstLineNumber = groupRecords.get(0).lineNumber();
-                    errors.add(ImportError.builder()
-                            .lineNumber(firstLineNumber)
-                            .message(e.getMessage())
-                            .lineContent(groupRecords.stream()
-                                    .map(r -> "行" + r.lineNumber())
-                                    .collect(java.util.stream.Collectors.joining(", ")))
-                            .build());
-                }
-            }
-        } catch (java.io.IOException e) {
-            errors.add(ImportError.builder()
-                    .lineNumber(0)
-                    .message("ファイル読み込みエラー: " + e.getMessage())
-                    .build());
-        }
-
-        return JournalImportResult.builder()
-                .totalCount(totalCount)
-                .successCount(successCount)
-                .skippedCount(skippedCount)
-                .errorCount(errors.size())
-                .errors(errors)
-                .build();
-    }
-
-    /**
-     * CSV 行をパースしてレコードを生成.
-     */
-    private record CsvLineRecord(
-            int lineNumber,
-            LocalDate postingDate,
-            String debitCreditType,
-            String accountCode,
-            String subAccountCode,
-            String departmentCode,
-            BigDecimal amount,
-            String lineSummary
-    ) { }
-
-    /**
-     * CSV 行をパースしてレコードを生成.
-     * CSV フォーマット: 起票日,貸借区分,勘定科目コード,補助科目コード,部門コード,金額,摘要
-     */
-    @SuppressWarnings("PMD.PrematureDeclaration")
-    private CsvLineRecord parseCsvLineToRecord(String line, int lineNumber) {
-        String[] columns = line.split(",", -1);
-        if (columns.length < MIN_CSV_COLUMNS) {
-            throw new IllegalArgumentException(
-                    "列数が不足しています（必要: 6列以上、実際: " + columns.length + "列）");
-        }
-
-        LocalDate postingDate = parseDate(columns[0].trim(), lineNumber);
-        String debitCreditType = columns[1].trim();
-        String accountCode = columns[2].trim();
-        String subAccountCode = columns[3].trim();
-        String departmentCode = columns[4].trim();
-        BigDecimal amount = parseAmount(columns[5].trim(), lineNumber);
-        String lineSummary = columns.length > MIN_CSV_COLUMNS ? columns[6].trim() : "";
-
-        if (accountCode.isEmpty()) {
-            throw new IllegalArgumentException("勘定科目コードは必須です");
-        }
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("金額は正の数で指定してください");
-        }
-
-        return new CsvLineRecord(lineNumber, postingDate, debitCreditType,
-                accountCode, subAccountCode, departmentCode, amount, lineSummary);
+    public PageResult<JournalResponse> getJournals(int page, int size,
+            JournalSearchCondition condition, JournalCursor after) {
+        // カーソルがあればそこから、なければページ先頭の位置を求めてキーセットで読む
+        Optional<JournalCursor> cursor = after != null
+                ? Optional.of(after)
+                : seekJournals(condition, (long) page * size);
+        List<JournalResponse> content = cursor
+                .map(c -> journalRepository.findJournalsAfter(condition, c, size))
+                .orElse(List.of())
+                .stream()
+                .map(JournalResponse::from)
+                .toList();
+        long totalElements = journalRepository.countJournals(condition);
+        return new PageResult<>(content, page, size, totalElements);
     }
 
     /**
-     * グループ化されたレコードから仕訳登録コマンドを生成.
+     * 指定位置の直前の仕訳を指すカーソルを求める（範囲外の場合は空）.
      */
-    private CreateJournalCommand buildJournalCommandFromRecords(List<CsvLineRecord> records) {
-        CsvLineRecord first = records.get(0);
-
-        List<DebitCreditCommand> dcCommands = new ArrayList<>();
-        for (CsvLineRecord record : records) {
-            dcCommands.add(new DebitCreditCommand(
-                    record.debitCreditType(),
-                    record.accountCode(),
-                    record.subAccountCode().isEmpty() ? null : record.subAccountCode(),
-                    record.departmentCode().isEmpty() ? null : record.departmentCode(),
-                    record.amount(),
-                    null, // currencyCode
-                    null, // exchangeRate
-                    null, // baseCurrencyAmount
-                    null, // taxType
-                    null, // taxRate
-                    null, // taxCalcType
-                    null, // dueDate
-                    null  // cashFlowFlag
-            ));
-        }
-
-        JournalDetailCommand detailCommand = new JournalDetailCommand(
-                first.lineSummary(),
-                dcCommands
-        );
-
-        return new CreateJournalCommand(
-                first.postingDate(),
-                LocalDate.now(), // entryDate
-                "NORMAL", // voucherType
-                null, // closingJournalFlag
-                null, // singleEntryFlag
-                null, // periodicPostingFlag
-                null, // employeeCode
-                null, // departmentCode
-                List.of(detailCommand)
-        );
-    }
-
-    private LocalDate parseDate(String dateStr, int lineNumber) {
-        if (dateStr.isEmpty()) {
-            throw new IllegalArgumentException("起票日は必須です");
-        }
-        try {
-            // yyyy/MM/dd または yyyy-MM-dd 形式をサポート
-            if (dateStr.contains("/")) {
-                return LocalDate.parse(dateStr, DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-            } else {
-                return LocalDate.parse(dateStr, DateTimeFormatter.ISO_LOCAL_DATE);
-            }
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException(
-                    "日付形式が不正です（行 " + lineNumber + "）: " + dateStr, e);
+    private Optional<JournalCursor> seekJournals(JournalSearchCondition condition, long offset) {
+        if (offset == 0) {
+            return Optional.of(JournalCursor.start());
         }
+        return journalRepository.findJournalKeyAt(condition, offset - 1);
     }
 
-    private BigDecimal parseAmount(String amountStr, int lineNumber) {
-        if (amountStr.isEmpty()) {
-            return null;
-        }
-        try {
-            // カンマ区切りを除去
-            return new BigDecimal(amountStr.replace(",", ""));
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException(
-                    "金額形式が不正です（行 " + lineNumber + "）: " + amountStr, e);
-        }
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public JournalImportResult importJournalsFromCsv(InputStream inputStream,
+            boolean skipHeaderLine, boolean skipEmptyLines) {
+        return journalCsvImporter.importCsv(inputStream, skipHeaderLine, skipEmptyLines);
     }
 
     private Journal buildJournalFromCommand(CreateJournalCommand command) {
@@ -469,7 +291,7 @@ public class JournalApplicationService implements JournalUseCase {
     }
 
     private String generateVoucherNumber() {
-        return "J" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(Locale.ROOT);
+        return documentNumberAllocator.nextJournalVoucherNumber(LocalDate.now());
     }
 
     private JournalVoucherType parseVoucherType(String type) {
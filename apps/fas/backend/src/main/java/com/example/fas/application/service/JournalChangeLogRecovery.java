@@ -0,0 +1,75 @@
+package com.example.fas.application.service;
+
+import com.example.fas.application.port.out.ChangeLogRepository;
+import com.example.fas.application.port.out.JournalRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 仕訳の変更ログの補完.
+ *
+ * <p>{@link ChangeLogWriter} のバッファはメモリ上にあるため、プロセスが異常終了したり
+ * 書き込みの再試行を使い切ったりすると、コミット済みの仕訳の登録ログを失うことがある。
+ * コミット済みの仕訳そのものを送信待ちの記録（アウトボックス）とみなし、起動時に前回の
+ * 補完位置（変更ログ補完位置）以降に作成された仕訳のうち登録ログのないものを探して補完する。
+ * 補完が終わったら、起動時刻の少し前を次回の補完位置として保存する。</p>
+ *
+ * <p>補完位置がまだない場合は、最後の仕訳ログの少し前から補完する（仕訳ログが 1 件もない場合は
+ * 補完せずに補完位置だけを保存する）。</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JournalChangeLogRecovery {
+
+    /** 補完位置をさかのぼる時間（作成日時とコミット後の記録日時のずれ、他プロセスの書き込み待ちを吸収する）. */
+    private static final Duration RECOVERY_MARGIN = Duration.ofMinutes(10);
+
+    /** 1 回に読み込んで補完する仕訳の件数. */
+    private static final int RECOVERY_CHUNK_SIZE = 1_000;
+
+    /** 補完時に備考へ記録する文言. */
+    static final String RECOVERED_REMARKS = "起動時に補完";
+
+    private final ChangeLogRepository changeLogRepository;
+    private final JournalRepository journalRepository;
+
+    /**
+     * 登録ログのない仕訳の変更ログを補完する.
+     *
+     * @return 補完した件数
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int recover() {
+        // この時刻以降に作成された仕訳は書き込み待ちの可能性があるので、次回の起動でも確認する
+        LocalDateTime nextRecoveredUntil = LocalDateTime.now().minus(RECOVERY_MARGIN);
+        int recovered = changeLogRepository.findRecoveredUntil(JournalChangeLogs.TABLE_NAME)
+                .or(() -> changeLogRepository.findLatestOperatedAt(JournalChangeLogs.TABLE_NAME)
+                        .map(latest -> latest.minus(RECOVERY_MARGIN)))
+                .map(this::recoverSince)
+                .orElse(0);
+        changeLogRepository.saveRecoveredUntil(JournalChangeLogs.TABLE_NAME, nextRecoveredUntil);
+        return recovered;
+    }
+
+    private int recoverSince(LocalDateTime since) {
+        List<String> voucherNumbers = journalRepository.findVoucherNumbersWithoutChangeLog(since);
+        for (int from = 0; from < voucherNumbers.size(); from += RECOVERY_CHUNK_SIZE) {
+            List<String> chunk = voucherNumbers.subList(
+                    from, Math.min(from + RECOVERY_CHUNK_SIZE, voucherNumbers.size()));
+            changeLogRepository.saveAll(journalRepository.findByVoucherNumbers(chunk).stream()
+                    .map(journal -> JournalChangeLogs.inserted(journal, RECOVERED_REMARKS))
+                    .toList());
+        }
+        if (!voucherNumbers.isEmpty()) {
+            log.warn("変更ログのない仕訳 {} 件の登録ログを補完しました", voucherNumbers.size());
+        }
+        return voucherNumbers.size();
+    }
+}
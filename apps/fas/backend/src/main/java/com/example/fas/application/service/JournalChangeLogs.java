@@ -0,0 +1,109 @@
+package com.example.fas.application.service;
+
+import com.example.fas.domain.model.audit.ChangeLog;
+import com.example.fas.domain.model.audit.ChangeLog.OperationType;
+import com.example.fas.domain.model.journal.Journal;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 仕訳の変更ログの作成.
+ *
+ * <p>仕訳ヘッダの主な項目と貸借合計を JSON にして、テーブル名「仕訳」の変更ログを作る。</p>
+ */
+final class JournalChangeLogs {
+
+    /** 変更ログに記録するテーブル名. */
+    static final String TABLE_NAME = "仕訳";
+
+    private JournalChangeLogs() {
+    }
+
+    /**
+     * 仕訳の登録ログを作成.
+     *
+     * @param journal 登録した仕訳
+     * @param remarks 備考（null 可）
+     * @return 変更ログ
+     */
+    static ChangeLog inserted(Journal journal, String remarks) {
+        return ChangeLog.builder()
+                .tableName(TABLE_NAME)
+                .recordKey(journal.getJournalVoucherNumber())
+                .operationType(OperationType.INSERT)
+                .afterData(toJson(journal))
+                .operatedBy(journal.getUpdatedBy())
+                .remarks(remarks)
+                .build();
+    }
+
+    /**
+     * 仕訳の削除ログを作成.
+     *
+     * @param journal 削除した仕訳
+     * @return 変更ログ
+     */
+    static ChangeLog deleted(Journal journal) {
+        return ChangeLog.builder()
+                .tableName(TABLE_NAME)
+                .recordKey(journal.getJournalVoucherNumber())
+                .operationType(OperationType.DELETE)
+                .beforeData(toJson(journal))
+                .operatedBy(journal.getUpdatedBy())
+                .build();
+    }
+
+    private static String toJson(Journal journal) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("仕訳伝票番号", journal.getJournalVoucherNumber());
+        values.put("起票日", journal.getPostingDate());
+        values.put("仕訳伝票区分", journal.getVoucherType());
+        values.put("部門コード", journal.getDepartmentCode());
+        values.put("赤伝フラグ", journal.getRedSlipFlag());
+        values.put("赤黒伝票番号", journal.getRedBlackVoucherNumber());
+        values.put("借方合計", journal.getDebitTotal());
+        values.put("貸方合計", journal.getCreditTotal());
+        values.put("明細数", journal.getDetails().size());
+
+        StringBuilder json = new StringBuilder("{");
+        values.forEach((name, value) -> {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            appendString(json, name);
+            json.append(':');
+            if (value == null) {
+                json.append("null");
+            } else if (value instanceof BigDecimal amount) {
+                json.append(amount.toPlainString());
+            } else if (value instanceof Number || value instanceof Boolean) {
+                json.append(value);
+            } else {
+                appendString(json, value.toString());
+            }
+        });
+        return json.append('}').toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
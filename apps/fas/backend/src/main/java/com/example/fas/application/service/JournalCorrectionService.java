@@ -7,6 +7,7 @@ import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
 import com.example.fas.domain.model.journal.JournalDetail;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class JournalCorrectionService {
 
     private final JournalRepository journalRepository;
+    private final AccountBalancePoster accountBalancePoster;
 
     /**
      * 仕訳を赤黒訂正する.
@@ -47,6 +49,7 @@ public class JournalCorrectionService {
             throw new IllegalArgumentException("訂正仕訳の貸借が一致しません");
         }
         journalRepository.save(correctedJournal);
+        accountBalancePoster.post(List.of(redSlip, correctedJournal));
 
         if (log.isInfoEnabled()) {
             log.info("赤黒訂正完了: 元伝票={}, 赤伝={}, 黒伝={}",
@@ -81,6 +84,7 @@ public class JournalCorrectionService {
         // 赤伝を作成
         var redSlip = createRedSlip(original);
         journalRepository.save(redSlip);
+        accountBalancePoster.post(List.of(redSlip));
 
         if (log.isInfoEnabled()) {
             log.info("仕訳取消完了: 元伝票={}, 赤伝={}",
@@ -0,0 +1,491 @@
+package com.example.fas.application.service;
+
+import com.example.fas.application.port.in.command.CreateJournalCommand;
+import com.example.fas.application.port.in.command.CreateJournalCommand.DebitCreditCommand;
+import com.example.fas.application.port.in.command.CreateJournalCommand.JournalDetailCommand;
+import com.example.fas.application.port.in.dto.JournalImportResult;
+import com.example.fas.application.port.in.dto.JournalImportResult.ImportError;
+import com.example.fas.application.port.out.AccountRepository;
+import com.example.fas.domain.exception.JournalBalanceException;
+import com.example.fas.domain.model.account.Account;
+import com.example.fas.domain.model.account.DebitCreditType;
+import com.example.fas.domain.model.journal.Journal;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 仕訳 CSV 取込.
+ *
+ * <p>CSV を一定行数のブロックごとに読み込み、行のパースと伝票単位の検証
+ * （勘定科目の存在・貸借一致）を並列に行う。検証済みの伝票はチャンク単位で
+ * 複数行 INSERT で一括登録し、チャンクの登録に失敗した場合は伝票ごとに登録し直して
+ * エラーの伝票だけを結果に含める。</p>
+ *
+ * <p>伝票はファイル全体で起票日＋摘要が同じ行の集まりとし、ファイル上で最初に現れた順に
+ * 取り込む。同じ伝票の行は連続していなくてもよい。1 回目の読み込みでパースできた行を
+ * 一時ファイルに書き出しながら伝票ごとの最終行番号を索引にし、2 回目の読み込みで
+ * 最終行まで揃った伝票から順に検証・登録する。メモリに保持するのは索引と、
+ * 最初の行から最終行までの間にある未完成の伝票の行だけ。</p>
+ */
+@Component
+@RequiredArgsConstructor
+@SuppressWarnings({
+    "PMD.AvoidInstantiatingObjectsInLoops",
+    "PMD.AvoidCatchingGenericException"
+})
+public class JournalCsvImporter {
+
+    private static final int MIN_CSV_COLUMNS = 6;
+    private static final int READ_BLOCK_LINES = 10_000;
+    private static final int MAX_LINE_CONTENT_LENGTH = 100;
+    /** 一時ファイルの行番号と CSV 行の区切り. */
+    private static final String SPILL_SEPARATOR = "\t";
+    private static final DateTimeFormatter SLASH_DATE = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    private final JournalImportHelper journalImportHelper;
+    private final AccountRepository accountRepository;
+
+    /** 1 トランザクションで一括登録する伝票数. */
+    @Value("${fas.journal-import.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * CSV から仕訳を取り込む.
+     *
+     * @param inputStream CSV ファイルの入力ストリーム
+     * @param skipHeaderLine ヘッダー行をスキップするか
+     * @param skipEmptyLines 空行をスキップするか
+     * @return 取込結果
+     */
+    public JournalImportResult importCsv(InputStream inputStream,
+            boolean skipHeaderLine, boolean skipEmptyLines) {
+        long started = System.nanoTime();
+        ImportProgress progress = new ImportProgress(loadAccountCodes());
+
+        Path spillFile = null;
+        try {
+            spillFile = Files.createTempFile("journal-import-", ".csv");
+            Map<String, Integer> lastLines = indexVouchers(inputStream, spillFile,
+                    skipHeaderLine, skipEmptyLines, progress);
+            importVouchers(spillFile, lastLines, progress);
+        } catch (IOException e) {
+            progress.errors.add(ImportError.builder()
+                    .lineNumber(0)
+                    .message("ファイル読み込みエラー: " + e.getMessage())
+                    .build());
+        } finally {
+            deleteQuietly(spillFile);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        return JournalImportResult.builder()
+                .totalCount(progress.totalCount)
+                .successCount(progress.successCount)
+                .skippedCount(progress.skippedCount)
+                .errorCount(progress.errors.size())
+                .errors(progress.errors)
+                .lineCount(progress.lineCount)
+                .elapsedMillis(elapsedMillis)
+                .linesPerSecond(elapsedMillis == 0
+                        ? progress.lineCount : progress.lineCount * 1000 / elapsedMillis)
+                .build();
+    }
+
+    private Set<String> loadAccountCodes() {
+        Set<String> accountCodes = new HashSet<>();
+        for (Account account : accountRepository.findAll()) {
+            accountCodes.add(account.getAccountCode());
+        }
+        return accountCodes;
+    }
+
+    /**
+     * CSV を読み込んでパースし、パースできた行を一時ファイルに書き出す（1 回目の読み込み）.
+     *
+     * @return 伝票（起票日＋摘要）ごとの最終行番号
+     */
+    @SuppressWarnings("PMD.AssignmentInOperand")
+    private Map<String, Integer> indexVouchers(InputStream inputStream, Path spillFile,
+            boolean skipHeaderLine, boolean skipEmptyLines, ImportProgress progress) throws IOException {
+        Map<String, Integer> lastLines = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+                BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8)) {
+            List<CsvLine> block = new ArrayList<>(READ_BLOCK_LINES);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                progress.lineCount++;
+                int lineNumber = (int) progress.lineCount;
+
+                // ヘッダー行スキップ
+                if (skipHeaderLine && lineNumber == 1) {
+                    continue;
+                }
+
+                // 空行スキップ
+                if (skipEmptyLines && line.isBlank()) {
+                    progress.skippedCount++;
+                    continue;
+                }
+
+                block.add(new CsvLine(lineNumber, line));
+                if (block.size() >= READ_BLOCK_LINES) {
+                    indexBlock(block, lastLines, writer, progress);
+                    block = new ArrayList<>(READ_BLOCK_LINES);
+                }
+            }
+            indexBlock(block, lastLines, writer, progress);
+        }
+        return lastLines;
+    }
+
+    private void indexBlock(List<CsvLine> block, Map<String, Integer> lastLines, BufferedWriter writer,
+            ImportProgress progress) throws IOException {
+        // 行のパース（並列、結果は行順）
+        List<ParsedLine> parsedLines = block.parallelStream()
+                .map(this::parseLine)
+                .toList();
+        for (int i = 0; i < parsedLines.size(); i++) {
+            ParsedLine parsed = parsedLines.get(i);
+            if (parsed.error() != null) {
+                progress.errors.add(parsed.error());
+                continue;
+            }
+            lastLines.put(parsed.record().voucherKey(), parsed.record().lineNumber());
+            CsvLine line = block.get(i);
+            writer.write(line.lineNumber() + SPILL_SEPARATOR + line.content());
+            writer.newLine();
+        }
+    }
+
+    /**
+     * 一時ファイルを読み直し、最終行まで揃った伝票を最初に現れた順に検証・登録する（2 回目の読み込み）.
+     */
+    @SuppressWarnings("PMD.AssignmentInOperand")
+    private void importVouchers(Path spillFile, Map<String, Integer> lastLines, ImportProgress progress)
+            throws IOException {
+        // 最初に現れた順の未完成の伝票
+        Map<String, List<CsvLineRecord>> openVouchers = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8)) {
+            List<CsvLine> block = new ArrayList<>(READ_BLOCK_LINES);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(SPILL_SEPARATOR);
+                block.add(new CsvLine(Integer.parseInt(line.substring(0, separator)), line.substring(separator + 1)));
+                if (block.size() >= READ_BLOCK_LINES) {
+                    importBlock(block, lastLines, openVouchers, progress);
+                    block = new ArrayList<>(READ_BLOCK_LINES);
+                }
+            }
+            importBlock(block, lastLines, openVouchers, progress);
+        }
+        writeChunk(progress);
+    }
+
+    private void importBlock(List<CsvLine> block, Map<String, Integer> lastLines,
+            Map<String, List<CsvLineRecord>> openVouchers, ImportProgress progress) {
+        // 1 回目の読み込みでパースできた行だけなので、ここではエラーにならない
+        List<CsvLineRecord> records = block.parallelStream()
+                .map(line -> parseCsvLineToRecord(line.content(), line.lineNumber()))
+                .toList();
+
+        List<List<CsvLineRecord>> vouchers = new ArrayList<>();
+        for (CsvLineRecord record : records) {
+            openVouchers.computeIfAbsent(record.voucherKey(), k -> new ArrayList<>()).add(record);
+            // 先頭から最終行まで揃った伝票を取り出す（後から現れた伝票が先に揃っても順序は変えない）
+            Iterator<Map.Entry<String, List<CsvLineRecord>>> iterator = openVouchers.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, List<CsvLineRecord>> head = iterator.next();
+                List<CsvLineRecord> headRecords = head.getValue();
+                if (headRecords.get(headRecords.size() - 1).lineNumber() != lastLines.get(head.getKey())) {
+                    break;
+                }
+                vouchers.add(headRecords);
+                iterator.remove();
+            }
+        }
+        processVouchers(vouchers, progress);
+    }
+
+    /**
+     * 揃った伝票を検証し、登録待ちに追加する.
+     */
+    private void processVouchers(List<List<CsvLineRecord>> vouchers, ImportProgress progress) {
+        // 伝票の検証（並列、結果は伝票順）
+        List<ValidatedVoucher> validated = vouchers.parallelStream()
+                .map(records -> validate(records, progress.accountCodes))
+                .toList();
+
+        progress.totalCount += validated.size();
+        for (ValidatedVoucher voucher : validated) {
+            if (voucher.error() != null) {
+                progress.errors.add(voucherError(voucher.records(), voucher.error()));
+                continue;
+            }
+            // 採番は伝票順に行う（採番できない伝票はエラーとして取込を続ける）
+            Journal journal;
+            try {
+                journal = journalImportHelper.buildJournal(voucher.command());
+            } catch (RuntimeException e) {
+                progress.errors.add(voucherError(voucher.records(), e.getMessage()));
+                continue;
+            }
+            progress.pending.add(new PendingJournal(voucher.records(), journal));
+            if (progress.pending.size() >= chunkSize) {
+                writeChunk(progress);
+            }
+        }
+    }
+
+    private void writeChunk(ImportProgress progress) {
+        if (progress.pending.isEmpty()) {
+            return;
+        }
+        List<PendingJournal> chunk = progress.pending;
+        progress.pending = new ArrayList<>();
+        try {
+            journalImportHelper.saveJournalsInNewTransaction(
+                    chunk.stream().map(PendingJournal::journal).toList());
+            progress.successCount += chunk.size();
+        } catch (RuntimeException chunkError) {
+            // チャンクはロールバック済みのため、伝票ごとに登録してエラーの伝票を特定する
+            for (PendingJournal pending : chunk) {
+                try {
+                    journalImportHelper.saveJournalsInNewTransaction(List.of(pending.journal()));
+                    progress.successCount++;
+                } catch (RuntimeException e) {
+                    progress.errors.add(voucherError(pending.records(), e.getMessage()));
+                }
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // 一時ディレクトリの掃除に任せる
+        }
+    }
+
+    private ParsedLine parseLine(CsvLine line) {
+        try {
+            return new ParsedLine(parseCsvLineToRecord(line.content(), line.lineNumber()), null);
+        } catch (RuntimeException e) {
+            String content = line.content();
+            return new ParsedLine(null, ImportError.builder()
+                    .lineNumber(line.lineNumber())
+                    .message(e.getMessage())
+                    .lineContent(content.length() > MAX_LINE_CONTENT_LENGTH
+                            ? content.substring(0, MAX_LINE_CONTENT_LENGTH) + "..." : content)
+                    .build());
+        }
+    }
+
+    private ValidatedVoucher validate(List<CsvLineRecord> records, Set<String> accountCodes) {
+        try {
+            BigDecimal debitTotal = BigDecimal.ZERO;
+            BigDecimal creditTotal = BigDecimal.ZERO;
+            for (CsvLineRecord record : records) {
+                if (!accountCodes.contains(record.accountCode())) {
+                    throw new IllegalArgumentException(
+                            "勘定科目が存在しません（行 " + record.lineNumber() + "）: " + record.accountCode());
+                }
+                if (DebitCreditType.fromDisplayName(record.debitCreditType()) == DebitCreditType.DEBIT) {
+                    debitTotal = debitTotal.add(record.amount());
+                } else {
+                    creditTotal = creditTotal.add(record.amount());
+                }
+            }
+            if (debitTotal.compareTo(creditTotal) != 0) {
+                throw new JournalBalanceException(debitTotal, creditTotal);
+            }
+            return new ValidatedVoucher(records, buildJournalCommandFromRecords(records), null);
+        } catch (RuntimeException e) {
+            return new ValidatedVoucher(records, null, e.getMessage());
+        }
+    }
+
+    private ImportError voucherError(List<CsvLineRecord> records, String message) {
+        return ImportError.builder()
+                .lineNumber(records.get(0).lineNumber())
+                .message(message)
+                .lineContent(records.stream()
+                        .map(r -> "行" + r.lineNumber())
+                        .collect(Collectors.joining(", ")))
+                .build();
+    }
+
+    /**
+     * CSV 行をパースしてレコードを生成.
+     * CSV フォーマット: 起票日,貸借区分,勘定科目コード,補助科目コード,部門コード,金額,摘要
+     */
+    @SuppressWarnings("PMD.PrematureDeclaration")
+    private CsvLineRecord parseCsvLineToRecord(String line, int lineNumber) {
+        String[] columns = line.split(",", -1);
+        if (columns.length < MIN_CSV_COLUMNS) {
+            throw new IllegalArgumentException(
+                    "列数が不足しています（必要: 6列以上、実際: " + columns.length + "列）");
+        }
+
+        LocalDate postingDate = parseDate(columns[0].trim(), lineNumber);
+        String debitCreditType = columns[1].trim();
+        String accountCode = columns[2].trim();
+        String subAccountCode = columns[3].trim();
+        String departmentCode = columns[4].trim();
+        BigDecimal amount = parseAmount(columns[5].trim(), lineNumber);
+        String lineSummary = columns.length > MIN_CSV_COLUMNS ? columns[6].trim() : "";
+
+        if (accountCode.isEmpty()) {
+            throw new IllegalArgumentException("勘定科目コードは必須です");
+        }
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("金額は正の数で指定してください");
+        }
+
+        return new CsvLineRecord(lineNumber, postingDate, debitCreditType,
+                accountCode, subAccountCode, departmentCode, amount, lineSummary);
+    }
+
+    /**
+     * 伝票にまとめたレコードから仕訳登録コマンドを生成.
+     */
+    private CreateJournalCommand buildJournalCommandFromRecords(List<CsvLineRecord> records) {
+        CsvLineRecord first = records.get(0);
+
+        List<DebitCreditCommand> dcCommands = new ArrayList<>();
+        for (CsvLineRecord record : records) {
+            dcCommands.add(new DebitCreditCommand(
+                    record.debitCreditType(),
+                    record.accountCode(),
+                    record.subAccountCode().isEmpty() ? null : record.subAccountCode(),
+                    record.departmentCode().isEmpty() ? null : record.departmentCode(),
+                    record.amount(),
+                    null, // currencyCode
+                    null, // exchangeRate
+                    null, // baseCurrencyAmount
+                    null, // taxType
+                    null, // taxRate
+                    null, // taxCalcType
+                    null, // dueDate
+                    null  // cashFlowFlag
+            ));
+        }
+
+        JournalDetailCommand detailCommand = new JournalDetailCommand(
+                first.lineSummary(),
+                dcCommands
+        );
+
+        return new CreateJournalCommand(
+                first.postingDate(),
+                LocalDate.now(), // entryDate
+                "NORMAL", // voucherType
+                null, // closingJournalFlag
+                null, // singleEntryFlag
+                null, // periodicPostingFlag
+                null, // employeeCode
+                null, // departmentCode
+                List.of(detailCommand)
+        );
+    }
+
+    private LocalDate parseDate(String dateStr, int lineNumber) {
+        if (dateStr.isEmpty()) {
+            throw new IllegalArgumentException("起票日は必須です");
+        }
+        try {
+            // yyyy/MM/dd または yyyy-MM-dd 形式をサポート
+            if (dateStr.contains("/")) {
+                return LocalDate.parse(dateStr, SLASH_DATE);
+            } else {
+                return LocalDate.parse(dateStr, DateTimeFormatter.ISO_LOCAL_DATE);
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(
+                    "日付形式が不正です（行 " + lineNumber + "）: " + dateStr, e);
+        }
+    }
+
+    private BigDecimal parseAmount(String amountStr, int lineNumber) {
+        if (amountStr.isEmpty()) {
+            return null;
+        }
+        try {
+            // カンマ区切りを除去
+            return new BigDecimal(amountStr.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "金額形式が不正です（行 " + lineNumber + "）: " + amountStr, e);
+        }
+    }
+
+    private record CsvLine(int lineNumber, String content) { }
+
+    private record ParsedLine(CsvLineRecord record, ImportError error) { }
+
+    private record ValidatedVoucher(List<CsvLineRecord> records, CreateJournalCommand command, String error) { }
+
+    private record PendingJournal(List<CsvLineRecord> records, Journal journal) { }
+
+    /**
+     * CSV 行のレコード.
+     */
+    private record CsvLineRecord(
+            int lineNumber,
+            LocalDate postingDate,
+            String debitCreditType,
+            String accountCode,
+            String subAccountCode,
+            String departmentCode,
+            BigDecimal amount,
+            String lineSummary
+    ) {
+        String voucherKey() {
+            return postingDate + "|" + lineSummary;
+        }
+    }
+
+    /**
+     * 取込の途中経過.
+     */
+    private static final class ImportProgress {
+        private final Set<String> accountCodes;
+        private final List<ImportError> errors = new ArrayList<>();
+        private List<PendingJournal> pending = new ArrayList<>();
+        private long lineCount;
+        private int totalCount;
+        private int successCount;
+        private int skippedCount;
+
+        ImportProgress(Set<String> accountCodes) {
+            this.accountCodes = accountCodes;
+        }
+    }
+}
@@ -4,7 +4,6 @@ import com.example.fas.application.port.in.command.CreateJournalCommand;
 import com.example.fas.application.port.in.command.CreateJournalCommand.DebitCreditCommand;
 import com.example.fas.application.port.in.command.CreateJournalCommand.JournalDetailCommand;
 import com.example.fas.application.port.out.JournalRepository;
-import com.example.fas.domain.exception.JournalBalanceException;
 import com.example.fas.domain.model.account.DebitCreditType;
 import com.example.fas.domain.model.journal.Journal;
 import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
@@ -16,8 +15,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
@@ -32,25 +29,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class JournalImportHelper {
 
     private final JournalRepository journalRepository;
+    private final DocumentNumberAllocator documentNumberAllocator;
+    private final AccountBalancePoster accountBalancePoster;
 
     /**
-     * 新規トランザクションで仕訳を作成.
-     * 各仕訳が独立したトランザクションで処理され、
-     * 1件の失敗が他の仕訳に影響しない.
+     * 新規トランザクションで仕訳をまとめて登録.
+     * チャンクごとに独立したトランザクションで処理され、
+     * 1チャンクの失敗が他のチャンクに影響しない.
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void createJournalInNewTransaction(CreateJournalCommand command) {
-        Journal journal = buildJournalFromCommand(command);
-
-        if (!journal.isBalanced()) {
-            throw new JournalBalanceException(
-                    journal.getDebitTotal(), journal.getCreditTotal());
-        }
-
-        journalRepository.save(journal);
+    public void saveJournalsInNewTransaction(List<Journal> journals) {
+        journalRepository.saveAll(journals);
+        accountBalancePoster.post(journals);
     }
 
-    private Journal buildJournalFromCommand(CreateJournalCommand command) {
+    /**
+     * 仕訳登録コマンドから伝票番号を採番して仕訳を生成.
+     */
+    Journal buildJournal(CreateJournalCommand command) {
         String voucherNumber = generateVoucherNumber();
         LocalDateTime now = LocalDateTime.now();
 
@@ -122,7 +118,7 @@ public class JournalImportHelper {
     }
 
     private String generateVoucherNumber() {
-        return "J" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(Locale.ROOT);
+        return documentNumberAllocator.nextJournalVoucherNumber(LocalDate.now());
     }
 
     private JournalVoucherType parseVoucherType(String type) {
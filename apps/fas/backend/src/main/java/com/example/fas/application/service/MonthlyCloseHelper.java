@@ -0,0 +1,69 @@
+package com.example.fas.application.service;
+
+import com.example.fas.application.port.out.MonthlyAccountBalanceRepository;
+import com.example.fas.domain.model.balance.ClosingPeriod;
+import com.example.fas.domain.model.balance.MonthlyAccountBalance;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 月次締めヘルパー（勘定科目範囲ごとの個別トランザクション用）.
+ */
+@Component
+@RequiredArgsConstructor
+public class MonthlyCloseHelper {
+
+    /** 一括登録 1 回あたりの月次残高の件数. */
+    private static final int WRITE_BATCH_SIZE = 500;
+
+    private final MonthlyAccountBalanceRepository monthlyAccountBalanceRepository;
+
+    /**
+     * 新規トランザクションで勘定科目範囲の月次残高を締める.
+     *
+     * <p>前月末残高と当月の日次残高を複合キー順に 1 パスで読み、
+     * 月初残高・借方金額・貸方金額・月末残高を求めて一括で上書きする。
+     * 月末残高は月初残高 + 借方金額 − 貸方金額（借方をプラスとする）。
+     * 期首月は損益科目の残高を繰り越さない。締めたあと、元帳の前残高に使う
+     * 勘定科目累計残高（期首で繰り越しをやめない累計）を締め月について作り直す。</p>
+     *
+     * @param period 締め対象期間
+     * @param fromAccountCode 開始勘定科目コード（この科目を含む）
+     * @param toAccountCode 終了勘定科目コード（この科目を含む）
+     * @param profitAndLossAccountCodes 損益科目の勘定科目コード
+     * @return 登録・更新した月次残高の件数
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int closeInNewTransaction(ClosingPeriod period, String fromAccountCode, String toAccountCode,
+            Set<String> profitAndLossAccountCodes) {
+        List<MonthlyAccountBalance> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        int[] count = {0};
+        monthlyAccountBalanceRepository.forEachClosingSource(period, fromAccountCode, toAccountCode, source -> {
+            BigDecimal opening = period.isFirstMonth()
+                    && profitAndLossAccountCodes.contains(source.getAccountCode())
+                    ? BigDecimal.ZERO : source.getOpeningBalance();
+            source.setFiscalYear(period.getFiscalYear());
+            source.setMonth(period.getMonth());
+            source.setOpeningBalance(opening);
+            source.setClosingBalance(opening.add(source.getDebitAmount()).subtract(source.getCreditAmount()));
+            batch.add(source);
+            if (batch.size() == WRITE_BATCH_SIZE) {
+                monthlyAccountBalanceRepository.saveAll(batch);
+                count[0] += batch.size();
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            monthlyAccountBalanceRepository.saveAll(batch);
+            count[0] += batch.size();
+        }
+        monthlyAccountBalanceRepository.saveCumulativeBalances(period, fromAccountCode, toAccountCode);
+        return count[0];
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.fas.application.service;
+
+import com.example.fas.application.port.in.MonthlyCloseUseCase;
+import com.example.fas.application.port.in.dto.MonthlyCloseResult;
+import com.example.fas.application.port.out.AccountRepository;
+import com.example.fas.domain.model.account.Account;
+import com.example.fas.domain.model.account.BSPLType;
+import com.example.fas.domain.model.balance.ClosingPeriod;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 月次締めサービス.
+ *
+ * <p>日次勘定科目残高と前月の月次勘定科目残高から、当月の月次勘定科目残高
+ * （月初残高・借方金額・貸方金額・月末残高）を作り直す。勘定科目コード順に
+ * {@value #ACCOUNTS_PER_TRANSACTION} 科目ずつ個別のトランザクションで締めるため、
+ * 台帳全体を長時間ロックしない。締めは上書きなので何度実行しても結果は同じで、
+ * 失敗した場合は結果の {@code failedAccountCode} から再実行すればよい。</p>
+ *
+ * <p>前月を締めてから当月を締めること（月初残高は前月の月末残高を引き継ぐ）。</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyCloseService implements MonthlyCloseUseCase {
+
+    /** 1 トランザクションで締める勘定科目数. */
+    static final int ACCOUNTS_PER_TRANSACTION = 100;
+
+    private final AccountRepository accountRepository;
+    private final MonthlyCloseHelper monthlyCloseHelper;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MonthlyCloseResult closeMonth(int fiscalYear, int month) {
+        return closeMonth(fiscalYear, month, null, null);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MonthlyCloseResult closeMonth(int fiscalYear, int month,
+            String fromAccountCode, String toAccountCode) {
+        ClosingPeriod period = ClosingPeriod.of(fiscalYear, month);
+        List<Account> accounts = accountRepository.findAll();
+        List<String> accountCodes = accounts.stream()
+                .map(Account::getAccountCode)
+                .filter(code -> fromAccountCode == null || code.compareTo(fromAccountCode) >= 0)
+                .filter(code -> toAccountCode == null || code.compareTo(toAccountCode) <= 0)
+                .sorted()
+                .toList();
+        Set<String> profitAndLossAccountCodes = accounts.stream()
+                .filter(account -> account.getBsplType() == BSPLType.PL)
+                .map(Account::getAccountCode)
+                .collect(Collectors.toSet());
+
+        MonthlyCloseResult result = MonthlyCloseResult.builder()
+                .fiscalYear(fiscalYear)
+                .month(month)
+                .build();
+        for (int from = 0; from < accountCodes.size(); from += ACCOUNTS_PER_TRANSACTION) {
+            List<String> range = accountCodes.subList(from,
+                    Math.min(from + ACCOUNTS_PER_TRANSACTION, accountCodes.size()));
+            String first = range.get(0);
+            String last = range.get(range.size() - 1);
+            try {
+                int count = monthlyCloseHelper.closeInNewTransaction(
+                        period, first, last, profitAndLossAccountCodes);
+                result.setClosedAccountCount(result.getClosedAccountCount() + range.size());
+                result.setBalanceCount(result.getBalanceCount() + count);
+                result.setLastClosedAccountCode(last);
+                log.info("月次締め {}/{}: 勘定科目 {}〜{} を締めました（{} 件）",
+                        fiscalYear, month, first, last, count);
+            } catch (DataAccessException e) {
+                log.error("月次締め {}/{}: 勘定科目 {}〜{} の締めに失敗しました",
+                        fiscalYear, month, first, last, e);
+                result.setFailedAccountCode(first);
+                result.setErrorMessage(e.getMessage());
+                break;
+            }
+        }
+        return result;
+    }
+}
@@ -6,13 +6,20 @@ import com.example.fas.application.port.out.DailyAccountBalanceRepository;
 import com.example.fas.application.port.out.JournalRepository;
 import com.example.fas.application.port.out.MonthlyAccountBalanceRepository;
 import com.example.fas.domain.model.account.Account;
+import com.example.fas.domain.model.account.AccountTree;
+import com.example.fas.domain.model.balance.AccountCumulativeBalance;
+import com.example.fas.domain.model.balance.ClosingPeriod;
+import com.example.fas.domain.model.balance.DailyAccountBalance;
 import com.example.fas.domain.model.balance.DailyReportLine;
 import com.example.fas.domain.model.balance.TrialBalanceLine;
 import com.example.fas.domain.model.common.PageResult;
 import com.example.fas.domain.model.report.BalanceSheet;
 import com.example.fas.domain.model.report.BalanceSheetLine;
+import com.example.fas.domain.model.report.ComparativeStatement;
+import com.example.fas.domain.model.report.ComparativeStatementLine;
 import com.example.fas.domain.model.report.DailyReport;
 import com.example.fas.domain.model.report.GeneralLedger;
+import com.example.fas.domain.model.report.GeneralLedgerCursor;
 import com.example.fas.domain.model.report.GeneralLedgerEntry;
 import com.example.fas.domain.model.report.IncomeStatement;
 import com.example.fas.domain.model.report.IncomeStatementLine;
@@ -21,7 +28,15 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,10 +50,33 @@ import org.springframework.transaction.annotation.Transactional;
 @SuppressWarnings("PMD.CouplingBetweenObjects")
 public class ReportApplicationService implements ReportUseCase {
 
+    /** 貸借対照表・損益計算書の大区分（資産・負債・売上高など）の深さ. */
+    private static final int ROOT_DEPTH = 1;
+
+    /** 貸借対照表・損益計算書の中区分（流動資産・固定負債など）の深さ. */
+    private static final int SECTION_DEPTH = 2;
+
+    private static final String ASSETS = "10000";
+    private static final String LIABILITIES = "20000";
+    private static final String EQUITY = "30000";
+    private static final String SALES_REVENUE = "40000";
+    private static final String COST_OF_SALES = "50000";
+    private static final String SELLING_GENERAL_EXPENSES = "60000";
+    private static final String NON_OPERATING_INCOME = "70000";
+    private static final String NON_OPERATING_AND_EXTRAORDINARY = "80000";
+    private static final String NON_OPERATING_EXPENSES = "81000";
+    private static final String EXTRAORDINARY_INCOME = "82000";
+    private static final Set<String> CURRENT_ASSETS = Set.of("11000", "12000", "13000");
+    private static final Set<String> CURRENT_LIABILITIES = Set.of("21000", "22000");
+
+    /** 比較財務諸表の行の並び順キーの区切り（数字より後ろに並ぶ文字）. */
+    private static final String PATH_SEPARATOR = "~";
+
     private final DailyAccountBalanceRepository dailyBalanceRepository;
     private final MonthlyAccountBalanceRepository monthlyBalanceRepository;
     private final JournalRepository journalRepository;
     private final AccountRepository accountRepository;
+    private final AccountTreeCache accountTreeCache;
 
     @Override
     public DailyReport getDailyReport(LocalDate date) {
@@ -53,7 +91,112 @@ public class ReportApplicationService implements ReportUseCase {
             LocalDate toDate,
             int page,
             int size) {
-        return journalRepository.findGeneralLedgerEntries(accountCode, fromDate, toDate, page, size);
+        return getGeneralLedger(accountCode, fromDate, toDate, page, size, null);
+    }
+
+    @Override
+    public PageResult<GeneralLedgerEntry> getGeneralLedger(
+            String accountCode,
+            LocalDate fromDate,
+            LocalDate toDate,
+            int page,
+            int size,
+            GeneralLedgerCursor after) {
+
+        // カーソルがあればそこから、なければページ先頭の位置を求めてキーセットで読む
+        Optional<LedgerPosition> position = after != null
+                ? Optional.of(resumeGeneralLedger(accountCode, fromDate, after))
+                : seekGeneralLedger(accountCode, fromDate, toDate, (long) page * size);
+        List<GeneralLedgerEntry> entries = position
+                .map(p -> journalRepository.findGeneralLedgerEntriesAfter(
+                        accountCode, fromDate, toDate, p.cursor(), size))
+                .orElse(List.of());
+
+        // 位置の直前の明細までの残高から積み上げて残高を設定する
+        BigDecimal balance = position.map(LedgerPosition::balance).orElse(BigDecimal.ZERO);
+        for (GeneralLedgerEntry entry : entries) {
+            balance = balance.add(orZero(entry.getDebitAmount())).subtract(orZero(entry.getCreditAmount()));
+            entry.setBalance(balance);
+        }
+
+        long totalElements = journalRepository.countGeneralLedgerEntries(accountCode, fromDate, toDate);
+        return new PageResult<>(entries, page, size, totalElements);
+    }
+
+    /**
+     * 前ページ末尾のカーソルの位置と、その明細までの残高を求める.
+     *
+     * <p>カーソルは残高を持たない（クライアントから受け取る値を信用しない）ため、期首残高に
+     * 開始日からカーソルの起票日の前日までの日次勘定科目残高と、起票日当日のカーソルの明細までの
+     * 仕訳貸借明細を加えて求め直す。読む明細は 1 日分で済む。</p>
+     */
+    private LedgerPosition resumeGeneralLedger(String accountCode, LocalDate fromDate, GeneralLedgerCursor cursor) {
+        BigDecimal balance = getOpeningBalance(accountCode, fromDate);
+        if (cursor.isStart() || cursor.getPostingDate().isBefore(fromDate)) {
+            return new LedgerPosition(cursor, balance);
+        }
+        LocalDate postingDate = cursor.getPostingDate();
+        if (postingDate.isAfter(fromDate)) {
+            balance = balance.add(dailyBalanceRepository.sumNetAmount(
+                    accountCode, fromDate, postingDate.minusDays(1)));
+        }
+        balance = balance.add(journalRepository.sumGeneralLedgerAmountThrough(accountCode, cursor));
+        return new LedgerPosition(cursor, balance);
+    }
+
+    /**
+     * 指定位置の直前の明細を指すカーソルとその明細までの残高を求める（範囲外の場合は空）.
+     *
+     * <p>日次勘定科目残高の明細件数を起票日順に積み上げて指定位置を含む日を求め、
+     * その日の仕訳貸借明細だけを読んでキーを決める。読む明細は 1 日分で済むため、
+     * 深いページでも先頭からの明細を数え直さない。</p>
+     */
+    private Optional<LedgerPosition> seekGeneralLedger(
+            String accountCode, LocalDate fromDate, LocalDate toDate, long offset) {
+        BigDecimal openingBalance = getOpeningBalance(accountCode, fromDate);
+        if (offset == 0) {
+            return Optional.of(new LedgerPosition(GeneralLedgerCursor.start(), openingBalance));
+        }
+        long remaining = offset - 1;
+        BigDecimal balance = openingBalance;
+        for (DailyAccountBalance day : dailyBalanceRepository.findDailyTotals(accountCode, fromDate, toDate)) {
+            if (remaining < day.getEntryCount()) {
+                BigDecimal dayOpening = balance;
+                return journalRepository.findGeneralLedgerKeyAt(
+                                accountCode, day.getPostingDate(), day.getPostingDate(), remaining)
+                        .map(key -> new LedgerPosition(
+                                GeneralLedgerCursor.after(key), dayOpening.add(key.getBalance())));
+            }
+            remaining -= day.getEntryCount();
+            balance = balance.add(orZero(day.getDebitAmount())).subtract(orZero(day.getCreditAmount()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 期首残高（開始日前日までの借方−貸方累計）を求める.
+     *
+     * <p>開始日の前月までで直近に締めた勘定科目累計残高を起点に、締め月の翌月から開始日の前月までは
+     * 月次勘定科目残高、当月の開始日前日までは日次勘定科目残高を加える。
+     * 仕訳明細は走査せず、読む月次残高も未締めの月度分だけになる。</p>
+     */
+    private BigDecimal getOpeningBalance(String accountCode, LocalDate fromDate) {
+        ClosingPeriod target = ClosingPeriod.of(fromDate.getYear(), fromDate.getMonthValue());
+        Optional<AccountCumulativeBalance> closed =
+                monthlyBalanceRepository.findLatestCumulativeBalanceBefore(accountCode, target);
+        BigDecimal balance = closed.map(AccountCumulativeBalance::getBalance).orElse(BigDecimal.ZERO)
+                .add(monthlyBalanceRepository.sumNetAmountBetween(
+                        accountCode, closed.map(AccountCumulativeBalance::getPeriod).orElse(null), target));
+        LocalDate monthStart = fromDate.withDayOfMonth(1);
+        if (fromDate.isAfter(monthStart)) {
+            balance = balance.add(dailyBalanceRepository.sumNetAmount(
+                    accountCode, monthStart, fromDate.minusDays(1)));
+        }
+        return balance;
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
     }
 
     @Override
@@ -65,8 +208,7 @@ public class ReportApplicationService implements ReportUseCase {
         Account account = accountRepository.findByCode(accountCode)
                 .orElseThrow(() -> new IllegalArgumentException("勘定科目が見つかりません: " + accountCode));
 
-        BigDecimal openingBalance = journalRepository.getOpeningBalance(
-                accountCode, fromDate.minusDays(1));
+        BigDecimal openingBalance = getOpeningBalance(accountCode, fromDate);
 
         return GeneralLedger.builder()
                 .accountCode(accountCode)
@@ -75,7 +217,7 @@ public class ReportApplicationService implements ReportUseCase {
                 .debitCreditType(account.getDebitCreditType().getDisplayName())
                 .fromDate(fromDate)
                 .toDate(toDate)
-                .openingBalance(openingBalance != null ? openingBalance : BigDecimal.ZERO)
+                .openingBalance(openingBalance)
                 .entries(List.of())
                 .build();
     }
@@ -104,6 +246,7 @@ public class ReportApplicationService implements ReportUseCase {
         BigDecimal totalFixedLiabilities = BigDecimal.ZERO;
         BigDecimal totalEquity = BigDecimal.ZERO;
 
+        AccountTree tree = accountTreeCache.get();
         for (TrialBalanceLine line : bsLines) {
             BalanceSheetLine bsLine = BalanceSheetLine.builder()
                     .accountCode(line.getAccountCode())
@@ -113,28 +256,27 @@ public class ReportApplicationService implements ReportUseCase {
                     .isSummary(false)
                     .build();
 
-            // 勘定科目コードの最初の1桁で分類
+            // 勘定科目構成の大区分・中区分で分類
             String code = line.getAccountCode();
-            if (code.startsWith("1")) {
-                // 資産
-                if (code.startsWith("11") || code.startsWith("12") || code.startsWith("13")) {
+            String root = groupCode(tree, code, ROOT_DEPTH);
+            String section = groupCode(tree, code, SECTION_DEPTH);
+            if (ASSETS.equals(root)) {
+                if (CURRENT_ASSETS.contains(section)) {
                     currentAssets.add(bsLine);
                     totalCurrentAssets = totalCurrentAssets.add(line.getClosingBalance());
                 } else {
                     fixedAssets.add(bsLine);
                     totalFixedAssets = totalFixedAssets.add(line.getClosingBalance());
                 }
-            } else if (code.startsWith("2")) {
-                // 負債
-                if (code.startsWith("21") || code.startsWith("22")) {
+            } else if (LIABILITIES.equals(root)) {
+                if (CURRENT_LIABILITIES.contains(section)) {
                     currentLiabilities.add(bsLine);
                     totalCurrentLiabilities = totalCurrentLiabilities.add(line.getClosingBalance());
                 } else {
                     fixedLiabilities.add(bsLine);
                     totalFixedLiabilities = totalFixedLiabilities.add(line.getClosingBalance());
                 }
-            } else if (code.startsWith("3")) {
-                // 純資産
+            } else if (EQUITY.equals(root)) {
                 equity.add(bsLine);
                 totalEquity = totalEquity.add(line.getClosingBalance());
             }
@@ -167,11 +309,10 @@ public class ReportApplicationService implements ReportUseCase {
     @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity"})
     public IncomeStatement getIncomeStatement(YearMonth fromMonth, YearMonth toMonth) {
         int fiscalYear = fromMonth.getYear();
-        int month = toMonth.getMonthValue();
 
-        // PL 区分の試算表データを取得
-        List<TrialBalanceLine> plLines = monthlyBalanceRepository.getTrialBalanceByBSPL(
-                fiscalYear, month, "PL");
+        // 期間内の PL 区分の試算表データを一括で取得し、科目ごとに発生額を合計する
+        List<TrialBalanceLine> plLines = sumByAccount(monthlyBalanceRepository.getTrialBalanceByPeriods(
+                monthsBetween(fromMonth, toMonth), "PL"));
 
         // 収益・費用を分類
         List<IncomeStatementLine> salesRevenue = new ArrayList<>();
@@ -190,6 +331,7 @@ public class ReportApplicationService implements ReportUseCase {
         BigDecimal totalExtraordinaryIncome = BigDecimal.ZERO;
         BigDecimal totalExtraordinaryLoss = BigDecimal.ZERO;
 
+        AccountTree tree = accountTreeCache.get();
         for (TrialBalanceLine line : plLines) {
             IncomeStatementLine plLine = IncomeStatementLine.builder()
                     .accountCode(line.getAccountCode())
@@ -199,30 +341,27 @@ public class ReportApplicationService implements ReportUseCase {
                     .isSummary(false)
                     .build();
 
-            // 勘定科目コードの最初の1桁で分類
+            // 勘定科目構成の大区分・中区分で分類
             String code = line.getAccountCode();
-            if (code.startsWith("4")) {
-                // 売上高
+            String root = groupCode(tree, code, ROOT_DEPTH);
+            if (SALES_REVENUE.equals(root)) {
                 salesRevenue.add(plLine);
                 totalSalesRevenue = totalSalesRevenue.add(line.getClosingBalance());
-            } else if (code.startsWith("5")) {
-                // 売上原価
+            } else if (COST_OF_SALES.equals(root)) {
                 costOfSales.add(plLine);
                 totalCostOfSales = totalCostOfSales.add(line.getClosingBalance());
-            } else if (code.startsWith("6")) {
-                // 販管費
+            } else if (SELLING_GENERAL_EXPENSES.equals(root)) {
                 sellingGeneralExpenses.add(plLine);
                 totalSellingGeneralExpenses = totalSellingGeneralExpenses.add(line.getClosingBalance());
-            } else if (code.startsWith("7")) {
-                // 営業外収益
+            } else if (NON_OPERATING_INCOME.equals(root)) {
                 nonOperatingIncome.add(plLine);
                 totalNonOperatingIncome = totalNonOperatingIncome.add(line.getClosingBalance());
-            } else if (code.startsWith("8")) {
-                // 営業外費用・特別損益
-                if (code.startsWith("81")) {
+            } else if (NON_OPERATING_AND_EXTRAORDINARY.equals(root)) {
+                String section = groupCode(tree, code, SECTION_DEPTH);
+                if (NON_OPERATING_EXPENSES.equals(section)) {
                     nonOperatingExpenses.add(plLine);
                     totalNonOperatingExpenses = totalNonOperatingExpenses.add(line.getClosingBalance());
-                } else if (code.startsWith("82")) {
+                } else if (EXTRAORDINARY_INCOME.equals(section)) {
                     extraordinaryIncome.add(plLine);
                     totalExtraordinaryIncome = totalExtraordinaryIncome.add(line.getClosingBalance());
                 } else {
@@ -275,9 +414,129 @@ public class ReportApplicationService implements ReportUseCase {
                 .build();
     }
 
+    /**
+     * 月度ごとの試算表データを科目ごとにまとめ、発生額（借方−貸方）を月末残高として返す.
+     */
+    private static List<TrialBalanceLine> sumByAccount(List<TrialBalanceLine> monthlyLines) {
+        Map<String, TrialBalanceLine> sums = new LinkedHashMap<>();
+        for (TrialBalanceLine line : monthlyLines) {
+            BigDecimal change = orZero(line.getDebitTotal()).subtract(orZero(line.getCreditTotal()));
+            sums.merge(line.getAccountCode(), TrialBalanceLine.builder()
+                    .accountCode(line.getAccountCode())
+                    .accountName(line.getAccountName())
+                    .bsplType(line.getBsplType())
+                    .debitCreditType(line.getDebitCreditType())
+                    .closingBalance(change)
+                    .build(), (sum, next) -> {
+                        sum.setClosingBalance(sum.getClosingBalance().add(next.getClosingBalance()));
+                        return sum;
+                    });
+        }
+        return new ArrayList<>(sums.values());
+    }
+
+    private static List<YearMonth> monthsBetween(YearMonth fromMonth, YearMonth toMonth) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    @Override
+    public ComparativeStatement getComparativeStatement(String bsplType, YearMonth fromMonth, YearMonth toMonth) {
+        return getComparativeStatement(bsplType, monthsBetween(fromMonth, toMonth));
+    }
+
+    @Override
+    public ComparativeStatement getComparativeStatement(String bsplType, List<YearMonth> columns) {
+        List<YearMonth> periods = List.copyOf(new LinkedHashSet<>(columns));
+        Map<YearMonth, Integer> columnIndexes = new HashMap<>(periods.size() * 2);
+        for (int i = 0; i < periods.size(); i++) {
+            columnIndexes.put(periods.get(i), i);
+        }
+        List<TrialBalanceLine> monthlyLines = monthlyBalanceRepository.getTrialBalanceByPeriods(periods, bsplType);
+
+        // 大区分・中区分・科目の並び順を表すキーで行をまとめ、列ごとに金額を積み上げる
+        AccountTree tree = accountTreeCache.get();
+        Map<String, String> accountNames = new HashMap<>();
+        Map<String, ComparativeStatementLine> rows = new TreeMap<>();
+        BigDecimal[] totals = zeros(periods.size());
+        for (TrialBalanceLine line : monthlyLines) {
+            int column = columnIndexes.get(YearMonth.of(line.getFiscalYear(), line.getMonth()));
+            BigDecimal amount = "PL".equals(line.getBsplType())
+                    ? orZero(line.getDebitTotal()).subtract(orZero(line.getCreditTotal()))
+                    : orZero(line.getClosingBalance());
+            String code = line.getAccountCode();
+            String root = Optional.ofNullable(groupCode(tree, code, ROOT_DEPTH)).orElse(code);
+            String section = Optional.ofNullable(groupCode(tree, code, SECTION_DEPTH)).orElse(root);
+            accountNames.put(code, line.getAccountName());
+
+            addAmount(rows, root, root, 0, periods.size(), column, amount);
+            if (!section.equals(root)) {
+                addAmount(rows, root + PATH_SEPARATOR + section, section, 1, periods.size(), column, amount);
+            }
+            if (!code.equals(section) && !code.equals(root)) {
+                addAmount(rows, root + PATH_SEPARATOR + section + PATH_SEPARATOR + code, code, 2,
+                        periods.size(), column, amount);
+            }
+            totals[column] = totals[column].add(amount);
+        }
+
+        // 集計科目の名前は残高のない科目もあるので勘定科目マスタから引く
+        if (!rows.isEmpty()) {
+            accountRepository.findAll().forEach(account ->
+                    accountNames.putIfAbsent(account.getAccountCode(), account.getAccountName()));
+        }
+        List<ComparativeStatementLine> lines = new ArrayList<>(rows.values());
+        lines.forEach(row -> row.setAccountName(accountNames.get(row.getAccountCode())));
+
+        return ComparativeStatement.builder()
+                .bsplType(bsplType)
+                .columns(periods)
+                .lines(lines)
+                .totals(List.of(totals))
+                .build();
+    }
+
+    private static void addAmount(Map<String, ComparativeStatementLine> rows, String key, String accountCode,
+            int indentLevel, int columnCount, int column, BigDecimal amount) {
+        ComparativeStatementLine row = rows.computeIfAbsent(key, k -> ComparativeStatementLine.builder()
+                .accountCode(accountCode)
+                .indentLevel(indentLevel)
+                .isSummary(indentLevel < 2)
+                .amounts(Arrays.asList(zeros(columnCount)))
+                .build());
+        row.getAmounts().set(column, row.getAmounts().get(column).add(amount));
+    }
+
+    private static BigDecimal[] zeros(int size) {
+        BigDecimal[] values = new BigDecimal[size];
+        Arrays.fill(values, BigDecimal.ZERO);
+        return values;
+    }
+
+    /**
+     * 勘定科目構成から指定した深さの集計科目コードを求める.
+     *
+     * <p>勘定科目構成に登録されていない科目は、コードの先頭桁から集計科目コードを
+     * 組み立てる（例: 11210 の深さ 2 は 11000）。</p>
+     */
+    private static String groupCode(AccountTree tree, String accountCode, int depth) {
+        String group = tree.getAncestorCode(accountCode, depth);
+        if (group != null || accountCode.length() <= depth) {
+            return group;
+        }
+        return accountCode.substring(0, depth) + "0".repeat(accountCode.length() - depth);
+    }
+
     @Override
     public TrialBalance getTrialBalance(Integer fiscalYear, Integer month) {
         List<TrialBalanceLine> lines = monthlyBalanceRepository.getTrialBalance(fiscalYear, month);
         return TrialBalance.of(fiscalYear, month, lines);
     }
+
+    /** 総勘定元帳の読み出し位置と、その直前の明細までの残高. */
+    private record LedgerPosition(GeneralLedgerCursor cursor, BigDecimal balance) {
+    }
 }
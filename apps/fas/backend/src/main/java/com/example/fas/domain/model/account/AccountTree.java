@@ -0,0 +1,243 @@
+package com.example.fas.domain.model.account;
+
+import com.example.fas.domain.model.balance.TrialBalanceLine;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 勘定科目構成の階層ツリー（不変）.
+ *
+ * <p>勘定科目構成のチルダ連結パスを一度だけ分解し、科目ごとに整数のノード ID と
+ * ルートから自身までの祖先 ID 配列を持つ。パスの途中にだけ現れる集計科目もノードにする。
+ * ノード ID は親が子より必ず小さくなるよう深さ順に振るため、ID の降順に 1 回走査すれば
+ * 下位から上位へ金額を積み上げられる。</p>
+ */
+public final class AccountTree {
+
+    private static final String PATH_SEPARATOR = "~";
+    private static final int NO_PARENT = -1;
+
+    private static final AccountTree EMPTY = new AccountTree(new String[0], new int[0], new int[0][]);
+
+    private final String[] codes;
+    private final int[] parents;
+    private final int[][] ancestors;
+    private final Map<String, Integer> ids;
+
+    private AccountTree(String[] codes, int[] parents, int[][] ancestors) {
+        this.codes = codes;
+        this.parents = parents;
+        this.ancestors = ancestors;
+        this.ids = new HashMap<>(codes.length * 2);
+        for (int id = 0; id < codes.length; id++) {
+            ids.put(codes[id], id);
+        }
+    }
+
+    /**
+     * 空のツリーを取得.
+     *
+     * @return 空のツリー
+     */
+    public static AccountTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 勘定科目構成からツリーを構築.
+     *
+     * <p>科目自身の行のパスを優先し、パスの途中にだけ現れる科目は最初に現れたパスの
+     * 親子関係を使う。</p>
+     *
+     * @param structures 勘定科目構成
+     * @return ツリー
+     */
+    @SuppressWarnings("PMD.ShortMethodName")
+    public static AccountTree of(Collection<AccountStructure> structures) {
+        Map<String, String> parentCodes = new LinkedHashMap<>();
+        List<String[]> paths = new ArrayList<>(structures.size());
+        for (AccountStructure structure : structures) {
+            String path = structure.getAccountPath();
+            if (path == null || path.isEmpty()) {
+                continue;
+            }
+            String[] parts = path.split(PATH_SEPARATOR);
+            paths.add(parts);
+            parentCodes.put(parts[parts.length - 1], parts.length > 1 ? parts[parts.length - 2] : null);
+        }
+        for (String[] parts : paths) {
+            for (int i = 0; i < parts.length - 1; i++) {
+                parentCodes.putIfAbsent(parts[i], i > 0 ? parts[i - 1] : null);
+            }
+        }
+
+        Map<String, Integer> depths = new HashMap<>(parentCodes.size() * 2);
+        for (String code : parentCodes.keySet()) {
+            depths.put(code, depthOf(code, parentCodes));
+        }
+        String[] codes = parentCodes.keySet().stream()
+                .sorted(Comparator.comparing((String code) -> depths.get(code)).thenComparing(code -> code))
+                .toArray(String[]::new);
+
+        Map<String, Integer> ids = new HashMap<>(codes.length * 2);
+        int[] parents = new int[codes.length];
+        int[][] ancestors = new int[codes.length][];
+        for (int id = 0; id < codes.length; id++) {
+            ids.put(codes[id], id);
+            Integer parent = ids.get(parentCodes.get(codes[id]));
+            if (parent == null) {
+                parents[id] = NO_PARENT;
+                ancestors[id] = new int[] {id};
+            } else {
+                parents[id] = parent;
+                int[] parentAncestors = ancestors[parent];
+                ancestors[id] = new int[parentAncestors.length + 1];
+                System.arraycopy(parentAncestors, 0, ancestors[id], 0, parentAncestors.length);
+                ancestors[id][parentAncestors.length] = id;
+            }
+        }
+        return new AccountTree(codes, parents, ancestors);
+    }
+
+    /**
+     * 親をたどって深さを求める（循環している場合は循環を検出した位置までの深さ）.
+     */
+    private static int depthOf(String code, Map<String, String> parentCodes) {
+        int depth = 1;
+        String parent = parentCodes.get(code);
+        while (parent != null && parentCodes.containsKey(parent) && depth <= parentCodes.size()) {
+            depth++;
+            parent = parentCodes.get(parent);
+        }
+        return depth;
+    }
+
+    /**
+     * ノード数を取得.
+     *
+     * @return ノード数
+     */
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * 科目がツリーに含まれるかを判定.
+     *
+     * @param accountCode 勘定科目コード
+     * @return 含まれる場合true
+     */
+    public boolean contains(String accountCode) {
+        return ids.containsKey(accountCode);
+    }
+
+    /**
+     * 科目の深さ（階層レベル）を取得.
+     *
+     * @param accountCode 勘定科目コード
+     * @return 深さ（ルートが 1、ツリーにない場合は 0）
+     */
+    public int getDepth(String accountCode) {
+        Integer id = ids.get(accountCode);
+        return id != null ? ancestors[id].length : 0;
+    }
+
+    /**
+     * 親科目コードを取得.
+     *
+     * @param accountCode 勘定科目コード
+     * @return 親科目コード（ルートまたはツリーにない場合は null）
+     */
+    public String getParentCode(String accountCode) {
+        Integer id = ids.get(accountCode);
+        return id != null && parents[id] != NO_PARENT ? codes[parents[id]] : null;
+    }
+
+    /**
+     * 指定した深さの祖先科目コードを取得.
+     *
+     * @param accountCode 勘定科目コード
+     * @param depth 深さ（ルートが 1、科目自身の深さを指定した場合は科目自身）
+     * @return 祖先科目コード（科目より深い階層またはツリーにない場合は null）
+     */
+    public String getAncestorCode(String accountCode, int depth) {
+        Integer id = ids.get(accountCode);
+        if (id == null || depth < 1 || depth > ancestors[id].length) {
+            return null;
+        }
+        return codes[ancestors[id][depth - 1]];
+    }
+
+    /**
+     * 試算表の金額を下位から上位へ積み上げ、全ノードの小計を求める.
+     *
+     * <p>明細を 1 回、ノードを ID の降順に 1 回走査するだけで全階層の小計が求まる。
+     * ツリーにない科目の明細は集計しない。</p>
+     *
+     * @param lines 試算表の明細
+     * @param amount 集計する金額
+     * @return 科目コードごとの小計（明細のない科目を含む、ID 順）
+     */
+    public Map<String, BigDecimal> rollUp(Collection<TrialBalanceLine> lines,
+            Function<TrialBalanceLine, BigDecimal> amount) {
+        BigDecimal[] totals = new BigDecimal[codes.length];
+        Arrays.fill(totals, BigDecimal.ZERO);
+        for (TrialBalanceLine line : lines) {
+            Integer id = ids.get(line.getAccountCode());
+            BigDecimal value = amount.apply(line);
+            if (id != null && value != null) {
+                totals[id] = totals[id].add(value);
+            }
+        }
+        for (int id = codes.length - 1; id >= 0; id--) {
+            if (parents[id] != NO_PARENT) {
+                totals[parents[id]] = totals[parents[id]].add(totals[id]);
+            }
+        }
+        Map<String, BigDecimal> result = new LinkedHashMap<>(codes.length * 2);
+        for (int id = 0; id < codes.length; id++) {
+            result.put(codes[id], totals[id]);
+        }
+        return result;
+    }
+
+    /**
+     * 試算表の金額を指定した深さの祖先科目ごとに集計する.
+     *
+     * <p>明細ごとに祖先 ID 配列から集計先を引くため、明細を 1 回走査するだけで済む。
+     * ツリーにない科目と、指定した深さより浅い科目の明細は集計しない。</p>
+     *
+     * @param lines 試算表の明細
+     * @param amount 集計する金額
+     * @param depth 集計する深さ（ルートが 1）
+     * @return 祖先科目コードごとの小計（ID 順）
+     */
+    public Map<String, BigDecimal> rollUp(Collection<TrialBalanceLine> lines,
+            Function<TrialBalanceLine, BigDecimal> amount, int depth) {
+        BigDecimal[] totals = new BigDecimal[codes.length];
+        for (TrialBalanceLine line : lines) {
+            Integer id = ids.get(line.getAccountCode());
+            BigDecimal value = amount.apply(line);
+            if (id == null || value == null || depth < 1 || depth > ancestors[id].length) {
+                continue;
+            }
+            int target = ancestors[id][depth - 1];
+            totals[target] = totals[target] == null ? value : totals[target].add(value);
+        }
+        Map<String, BigDecimal> result = new LinkedHashMap<>();
+        for (int id = 0; id < codes.length; id++) {
+            if (totals[id] != null) {
+                result.put(codes[id], totals[id]);
+            }
+        }
+        return result;
+    }
+}
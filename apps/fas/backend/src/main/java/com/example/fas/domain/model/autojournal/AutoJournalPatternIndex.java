@@ -0,0 +1,139 @@
+package com.example.fas.domain.model.autojournal;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 自動仕訳パターンの検索索引（不変）.
+ *
+ * <p>パターンを（商品グループ, 顧客グループ, 売上区分）のキーごとに優先順位順の配列に
+ * まとめ、有効期間はエポック日数に変換して持つ。検索では各項目を指定値と ALL の
+ * 組み合わせ（最大 8 通り）で引き、指定日に有効なものの中から優先順位が最も小さい
+ * パターンを返す。全パターンを優先順位順に {@link AutoJournalPattern#matches} で
+ * 走査した場合と同じ結果になる。</p>
+ */
+public final class AutoJournalPatternIndex {
+
+    /** 全件にマッチするグループ・区分. */
+    public static final String WILDCARD = "ALL";
+
+    /** 売上区分の既定値（自動仕訳パターンマスタの既定値と同じ）. */
+    public static final String DEFAULT_SALES_TYPE = "01";
+
+    /** 優先順位の既定値（自動仕訳パターンマスタの既定値と同じ）. */
+    private static final int DEFAULT_PRIORITY = 100;
+
+    private static final Comparator<CompiledPattern> PRIORITY_ORDER = Comparator
+            .comparingInt(CompiledPattern::priority)
+            .thenComparing(compiled -> compiled.pattern().getPatternCode());
+
+    private final Map<Key, CompiledPattern[]> buckets;
+
+    private AutoJournalPatternIndex(Map<Key, CompiledPattern[]> buckets) {
+        this.buckets = buckets;
+    }
+
+    /**
+     * パターンから索引を構築.
+     *
+     * <p>商品グループ・顧客グループ・売上区分が未設定のパターンは ALL として扱う。
+     * 有効開始日・終了日が未設定の場合は期間の制限なしとする。</p>
+     *
+     * @param patterns 自動仕訳パターン
+     * @return 索引
+     */
+    @SuppressWarnings("PMD.ShortMethodName")
+    public static AutoJournalPatternIndex of(Collection<AutoJournalPattern> patterns) {
+        Map<Key, List<CompiledPattern>> grouped = new HashMap<>();
+        for (AutoJournalPattern pattern : patterns) {
+            Key key = new Key(orWildcard(pattern.getProductGroup()),
+                    orWildcard(pattern.getCustomerGroup()), orWildcard(pattern.getSalesType()));
+            grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(new CompiledPattern(pattern,
+                    pattern.getPriority() != null ? pattern.getPriority() : DEFAULT_PRIORITY,
+                    pattern.getValidFrom() != null ? pattern.getValidFrom().toEpochDay() : Long.MIN_VALUE,
+                    pattern.getValidTo() != null ? pattern.getValidTo().toEpochDay() : Long.MAX_VALUE));
+        }
+        Map<Key, CompiledPattern[]> buckets = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((key, list) -> {
+            list.sort(PRIORITY_ORDER);
+            buckets.put(key, list.toArray(CompiledPattern[]::new));
+        });
+        return new AutoJournalPatternIndex(buckets);
+    }
+
+    /**
+     * 条件に該当するパターンを検索.
+     *
+     * @param productGroup 商品グループ
+     * @param customerGroup 顧客グループ
+     * @param salesType 売上区分（null の場合は既定値 01）
+     * @param date 判定対象日付
+     * @return 優先順位が最も小さいパターン（該当なしの場合は空）
+     */
+    public Optional<AutoJournalPattern> find(String productGroup, String customerGroup,
+            String salesType, LocalDate date) {
+        long day = date.toEpochDay();
+        String[] products = candidates(productGroup);
+        String[] customers = candidates(customerGroup);
+        String[] salesTypes = candidates(salesType != null ? salesType : DEFAULT_SALES_TYPE);
+        CompiledPattern best = null;
+        for (String product : products) {
+            for (String customer : customers) {
+                for (String type : salesTypes) {
+                    CompiledPattern found = firstValid(buckets.get(new Key(product, customer, type)), day);
+                    if (found != null && (best == null || PRIORITY_ORDER.compare(found, best) < 0)) {
+                        best = found;
+                    }
+                }
+            }
+        }
+        return Optional.ofNullable(best).map(CompiledPattern::pattern);
+    }
+
+    /**
+     * 登録されているパターンの件数を取得.
+     *
+     * @return パターン件数
+     */
+    public int size() {
+        int size = 0;
+        for (CompiledPattern[] bucket : buckets.values()) {
+            size += bucket.length;
+        }
+        return size;
+    }
+
+    private static CompiledPattern firstValid(CompiledPattern[] bucket, long day) {
+        if (bucket == null) {
+            return null;
+        }
+        for (CompiledPattern compiled : bucket) {
+            if (compiled.validFrom() <= day && day <= compiled.validTo()) {
+                return compiled;
+            }
+        }
+        return null;
+    }
+
+    private static String[] candidates(String value) {
+        return value == null || WILDCARD.equals(value)
+                ? new String[] {WILDCARD}
+                : new String[] {value, WILDCARD};
+    }
+
+    private static String orWildcard(String value) {
+        return value == null || value.isEmpty() ? WILDCARD : value;
+    }
+
+    private record Key(String productGroup, String customerGroup, String salesType) {
+    }
+
+    private record CompiledPattern(AutoJournalPattern pattern, int priority, long validFrom, long validTo) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.fas.domain.model.autojournal;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 自動仕訳の対象となる売上明細.
+ *
+ * <p>販売管理システムから連携された売上データの 1 明細を表す。
+ * 商品グループ・顧客グループ・売上区分で自動仕訳パターンを決定する。</p>
+ */
+@Value
+@Builder
+public class AutoJournalSalesLine {
+
+    String salesNumber;         // 売上番号
+    Integer salesLineNumber;    // 売上行番号
+    LocalDate salesDate;        // 売上日（起票日）
+    String productGroup;        // 商品グループ
+    String customerGroup;       // 顧客グループ
+    String salesType;           // 売上区分
+    BigDecimal amount;          // 売上金額（税抜）
+    BigDecimal taxAmount;       // 消費税額
+    String departmentCode;      // 部門コード
+    boolean returned;           // 返品
+
+    /**
+     * 行摘要を取得.
+     *
+     * @return 行摘要
+     */
+    public String getSummary() {
+        return (returned ? "売上返品 " : "売上 ") + salesNumber + "-" + salesLineNumber;
+    }
+}
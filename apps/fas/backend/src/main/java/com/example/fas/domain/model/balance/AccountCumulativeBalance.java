@@ -0,0 +1,36 @@
+package com.example.fas.domain.model.balance;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 勘定科目累計残高エンティティ.
+ *
+ * <p>月次締めの時点で、最初の仕訳から締め月の月末までの借方金額−貸方金額を勘定科目ごとに保持する。
+ * 損益科目も期首で繰り越しをやめないため、仕訳を直接集計した累計と一致する。
+ * 締め月以前に仕訳を転記すると破棄され、次の月次締めで作り直される。</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountCumulativeBalance {
+    private Integer fiscalYear;              // 決算期
+    private Integer month;                   // 月度
+    private String accountCode;              // 勘定科目コード
+    private BigDecimal balance;              // 累計残高
+    private LocalDateTime createdAt;         // 作成日時
+
+    /**
+     * 締め月の締め対象期間を取得.
+     *
+     * @return 締め対象期間
+     */
+    public ClosingPeriod getPeriod() {
+        return ClosingPeriod.of(fiscalYear, month);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.fas.domain.model.balance;
+
+import java.time.LocalDate;
+import lombok.Value;
+
+/**
+ * 月次締めの対象期間（決算期・月度）.
+ *
+ * <p>決算期・月度は起票日の年・月とする（{@code AccountBalancePoster} と同じ扱い）。</p>
+ */
+@Value
+public class ClosingPeriod {
+
+    Integer fiscalYear;     // 決算期
+    Integer month;          // 月度
+
+    /**
+     * 決算期・月度から締め対象期間を作成.
+     *
+     * @param fiscalYear 決算期
+     * @param month 月度（1〜12）
+     * @return 締め対象期間
+     */
+    public static ClosingPeriod of(int fiscalYear, int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("不正な月度: " + month);
+        }
+        return new ClosingPeriod(fiscalYear, month);
+    }
+
+    /**
+     * 月初日を取得.
+     *
+     * @return 月初日
+     */
+    public LocalDate getStartDate() {
+        return LocalDate.of(fiscalYear, month, 1);
+    }
+
+    /**
+     * 月末日を取得.
+     *
+     * @return 月末日
+     */
+    public LocalDate getEndDate() {
+        return getStartDate().withDayOfMonth(getStartDate().lengthOfMonth());
+    }
+
+    /**
+     * 前月の決算期を取得.
+     *
+     * @return 前月の決算期
+     */
+    public Integer getPreviousFiscalYear() {
+        return month == 1 ? fiscalYear - 1 : fiscalYear;
+    }
+
+    /**
+     * 前月の月度を取得.
+     *
+     * @return 前月の月度
+     */
+    public Integer getPreviousMonth() {
+        return month == 1 ? 12 : month - 1;
+    }
+
+    /**
+     * 期首月かどうかを判定（損益科目の残高は繰り越さない）.
+     *
+     * @return 期首月の場合true
+     */
+    public boolean isFirstMonth() {
+        return month == 1;
+    }
+}
@@ -25,6 +25,8 @@ public class DailyAccountBalance {
     private Boolean closingJournalFlag;      // 決算仕訳フラグ
     private BigDecimal debitAmount;          // 借方金額
     private BigDecimal creditAmount;         // 貸方金額
+    @Builder.Default
+    private Integer entryCount = 0;          // 明細件数
     private LocalDateTime createdAt;         // 作成日時
     private LocalDateTime updatedAt;         // 更新日時
 
@@ -0,0 +1,85 @@
+package com.example.fas.domain.model.journal;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+import lombok.Value;
+
+/**
+ * 仕訳一覧の読み出し位置（キーセットカーソル）.
+ *
+ * <p>仕訳一覧は起票日・仕訳伝票番号の降順に並ぶ。直前に読んだ仕訳のキーを保持し、
+ * 続きのページはこのキーより後ろ（古い側）の仕訳を読む。キーが null のカーソルは先頭を表す。</p>
+ */
+@Value
+public class JournalCursor {
+
+    private static final String SEPARATOR = "\t";
+
+    LocalDate postingDate;          // 起票日
+    String journalVoucherNumber;    // 仕訳伝票番号
+
+    /**
+     * 先頭を表すカーソルを作成.
+     *
+     * @return カーソル
+     */
+    public static JournalCursor start() {
+        return new JournalCursor(null, null);
+    }
+
+    /**
+     * 仕訳の直後を表すカーソルを作成.
+     *
+     * @param postingDate 起票日
+     * @param journalVoucherNumber 仕訳伝票番号
+     * @return カーソル
+     */
+    public static JournalCursor after(LocalDate postingDate, String journalVoucherNumber) {
+        return new JournalCursor(postingDate, journalVoucherNumber);
+    }
+
+    /**
+     * 先頭かどうかを判定.
+     *
+     * @return 先頭の場合true
+     */
+    public boolean isStart() {
+        return postingDate == null;
+    }
+
+    /**
+     * URL パラメータ用の文字列に変換.
+     *
+     * @return エンコード済みカーソル
+     */
+    public String encode() {
+        String raw = String.join(SEPARATOR, String.valueOf(postingDate), String.valueOf(journalVoucherNumber));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * {@link #encode()} した文字列からカーソルを復元.
+     *
+     * @param token エンコード済みカーソル
+     * @return カーソル（形式が不正な場合は空）
+     */
+    public static Optional<JournalCursor> decode(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 2) {
+                return Optional.empty();
+            }
+            return Optional.of(new JournalCursor(LocalDate.parse(parts[0]), parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
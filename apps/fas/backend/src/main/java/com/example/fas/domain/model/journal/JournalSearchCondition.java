@@ -0,0 +1,40 @@
+package com.example.fas.domain.model.journal;
+
+import java.time.LocalDate;
+import lombok.Value;
+
+/**
+ * 仕訳一覧の検索条件.
+ *
+ * <p>キーワードは伝票番号・部門コード・行摘要の部分一致と、勘定科目コードの完全一致で探す。
+ * 空文字の条件は未指定として扱うので、同じ検索は同じ値になり件数キャッシュのキーに使える。</p>
+ */
+@Value
+public class JournalSearchCondition {
+
+    LocalDate fromDate;     // 起票日（開始）
+    LocalDate toDate;       // 起票日（終了）
+    String keyword;         // キーワード
+    String accountCode;     // 勘定科目コード
+
+    /**
+     * 検索条件を作成.
+     *
+     * @param fromDate 開始日（null 可）
+     * @param toDate 終了日（null 可）
+     * @param keyword キーワード（null 可）
+     * @param accountCode 勘定科目コード（null 可）
+     * @return 検索条件
+     */
+    public static JournalSearchCondition of(LocalDate fromDate, LocalDate toDate,
+            String keyword, String accountCode) {
+        return new JournalSearchCondition(fromDate, toDate, trimToNull(keyword), trimToNull(accountCode));
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
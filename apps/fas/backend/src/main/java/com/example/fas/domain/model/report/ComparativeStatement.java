@@ -0,0 +1,27 @@
+package com.example.fas.domain.model.report;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 比較財務諸表（月度を列に並べた貸借対照表・損益計算書・試算表）を表すドメインモデル.
+ *
+ * <p>BS 科目の金額は各月の月末残高、PL 科目の金額は各月の発生額（借方−貸方）とする。
+ * 行は勘定科目構成の大区分・中区分の小計行と、その下の科目行を科目コード順に並べる。</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComparativeStatement {
+
+    private String bsplType;                       // BSPL区分（null の場合は全科目）
+    private List<YearMonth> columns;               // 列（月度）
+    private List<ComparativeStatementLine> lines;  // 大区分・中区分の小計行と科目行
+    private List<BigDecimal> totals;               // 列ごとの合計
+}
@@ -0,0 +1,24 @@
+package com.example.fas.domain.model.report;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 比較財務諸表の1行を表すドメインモデル.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComparativeStatementLine {
+
+    private String accountCode;           // 勘定科目コード
+    private String accountName;           // 勘定科目名
+    private int indentLevel;              // インデントレベル（大区分 0、中区分 1、科目 2）
+    private boolean isSummary;            // 小計行フラグ
+    private List<BigDecimal> amounts;     // 列ごとの金額
+}
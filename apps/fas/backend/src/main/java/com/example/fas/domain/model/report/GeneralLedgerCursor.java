@@ -0,0 +1,91 @@
+package com.example.fas.domain.model.report;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+import lombok.Value;
+
+/**
+ * 総勘定元帳の読み出し位置（キーセットカーソル）.
+ *
+ * <p>起票日・仕訳伝票番号・仕訳行番号・仕訳行貸借区分の並びで、直前に読んだ明細の
+ * キーだけを保持する。続きのページはこのキーより後ろの明細を読む。残高はクライアントから
+ * 受け取らず、読み出しのたびにキーまでの日次残高と当日の明細からサーバ側で求め直す。
+ * キーが null のカーソルは期間の先頭を表す。</p>
+ */
+@Value
+public class GeneralLedgerCursor {
+
+    private static final String SEPARATOR = "\t";
+
+    LocalDate postingDate;      // 起票日
+    String journalNumber;       // 仕訳伝票番号
+    Integer lineNumber;         // 仕訳行番号
+    String debitCreditType;     // 仕訳行貸借区分
+
+    /**
+     * 期間の先頭を表すカーソルを作成.
+     *
+     * @return カーソル
+     */
+    public static GeneralLedgerCursor start() {
+        return new GeneralLedgerCursor(null, null, null, null);
+    }
+
+    /**
+     * 明細の直後を表すカーソルを作成.
+     *
+     * @param entry 総勘定元帳エントリ
+     * @return カーソル
+     */
+    public static GeneralLedgerCursor after(GeneralLedgerEntry entry) {
+        return new GeneralLedgerCursor(entry.getPostingDate(), entry.getJournalNumber(),
+                entry.getLineNumber(), entry.getDebitCreditType());
+    }
+
+    /**
+     * 期間の先頭かどうかを判定.
+     *
+     * @return 先頭の場合true
+     */
+    public boolean isStart() {
+        return postingDate == null;
+    }
+
+    /**
+     * URL パラメータ用の文字列に変換.
+     *
+     * @return エンコード済みカーソル
+     */
+    public String encode() {
+        String raw = String.join(SEPARATOR, String.valueOf(postingDate), String.valueOf(journalNumber),
+                String.valueOf(lineNumber), String.valueOf(debitCreditType));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * {@link #encode()} した文字列からカーソルを復元.
+     *
+     * @param token エンコード済みカーソル
+     * @return カーソル（形式が不正な場合は空）
+     */
+    public static Optional<GeneralLedgerCursor> decode(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 4) {
+                return Optional.empty();
+            }
+            return Optional.of(new GeneralLedgerCursor(LocalDate.parse(parts[0]), parts[1],
+                    Integer.valueOf(parts[2]), parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
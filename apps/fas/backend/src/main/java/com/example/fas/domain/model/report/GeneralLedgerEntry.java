@@ -18,6 +18,8 @@ public class GeneralLedgerEntry {
 
     private LocalDate postingDate;        // 起票日
     private String journalNumber;         // 仕訳番号
+    private Integer lineNumber;           // 仕訳行番号
+    private String debitCreditType;       // 仕訳行貸借区分
     private String description;           // 摘要
     private String counterAccountCode;    // 相手勘定科目コード
     private String counterAccountName;    // 相手勘定科目名
@@ -0,0 +1,60 @@
+package com.example.fas.infrastructure.in.rest;
+
+import com.example.fas.application.port.in.ReportUseCase;
+import com.example.fas.domain.model.report.ComparativeStatement;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 財務諸表 REST コントローラ.
+ */
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@Tag(name = "財務諸表", description = "比較財務諸表の照会")
+public class ReportController {
+
+    private final ReportUseCase reportUseCase;
+
+    /**
+     * 比較財務諸表を取得.
+     *
+     * <p>月度を列挙した場合はその月度を、指定しない場合は期間内の各月度を列に並べる。</p>
+     *
+     * @param bsPlType BSPL区分（オプション）
+     * @param fromMonth 期間開始月
+     * @param toMonth 期間終了月
+     * @param months 列に並べる月度（オプション）
+     * @return 比較財務諸表
+     */
+    @GetMapping("/comparative")
+    @Operation(summary = "比較財務諸表取得",
+            description = "複数の月度を列に並べた貸借対照表・損益計算書・試算表を取得します")
+    public ResponseEntity<ComparativeStatement> getComparativeStatement(
+            @Parameter(description = "BSPL区分（BS/PL、省略時は全科目）")
+            @RequestParam(required = false) String bsPlType,
+            @Parameter(description = "期間開始月（yyyy-MM）")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth fromMonth,
+            @Parameter(description = "期間終了月（yyyy-MM）")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth toMonth,
+            @Parameter(description = "列に並べる月度（yyyy-MM、複数指定可）")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") List<YearMonth> months) {
+        String type = bsPlType != null && !bsPlType.isEmpty() ? bsPlType : null;
+        if (months != null && !months.isEmpty()) {
+            return ResponseEntity.ok(reportUseCase.getComparativeStatement(type, months));
+        }
+        YearMonth to = toMonth != null ? toMonth : YearMonth.now();
+        YearMonth from = fromMonth != null ? fromMonth : to.withMonth(1);
+        return ResponseEntity.ok(reportUseCase.getComparativeStatement(type, from, to));
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.fas.infrastructure.in.seed;
 
+import com.example.fas.application.port.out.DailyAccountBalanceRepository;
 import com.example.fas.application.port.out.JournalRepository;
+import com.example.fas.application.port.out.MonthlyAccountBalanceRepository;
+import com.example.fas.application.service.AccountBalancePoster;
 import com.example.fas.domain.model.account.DebitCreditType;
 import com.example.fas.domain.model.journal.Journal;
 import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
@@ -9,6 +12,7 @@ import com.example.fas.domain.model.journal.JournalVoucherType;
 import com.example.fas.domain.model.journal.TaxType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +29,9 @@ import org.springframework.stereotype.Component;
 public class TransactionDataSeeder {
 
     private final JournalRepository journalRepository;
+    private final AccountBalancePoster accountBalancePoster;
+    private final DailyAccountBalanceRepository dailyAccountBalanceRepository;
+    private final MonthlyAccountBalanceRepository monthlyAccountBalanceRepository;
 
     /**
      * すべてのトランザクションデータを投入.
@@ -40,6 +47,8 @@ public class TransactionDataSeeder {
      */
     public void cleanAll() {
         log.info("トランザクションデータを削除中...");
+        dailyAccountBalanceRepository.deleteAll();
+        monthlyAccountBalanceRepository.deleteAll();
         journalRepository.deleteAll();
         log.info("トランザクションデータ削除完了");
     }
@@ -52,55 +61,56 @@ public class TransactionDataSeeder {
     private void seedSampleJournals() {
         log.info("サンプル仕訳データを投入中...");
 
-        int insertedCount = 0;
+        List<Journal> inserted = new ArrayList<>();
 
         // 4月1日：期首仕訳（前期繰越）
         if (journalRepository.findByVoucherNumber("J25040001").isEmpty()) {
-            journalRepository.save(createOpeningBalanceJournal());
-            insertedCount++;
+            inserted.add(save(createOpeningBalanceJournal()));
         }
 
         // 4月5日：売上計上（国内売上）
         if (journalRepository.findByVoucherNumber("J25040002").isEmpty()) {
-            journalRepository.save(createSalesJournal());
-            insertedCount++;
+            inserted.add(save(createSalesJournal()));
         }
 
         // 4月10日：経費計上（旅費交通費）
         if (journalRepository.findByVoucherNumber("J25040003").isEmpty()) {
-            journalRepository.save(createExpenseJournal());
-            insertedCount++;
+            inserted.add(save(createExpenseJournal()));
         }
 
         // 4月15日：材料仕入
         if (journalRepository.findByVoucherNumber("J25040004").isEmpty()) {
-            journalRepository.save(createPurchaseJournal());
-            insertedCount++;
+            inserted.add(save(createPurchaseJournal()));
         }
 
         // 4月20日：給与支払
         if (journalRepository.findByVoucherNumber("J25040005").isEmpty()) {
-            journalRepository.save(createPayrollJournal());
-            insertedCount++;
+            inserted.add(save(createPayrollJournal()));
         }
 
         // 4月25日：売掛金入金
         if (journalRepository.findByVoucherNumber("J25040006").isEmpty()) {
-            journalRepository.save(createReceiptJournal());
-            insertedCount++;
+            inserted.add(save(createReceiptJournal()));
         }
 
         // 4月30日：買掛金支払
         if (journalRepository.findByVoucherNumber("J25040007").isEmpty()) {
-            journalRepository.save(createPaymentJournal());
-            insertedCount++;
+            inserted.add(save(createPaymentJournal()));
         }
 
+        // 投入した仕訳を勘定科目残高に転記
+        accountBalancePoster.post(inserted);
+
         if (log.isInfoEnabled()) {
-            log.info("サンプル仕訳データ {}件 投入完了", insertedCount);
+            log.info("サンプル仕訳データ {}件 投入完了", inserted.size());
         }
     }
 
+    private Journal save(Journal journal) {
+        journalRepository.save(journal);
+        return journal;
+    }
+
     /**
      * 期首仕訳（前期繰越）を作成.
      * 借方：普通預金 50,000,000 / 貸方：繰越利益剰余金 50,000,000
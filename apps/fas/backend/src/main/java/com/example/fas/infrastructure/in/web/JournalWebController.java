@@ -6,9 +6,12 @@ import com.example.fas.application.port.in.JournalUseCase;
 import com.example.fas.application.port.in.dto.JournalResponse;
 import com.example.fas.domain.exception.AccountingException;
 import com.example.fas.domain.model.common.PageResult;
+import com.example.fas.domain.model.journal.JournalCursor;
+import com.example.fas.domain.model.journal.JournalSearchCondition;
 import com.example.fas.infrastructure.in.web.form.JournalForm;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.util.List;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -50,20 +53,32 @@ public class JournalWebController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
             @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String accountCode,
+            @RequestParam(required = false) String after,
             Model model) {
 
         // ページサイズの上限を設定
         int pageSize = Math.min(size, 100);
 
         PageResult<JournalResponse> pageResult = journalUseCase.getJournals(
-                page, pageSize, fromDate, toDate, keyword);
+                page, pageSize, JournalSearchCondition.of(fromDate, toDate, keyword, accountCode),
+                JournalCursor.decode(after).orElse(null));
+        List<JournalResponse> content = pageResult.getContent();
+        // 次ページへはカーソルで続きを読む
+        String nextCursor = null;
+        if (!content.isEmpty()) {
+            JournalResponse last = content.get(content.size() - 1);
+            nextCursor = JournalCursor.after(last.getPostingDate(), last.getJournalVoucherNumber()).encode();
+        }
 
-        model.addAttribute("journals", pageResult.getContent());
+        model.addAttribute("journals", content);
         model.addAttribute("page", pageResult);
         model.addAttribute("currentSize", pageSize);
         model.addAttribute("fromDate", fromDate);
         model.addAttribute("toDate", toDate);
         model.addAttribute("keyword", keyword);
+        model.addAttribute("accountCode", accountCode);
+        model.addAttribute("nextCursor", nextCursor);
         return "journals/list";
     }
 
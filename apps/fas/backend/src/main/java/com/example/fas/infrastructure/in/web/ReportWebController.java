@@ -5,6 +5,7 @@ import com.example.fas.domain.model.common.PageResult;
 import com.example.fas.domain.model.report.BalanceSheet;
 import com.example.fas.domain.model.report.DailyReport;
 import com.example.fas.domain.model.report.GeneralLedger;
+import com.example.fas.domain.model.report.GeneralLedgerCursor;
 import com.example.fas.domain.model.report.GeneralLedgerEntry;
 import com.example.fas.domain.model.report.IncomeStatement;
 import com.example.fas.domain.model.report.TrialBalance;
@@ -13,6 +14,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.BorderStyle;
@@ -157,6 +159,7 @@ public class ReportWebController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after,
             Model model) {
 
         String targetAccountCode = accountCode != null ? accountCode : "11110";
@@ -166,7 +169,12 @@ public class ReportWebController {
         GeneralLedger meta = reportUseCase.getGeneralLedgerMeta(
                 targetAccountCode, targetFromDate, targetToDate);
         PageResult<GeneralLedgerEntry> entries = reportUseCase.getGeneralLedger(
-                targetAccountCode, targetFromDate, targetToDate, page, size);
+                targetAccountCode, targetFromDate, targetToDate, page, size,
+                GeneralLedgerCursor.decode(after).orElse(null));
+        List<GeneralLedgerEntry> content = entries.getContent();
+        // 次ページへはカーソルで続きを読む
+        String nextCursor = content.isEmpty()
+                ? null : GeneralLedgerCursor.after(content.get(content.size() - 1)).encode();
 
         model.addAttribute("meta", meta);
         model.addAttribute("entries", entries.getContent());
@@ -175,6 +183,7 @@ public class ReportWebController {
         model.addAttribute("fromDate", targetFromDate);
         model.addAttribute("toDate", targetToDate);
         model.addAttribute("currentSize", size);
+        model.addAttribute("nextCursor", nextCursor);
 
         return "reports/general-ledger";
     }
@@ -38,6 +38,8 @@ public interface AutoJournalMapper {
 
     void insertEntry(AutoJournalEntry entry);
 
+    void insertEntries(@Param("entries") List<AutoJournalEntry> entries);
+
     Optional<AutoJournalEntry> findEntryByNumber(
             @Param("autoJournalNumber") String autoJournalNumber);
 
@@ -16,6 +16,20 @@ public interface ChangeLogMapper {
     // 登録
     void insert(ChangeLog changeLog);
 
+    // 一括登録
+    void insertAll(@Param("changeLogs") List<ChangeLog> changeLogs);
+
+    // テーブルの最新の操作日時
+    LocalDateTime findLatestOperatedAt(@Param("tableName") String tableName);
+
+    // 変更ログの補完済日時
+    LocalDateTime findRecoveredUntil(@Param("tableName") String tableName);
+
+    // 変更ログの補完済日時を登録・更新（既存の日時より前には戻さない）
+    void upsertRecoveredUntil(
+            @Param("tableName") String tableName,
+            @Param("recoveredUntil") LocalDateTime recoveredUntil);
+
     // ログIDで検索
     ChangeLog findById(@Param("logId") Long logId);
 
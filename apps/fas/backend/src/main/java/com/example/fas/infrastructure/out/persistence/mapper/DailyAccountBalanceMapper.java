@@ -2,6 +2,7 @@ package com.example.fas.infrastructure.out.persistence.mapper;
 
 import com.example.fas.domain.model.balance.DailyAccountBalance;
 import com.example.fas.domain.model.balance.DailyReportLine;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
@@ -16,6 +17,9 @@ public interface DailyAccountBalanceMapper {
     // UPSERT
     void upsert(DailyAccountBalance balance);
 
+    // 借方・貸方金額の一括加算（行がなければ登録）
+    void addAmounts(@Param("balances") List<DailyAccountBalance> balances);
+
     // 複合キーで検索
     @SuppressWarnings("PMD.UseObjectForClearerAPI")
     DailyAccountBalance findByKey(
@@ -35,6 +39,18 @@ public interface DailyAccountBalanceMapper {
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate);
 
+    // 勘定科目の期間内の借方−貸方合計
+    BigDecimal sumNetAmount(
+            @Param("accountCode") String accountCode,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    // 勘定科目の起票日ごとの合計と明細件数
+    List<DailyAccountBalance> findDailyTotals(
+            @Param("accountCode") String accountCode,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
     // 日計表データ取得
     List<DailyReportLine> getDailyReport(@Param("postingDate") LocalDate postingDate);
 
@@ -1,11 +1,16 @@
 package com.example.fas.infrastructure.out.persistence.mapper;
 
 import com.example.fas.domain.model.journal.Journal;
+import com.example.fas.domain.model.journal.JournalCursor;
 import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
 import com.example.fas.domain.model.journal.JournalDetail;
+import com.example.fas.domain.model.journal.JournalSearchCondition;
+import com.example.fas.domain.model.report.GeneralLedgerCursor;
 import com.example.fas.domain.model.report.GeneralLedgerEntry;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.ibatis.annotations.Mapper;
@@ -23,6 +28,27 @@ public interface JournalMapper {
 
     void insertJournalDebitCreditDetail(JournalDebitCreditDetail dcDetail);
 
+    /**
+     * 仕訳ヘッダを複数行 INSERT で一括登録.
+     *
+     * @param journals 仕訳
+     */
+    void insertJournals(@Param("journals") List<Journal> journals);
+
+    /**
+     * 仕訳明細を複数行 INSERT で一括登録.
+     *
+     * @param details 仕訳明細
+     */
+    void insertJournalDetails(@Param("details") List<JournalDetail> details);
+
+    /**
+     * 仕訳貸借明細を複数行 INSERT で一括登録.
+     *
+     * @param dcDetails 仕訳貸借明細
+     */
+    void insertJournalDebitCreditDetails(@Param("dcDetails") List<JournalDebitCreditDetail> dcDetails);
+
     Optional<Journal> findByVoucherNumber(@Param("voucherNumber") String voucherNumber);
 
     List<JournalDetail> findDetailsByVoucherNumber(@Param("voucherNumber") String voucherNumber);
@@ -31,6 +57,32 @@ public interface JournalMapper {
             @Param("voucherNumber") String voucherNumber,
             @Param("lineNumber") Integer lineNumber);
 
+    /**
+     * 仕訳ヘッダを伝票番号の集合で一括取得.
+     *
+     * @param voucherNumbers 仕訳伝票番号
+     * @return 仕訳ヘッダ（伝票番号順）
+     */
+    List<Journal> findByVoucherNumbers(@Param("voucherNumbers") Collection<String> voucherNumbers);
+
+    /**
+     * 仕訳明細を伝票番号の集合で一括取得.
+     *
+     * @param voucherNumbers 仕訳伝票番号
+     * @return 仕訳明細（伝票番号・行番号順）
+     */
+    List<JournalDetail> findDetailsByVoucherNumbers(
+            @Param("voucherNumbers") Collection<String> voucherNumbers);
+
+    /**
+     * 仕訳貸借明細を伝票番号の集合で一括取得.
+     *
+     * @param voucherNumbers 仕訳伝票番号
+     * @return 仕訳貸借明細（伝票番号・行番号・貸借区分順）
+     */
+    List<JournalDebitCreditDetail> findDCDetailsByVoucherNumbers(
+            @Param("voucherNumbers") Collection<String> voucherNumbers);
+
     List<String> findVoucherNumbersByDateRange(
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate);
@@ -86,75 +138,92 @@ public interface JournalMapper {
     int updateJournalDebitCreditDetailWithOptimisticLock(JournalDebitCreditDetail dcDetail);
 
     /**
-     * ページネーション付きで仕訳を検索.
+     * 検索条件に一致する仕訳ヘッダを (起票日, 仕訳伝票番号) の降順でカーソルの後ろから取得.
      *
-     * @param offset オフセット
+     * @param condition 検索条件
+     * @param after 読み出し位置（null 可）
      * @param limit 件数
-     * @param fromDate 開始日（null 可）
-     * @param toDate 終了日（null 可）
-     * @param keyword キーワード（null 可）
      * @return 仕訳リスト
      */
-    List<Journal> findWithPagination(
-            @Param("offset") int offset,
-            @Param("limit") int limit,
-            @Param("fromDate") LocalDate fromDate,
-            @Param("toDate") LocalDate toDate,
-            @Param("keyword") String keyword);
+    List<Journal> findJournalsAfter(
+            @Param("condition") JournalSearchCondition condition,
+            @Param("after") JournalCursor after,
+            @Param("limit") int limit);
+
+    /**
+     * 検索条件に一致する仕訳のうち、指定位置の仕訳のキーを取得.
+     *
+     * @param condition 検索条件
+     * @param offset 位置（0始まり）
+     * @return カーソル（範囲外の場合は null）
+     */
+    JournalCursor findJournalKeyAt(
+            @Param("condition") JournalSearchCondition condition,
+            @Param("offset") long offset);
 
     /**
      * 検索条件に一致する仕訳の件数を取得.
      *
-     * @param fromDate 開始日（null 可）
-     * @param toDate 終了日（null 可）
-     * @param keyword キーワード（null 可）
+     * @param condition 検索条件
      * @return 件数
      */
-    long count(
-            @Param("fromDate") LocalDate fromDate,
-            @Param("toDate") LocalDate toDate,
-            @Param("keyword") String keyword);
+    long countJournals(@Param("condition") JournalSearchCondition condition);
 
     /**
-     * 総勘定元帳エントリを取得.
+     * 総勘定元帳エントリをカーソルの後ろから取得（残高は未計算）.
      *
      * @param accountCode 勘定科目コード
      * @param fromDate 開始日
      * @param toDate 終了日
-     * @param offset オフセット
+     * @param after 読み出し位置（null または先頭カーソルの場合は期間の先頭から）
      * @param limit 件数
      * @return 総勘定元帳エントリリスト
      */
-    List<GeneralLedgerEntry> findGeneralLedgerEntries(
+    List<GeneralLedgerEntry> findGeneralLedgerEntriesAfter(
             @Param("accountCode") String accountCode,
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate,
-            @Param("offset") int offset,
+            @Param("after") GeneralLedgerCursor after,
             @Param("limit") int limit);
 
     /**
-     * 総勘定元帳エントリ件数を取得.
+     * 総勘定元帳の指定位置のキーと、期間の先頭からその位置までの借方−貸方累計を取得.
      *
      * @param accountCode 勘定科目コード
      * @param fromDate 開始日
      * @param toDate 終了日
-     * @return 件数
+     * @param offset 位置（0始まり）
+     * @return キーと累計（balance）のみを設定したエントリ（範囲外の場合は null）
      */
-    long countGeneralLedgerEntries(
+    GeneralLedgerEntry findGeneralLedgerKeyAt(
             @Param("accountCode") String accountCode,
             @Param("fromDate") LocalDate fromDate,
-            @Param("toDate") LocalDate toDate);
+            @Param("toDate") LocalDate toDate,
+            @Param("offset") long offset);
 
     /**
-     * 指定日以前の残高を取得.
+     * カーソルの起票日の先頭からカーソルの明細（を含む）までの借方−貸方累計を取得.
      *
      * @param accountCode 勘定科目コード
-     * @param beforeDate 基準日
-     * @return 残高
+     * @param through カーソル
+     * @return 借方−貸方累計（該当なしの場合は 0）
      */
-    BigDecimal getOpeningBalance(
+    BigDecimal sumGeneralLedgerAmountThrough(
             @Param("accountCode") String accountCode,
-            @Param("beforeDate") LocalDate beforeDate);
+            @Param("through") GeneralLedgerCursor through);
+
+    /**
+     * 総勘定元帳エントリ件数を取得.
+     *
+     * @param accountCode 勘定科目コード
+     * @param fromDate 開始日
+     * @param toDate 終了日
+     * @return 件数
+     */
+    long countGeneralLedgerEntries(
+            @Param("accountCode") String accountCode,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
 
     /**
      * 期間指定で仕訳件数を取得.
@@ -166,4 +235,12 @@ public interface JournalMapper {
     long countByDateRange(
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate);
+
+    /**
+     * 指定日時以降に作成され、変更ログが記録されていない仕訳の伝票番号を取得.
+     *
+     * @param since 作成日時の下限
+     * @return 仕訳伝票番号リスト
+     */
+    List<String> findVoucherNumbersWithoutChangeLog(@Param("since") LocalDateTime since);
 }
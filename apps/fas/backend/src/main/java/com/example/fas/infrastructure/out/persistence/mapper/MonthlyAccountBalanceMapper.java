@@ -1,11 +1,17 @@
 package com.example.fas.infrastructure.out.persistence.mapper;
 
+import com.example.fas.domain.model.balance.AccountCumulativeBalance;
+import com.example.fas.domain.model.balance.ClosingPeriod;
 import com.example.fas.domain.model.balance.MonthlyAccountBalance;
 import com.example.fas.domain.model.balance.TrialBalanceLine;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 /**
  * 月次勘定科目残高マッパー.
@@ -16,6 +22,18 @@ public interface MonthlyAccountBalanceMapper {
     // 登録
     void insert(MonthlyAccountBalance balance);
 
+    // 借方・貸方金額の一括加算（月末残高も加減算、行がなければ登録）
+    void addAmounts(@Param("balances") List<MonthlyAccountBalance> balances);
+
+    // 月次締め結果の一括登録・上書き
+    void upsertAll(@Param("balances") List<MonthlyAccountBalance> balances);
+
+    // 月次締めの集計元をキー順に取得（月初残高は前月の月末残高）
+    Cursor<MonthlyAccountBalance> streamClosingSources(
+            @Param("period") ClosingPeriod period,
+            @Param("fromAccountCode") String fromAccountCode,
+            @Param("toAccountCode") String toAccountCode);
+
     // 複合キーで検索
     @SuppressWarnings("PMD.UseObjectForClearerAPI")
     MonthlyAccountBalance findByKey(
@@ -37,6 +55,37 @@ public interface MonthlyAccountBalanceMapper {
             @Param("fiscalYear") Integer fiscalYear,
             @Param("accountCode") String accountCode);
 
+    // 勘定科目の期間内の借方−貸方合計
+    BigDecimal sumNetAmountBetween(
+            @Param("accountCode") String accountCode,
+            @Param("after") ClosingPeriod after,
+            @Param("before") ClosingPeriod before);
+
+    // 指定月度より前で直近の勘定科目累計残高
+    AccountCumulativeBalance findLatestCumulativeBalanceBefore(
+            @Param("accountCode") String accountCode,
+            @Param("before") ClosingPeriod before);
+
+    // 勘定科目範囲の締め月の勘定科目累計残高を削除
+    int deleteCumulativeBalances(
+            @Param("period") ClosingPeriod period,
+            @Param("fromAccountCode") String fromAccountCode,
+            @Param("toAccountCode") String toAccountCode);
+
+    // 勘定科目範囲の締め月までの累計残高を月次残高から集計して登録
+    int insertCumulativeBalances(
+            @Param("period") ClosingPeriod period,
+            @Param("fromAccountCode") String fromAccountCode,
+            @Param("toAccountCode") String toAccountCode);
+
+    // 指定月度以降の勘定科目累計残高を削除
+    int deleteCumulativeBalancesFrom(
+            @Param("accountCodes") Collection<String> accountCodes,
+            @Param("from") ClosingPeriod from);
+
+    // 勘定科目累計残高の全件削除
+    void deleteAllCumulativeBalances();
+
     // 合計残高試算表データ取得
     List<TrialBalanceLine> getTrialBalance(
             @Param("fiscalYear") Integer fiscalYear,
@@ -48,6 +97,11 @@ public interface MonthlyAccountBalanceMapper {
             @Param("month") Integer month,
             @Param("bsplType") String bsplType);
 
+    // 複数月度の試算表データ取得
+    List<TrialBalanceLine> getTrialBalanceByPeriods(
+            @Param("periods") List<YearMonth> periods,
+            @Param("bsplType") String bsplType);
+
     // 日次残高から月次残高を集計
     int aggregateFromDaily(
             @Param("fiscalYear") Integer fiscalYear,
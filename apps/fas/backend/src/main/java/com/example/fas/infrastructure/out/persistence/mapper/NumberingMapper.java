@@ -0,0 +1,44 @@
+package com.example.fas.infrastructure.out.persistence.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 採番マッパー.
+ */
+@Mapper
+public interface NumberingMapper {
+
+    /**
+     * 最終番号を加算.
+     *
+     * @param numberingCode 採番コード
+     * @param yearMonth 採番年月
+     * @param count 加算する件数
+     * @return 更新件数
+     */
+    int addLastNumber(@Param("numberingCode") String numberingCode,
+            @Param("yearMonth") String yearMonth,
+            @Param("count") int count);
+
+    /**
+     * 採番履歴を登録.
+     *
+     * @param numberingCode 採番コード
+     * @param yearMonth 採番年月
+     * @param lastNumber 最終番号
+     */
+    void insertHistory(@Param("numberingCode") String numberingCode,
+            @Param("yearMonth") String yearMonth,
+            @Param("lastNumber") long lastNumber);
+
+    /**
+     * 最終番号を取得.
+     *
+     * @param numberingCode 採番コード
+     * @param yearMonth 採番年月
+     * @return 最終番号
+     */
+    Long findLastNumber(@Param("numberingCode") String numberingCode,
+            @Param("yearMonth") String yearMonth);
+}
@@ -21,6 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AutoJournalRepositoryImpl implements AutoJournalRepository {
 
+    private static final int INSERT_CHUNK_SIZE = 500;
+
     private final AutoJournalMapper mapper;
 
     // パターンマスタ操作
@@ -81,6 +83,14 @@ public class AutoJournalRepositoryImpl implements AutoJournalRepository {
         mapper.insertEntry(entry);
     }
 
+    @Override
+    @Transactional
+    public void saveEntries(List<AutoJournalEntry> entries) {
+        for (int from = 0; from < entries.size(); from += INSERT_CHUNK_SIZE) {
+            mapper.insertEntries(entries.subList(from, Math.min(from + INSERT_CHUNK_SIZE, entries.size())));
+        }
+    }
+
     @Override
     public Optional<AutoJournalEntry> findEntryByNumber(String autoJournalNumber) {
         return mapper.findEntryByNumber(autoJournalNumber);
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -18,6 +19,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChangeLogRepositoryImpl implements ChangeLogRepository {
 
+    /** 一括登録で 1 回の INSERT 文に含める行数. */
+    private static final int INSERT_CHUNK_SIZE = 500;
+
     private final ChangeLogMapper mapper;
 
     @Override
@@ -26,6 +30,31 @@ public class ChangeLogRepositoryImpl implements ChangeLogRepository {
         mapper.insert(changeLog);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveAll(List<ChangeLog> changeLogs) {
+        // コミット後の同期処理から呼ばれても元のトランザクションに参加しないよう新しいトランザクションで登録する
+        for (int from = 0; from < changeLogs.size(); from += INSERT_CHUNK_SIZE) {
+            mapper.insertAll(changeLogs.subList(from, Math.min(from + INSERT_CHUNK_SIZE, changeLogs.size())));
+        }
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLatestOperatedAt(String tableName) {
+        return Optional.ofNullable(mapper.findLatestOperatedAt(tableName));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findRecoveredUntil(String tableName) {
+        return Optional.ofNullable(mapper.findRecoveredUntil(tableName));
+    }
+
+    @Override
+    @Transactional
+    public void saveRecoveredUntil(String tableName, LocalDateTime recoveredUntil) {
+        mapper.upsertRecoveredUntil(tableName, recoveredUntil);
+    }
+
     @Override
     public Optional<ChangeLog> findById(Long logId) {
         return Optional.ofNullable(mapper.findById(logId));
@@ -6,6 +6,7 @@ import com.example.fas.domain.model.balance.DailyAccountBalance;
 import com.example.fas.domain.model.balance.DailyReportLine;
 import com.example.fas.domain.model.common.PageResult;
 import com.example.fas.infrastructure.out.persistence.mapper.DailyAccountBalanceMapper;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class DailyAccountBalanceRepositoryImpl implements DailyAccountBalanceRepository {
 
+    /** 一括加算で 1 回の SQL に含める行数. */
+    private static final int ADD_CHUNK_SIZE = 1000;
+
     private final DailyAccountBalanceMapper mapper;
 
     @Override
@@ -28,6 +32,15 @@ public class DailyAccountBalanceRepositoryImpl implements DailyAccountBalanceRep
         mapper.upsert(balance);
     }
 
+    @Override
+    @Transactional
+    public void addAmounts(List<DailyAccountBalance> balances) {
+        // バインド変数の上限を超えないよう分割する
+        for (int from = 0; from < balances.size(); from += ADD_CHUNK_SIZE) {
+            mapper.addAmounts(balances.subList(from, Math.min(from + ADD_CHUNK_SIZE, balances.size())));
+        }
+    }
+
     @Override
     public Optional<DailyAccountBalance> findByKey(DailyAccountBalance.CompositeKey key) {
         return Optional.ofNullable(mapper.findByKey(
@@ -55,6 +68,17 @@ public class DailyAccountBalanceRepositoryImpl implements DailyAccountBalanceRep
         return mapper.getDailyReport(postingDate);
     }
 
+    @Override
+    public BigDecimal sumNetAmount(String accountCode, LocalDate fromDate, LocalDate toDate) {
+        BigDecimal amount = mapper.sumNetAmount(accountCode, fromDate, toDate);
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
+
+    @Override
+    public List<DailyAccountBalance> findDailyTotals(String accountCode, LocalDate fromDate, LocalDate toDate) {
+        return mapper.findDailyTotals(accountCode, fromDate, toDate);
+    }
+
     @Override
     @Transactional
     public void updateWithOptimisticLock(DailyAccountBalance balance) {
@@ -0,0 +1,81 @@
+package com.example.fas.infrastructure.out.persistence.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 仕訳の検索条件ごとの件数キャッシュ.
+ *
+ * <p>仕訳一覧・総勘定元帳のページ送りのたびに COUNT を走らせないよう、検索条件ごとに件数を保持する。
+ * キーには等価性を持つ検索条件（{@code JournalSearchCondition} やレコード）を使う。
+ * 仕訳を更新したら {@link #invalidate()} を呼ぶこと。トランザクション中であればコミット後にも
+ * 破棄するので、コミット前の件数をキャッシュに残さない。他のプロセスからの更新に備えて
+ * 一定時間で期限切れにする。</p>
+ */
+final class JournalCountCache {
+
+    /** 保持する検索条件の上限. */
+    private static final int MAX_ENTRIES = 256;
+
+    /** 件数を保持する時間（ミリ秒）. */
+    private static final long TTL_MILLIS = 60_000L;
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Entry(long count, long loadedAt) {
+    }
+
+    /**
+     * 件数を取得（キャッシュになければ数えて保持）.
+     *
+     * @param condition 検索条件
+     * @param counter 件数を数える関数
+     * @param <K> 検索条件の型
+     * @return 件数
+     */
+    <K> long get(K condition, ToLongFunction<K> counter) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(condition);
+        if (entry != null && now - entry.loadedAt() < TTL_MILLIS) {
+            return entry.count();
+        }
+        // 数えている間に破棄された場合は、古い件数かもしれないのでキャッシュしない
+        long loadedGeneration = generation.get();
+        long count = counter.applyAsLong(condition);
+        synchronized (this) {
+            if (generation.get() == loadedGeneration) {
+                if (entries.size() >= MAX_ENTRIES) {
+                    entries.clear();
+                }
+                entries.put(condition, new Entry(count, now));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * キャッシュを破棄.
+     */
+    void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+        clear();
+    }
+
+    private synchronized void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+}
@@ -2,15 +2,25 @@ package com.example.fas.infrastructure.out.persistence.repository;
 
 import com.example.fas.application.port.out.JournalRepository;
 import com.example.fas.domain.exception.OptimisticLockException;
-import com.example.fas.domain.model.common.PageResult;
 import com.example.fas.domain.model.journal.Journal;
+import com.example.fas.domain.model.journal.JournalCursor;
+import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
+import com.example.fas.domain.model.journal.JournalDetail;
+import com.example.fas.domain.model.journal.JournalSearchCondition;
+import com.example.fas.domain.model.report.GeneralLedgerCursor;
 import com.example.fas.domain.model.report.GeneralLedgerEntry;
 import com.example.fas.infrastructure.out.persistence.mapper.JournalMapper;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,13 +30,23 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Repository
 @RequiredArgsConstructor
+@SuppressWarnings("PMD.UseConcurrentHashMap")
 public class JournalRepositoryImpl implements JournalRepository {
 
+    /** 一括取得で 1 回のクエリに含める伝票番号の件数. */
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    /** 一括登録で 1 回の INSERT 文に含める行数. */
+    private static final int INSERT_CHUNK_SIZE = 500;
+
     private final JournalMapper journalMapper;
 
+    private final JournalCountCache countCache = new JournalCountCache();
+
     @Override
     @Transactional
     public void save(Journal journal) {
+        countCache.invalidate();
         journalMapper.insertJournal(journal);
 
         journal.getDetails().forEach(detail -> {
@@ -37,6 +57,30 @@ public class JournalRepositoryImpl implements JournalRepository {
         });
     }
 
+    @Override
+    @Transactional
+    public void saveAll(List<Journal> journals) {
+        countCache.invalidate();
+        List<JournalDetail> details = new ArrayList<>();
+        List<JournalDebitCreditDetail> dcDetails = new ArrayList<>();
+        for (Journal journal : journals) {
+            for (JournalDetail detail : journal.getDetails()) {
+                details.add(detail);
+                dcDetails.addAll(detail.getDebitCreditDetails());
+            }
+        }
+        // テーブルごとに複数行 INSERT で登録する（バインド変数の上限を超えないよう分割）
+        forEachChunk(journals, journalMapper::insertJournals);
+        forEachChunk(details, journalMapper::insertJournalDetails);
+        forEachChunk(dcDetails, journalMapper::insertJournalDebitCreditDetails);
+    }
+
+    private static <T> void forEachChunk(List<T> rows, Consumer<List<T>> insert) {
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            insert.accept(rows.subList(from, Math.min(from + INSERT_CHUNK_SIZE, rows.size())));
+        }
+    }
+
     @Override
     public Optional<Journal> findByVoucherNumber(String voucherNumber) {
         return journalMapper.findByVoucherNumber(voucherNumber)
@@ -52,42 +96,79 @@ public class JournalRepositoryImpl implements JournalRepository {
             });
     }
 
+    @Override
+    public List<Journal> findByVoucherNumbers(Collection<String> voucherNumbers) {
+        // 伝票番号順に並べたチャンクごとにヘッダ・明細・貸借明細を 3 クエリで取得して組み立てる。
+        // 勘定科目・部門で絞った任意の伝票番号の集合も受けるため、キーセット（前回の最終番号より後を
+        // LIMIT 件）ではなく、ソート済みの番号を IN 句で区切る（各チャンクは連続した番号の範囲になる）
+        List<String> sorted = new ArrayList<>(new TreeSet<>(voucherNumbers));
+        List<Journal> journals = new ArrayList<>(sorted.size());
+        for (int from = 0; from < sorted.size(); from += LOAD_CHUNK_SIZE) {
+            List<String> chunk = sorted.subList(from, Math.min(from + LOAD_CHUNK_SIZE, sorted.size()));
+            journals.addAll(loadChunk(chunk));
+        }
+        return journals;
+    }
+
+    private List<Journal> loadChunk(List<String> voucherNumbers) {
+        List<Journal> journals = journalMapper.findByVoucherNumbers(voucherNumbers);
+        Map<String, Journal> journalByNumber = new HashMap<>();
+        for (Journal journal : journals) {
+            journal.setDetails(new ArrayList<>());
+            journalByNumber.put(journal.getJournalVoucherNumber(), journal);
+        }
+
+        Map<String, JournalDetail> detailByLine = new HashMap<>();
+        for (JournalDetail detail : journalMapper.findDetailsByVoucherNumbers(voucherNumbers)) {
+            Journal journal = journalByNumber.get(detail.getJournalVoucherNumber());
+            if (journal == null) {
+                continue;
+            }
+            detail.setDebitCreditDetails(new ArrayList<>());
+            journal.getDetails().add(detail);
+            detailByLine.put(lineKey(detail.getJournalVoucherNumber(), detail.getLineNumber()), detail);
+        }
+
+        for (JournalDebitCreditDetail dcDetail : journalMapper.findDCDetailsByVoucherNumbers(voucherNumbers)) {
+            JournalDetail detail = detailByLine.get(
+                lineKey(dcDetail.getJournalVoucherNumber(), dcDetail.getLineNumber()));
+            if (detail != null) {
+                detail.getDebitCreditDetails().add(dcDetail);
+            }
+        }
+        return journals;
+    }
+
+    private static String lineKey(String voucherNumber, Integer lineNumber) {
+        return voucherNumber + '#' + lineNumber;
+    }
+
     @Override
     public List<Journal> findByPostingDateBetween(LocalDate fromDate, LocalDate toDate) {
-        return journalMapper.findVoucherNumbersByDateRange(fromDate, toDate).stream()
-            .map(this::findByVoucherNumber)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(Collectors.toList());
+        return findByVoucherNumbers(journalMapper.findVoucherNumbersByDateRange(fromDate, toDate));
     }
 
     @Override
     public List<Journal> findByAccountCode(String accountCode) {
-        return journalMapper.findVoucherNumbersByAccountCode(accountCode).stream()
-            .map(this::findByVoucherNumber)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(Collectors.toList());
+        return findByVoucherNumbers(journalMapper.findVoucherNumbersByAccountCode(accountCode));
     }
 
     @Override
     public List<Journal> findByDepartmentCode(String departmentCode) {
-        return journalMapper.findVoucherNumbersByDepartmentCode(departmentCode).stream()
-            .map(this::findByVoucherNumber)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(Collectors.toList());
+        return findByVoucherNumbers(journalMapper.findVoucherNumbersByDepartmentCode(departmentCode));
     }
 
     @Override
     @Transactional
     public void delete(String voucherNumber) {
+        countCache.invalidate();
         journalMapper.deleteJournal(voucherNumber);
     }
 
     @Override
     @Transactional
     public void deleteAll() {
+        countCache.invalidate();
         journalMapper.deleteAll();
     }
 
@@ -100,6 +181,7 @@ public class JournalRepositoryImpl implements JournalRepository {
     @Transactional
     public void update(Journal journal) {
         String voucherNumber = journal.getJournalVoucherNumber();
+        countCache.invalidate();
 
         // 現在のバージョンを取得
         Integer currentVersion = journalMapper.findVersionByVoucherNumber(voucherNumber);
@@ -146,36 +228,61 @@ public class JournalRepositoryImpl implements JournalRepository {
     }
 
     @Override
-    public PageResult<Journal> findWithPagination(int page, int size,
-            LocalDate fromDate, LocalDate toDate, String keyword) {
-        int offset = page * size;
-        List<Journal> content = journalMapper.findWithPagination(offset, size, fromDate, toDate, keyword);
-        long totalElements = journalMapper.count(fromDate, toDate, keyword);
-        return new PageResult<>(content, page, size, totalElements);
+    public List<Journal> findJournalsAfter(JournalSearchCondition condition, JournalCursor after, int limit) {
+        return journalMapper.findJournalsAfter(condition, after, limit);
+    }
+
+    @Override
+    public Optional<JournalCursor> findJournalKeyAt(JournalSearchCondition condition, long offset) {
+        return Optional.ofNullable(journalMapper.findJournalKeyAt(condition, offset));
     }
 
     @Override
-    public PageResult<GeneralLedgerEntry> findGeneralLedgerEntries(
+    public long countJournals(JournalSearchCondition condition) {
+        return countCache.get(condition, journalMapper::countJournals);
+    }
+
+    @Override
+    public List<GeneralLedgerEntry> findGeneralLedgerEntriesAfter(
             String accountCode,
             LocalDate fromDate,
             LocalDate toDate,
-            int page,
-            int size) {
-        int offset = page * size;
-        List<GeneralLedgerEntry> content = journalMapper.findGeneralLedgerEntries(
-                accountCode, fromDate, toDate, offset, size);
-        long totalElements = journalMapper.countGeneralLedgerEntries(accountCode, fromDate, toDate);
-        return new PageResult<>(content, page, size, totalElements);
+            GeneralLedgerCursor after,
+            int limit) {
+        return journalMapper.findGeneralLedgerEntriesAfter(accountCode, fromDate, toDate, after, limit);
     }
 
     @Override
-    public BigDecimal getOpeningBalance(String accountCode, LocalDate beforeDate) {
-        BigDecimal balance = journalMapper.getOpeningBalance(accountCode, beforeDate);
-        return balance != null ? balance : BigDecimal.ZERO;
+    public Optional<GeneralLedgerEntry> findGeneralLedgerKeyAt(
+            String accountCode,
+            LocalDate fromDate,
+            LocalDate toDate,
+            long offset) {
+        return Optional.ofNullable(journalMapper.findGeneralLedgerKeyAt(accountCode, fromDate, toDate, offset));
+    }
+
+    @Override
+    public BigDecimal sumGeneralLedgerAmountThrough(String accountCode, GeneralLedgerCursor through) {
+        return journalMapper.sumGeneralLedgerAmountThrough(accountCode, through);
+    }
+
+    @Override
+    public long countGeneralLedgerEntries(String accountCode, LocalDate fromDate, LocalDate toDate) {
+        return countCache.get(new GeneralLedgerCountKey(accountCode, fromDate, toDate),
+                key -> journalMapper.countGeneralLedgerEntries(key.accountCode(), key.fromDate(), key.toDate()));
     }
 
     @Override
     public long countByPostingDateBetween(LocalDate fromDate, LocalDate toDate) {
         return journalMapper.countByDateRange(fromDate, toDate);
     }
+
+    @Override
+    public List<String> findVoucherNumbersWithoutChangeLog(LocalDateTime since) {
+        return journalMapper.findVoucherNumbersWithoutChangeLog(since);
+    }
+
+    /** 総勘定元帳の件数キャッシュのキー. */
+    private record GeneralLedgerCountKey(String accountCode, LocalDate fromDate, LocalDate toDate) {
+    }
 }
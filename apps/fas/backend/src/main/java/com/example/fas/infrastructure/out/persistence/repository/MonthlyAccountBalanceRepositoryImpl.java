@@ -2,14 +2,23 @@ package com.example.fas.infrastructure.out.persistence.repository;
 
 import com.example.fas.application.port.out.MonthlyAccountBalanceRepository;
 import com.example.fas.domain.exception.OptimisticLockException;
+import com.example.fas.domain.model.balance.AccountCumulativeBalance;
+import com.example.fas.domain.model.balance.ClosingPeriod;
 import com.example.fas.domain.model.balance.MonthlyAccountBalance;
 import com.example.fas.domain.model.balance.TrialBalanceLine;
 import com.example.fas.domain.model.common.PageResult;
 import com.example.fas.infrastructure.out.persistence.mapper.MonthlyAccountBalanceMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +29,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MonthlyAccountBalanceRepositoryImpl implements MonthlyAccountBalanceRepository {
 
+    /** 一括加算で 1 回の SQL に含める行数. */
+    private static final int ADD_CHUNK_SIZE = 1000;
+
     private final MonthlyAccountBalanceMapper mapper;
 
     @Override
@@ -28,6 +40,35 @@ public class MonthlyAccountBalanceRepositoryImpl implements MonthlyAccountBalanc
         mapper.insert(balance);
     }
 
+    @Override
+    @Transactional
+    public void addAmounts(List<MonthlyAccountBalance> balances) {
+        // バインド変数の上限を超えないよう分割する
+        for (int from = 0; from < balances.size(); from += ADD_CHUNK_SIZE) {
+            mapper.addAmounts(balances.subList(from, Math.min(from + ADD_CHUNK_SIZE, balances.size())));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<MonthlyAccountBalance> balances) {
+        for (int from = 0; from < balances.size(); from += ADD_CHUNK_SIZE) {
+            mapper.upsertAll(balances.subList(from, Math.min(from + ADD_CHUNK_SIZE, balances.size())));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachClosingSource(ClosingPeriod period, String fromAccountCode, String toAccountCode,
+            Consumer<MonthlyAccountBalance> action) {
+        try (Cursor<MonthlyAccountBalance> cursor =
+                mapper.streamClosingSources(period, fromAccountCode, toAccountCode)) {
+            cursor.forEach(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public Optional<MonthlyAccountBalance> findByKey(MonthlyAccountBalance.CompositeKey key) {
         return Optional.ofNullable(mapper.findByKey(
@@ -63,6 +104,14 @@ public class MonthlyAccountBalanceRepositoryImpl implements MonthlyAccountBalanc
         return mapper.getTrialBalanceByBSPL(fiscalYear, month, bsplType);
     }
 
+    @Override
+    public List<TrialBalanceLine> getTrialBalanceByPeriods(List<YearMonth> periods, String bsplType) {
+        if (periods.isEmpty()) {
+            return List.of();
+        }
+        return mapper.getTrialBalanceByPeriods(periods, bsplType);
+    }
+
     @Override
     @Transactional
     public int aggregateFromDaily(Integer fiscalYear, Integer month,
@@ -76,6 +125,33 @@ public class MonthlyAccountBalanceRepositoryImpl implements MonthlyAccountBalanc
         return mapper.carryForward(fiscalYear, fromMonth, toMonth);
     }
 
+    @Override
+    public BigDecimal sumNetAmountBetween(String accountCode, ClosingPeriod after, ClosingPeriod before) {
+        BigDecimal amount = mapper.sumNetAmountBetween(accountCode, after, before);
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
+
+    @Override
+    public Optional<AccountCumulativeBalance> findLatestCumulativeBalanceBefore(
+            String accountCode, ClosingPeriod before) {
+        return Optional.ofNullable(mapper.findLatestCumulativeBalanceBefore(accountCode, before));
+    }
+
+    @Override
+    @Transactional
+    public int saveCumulativeBalances(ClosingPeriod period, String fromAccountCode, String toAccountCode) {
+        mapper.deleteCumulativeBalances(period, fromAccountCode, toAccountCode);
+        return mapper.insertCumulativeBalances(period, fromAccountCode, toAccountCode);
+    }
+
+    @Override
+    @Transactional
+    public void deleteCumulativeBalancesFrom(Collection<String> accountCodes, ClosingPeriod from) {
+        if (!accountCodes.isEmpty()) {
+            mapper.deleteCumulativeBalancesFrom(accountCodes, from);
+        }
+    }
+
     @Override
     @Transactional
     public void updateWithOptimisticLock(MonthlyAccountBalance balance) {
@@ -112,6 +188,7 @@ public class MonthlyAccountBalanceRepositoryImpl implements MonthlyAccountBalanc
     @Override
     @Transactional
     public void deleteAll() {
+        mapper.deleteAllCumulativeBalances();
         mapper.deleteAll();
     }
 
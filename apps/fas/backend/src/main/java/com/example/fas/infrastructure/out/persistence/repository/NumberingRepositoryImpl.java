@@ -0,0 +1,32 @@
+package com.example.fas.infrastructure.out.persistence.repository;
+
+import com.example.fas.application.port.out.NumberingRepository;
+import com.example.fas.infrastructure.out.persistence.mapper.NumberingMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 採番リポジトリ実装.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NumberingRepositoryImpl implements NumberingRepository {
+
+    private final NumberingMapper numberingMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveNumbers(String numberingCode, String yearMonth, int count) {
+        // 更新で行ロックを取り、確保後すぐにコミットしてロックを解放する
+        if (numberingMapper.addLastNumber(numberingCode, yearMonth, count) == 0) {
+            numberingMapper.insertHistory(numberingCode, yearMonth, count);
+        }
+        Long lastNumber = numberingMapper.findLastNumber(numberingCode, yearMonth);
+        if (lastNumber == null) {
+            throw new IllegalStateException("採番履歴が見つかりません: " + numberingCode + " " + yearMonth);
+        }
+        return lastNumber;
+    }
+}
@@ -3,5 +3,9 @@
 -- Seed データは SeedDataRunner によりアプリケーション起動時に投入されます
 -- =============================================================================
 
--- ダミー文（Spring SQL init は空スクリプトを許容しないため）
-SELECT 1;
+-- 採番マスタ（仕訳伝票番号: J + yyMM + 月内連番 8 桁、自動仕訳番号: AJ + yyMM + 8 桁、
+-- 自動仕訳処理番号: AP + yyMM + 6 桁）
+INSERT INTO "採番マスタ" ("採番コード", "採番名", "プレフィックス", "採番形式", "桁数") VALUES
+('JOURNAL', '仕訳伝票番号', 'J', 'MONTHLY', 8),
+('AUTO_JOURNAL', '自動仕訳番号', 'AJ', 'MONTHLY', 8),
+('AUTO_JOURNAL_PROCESS', '自動仕訳処理番号', 'AP', 'MONTHLY', 6);
@@ -78,7 +78,7 @@ CREATE INDEX IF NOT EXISTS idx_department_lowest_level ON "部門マスタ" ("
 -- 仕訳ヘッダ (V005)
 -- -----------------------------------------------------------------------------
 CREATE TABLE IF NOT EXISTS "仕訳" (
-    "仕訳伝票番号" VARCHAR(10) PRIMARY KEY,
+    "仕訳伝票番号" VARCHAR(20) PRIMARY KEY,
     "起票日" DATE NOT NULL,
     "入力日" DATE NOT NULL DEFAULT CURRENT_DATE,
     "決算仕訳フラグ" SMALLINT DEFAULT 0 NOT NULL,
@@ -98,12 +98,13 @@ CREATE TABLE IF NOT EXISTS "仕訳" (
 CREATE INDEX IF NOT EXISTS idx_仕訳_起票日 ON "仕訳"("起票日");
 CREATE INDEX IF NOT EXISTS idx_仕訳_部門コード ON "仕訳"("部門コード");
 CREATE INDEX IF NOT EXISTS idx_仕訳_仕訳伝票区分 ON "仕訳"("仕訳伝票区分");
+CREATE INDEX IF NOT EXISTS idx_仕訳_起票日_伝票番号 ON "仕訳"("起票日" DESC, "仕訳伝票番号" DESC);
 
 -- -----------------------------------------------------------------------------
 -- 仕訳明細 (V005)
 -- -----------------------------------------------------------------------------
 CREATE TABLE IF NOT EXISTS "仕訳明細" (
-    "仕訳伝票番号" VARCHAR(10) NOT NULL,
+    "仕訳伝票番号" VARCHAR(20) NOT NULL,
     "仕訳行番号" SMALLINT NOT NULL,
     "行摘要" VARCHAR(1000),
     "作成日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
@@ -117,7 +118,7 @@ CREATE TABLE IF NOT EXISTS "仕訳明細" (
 -- 仕訳貸借明細 (V005)
 -- -----------------------------------------------------------------------------
 CREATE TABLE IF NOT EXISTS "仕訳貸借明細" (
-    "仕訳伝票番号" VARCHAR(10) NOT NULL,
+    "仕訳伝票番号" VARCHAR(20) NOT NULL,
     "仕訳行番号" SMALLINT NOT NULL,
     "仕訳行貸借区分" VARCHAR(2) NOT NULL CHECK ("仕訳行貸借区分" IN ('借方', '貸方')),
     "勘定科目コード" VARCHAR(5) NOT NULL,
@@ -148,6 +149,7 @@ CREATE TABLE IF NOT EXISTS "仕訳貸借明細" (
 
 CREATE INDEX IF NOT EXISTS idx_仕訳貸借明細_勘定科目コード ON "仕訳貸借明細"("勘定科目コード");
 CREATE INDEX IF NOT EXISTS idx_仕訳貸借明細_部門コード ON "仕訳貸借明細"("部門コード");
+CREATE INDEX IF NOT EXISTS idx_仕訳貸借明細_勘定科目_伝票番号 ON "仕訳貸借明細"("勘定科目コード", "仕訳伝票番号");
 
 -- -----------------------------------------------------------------------------
 -- 自動仕訳パターンマスタ (V007)
@@ -184,7 +186,7 @@ CREATE INDEX IF NOT EXISTS idx_自動仕訳パターン_優先順位 ON "自動
 -- -----------------------------------------------------------------------------
 CREATE TABLE IF NOT EXISTS "自動仕訳データ" (
     "自動仕訳番号" VARCHAR(15) PRIMARY KEY,
-    "売上番号" VARCHAR(10) NOT NULL,
+    "売上番号" VARCHAR(20) NOT NULL,
     "売上行番号" SMALLINT NOT NULL,
     "パターンコード" VARCHAR(10) NOT NULL,
     "起票日" DATE NOT NULL,
@@ -197,7 +199,7 @@ CREATE TABLE IF NOT EXISTS "自動仕訳データ" (
     "処理ステータス" VARCHAR(10) DEFAULT '処理待ち' NOT NULL CHECK ("処理ステータス" IN ('処理待ち', '処理中', '処理完了', '転記済', 'エラー')),
     "転記済フラグ" SMALLINT DEFAULT 0,
     "転記日" DATE,
-    "仕訳伝票番号" VARCHAR(10),
+    "仕訳伝票番号" VARCHAR(20),
     "エラーコード" VARCHAR(10),
     "エラーメッセージ" VARCHAR(200),
     "バージョン" INTEGER DEFAULT 1 NOT NULL,
@@ -242,6 +244,7 @@ CREATE TABLE IF NOT EXISTS "日次勘定科目残高" (
     "決算仕訳フラグ" SMALLINT NOT NULL DEFAULT 0,
     "借方金額" DECIMAL(15, 0) NOT NULL DEFAULT 0,
     "貸方金額" DECIMAL(15, 0) NOT NULL DEFAULT 0,
+    "明細件数" INTEGER NOT NULL DEFAULT 0,
     "バージョン" INTEGER NOT NULL DEFAULT 1,
     "作成日時" TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     "更新日時" TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
@@ -279,6 +282,20 @@ CREATE TABLE IF NOT EXISTS "月次勘定科目残高" (
 CREATE INDEX IF NOT EXISTS idx_月次残高_決算期月度 ON "月次勘定科目残高"("決算期", "月度");
 CREATE INDEX IF NOT EXISTS idx_月次残高_勘定科目 ON "月次勘定科目残高"("勘定科目コード");
 
+-- -----------------------------------------------------------------------------
+-- 勘定科目累計残高 (V017)
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS "勘定科目累計残高" (
+    "決算期" INTEGER NOT NULL,
+    "月度" SMALLINT NOT NULL,
+    "勘定科目コード" VARCHAR(5) NOT NULL,
+    "累計残高" DECIMAL(15, 0) NOT NULL DEFAULT 0,
+    "作成日時" TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY ("勘定科目コード", "決算期", "月度"),
+    FOREIGN KEY ("勘定科目コード") REFERENCES "勘定科目マスタ"("勘定科目コード"),
+    CHECK ("月度" BETWEEN 1 AND 12)
+);
+
 -- -----------------------------------------------------------------------------
 -- 変更ログ (V010) - H2 用簡略版（トリガーは省略）
 -- -----------------------------------------------------------------------------
@@ -300,3 +317,37 @@ CREATE INDEX IF NOT EXISTS idx_変更ログ_レコードキー ON "変更ログ"
 CREATE INDEX IF NOT EXISTS idx_変更ログ_操作日時 ON "変更ログ"("操作日時");
 CREATE INDEX IF NOT EXISTS idx_変更ログ_操作種別 ON "変更ログ"("操作種別");
 CREATE INDEX IF NOT EXISTS idx_変更ログ_操作者 ON "変更ログ"("操作者");
+
+-- -----------------------------------------------------------------------------
+-- 変更ログ補完位置 (V018)
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS "変更ログ補完位置" (
+    "テーブル名" VARCHAR(50) PRIMARY KEY,
+    "補完済日時" TIMESTAMP NOT NULL,
+    "更新日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_仕訳_作成日時 ON "仕訳"("作成日時");
+
+-- -----------------------------------------------------------------------------
+-- 採番マスタ・採番履歴データ (V012)
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS "採番マスタ" (
+    "採番コード" VARCHAR(20) PRIMARY KEY,
+    "採番名" VARCHAR(100) NOT NULL,
+    "プレフィックス" VARCHAR(10) NOT NULL,
+    "採番形式" VARCHAR(20) NOT NULL,
+    "桁数" INTEGER NOT NULL,
+    "作成日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    "更新日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS "採番履歴データ" (
+    "ID" INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    "採番コード" VARCHAR(20) NOT NULL REFERENCES "採番マスタ"("採番コード"),
+    "採番年月" VARCHAR(8) NOT NULL,
+    "最終番号" BIGINT NOT NULL,
+    "作成日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    "更新日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    UNIQUE ("採番コード", "採番年月")
+);
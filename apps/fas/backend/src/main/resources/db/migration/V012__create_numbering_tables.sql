@@ -0,0 +1,36 @@
+-- 採番テーブル
+-- 伝票番号の連番をブロック単位で確保する
+
+CREATE TABLE "採番マスタ" (
+    "採番コード" VARCHAR(20) PRIMARY KEY,
+    "採番名" VARCHAR(100) NOT NULL,
+    "プレフィックス" VARCHAR(10) NOT NULL,
+    "採番形式" VARCHAR(20) NOT NULL,
+    "桁数" INTEGER NOT NULL,
+    "作成日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    "更新日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE TABLE "採番履歴データ" (
+    "ID" SERIAL PRIMARY KEY,
+    "採番コード" VARCHAR(20) NOT NULL REFERENCES "採番マスタ"("採番コード"),
+    "採番年月" VARCHAR(8) NOT NULL,
+    "最終番号" BIGINT NOT NULL,
+    "作成日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    "更新日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    UNIQUE ("採番コード", "採番年月")
+);
+
+COMMENT ON TABLE "採番マスタ" IS '伝票番号の採番ルールを管理するマスタテーブル';
+COMMENT ON TABLE "採番履歴データ" IS '期間別の採番状況を記録するテーブル';
+COMMENT ON COLUMN "採番履歴データ"."採番年月" IS '連番を区切る期間（仕訳伝票番号は yyMM）';
+COMMENT ON COLUMN "採番履歴データ"."最終番号" IS '確保済みの最大番号（未使用分は欠番になる）';
+
+-- 仕訳伝票番号: J + yyMM + 月内連番 4 桁
+INSERT INTO "採番マスタ" ("採番コード", "採番名", "プレフィックス", "採番形式", "桁数") VALUES
+('JOURNAL', '仕訳伝票番号', 'J', 'MONTHLY', 4);
+
+-- 既存仕訳の月別最終番号を取り込む
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'JOURNAL', SUBSTRING("仕訳伝票番号" FROM 2 FOR 4), MAX(CAST(SUBSTRING("仕訳伝票番号" FROM 6 FOR 4) AS BIGINT))
+FROM "仕訳" WHERE "仕訳伝票番号" ~ '^J[0-9]{8}$' GROUP BY 2;
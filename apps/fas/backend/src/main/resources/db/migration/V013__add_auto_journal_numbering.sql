@@ -0,0 +1,8 @@
+-- 自動仕訳の採番コード
+-- 売上データの一括仕訳で使う番号を採番マスタで払い出す
+
+-- 自動仕訳番号: AJ + yyMM + 月内連番 8 桁
+-- 自動仕訳処理番号: AP + yyMM + 月内連番 6 桁
+INSERT INTO "採番マスタ" ("採番コード", "採番名", "プレフィックス", "採番形式", "桁数") VALUES
+('AUTO_JOURNAL', '自動仕訳番号', 'AJ', 'MONTHLY', 8),
+('AUTO_JOURNAL_PROCESS', '自動仕訳処理番号', 'AP', 'MONTHLY', 6);
@@ -0,0 +1,13 @@
+-- 仕訳一覧検索用のインデックス
+-- キーワード検索は行摘要の部分一致を含むため、トライグラム索引で絞り込む
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 行摘要の部分一致（LIKE '%キーワード%'）
+CREATE INDEX "idx_仕訳明細_行摘要_trgm" ON "仕訳明細" USING gin ("行摘要" gin_trgm_ops);
+
+-- 一覧の並び順（起票日, 仕訳伝票番号 の降順）でのキーセット読み出し
+CREATE INDEX "idx_仕訳_起票日_伝票番号" ON "仕訳"("起票日" DESC, "仕訳伝票番号" DESC);
+
+-- 勘定科目コードでの絞り込み（伝票番号まで索引で引く）
+CREATE INDEX "idx_仕訳貸借明細_勘定科目_伝票番号" ON "仕訳貸借明細"("勘定科目コード", "仕訳伝票番号");
@@ -0,0 +1,10 @@
+-- 仕訳伝票番号の桁拡張
+-- 月内連番を 8 桁にする（J + yyMM + 月内連番 8 桁、赤伝は末尾に R を付けて 14 文字）
+-- 既存の 4 桁の番号はそのまま残し、採番履歴データの最終番号から続けて払い出す
+
+ALTER TABLE "仕訳貸借明細" ALTER COLUMN "仕訳伝票番号" TYPE VARCHAR(20);
+ALTER TABLE "仕訳明細" ALTER COLUMN "仕訳伝票番号" TYPE VARCHAR(20);
+ALTER TABLE "仕訳" ALTER COLUMN "仕訳伝票番号" TYPE VARCHAR(20);
+ALTER TABLE "自動仕訳データ" ALTER COLUMN "仕訳伝票番号" TYPE VARCHAR(20);
+
+UPDATE "採番マスタ" SET "桁数" = 8, "更新日時" = CURRENT_TIMESTAMP WHERE "採番コード" = 'JOURNAL';
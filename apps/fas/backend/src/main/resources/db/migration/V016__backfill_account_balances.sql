@@ -0,0 +1,64 @@
+-- 勘定科目残高の再集計
+-- 日次・月次勘定科目残高は仕訳の登録時に転記されるため、転記を始める前に登録済みの仕訳を
+-- 仕訳貸借明細から集計して取り込む（AccountBalancePoster と同じ集計キー・既定値を使う）
+-- 仕訳から集計できるキーは集計結果で置き換え、それ以外の行は変更しない
+
+CREATE TEMPORARY TABLE "仕訳残高集計" ON COMMIT DROP AS
+SELECT
+    j."起票日",
+    dc."勘定科目コード",
+    COALESCE(NULLIF(dc."補助科目コード", ''), '') AS "補助科目コード",
+    COALESCE(NULLIF(dc."部門コード", ''), '00000') AS "部門コード",
+    COALESCE(NULLIF(dc."プロジェクトコード", ''), '') AS "プロジェクトコード",
+    CASE WHEN j."決算仕訳フラグ" = 1 THEN 1 ELSE 0 END AS "決算仕訳フラグ",
+    SUM(CASE WHEN dc."仕訳行貸借区分"::TEXT = '借方' THEN dc."仕訳金額" ELSE 0 END) AS "借方金額",
+    SUM(CASE WHEN dc."仕訳行貸借区分"::TEXT = '貸方' THEN dc."仕訳金額" ELSE 0 END) AS "貸方金額"
+FROM "仕訳貸借明細" dc
+JOIN "仕訳" j ON dc."仕訳伝票番号" = j."仕訳伝票番号"
+GROUP BY 1, 2, 3, 4, 5, 6;
+
+INSERT INTO "日次勘定科目残高" (
+    "起票日", "勘定科目コード", "補助科目コード",
+    "部門コード", "プロジェクトコード", "決算仕訳フラグ",
+    "借方金額", "貸方金額"
+)
+SELECT
+    "起票日", "勘定科目コード", "補助科目コード",
+    "部門コード", "プロジェクトコード", "決算仕訳フラグ",
+    "借方金額", "貸方金額"
+FROM "仕訳残高集計"
+ON CONFLICT (
+    "起票日", "勘定科目コード", "補助科目コード",
+    "部門コード", "プロジェクトコード", "決算仕訳フラグ"
+)
+DO UPDATE SET
+    "借方金額" = EXCLUDED."借方金額",
+    "貸方金額" = EXCLUDED."貸方金額",
+    "更新日時" = CURRENT_TIMESTAMP,
+    "バージョン" = "日次勘定科目残高"."バージョン" + 1;
+
+-- 月次は決算期・月度を起票日の年・月とし、月末残高は月初残高 + 借方金額 − 貸方金額とする
+-- （月初残高の引き継ぎは月次締めで行う）
+INSERT INTO "月次勘定科目残高" (
+    "決算期", "月度", "勘定科目コード", "補助科目コード",
+    "部門コード", "プロジェクトコード", "決算仕訳フラグ",
+    "月初残高", "借方金額", "貸方金額", "月末残高"
+)
+SELECT
+    EXTRACT(YEAR FROM "起票日")::INTEGER,
+    EXTRACT(MONTH FROM "起票日")::SMALLINT,
+    "勘定科目コード", "補助科目コード",
+    "部門コード", "プロジェクトコード", "決算仕訳フラグ",
+    0, SUM("借方金額"), SUM("貸方金額"), SUM("借方金額") - SUM("貸方金額")
+FROM "仕訳残高集計"
+GROUP BY 1, 2, 3, 4, 5, 6, 7
+ON CONFLICT (
+    "決算期", "月度", "勘定科目コード", "補助科目コード",
+    "部門コード", "プロジェクトコード", "決算仕訳フラグ"
+)
+DO UPDATE SET
+    "借方金額" = EXCLUDED."借方金額",
+    "貸方金額" = EXCLUDED."貸方金額",
+    "月末残高" = "月次勘定科目残高"."月初残高" + EXCLUDED."借方金額" - EXCLUDED."貸方金額",
+    "更新日時" = CURRENT_TIMESTAMP,
+    "バージョン" = "月次勘定科目残高"."バージョン" + 1;
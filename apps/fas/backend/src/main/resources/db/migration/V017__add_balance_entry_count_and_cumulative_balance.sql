@@ -0,0 +1,45 @@
+-- 総勘定元帳の位置決め用の列・テーブル
+-- 日次勘定科目残高に仕訳貸借明細の行数を持たせ、ページ番号での移動を日単位で位置決めする
+-- 月次締めのたびに勘定科目ごとの累計残高を記録し、期首残高を直近の締め月から求める
+
+ALTER TABLE "日次勘定科目残高" ADD COLUMN "明細件数" INTEGER NOT NULL DEFAULT 0;
+
+UPDATE "日次勘定科目残高" d
+SET "明細件数" = c."明細件数"
+FROM (
+    SELECT
+        j."起票日",
+        dc."勘定科目コード",
+        COALESCE(NULLIF(dc."補助科目コード", ''), '') AS "補助科目コード",
+        COALESCE(NULLIF(dc."部門コード", ''), '00000') AS "部門コード",
+        COALESCE(NULLIF(dc."プロジェクトコード", ''), '') AS "プロジェクトコード",
+        CASE WHEN j."決算仕訳フラグ" = 1 THEN 1 ELSE 0 END AS "決算仕訳フラグ",
+        COUNT(*) AS "明細件数"
+    FROM "仕訳貸借明細" dc
+    JOIN "仕訳" j ON dc."仕訳伝票番号" = j."仕訳伝票番号"
+    GROUP BY 1, 2, 3, 4, 5, 6
+) c
+WHERE d."起票日" = c."起票日"
+  AND d."勘定科目コード" = c."勘定科目コード"
+  AND d."補助科目コード" = c."補助科目コード"
+  AND d."部門コード" = c."部門コード"
+  AND d."プロジェクトコード" = c."プロジェクトコード"
+  AND d."決算仕訳フラグ" = c."決算仕訳フラグ";
+
+COMMENT ON COLUMN "日次勘定科目残高"."明細件数" IS '集計した仕訳貸借明細の行数';
+
+-- 勘定科目累計残高テーブル
+CREATE TABLE "勘定科目累計残高" (
+    "決算期"               INTEGER NOT NULL,
+    "月度"                 SMALLINT NOT NULL,
+    "勘定科目コード"        VARCHAR(5) NOT NULL,
+    "累計残高"             DECIMAL(15, 0) NOT NULL DEFAULT 0,
+    "作成日時"             TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY ("勘定科目コード", "決算期", "月度"),
+    CONSTRAINT "fk_累計残高_勘定科目"
+        FOREIGN KEY ("勘定科目コード") REFERENCES "勘定科目マスタ"("勘定科目コード"),
+    CONSTRAINT "chk_累計残高_月度" CHECK ("月度" BETWEEN 1 AND 12)
+);
+
+COMMENT ON TABLE "勘定科目累計残高" IS '月次締め時点の勘定科目ごとの借方−貸方の累計（損益科目も期首で繰り越しをやめない）';
+COMMENT ON COLUMN "勘定科目累計残高"."累計残高" IS '最初の仕訳から締め月の月末までの借方金額−貸方金額';
@@ -0,0 +1,17 @@
+-- 変更ログ補完位置
+-- 変更ログはコミット後に非同期で書き込むため、書き込みに失敗した仕訳の登録ログは起動時に仕訳から補完する。
+-- どこまで補完したかを保持し、次の起動では前回の補完位置以降に作成された仕訳だけを確認する
+
+CREATE TABLE "変更ログ補完位置" (
+    "テーブル名"   VARCHAR(50) PRIMARY KEY,
+    "補完済日時"   TIMESTAMP NOT NULL,
+    "更新日時"     TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- 補完対象の仕訳を作成日時で絞り込む
+CREATE INDEX "idx_仕訳_作成日時" ON "仕訳"("作成日時");
+
+COMMENT ON TABLE "変更ログ補完位置" IS '変更ログを仕訳から補完済みの位置';
+COMMENT ON COLUMN "変更ログ補完位置"."テーブル名" IS '補完対象のテーブル名';
+COMMENT ON COLUMN "変更ログ補完位置"."補完済日時" IS 'この日時より前に作成されたレコードは変更ログを確認済み';
+COMMENT ON COLUMN "変更ログ補完位置"."更新日時" IS '更新日時';
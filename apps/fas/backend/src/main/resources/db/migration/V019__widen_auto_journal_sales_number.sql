@@ -0,0 +1,4 @@
+-- 自動仕訳データの売上番号の桁拡張
+-- 販売管理の売上番号（SLS-yyyyMMdd-連番 4 桁の 17 文字）をそのまま登録できるよう、販売管理の売上データと同じ 20 桁にする
+
+ALTER TABLE "自動仕訳データ" ALTER COLUMN "売上番号" TYPE VARCHAR(20);
@@ -0,0 +1,11 @@
+-- 採番履歴データの仕訳伝票番号の取り込みを取り消す
+-- V012 は既存の仕訳伝票番号のうち J + 数字 8 桁を J + yyMM + 月内連番 4 桁とみなして月別の最終番号を取り込んだが、
+-- 採番導入前の番号は J + UUID 先頭 8 桁（16 進）で、数字だけになったものも年月・連番ではない
+-- V015 以降の採番結果（J + yyMM + 月内連番 8 桁の 13 文字）は旧形式の 9 文字の番号と重ならないため、取り込みは不要
+-- その期間の番号をまだ払い出していない（採番形式の仕訳がない）行だけを削除し、払い出し済みの連番は巻き戻さない
+
+DELETE FROM "採番履歴データ" h
+WHERE h."採番コード" = 'JOURNAL'
+  AND NOT EXISTS (
+      SELECT 1 FROM "仕訳" j
+      WHERE j."仕訳伝票番号" ~ ('^J' || h."採番年月" || '[0-9]{8}R?$'));
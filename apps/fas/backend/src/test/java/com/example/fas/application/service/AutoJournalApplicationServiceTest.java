@@ -0,0 +1,159 @@
+package com.example.fas.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.fas.application.port.out.AutoJournalRepository;
+import com.example.fas.application.port.out.JournalRepository;
+import com.example.fas.domain.model.account.DebitCreditType;
+import com.example.fas.domain.model.autojournal.AutoJournalEntry;
+import com.example.fas.domain.model.autojournal.AutoJournalHistory;
+import com.example.fas.domain.model.autojournal.AutoJournalPattern;
+import com.example.fas.domain.model.autojournal.AutoJournalSalesLine;
+import com.example.fas.domain.model.journal.Journal;
+import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * AutoJournalApplicationService のユニットテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("自動仕訳アプリケーションサービス")
+class AutoJournalApplicationServiceTest {
+
+    @Mock
+    private AutoJournalRepository autoJournalRepository;
+
+    @Mock
+    private JournalRepository journalRepository;
+
+    @Mock
+    private DocumentNumberAllocator documentNumberAllocator;
+
+    @Mock
+    private AccountBalancePoster accountBalancePoster;
+
+    @InjectMocks
+    private AutoJournalApplicationService autoJournalApplicationService;
+
+    @BeforeEach
+    void setUp() {
+        when(autoJournalRepository.findAllPatterns()).thenReturn(List.of(
+                AutoJournalPattern.builder()
+                        .patternCode("P001").productGroup("ALL").customerGroup("ALL").salesType("01")
+                        .debitAccountCode("11300").creditAccountCode("41100")
+                        .returnDebitAccountCode("41190").returnCreditAccountCode("11300")
+                        .validFrom(LocalDate.of(2025, 1, 1)).validTo(LocalDate.of(9999, 12, 31))
+                        .priority(100).build(),
+                AutoJournalPattern.builder()
+                        .patternCode("P002").productGroup("FOOD").customerGroup("ALL").salesType("01")
+                        .debitAccountCode("11300").creditAccountCode("41110")
+                        .validFrom(LocalDate.of(2025, 1, 1)).validTo(LocalDate.of(9999, 12, 31))
+                        .priority(10).build()));
+        when(documentNumberAllocator.nextAutoJournalNumbers(any(), anyInt())).thenAnswer(invocation ->
+                IntStream.rangeClosed(1, invocation.<Integer>getArgument(1))
+                        .mapToObj(i -> String.format("AJ2504%08d", i)).toList());
+        when(documentNumberAllocator.nextJournalVoucherNumber(any())).thenReturn("J25040001", "J25040002");
+        when(documentNumberAllocator.nextAutoJournalProcessNumber(any())).thenReturn("AP2504000001");
+    }
+
+    private static AutoJournalSalesLine line(String salesNumber, String productGroup, int day, boolean returned) {
+        return AutoJournalSalesLine.builder()
+                .salesNumber(salesNumber)
+                .salesLineNumber(1)
+                .salesDate(LocalDate.of(2025, 4, day))
+                .productGroup(productGroup)
+                .customerGroup("RETAIL")
+                .salesType("01")
+                .amount(new BigDecimal("1000"))
+                .taxAmount(new BigDecimal("100"))
+                .departmentCode("10000")
+                .returned(returned)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Journal> savedJournals() {
+        ArgumentCaptor<List<Journal>> captor = ArgumentCaptor.forClass(List.class);
+        verify(journalRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AutoJournalEntry> savedEntries() {
+        ArgumentCaptor<List<AutoJournalEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(autoJournalRepository).saveEntries(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("起票日ごとに 1 伝票へまとめ、明細ごとに借方・貸方の自動仕訳を作る")
+    void shouldGroupLinesIntoJournalPerPostingDate() {
+        AutoJournalHistory history = autoJournalApplicationService.generateEntries(List.of(
+                line("S0001", "FOOD", 1, false), line("S0002", "DRINK", 1, false),
+                line("S0003", "FOOD", 2, false)), "batch");
+
+        List<Journal> journals = savedJournals();
+        assertThat(journals).extracting(Journal::getPostingDate)
+                .containsExactly(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 2));
+        assertThat(journals.get(0).getDetails()).hasSize(2);
+        assertThat(journals.get(0).getDetails().get(1).getDebitCreditDetails())
+                .extracting(JournalDebitCreditDetail::getAccountCode).containsExactly("11300", "41100");
+        verify(accountBalancePoster).post(journals);
+
+        List<AutoJournalEntry> entries = savedEntries();
+        assertThat(entries).hasSize(6);
+        assertThat(entries.get(1).getPatternCode()).isEqualTo("P002");
+        assertThat(entries.get(1).getAccountCode()).isEqualTo("41110");
+        assertThat(entries.get(5).getJournalVoucherNumber()).isEqualTo("J25040002");
+
+        assertThat(history.getProcessNumber()).isEqualTo("AP2504000001");
+        assertThat(history.getSuccessCount()).isEqualTo(3);
+        assertThat(history.getTotalAmount()).isEqualByComparingTo("3000");
+        verify(autoJournalRepository).saveHistory(history);
+    }
+
+    @Test
+    @DisplayName("返品は返品用の勘定科目で仕訳する")
+    void shouldUseReturnAccountsForReturnedLine() {
+        autoJournalApplicationService.generateEntries(List.of(line("S0001", "DRINK", 1, true)), "batch");
+
+        assertThat(savedEntries()).extracting(AutoJournalEntry::getDebitCreditType, AutoJournalEntry::getAccountCode)
+                .containsExactly(
+                        tuple(DebitCreditType.DEBIT, "41190"),
+                        tuple(DebitCreditType.CREDIT, "11300"));
+    }
+
+    @Test
+    @DisplayName("パターンが見つからない明細はエラー件数に数え、備考に記録する")
+    void shouldCountUnmatchedLinesAsErrors() {
+        AutoJournalSalesLine unmatched = AutoJournalSalesLine.builder()
+                .salesNumber("S0009").salesLineNumber(2).salesDate(LocalDate.of(2024, 12, 31))
+                .productGroup("FOOD").customerGroup("RETAIL").salesType("01")
+                .amount(new BigDecimal("500")).build();
+
+        AutoJournalHistory history = autoJournalApplicationService.generateEntries(
+                List.of(line("S0001", "FOOD", 1, false), unmatched), "batch");
+
+        assertThat(history.getTotalCount()).isEqualTo(2);
+        assertThat(history.getErrorCount()).isEqualTo(1);
+        assertThat(history.getRemarks()).contains("S0009-2");
+        assertThat(history.getTargetFromDate()).isEqualTo(LocalDate.of(2024, 12, 31));
+        assertThat(savedEntries()).hasSize(2);
+    }
+}
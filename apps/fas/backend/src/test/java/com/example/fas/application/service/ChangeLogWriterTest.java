@@ -0,0 +1,155 @@
+package com.example.fas.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.example.fas.application.port.out.ChangeLogRepository;
+import com.example.fas.domain.model.audit.ChangeLog;
+import com.example.fas.domain.model.audit.ChangeLog.OperationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ChangeLogWriter のユニットテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("変更ログの非同期書き込み")
+@SuppressWarnings("PMD.TooManyStaticImports")
+class ChangeLogWriterTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ChangeLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new ChangeLogWriter(changeLogRepository, meterRegistry, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+        TransactionSynchronizationManager.clear();
+    }
+
+    private static ChangeLog changeLog(String recordKey) {
+        return ChangeLog.builder()
+                .tableName("仕訳")
+                .recordKey(recordKey)
+                .operationType(OperationType.INSERT)
+                .build();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Test
+    @DisplayName("記録した変更ログをバックグラウンドでまとめて書き込む")
+    void shouldWriteRecordedLogsInBackground() {
+        writer.start();
+
+        writer.record(changeLog("J0001"));
+        writer.record(changeLog("J0002"));
+
+        verify(changeLogRepository, timeout(5_000).atLeastOnce()).saveAll(anyList());
+        writer.stop();
+        assertThat(counter("fas.change-log.written")).isEqualTo(2);
+        assertThat(counter("fas.change-log.overflow")).isZero();
+    }
+
+    @Test
+    @DisplayName("バッファが一杯の場合は呼び出し元で書き込む")
+    void shouldWriteSynchronouslyWhenBufferIsFull() throws InterruptedException {
+        // 書き込みスレッドを 1 回目の書き込みで止めてバッファを一杯にする
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<ChangeLog> logs = invocation.getArgument(0);
+            synchronized (written) {
+                logs.forEach(log -> written.add(log.getRecordKey()));
+            }
+            if (Thread.currentThread().isVirtual()) {
+                blocked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(changeLogRepository).saveAll(anyList());
+        writer.start();
+
+        writer.record(changeLog("J0001"));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.record(changeLog("J0002"));
+        writer.record(changeLog("J0003"));
+        writer.record(changeLog("J0004"));
+        release.countDown();
+        writer.stop();
+
+        assertThat(written).containsExactlyInAnyOrder("J0001", "J0002", "J0003", "J0004");
+        assertThat(counter("fas.change-log.overflow")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("一括登録に失敗したバッチは捨てずに書き直す")
+    void shouldRetryFailedBatch() {
+        doThrow(new DataAccessResourceFailureException("接続断"))
+                .doNothing()
+                .when(changeLogRepository).saveAll(anyList());
+        writer.start();
+
+        writer.record(changeLog("J0001"));
+
+        verify(changeLogRepository, timeout(5_000).times(2)).saveAll(anyList());
+        writer.stop();
+        assertThat(counter("fas.change-log.retried")).isEqualTo(1);
+        assertThat(counter("fas.change-log.written")).isEqualTo(1);
+        assertThat(counter("fas.change-log.failed")).isZero();
+    }
+
+    @Test
+    @DisplayName("トランザクション中の変更ログはコミットするまで積まない")
+    void shouldEnqueueAfterCommit() {
+        writer.start();
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.record(changeLog("J0001"));
+        verify(changeLogRepository, never()).saveAll(anyList());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        writer.stop();
+
+        assertThat(counter("fas.change-log.written")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("停止中に記録した変更ログはそのまま書き込む")
+    void shouldWriteSynchronouslyWhenStopped() {
+        writer.record(changeLog("J0001"));
+
+        verify(changeLogRepository).saveAll(anyList());
+        assertThat(counter("fas.change-log.overflow")).isEqualTo(1);
+    }
+}
@@ -3,6 +3,10 @@ package com.example.fas.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,13 +14,18 @@ import com.example.fas.application.port.in.command.CreateJournalCommand;
 import com.example.fas.application.port.in.command.CreateJournalCommand.DebitCreditCommand;
 import com.example.fas.application.port.in.command.CreateJournalCommand.JournalDetailCommand;
 import com.example.fas.application.port.in.dto.JournalResponse;
+import com.example.fas.application.port.out.ChangeLogRepository;
 import com.example.fas.application.port.out.JournalRepository;
 import com.example.fas.domain.exception.JournalBalanceException;
 import com.example.fas.domain.exception.JournalNotFoundException;
 import com.example.fas.domain.model.account.DebitCreditType;
+import com.example.fas.domain.model.audit.ChangeLog;
+import com.example.fas.domain.model.audit.ChangeLog.OperationType;
 import com.example.fas.domain.model.journal.Journal;
+import com.example.fas.domain.model.journal.JournalCursor;
 import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
 import com.example.fas.domain.model.journal.JournalDetail;
+import com.example.fas.domain.model.journal.JournalSearchCondition;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -26,6 +35,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -41,6 +51,18 @@ class JournalApplicationServiceTest {
     @Mock
     private JournalRepository journalRepository;
 
+    @Mock
+    private DocumentNumberAllocator documentNumberAllocator;
+
+    @Mock
+    private AccountBalancePoster accountBalancePoster;
+
+    @Mock
+    private ChangeLogWriter changeLogWriter;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
     @InjectMocks
     private JournalApplicationService journalApplicationService;
 
@@ -135,6 +157,62 @@ class JournalApplicationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getJournals")
+    class GetJournalsTest {
+
+        private final JournalSearchCondition condition = JournalSearchCondition.of(null, null, "テスト", null);
+
+        @Test
+        @DisplayName("ページ番号から位置を求めてキーセットで読み出す")
+        void seeksPageStartByPageNumber() {
+            // Given
+            JournalCursor key = JournalCursor.after(LocalDate.of(2025, 1, 2), "J00002");
+            when(journalRepository.findJournalKeyAt(condition, 19)).thenReturn(Optional.of(key));
+            when(journalRepository.findJournalsAfter(condition, key, 20)).thenReturn(List.of(testJournal));
+            when(journalRepository.countJournals(condition)).thenReturn(21L);
+
+            // When
+            var page = journalApplicationService.getJournals(1, 20, condition, null);
+
+            // Then
+            assertThat(page.getContent()).extracting(JournalResponse::getJournalVoucherNumber)
+                    .containsExactly("J00001");
+            assertThat(page.getTotalElements()).isEqualTo(21);
+        }
+
+        @Test
+        @DisplayName("カーソルを渡すと位置の探索を省いて続きを読み出す")
+        void readsAfterGivenCursor() {
+            // Given
+            JournalCursor after = JournalCursor.after(LocalDate.of(2025, 1, 2), "J00002");
+            when(journalRepository.findJournalsAfter(condition, after, 20)).thenReturn(List.of(testJournal));
+            when(journalRepository.countJournals(condition)).thenReturn(21L);
+
+            // When
+            var page = journalApplicationService.getJournals(1, 20, condition, after);
+
+            // Then
+            assertThat(page.getContent()).hasSize(1);
+            verify(journalRepository, never()).findJournalKeyAt(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("範囲外のページは空で返す")
+        void returnsEmptyPageOutOfRange() {
+            // Given
+            when(journalRepository.findJournalKeyAt(condition, 99)).thenReturn(Optional.empty());
+            when(journalRepository.countJournals(condition)).thenReturn(3L);
+
+            // When
+            var page = journalApplicationService.getJournals(5, 20, condition, null);
+
+            // Then
+            assertThat(page.getContent()).isEmpty();
+            assertThat(page.getTotalElements()).isEqualTo(3);
+        }
+    }
+
     @Nested
     @DisplayName("createJournal")
     class CreateJournalTest {
@@ -160,15 +238,25 @@ class JournalApplicationServiceTest {
                             )
                     ))
             );
+            when(documentNumberAllocator.nextJournalVoucherNumber(any(LocalDate.class)))
+                    .thenReturn("J25010001");
 
             // When
             JournalResponse response = journalApplicationService.createJournal(command);
 
             // Then
+            assertThat(response.getJournalVoucherNumber()).isEqualTo("J25010001");
             assertThat(response.getPostingDate()).isEqualTo(LocalDate.of(2025, 1, 1));
             assertThat(response.getDebitTotal()).isEqualByComparingTo(new BigDecimal("10000"));
             assertThat(response.getCreditTotal()).isEqualByComparingTo(new BigDecimal("10000"));
             verify(journalRepository).save(any(Journal.class));
+            verify(accountBalancePoster).post(anyList());
+
+            ArgumentCaptor<ChangeLog> changeLog = ArgumentCaptor.forClass(ChangeLog.class);
+            verify(changeLogWriter).record(changeLog.capture());
+            assertThat(changeLog.getValue().getRecordKey()).isEqualTo("J25010001");
+            assertThat(changeLog.getValue().getOperationType()).isEqualTo(OperationType.INSERT);
+            assertThat(changeLog.getValue().getAfterData()).contains("\"借方合計\":10000");
         }
 
         @Test
@@ -215,6 +303,9 @@ class JournalApplicationServiceTest {
 
             // Then
             verify(journalRepository).delete("J00001");
+            verify(accountBalancePoster).unpost(testJournal);
+            verify(changeLogRepository).save(argThat(log ->
+                    log.getOperationType() == OperationType.DELETE && "J00001".equals(log.getRecordKey())));
         }
 
         @Test
@@ -0,0 +1,108 @@
+package com.example.fas.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.fas.application.port.out.ChangeLogRepository;
+import com.example.fas.application.port.out.JournalRepository;
+import com.example.fas.domain.model.audit.ChangeLog;
+import com.example.fas.domain.model.journal.Journal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * JournalChangeLogRecovery のユニットテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳の変更ログの補完")
+@SuppressWarnings("PMD.TooManyStaticImports")
+class JournalChangeLogRecoveryTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private JournalRepository journalRepository;
+
+    @InjectMocks
+    private JournalChangeLogRecovery recovery;
+
+    @Test
+    @DisplayName("前回の補完位置以降の、ログのない仕訳を補完して補完位置を進める")
+    @SuppressWarnings("unchecked")
+    void shouldRecoverJournalsSinceRecoveredPosition() {
+        // Given: 最後の仕訳ログより前に書き込みに失敗した仕訳も補完位置から拾う
+        when(changeLogRepository.findRecoveredUntil("仕訳"))
+                .thenReturn(Optional.of(LocalDateTime.of(2025, 3, 1, 0, 0)));
+        when(journalRepository.findVoucherNumbersWithoutChangeLog(LocalDateTime.of(2025, 3, 1, 0, 0)))
+                .thenReturn(List.of("J25030001"));
+        when(journalRepository.findByVoucherNumbers(List.of("J25030001"))).thenReturn(List.of(
+                Journal.builder().journalVoucherNumber("J25030001").postingDate(LocalDate.of(2025, 3, 1)).build()));
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        // When
+        int recovered = recovery.recover();
+
+        // Then
+        assertThat(recovered).isEqualTo(1);
+        ArgumentCaptor<List<ChangeLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(log -> {
+            assertThat(log.getRecordKey()).isEqualTo("J25030001");
+            assertThat(log.getRemarks()).isEqualTo(JournalChangeLogRecovery.RECOVERED_REMARKS);
+        });
+        verify(changeLogRepository, never()).findLatestOperatedAt(any());
+        ArgumentCaptor<LocalDateTime> next = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(changeLogRepository).saveRecoveredUntil(eq("仕訳"), next.capture());
+        assertThat(next.getValue()).isBefore(startedAt);
+    }
+
+    @Test
+    @DisplayName("補完位置がなければ最後の仕訳ログより少し前以降を補完する")
+    void shouldFallBackToLatestJournalLog() {
+        // Given
+        when(changeLogRepository.findRecoveredUntil("仕訳")).thenReturn(Optional.empty());
+        when(changeLogRepository.findLatestOperatedAt("仕訳"))
+                .thenReturn(Optional.of(LocalDateTime.of(2025, 4, 1, 10, 0)));
+        when(journalRepository.findVoucherNumbersWithoutChangeLog(LocalDateTime.of(2025, 4, 1, 9, 50)))
+                .thenReturn(List.of());
+
+        // When
+        int recovered = recovery.recover();
+
+        // Then
+        assertThat(recovered).isZero();
+        verify(changeLogRepository, never()).saveAll(anyList());
+        verify(changeLogRepository).saveRecoveredUntil(eq("仕訳"), any());
+    }
+
+    @Test
+    @DisplayName("補完位置も仕訳ログもなければ補完せず、補完位置だけを保存する")
+    void shouldSkipWhenNoJournalLogExists() {
+        // Given
+        when(changeLogRepository.findRecoveredUntil("仕訳")).thenReturn(Optional.empty());
+        when(changeLogRepository.findLatestOperatedAt("仕訳")).thenReturn(Optional.empty());
+
+        // When
+        int recovered = recovery.recover();
+
+        // Then
+        assertThat(recovered).isZero();
+        verify(journalRepository, never()).findVoucherNumbersWithoutChangeLog(any());
+        verify(changeLogRepository).saveRecoveredUntil(eq("仕訳"), any());
+    }
+}
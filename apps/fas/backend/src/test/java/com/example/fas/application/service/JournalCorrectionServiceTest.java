@@ -38,6 +38,9 @@ class JournalCorrectionServiceTest {
     @Mock
     private JournalRepository journalRepository;
 
+    @Mock
+    private AccountBalancePoster accountBalancePoster;
+
     @InjectMocks
     private JournalCorrectionService journalCorrectionService;
 
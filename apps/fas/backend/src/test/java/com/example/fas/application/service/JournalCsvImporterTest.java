@@ -0,0 +1,171 @@
+package com.example.fas.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.fas.application.port.in.command.CreateJournalCommand;
+import com.example.fas.application.port.in.dto.JournalImportResult;
+import com.example.fas.application.port.out.AccountRepository;
+import com.example.fas.domain.model.account.Account;
+import com.example.fas.domain.model.journal.Journal;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * JournalCsvImporter のユニットテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳 CSV 取込")
+@SuppressWarnings("PMD.TooManyStaticImports")
+class JournalCsvImporterTest {
+
+    private static final String HEADER = "起票日,貸借区分,勘定科目コード,補助科目コード,部門コード,金額,摘要\n";
+
+    @Mock
+    private JournalImportHelper journalImportHelper;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @InjectMocks
+    private JournalCsvImporter journalCsvImporter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(journalCsvImporter, "chunkSize", 500);
+        when(accountRepository.findAll()).thenReturn(List.of(
+                Account.builder().accountCode("11110").build(),
+                Account.builder().accountCode("41110").build()));
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream((HEADER + content).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("起票日と摘要が同じ行を 1 伝票としてまとめて一括登録する")
+    void shouldGroupLinesAndSaveInOneChunk() {
+        when(journalImportHelper.buildJournal(any())).thenReturn(Journal.builder().build());
+
+        JournalImportResult result = journalCsvImporter.importCsv(csv(
+                "2025/01/15,借方,11110,,,50000,売上A\n"
+                + "2025/01/15,貸方,41110,,,50000,売上A\n"
+                + "2025-01-16,借方,11110,,,30000,売上B\n"
+                + "2025-01-16,貸方,41110,,,30000,売上B\n"), true, true);
+
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getErrorCount()).isZero();
+        assertThat(result.getLineCount()).isEqualTo(5);
+        verify(journalImportHelper, times(1)).saveJournalsInNewTransaction(anyList());
+    }
+
+    @Test
+    @DisplayName("勘定科目が存在しない伝票と貸借が一致しない伝票はエラーになり採番しない")
+    void shouldRejectInvalidVouchers() {
+        JournalImportResult result = journalCsvImporter.importCsv(csv(
+                "2025/01/15,借方,99999,,,50000,存在しない科目\n"
+                + "2025/01/15,貸方,41110,,,50000,存在しない科目\n"
+                + "2025/01/15,借方,11110,,,50000,貸借不一致\n"
+                + "2025/01/15,貸方,41110,,,40000,貸借不一致\n"
+                + "invalid-date,借方,11110,,,50000,日付不正\n"), true, true);
+
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        assertThat(result.getSuccessCount()).isZero();
+        assertThat(result.getErrorCount()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting(JournalImportResult.ImportError::getLineNumber)
+                .containsExactly(6, 2, 4);
+        verify(journalImportHelper, never()).buildJournal(any());
+        verify(journalImportHelper, never()).saveJournalsInNewTransaction(anyList());
+    }
+
+    @Test
+    @DisplayName("チャンクの登録に失敗した場合は伝票ごとに登録し直してエラーの伝票だけを報告する")
+    void shouldIsolateFailedVoucherInChunk() {
+        Journal first = Journal.builder().journalVoucherNumber("J25010001").build();
+        Journal second = Journal.builder().journalVoucherNumber("J25010002").build();
+        when(journalImportHelper.buildJournal(any())).thenReturn(first, second);
+        doThrow(new DataIntegrityViolationException("一括登録エラー"))
+                .when(journalImportHelper).saveJournalsInNewTransaction(List.of(first, second));
+        doThrow(new DataIntegrityViolationException("登録エラー"))
+                .when(journalImportHelper).saveJournalsInNewTransaction(List.of(second));
+
+        JournalImportResult result = journalCsvImporter.importCsv(csv(
+                "2025/01/15,借方,11110,,,50000,売上A\n"
+                + "2025/01/15,貸方,41110,,,50000,売上A\n"
+                + "2025/01/16,借方,11110,,,30000,売上B\n"
+                + "2025/01/16,貸方,41110,,,30000,売上B\n"), true, true);
+
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getErrorCount()).isEqualTo(1);
+        assertThat(result.getErrors().get(0).getLineNumber()).isEqualTo(4);
+        assertThat(result.getErrors().get(0).getLineContent()).isEqualTo("行4, 行5");
+        verify(journalImportHelper).saveJournalsInNewTransaction(List.of(first));
+    }
+
+    @Test
+    @DisplayName("起票日と摘要が同じ行は連続していなくても 1 伝票にまとめ、最初に現れた順に取り込む")
+    void shouldGroupNonContiguousLines() {
+        when(journalImportHelper.buildJournal(any())).thenReturn(Journal.builder().build());
+
+        JournalImportResult result = journalCsvImporter.importCsv(csv(
+                "2025/01/15,借方,11110,,,50000,売上A\n"
+                + "2025/01/15,借方,11110,,,30000,売上B\n"
+                + "2025/01/15,借方,11110,,,20000,売上A\n"
+                + "2025/01/15,貸方,41110,,,30000,売上B\n"
+                + "2025/01/15,貸方,41110,,,70000,売上A\n"), true, true);
+
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getErrorCount()).isZero();
+        ArgumentCaptor<CreateJournalCommand> captor = ArgumentCaptor.forClass(CreateJournalCommand.class);
+        verify(journalImportHelper, times(2)).buildJournal(captor.capture());
+        assertThat(captor.getAllValues().get(0).details().get(0).lineSummary()).isEqualTo("売上A");
+        assertThat(captor.getAllValues().get(0).details().get(0).debitCreditDetails()).hasSize(3);
+        assertThat(captor.getAllValues().get(1).details().get(0).lineSummary()).isEqualTo("売上B");
+    }
+
+    @Test
+    @DisplayName("読み込みブロックの区切りをまたぐ伝票も 1 伝票にまとめる")
+    void shouldGroupVoucherSpanningBlockBoundary() {
+        when(journalImportHelper.buildJournal(any())).thenReturn(Journal.builder().build());
+        // 2 行の伝票を 4,999 件並べ、ブロック（10,000 行）の 9,999 行目から 4 行の伝票を置く
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 4_999; i++) {
+            content.append("2025/01/15,借方,11110,,,1000,伝票").append(i).append('\n')
+                    .append("2025/01/15,貸方,41110,,,1000,伝票").append(i).append('\n');
+        }
+        for (int i = 0; i < 2; i++) {
+            content.append("2025/01/16,借方,11110,,,500,境界\n")
+                    .append("2025/01/16,貸方,41110,,,500,境界\n");
+        }
+
+        JournalImportResult result = journalCsvImporter.importCsv(csv(content.toString()), true, true);
+
+        assertThat(result.getTotalCount()).isEqualTo(5_000);
+        assertThat(result.getSuccessCount()).isEqualTo(5_000);
+        assertThat(result.getErrorCount()).isZero();
+        ArgumentCaptor<CreateJournalCommand> captor = ArgumentCaptor.forClass(CreateJournalCommand.class);
+        verify(journalImportHelper, times(5_000)).buildJournal(captor.capture());
+        assertThat(captor.getValue().details().get(0).debitCreditDetails()).hasSize(4);
+    }
+}
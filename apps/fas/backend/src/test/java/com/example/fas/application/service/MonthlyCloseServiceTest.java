@@ -0,0 +1,141 @@
+package com.example.fas.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.fas.application.port.in.dto.MonthlyCloseResult;
+import com.example.fas.application.port.out.AccountRepository;
+import com.example.fas.application.port.out.MonthlyAccountBalanceRepository;
+import com.example.fas.domain.model.account.Account;
+import com.example.fas.domain.model.account.BSPLType;
+import com.example.fas.domain.model.balance.ClosingPeriod;
+import com.example.fas.domain.model.balance.MonthlyAccountBalance;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * MonthlyCloseService のユニットテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("月次締め")
+@SuppressWarnings("PMD.TooManyStaticImports")
+class MonthlyCloseServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private MonthlyAccountBalanceRepository monthlyAccountBalanceRepository;
+
+    private MonthlyCloseService monthlyCloseService;
+
+    @BeforeEach
+    void setUp() {
+        monthlyCloseService = new MonthlyCloseService(accountRepository,
+                new MonthlyCloseHelper(monthlyAccountBalanceRepository));
+        when(accountRepository.findAll()).thenReturn(List.of(
+                Account.builder().accountCode("41100").bsplType(BSPLType.PL).build(),
+                Account.builder().accountCode("11110").bsplType(BSPLType.BS).build()));
+    }
+
+    private static MonthlyAccountBalance source(String accountCode, String opening, String debit, String credit) {
+        return MonthlyAccountBalance.builder()
+                .accountCode(accountCode)
+                .subAccountCode("")
+                .departmentCode("00000")
+                .projectCode("")
+                .closingJournalFlag(false)
+                .openingBalance(new BigDecimal(opening))
+                .debitAmount(new BigDecimal(debit))
+                .creditAmount(new BigDecimal(credit))
+                .build();
+    }
+
+    private void givenSources(MonthlyAccountBalance... sources) {
+        doAnswer(invocation -> {
+            Consumer<MonthlyAccountBalance> action = invocation.getArgument(3);
+            List.of(sources).forEach(action);
+            return null;
+        }).when(monthlyAccountBalanceRepository).forEachClosingSource(any(), any(), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MonthlyAccountBalance> savedBalances() {
+        ArgumentCaptor<List<MonthlyAccountBalance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(monthlyAccountBalanceRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("前月末残高を月初残高に引き継ぎ、当月の借方・貸方から月末残高を求める")
+    void shouldCarryForwardAndComputeClosingBalance() {
+        givenSources(source("11110", "100000", "50000", "30000"), source("41100", "-80000", "0", "20000"));
+
+        MonthlyCloseResult result = monthlyCloseService.closeMonth(2025, 4);
+
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getClosedAccountCount()).isEqualTo(2);
+        assertThat(result.getBalanceCount()).isEqualTo(2);
+        assertThat(result.getLastClosedAccountCode()).isEqualTo("41100");
+        verify(monthlyAccountBalanceRepository).forEachClosingSource(
+                eq(ClosingPeriod.of(2025, 4)), eq("11110"), eq("41100"), any());
+        List<MonthlyAccountBalance> saved = savedBalances();
+        assertThat(saved).allSatisfy(balance -> {
+            assertThat(balance.getFiscalYear()).isEqualTo(2025);
+            assertThat(balance.getMonth()).isEqualTo(4);
+        });
+        assertThat(saved).extracting(MonthlyAccountBalance::getClosingBalance)
+                .containsExactly(new BigDecimal("120000"), new BigDecimal("-100000"));
+    }
+
+    @Test
+    @DisplayName("期首月は損益科目の残高を繰り越さない")
+    void shouldResetProfitAndLossAtFirstMonth() {
+        givenSources(source("11110", "100000", "0", "0"), source("41100", "-80000", "0", "20000"));
+
+        monthlyCloseService.closeMonth(2025, 1);
+
+        assertThat(savedBalances()).extracting(MonthlyAccountBalance::getOpeningBalance)
+                .containsExactly(new BigDecimal("100000"), BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("勘定科目の範囲を指定すると範囲内の科目だけを締める")
+    void shouldCloseOnlyGivenAccountRange() {
+        MonthlyCloseResult result = monthlyCloseService.closeMonth(2025, 4, "40000", null);
+
+        assertThat(result.getClosedAccountCount()).isEqualTo(1);
+        verify(monthlyAccountBalanceRepository).forEachClosingSource(
+                any(), eq("41100"), eq("41100"), any());
+        verify(monthlyAccountBalanceRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("締めに失敗した範囲の先頭科目を再実行位置として返す")
+    void shouldReturnRestartPointOnFailure() {
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(monthlyAccountBalanceRepository).forEachClosingSource(any(), any(), any(), any());
+
+        MonthlyCloseResult result = monthlyCloseService.closeMonth(2025, 4);
+
+        assertThat(result.isCompleted()).isFalse();
+        assertThat(result.getFailedAccountCode()).isEqualTo("11110");
+        assertThat(result.getLastClosedAccountCode()).isNull();
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.fas.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.fas.application.port.out.AccountRepository;
+import com.example.fas.application.port.out.DailyAccountBalanceRepository;
+import com.example.fas.application.port.out.JournalRepository;
+import com.example.fas.application.port.out.MonthlyAccountBalanceRepository;
+import com.example.fas.domain.model.account.Account;
+import com.example.fas.domain.model.account.AccountStructure;
+import com.example.fas.domain.model.account.AccountTree;
+import com.example.fas.domain.model.balance.AccountCumulativeBalance;
+import com.example.fas.domain.model.balance.ClosingPeriod;
+import com.example.fas.domain.model.balance.DailyAccountBalance;
+import com.example.fas.domain.model.balance.TrialBalanceLine;
+import com.example.fas.domain.model.common.PageResult;
+import com.example.fas.domain.model.report.BalanceSheet;
+import com.example.fas.domain.model.report.ComparativeStatement;
+import com.example.fas.domain.model.report.ComparativeStatementLine;
+import com.example.fas.domain.model.report.GeneralLedgerCursor;
+import com.example.fas.domain.model.report.GeneralLedgerEntry;
+import com.example.fas.domain.model.report.IncomeStatement;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ReportApplicationService のユニットテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("帳票出力アプリケーションサービス")
+@SuppressWarnings("PMD.TooManyStaticImports")
+class ReportApplicationServiceTest {
+
+    private static final LocalDate FROM_DATE = LocalDate.of(2025, 4, 10);
+    private static final LocalDate TO_DATE = LocalDate.of(2025, 4, 30);
+
+    @Mock
+    private DailyAccountBalanceRepository dailyBalanceRepository;
+
+    @Mock
+    private MonthlyAccountBalanceRepository monthlyBalanceRepository;
+
+    @Mock
+    private JournalRepository journalRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountTreeCache accountTreeCache;
+
+    @InjectMocks
+    private ReportApplicationService reportApplicationService;
+
+    private static GeneralLedgerEntry entry(String journalNumber, String debit, String credit) {
+        return GeneralLedgerEntry.builder()
+                .postingDate(FROM_DATE)
+                .journalNumber(journalNumber)
+                .lineNumber(1)
+                .debitCreditType(new BigDecimal(debit).signum() > 0 ? "借方" : "貸方")
+                .debitAmount(new BigDecimal(debit))
+                .creditAmount(new BigDecimal(credit))
+                .build();
+    }
+
+    private static DailyAccountBalance dailyTotal(LocalDate postingDate, int entryCount, String debit,
+            String credit) {
+        return DailyAccountBalance.builder()
+                .postingDate(postingDate)
+                .accountCode("11110")
+                .debitAmount(new BigDecimal(debit))
+                .creditAmount(new BigDecimal(credit))
+                .entryCount(entryCount)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("getGeneralLedger")
+    class GetGeneralLedgerTest {
+
+        @Test
+        @DisplayName("締め済みの累計残高と未締め月度の月次・日次残高から求めた期首残高に明細を積み上げる")
+        void shouldComputeRunningBalanceFromOpeningBalance() {
+            // Given: 2025/01 までは締め済み、2025/02〜03 は月次残高、4/1〜4/9 は日次残高から集計
+            when(monthlyBalanceRepository.findLatestCumulativeBalanceBefore("11110", ClosingPeriod.of(2025, 4)))
+                    .thenReturn(Optional.of(AccountCumulativeBalance.builder()
+                            .fiscalYear(2025).month(1).accountCode("11110")
+                            .balance(new BigDecimal("90000")).build()));
+            when(monthlyBalanceRepository.sumNetAmountBetween(
+                    "11110", ClosingPeriod.of(2025, 1), ClosingPeriod.of(2025, 4)))
+                    .thenReturn(new BigDecimal("10000"));
+            when(dailyBalanceRepository.sumNetAmount("11110", LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 9)))
+                    .thenReturn(new BigDecimal("20000"));
+            when(journalRepository.findGeneralLedgerEntriesAfter(
+                    eq("11110"), eq(FROM_DATE), eq(TO_DATE), any(GeneralLedgerCursor.class), eq(20)))
+                    .thenReturn(List.of(entry("J0001", "5000", "0"), entry("J0002", "0", "30000")));
+            when(journalRepository.countGeneralLedgerEntries("11110", FROM_DATE, TO_DATE)).thenReturn(2L);
+
+            // When
+            PageResult<GeneralLedgerEntry> result = reportApplicationService.getGeneralLedger(
+                    "11110", FROM_DATE, TO_DATE, 0, 20);
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(result.getContent()).extracting(GeneralLedgerEntry::getBalance)
+                    .containsExactly(new BigDecimal("125000"), new BigDecimal("95000"));
+            verify(journalRepository, never()).findGeneralLedgerKeyAt(any(), any(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("ページ番号指定では日次の明細件数で位置を含む日を求め、その日の明細だけからキーを読む")
+        void shouldSeekToPageStart() {
+            // Given: 4/10 に 12 件、4/11 に 15 件。20 件目は 4/11 の 8 件目
+            when(monthlyBalanceRepository.findLatestCumulativeBalanceBefore(any(), any()))
+                    .thenReturn(Optional.empty());
+            when(monthlyBalanceRepository.sumNetAmountBetween("11110", null, ClosingPeriod.of(2025, 4)))
+                    .thenReturn(BigDecimal.ZERO);
+            when(dailyBalanceRepository.sumNetAmount(any(), any(), any())).thenReturn(new BigDecimal("1000"));
+            LocalDate nextDay = FROM_DATE.plusDays(1);
+            when(dailyBalanceRepository.findDailyTotals("11110", FROM_DATE, TO_DATE)).thenReturn(List.of(
+                    dailyTotal(FROM_DATE, 12, "30000", "0"), dailyTotal(nextDay, 15, "20000", "4000")));
+            GeneralLedgerEntry key = entry("J0020", "5000", "0");
+            key.setBalance(new BigDecimal("20000"));
+            when(journalRepository.findGeneralLedgerKeyAt("11110", nextDay, nextDay, 7))
+                    .thenReturn(Optional.of(key));
+            ArgumentCaptor<GeneralLedgerCursor> cursor = ArgumentCaptor.forClass(GeneralLedgerCursor.class);
+            when(journalRepository.findGeneralLedgerEntriesAfter(
+                    eq("11110"), eq(FROM_DATE), eq(TO_DATE), cursor.capture(), eq(20)))
+                    .thenReturn(List.of(entry("J0021", "0", "2000")));
+
+            // When
+            PageResult<GeneralLedgerEntry> result = reportApplicationService.getGeneralLedger(
+                    "11110", FROM_DATE, TO_DATE, 1, 20);
+
+            // Then
+            assertThat(cursor.getValue().getJournalNumber()).isEqualTo("J0020");
+            assertThat(result.getContent().get(0).getBalance()).isEqualByComparingTo("49000");
+            verify(journalRepository, never()).findGeneralLedgerKeyAt(any(), eq(FROM_DATE), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("期間内の明細件数を超えるページは空で返す")
+        void shouldReturnEmptyPageBeyondLastEntry() {
+            // Given
+            when(monthlyBalanceRepository.findLatestCumulativeBalanceBefore(any(), any()))
+                    .thenReturn(Optional.empty());
+            when(monthlyBalanceRepository.sumNetAmountBetween(any(), any(), any())).thenReturn(BigDecimal.ZERO);
+            when(dailyBalanceRepository.sumNetAmount(any(), any(), any())).thenReturn(BigDecimal.ZERO);
+            when(dailyBalanceRepository.findDailyTotals("11110", FROM_DATE, TO_DATE))
+                    .thenReturn(List.of(dailyTotal(FROM_DATE, 12, "30000", "0")));
+            when(journalRepository.countGeneralLedgerEntries("11110", FROM_DATE, TO_DATE)).thenReturn(12L);
+
+            // When
+            PageResult<GeneralLedgerEntry> result = reportApplicationService.getGeneralLedger(
+                    "11110", FROM_DATE, TO_DATE, 1, 20);
+
+            // Then
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getTotalElements()).isEqualTo(12);
+            verify(journalRepository, never()).findGeneralLedgerKeyAt(any(), any(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("カーソル指定では位置の探索を行わず、残高は期首残高とカーソルの明細までの金額から求め直す")
+        void shouldContinueFromCursor() {
+            // Given: 期首残高 1000、4/10〜4/11 の日次残高 70000、4/12 のカーソルの明細まで 9000
+            when(monthlyBalanceRepository.findLatestCumulativeBalanceBefore(any(), any()))
+                    .thenReturn(Optional.empty());
+            when(monthlyBalanceRepository.sumNetAmountBetween("11110", null, ClosingPeriod.of(2025, 4)))
+                    .thenReturn(BigDecimal.ZERO);
+            when(dailyBalanceRepository.sumNetAmount("11110", LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 9)))
+                    .thenReturn(new BigDecimal("1000"));
+            when(dailyBalanceRepository.sumNetAmount("11110", FROM_DATE, LocalDate.of(2025, 4, 11)))
+                    .thenReturn(new BigDecimal("70000"));
+            GeneralLedgerEntry last = GeneralLedgerEntry.builder()
+                    .postingDate(LocalDate.of(2025, 4, 12))
+                    .journalNumber("J0040")
+                    .lineNumber(1)
+                    .debitCreditType("借方")
+                    .build();
+            GeneralLedgerCursor after = GeneralLedgerCursor.decode(GeneralLedgerCursor.after(last).encode())
+                    .orElseThrow();
+            when(journalRepository.sumGeneralLedgerAmountThrough("11110", after)).thenReturn(new BigDecimal("9000"));
+            when(journalRepository.findGeneralLedgerEntriesAfter("11110", FROM_DATE, TO_DATE, after, 20))
+                    .thenReturn(List.of(entry("J0041", "1000", "0")));
+
+            // When
+            PageResult<GeneralLedgerEntry> result = reportApplicationService.getGeneralLedger(
+                    "11110", FROM_DATE, TO_DATE, 2, 20, after);
+
+            // Then
+            assertThat(result.getContent().get(0).getBalance()).isEqualByComparingTo("81000");
+            verify(dailyBalanceRepository, never()).findDailyTotals(any(), any(), any());
+            verify(journalRepository, never()).findGeneralLedgerKeyAt(any(), any(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("カーソルは明細のキーだけを持ち、残高を含まない")
+        void shouldNotCarryBalanceInCursor() {
+            // Given
+            GeneralLedgerEntry last = entry("J0040", "5000", "0");
+            last.setBalance(new BigDecimal("80000"));
+
+            // When
+            String token = GeneralLedgerCursor.after(last).encode();
+
+            // Then
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            assertThat(raw).doesNotContain("80000");
+            assertThat(GeneralLedgerCursor.decode(token)).contains(GeneralLedgerCursor.after(last));
+        }
+    }
+
+    @Nested
+    @DisplayName("getBalanceSheet")
+    class GetBalanceSheetTest {
+
+        private TrialBalanceLine line(String accountCode, String closingBalance) {
+            return TrialBalanceLine.builder()
+                    .accountCode(accountCode)
+                    .closingBalance(new BigDecimal(closingBalance))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("勘定科目構成の中区分で流動・固定に分類する")
+        void shouldClassifyByAccountStructure() {
+            // Given: 15100 は構成上は流動資産（11000）の配下
+            when(accountTreeCache.get()).thenReturn(AccountTree.of(List.of(
+                    AccountStructure.builder().accountCode("11110").accountPath("10000~11000~11110").build(),
+                    AccountStructure.builder().accountCode("15100").accountPath("10000~11000~15100").build(),
+                    AccountStructure.builder().accountCode("21110").accountPath("20000~21000~21110").build())));
+            when(monthlyBalanceRepository.getTrialBalanceByBSPL(2025, 4, "BS")).thenReturn(List.of(
+                    line("11110", "1000"), line("15100", "2000"), line("16100", "4000"),
+                    line("21110", "500"), line("31100", "6500")));
+
+            // When
+            BalanceSheet result = reportApplicationService.getBalanceSheet(LocalDate.of(2025, 4, 30));
+
+            // Then: 構成にない 16100 と 31100 はコードの先頭桁で分類する
+            assertThat(result.getTotalCurrentAssets()).isEqualByComparingTo("3000");
+            assertThat(result.getTotalFixedAssets()).isEqualByComparingTo("4000");
+            assertThat(result.getTotalCurrentLiabilities()).isEqualByComparingTo("500");
+            assertThat(result.getTotalEquity()).isEqualByComparingTo("6500");
+        }
+    }
+
+    @Nested
+    @DisplayName("getIncomeStatement")
+    class GetIncomeStatementTest {
+
+        @Test
+        @DisplayName("期間内の全月度を一括で取得し、科目ごとに発生額を合計する")
+        void shouldSumAllMonthsInRange() {
+            // Given
+            when(accountTreeCache.get()).thenReturn(AccountTree.empty());
+            when(monthlyBalanceRepository.getTrialBalanceByPeriods(
+                    List.of(YearMonth.of(2025, 1), YearMonth.of(2025, 2), YearMonth.of(2025, 3)), "PL"))
+                    .thenReturn(List.of(
+                            pl("41100", 1, "0", "1000"), pl("41100", 3, "0", "2000"),
+                            pl("51100", 2, "600", "0")));
+
+            // When
+            IncomeStatement result = reportApplicationService.getIncomeStatement(
+                    YearMonth.of(2025, 1), YearMonth.of(2025, 3));
+
+            // Then
+            assertThat(result.getSalesRevenue()).hasSize(1);
+            assertThat(result.getTotalSalesRevenue()).isEqualByComparingTo("-3000");
+            assertThat(result.getTotalCostOfSales()).isEqualByComparingTo("600");
+        }
+    }
+
+    @Nested
+    @DisplayName("getComparativeStatement")
+    class GetComparativeStatementTest {
+
+        @Test
+        @DisplayName("月度を列に展開し、大区分・中区分の小計行を付ける")
+        void shouldPivotMonthsIntoColumns() {
+            // Given
+            when(accountTreeCache.get()).thenReturn(AccountTree.of(List.of(
+                    AccountStructure.builder().accountCode("41110").accountPath("40000~41000~41110").build(),
+                    AccountStructure.builder().accountCode("41120").accountPath("40000~41000~41120").build())));
+            when(monthlyBalanceRepository.getTrialBalanceByPeriods(
+                    List.of(YearMonth.of(2025, 4), YearMonth.of(2024, 4)), "PL"))
+                    .thenReturn(List.of(
+                            pl("41110", 4, "0", "1000"), pl("41120", 4, "0", "500"),
+                            TrialBalanceLine.builder().fiscalYear(2024).month(4).accountCode("41110")
+                                    .accountName("41110").bsplType("PL")
+                                    .debitTotal(BigDecimal.ZERO).creditTotal(new BigDecimal("700")).build()));
+            when(accountRepository.findAll()).thenReturn(List.of(
+                    Account.builder().accountCode("40000").accountName("売上高").build(),
+                    Account.builder().accountCode("41000").accountName("国内売上").build()));
+
+            // When
+            ComparativeStatement result = reportApplicationService.getComparativeStatement("PL",
+                    List.of(YearMonth.of(2025, 4), YearMonth.of(2024, 4), YearMonth.of(2025, 4)));
+
+            // Then
+            assertThat(result.getColumns()).containsExactly(YearMonth.of(2025, 4), YearMonth.of(2024, 4));
+            assertThat(result.getLines()).extracting(ComparativeStatementLine::getAccountCode)
+                    .containsExactly("40000", "41000", "41110", "41120");
+            ComparativeStatementLine root = result.getLines().get(0);
+            assertThat(root.getAccountName()).isEqualTo("売上高");
+            assertThat(root.isSummary()).isTrue();
+            assertThat(root.getAmounts().get(0)).isEqualByComparingTo("-1500");
+            assertThat(root.getAmounts().get(1)).isEqualByComparingTo("-700");
+            assertThat(result.getLines().get(3).getAmounts().get(1)).isEqualByComparingTo("0");
+            assertThat(result.getTotals().get(0)).isEqualByComparingTo("-1500");
+        }
+    }
+
+    private static TrialBalanceLine pl(String accountCode, int month, String debit, String credit) {
+        return TrialBalanceLine.builder()
+                .fiscalYear(2025)
+                .month(month)
+                .accountCode(accountCode)
+                .accountName(accountCode)
+                .bsplType("PL")
+                .debitTotal(new BigDecimal(debit))
+                .creditTotal(new BigDecimal(credit))
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.fas.domain.model.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.fas.domain.model.balance.TrialBalanceLine;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 勘定科目構成ツリーテスト.
+ */
+@DisplayName("勘定科目構成ツリー")
+class AccountTreeTest {
+
+    private static final AccountTree TREE = AccountTree.of(List.of(
+            structure("11210", "10000~11000~11200~11210"),
+            structure("11110", "10000~11000~11100~11110"),
+            structure("11130", "10000~11000~11100~11130"),
+            structure("12100", "10000~12000~12100"),
+            structure("41110", "40000~41000~41110")));
+
+    private static AccountStructure structure(String code, String path) {
+        return AccountStructure.builder().accountCode(code).accountPath(path).build();
+    }
+
+    private static TrialBalanceLine line(String code, String amount) {
+        return TrialBalanceLine.builder().accountCode(code).closingBalance(new BigDecimal(amount)).build();
+    }
+
+    @Nested
+    @DisplayName("階層の参照")
+    class Lookup {
+
+        @Test
+        @DisplayName("パスの途中にだけ現れる集計科目もノードになる")
+        void shouldIncludeIntermediateNodes() {
+            assertThat(TREE.size()).isEqualTo(12);
+            assertThat(TREE.contains("11100")).isTrue();
+            assertThat(TREE.getDepth("11100")).isEqualTo(3);
+            assertThat(TREE.getParentCode("11100")).isEqualTo("11000");
+        }
+
+        @Test
+        @DisplayName("深さと親科目と祖先科目を取得できる")
+        void shouldResolveDepthParentAndAncestor() {
+            assertThat(TREE.getDepth("11110")).isEqualTo(4);
+            assertThat(TREE.getParentCode("11110")).isEqualTo("11100");
+            assertThat(TREE.getParentCode("10000")).isNull();
+            assertThat(TREE.getAncestorCode("11110", 1)).isEqualTo("10000");
+            assertThat(TREE.getAncestorCode("11110", 2)).isEqualTo("11000");
+            assertThat(TREE.getAncestorCode("11110", 4)).isEqualTo("11110");
+            assertThat(TREE.getAncestorCode("11110", 5)).isNull();
+        }
+
+        @Test
+        @DisplayName("ツリーにない科目は深さ 0 で親も祖先もない")
+        void shouldHandleUnknownAccount() {
+            assertThat(TREE.contains("99999")).isFalse();
+            assertThat(TREE.getDepth("99999")).isZero();
+            assertThat(TREE.getParentCode("99999")).isNull();
+            assertThat(TREE.getAncestorCode("99999", 1)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("金額の積み上げ")
+    class RollUp {
+
+        private final List<TrialBalanceLine> lines = List.of(
+                line("11110", "1000"), line("11130", "2000"), line("11210", "300"),
+                line("12100", "50000"), line("41110", "-7000"), line("99999", "1"));
+
+        @Test
+        @DisplayName("全階層の小計を下位から上位へ積み上げる")
+        void shouldRollUpAllLevels() {
+            Map<String, BigDecimal> totals = TREE.rollUp(lines, TrialBalanceLine::getClosingBalance);
+
+            assertThat(totals.get("11100")).isEqualByComparingTo("3000");
+            assertThat(totals.get("11000")).isEqualByComparingTo("3300");
+            assertThat(totals.get("10000")).isEqualByComparingTo("53300");
+            assertThat(totals.get("40000")).isEqualByComparingTo("-7000");
+            assertThat(totals).doesNotContainKey("99999");
+        }
+
+        @Test
+        @DisplayName("指定した深さの祖先科目ごとに集計する")
+        void shouldRollUpToGivenDepth() {
+            Map<String, BigDecimal> totals = TREE.rollUp(lines, TrialBalanceLine::getClosingBalance, 2);
+
+            assertThat(totals).containsOnlyKeys("11000", "12000", "41000");
+            assertThat(totals.get("11000")).isEqualByComparingTo("3300");
+            assertThat(totals.get("12000")).isEqualByComparingTo("50000");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.fas.domain.model.autojournal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 自動仕訳パターン索引テスト.
+ */
+@DisplayName("自動仕訳パターン索引")
+class AutoJournalPatternIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 4, 1);
+
+    private static AutoJournalPattern pattern(String code, String product, String customer,
+            String salesType, int priority) {
+        return AutoJournalPattern.builder()
+                .patternCode(code)
+                .productGroup(product)
+                .customerGroup(customer)
+                .salesType(salesType)
+                .validFrom(LocalDate.of(2025, 1, 1))
+                .validTo(LocalDate.of(9999, 12, 31))
+                .priority(priority)
+                .build();
+    }
+
+    private static String find(AutoJournalPatternIndex index, String product, String customer, String salesType) {
+        return index.find(product, customer, salesType, DATE).map(AutoJournalPattern::getPatternCode).orElse(null);
+    }
+
+    @Test
+    @DisplayName("指定値と ALL の組み合わせから優先順位が最も小さいパターンを返す")
+    void shouldReturnPatternWithLowestPriority() {
+        AutoJournalPatternIndex index = AutoJournalPatternIndex.of(List.of(
+                pattern("P001", "ALL", "ALL", "ALL", 100),
+                pattern("P002", "FOOD", "ALL", "01", 50),
+                pattern("P003", "FOOD", "RETAIL", "01", 10),
+                pattern("P004", "ALL", "RETAIL", "02", 20)));
+
+        assertThat(find(index, "FOOD", "RETAIL", "01")).isEqualTo("P003");
+        assertThat(find(index, "FOOD", "WHOLESALE", "01")).isEqualTo("P002");
+        assertThat(find(index, "DRINK", "RETAIL", "02")).isEqualTo("P004");
+        assertThat(find(index, "DRINK", "WHOLESALE", "03")).isEqualTo("P001");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("優先順位が同じ場合はパターンコード順で決まる")
+    void shouldBreakTiesByPatternCode() {
+        AutoJournalPatternIndex index = AutoJournalPatternIndex.of(List.of(
+                pattern("P009", "FOOD", "ALL", "01", 10),
+                pattern("P005", "ALL", "RETAIL", "01", 10)));
+
+        assertThat(find(index, "FOOD", "RETAIL", "01")).isEqualTo("P005");
+    }
+
+    @Test
+    @DisplayName("有効期間外のパターンは次の優先順位のパターンに譲る")
+    void shouldSkipPatternOutsideValidPeriod() {
+        AutoJournalPattern expired = pattern("P001", "FOOD", "ALL", "01", 10);
+        expired.setValidTo(LocalDate.of(2025, 3, 31));
+        AutoJournalPatternIndex index = AutoJournalPatternIndex.of(List.of(
+                expired, pattern("P002", "FOOD", "ALL", "01", 20)));
+
+        assertThat(find(index, "FOOD", "RETAIL", "01")).isEqualTo("P002");
+        assertThat(index.find("FOOD", "RETAIL", "01", LocalDate.of(2025, 3, 31))
+                .map(AutoJournalPattern::getPatternCode)).contains("P001");
+    }
+
+    @Test
+    @DisplayName("売上区分が未指定の明細は既定の売上区分で検索する")
+    void shouldUseDefaultSalesType() {
+        AutoJournalPatternIndex index = AutoJournalPatternIndex.of(List.of(
+                pattern("P001", "ALL", "ALL", "01", 10),
+                pattern("P002", "ALL", "ALL", "02", 5)));
+
+        assertThat(find(index, "FOOD", "RETAIL", null)).isEqualTo("P001");
+    }
+
+    @Test
+    @DisplayName("該当するパターンがなければ空を返す")
+    void shouldReturnEmptyWhenNoPatternMatches() {
+        AutoJournalPatternIndex index = AutoJournalPatternIndex.of(List.of(
+                pattern("P001", "FOOD", "ALL", "01", 10)));
+
+        assertThat(find(index, "DRINK", "RETAIL", "01")).isNull();
+    }
+}
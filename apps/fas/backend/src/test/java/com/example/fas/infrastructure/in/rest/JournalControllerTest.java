@@ -1,5 +1,6 @@
 package com.example.fas.infrastructure.in.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -7,7 +8,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.fas.application.port.out.AccountRepository;
+import com.example.fas.application.port.out.DailyAccountBalanceRepository;
 import com.example.fas.application.port.out.JournalRepository;
+import com.example.fas.application.port.out.MonthlyAccountBalanceRepository;
 import com.example.fas.domain.model.account.Account;
 import com.example.fas.domain.model.account.AggregationType;
 import com.example.fas.domain.model.account.BSPLType;
@@ -48,8 +51,16 @@ class JournalControllerTest extends BaseIntegrationTest {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private DailyAccountBalanceRepository dailyAccountBalanceRepository;
+
+    @Autowired
+    private MonthlyAccountBalanceRepository monthlyAccountBalanceRepository;
+
     @BeforeEach
     void setUp() {
+        dailyAccountBalanceRepository.deleteAll();
+        monthlyAccountBalanceRepository.deleteAll();
         journalRepository.deleteAll();
         accountRepository.deleteAll();
 
@@ -197,6 +208,57 @@ class JournalControllerTest extends BaseIntegrationTest {
                     .andExpect(jsonPath("$.creditTotal").value(10000));
         }
 
+        @Test
+        @DisplayName("登録した仕訳が日次・月次残高に転記される")
+        void postsBalancesOnCreate() throws Exception {
+            // Given
+            String json = """
+                {
+                    "postingDate": "2025-01-15",
+                    "details": [
+                        {
+                            "lineSummary": "テスト仕訳",
+                            "debitCreditDetails": [
+                                {
+                                    "debitCreditType": "借方",
+                                    "accountCode": "11110",
+                                    "amount": 10000
+                                },
+                                {
+                                    "debitCreditType": "貸方",
+                                    "accountCode": "21110",
+                                    "amount": 10000
+                                }
+                            ]
+                        }
+                    ]
+                }
+                """;
+
+            // When
+            mockMvc.perform(post("/api/journals")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(post("/api/journals")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json))
+                    .andExpect(status().isCreated());
+
+            // Then
+            var daily = dailyAccountBalanceRepository.findByAccountCodeAndDateRange(
+                    "11110", LocalDate.of(2025, 1, 15), LocalDate.of(2025, 1, 15));
+            assertThat(daily).hasSize(1);
+            assertThat(daily.get(0).getDebitAmount()).isEqualByComparingTo("20000");
+            assertThat(daily.get(0).getCreditAmount()).isEqualByComparingTo("0");
+
+            var monthly = monthlyAccountBalanceRepository.findByAccountCode(2025, "21110");
+            assertThat(monthly).hasSize(1);
+            assertThat(monthly.get(0).getMonth()).isEqualTo(1);
+            assertThat(monthly.get(0).getCreditAmount()).isEqualByComparingTo("20000");
+            assertThat(monthly.get(0).getClosingBalance()).isEqualByComparingTo("-20000");
+        }
+
         @Test
         @DisplayName("貸借不一致の場合は400を返す")
         void badRequestForUnbalanced() throws Exception {
@@ -0,0 +1,89 @@
+package com.example.fas.infrastructure.in.rest;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.fas.application.port.in.ReportUseCase;
+import com.example.fas.domain.model.report.ComparativeStatement;
+import com.example.fas.domain.model.report.ComparativeStatementLine;
+import com.example.fas.testsetup.BaseIntegrationTest;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * ReportController の統合テスト.
+ */
+@AutoConfigureMockMvc
+@DisplayName("財務諸表 API")
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+class ReportControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReportUseCase reportUseCase;
+
+    private static ComparativeStatement statement(List<YearMonth> columns) {
+        return ComparativeStatement.builder()
+                .bsplType("PL")
+                .columns(columns)
+                .lines(List.of(ComparativeStatementLine.builder()
+                        .accountCode("40000")
+                        .accountName("売上高")
+                        .indentLevel(0)
+                        .isSummary(true)
+                        .amounts(List.of(new BigDecimal("-1500"), new BigDecimal("-700")))
+                        .build()))
+                .totals(List.of(new BigDecimal("-1500"), new BigDecimal("-700")))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("GET /api/reports/comparative")
+    class GetComparativeStatementTest {
+
+        @Test
+        @DisplayName("期間を指定して比較財務諸表を取得できる")
+        void canGetComparativeStatementByRange() throws Exception {
+            // Given
+            when(reportUseCase.getComparativeStatement("PL", YearMonth.of(2025, 1), YearMonth.of(2025, 2)))
+                    .thenReturn(statement(List.of(YearMonth.of(2025, 1), YearMonth.of(2025, 2))));
+
+            // When & Then
+            mockMvc.perform(get("/api/reports/comparative")
+                            .param("bsPlType", "PL")
+                            .param("fromMonth", "2025-01")
+                            .param("toMonth", "2025-02"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.lines[0].accountCode").value("40000"))
+                    .andExpect(jsonPath("$.lines[0].amounts.length()").value(2))
+                    .andExpect(jsonPath("$.totals[1]").value(-700));
+        }
+
+        @Test
+        @DisplayName("月度を列挙して前年同月と比較できる")
+        void canGetComparativeStatementByMonths() throws Exception {
+            // Given
+            List<YearMonth> months = List.of(YearMonth.of(2025, 4), YearMonth.of(2024, 4));
+            when(reportUseCase.getComparativeStatement("PL", months)).thenReturn(statement(months));
+
+            // When & Then
+            mockMvc.perform(get("/api/reports/comparative")
+                            .param("bsPlType", "PL")
+                            .param("months", "2025-04", "2024-04"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.lines[0].accountName").value("売上高"));
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.example.fas.application.port.in.dto.JournalDetailResponse;
 import com.example.fas.application.port.in.dto.JournalDetailResponse.DebitCreditDetailResponse;
 import com.example.fas.application.port.in.dto.JournalResponse;
 import com.example.fas.domain.model.common.PageResult;
+import com.example.fas.domain.model.journal.JournalCursor;
+import com.example.fas.domain.model.journal.JournalSearchCondition;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -56,8 +58,7 @@ class JournalWebControllerTest {
             Mockito.when(journalUseCase.getJournals(
                 ArgumentMatchers.anyInt(),
                 ArgumentMatchers.anyInt(),
-                ArgumentMatchers.isNull(),
-                ArgumentMatchers.isNull(),
+                ArgumentMatchers.eq(JournalSearchCondition.of(null, null, null, null)),
                 ArgumentMatchers.isNull()
             )).thenReturn(pageResult);
 
@@ -79,8 +80,7 @@ class JournalWebControllerTest {
             Mockito.when(journalUseCase.getJournals(
                 ArgumentMatchers.anyInt(),
                 ArgumentMatchers.anyInt(),
-                ArgumentMatchers.eq(from),
-                ArgumentMatchers.eq(to),
+                ArgumentMatchers.eq(JournalSearchCondition.of(from, to, null, null)),
                 ArgumentMatchers.isNull()
             )).thenReturn(pageResult);
 
@@ -101,9 +101,8 @@ class JournalWebControllerTest {
             Mockito.when(journalUseCase.getJournals(
                 ArgumentMatchers.anyInt(),
                 ArgumentMatchers.anyInt(),
-                ArgumentMatchers.isNull(),
-                ArgumentMatchers.isNull(),
-                ArgumentMatchers.eq("J0000")
+                ArgumentMatchers.eq(JournalSearchCondition.of(null, null, "J0000", null)),
+                ArgumentMatchers.isNull()
             )).thenReturn(pageResult);
 
             mockMvc.perform(MockMvcRequestBuilders.get("/journals")
@@ -121,8 +120,7 @@ class JournalWebControllerTest {
             Mockito.when(journalUseCase.getJournals(
                 ArgumentMatchers.eq(1),
                 ArgumentMatchers.eq(10),
-                ArgumentMatchers.isNull(),
-                ArgumentMatchers.isNull(),
+                ArgumentMatchers.eq(JournalSearchCondition.of(null, null, null, null)),
                 ArgumentMatchers.isNull()
             )).thenReturn(pageResult);
 
@@ -133,6 +131,29 @@ class JournalWebControllerTest {
                 .andExpect(MockMvcResultMatchers.view().name("journals/list"))
                 .andExpect(MockMvcResultMatchers.model().attribute("currentSize", 10));
         }
+
+        @Test
+        @DisplayName("勘定科目コードで絞り込み、カーソルで続きのページを読める")
+        void shouldReadNextPageByCursor() throws Exception {
+            JournalResponse response = createTestJournal("J00000001", LocalDate.of(2025, 1, 15));
+            PageResult<JournalResponse> pageResult = new PageResult<>(List.of(response), 1, 20, 30);
+            JournalCursor after = JournalCursor.after(LocalDate.of(2025, 1, 20), "J00000002");
+            Mockito.when(journalUseCase.getJournals(
+                ArgumentMatchers.eq(1),
+                ArgumentMatchers.eq(20),
+                ArgumentMatchers.eq(JournalSearchCondition.of(null, null, null, "11110")),
+                ArgumentMatchers.eq(after)
+            )).thenReturn(pageResult);
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/journals")
+                    .param("page", "1")
+                    .param("accountCode", "11110")
+                    .param("after", after.encode()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.model().attribute("accountCode", "11110"))
+                .andExpect(MockMvcResultMatchers.model().attribute("nextCursor",
+                    JournalCursor.after(LocalDate.of(2025, 1, 15), "J00000001").encode()));
+        }
     }
 
     @Nested
@@ -19,6 +19,7 @@ import com.example.fas.testsetup.BaseIntegrationTest;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -241,6 +242,45 @@ class AutoJournalRepositoryTest extends BaseIntegrationTest {
             assertThat(entries).hasSize(2);
         }
 
+        @Test
+        @DisplayName("販売管理の形式の売上番号（17 文字）でエントリを登録して検索できる")
+        void canSaveEntryWithSalesManagementSalesNumber() {
+            // Arrange
+            AutoJournalEntry entry = createTestEntry("AJ0001", "P001");
+            entry.setSalesNumber("SLS-20250115-0001");
+            autoJournalRepository.saveEntry(entry);
+
+            // Act
+            var entries = autoJournalRepository.findEntriesBySalesNumber("SLS-20250115-0001");
+
+            // Assert
+            assertThat(entries).singleElement()
+                    .satisfies(found -> assertThat(found.getSalesNumber()).isEqualTo("SLS-20250115-0001"));
+        }
+
+        @Test
+        @DisplayName("エントリを一括登録できる")
+        void canSaveEntries() {
+            // Arrange
+            var debit = createTestEntry("AJ0001", "P001");
+            var credit = createTestEntry("AJ0002", "P001");
+            credit.setDebitCreditType(DebitCreditType.CREDIT);
+            credit.setAccountCode("41100");
+            credit.setStatus(AutoJournalStatus.POSTED);
+            credit.setPostedFlag(true);
+            credit.setPostedDate(LocalDate.of(2024, 4, 2));
+
+            // Act
+            autoJournalRepository.saveEntries(List.of(debit, credit));
+
+            // Assert
+            var entries = autoJournalRepository.findEntriesBySalesNumber("S0001");
+            assertThat(entries).hasSize(2);
+            assertThat(entries.get(1).getDebitCreditType()).isEqualTo(DebitCreditType.CREDIT);
+            assertThat(entries.get(1).getStatus()).isEqualTo(AutoJournalStatus.POSTED);
+            assertThat(entries.get(1).getPostedFlag()).isTrue();
+        }
+
         @Test
         @DisplayName("ステータスでエントリを検索できる")
         void canFindEntriesByStatus() {
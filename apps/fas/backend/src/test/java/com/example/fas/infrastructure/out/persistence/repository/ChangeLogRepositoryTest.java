@@ -7,6 +7,7 @@ import com.example.fas.domain.model.audit.ChangeLog;
 import com.example.fas.domain.model.audit.ChangeLog.OperationType;
 import com.example.fas.testsetup.BaseIntegrationTest;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -102,6 +103,43 @@ class ChangeLogRepositoryTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("一括登録")
+    class SaveAllTests {
+
+        @Test
+        @DisplayName("複数の変更ログを一括登録できる")
+        void canSaveAll() {
+            // Arrange
+            var logs = List.of(
+                    ChangeLog.builder()
+                            .tableName("仕訳")
+                            .recordKey("J25040001")
+                            .operationType(OperationType.INSERT)
+                            .afterData("{\"仕訳伝票番号\":\"J25040001\"}")
+                            .operatedAt(LocalDateTime.of(2025, 4, 1, 10, 0))
+                            .build(),
+                    ChangeLog.builder()
+                            .tableName("仕訳")
+                            .recordKey("J25040002")
+                            .operationType(OperationType.INSERT)
+                            .afterData("{\"仕訳伝票番号\":\"J25040002\"}")
+                            .operatedAt(LocalDateTime.of(2025, 4, 1, 11, 0))
+                            .build());
+
+            // Act
+            changeLogRepository.saveAll(logs);
+
+            // Assert
+            assertThat(changeLogRepository.findByTableName("仕訳"))
+                    .extracting(ChangeLog::getRecordKey)
+                    .containsExactly("J25040002", "J25040001");
+            assertThat(changeLogRepository.findLatestOperatedAt("仕訳"))
+                    .contains(LocalDateTime.of(2025, 4, 1, 11, 0));
+            assertThat(changeLogRepository.findLatestOperatedAt("部門マスタ")).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("検索")
     class SearchTests {
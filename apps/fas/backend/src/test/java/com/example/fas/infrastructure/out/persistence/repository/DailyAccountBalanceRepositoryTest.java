@@ -15,6 +15,7 @@ import com.example.fas.domain.model.balance.DailyAccountBalance;
 import com.example.fas.testsetup.BaseIntegrationTest;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -185,6 +186,36 @@ class DailyAccountBalanceRepositoryTest extends BaseIntegrationTest {
             // Assert
             assertThat(results).hasSize(2);
         }
+
+        @Test
+        @DisplayName("明細件数を加算し、勘定科目の日ごとの合計を起票日順に取得できる")
+        void canFindDailyTotals() {
+            // Arrange: 4/1 は部門違いの 2 行にまたがる
+            var first = createTestBalance(LocalDate.of(2024, 4, 1), "11110");
+            first.setEntryCount(2);
+            var otherDepartment = createTestBalance(LocalDate.of(2024, 4, 1), "11110");
+            otherDepartment.setDepartmentCode("10000");
+            otherDepartment.setCreditAmount(new BigDecimal("30000"));
+            otherDepartment.setEntryCount(1);
+            var next = createTestBalance(LocalDate.of(2024, 4, 2), "11110");
+            next.setEntryCount(1);
+            dailyBalanceRepository.addAmounts(List.of(first, otherDepartment, next));
+            var added = createTestBalance(LocalDate.of(2024, 4, 2), "11110");
+            added.setEntryCount(3);
+            dailyBalanceRepository.addAmounts(List.of(added));
+
+            // Act
+            var totals = dailyBalanceRepository.findDailyTotals(
+                    "11110", LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30));
+
+            // Assert
+            assertThat(totals).extracting(DailyAccountBalance::getPostingDate)
+                    .containsExactly(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 2));
+            assertThat(totals).extracting(DailyAccountBalance::getEntryCount).containsExactly(3, 4);
+            assertThat(totals.get(0).getDebitAmount()).isEqualByComparingTo("200000");
+            assertThat(totals.get(0).getCreditAmount()).isEqualByComparingTo("30000");
+            assertThat(totals.get(1).getDebitAmount()).isEqualByComparingTo("200000");
+        }
     }
 
     @Nested
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.example.fas.application.port.out.AccountRepository;
+import com.example.fas.application.port.out.ChangeLogRepository;
 import com.example.fas.application.port.out.JournalRepository;
 import com.example.fas.application.port.out.TaxTransactionRepository;
 import com.example.fas.domain.exception.OptimisticLockException;
@@ -12,14 +13,21 @@ import com.example.fas.domain.model.account.AggregationType;
 import com.example.fas.domain.model.account.BSPLType;
 import com.example.fas.domain.model.account.DebitCreditType;
 import com.example.fas.domain.model.account.TransactionElementType;
+import com.example.fas.domain.model.audit.ChangeLog;
+import com.example.fas.domain.model.audit.ChangeLog.OperationType;
 import com.example.fas.domain.model.journal.Journal;
+import com.example.fas.domain.model.journal.JournalCursor;
 import com.example.fas.domain.model.journal.JournalDebitCreditDetail;
 import com.example.fas.domain.model.journal.JournalDetail;
+import com.example.fas.domain.model.journal.JournalSearchCondition;
 import com.example.fas.domain.model.journal.JournalVoucherType;
+import com.example.fas.domain.model.report.GeneralLedgerCursor;
+import com.example.fas.domain.model.report.GeneralLedgerEntry;
 import com.example.fas.domain.model.tax.TaxTransaction;
 import com.example.fas.testsetup.BaseIntegrationTest;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +50,9 @@ class JournalRepositoryTest extends BaseIntegrationTest {
     @Autowired
     private TaxTransactionRepository taxTransactionRepository;
 
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
     @BeforeEach
     void setUp() {
         journalRepository.deleteAll();
@@ -258,6 +269,21 @@ class JournalRepositoryTest extends BaseIntegrationTest {
             assertThat(savedJournal.get().isBalanced()).isTrue();
         }
 
+        @Test
+        @DisplayName("複数の仕訳を一括登録できる")
+        void canRegisterJournalsInBatch() {
+            // Act
+            journalRepository.saveAll(List.of(
+                    createSimpleSalesJournal("J0001"),
+                    createCompoundJournal("J0002")));
+
+            // Assert
+            var savedJournals = journalRepository.findByVoucherNumbers(List.of("J0001", "J0002"));
+            assertThat(savedJournals).hasSize(2);
+            assertThat(savedJournals.get(1).getDetails()).hasSize(2);
+            assertThat(savedJournals).allMatch(Journal::isBalanced);
+        }
+
         @Test
         @DisplayName("貸借が一致しない仕訳はバランスチェックでfalseを返す")
         void shouldReturnFalseForUnbalancedJournal() {
@@ -321,6 +347,202 @@ class JournalRepositoryTest extends BaseIntegrationTest {
             // Assert
             assertThat(journal).isEmpty();
         }
+
+        @Test
+        @DisplayName("伝票番号の集合で明細を含めて一括取得できる")
+        void canFindByVoucherNumbers() {
+            // Act
+            var journals = journalRepository.findByVoucherNumbers(List.of("J0002", "J0001", "J9999"));
+
+            // Assert
+            assertThat(journals).extracting(Journal::getJournalVoucherNumber)
+                    .containsExactly("J0001", "J0002");
+            var compound = journals.get(1);
+            assertThat(compound.getDetails()).hasSize(2);
+            assertThat(compound.getDetails().get(0).getDebitCreditDetails()).hasSize(2);
+            assertThat(compound.getDetails().get(1).getDebitCreditDetails()).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("総勘定元帳")
+    class GeneralLedgerEntries {
+
+        private final LocalDate fromDate = LocalDate.of(2024, 4, 1);
+        private final LocalDate toDate = LocalDate.of(2024, 4, 30);
+
+        @BeforeEach
+        void setUpTestData() {
+            journalRepository.saveAll(List.of(
+                    createSimpleSalesJournal("J0003"),
+                    createSimpleSalesJournal("J0001"),
+                    createSimpleSalesJournal("J0002")));
+        }
+
+        @Test
+        @DisplayName("キーセットでカーソルの後ろから明細を読み出せる")
+        void canFindEntriesAfterCursor() {
+            // Act
+            var firstPage = journalRepository.findGeneralLedgerEntriesAfter(
+                    "11110", fromDate, toDate, null, 2);
+            var last = firstPage.get(1);
+            var secondPage = journalRepository.findGeneralLedgerEntriesAfter(
+                    "11110", fromDate, toDate, GeneralLedgerCursor.after(last), 2);
+
+            // Assert
+            assertThat(firstPage).extracting(GeneralLedgerEntry::getJournalNumber)
+                    .containsExactly("J0001", "J0002");
+            assertThat(firstPage.get(0).getLineNumber()).isEqualTo(1);
+            assertThat(firstPage.get(0).getDebitCreditType()).isEqualTo("借方");
+            assertThat(firstPage.get(0).getDebitAmount()).isEqualByComparingTo("100000");
+            assertThat(firstPage.get(0).getCounterAccountName()).isNotNull();
+            assertThat(secondPage).extracting(GeneralLedgerEntry::getJournalNumber)
+                    .containsExactly("J0003");
+        }
+
+        @Test
+        @DisplayName("指定位置の明細キーと期間内の累計を取得できる")
+        void canFindKeyAtOffset() {
+            // Act
+            var key = journalRepository.findGeneralLedgerKeyAt("11110", fromDate, toDate, 1);
+            var outOfRange = journalRepository.findGeneralLedgerKeyAt("11110", fromDate, toDate, 3);
+
+            // Assert
+            assertThat(key).isPresent();
+            assertThat(key.get().getJournalNumber()).isEqualTo("J0002");
+            assertThat(key.get().getBalance()).isEqualByComparingTo("200000");
+            assertThat(outOfRange).isEmpty();
+            assertThat(journalRepository.countGeneralLedgerEntries("11110", fromDate, toDate)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("カーソルの起票日の先頭からカーソルの明細までの累計を取得できる")
+        void canSumAmountThroughCursor() {
+            // Arrange
+            var key = journalRepository.findGeneralLedgerKeyAt("11110", fromDate, toDate, 1).orElseThrow();
+
+            // Act
+            var amount = journalRepository.sumGeneralLedgerAmountThrough("11110", GeneralLedgerCursor.after(key));
+
+            // Assert
+            assertThat(amount).isEqualByComparingTo("200000");
+        }
+    }
+
+    @Nested
+    @DisplayName("仕訳一覧の検索")
+    class JournalList {
+
+        private final JournalSearchCondition all = JournalSearchCondition.of(null, null, null, null);
+
+        @BeforeEach
+        void setUpTestData() {
+            journalRepository.saveAll(List.of(
+                    createSimpleSalesJournal("J0001"),
+                    createSimpleSalesJournal("J0002"),
+                    createCompoundJournal("J0003")));
+        }
+
+        @Test
+        @DisplayName("起票日・伝票番号の降順にカーソルの後ろから読み出せる")
+        void canFindJournalsAfterCursor() {
+            // Act
+            var firstPage = journalRepository.findJournalsAfter(all, JournalCursor.start(), 2);
+            var last = firstPage.get(1);
+            var secondPage = journalRepository.findJournalsAfter(
+                    all, JournalCursor.after(last.getPostingDate(), last.getJournalVoucherNumber()), 2);
+
+            // Assert
+            assertThat(firstPage).extracting(Journal::getJournalVoucherNumber)
+                    .containsExactly("J0003", "J0002");
+            assertThat(secondPage).extracting(Journal::getJournalVoucherNumber)
+                    .containsExactly("J0001");
+        }
+
+        @Test
+        @DisplayName("キーワードで行摘要と勘定科目コードを検索できる")
+        void canSearchByLineSummaryAndAccountCode() {
+            // Arrange
+            var bySummary = JournalSearchCondition.of(null, null, "手形", null);
+            var byAccount = JournalSearchCondition.of(null, null, "11200", null);
+
+            // Act & Assert
+            assertThat(journalRepository.findJournalsAfter(bySummary, null, 10))
+                    .extracting(Journal::getJournalVoucherNumber).containsExactly("J0003");
+            assertThat(journalRepository.findJournalsAfter(byAccount, null, 10))
+                    .extracting(Journal::getJournalVoucherNumber).containsExactly("J0003");
+            assertThat(journalRepository.countJournals(bySummary)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("勘定科目コードと期間で絞り込める")
+        void canFilterByAccountCodeAndDateRange() {
+            // Arrange
+            var condition = JournalSearchCondition.of(
+                    LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30), null, "41100");
+
+            // Act
+            var journals = journalRepository.findJournalsAfter(condition, null, 10);
+
+            // Assert
+            assertThat(journals).extracting(Journal::getJournalVoucherNumber)
+                    .containsExactly("J0002", "J0001");
+            assertThat(journalRepository.countJournals(condition)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("指定位置の仕訳キーを取得できる")
+        void canFindKeyAtOffset() {
+            // Act
+            var key = journalRepository.findJournalKeyAt(all, 1);
+            var outOfRange = journalRepository.findJournalKeyAt(all, 3);
+
+            // Assert
+            assertThat(key).contains(JournalCursor.after(LocalDate.of(2024, 4, 1), "J0002"));
+            assertThat(outOfRange).isEmpty();
+        }
+
+        @Test
+        @DisplayName("仕訳を登録すると件数のキャッシュが破棄される")
+        void countIsRefreshedAfterSave() {
+            // Arrange
+            assertThat(journalRepository.countJournals(all)).isEqualTo(3);
+
+            // Act
+            journalRepository.save(createSimpleSalesJournal("J0004"));
+
+            // Assert
+            assertThat(journalRepository.countJournals(all)).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("変更ログの補完対象")
+    class WithoutChangeLog {
+
+        @Test
+        @DisplayName("変更ログのない仕訳の伝票番号を取得できる")
+        void canFindVoucherNumbersWithoutChangeLog() {
+            // Arrange
+            changeLogRepository.deleteAll();
+            journalRepository.saveAll(List.of(
+                    createSimpleSalesJournal("J0001"),
+                    createSimpleSalesJournal("J0002")));
+            changeLogRepository.save(ChangeLog.builder()
+                    .tableName("仕訳")
+                    .recordKey("J0001")
+                    .operationType(OperationType.INSERT)
+                    .build());
+
+            // Act
+            var voucherNumbers = journalRepository.findVoucherNumbersWithoutChangeLog(
+                    LocalDateTime.now().minusHours(1));
+
+            // Assert
+            assertThat(voucherNumbers).containsExactly("J0002");
+            assertThat(journalRepository.findVoucherNumbersWithoutChangeLog(
+                    LocalDateTime.now().plusHours(1))).isEmpty();
+        }
     }
 
     @Nested
@@ -12,11 +12,16 @@ import com.example.fas.domain.model.account.AggregationType;
 import com.example.fas.domain.model.account.BSPLType;
 import com.example.fas.domain.model.account.DebitCreditType;
 import com.example.fas.domain.model.account.TransactionElementType;
+import com.example.fas.domain.model.balance.ClosingPeriod;
 import com.example.fas.domain.model.balance.DailyAccountBalance;
 import com.example.fas.domain.model.balance.MonthlyAccountBalance;
+import com.example.fas.domain.model.balance.TrialBalanceLine;
 import com.example.fas.testsetup.BaseIntegrationTest;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -223,6 +228,118 @@ class MonthlyAccountBalanceRepositoryTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("月次締め")
+    class ClosingTests {
+
+        @Test
+        @DisplayName("前月末残高と当月の日次残高を複合キー順に読み出せる")
+        void canStreamClosingSources() {
+            // Arrange
+            monthlyBalanceRepository.save(createTestBalance(3, "11110"));
+            monthlyBalanceRepository.save(createTestBalance(3, "41100"));
+            dailyBalanceRepository.upsert(DailyAccountBalance.builder()
+                    .postingDate(LocalDate.of(2024, 4, 10))
+                    .accountCode("11110")
+                    .subAccountCode("")
+                    .departmentCode("00000")
+                    .projectCode("")
+                    .closingJournalFlag(false)
+                    .debitAmount(new BigDecimal("40000"))
+                    .creditAmount(new BigDecimal("10000"))
+                    .build());
+            dailyBalanceRepository.upsert(DailyAccountBalance.builder()
+                    .postingDate(LocalDate.of(2024, 4, 20))
+                    .accountCode("11300")
+                    .subAccountCode("")
+                    .departmentCode("00000")
+                    .projectCode("")
+                    .closingJournalFlag(false)
+                    .debitAmount(new BigDecimal("5000"))
+                    .creditAmount(BigDecimal.ZERO)
+                    .build());
+
+            // Act
+            List<MonthlyAccountBalance> sources = new ArrayList<>();
+            monthlyBalanceRepository.forEachClosingSource(
+                    ClosingPeriod.of(2024, 4), "11110", "11300", sources::add);
+
+            // Assert: 範囲外の 41100 は含まない
+            assertThat(sources).extracting(MonthlyAccountBalance::getAccountCode)
+                    .containsExactly("11110", "11300");
+            assertThat(sources.get(0).getOpeningBalance()).isEqualByComparingTo("130000");
+            assertThat(sources.get(0).getDebitAmount()).isEqualByComparingTo("40000");
+            assertThat(sources.get(0).getCreditAmount()).isEqualByComparingTo("10000");
+            assertThat(sources.get(1).getOpeningBalance()).isEqualByComparingTo("0");
+            assertThat(sources.get(1).getDebitAmount()).isEqualByComparingTo("5000");
+        }
+
+        @Test
+        @DisplayName("締めた月次残高で既存の行を上書きできる")
+        void canSaveAllOverwritingExistingRows() {
+            // Arrange
+            monthlyBalanceRepository.save(createTestBalance(4, "11110"));
+            var closed = createTestBalance(4, "11110");
+            closed.setOpeningBalance(new BigDecimal("200000"));
+            closed.setClosingBalance(new BigDecimal("230000"));
+
+            // Act
+            monthlyBalanceRepository.saveAll(List.of(closed, createTestBalance(4, "11300")));
+
+            // Assert
+            assertThat(monthlyBalanceRepository.findByFiscalYearAndMonth(2024, 4))
+                    .extracting(MonthlyAccountBalance::getClosingBalance)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(new BigDecimal("230000"), new BigDecimal("130000"));
+        }
+
+        @Test
+        @DisplayName("締め月までの勘定科目累計残高を期首で繰り越しをやめずに作り直せる")
+        void canSaveCumulativeBalances() {
+            // Arrange: 各月の借方−貸方は 30000
+            monthlyBalanceRepository.save(createTestBalance(3, "11110"));
+            monthlyBalanceRepository.save(createTestBalance(3, "41100"));
+            monthlyBalanceRepository.save(createTestBalance(4, "11110"));
+            monthlyBalanceRepository.save(createTestBalance(5, "11110"));
+
+            // Act
+            int count = monthlyBalanceRepository.saveCumulativeBalances(ClosingPeriod.of(2024, 4), "11110", "11300");
+
+            // Assert: 範囲外の 41100 と締め月より後の 5 月は含まない
+            assertThat(count).isEqualTo(1);
+            var cumulative = monthlyBalanceRepository.findLatestCumulativeBalanceBefore(
+                    "11110", ClosingPeriod.of(2024, 6));
+            assertThat(cumulative).isPresent();
+            assertThat(cumulative.get().getPeriod()).isEqualTo(ClosingPeriod.of(2024, 4));
+            assertThat(cumulative.get().getBalance()).isEqualByComparingTo("60000");
+            assertThat(monthlyBalanceRepository.sumNetAmountBetween(
+                    "11110", cumulative.get().getPeriod(), ClosingPeriod.of(2024, 6)))
+                    .isEqualByComparingTo("30000");
+            assertThat(monthlyBalanceRepository.findLatestCumulativeBalanceBefore(
+                    "11110", ClosingPeriod.of(2024, 4))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("転記した月度以降の勘定科目累計残高を破棄できる")
+        void canDeleteCumulativeBalancesFrom() {
+            // Arrange
+            monthlyBalanceRepository.save(createTestBalance(3, "11110"));
+            monthlyBalanceRepository.save(createTestBalance(4, "11110"));
+            monthlyBalanceRepository.saveCumulativeBalances(ClosingPeriod.of(2024, 3), "11110", "11110");
+            monthlyBalanceRepository.saveCumulativeBalances(ClosingPeriod.of(2024, 4), "11110", "11110");
+
+            // Act
+            monthlyBalanceRepository.deleteCumulativeBalancesFrom(List.of("11110"), ClosingPeriod.of(2024, 4));
+
+            // Assert
+            var cumulative = monthlyBalanceRepository.findLatestCumulativeBalanceBefore(
+                    "11110", ClosingPeriod.of(2024, 12));
+            assertThat(cumulative).isPresent();
+            assertThat(cumulative.get().getPeriod()).isEqualTo(ClosingPeriod.of(2024, 3));
+            assertThat(cumulative.get().getBalance()).isEqualByComparingTo("30000");
+        }
+    }
+
     @Nested
     @DisplayName("合計残高試算表")
     class TrialBalanceTests {
@@ -257,6 +374,27 @@ class MonthlyAccountBalanceRepositoryTest extends BaseIntegrationTest {
             assertThat(bsTrialBalance).hasSize(1);
             assertThat(plTrialBalance).hasSize(1);
         }
+
+        @Test
+        @DisplayName("複数月度の試算表データを 1 回で取得できる")
+        void canGetTrialBalanceByPeriods() {
+            // Arrange
+            monthlyBalanceRepository.save(createTestBalance(3, "41100"));
+            monthlyBalanceRepository.save(createTestBalance(4, "11110"));
+            monthlyBalanceRepository.save(createTestBalance(4, "41100"));
+            monthlyBalanceRepository.save(createTestBalance(5, "41100"));
+
+            // Act
+            var all = monthlyBalanceRepository.getTrialBalanceByPeriods(
+                    List.of(YearMonth.of(2024, 5), YearMonth.of(2024, 3)), null);
+            var pl = monthlyBalanceRepository.getTrialBalanceByPeriods(
+                    List.of(YearMonth.of(2024, 4), YearMonth.of(2024, 5)), "PL");
+
+            // Assert
+            assertThat(all).extracting(TrialBalanceLine::getMonth).containsExactly(3, 5);
+            assertThat(pl).hasSize(2);
+            assertThat(pl).allSatisfy(line -> assertThat(line.getAccountCode()).isEqualTo("41100"));
+        }
     }
 
     @Nested
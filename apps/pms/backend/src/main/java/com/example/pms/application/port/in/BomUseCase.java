@@ -4,6 +4,7 @@ import com.example.pms.domain.model.bom.Bom;
 import com.example.pms.domain.model.bom.BomExplosion;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -28,6 +29,16 @@ public interface BomUseCase {
      */
     List<BomExplosion> explodeBom(String itemCode, BigDecimal quantity);
 
+    /**
+     * 基準日時点の構成で BOM 展開（部品展開）を実行する.
+     *
+     * @param itemCode 品目コード
+     * @param quantity 数量
+     * @param baseDate 基準日
+     * @return 展開結果
+     */
+    List<BomExplosion> explodeBom(String itemCode, BigDecimal quantity, LocalDate baseDate);
+
     /**
      * 逆展開（使用先照会）を実行する.
      *
@@ -35,4 +46,14 @@ public interface BomUseCase {
      * @return 使用先リスト
      */
     List<Bom> whereUsed(String childItemCode);
+
+    /**
+     * 全階層の逆展開（使用先照会）を実行する.
+     *
+     * @param childItemCode 子品目コード
+     * @param quantity 子品目の数量
+     * @param baseDate 基準日
+     * @return 全階層の使用先（累計数量は上位品目 1 単位あたりの含有数量 × 数量）
+     */
+    List<BomExplosion> whereUsedAllLevels(String childItemCode, BigDecimal quantity, LocalDate baseDate);
 }
@@ -1,9 +1,13 @@
 package com.example.pms.application.port.in;
 
+import com.example.pms.application.port.in.command.CreateLotCompositionCommand;
 import com.example.pms.application.port.in.command.CreateLotMasterCommand;
 import com.example.pms.application.port.in.command.UpdateLotMasterCommand;
 import com.example.pms.domain.model.common.PageResult;
+import com.example.pms.domain.model.quality.LotComposition;
 import com.example.pms.domain.model.quality.LotMaster;
+import com.example.pms.domain.model.quality.LotTrace;
+import com.example.pms.domain.model.quality.LotTraceDirection;
 
 import java.util.Optional;
 
@@ -53,4 +57,21 @@ public interface LotMasterUseCase {
      * @param lotNumber ロット番号
      */
     void deleteLotMaster(String lotNumber);
+
+    /**
+     * ロット構成を登録する.
+     *
+     * @param command 登録コマンド
+     * @return 登録されたロット構成
+     */
+    LotComposition createLotComposition(CreateLotCompositionCommand command);
+
+    /**
+     * ロットを起点に全階層のロット構成をたどる.
+     *
+     * @param lotNumber 起点のロット番号
+     * @param direction 追跡の方向（順方向: 使用先、逆方向: 構成ロット）
+     * @return 追跡結果
+     */
+    LotTrace traceLot(String lotNumber, LotTraceDirection direction);
 }
@@ -11,7 +11,6 @@ import java.util.List;
 /**
  * MRP ユースケース（Input Port）.
  */
-@SuppressWarnings("PMD.ImplicitFunctionalInterface")
 public interface MrpUseCase {
 
     /**
@@ -23,6 +22,18 @@ public interface MrpUseCase {
      */
     MrpResult execute(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * 正味変更 MRP を実行する.
+     *
+     * <p>前回の MRP 以降に需給が変わった品目とその下位品目だけを再計画する。
+     * 前回計画がない、期間が異なる、または部品構成が変わった場合は全件計画を行う。</p>
+     *
+     * @param startDate 開始日
+     * @param endDate 終了日
+     * @return MRP 実行結果（前回計画に差分を反映した全体）
+     */
+    MrpResult executeNetChange(LocalDate startDate, LocalDate endDate);
+
     /**
      * MRP 実行結果.
      */
@@ -34,6 +45,20 @@ public interface MrpUseCase {
         LocalDate periodEnd;
         List<PlannedOrder> plannedOrders;
         List<ShortageItem> shortageItems;
+        List<LevelTiming> levelTimings;
+        boolean netChange;
+        int replannedItemCount;
+    }
+
+    /**
+     * 低位レベルコード別の処理時間.
+     */
+    @Value
+    @Builder
+    class LevelTiming {
+        int lowLevelCode;
+        int itemCount;
+        long elapsedMillis;
     }
 
     /**
@@ -46,7 +71,9 @@ public interface MrpUseCase {
         String itemName;
         String orderType;
         BigDecimal quantity;
+        LocalDate releaseDate;
         LocalDate dueDate;
+        int lowLevelCode;
     }
 
     /**
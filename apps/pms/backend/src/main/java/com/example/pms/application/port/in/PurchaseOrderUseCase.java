@@ -6,6 +6,7 @@ import com.example.pms.domain.model.purchase.PurchaseOrder;
 import com.example.pms.domain.model.purchase.PurchaseOrderStatus;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 発注ユースケース（Input Port）.
@@ -58,6 +59,14 @@ public interface PurchaseOrderUseCase {
      */
     List<PurchaseOrder> getOrdersByStatus(PurchaseOrderStatus status);
 
+    /**
+     * 発注を 1 件ずつ読み出して処理する（帳票出力向け）.
+     *
+     * @param status ステータス（null の場合は全件）
+     * @param action 1 件ごとの処理
+     */
+    void forEachOrder(PurchaseOrderStatus status, Consumer<PurchaseOrder> action);
+
     /**
      * ページネーション付きで発注を取得する.
      *
@@ -0,0 +1,60 @@
+package com.example.pms.application.port.in;
+
+import com.example.pms.application.port.in.command.RollUpStandardCostCommand;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 標準原価積上げユースケース（Input Port）.
+ */
+public interface StandardCostRollupUseCase {
+
+    /**
+     * 部品構成表と工程表から製造品目の標準原価を積み上げ、適用日から有効な標準原価として登録する.
+     *
+     * <p>子品目の材料費・労務費・経費を親品目へ積み上げ、自工程の作業時間に賃率と
+     * 製造間接費配賦率を掛けた労務費・経費を加える。構成も工程もない品目（購入品など）は
+     * 積み上げの起点とし、適用日時点の標準原価（なければ最安の単価）を使う。</p>
+     *
+     * @param command 積上げコマンド
+     * @return 積上げ結果
+     */
+    RollupResult rollUp(RollUpStandardCostCommand command);
+
+    /**
+     * 積上げ結果.
+     */
+    @Value
+    @Builder
+    class RollupResult {
+        LocalDateTime executionTime;
+        LocalDate effectiveDate;
+        String workerCategoryCode;
+        BigDecimal hourlyRate;
+        BigDecimal overheadRatePerHour;
+        /** 標準原価を登録した製造品目数. */
+        int rolledItemCount;
+        /** 積み上げの起点とした品目数. */
+        int leafItemCount;
+        /** 標準原価も単価もなく 0 円として積み上げた品目. */
+        List<String> uncostedItemCodes;
+        List<LevelTiming> levelTimings;
+        long elapsedMillis;
+    }
+
+    /**
+     * 低位レベルコードごとの処理時間.
+     */
+    @Value
+    @Builder
+    class LevelTiming {
+        int lowLevelCode;
+        int itemCount;
+        long elapsedMillis;
+    }
+}
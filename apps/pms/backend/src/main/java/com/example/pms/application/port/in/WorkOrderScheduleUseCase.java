@@ -0,0 +1,125 @@
+package com.example.pms.application.port.in;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 作業指示の負荷計画（有限能力スケジューリング）ユースケース（Input Port）.
+ */
+public interface WorkOrderScheduleUseCase {
+
+    /**
+     * 未完了の作業指示を工程ごとの能力を考慮して計画し、着手日・完了日を提案する.
+     *
+     * <p>作業指示は更新せず、提案と工程別の日別負荷を返す。</p>
+     *
+     * @param direction 計画の方向
+     * @param startDate 計画開始日
+     * @param horizonDays 計画日数
+     * @param calendarCode カレンダコード（省略時は土日を休日とする）
+     * @return 計画結果
+     */
+    ScheduleResult schedule(ScheduleDirection direction, LocalDate startDate, int horizonDays,
+                            String calendarCode);
+
+    /**
+     * 計画の方向.
+     */
+    enum ScheduleDirection {
+        /** 計画開始日からできるだけ早く（フォワード）. */
+        FORWARD,
+        /** 予定終了日からできるだけ遅く（バックワード）. 間に合わない作業指示はフォワードで計画する. */
+        BACKWARD
+    }
+
+    /**
+     * 計画結果.
+     */
+    @Value
+    @Builder
+    class ScheduleResult {
+        LocalDateTime executionTime;
+        ScheduleDirection direction;
+        LocalDate periodStart;
+        LocalDate periodEnd;
+        String calendarCode;
+        List<ScheduledWorkOrder> workOrders;
+        List<UnscheduledWorkOrder> unscheduledWorkOrders;
+        List<ProcessLoad> processLoads;
+        long elapsedMillis;
+    }
+
+    /**
+     * 計画した作業指示.
+     */
+    @Value
+    @Builder
+    class ScheduledWorkOrder {
+        String workOrderNumber;
+        String itemCode;
+        BigDecimal quantity;
+        LocalDate currentStartDate;
+        LocalDate currentEndDate;
+        LocalDate proposedStartDate;
+        LocalDate proposedEndDate;
+        /** 提案した完了日が現在の予定終了日より後. */
+        boolean late;
+        List<ScheduledOperation> operations;
+    }
+
+    /**
+     * 計画した工程.
+     */
+    @Value
+    @Builder
+    class ScheduledOperation {
+        int sequence;
+        String processCode;
+        LocalDate startDate;
+        LocalDate endDate;
+        /** 段取時間と作業時間の合計（分）. */
+        long minutes;
+    }
+
+    /**
+     * 計画できなかった作業指示.
+     */
+    @Value
+    @Builder
+    class UnscheduledWorkOrder {
+        String workOrderNumber;
+        String itemCode;
+        String reason;
+    }
+
+    /**
+     * 工程別の負荷.
+     */
+    @Value
+    @Builder
+    class ProcessLoad {
+        String processCode;
+        String processName;
+        long capacityMinutes;
+        long loadMinutes;
+        List<DailyLoad> dailyLoads;
+    }
+
+    /**
+     * 日別の負荷.
+     */
+    @Value
+    @Builder
+    class DailyLoad {
+        LocalDate date;
+        long capacityMinutes;
+        long loadMinutes;
+        /** 負荷率（%）. */
+        BigDecimal loadRate;
+    }
+}
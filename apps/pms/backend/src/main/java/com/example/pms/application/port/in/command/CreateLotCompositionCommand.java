@@ -0,0 +1,13 @@
+package com.example.pms.application.port.in.command;
+
+import java.math.BigDecimal;
+
+/**
+ * ロット構成登録コマンド.
+ */
+public record CreateLotCompositionCommand(
+    String parentLotNumber,
+    String childLotNumber,
+    BigDecimal usedQuantity
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.pms.application.port.in.command;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 標準原価積上げコマンド.
+ *
+ * @param effectiveDate 積み上げた標準原価の適用開始日（部品構成・単価・賃率の基準日）
+ * @param workerCategoryCode 工程の作業時間に掛ける賃率の作業者区分コード
+ * @param overheadRatePerHour 作業時間 1 時間あたりの製造間接費配賦率
+ */
+public record RollUpStandardCostCommand(
+    LocalDate effectiveDate,
+    String workerCategoryCode,
+    BigDecimal overheadRatePerHour
+) {
+}
@@ -2,6 +2,7 @@ package com.example.pms.application.port.out;
 
 import com.example.pms.domain.model.plan.Allocation;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,14 @@ public interface AllocationRepository {
      */
     List<Allocation> findAll();
 
+    /**
+     * 所要の品目コードを指定して引当情報を取得する
+     *
+     * @param itemCodes 品目コード
+     * @return 引当情報のリスト
+     */
+    List<Allocation> findByItemCodes(Collection<String> itemCodes);
+
     /**
      * すべての引当情報を削除する
      */
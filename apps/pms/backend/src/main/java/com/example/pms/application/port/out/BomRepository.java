@@ -22,5 +22,14 @@ public interface BomRepository {
 
     List<BomExplosion> explode(String itemCode, BigDecimal quantity);
 
+    List<Bom> findAll();
+
+    /**
+     * 部品構成表の変更検知用スタンプ（件数と最終更新日時）を取得する.
+     *
+     * @return 変更スタンプ
+     */
+    String findChangeStamp();
+
     void deleteAll();
 }
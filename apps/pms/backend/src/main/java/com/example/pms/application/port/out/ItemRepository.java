@@ -33,6 +33,11 @@ public interface ItemRepository {
      */
     List<Item> findAll();
 
+    /**
+     * 品目マスタの変更検知用スタンプ（件数と最終更新日時）を取得する
+     */
+    String findChangeStamp();
+
     /**
      * 品目区分で品目を検索する
      */
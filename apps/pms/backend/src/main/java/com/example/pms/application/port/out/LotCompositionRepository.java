@@ -1,6 +1,7 @@
 package com.example.pms.application.port.out;
 
 import com.example.pms.domain.model.quality.LotComposition;
+import com.example.pms.domain.model.quality.LotGenealogyStamp;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +20,13 @@ public interface LotCompositionRepository {
 
     List<LotComposition> findAll();
 
+    /**
+     * ロットマスタ・ロット構成の変更スタンプを取得する.
+     *
+     * @return 変更スタンプ
+     */
+    LotGenealogyStamp findGenealogyStamp();
+
     void update(LotComposition composition);
 
     void deleteById(Integer id);
@@ -3,6 +3,7 @@ package com.example.pms.application.port.out;
 import com.example.pms.domain.model.plan.MasterProductionSchedule;
 import com.example.pms.domain.model.plan.PlanStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +46,14 @@ public interface MpsRepository {
      */
     List<MasterProductionSchedule> findAll();
 
+    /**
+     * 品目コードを指定して取得する
+     *
+     * @param itemCodes 品目コード
+     * @return 該当データ
+     */
+    List<MasterProductionSchedule> findByItemCodes(Collection<String> itemCodes);
+
     /**
      * ページネーション付きで基準生産計画を検索する
      *
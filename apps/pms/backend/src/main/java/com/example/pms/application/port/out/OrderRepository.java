@@ -3,6 +3,7 @@ package com.example.pms.application.port.out;
 import com.example.pms.domain.model.plan.Order;
 import com.example.pms.domain.model.plan.PlanStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +51,22 @@ public interface OrderRepository {
      */
     List<Order> findAll();
 
+    /**
+     * 品目コードを指定して取得する
+     *
+     * @param itemCodes 品目コード
+     * @return 該当データ
+     */
+    List<Order> findByItemCodes(Collection<String> itemCodes);
+
+    /**
+     * IDを指定してオーダを取得する
+     *
+     * @param ids オーダID
+     * @return オーダのリスト
+     */
+    List<Order> findByIds(Collection<Integer> ids);
+
     /**
      * ページネーション付きでオーダを検索する
      *
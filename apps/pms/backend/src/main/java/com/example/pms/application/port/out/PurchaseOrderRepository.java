@@ -5,6 +5,7 @@ import com.example.pms.domain.model.purchase.PurchaseOrderStatus;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 発注データリポジトリ（Output Port）
@@ -31,6 +32,17 @@ public interface PurchaseOrderRepository {
 
     List<PurchaseOrder> findAll();
 
+    /**
+     * 発注を 1 件ずつ読み出して処理する（帳票出力向け）.
+     *
+     * <p>全件をリストに載せずにカーソルで読み出すため、件数によらずメモリ使用量は一定。
+     * 読み出し中は DB 接続を保持する。</p>
+     *
+     * @param status ステータス（null の場合は全件）
+     * @param action 1 件ごとの処理
+     */
+    void forEachByStatus(PurchaseOrderStatus status, Consumer<PurchaseOrder> action);
+
     void updateStatus(Integer id, PurchaseOrderStatus status);
 
     void deleteAll();
@@ -3,6 +3,7 @@ package com.example.pms.application.port.out;
 import com.example.pms.domain.model.plan.Requirement;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +46,14 @@ public interface RequirementRepository {
      */
     List<Requirement> findAll();
 
+    /**
+     * 品目コードを指定して取得する
+     *
+     * @param itemCodes 品目コード
+     * @return 該当データ
+     */
+    List<Requirement> findByItemCodes(Collection<String> itemCodes);
+
     /**
      * 引当情報を更新する
      */
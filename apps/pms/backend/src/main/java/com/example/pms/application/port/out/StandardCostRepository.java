@@ -3,6 +3,7 @@ package com.example.pms.application.port.out;
 import com.example.pms.domain.model.cost.StandardCost;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,13 @@ public interface StandardCostRepository {
 
     void save(StandardCost standardCost);
 
+    /**
+     * 標準原価を一括登録する（採番した ID は設定しない）.
+     *
+     * @param standardCosts 標準原価
+     */
+    void saveAll(List<StandardCost> standardCosts);
+
     int update(StandardCost standardCost);
 
     Optional<StandardCost> findById(Integer id);
@@ -27,5 +35,23 @@ public interface StandardCostRepository {
 
     void deleteByItemCode(String itemCode);
 
+    /**
+     * 適用日より前に始まり適用日時点で有効な標準原価を、適用日の前日で締める.
+     *
+     * @param itemCodes 品目コード
+     * @param effectiveDate 新しい標準原価の適用開始日
+     * @return 更新件数
+     */
+    int closeByItemCodes(Collection<String> itemCodes, LocalDate effectiveDate);
+
+    /**
+     * 適用開始日が一致する標準原価を削除する.
+     *
+     * @param itemCodes 品目コード
+     * @param effectiveDate 適用開始日
+     * @return 削除件数
+     */
+    int deleteByItemCodesAndStartDate(Collection<String> itemCodes, LocalDate effectiveDate);
+
     void deleteAll();
 }
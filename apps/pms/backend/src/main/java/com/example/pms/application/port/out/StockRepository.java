@@ -3,6 +3,7 @@ package com.example.pms.application.port.out;
 import com.example.pms.domain.model.inventory.Stock;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,14 @@ public interface StockRepository {
 
     List<Stock> findAll();
 
+    /**
+     * 品目コードを指定して取得する
+     *
+     * @param itemCodes 品目コード
+     * @return 該当データ
+     */
+    List<Stock> findByItemCodes(Collection<String> itemCodes);
+
     /**
      * ページネーション対応の在庫一覧取得.
      *
@@ -20,9 +20,11 @@ import java.util.Optional;
 public class AcceptanceService implements AcceptanceUseCase {
 
     private final AcceptanceRepository acceptanceRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public AcceptanceService(AcceptanceRepository acceptanceRepository) {
+    public AcceptanceService(AcceptanceRepository acceptanceRepository, DocumentNumberAllocator numberAllocator) {
         this.acceptanceRepository = acceptanceRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -95,24 +97,8 @@ public class AcceptanceService implements AcceptanceUseCase {
      * 形式: ACC-yyyyMMdd-nnnn
      */
     private String generateAcceptanceNumber() {
-        String datePrefix = "ACC-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
-        List<Acceptance> allAcceptances = acceptanceRepository.findAll();
-
-        int maxSeq = allAcceptances.stream()
-            .map(Acceptance::getAcceptanceNumber)
-            .filter(num -> num != null && num.startsWith(datePrefix))
-            .map(num -> {
-                String seqStr = num.substring(datePrefix.length());
-                try {
-                    return Integer.parseInt(seqStr);
-                } catch (NumberFormatException e) {
-                    return 0;
-                }
-            })
-            .max(Integer::compareTo)
-            .orElse(0);
-
-        return datePrefix + String.format("%04d", maxSeq + 1);
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("ACC-%s-%04d", date, numberAllocator.next("ACCEPTANCE", date));
     }
 
 }
@@ -0,0 +1,79 @@
+package com.example.pms.application.service;
+
+import com.example.pms.application.port.out.BomRepository;
+import com.example.pms.domain.model.bom.BomGraph;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 部品構成表グラフのプロセス内キャッシュ.
+ *
+ * <p>部品構成表全体を不変の {@link BomGraph} として保持し、参照のたびに
+ * 件数と最終更新日時からなる変更スタンプを照合する。スタンプが変わっていれば
+ * （他インスタンスや SQL での直接更新を含む）グラフを再構築する。
+ * 同一プロセス内で部品構成表を更新した場合は {@link #invalidate()} を呼び出す。</p>
+ *
+ * <p>MRP・標準原価積上げのように構成に現れない品目も計画する場合は {@link #get(Collection)} で
+ * 品目を加えたグラフを得る（部品構成表は読み直さない）。</p>
+ */
+@Component
+public class BomGraphCache {
+
+    private final BomRepository bomRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public BomGraphCache(BomRepository bomRepository) {
+        this.bomRepository = bomRepository;
+    }
+
+    /**
+     * 最新の部品構成表グラフを取得する.
+     *
+     * @return BOM グラフ
+     */
+    public BomGraph get() {
+        String stamp = bomRepository.findChangeStamp();
+        Snapshot current = snapshot.get();
+        if (current != null && Objects.equals(current.stamp(), stamp)) {
+            return current.graph();
+        }
+        reloadLock.lock();
+        try {
+            current = snapshot.get();
+            if (current != null && Objects.equals(current.stamp(), stamp)) {
+                return current.graph();
+            }
+            BomGraph graph = BomGraph.of(bomRepository.findAll(), List.of());
+            snapshot.set(new Snapshot(stamp, graph));
+            return graph;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 構成に現れない品目を加えた最新の部品構成表グラフを取得する.
+     *
+     * @param additionalItemCodes 構成に現れない品目も含めたい場合の品目コード
+     * @return BOM グラフ
+     */
+    public BomGraph get(Collection<String> additionalItemCodes) {
+        return get().withItems(additionalItemCodes);
+    }
+
+    /**
+     * キャッシュを破棄する（次回参照時に再構築）.
+     */
+    public void invalidate() {
+        snapshot.set(null);
+    }
+
+    private record Snapshot(String stamp, BomGraph graph) {
+    }
+}
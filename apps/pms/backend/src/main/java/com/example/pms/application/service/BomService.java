@@ -8,19 +8,24 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * BOM サービス（Application Service）.
+ *
+ * <p>全階層の展開・逆展開は {@link BomGraphCache} のインメモリグラフから求める。</p>
  */
 @Service
 @Transactional(readOnly = true)
 public class BomService implements BomUseCase {
 
     private final BomRepository bomRepository;
+    private final BomGraphCache bomGraphCache;
 
-    public BomService(BomRepository bomRepository) {
+    public BomService(BomRepository bomRepository, BomGraphCache bomGraphCache) {
         this.bomRepository = bomRepository;
+        this.bomGraphCache = bomGraphCache;
     }
 
     @Override
@@ -30,11 +35,21 @@ public class BomService implements BomUseCase {
 
     @Override
     public List<BomExplosion> explodeBom(String itemCode, BigDecimal quantity) {
-        return bomRepository.explode(itemCode, quantity);
+        return explodeBom(itemCode, quantity, LocalDate.now());
+    }
+
+    @Override
+    public List<BomExplosion> explodeBom(String itemCode, BigDecimal quantity, LocalDate baseDate) {
+        return bomGraphCache.get().explode(itemCode, quantity, baseDate);
     }
 
     @Override
     public List<Bom> whereUsed(String childItemCode) {
         return bomRepository.findByChildItemCode(childItemCode);
     }
+
+    @Override
+    public List<BomExplosion> whereUsedAllLevels(String childItemCode, BigDecimal quantity, LocalDate baseDate) {
+        return bomGraphCache.get().implode(childItemCode, quantity, baseDate);
+    }
 }
@@ -15,15 +15,20 @@ import java.util.Optional;
 
 /**
  * カレンダーサービス（Application Service）.
+ *
+ * <p>登録・更新・削除したカレンダコードは {@link WorkingCalendarIndex} の索引をコミット後に破棄し、
+ * 次の計画で読み直させる。</p>
  */
 @Service
 @Transactional
 public class CalendarService implements CalendarUseCase {
 
     private final CalendarRepository calendarRepository;
+    private final WorkingCalendarIndex workingCalendarIndex;
 
-    public CalendarService(CalendarRepository calendarRepository) {
+    public CalendarService(CalendarRepository calendarRepository, WorkingCalendarIndex workingCalendarIndex) {
         this.calendarRepository = calendarRepository;
+        this.workingCalendarIndex = workingCalendarIndex;
     }
 
     @Override
@@ -51,6 +56,7 @@ public class CalendarService implements CalendarUseCase {
             .note(command.note())
             .build();
         calendarRepository.save(calendar);
+        workingCalendarIndex.invalidate(calendar.getCalendarCode());
         return calendar;
     }
 
@@ -70,11 +76,13 @@ public class CalendarService implements CalendarUseCase {
             .note(command.note())
             .build();
         calendarRepository.update(calendar);
+        workingCalendarIndex.invalidate(calendarCode);
         return calendar;
     }
 
     @Override
     public void deleteCalendar(String calendarCode, LocalDate date) {
         calendarRepository.deleteByCalendarCodeAndDate(calendarCode, date);
+        workingCalendarIndex.invalidate(calendarCode);
     }
 }
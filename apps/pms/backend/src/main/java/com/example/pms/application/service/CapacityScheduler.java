@@ -0,0 +1,470 @@
+package com.example.pms.application.service;
+
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.DailyLoad;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ProcessLoad;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduleDirection;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduledOperation;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduledWorkOrder;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.UnscheduledWorkOrder;
+import com.example.pms.domain.model.process.ProcessRoute;
+import com.example.pms.domain.model.process.WorkOrder;
+import com.example.pms.domain.model.process.WorkOrderStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * 工程ごとの有限能力による作業指示の計画.
+ *
+ * <p>時刻はカレンダの稼働時間だけを数えた「計画開始日からの稼働分」で扱う。全工程が同じカレンダに従い、
+ * 各工程は同時に 1 つの作業だけを行う。工程ごとの空き時間帯を開始位置をキーとする {@link TreeMap} で持ち、
+ * 作業を空き時間帯に割り付けるたびに分割する（先に割り付けた作業の間の空きにも入る）。</p>
+ *
+ * <p>フォワードは着手可能になった時刻の早い工程から優先度付きキューで取り出し、その時刻以降の最初の空きに
+ * 割り付けて次の工順を後工程の着手可能時刻とともにキューへ戻す。バックワードは予定終了日から逆に、
+ * 完了期限の遅い工程から期限以前の最後の空きに割り付ける。計画開始日までに収まらない作業指示は
+ * 割り付けを取り消し、最後にフォワードで計画する。着手済・中断中と予定終了日のない作業指示は
+ * バックワードでも最初にフォワードで計画する。</p>
+ */
+@SuppressWarnings({"PMD.UseConcurrentHashMap", "PMD.AvoidInstantiatingObjectsInLoops", "PMD.GodClass"})
+final class CapacityScheduler {
+
+    private static final long NOT_PLACED = -1L;
+    private static final int NO_DAY = -1;
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private final LocalDate startDate;
+    private final int[] dayCapacity;
+    private final long[] dayStart;
+    private final long horizonEnd;
+    private final Map<String, TreeMap<Long, Long>> freeIntervals = new HashMap<>();
+    private final List<Job> jobs = new ArrayList<>();
+    private final List<UnscheduledWorkOrder> unscheduled = new ArrayList<>();
+
+    /**
+     * 日別の稼働分から計画の時間軸を作る.
+     *
+     * @param startDate 計画開始日
+     * @param dailyCapacityMinutes 計画開始日からの日ごとの稼働分
+     */
+    CapacityScheduler(LocalDate startDate, int[] dailyCapacityMinutes) {
+        this.startDate = startDate;
+        this.dayCapacity = dailyCapacityMinutes.clone();
+        this.dayStart = new long[dayCapacity.length + 1];
+        for (int d = 0; d < dayCapacity.length; d++) {
+            dayStart[d + 1] = dayStart[d] + dayCapacity[d];
+        }
+        this.horizonEnd = dayStart[dayCapacity.length];
+    }
+
+    /**
+     * 作業指示を計画対象に加える. 工程表のない作業指示は計画できない作業指示とする.
+     *
+     * @param workOrder 作業指示
+     * @param routes 品目の工程表
+     */
+    void addWorkOrder(WorkOrder workOrder, List<ProcessRoute> routes) {
+        if (routes.isEmpty()) {
+            unscheduled.add(unscheduledOf(workOrder, "工程表が登録されていません"));
+            return;
+        }
+        BigDecimal quantity = remainingQuantity(workOrder);
+        List<ProcessRoute> sorted = routes.stream()
+            .sorted(Comparator.comparing(ProcessRoute::getSequence))
+            .toList();
+        int n = sorted.size();
+        Job job = new Job(workOrder, n, dueMinute(workOrder.getPlannedEndDate()));
+        for (int op = 0; op < n; op++) {
+            ProcessRoute route = sorted.get(op);
+            job.sequences[op] = route.getSequence();
+            job.processCodes[op] = route.getProcessCode();
+            job.minutes[op] = operationMinutes(route, quantity);
+        }
+        jobs.add(job);
+    }
+
+    /**
+     * 計画する.
+     *
+     * @param direction 計画の方向
+     * @return 計画した作業指示（提案着手日・作業指示番号順）
+     */
+    List<ScheduledWorkOrder> schedule(ScheduleDirection direction) {
+        List<Job> scheduled = new ArrayList<>();
+        if (direction == ScheduleDirection.BACKWARD) {
+            List<Job> forward = new ArrayList<>();
+            List<Job> backward = new ArrayList<>();
+            for (Job job : jobs) {
+                boolean started = job.workOrder.getStatus() != null
+                    && job.workOrder.getStatus() != WorkOrderStatus.NOT_STARTED;
+                if (started || job.workOrder.getPlannedEndDate() == null) {
+                    forward.add(job);
+                } else {
+                    backward.add(job);
+                }
+            }
+            scheduleForward(forward, scheduled);
+            List<Job> infeasible = scheduleBackward(backward, scheduled);
+            scheduleForward(infeasible, scheduled);
+        } else {
+            scheduleForward(jobs, scheduled);
+        }
+        return scheduled.stream()
+            .map(this::toScheduledWorkOrder)
+            .sorted(Comparator.comparing(ScheduledWorkOrder::getProposedStartDate)
+                .thenComparing(ScheduledWorkOrder::getWorkOrderNumber))
+            .toList();
+    }
+
+    /**
+     * 計画できなかった作業指示.
+     */
+    List<UnscheduledWorkOrder> unscheduledWorkOrders() {
+        return List.copyOf(unscheduled);
+    }
+
+    /**
+     * 工程別の日別負荷を集計する. 期間は計画開始日から最後に負荷のある日までの稼働日とする.
+     *
+     * @param processNames 工程コード→工程名
+     * @return 工程別の負荷（工程コード順）
+     */
+    List<ProcessLoad> processLoads(Map<String, String> processNames) {
+        Map<String, long[]> loads = new TreeMap<>();
+        int lastDay = NO_DAY;
+        for (Job job : jobs) {
+            if (!job.scheduled) {
+                continue;
+            }
+            for (int op = 0; op < job.minutes.length; op++) {
+                long[] load = loads.computeIfAbsent(job.processCodes[op], k -> new long[dayCapacity.length]);
+                long start = job.starts[op];
+                long end = start + job.minutes[op];
+                for (int d = dayOf(start); start < end && d < dayCapacity.length; d++) {
+                    long chunk = Math.min(end, dayStart[d + 1]) - start;
+                    if (chunk > 0) {
+                        load[d] += chunk;
+                        start += chunk;
+                        lastDay = Math.max(lastDay, d);
+                    }
+                }
+            }
+        }
+        List<ProcessLoad> result = new ArrayList<>(loads.size());
+        for (Map.Entry<String, long[]> entry : loads.entrySet()) {
+            long[] load = entry.getValue();
+            List<DailyLoad> dailyLoads = new ArrayList<>();
+            long capacityTotal = 0;
+            long loadTotal = 0;
+            for (int d = 0; d <= lastDay; d++) {
+                if (dayCapacity[d] == 0) {
+                    continue;
+                }
+                capacityTotal += dayCapacity[d];
+                loadTotal += load[d];
+                dailyLoads.add(DailyLoad.builder()
+                    .date(startDate.plusDays(d))
+                    .capacityMinutes(dayCapacity[d])
+                    .loadMinutes(load[d])
+                    .loadRate(rate(load[d], dayCapacity[d]))
+                    .build());
+            }
+            result.add(ProcessLoad.builder()
+                .processCode(entry.getKey())
+                .processName(processNames.get(entry.getKey()))
+                .capacityMinutes(capacityTotal)
+                .loadMinutes(loadTotal)
+                .dailyLoads(dailyLoads)
+                .build());
+        }
+        return result;
+    }
+
+    private void scheduleForward(List<Job> targets, List<Job> scheduled) {
+        PriorityQueue<Step> queue = new PriorityQueue<>(Comparator.comparingLong(Step::time)
+            .thenComparingLong(s -> s.job().due)
+            .thenComparing(s -> s.job().workOrder.getWorkOrderNumber()));
+        for (Job job : targets) {
+            queue.add(new Step(job, 0, 0L));
+        }
+        while (!queue.isEmpty()) {
+            Step step = queue.poll();
+            Job job = step.job();
+            int op = step.operation();
+            long start = placeForward(job.processCodes[op], step.time(), job.minutes[op]);
+            if (start == NOT_PLACED) {
+                releaseAll(job);
+                unscheduled.add(unscheduledOf(job.workOrder,
+                    "計画期間内に工程 " + job.processCodes[op] + " の能力が足りません"));
+                continue;
+            }
+            job.place(op, start);
+            if (op + 1 < job.minutes.length) {
+                queue.add(new Step(job, op + 1, start + job.minutes[op]));
+            } else {
+                job.scheduled = true;
+                scheduled.add(job);
+            }
+        }
+    }
+
+    /**
+     * バックワードで計画する.
+     *
+     * @return 計画開始日までに収まらなかった作業指示
+     */
+    private List<Job> scheduleBackward(List<Job> targets, List<Job> scheduled) {
+        PriorityQueue<Step> queue = new PriorityQueue<>(Comparator.comparingLong(Step::time).reversed()
+            .thenComparing(s -> s.job().workOrder.getWorkOrderNumber()));
+        for (Job job : targets) {
+            queue.add(new Step(job, job.minutes.length - 1, job.due));
+        }
+        List<Job> infeasible = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            Step step = queue.poll();
+            Job job = step.job();
+            int op = step.operation();
+            long start = placeBackward(job.processCodes[op], step.time(), job.minutes[op]);
+            if (start == NOT_PLACED) {
+                releaseAll(job);
+                infeasible.add(job);
+                continue;
+            }
+            job.place(op, start);
+            if (op > 0) {
+                queue.add(new Step(job, op - 1, start));
+            } else {
+                job.scheduled = true;
+                scheduled.add(job);
+            }
+        }
+        return infeasible;
+    }
+
+    /**
+     * 着手可能時刻以降で作業時間が収まる最初の空きに割り付ける.
+     *
+     * @return 開始時刻（割り付けられない場合は {@value #NOT_PLACED}）
+     */
+    private long placeForward(String processCode, long ready, long minutes) {
+        if (minutes == 0) {
+            return Math.min(ready, horizonEnd);
+        }
+        TreeMap<Long, Long> free = freeIntervalsOf(processCode);
+        Long from = free.floorKey(ready);
+        for (Map.Entry<Long, Long> interval : free.tailMap(from != null ? from : ready, true).entrySet()) {
+            long start = Math.max(interval.getKey(), ready);
+            if (interval.getValue() - start >= minutes) {
+                occupy(free, interval.getKey(), interval.getValue(), start, start + minutes);
+                return start;
+            }
+        }
+        return NOT_PLACED;
+    }
+
+    /**
+     * 完了期限以前で作業時間が収まる最後の空きに割り付ける.
+     *
+     * @return 開始時刻（割り付けられない場合は {@value #NOT_PLACED}）
+     */
+    private long placeBackward(String processCode, long deadline, long minutes) {
+        if (minutes == 0) {
+            return deadline;
+        }
+        TreeMap<Long, Long> free = freeIntervalsOf(processCode);
+        for (Map.Entry<Long, Long> interval : free.headMap(deadline, false).descendingMap().entrySet()) {
+            long end = Math.min(interval.getValue(), deadline);
+            if (end - interval.getKey() >= minutes) {
+                occupy(free, interval.getKey(), interval.getValue(), end - minutes, end);
+                return end - minutes;
+            }
+        }
+        return NOT_PLACED;
+    }
+
+    private TreeMap<Long, Long> freeIntervalsOf(String processCode) {
+        return freeIntervals.computeIfAbsent(processCode, k -> {
+            TreeMap<Long, Long> free = new TreeMap<>();
+            if (horizonEnd > 0) {
+                free.put(0L, horizonEnd);
+            }
+            return free;
+        });
+    }
+
+    private static void occupy(TreeMap<Long, Long> free, long freeStart, long freeEnd, long start, long end) {
+        free.remove(freeStart);
+        if (freeStart < start) {
+            free.put(freeStart, start);
+        }
+        if (end < freeEnd) {
+            free.put(end, freeEnd);
+        }
+    }
+
+    /**
+     * 割り付けた工程をすべて取り消し、空き時間帯に戻す（隣接する空きとは連結する）.
+     */
+    private void releaseAll(Job job) {
+        for (int op = 0; op < job.minutes.length; op++) {
+            if (!job.placed[op] || job.minutes[op] == 0) {
+                job.placed[op] = false;
+                continue;
+            }
+            TreeMap<Long, Long> free = freeIntervalsOf(job.processCodes[op]);
+            long start = job.starts[op];
+            long end = start + job.minutes[op];
+            Map.Entry<Long, Long> lower = free.lowerEntry(start);
+            if (lower != null && lower.getValue() == start) {
+                start = lower.getKey();
+            }
+            Long higherEnd = free.remove(end);
+            if (higherEnd != null) {
+                end = higherEnd;
+            }
+            free.put(start, end);
+            job.placed[op] = false;
+        }
+    }
+
+    private ScheduledWorkOrder toScheduledWorkOrder(Job job) {
+        WorkOrder workOrder = job.workOrder;
+        List<ScheduledOperation> operations = new ArrayList<>(job.minutes.length);
+        for (int op = 0; op < job.minutes.length; op++) {
+            long start = job.starts[op];
+            operations.add(ScheduledOperation.builder()
+                .sequence(job.sequences[op])
+                .processCode(job.processCodes[op])
+                .startDate(dateOf(start))
+                .endDate(endDateOf(start, start + job.minutes[op]))
+                .minutes(job.minutes[op])
+                .build());
+        }
+        LocalDate proposedEnd = operations.getLast().getEndDate();
+        return ScheduledWorkOrder.builder()
+            .workOrderNumber(workOrder.getWorkOrderNumber())
+            .itemCode(workOrder.getItemCode())
+            .quantity(remainingQuantity(workOrder))
+            .currentStartDate(workOrder.getPlannedStartDate())
+            .currentEndDate(workOrder.getPlannedEndDate())
+            .proposedStartDate(operations.getFirst().getStartDate())
+            .proposedEndDate(proposedEnd)
+            .late(workOrder.getPlannedEndDate() != null && proposedEnd.isAfter(workOrder.getPlannedEndDate()))
+            .operations(operations)
+            .build();
+    }
+
+    /**
+     * 予定終了日の終業時刻（稼働分）. 予定終了日がない、または計画期間外の場合は計画期間の終わり.
+     */
+    private long dueMinute(LocalDate dueDate) {
+        if (dueDate == null) {
+            return horizonEnd;
+        }
+        long days = ChronoUnit.DAYS.between(startDate, dueDate);
+        if (days < 0) {
+            return 0L;
+        }
+        return days >= dayCapacity.length ? horizonEnd : dayStart[(int) days + 1];
+    }
+
+    /**
+     * 稼働分が属する稼働日のインデックス.
+     */
+    private int dayOf(long minute) {
+        long target = Math.min(minute, horizonEnd - 1);
+        int low = 0;
+        int high = dayCapacity.length;
+        // dayStart[d] <= target となる最大の d（直前の休日ではなく稼働日になる）
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (dayStart[mid] <= target) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return Math.min(low, dayCapacity.length - 1);
+    }
+
+    private LocalDate dateOf(long minute) {
+        return horizonEnd == 0 ? startDate : startDate.plusDays(dayOf(minute));
+    }
+
+    private LocalDate endDateOf(long start, long end) {
+        return dateOf(end > start ? end - 1 : start);
+    }
+
+    private static BigDecimal remainingQuantity(WorkOrder workOrder) {
+        BigDecimal ordered = workOrder.getOrderQuantity() != null ? workOrder.getOrderQuantity() : BigDecimal.ZERO;
+        BigDecimal completed = workOrder.getCompletedQuantity() != null
+            ? workOrder.getCompletedQuantity() : BigDecimal.ZERO;
+        return ordered.subtract(completed).max(BigDecimal.ZERO);
+    }
+
+    /**
+     * 段取時間 + 標準作業時間 × 数量（分、切り上げ）.
+     */
+    private static long operationMinutes(ProcessRoute route, BigDecimal quantity) {
+        BigDecimal setup = route.getSetupTime() != null ? route.getSetupTime() : BigDecimal.ZERO;
+        BigDecimal standard = route.getStandardTime() != null ? route.getStandardTime() : BigDecimal.ZERO;
+        return setup.add(standard.multiply(quantity)).setScale(0, RoundingMode.CEILING).longValueExact();
+    }
+
+    private static BigDecimal rate(long load, long capacity) {
+        return BigDecimal.valueOf(load).multiply(HUNDRED)
+            .divide(BigDecimal.valueOf(capacity), 1, RoundingMode.HALF_UP);
+    }
+
+    private static UnscheduledWorkOrder unscheduledOf(WorkOrder workOrder, String reason) {
+        return UnscheduledWorkOrder.builder()
+            .workOrderNumber(workOrder.getWorkOrderNumber())
+            .itemCode(workOrder.getItemCode())
+            .reason(reason)
+            .build();
+    }
+
+    /**
+     * 作業指示の工程（工順順）と割り付け結果.
+     */
+    private static final class Job {
+        final WorkOrder workOrder;
+        final long due;
+        final int[] sequences;
+        final String[] processCodes;
+        final long[] minutes;
+        final long[] starts;
+        final boolean[] placed;
+        boolean scheduled;
+
+        Job(WorkOrder workOrder, int operationCount, long due) {
+            this.workOrder = workOrder;
+            this.due = due;
+            this.sequences = new int[operationCount];
+            this.processCodes = new String[operationCount];
+            this.minutes = new long[operationCount];
+            this.starts = new long[operationCount];
+            this.placed = new boolean[operationCount];
+        }
+
+        void place(int operation, long start) {
+            starts[operation] = start;
+            placed[operation] = true;
+        }
+    }
+
+    /**
+     * 割り付け待ちの工程. time はフォワードでは着手可能時刻、バックワードでは完了期限.
+     */
+    private record Step(Job job, int operation, long time) {
+    }
+}
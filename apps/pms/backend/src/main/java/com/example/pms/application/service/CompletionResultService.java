@@ -21,9 +21,11 @@ import java.util.Optional;
 public class CompletionResultService implements CompletionResultUseCase {
 
     private final CompletionResultRepository completionResultRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public CompletionResultService(CompletionResultRepository completionResultRepository) {
+    public CompletionResultService(CompletionResultRepository completionResultRepository, DocumentNumberAllocator numberAllocator) {
         this.completionResultRepository = completionResultRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -103,23 +105,7 @@ public class CompletionResultService implements CompletionResultUseCase {
     }
 
     private String generateCompletionResultNumber() {
-        String datePrefix = "CR-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
-        List<CompletionResult> allCompletionResults = completionResultRepository.findAll();
-
-        int maxSeq = allCompletionResults.stream()
-            .map(CompletionResult::getCompletionResultNumber)
-            .filter(num -> num != null && num.startsWith(datePrefix))
-            .map(num -> {
-                String seqStr = num.substring(datePrefix.length());
-                try {
-                    return Integer.parseInt(seqStr);
-                } catch (NumberFormatException e) {
-                    return 0;
-                }
-            })
-            .max(Integer::compareTo)
-            .orElse(0);
-
-        return datePrefix + String.format("%04d", maxSeq + 1);
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("CR-%s-%04d", date, numberAllocator.next("COMPLETION_RESULT", date));
     }
 }
@@ -0,0 +1,185 @@
+package com.example.pms.application.service;
+
+import com.example.pms.domain.model.bom.BomGraph;
+import com.example.pms.domain.model.cost.StandardCost;
+import com.example.pms.domain.model.item.Item;
+import com.example.pms.domain.model.process.ProcessRoute;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 部品構成表による標準原価の積上げ.
+ *
+ * <p>品目は {@link BomGraph} のインデックスで扱い、低位レベルコードの大きい順に
+ * {@link #costItem(int)} を呼び出すことで、子品目の原価が確定してから親品目を積み上げる。
+ * 適用日時点で有効な子構成または工程表がある品目を製造品目として積み上げ、
+ * それ以外の品目は呼び出し側で求めた起点原価（現在の標準原価または単価）を使う。
+ * 同一レベルの品目は互いに参照しないため並列に呼び出せる。</p>
+ */
+final class CostRollup {
+
+    private static final int COST_SCALE = 2;
+    private static final int RATE_SCALE = 6;
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+    private static final BigDecimal MINUTES_PER_HOUR = new BigDecimal("60");
+
+    private final BomGraph graph;
+    private final LocalDate effectiveDate;
+    private final Map<String, Item> items;
+    private final Map<String, List<ProcessRoute>> routesByItem;
+    /** 積み上げの起点とする品目の単位あたり原価（品目コード別）. */
+    private final Map<String, StandardCost> leafCosts;
+    /** 作業時間 1 分あたりの労務費. */
+    private final BigDecimal laborPerMinute;
+    /** 作業時間 1 分あたりの経費. */
+    private final BigDecimal expensePerMinute;
+
+    private final boolean[] rolled;
+    private final boolean[] uncosted;
+    private final BigDecimal[] materialCosts;
+    private final BigDecimal[] laborCosts;
+    private final BigDecimal[] expenses;
+
+    CostRollup(BomGraph graph, LocalDate effectiveDate, Map<String, Item> items,
+               Map<String, List<ProcessRoute>> routesByItem, Map<String, StandardCost> leafCosts,
+               BigDecimal hourlyRate, BigDecimal overheadRatePerHour) {
+        this.graph = graph;
+        this.effectiveDate = effectiveDate;
+        this.items = items;
+        this.routesByItem = routesByItem;
+        this.leafCosts = leafCosts;
+        this.laborPerMinute = hourlyRate.divide(MINUTES_PER_HOUR, RATE_SCALE, RoundingMode.HALF_UP);
+        this.expensePerMinute = overheadRatePerHour.divide(MINUTES_PER_HOUR, RATE_SCALE, RoundingMode.HALF_UP);
+        int n = graph.size();
+        this.rolled = new boolean[n];
+        this.uncosted = new boolean[n];
+        this.materialCosts = new BigDecimal[n];
+        this.laborCosts = new BigDecimal[n];
+        this.expenses = new BigDecimal[n];
+        for (int i = 0; i < n; i++) {
+            rolled[i] = routesByItem.containsKey(graph.itemCode(i)) || hasEffectiveChild(i);
+        }
+    }
+
+    /**
+     * 製造品目（積み上げて標準原価を登録する品目）か.
+     */
+    boolean isRolled(int index) {
+        return rolled[index];
+    }
+
+    /**
+     * 積み上げの起点で、起点原価がなかった（0 円とした）品目か.
+     */
+    boolean isUncosted(int index) {
+        return uncosted[index];
+    }
+
+    /**
+     * 品目の単位あたり原価を求める. 子品目は先に求めておくこと.
+     */
+    void costItem(int index) {
+        if (!rolled[index]) {
+            costLeaf(index);
+            return;
+        }
+        BigDecimal material = BigDecimal.ZERO;
+        BigDecimal labor = BigDecimal.ZERO;
+        BigDecimal expense = BigDecimal.ZERO;
+        for (int e = graph.childEdgeStart(index); e < graph.childEdgeEnd(index); e++) {
+            if (!graph.isEffective(e, effectiveDate)) {
+                continue;
+            }
+            int child = graph.edgeChild(e);
+            BigDecimal quantity = graph.edgeQuantity(e);
+            material = material.add(materialCosts[child].multiply(quantity));
+            labor = labor.add(laborCosts[child].multiply(quantity));
+            expense = expense.add(expenses[child].multiply(quantity));
+        }
+
+        BigDecimal minutes = routeMinutes(index);
+        labor = labor.add(minutes.multiply(laborPerMinute));
+        expense = expense.add(minutes.multiply(expensePerMinute));
+
+        BigDecimal yield = yieldRatio(items.get(graph.itemCode(index)));
+        materialCosts[index] = perGoodUnit(material, yield);
+        laborCosts[index] = perGoodUnit(labor, yield);
+        expenses[index] = perGoodUnit(expense, yield);
+    }
+
+    /**
+     * 製造品目の標準原価を作成する.
+     *
+     * @param effectiveEndDate 適用終了日（後続の標準原価がない場合は null）
+     */
+    StandardCost toStandardCost(int index, LocalDate effectiveEndDate) {
+        return StandardCost.builder()
+            .itemCode(graph.itemCode(index))
+            .effectiveStartDate(effectiveDate)
+            .effectiveEndDate(effectiveEndDate)
+            .standardMaterialCost(materialCosts[index])
+            .standardLaborCost(laborCosts[index])
+            .standardExpense(expenses[index])
+            .standardManufacturingCost(materialCosts[index].add(laborCosts[index]).add(expenses[index]))
+            .build();
+    }
+
+    private void costLeaf(int index) {
+        StandardCost cost = leafCosts.get(graph.itemCode(index));
+        uncosted[index] = cost == null;
+        materialCosts[index] = cost != null ? orZero(cost.getStandardMaterialCost()) : BigDecimal.ZERO;
+        laborCosts[index] = cost != null ? orZero(cost.getStandardLaborCost()) : BigDecimal.ZERO;
+        expenses[index] = cost != null ? orZero(cost.getStandardExpense()) : BigDecimal.ZERO;
+    }
+
+    private boolean hasEffectiveChild(int index) {
+        for (int e = graph.childEdgeStart(index); e < graph.childEdgeEnd(index); e++) {
+            if (graph.isEffective(e, effectiveDate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 単位あたりの作業時間（分）. 段取時間は最小ロットサイズで割り振る.
+     */
+    private BigDecimal routeMinutes(int index) {
+        List<ProcessRoute> routes = routesByItem.get(graph.itemCode(index));
+        if (routes == null) {
+            return BigDecimal.ZERO;
+        }
+        Item item = items.get(graph.itemCode(index));
+        BigDecimal lotSize = item != null && item.getMinLotSize() != null && item.getMinLotSize().signum() > 0
+            ? item.getMinLotSize() : BigDecimal.ONE;
+        BigDecimal minutes = BigDecimal.ZERO;
+        for (ProcessRoute route : routes) {
+            minutes = minutes.add(orZero(route.getStandardTime()))
+                .add(orZero(route.getSetupTime()).divide(lotSize, RATE_SCALE, RoundingMode.HALF_UP));
+        }
+        return minutes;
+    }
+
+    /**
+     * 歩留率（0 より大きく 100 未満の場合のみ考慮）.
+     */
+    private static BigDecimal yieldRatio(Item item) {
+        if (item == null || item.getYieldRate() == null
+            || item.getYieldRate().signum() <= 0 || item.getYieldRate().compareTo(HUNDRED) >= 0) {
+            return BigDecimal.ONE;
+        }
+        return item.getYieldRate().divide(HUNDRED, RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal perGoodUnit(BigDecimal cost, BigDecimal yield) {
+        return cost.divide(yield, COST_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
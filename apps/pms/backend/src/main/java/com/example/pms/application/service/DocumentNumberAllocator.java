@@ -0,0 +1,86 @@
+package com.example.pms.application.service;
+
+import com.example.pms.application.port.out.NumberingRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 伝票番号の採番.
+ *
+ * <p>採番履歴データの最終番号をブロック単位で確保し（hi-lo 方式）、
+ * ブロック内の番号はメモリ上で払い出す。確保は独立トランザクションで行うため、
+ * 伝票テーブルの走査や採番行の長時間ロックは発生しない。</p>
+ *
+ * <p>確保したまま使われなかった番号は、プロセス停止や業務トランザクションの
+ * ロールバックにより欠番となる。番号が重複することはない。</p>
+ */
+@Component
+public class DocumentNumberAllocator {
+
+    /** 一度に確保する番号の件数. */
+    static final int BLOCK_SIZE = 20;
+
+    private final NumberingRepository numberingRepository;
+    private final ConcurrentMap<BlockKey, NumberBlock> blocks = new ConcurrentHashMap<>();
+
+    public DocumentNumberAllocator(NumberingRepository numberingRepository) {
+        this.numberingRepository = numberingRepository;
+    }
+
+    /**
+     * 次の連番を払い出す.
+     *
+     * @param numberingCode 採番コード（採番マスタに登録済みであること）
+     * @param period 連番を区切る期間（例: yyyyMMdd）
+     * @return 期間内の連番（1 始まり）
+     */
+    public long next(String numberingCode, String period) {
+        BlockKey key = new BlockKey(numberingCode, period);
+        NumberBlock block = blocks.computeIfAbsent(key, k -> new NumberBlock());
+        block.lock.lock();
+        try {
+            if (block.next > block.last) {
+                long last = reserve(numberingCode, period);
+                block.next = last - BLOCK_SIZE + 1;
+                block.last = last;
+                evictPreviousPeriods(key);
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    private long reserve(String numberingCode, String period) {
+        try {
+            return numberingRepository.reserveNumbers(numberingCode, period, BLOCK_SIZE);
+        } catch (DuplicateKeyException e) {
+            // 同じ期間の初回確保が他のプロセスと競合した場合は、作成済みの履歴を加算する
+            return numberingRepository.reserveNumbers(numberingCode, period, BLOCK_SIZE);
+        }
+    }
+
+    /**
+     * 過去の期間のブロックを破棄する（残りの番号は欠番になる）.
+     */
+    private void evictPreviousPeriods(BlockKey current) {
+        blocks.keySet().removeIf(key -> key.numberingCode().equals(current.numberingCode())
+            && key.period().compareTo(current.period()) < 0);
+    }
+
+    private record BlockKey(String numberingCode, String period) {
+    }
+
+    /**
+     * 確保済みの番号ブロック.
+     */
+    private static final class NumberBlock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next = 1;
+        private long last;
+    }
+}
@@ -21,9 +21,11 @@ import java.util.Optional;
 public class LaborHoursService implements LaborHoursUseCase {
 
     private final LaborHoursRepository laborHoursRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public LaborHoursService(LaborHoursRepository laborHoursRepository) {
+    public LaborHoursService(LaborHoursRepository laborHoursRepository, DocumentNumberAllocator numberAllocator) {
         this.laborHoursRepository = laborHoursRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -117,23 +119,7 @@ public class LaborHoursService implements LaborHoursUseCase {
     }
 
     private String generateLaborHoursNumber() {
-        String datePrefix = "LH-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
-        List<LaborHours> allLaborHours = laborHoursRepository.findAll();
-
-        int maxSeq = allLaborHours.stream()
-            .map(LaborHours::getLaborHoursNumber)
-            .filter(num -> num != null && num.startsWith(datePrefix))
-            .map(num -> {
-                String seqStr = num.substring(datePrefix.length());
-                try {
-                    return Integer.parseInt(seqStr);
-                } catch (NumberFormatException e) {
-                    return 0;
-                }
-            })
-            .max(Integer::compareTo)
-            .orElse(0);
-
-        return datePrefix + String.format("%04d", maxSeq + 1);
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("LH-%s-%04d", date, numberAllocator.next("LABOR_HOURS", date));
     }
 }
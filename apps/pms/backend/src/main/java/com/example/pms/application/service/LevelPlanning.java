@@ -0,0 +1,68 @@
+package com.example.pms.application.service;
+
+import com.example.pms.domain.model.item.Item;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 低位レベルコード順に品目をたどる計画（MRP・標準原価積上げ）の共通処理.
+ */
+@SuppressWarnings("PMD.UseConcurrentHashMap")
+final class LevelPlanning {
+
+    /** レベル内の品目数がこの件数以上のときに並列実行する. */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private LevelPlanning() {
+    }
+
+    /**
+     * レベル内の品目インデックスを返す. 件数が {@link #PARALLEL_THRESHOLD} 以上なら Fork/Join の共通プールで並列に処理する.
+     *
+     * @param levelItems 同一レベルの品目インデックス
+     * @return 品目インデックスのストリーム
+     */
+    static IntStream levelStream(int[] levelItems) {
+        IntStream indexes = Arrays.stream(levelItems);
+        return levelItems.length >= PARALLEL_THRESHOLD ? indexes.parallel() : indexes;
+    }
+
+    /**
+     * 品目コードごとに基準日時点で有効な版を選ぶ. 有効な版のない品目は含めない.
+     *
+     * @param items 品目マスタ（品目コード順・適用開始日の降順）
+     * @param baseDate 基準日
+     * @return 品目コード→品目
+     */
+    static Map<String, Item> selectEffectiveItems(List<Item> items, LocalDate baseDate) {
+        // 品目ごとに最初の有効な版を採用する
+        Map<String, Item> itemMap = new HashMap<>();
+        for (Item item : items) {
+            if (item.getEffectiveFrom() == null || !item.getEffectiveFrom().isAfter(baseDate)) {
+                itemMap.putIfAbsent(item.getItemCode(), item);
+            }
+        }
+        return itemMap;
+    }
+
+    /**
+     * 品目コードごとに基準日時点で有効な版を選ぶ. 有効な版のない品目（基準日より後に登録した品目）は
+     * 適用開始日の最も遅い版を採用する.
+     *
+     * @param items 品目マスタ（品目コード順・適用開始日の降順）
+     * @param baseDate 基準日
+     * @return 品目コード→品目
+     */
+    static Map<String, Item> selectEffectiveOrLatestItems(List<Item> items, LocalDate baseDate) {
+        Map<String, Item> itemMap = selectEffectiveItems(items, baseDate);
+        for (Item item : items) {
+            itemMap.putIfAbsent(item.getItemCode(), item);
+        }
+        return itemMap;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.pms.application.service;
+
+import com.example.pms.application.port.out.LotCompositionRepository;
+import com.example.pms.application.port.out.LotMasterRepository;
+import com.example.pms.domain.model.quality.LotComposition;
+import com.example.pms.domain.model.quality.LotGenealogy;
+import com.example.pms.domain.model.quality.LotGenealogyStamp;
+import com.example.pms.domain.model.quality.LotMaster;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * ロット構成グラフのプロセス内キャッシュ.
+ *
+ * <p>ロットマスタ・ロット構成全体を {@link LotGenealogy} として保持し、参照のたびに
+ * 変更スタンプを照合する。スタンプが変わっていれば（他インスタンスや SQL での直接更新を含む）
+ * グラフを再構築する。同一プロセス内でのロット・ロット構成の登録は、コミット後にグラフへ
+ * 追加してスタンプを進めるので再構築しない。更新・削除した場合は {@link #invalidate()} を呼び出す。</p>
+ */
+@Component
+public class LotGenealogyCache {
+
+    private final LotMasterRepository lotMasterRepository;
+    private final LotCompositionRepository lotCompositionRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public LotGenealogyCache(LotMasterRepository lotMasterRepository,
+                             LotCompositionRepository lotCompositionRepository) {
+        this.lotMasterRepository = lotMasterRepository;
+        this.lotCompositionRepository = lotCompositionRepository;
+    }
+
+    /**
+     * 最新のロット構成グラフを取得する.
+     *
+     * @return ロット構成グラフ
+     */
+    public LotGenealogy get() {
+        LotGenealogyStamp stamp = lotCompositionRepository.findGenealogyStamp();
+        Snapshot current = snapshot.get();
+        if (current != null && Objects.equals(current.stamp(), stamp)) {
+            return current.genealogy();
+        }
+        reloadLock.lock();
+        try {
+            current = snapshot.get();
+            if (current != null && Objects.equals(current.stamp(), stamp)) {
+                return current.genealogy();
+            }
+            LotGenealogy genealogy = LotGenealogy.of(
+                lotMasterRepository.findAll(), lotCompositionRepository.findAll());
+            snapshot.set(new Snapshot(stamp, genealogy));
+            return genealogy;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 登録前の変更スタンプを取得する. 登録後に {@link #lotInserted} などへ渡す.
+     *
+     * @return 変更スタンプ
+     */
+    public LotGenealogyStamp stamp() {
+        return lotCompositionRepository.findGenealogyStamp();
+    }
+
+    /**
+     * ロットの登録をコミット後にグラフへ反映する.
+     *
+     * @param before 登録前の変更スタンプ
+     * @param lot 登録したロット
+     */
+    public void lotInserted(LotGenealogyStamp before, LotMaster lot) {
+        LotGenealogyStamp after = lotCompositionRepository.findGenealogyStamp();
+        applyAfterCommit(before, after, after.isLotInsertAfter(before), genealogy -> genealogy.addLot(lot));
+    }
+
+    /**
+     * ロット構成の登録をコミット後にグラフへ反映する.
+     *
+     * @param before 登録前の変更スタンプ
+     * @param composition 登録したロット構成（ID 採番済み）
+     */
+    public void compositionInserted(LotGenealogyStamp before, LotComposition composition) {
+        LotGenealogyStamp after = lotCompositionRepository.findGenealogyStamp();
+        applyAfterCommit(before, after, after.isCompositionInsertAfter(before, composition.getId()),
+            genealogy -> genealogy.addComposition(composition));
+    }
+
+    /**
+     * キャッシュを破棄する（次回参照時に再構築）.
+     */
+    public void invalidate() {
+        snapshot.set(null);
+    }
+
+    /**
+     * 登録前のスタンプがキャッシュと一致し、登録前後の差がこの登録だけの場合に限り、
+     * コミット後にグラフへ追加してスタンプを登録後の値に進める. それ以外は何もしない（次回参照時に再構築）.
+     */
+    private void applyAfterCommit(LotGenealogyStamp before, LotGenealogyStamp after, boolean onlyThisChange,
+                                  Consumer<LotGenealogy> change) {
+        Runnable apply = () -> {
+            Snapshot current = snapshot.get();
+            if (onlyThisChange && current != null && Objects.equals(current.stamp(), before)) {
+                change.accept(current.genealogy());
+                snapshot.compareAndSet(current, new Snapshot(after, current.genealogy()));
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private record Snapshot(LotGenealogyStamp stamp, LotGenealogy genealogy) {
+    }
+}
@@ -1,11 +1,20 @@
 package com.example.pms.application.service;
 
 import com.example.pms.application.port.in.LotMasterUseCase;
+import com.example.pms.application.port.in.command.CreateLotCompositionCommand;
 import com.example.pms.application.port.in.command.CreateLotMasterCommand;
 import com.example.pms.application.port.in.command.UpdateLotMasterCommand;
+import com.example.pms.application.port.out.LotCompositionRepository;
 import com.example.pms.application.port.out.LotMasterRepository;
+import com.example.pms.domain.exception.InvalidLotCompositionException;
+import com.example.pms.domain.exception.LotNotFoundException;
 import com.example.pms.domain.model.common.PageResult;
+import com.example.pms.domain.model.quality.LotComposition;
+import com.example.pms.domain.model.quality.LotGenealogy;
+import com.example.pms.domain.model.quality.LotGenealogyStamp;
 import com.example.pms.domain.model.quality.LotMaster;
+import com.example.pms.domain.model.quality.LotTrace;
+import com.example.pms.domain.model.quality.LotTraceDirection;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,9 +29,15 @@ import java.util.Optional;
 public class LotMasterService implements LotMasterUseCase {
 
     private final LotMasterRepository lotMasterRepository;
+    private final LotCompositionRepository lotCompositionRepository;
+    private final LotGenealogyCache lotGenealogyCache;
 
-    public LotMasterService(LotMasterRepository lotMasterRepository) {
+    public LotMasterService(LotMasterRepository lotMasterRepository,
+                            LotCompositionRepository lotCompositionRepository,
+                            LotGenealogyCache lotGenealogyCache) {
         this.lotMasterRepository = lotMasterRepository;
+        this.lotCompositionRepository = lotCompositionRepository;
+        this.lotGenealogyCache = lotGenealogyCache;
     }
 
     @Override
@@ -52,7 +67,9 @@ public class LotMasterService implements LotMasterUseCase {
             .warehouseCode(command.warehouseCode())
             .remarks(command.remarks())
             .build();
+        LotGenealogyStamp before = lotGenealogyCache.stamp();
         lotMasterRepository.save(lotMaster);
+        lotGenealogyCache.lotInserted(before, lotMaster);
         return lotMasterRepository.findByLotNumber(lotMaster.getLotNumber())
                 .orElse(lotMaster);
     }
@@ -70,6 +87,7 @@ public class LotMasterService implements LotMasterUseCase {
             .remarks(command.remarks())
             .build();
         lotMasterRepository.update(lotMaster);
+        lotGenealogyCache.invalidate();
         return lotMasterRepository.findByLotNumber(lotNumber)
                 .orElse(lotMaster);
     }
@@ -77,5 +95,43 @@ public class LotMasterService implements LotMasterUseCase {
     @Override
     public void deleteLotMaster(String lotNumber) {
         lotMasterRepository.deleteByLotNumber(lotNumber);
+        lotGenealogyCache.invalidate();
+    }
+
+    @Override
+    public LotComposition createLotComposition(CreateLotCompositionCommand command) {
+        if (lotMasterRepository.findByLotNumber(command.parentLotNumber()).isEmpty()) {
+            throw new LotNotFoundException(command.parentLotNumber());
+        }
+        if (lotMasterRepository.findByLotNumber(command.childLotNumber()).isEmpty()) {
+            throw new LotNotFoundException(command.childLotNumber());
+        }
+        boolean registered = lotCompositionRepository.findByParentLotNumber(command.parentLotNumber()).stream()
+            .anyMatch(c -> command.childLotNumber().equals(c.getChildLotNumber()));
+        if (registered) {
+            throw new InvalidLotCompositionException(String.format(
+                "ロット構成は登録済みです: %s -> %s", command.parentLotNumber(), command.childLotNumber()));
+        }
+        if (lotGenealogyCache.get().wouldCreateCycle(command.parentLotNumber(), command.childLotNumber())) {
+            throw new InvalidLotCompositionException(String.format(
+                "ロット構成が循環します: %s -> %s", command.parentLotNumber(), command.childLotNumber()));
+        }
+        LotComposition composition = LotComposition.builder()
+            .parentLotNumber(command.parentLotNumber())
+            .childLotNumber(command.childLotNumber())
+            .usedQuantity(command.usedQuantity())
+            .build();
+        LotGenealogyStamp before = lotGenealogyCache.stamp();
+        lotCompositionRepository.save(composition);
+        lotGenealogyCache.compositionInserted(before, composition);
+        return composition;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LotTrace traceLot(String lotNumber, LotTraceDirection direction) {
+        LotGenealogy genealogy = lotGenealogyCache.get();
+        return genealogy.trace(lotNumber, direction)
+            .orElseThrow(() -> new LotNotFoundException(lotNumber));
     }
 }
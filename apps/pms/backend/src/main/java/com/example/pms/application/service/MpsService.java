@@ -23,9 +23,15 @@ public class MpsService implements MpsUseCase {
     private static final DateTimeFormatter MPS_NUMBER_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final MpsRepository mpsRepository;
+    private final MrpNetChangeTracker netChangeTracker;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public MpsService(MpsRepository mpsRepository) {
+    public MpsService(MpsRepository mpsRepository,
+                      MrpNetChangeTracker netChangeTracker,
+                      DocumentNumberAllocator numberAllocator) {
         this.mpsRepository = mpsRepository;
+        this.netChangeTracker = netChangeTracker;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -94,6 +100,11 @@ public class MpsService implements MpsUseCase {
             .build();
 
         mpsRepository.update(updated);
+        if (existing.getStatus() != PlanStatus.DRAFT) {
+            // 確定済み計画の変更は需要の変更になる
+            netChangeTracker.markDirty(existing.getItemCode());
+            netChangeTracker.markDirty(updated.getItemCode());
+        }
         return updated;
     }
 
@@ -107,6 +118,7 @@ public class MpsService implements MpsUseCase {
         }
 
         mpsRepository.updateStatus(mps.getId(), PlanStatus.CONFIRMED);
+        netChangeTracker.markDirty(mps.getItemCode());
     }
 
     @Override
@@ -119,11 +131,11 @@ public class MpsService implements MpsUseCase {
         }
 
         mpsRepository.updateStatus(mps.getId(), PlanStatus.CANCELLED);
+        netChangeTracker.markDirty(mps.getItemCode());
     }
 
     private String generateMpsNumber(LocalDate planDate) {
         String datePrefix = planDate.format(MPS_NUMBER_DATE_FORMAT);
-        long count = mpsRepository.count(null, datePrefix);
-        return String.format("MPS-%s-%04d", datePrefix, count + 1);
+        return String.format("MPS-%s-%04d", datePrefix, numberAllocator.next("MPS", datePrefix));
     }
 }
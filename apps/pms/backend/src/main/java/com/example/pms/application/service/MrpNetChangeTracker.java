@@ -0,0 +1,79 @@
+package com.example.pms.application.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 正味変更 MRP 用の変更品目トラッカー.
+ *
+ * <p>需給（基準生産計画・入荷など）が変わった品目コードを記録する。
+ * トランザクション中に記録された品目はコミット後に反映されるため、
+ * 再計画がコミット前のデータを読んで変更を取りこぼすことはない。
+ * 記録はプロセス内のみで保持し、再起動後は全件 MRP で整合させる。</p>
+ */
+@Component
+public class MrpNetChangeTracker {
+
+    private final Set<String> dirtyItemCodes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 需給が変わった品目を記録する.
+     *
+     * @param itemCode 品目コード
+     */
+    public void markDirty(String itemCode) {
+        if (itemCode == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyItemCodes.add(itemCode);
+                }
+            });
+        } else {
+            dirtyItemCodes.add(itemCode);
+        }
+    }
+
+    /**
+     * 記録済みの品目を取り出してクリアする.
+     *
+     * @return 品目コード（昇順）
+     */
+    public Set<String> drain() {
+        Set<String> drained = new TreeSet<>();
+        Iterator<String> iterator = dirtyItemCodes.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    /**
+     * 再計画に失敗した品目を記録し直す.
+     *
+     * @param itemCodes 品目コード
+     */
+    public void restore(Collection<String> itemCodes) {
+        dirtyItemCodes.addAll(itemCodes);
+    }
+
+    /**
+     * 未処理の品目数を返す.
+     *
+     * @return 品目数
+     */
+    public int pendingCount() {
+        return dirtyItemCodes.size();
+    }
+}
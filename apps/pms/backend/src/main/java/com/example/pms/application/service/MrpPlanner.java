@@ -0,0 +1,303 @@
+package com.example.pms.application.service;
+
+import com.example.pms.application.port.in.MrpUseCase.PlannedOrder;
+import com.example.pms.application.port.in.MrpUseCase.ShortageItem;
+import com.example.pms.domain.model.bom.BomGraph;
+import com.example.pms.domain.model.calendar.WorkingDayCalendar;
+import com.example.pms.domain.model.item.Item;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 日別バケットによる総所要量→正味所要量計算.
+ *
+ * <p>品目は {@link BomGraph} のインデックスで扱い、低位レベルコードの小さい順に
+ * {@link #planItem(int)} を呼び出すことで、親の計画オーダから展開された従属需要が
+ * 子品目の総所要量に反映される。期間開始日より前の需要・入庫は初日のバケットに、
+ * 期間終了日より後のものは計画対象外とする。</p>
+ *
+ * <p>着手日は納期から品目のリードタイムと安全リードタイムの合計を稼働日として
+ * {@link WorkingDayCalendar} でさかのぼって求める。歩留りのある品目は正味所要量を歩留りで割り戻して
+ * 計画し、利用可能在庫には計画数量に歩留りを掛けた良品数だけを加える。</p>
+ */
+@SuppressWarnings({"PMD.UseConcurrentHashMap", "PMD.AvoidInstantiatingObjectsInLoops", "PMD.GodClass"})
+final class MrpPlanner {
+
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private final BomGraph graph;
+    private final WorkingDayCalendar calendar;
+    private final Item[] items;
+    private final LocalDate startDate;
+    private final int horizon;
+    private final BigDecimal[] onHand;
+    private final Buckets[] grossRequirements;
+    private final Buckets[] scheduledReceipts;
+
+    MrpPlanner(BomGraph graph, Map<String, Item> itemMap, LocalDate startDate, LocalDate endDate,
+               WorkingDayCalendar calendar) {
+        this.graph = graph;
+        this.calendar = calendar;
+        this.startDate = startDate;
+        this.horizon = (int) ChronoUnit.DAYS.between(startDate, endDate);
+        int n = graph.size();
+        this.items = new Item[n];
+        this.onHand = new BigDecimal[n];
+        this.grossRequirements = new Buckets[n];
+        this.scheduledReceipts = new Buckets[n];
+        for (int i = 0; i < n; i++) {
+            Item item = itemMap.get(graph.itemCode(i));
+            items[i] = item != null ? item : Item.builder().itemCode(graph.itemCode(i)).build();
+            onHand[i] = BigDecimal.ZERO;
+        }
+    }
+
+    /**
+     * 手持在庫を加算する（引当済数量は負数で渡す）.
+     */
+    void addOnHand(String itemCode, BigDecimal quantity) {
+        int index = graph.indexOf(itemCode);
+        if (index >= 0 && quantity != null) {
+            onHand[index] = onHand[index].add(quantity);
+        }
+    }
+
+    /**
+     * 独立需要・確定所要を総所要量として加算する.
+     */
+    void addGrossRequirement(String itemCode, LocalDate date, BigDecimal quantity) {
+        int index = graph.indexOf(itemCode);
+        if (index >= 0) {
+            addTo(grossRequirements, index, date, quantity);
+        }
+    }
+
+    /**
+     * 確定オーダを入庫予定として加算する.
+     */
+    void addScheduledReceipt(String itemCode, LocalDate date, BigDecimal quantity) {
+        int index = graph.indexOf(itemCode);
+        if (index >= 0) {
+            addTo(scheduledReceipts, index, date, quantity);
+        }
+    }
+
+    /**
+     * 従属需要を子品目の総所要量へ反映する.
+     */
+    void applyDependentDemands(List<DependentDemand> demands) {
+        for (DependentDemand demand : demands) {
+            addBucket(grossRequirements, demand.itemIndex(), demand.bucket(), demand.quantity());
+        }
+    }
+
+    private void addTo(Buckets[] target, int index, LocalDate date, BigDecimal quantity) {
+        if (date == null || quantity == null || quantity.signum() == 0) {
+            return;
+        }
+        int bucket = bucketOf(date);
+        if (bucket >= 0) {
+            addBucket(target, index, bucket, quantity);
+        }
+    }
+
+    private static void addBucket(Buckets[] target, int index, int bucket, BigDecimal quantity) {
+        if (target[index] == null) {
+            target[index] = new Buckets();
+        }
+        target[index].add(bucket, quantity);
+    }
+
+    private int bucketOf(LocalDate date) {
+        if (date.isBefore(startDate)) {
+            return 0;
+        }
+        long days = ChronoUnit.DAYS.between(startDate, date);
+        return days > horizon ? -1 : (int) days;
+    }
+
+    /**
+     * 1 品目の正味所要量計算を行う.
+     *
+     * <p>この品目の総所要量は親品目の計画がすべて反映済みであること。
+     * 生成した従属需要は結果に含めて返し、呼び出し側がまとめて反映する。</p>
+     *
+     * @param index 品目インデックス
+     * @return 品目別の計画結果
+     */
+    ItemPlan planItem(int index) {
+        Item item = items[index];
+        BigDecimal safetyStock = item.getSafetyStock() != null ? item.getSafetyStock() : BigDecimal.ZERO;
+        BigDecimal available = onHand[index].subtract(safetyStock);
+
+        TreeMap<Integer, BigDecimal[]> timeline = new TreeMap<>();
+        timeline.put(0, new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+        if (grossRequirements[index] != null) {
+            grossRequirements[index].quantities.forEach((bucket, qty) ->
+                timeline.computeIfAbsent(bucket, b -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO})[0] = qty);
+        }
+        if (scheduledReceipts[index] != null) {
+            scheduledReceipts[index].quantities.forEach((bucket, qty) ->
+                timeline.computeIfAbsent(bucket, b -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO})[1] = qty);
+        }
+
+        List<PlannedOrder> plannedOrders = new ArrayList<>();
+        List<DependentDemand> dependentDemands = new ArrayList<>();
+        BigDecimal totalShortage = BigDecimal.ZERO;
+        LocalDate earliestOrderDate = null;
+        String orderType = determineOrderType(item);
+
+        for (Map.Entry<Integer, BigDecimal[]> entry : timeline.entrySet()) {
+            available = available.add(entry.getValue()[1]).subtract(entry.getValue()[0]);
+            if (available.signum() >= 0) {
+                continue;
+            }
+            BigDecimal netRequirement = available.negate();
+            LocalDate dueDate = startDate.plusDays(entry.getKey());
+            LocalDate releaseDate = calculateOrderDate(item, dueDate);
+            totalShortage = totalShortage.add(netRequirement);
+            if (earliestOrderDate == null) {
+                earliestOrderDate = releaseDate;
+            }
+
+            for (BigDecimal quantity : calculateLotQuantities(item, applyYield(item, netRequirement))) {
+                plannedOrders.add(PlannedOrder.builder()
+                    .itemCode(item.getItemCode())
+                    .itemName(item.getItemName())
+                    .orderType(orderType)
+                    .quantity(quantity)
+                    .releaseDate(releaseDate)
+                    .dueDate(dueDate)
+                    .lowLevelCode(graph.lowLevelCode(index))
+                    .build());
+                // 入庫されるのは歩留りを掛けた良品数で、子品目はロット全量分を展開する
+                available = available.add(goodQuantity(item, quantity));
+                explode(index, releaseDate, quantity, dependentDemands);
+            }
+        }
+
+        ShortageItem shortageItem = null;
+        if (totalShortage.signum() > 0) {
+            shortageItem = ShortageItem.builder()
+                .itemCode(item.getItemCode())
+                .itemName(item.getItemName())
+                .shortageQuantity(totalShortage)
+                .recommendedOrderDate(earliestOrderDate)
+                .build();
+        }
+        return new ItemPlan(plannedOrders, shortageItem, dependentDemands);
+    }
+
+    private void explode(int parent, LocalDate releaseDate, BigDecimal quantity, List<DependentDemand> out) {
+        int bucket = bucketOf(releaseDate);
+        if (bucket < 0) {
+            return;
+        }
+        for (int e = graph.childEdgeStart(parent); e < graph.childEdgeEnd(parent); e++) {
+            if (graph.isEffective(e, releaseDate)) {
+                out.add(new DependentDemand(graph.edgeChild(e), bucket, quantity.multiply(graph.edgeQuantity(e))));
+            }
+        }
+    }
+
+    private LocalDate calculateOrderDate(Item item, LocalDate dueDate) {
+        int leadTime = item.getLeadTime() != null ? item.getLeadTime() : 0;
+        int safetyLeadTime = item.getSafetyLeadTime() != null ? item.getSafetyLeadTime() : 0;
+        return calendar.minusWorkingDays(dueDate, leadTime + safetyLeadTime);
+    }
+
+    private String determineOrderType(Item item) {
+        // 品目区分に基づいて発注タイプを決定
+        if (item.getItemCategory() == null) {
+            return "PURCHASE";
+        }
+
+        return switch (item.getItemCategory()) {
+            case PRODUCT, SEMI_PRODUCT, INTERMEDIATE -> "MANUFACTURING";
+            case PART, MATERIAL, RAW_MATERIAL, SUPPLY -> "PURCHASE";
+        };
+    }
+
+    private BigDecimal applyYield(Item item, BigDecimal netRequirement) {
+        BigDecimal yieldRate = item.getYieldRate();
+        if (yieldRate == null || yieldRate.signum() <= 0 || yieldRate.compareTo(HUNDRED) == 0) {
+            return netRequirement;
+        }
+        return netRequirement.multiply(HUNDRED).divide(yieldRate, 2, RoundingMode.CEILING);
+    }
+
+    /**
+     * 計画オーダの数量のうち良品として入庫される数量.
+     */
+    private static BigDecimal goodQuantity(Item item, BigDecimal quantity) {
+        BigDecimal yieldRate = item.getYieldRate();
+        if (yieldRate == null || yieldRate.signum() <= 0 || yieldRate.compareTo(HUNDRED) == 0) {
+            return quantity;
+        }
+        return quantity.multiply(yieldRate).divide(HUNDRED);
+    }
+
+    private List<BigDecimal> calculateLotQuantities(Item item, BigDecimal shortage) {
+        BigDecimal quantity = calculateOrderQuantity(item, shortage);
+        BigDecimal maxLotSize = item.getMaxLotSize();
+        if (maxLotSize == null || maxLotSize.signum() <= 0 || quantity.compareTo(maxLotSize) <= 0) {
+            return List.of(quantity);
+        }
+        // 最大ロットを超える場合は分割する
+        List<BigDecimal> lots = new ArrayList<>();
+        BigDecimal remaining = shortage;
+        while (remaining.signum() > 0) {
+            BigDecimal lot = calculateOrderQuantity(item, remaining.min(maxLotSize)).min(maxLotSize);
+            lots.add(lot);
+            remaining = remaining.subtract(lot);
+        }
+        return lots;
+    }
+
+    private BigDecimal calculateOrderQuantity(Item item, BigDecimal shortage) {
+        // ロットサイズを考慮して発注数量を計算
+        BigDecimal minLotSize = item.getMinLotSize() != null ? item.getMinLotSize() : BigDecimal.ONE;
+        BigDecimal lotIncrement = item.getLotIncrement() != null && item.getLotIncrement().signum() > 0
+            ? item.getLotIncrement() : BigDecimal.ONE;
+
+        if (shortage.compareTo(minLotSize) <= 0) {
+            return minLotSize;
+        }
+
+        // ロット増分で切り上げ
+        BigDecimal excess = shortage.subtract(minLotSize);
+        BigDecimal increments = excess.divide(lotIncrement, 0, RoundingMode.CEILING);
+        return minLotSize.add(lotIncrement.multiply(increments));
+    }
+
+    /**
+     * 期間開始日からの日数をキーとする数量バケット.
+     */
+    private static final class Buckets {
+        private final TreeMap<Integer, BigDecimal> quantities = new TreeMap<>();
+
+        void add(int bucket, BigDecimal quantity) {
+            quantities.merge(bucket, quantity, BigDecimal::add);
+        }
+    }
+
+    /**
+     * 親の計画オーダから展開された子品目の従属需要.
+     */
+    record DependentDemand(int itemIndex, int bucket, BigDecimal quantity) {
+    }
+
+    /**
+     * 品目別の計画結果.
+     */
+    record ItemPlan(List<PlannedOrder> plannedOrders, ShortageItem shortageItem,
+                    List<DependentDemand> dependentDemands) {
+    }
+}
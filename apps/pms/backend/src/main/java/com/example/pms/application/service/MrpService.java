@@ -3,124 +3,307 @@ package com.example.pms.application.service;
 import com.example.pms.application.port.in.MrpUseCase;
 import com.example.pms.application.port.out.BomRepository;
 import com.example.pms.application.port.out.ItemRepository;
-import com.example.pms.application.port.out.StockRepository;
-import com.example.pms.domain.model.inventory.Stock;
+import com.example.pms.domain.model.bom.BomGraph;
+import com.example.pms.domain.model.calendar.WorkingDayCalendar;
 import com.example.pms.domain.model.item.Item;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * MRP サービス（Application Service）.
+ *
+ * <p>品目・在庫・基準生産計画・確定オーダ・所要/引当を一括で読み込み、{@link BomGraphCache} の
+ * 部品構成表のインメモリグラフに品目を加えたうえで、低位レベルコード順に
+ * 日別バケットの総所要量→正味所要量計算を行う。品目ごとの SQL 往復は発生しない。
+ * 同一レベル内の品目は Fork/Join の共通プールで並列に計画する。</p>
+ *
+ * <p>直近の全件計画を保持し、正味変更 MRP では {@link MrpNetChangeTracker} に記録された品目と
+ * その下位品目だけを再計画して結果を差し替える。品目マスタ・部品構成表は件数と最終更新日時の
+ * 変更スタンプで変更を検知し、変わっていれば全件計画を行う。前回計画を読んで差し替えるため、
+ * 全件計画・正味変更 MRP はプロセス内で 1 件ずつ実行する（同時に実行すると後の結果で先の差分が失われる）。</p>
+ *
+ * <p>リードタイムは {@code pms.planning.calendar-code} のカレンダの稼働日で数える
+ * （未設定の場合は土日を休日とする）。カレンダが変わった場合、正味変更 MRP は全件計画を行う。</p>
  */
 @Service
 @Transactional
-@SuppressWarnings({"PMD.UseConcurrentHashMap", "PMD.PrematureDeclaration"})
+@SuppressWarnings("PMD.UseConcurrentHashMap")
 public class MrpService implements MrpUseCase {
 
     private final ItemRepository itemRepository;
     private final BomRepository bomRepository;
-    private final StockRepository stockRepository;
+    private final BomGraphCache bomGraphCache;
+    private final MrpSupplyDemandLoader supplyDemandLoader;
+    private final MrpNetChangeTracker netChangeTracker;
+    private final WorkingCalendarIndex workingCalendarIndex;
+    private final String calendarCode;
+    private final AtomicReference<PlanSnapshot> lastPlan = new AtomicReference<>();
+    private final ReentrantLock planLock = new ReentrantLock();
 
     public MrpService(ItemRepository itemRepository,
                       BomRepository bomRepository,
-                      StockRepository stockRepository) {
+                      BomGraphCache bomGraphCache,
+                      MrpSupplyDemandLoader supplyDemandLoader,
+                      MrpNetChangeTracker netChangeTracker,
+                      WorkingCalendarIndex workingCalendarIndex,
+                      @Value("${pms.planning.calendar-code:}") String calendarCode) {
         this.itemRepository = itemRepository;
         this.bomRepository = bomRepository;
-        this.stockRepository = stockRepository;
+        this.bomGraphCache = bomGraphCache;
+        this.supplyDemandLoader = supplyDemandLoader;
+        this.netChangeTracker = netChangeTracker;
+        this.workingCalendarIndex = workingCalendarIndex;
+        this.calendarCode = calendarCode;
     }
 
     @Override
     @Transactional(readOnly = true)
     public MrpResult execute(LocalDate startDate, LocalDate endDate) {
-        // 品目マスタを取得
-        List<Item> items = itemRepository.findAll();
-
-        // 在庫情報を取得
-        List<Stock> stocks = stockRepository.findAll();
-        Map<String, BigDecimal> stockMap = new HashMap<>();
-        for (Stock stock : stocks) {
-            stockMap.merge(stock.getItemCode(), stock.getStockQuantity(), BigDecimal::add);
+        planLock.lock();
+        try {
+            // 全件計画で反映されるため、実行前に記録された変更品目はクリアする
+            Set<String> pending = netChangeTracker.drain();
+            try {
+                return executeFull(startDate, endDate);
+            } catch (RuntimeException e) {
+                netChangeTracker.restore(pending);
+                throw e;
+            }
+        } finally {
+            planLock.unlock();
         }
+    }
 
-        // 計画オーダと在庫不足品目を生成
-        List<PlannedOrder> plannedOrders = new ArrayList<>();
-        List<ShortageItem> shortageItems = new ArrayList<>();
+    @Override
+    @Transactional(readOnly = true)
+    public MrpResult executeNetChange(LocalDate startDate, LocalDate endDate) {
+        planLock.lock();
+        try {
+            return executeNetChangeLocked(startDate, endDate);
+        } finally {
+            planLock.unlock();
+        }
+    }
+
+    private MrpResult executeNetChangeLocked(LocalDate startDate, LocalDate endDate) {
+        PlanSnapshot previous = lastPlan.get();
+        WorkingDayCalendar calendar = workingCalendarIndex.get(calendarCode, startDate, endDate);
+        if (previous == null
+            || !previous.startDate().equals(startDate)
+            || !previous.endDate().equals(endDate)
+            || previous.calendarRevision() != calendar.getRevision()
+            || !Objects.equals(previous.itemStamp(), itemRepository.findChangeStamp())
+            || !Objects.equals(previous.bomStamp(), bomRepository.findChangeStamp())) {
+            // 前回計画がない・期間が違う・カレンダや品目マスタ・部品構成が変わった場合は全件計画
+            return execute(startDate, endDate);
+        }
 
-        // 各品目について在庫と安全在庫を比較
-        for (Item item : items) {
-            BigDecimal currentStock = stockMap.getOrDefault(item.getItemCode(), BigDecimal.ZERO);
-            BigDecimal safetyStock = item.getSafetyStock() != null ? item.getSafetyStock() : BigDecimal.ZERO;
-
-            if (currentStock.compareTo(safetyStock) < 0) {
-                BigDecimal shortage = safetyStock.subtract(currentStock);
-
-                // 在庫不足として記録
-                shortageItems.add(ShortageItem.builder()
-                    .itemCode(item.getItemCode())
-                    .itemName(item.getItemName())
-                    .shortageQuantity(shortage)
-                    .recommendedOrderDate(calculateOrderDate(item, startDate))
-                    .build());
-
-                // 計画オーダを生成
-                String orderType = determineOrderType(item);
-                plannedOrders.add(PlannedOrder.builder()
-                    .itemCode(item.getItemCode())
-                    .itemName(item.getItemName())
-                    .orderType(orderType)
-                    .quantity(calculateOrderQuantity(item, shortage))
-                    .dueDate(startDate.plusDays(item.getLeadTime() != null ? item.getLeadTime() : 0))
-                    .build());
+        Set<String> dirty = netChangeTracker.drain();
+        try {
+            BomGraph graph = previous.graph();
+            boolean[] affected = new boolean[graph.size()];
+            for (String itemCode : dirty) {
+                int index = graph.indexOf(itemCode);
+                if (index < 0) {
+                    // 前回計画にない品目は全件計画で取り込む
+                    return executeFull(startDate, endDate);
+                }
+                markWithDescendants(graph, index, affected);
             }
+            return replan(previous, affected, calendar);
+        } catch (RuntimeException e) {
+            netChangeTracker.restore(dirty);
+            throw e;
         }
+    }
 
-        return MrpResult.builder()
-            .executionTime(LocalDateTime.now())
-            .periodStart(startDate)
-            .periodEnd(endDate)
-            .plannedOrders(plannedOrders)
-            .shortageItems(shortageItems)
-            .build();
+    private MrpResult executeFull(LocalDate startDate, LocalDate endDate) {
+        String itemStamp = itemRepository.findChangeStamp();
+        String bomStamp = bomRepository.findChangeStamp();
+
+        // 品目マスタを取得（品目コードごとに期間開始日時点で有効な版を採用）
+        Map<String, Item> itemMap = LevelPlanning.selectEffectiveOrLatestItems(itemRepository.findAll(), startDate);
+
+        // 部品構成表のインメモリグラフに構成に現れない品目を加える（スタンプを先に読むので、
+        // 間に部品構成が変わっても次の正味変更 MRP は全件計画になる）
+        BomGraph graph = bomGraphCache.get(itemMap.keySet());
+
+        WorkingDayCalendar calendar = workingCalendarIndex.get(calendarCode, startDate, endDate);
+        MrpPlanner planner = new MrpPlanner(graph, itemMap, startDate, endDate, calendar);
+        supplyDemandLoader.loadAll(planner);
+
+        MrpPlanner.ItemPlan[] plans = new MrpPlanner.ItemPlan[graph.size()];
+        List<LevelTiming> levelTimings = planLevels(planner, graph, null, plans);
+
+        PlanSnapshot snapshot = new PlanSnapshot(startDate, endDate, itemStamp, bomStamp, calendar.getRevision(),
+            graph, itemMap, plans);
+        lastPlan.set(snapshot);
+        return toResult(snapshot, levelTimings, false, graph.size());
+    }
+
+    /**
+     * 影響品目だけを再計画し、前回計画の該当部分を差し替える.
+     */
+    private MrpResult replan(PlanSnapshot previous, boolean[] affected, WorkingDayCalendar calendar) {
+        BomGraph graph = previous.graph();
+        Set<String> affectedCodes = new TreeSet<>();
+        for (int i = 0; i < affected.length; i++) {
+            if (affected[i]) {
+                affectedCodes.add(graph.itemCode(i));
+            }
+        }
+
+        MrpPlanner planner = new MrpPlanner(graph, previous.itemMap(), previous.startDate(), previous.endDate(),
+            calendar);
+        MrpPlanner.ItemPlan[] plans = previous.plans().clone();
+        if (!affectedCodes.isEmpty()) {
+            supplyDemandLoader.loadItems(planner, affectedCodes);
+            addDemandFromUnaffectedParents(planner, graph, affected, plans);
+        }
+        List<LevelTiming> levelTimings = planLevels(planner, graph, affected, plans);
+
+        PlanSnapshot snapshot = new PlanSnapshot(previous.startDate(), previous.endDate(), previous.itemStamp(),
+            previous.bomStamp(), previous.calendarRevision(), graph, previous.itemMap(), plans);
+        lastPlan.set(snapshot);
+        return toResult(snapshot, levelTimings, true, affectedCodes.size());
     }
 
-    private LocalDate calculateOrderDate(Item item, LocalDate dueDate) {
-        int leadTime = item.getLeadTime() != null ? item.getLeadTime() : 0;
-        int safetyLeadTime = item.getSafetyLeadTime() != null ? item.getSafetyLeadTime() : 0;
-        return dueDate.minusDays(leadTime + safetyLeadTime);
+    /**
+     * 再計画しない親品目の前回計画オーダから、影響品目への従属需要を投入する.
+     */
+    private void addDemandFromUnaffectedParents(MrpPlanner planner, BomGraph graph, boolean[] affected,
+                                                MrpPlanner.ItemPlan[] plans) {
+        for (int child = 0; child < affected.length; child++) {
+            if (!affected[child]) {
+                continue;
+            }
+            for (int position = graph.parentEdgeStart(child); position < graph.parentEdgeEnd(child); position++) {
+                int edge = graph.parentEdgeAt(position);
+                int parent = graph.edgeParent(edge);
+                if (affected[parent] || plans[parent] == null) {
+                    continue;
+                }
+                for (PlannedOrder order : plans[parent].plannedOrders()) {
+                    if (graph.isEffective(edge, order.getReleaseDate())) {
+                        planner.addGrossRequirement(graph.itemCode(child), order.getReleaseDate(),
+                            order.getQuantity().multiply(graph.edgeQuantity(edge)));
+                    }
+                }
+            }
+        }
     }
 
-    private String determineOrderType(Item item) {
-        // 品目区分に基づいて発注タイプを決定
-        if (item.getItemCategory() == null) {
-            return "PURCHASE";
+    private static void markWithDescendants(BomGraph graph, int root, boolean[] affected) {
+        if (affected[root]) {
+            return;
+        }
+        int[] stack = new int[graph.size()];
+        int top = 0;
+        affected[root] = true;
+        stack[top++] = root;
+        while (top > 0) {
+            int item = stack[--top];
+            for (int edge = graph.childEdgeStart(item); edge < graph.childEdgeEnd(item); edge++) {
+                int child = graph.edgeChild(edge);
+                if (!affected[child]) {
+                    affected[child] = true;
+                    stack[top++] = child;
+                }
+            }
         }
+    }
 
-        return switch (item.getItemCategory()) {
-            case PRODUCT, SEMI_PRODUCT, INTERMEDIATE -> "MANUFACTURING";
-            case PART, MATERIAL, RAW_MATERIAL, SUPPLY -> "PURCHASE";
-        };
+    /**
+     * 低位レベルコード順に計画する（親の従属需要を子へ反映してから子を計画する）.
+     *
+     * @param affected 計画対象の品目（null の場合は全品目）
+     */
+    private List<LevelTiming> planLevels(MrpPlanner planner, BomGraph graph, boolean[] affected,
+                                         MrpPlanner.ItemPlan[] plans) {
+        List<LevelTiming> levelTimings = new ArrayList<>();
+        for (int level = 0; level < graph.levelCount(); level++) {
+            long started = System.nanoTime();
+            int[] levelItems = graph.itemsAtLevel(level);
+            if (affected != null) {
+                levelItems = Arrays.stream(levelItems).filter(i -> affected[i]).toArray();
+                if (levelItems.length == 0) {
+                    continue;
+                }
+            }
+            List<MrpPlanner.ItemPlan> levelPlans = planLevel(planner, levelItems);
+            for (int i = 0; i < levelItems.length; i++) {
+                MrpPlanner.ItemPlan plan = levelPlans.get(i);
+                plans[levelItems[i]] = plan;
+                planner.applyDependentDemands(plan.dependentDemands());
+            }
+            levelTimings.add(LevelTiming.builder()
+                .lowLevelCode(level)
+                .itemCount(levelItems.length)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started))
+                .build());
+        }
+        return levelTimings;
     }
 
-    private BigDecimal calculateOrderQuantity(Item item, BigDecimal shortage) {
-        // ロットサイズを考慮して発注数量を計算
-        BigDecimal minLotSize = item.getMinLotSize() != null ? item.getMinLotSize() : BigDecimal.ONE;
-        BigDecimal lotIncrement = item.getLotIncrement() != null ? item.getLotIncrement() : BigDecimal.ONE;
+    /**
+     * 同一レベルの品目を計画する.
+     *
+     * <p>同一レベルの品目同士は互いの総所要量を変更しないため並列に計画できる。
+     * 結果は品目インデックス順（品目コード順）で返すので、実行ごとに同じ順序でマージされる。</p>
+     */
+    private List<MrpPlanner.ItemPlan> planLevel(MrpPlanner planner, int[] levelItems) {
+        return LevelPlanning.levelStream(levelItems).mapToObj(planner::planItem).toList();
+    }
 
-        if (shortage.compareTo(minLotSize) <= 0) {
-            return minLotSize;
+    private MrpResult toResult(PlanSnapshot snapshot, List<LevelTiming> levelTimings,
+                               boolean netChange, int replannedItemCount) {
+        BomGraph graph = snapshot.graph();
+        List<PlannedOrder> plannedOrders = new ArrayList<>();
+        List<ShortageItem> shortageItems = new ArrayList<>();
+        for (int level = 0; level < graph.levelCount(); level++) {
+            for (int index : graph.itemsAtLevel(level)) {
+                MrpPlanner.ItemPlan plan = snapshot.plans()[index];
+                if (plan == null) {
+                    continue;
+                }
+                plannedOrders.addAll(plan.plannedOrders());
+                if (plan.shortageItem() != null) {
+                    shortageItems.add(plan.shortageItem());
+                }
+            }
         }
 
-        // ロット増分で切り上げ
-        BigDecimal excess = shortage.subtract(minLotSize);
-        BigDecimal increments = excess.divide(lotIncrement, 0, java.math.RoundingMode.CEILING);
-        return minLotSize.add(lotIncrement.multiply(increments));
+        return MrpResult.builder()
+            .executionTime(LocalDateTime.now())
+            .periodStart(snapshot.startDate())
+            .periodEnd(snapshot.endDate())
+            .plannedOrders(plannedOrders)
+            .shortageItems(shortageItems)
+            .levelTimings(levelTimings)
+            .netChange(netChange)
+            .replannedItemCount(replannedItemCount)
+            .build();
+    }
+
+    /**
+     * 直近の計画結果（正味変更 MRP の差分元）.
+     */
+    private record PlanSnapshot(LocalDate startDate, LocalDate endDate, String itemStamp, String bomStamp,
+                                long calendarRevision, BomGraph graph, Map<String, Item> itemMap,
+                                MrpPlanner.ItemPlan[] plans) {
     }
 }
@@ -0,0 +1,138 @@
+package com.example.pms.application.service;
+
+import com.example.pms.application.port.out.AllocationRepository;
+import com.example.pms.application.port.out.MpsRepository;
+import com.example.pms.application.port.out.OrderRepository;
+import com.example.pms.application.port.out.RequirementRepository;
+import com.example.pms.application.port.out.StockRepository;
+import com.example.pms.domain.model.inventory.Stock;
+import com.example.pms.domain.model.plan.Allocation;
+import com.example.pms.domain.model.plan.AllocationType;
+import com.example.pms.domain.model.plan.MasterProductionSchedule;
+import com.example.pms.domain.model.plan.Order;
+import com.example.pms.domain.model.plan.PlanStatus;
+import com.example.pms.domain.model.plan.Requirement;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MRP の需給データ読込.
+ *
+ * <p>在庫・引当・基準生産計画・確定オーダ・未引当所要を一括取得して {@link MrpPlanner} に投入する。
+ * 品目コードを指定した場合はその品目の行だけを取得する（正味変更 MRP 用）。</p>
+ */
+@Component
+@SuppressWarnings("PMD.UseConcurrentHashMap")
+public class MrpSupplyDemandLoader {
+
+    /** 需要・入庫として扱う計画ステータス. */
+    private static final Set<PlanStatus> FIRM_STATUSES = EnumSet.of(PlanStatus.CONFIRMED, PlanStatus.EXPANDED);
+
+    private final StockRepository stockRepository;
+    private final MpsRepository mpsRepository;
+    private final OrderRepository orderRepository;
+    private final RequirementRepository requirementRepository;
+    private final AllocationRepository allocationRepository;
+
+    public MrpSupplyDemandLoader(StockRepository stockRepository,
+                                 MpsRepository mpsRepository,
+                                 OrderRepository orderRepository,
+                                 RequirementRepository requirementRepository,
+                                 AllocationRepository allocationRepository) {
+        this.stockRepository = stockRepository;
+        this.mpsRepository = mpsRepository;
+        this.orderRepository = orderRepository;
+        this.requirementRepository = requirementRepository;
+        this.allocationRepository = allocationRepository;
+    }
+
+    /**
+     * 全品目の需給を計画に投入する.
+     *
+     * @param planner 計画
+     */
+    void loadAll(MrpPlanner planner) {
+        load(planner, stockRepository.findAll(), mpsRepository.findAll(), orderRepository.findAll(),
+            requirementRepository.findAll(), allocationRepository.findAll(), false);
+    }
+
+    /**
+     * 指定品目の需給を計画に投入する.
+     *
+     * @param planner 計画
+     * @param itemCodes 品目コード
+     */
+    void loadItems(MrpPlanner planner, Collection<String> itemCodes) {
+        load(planner, stockRepository.findByItemCodes(itemCodes), mpsRepository.findByItemCodes(itemCodes),
+            orderRepository.findByItemCodes(itemCodes), requirementRepository.findByItemCodes(itemCodes),
+            allocationRepository.findByItemCodes(itemCodes), true);
+    }
+
+    private void load(MrpPlanner planner, List<Stock> stocks, List<MasterProductionSchedule> schedules,
+                      List<Order> orders, List<Requirement> requirements, List<Allocation> allocations,
+                      boolean partial) {
+        // 在庫情報（全場所合計）
+        for (Stock stock : stocks) {
+            planner.addOnHand(stock.getItemCode(), stock.getStockQuantity());
+        }
+
+        // 確定済みの基準生産計画を独立需要とする
+        for (MasterProductionSchedule mps : schedules) {
+            if (FIRM_STATUSES.contains(mps.getStatus())) {
+                planner.addGrossRequirement(mps.getItemCode(), mps.getDueDate(), mps.getPlanQuantity());
+            }
+        }
+
+        // 確定済みのオーダを入庫予定とする
+        Map<Integer, PlanStatus> orderStatuses = new HashMap<>();
+        for (Order order : orders) {
+            orderStatuses.put(order.getId(), order.getStatus());
+            if (FIRM_STATUSES.contains(order.getStatus())) {
+                planner.addScheduledReceipt(order.getItemCode(), order.getDueDate(), order.getPlanQuantity());
+            }
+        }
+        if (partial) {
+            // 所要の親オーダは別品目のため、未取得分のステータスをまとめて取得する
+            Set<Integer> missing = new HashSet<>();
+            for (Requirement requirement : requirements) {
+                if (requirement.getOrderId() != null && !orderStatuses.containsKey(requirement.getOrderId())) {
+                    missing.add(requirement.getOrderId());
+                }
+            }
+            for (Order order : orderRepository.findByIds(missing)) {
+                orderStatuses.put(order.getId(), order.getStatus());
+            }
+        }
+
+        // 確定オーダの所要のうち未引当分を総所要量とする
+        Map<Integer, String> requirementItems = new HashMap<>();
+        for (Requirement requirement : requirements) {
+            requirementItems.put(requirement.getId(), requirement.getItemCode());
+            if (FIRM_STATUSES.contains(orderStatuses.get(requirement.getOrderId()))
+                && requirement.getRequiredQuantity() != null) {
+                BigDecimal allocated = requirement.getAllocatedQuantity() != null
+                    ? requirement.getAllocatedQuantity() : BigDecimal.ZERO;
+                planner.addGrossRequirement(requirement.getItemCode(), requirement.getDueDate(),
+                    requirement.getRequiredQuantity().subtract(allocated));
+            }
+        }
+
+        // 在庫引当済みの数量は利用可能在庫から除く
+        for (Allocation allocation : allocations) {
+            if (allocation.getAllocationType() == AllocationType.INVENTORY) {
+                String itemCode = requirementItems.get(allocation.getRequirementId());
+                if (itemCode != null && allocation.getAllocatedQuantity() != null) {
+                    planner.addOnHand(itemCode, allocation.getAllocatedQuantity().negate());
+                }
+            }
+        }
+    }
+}
@@ -20,9 +20,11 @@ import java.util.Optional;
 public class ProcessInspectionService implements ProcessInspectionUseCase {
 
     private final ProcessInspectionRepository processInspectionRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public ProcessInspectionService(ProcessInspectionRepository processInspectionRepository) {
+    public ProcessInspectionService(ProcessInspectionRepository processInspectionRepository, DocumentNumberAllocator numberAllocator) {
         this.processInspectionRepository = processInspectionRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -78,23 +80,7 @@ public class ProcessInspectionService implements ProcessInspectionUseCase {
      * @return 検査番号（PI-yyyyMMdd-NNNN形式）
      */
     private String generateInspectionNumber() {
-        String datePrefix = "PI-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
-        List<ProcessInspection> allInspections = processInspectionRepository.findAll();
-
-        int maxSeq = allInspections.stream()
-            .map(ProcessInspection::getInspectionNumber)
-            .filter(num -> num != null && num.startsWith(datePrefix))
-            .map(num -> {
-                String seqStr = num.substring(datePrefix.length());
-                try {
-                    return Integer.parseInt(seqStr);
-                } catch (NumberFormatException e) {
-                    return 0;
-                }
-            })
-            .max(Integer::compareTo)
-            .orElse(0);
-
-        return datePrefix + String.format("%04d", maxSeq + 1);
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("PI-%s-%04d", date, numberAllocator.next("PROCESS_INSPECTION", date));
     }
 }
@@ -14,8 +14,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * 発注サービス（Application Service）.
@@ -25,9 +26,11 @@ import java.util.UUID;
 public class PurchaseOrderService implements PurchaseOrderUseCase {
 
     private final PurchaseOrderRepository purchaseOrderRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public PurchaseOrderService(PurchaseOrderRepository purchaseOrderRepository) {
+    public PurchaseOrderService(PurchaseOrderRepository purchaseOrderRepository, DocumentNumberAllocator numberAllocator) {
         this.purchaseOrderRepository = purchaseOrderRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -134,6 +137,12 @@ public class PurchaseOrderService implements PurchaseOrderUseCase {
         return purchaseOrderRepository.findByStatus(status);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachOrder(PurchaseOrderStatus status, Consumer<PurchaseOrder> action) {
+        purchaseOrderRepository.forEachByStatus(status, action);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PageResult<PurchaseOrder> getOrders(int page, int size, PurchaseOrderStatus status) {
@@ -144,6 +153,7 @@ public class PurchaseOrderService implements PurchaseOrderUseCase {
     }
 
     private String generateOrderNumber() {
-        return "PO-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(java.util.Locale.ROOT);
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("PO-%s-%04d", date, numberAllocator.next("PURCHASE_ORDER", date));
     }
 }
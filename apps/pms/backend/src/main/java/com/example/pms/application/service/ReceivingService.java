@@ -21,9 +21,11 @@ import java.util.Optional;
 public class ReceivingService implements ReceivingUseCase {
 
     private final ReceivingRepository receivingRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public ReceivingService(ReceivingRepository receivingRepository) {
+    public ReceivingService(ReceivingRepository receivingRepository, DocumentNumberAllocator numberAllocator) {
         this.receivingRepository = receivingRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -99,23 +101,7 @@ public class ReceivingService implements ReceivingUseCase {
      * 形式: RCV-yyyyMMdd-nnnn
      */
     private String generateReceivingNumber() {
-        String datePrefix = "RCV-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
-        List<Receiving> allReceivings = receivingRepository.findAll();
-
-        int maxSeq = allReceivings.stream()
-            .map(Receiving::getReceivingNumber)
-            .filter(num -> num != null && num.startsWith(datePrefix))
-            .map(num -> {
-                String seqStr = num.substring(datePrefix.length());
-                try {
-                    return Integer.parseInt(seqStr);
-                } catch (NumberFormatException e) {
-                    return 0;
-                }
-            })
-            .max(Integer::compareTo)
-            .orElse(0);
-
-        return datePrefix + String.format("%04d", maxSeq + 1);
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("RCV-%s-%04d", date, numberAllocator.next("RECEIVING", date));
     }
 }
@@ -20,9 +20,11 @@ import java.util.Optional;
 public class ShipmentInspectionService implements ShipmentInspectionUseCase {
 
     private final ShipmentInspectionRepository shipmentInspectionRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public ShipmentInspectionService(ShipmentInspectionRepository shipmentInspectionRepository) {
+    public ShipmentInspectionService(ShipmentInspectionRepository shipmentInspectionRepository, DocumentNumberAllocator numberAllocator) {
         this.shipmentInspectionRepository = shipmentInspectionRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -78,23 +80,7 @@ public class ShipmentInspectionService implements ShipmentInspectionUseCase {
      * @return 検査番号（SI-yyyyMMdd-NNNN形式）
      */
     private String generateInspectionNumber() {
-        String datePrefix = "SI-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
-        List<ShipmentInspection> allInspections = shipmentInspectionRepository.findAll();
-
-        int maxSeq = allInspections.stream()
-            .map(ShipmentInspection::getInspectionNumber)
-            .filter(num -> num != null && num.startsWith(datePrefix))
-            .map(num -> {
-                String seqStr = num.substring(datePrefix.length());
-                try {
-                    return Integer.parseInt(seqStr);
-                } catch (NumberFormatException e) {
-                    return 0;
-                }
-            })
-            .max(Integer::compareTo)
-            .orElse(0);
-
-        return datePrefix + String.format("%04d", maxSeq + 1);
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("SI-%s-%04d", date, numberAllocator.next("SHIPMENT_INSPECTION", date));
     }
 }
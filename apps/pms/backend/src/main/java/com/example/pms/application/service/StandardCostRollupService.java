@@ -0,0 +1,181 @@
+package com.example.pms.application.service;
+
+import com.example.pms.application.port.in.StandardCostRollupUseCase;
+import com.example.pms.application.port.in.command.RollUpStandardCostCommand;
+import com.example.pms.application.port.out.ItemRepository;
+import com.example.pms.application.port.out.ProcessRouteRepository;
+import com.example.pms.application.port.out.StandardCostRepository;
+import com.example.pms.application.port.out.UnitPriceRepository;
+import com.example.pms.application.port.out.WageRateRepository;
+import com.example.pms.domain.exception.WageRateNotFoundException;
+import com.example.pms.domain.model.bom.BomGraph;
+import com.example.pms.domain.model.cost.StandardCost;
+import com.example.pms.domain.model.cost.WageRate;
+import com.example.pms.domain.model.process.ProcessRoute;
+import com.example.pms.domain.model.unitprice.UnitPrice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 標準原価積上げサービス（Application Service）.
+ *
+ * <p>品目・工程表・標準原価・単価を一括で読み込み、{@link BomGraphCache} の部品構成表のインメモリグラフに
+ * 工程表のある品目を加えたうえで、低位レベルコードの大きい順（下位から上位）に 1 回だけたどって積み上げる。
+ * 品目ごとの SQL 往復は発生せず、
+ * 同一レベル内の品目は Fork/Join の共通プールで並列に積み上げる。
+ * 積み上げた標準原価は品目コードをまとめた更新と複数行の INSERT で登録する。</p>
+ */
+@Service
+@Transactional
+@SuppressWarnings("PMD.UseConcurrentHashMap")
+public class StandardCostRollupService implements StandardCostRollupUseCase {
+
+    private final ItemRepository itemRepository;
+    private final BomGraphCache bomGraphCache;
+    private final ProcessRouteRepository processRouteRepository;
+    private final StandardCostRepository standardCostRepository;
+    private final UnitPriceRepository unitPriceRepository;
+    private final WageRateRepository wageRateRepository;
+
+    public StandardCostRollupService(ItemRepository itemRepository,
+                                     BomGraphCache bomGraphCache,
+                                     ProcessRouteRepository processRouteRepository,
+                                     StandardCostRepository standardCostRepository,
+                                     UnitPriceRepository unitPriceRepository,
+                                     WageRateRepository wageRateRepository) {
+        this.itemRepository = itemRepository;
+        this.bomGraphCache = bomGraphCache;
+        this.processRouteRepository = processRouteRepository;
+        this.standardCostRepository = standardCostRepository;
+        this.unitPriceRepository = unitPriceRepository;
+        this.wageRateRepository = wageRateRepository;
+    }
+
+    @Override
+    public RollupResult rollUp(RollUpStandardCostCommand command) {
+        long startedAt = System.nanoTime();
+        LocalDate effectiveDate = command.effectiveDate();
+        WageRate wageRate = wageRateRepository
+            .findValidByWorkerCategoryCode(command.workerCategoryCode(), effectiveDate)
+            .orElseThrow(() -> new WageRateNotFoundException(command.workerCategoryCode(), effectiveDate));
+        BigDecimal overheadRatePerHour = command.overheadRatePerHour() != null
+            ? command.overheadRatePerHour() : BigDecimal.ZERO;
+
+        Map<String, List<ProcessRoute>> routesByItem = processRouteRepository.findAll().stream()
+            .collect(Collectors.groupingBy(ProcessRoute::getItemCode));
+        BomGraph graph = bomGraphCache.get(routesByItem.keySet());
+        Map<String, List<StandardCost>> costsByItem = standardCostRepository.findAll().stream()
+            .collect(Collectors.groupingBy(StandardCost::getItemCode));
+
+        CostRollup rollup = new CostRollup(graph, effectiveDate,
+            LevelPlanning.selectEffectiveItems(itemRepository.findAll(), effectiveDate), routesByItem,
+            leafCosts(costsByItem, effectiveDate), wageRate.getHourlyRate(), overheadRatePerHour);
+        List<LevelTiming> levelTimings = costLevels(rollup, graph);
+
+        List<String> rolledItemCodes = new ArrayList<>();
+        List<StandardCost> standardCosts = new ArrayList<>();
+        List<String> uncostedItemCodes = new ArrayList<>();
+        for (int i = 0; i < graph.size(); i++) {
+            String itemCode = graph.itemCode(i);
+            if (rollup.isRolled(i)) {
+                rolledItemCodes.add(itemCode);
+                standardCosts.add(rollup.toStandardCost(i,
+                    nextEndDate(costsByItem.getOrDefault(itemCode, List.of()), effectiveDate)));
+            } else if (rollup.isUncosted(i)) {
+                uncostedItemCodes.add(itemCode);
+            }
+        }
+
+        // 同じ適用日で積み上げ直した場合は置き換え、適用日時点で有効な標準原価は前日で締める
+        standardCostRepository.deleteByItemCodesAndStartDate(rolledItemCodes, effectiveDate);
+        standardCostRepository.closeByItemCodes(rolledItemCodes, effectiveDate);
+        standardCostRepository.saveAll(standardCosts);
+
+        return RollupResult.builder()
+            .executionTime(LocalDateTime.now())
+            .effectiveDate(effectiveDate)
+            .workerCategoryCode(command.workerCategoryCode())
+            .hourlyRate(wageRate.getHourlyRate())
+            .overheadRatePerHour(overheadRatePerHour)
+            .rolledItemCount(rolledItemCodes.size())
+            .leafItemCount(graph.size() - rolledItemCodes.size())
+            .uncostedItemCodes(uncostedItemCodes)
+            .levelTimings(levelTimings)
+            .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+            .build();
+    }
+
+    /**
+     * 低位レベルコードの大きい順に積み上げる（子の原価を確定してから親を積み上げる）.
+     *
+     * <p>同一レベルの品目同士は互いの原価を参照しないため並列に積み上げられる。</p>
+     */
+    private static List<LevelTiming> costLevels(CostRollup rollup, BomGraph graph) {
+        List<LevelTiming> levelTimings = new ArrayList<>();
+        for (int level = graph.levelCount() - 1; level >= 0; level--) {
+            long started = System.nanoTime();
+            int[] levelItems = graph.itemsAtLevel(level);
+            LevelPlanning.levelStream(levelItems).forEach(rollup::costItem);
+            levelTimings.add(LevelTiming.builder()
+                .lowLevelCode(level)
+                .itemCount(levelItems.length)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started))
+                .build());
+        }
+        return levelTimings;
+    }
+
+    /**
+     * 積み上げの起点とする原価. 適用日時点の標準原価、なければ適用日時点で最安の単価を材料費とする.
+     */
+    private Map<String, StandardCost> leafCosts(Map<String, List<StandardCost>> costsByItem,
+                                                LocalDate effectiveDate) {
+        Map<String, StandardCost> leafCosts = new HashMap<>();
+        for (UnitPrice unitPrice : unitPriceRepository.findAll()) {
+            boolean effective = !unitPrice.getEffectiveFrom().isAfter(effectiveDate)
+                && (unitPrice.getEffectiveTo() == null || unitPrice.getEffectiveTo().isAfter(effectiveDate));
+            StandardCost current = leafCosts.get(unitPrice.getItemCode());
+            if (effective && unitPrice.getPrice() != null
+                && (current == null || unitPrice.getPrice().compareTo(current.getStandardMaterialCost()) < 0)) {
+                leafCosts.put(unitPrice.getItemCode(), StandardCost.builder()
+                    .itemCode(unitPrice.getItemCode())
+                    .standardMaterialCost(unitPrice.getPrice())
+                    .standardLaborCost(BigDecimal.ZERO)
+                    .standardExpense(BigDecimal.ZERO)
+                    .build());
+            }
+        }
+        for (Map.Entry<String, List<StandardCost>> entry : costsByItem.entrySet()) {
+            // findAll は品目コード順・適用開始日の降順で返る
+            entry.getValue().stream()
+                .filter(cost -> cost.isValidAt(effectiveDate))
+                .findFirst()
+                .ifPresent(cost -> leafCosts.put(entry.getKey(), cost));
+        }
+        return leafCosts;
+    }
+
+    /**
+     * 適用日より後に始まる標準原価があれば、その前日を新しい標準原価の適用終了日とする.
+     */
+    private static LocalDate nextEndDate(List<StandardCost> costs, LocalDate effectiveDate) {
+        LocalDate next = null;
+        for (StandardCost cost : costs) {
+            LocalDate start = cost.getEffectiveStartDate();
+            if (start.isAfter(effectiveDate) && (next == null || start.isBefore(next))) {
+                next = start;
+            }
+        }
+        return next != null ? next.minusDays(1) : null;
+    }
+}
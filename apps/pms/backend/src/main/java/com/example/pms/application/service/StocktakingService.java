@@ -24,12 +24,15 @@ public class StocktakingService implements StocktakingUseCase {
 
     private final StocktakingRepository stocktakingRepository;
     private final StocktakingDetailRepository stocktakingDetailRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
     public StocktakingService(
             StocktakingRepository stocktakingRepository,
-            StocktakingDetailRepository stocktakingDetailRepository) {
+            StocktakingDetailRepository stocktakingDetailRepository,
+            DocumentNumberAllocator numberAllocator) {
         this.stocktakingRepository = stocktakingRepository;
         this.stocktakingDetailRepository = stocktakingDetailRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -136,23 +139,7 @@ public class StocktakingService implements StocktakingUseCase {
     }
 
     private String generateStocktakingNumber() {
-        String datePrefix = "ST-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
-        List<Stocktaking> allStocktakings = stocktakingRepository.findAll();
-
-        int maxSeq = allStocktakings.stream()
-            .map(Stocktaking::getStocktakingNumber)
-            .filter(num -> num != null && num.startsWith(datePrefix))
-            .map(num -> {
-                String seqStr = num.substring(datePrefix.length());
-                try {
-                    return Integer.parseInt(seqStr);
-                } catch (NumberFormatException e) {
-                    return 0;
-                }
-            })
-            .max(Integer::compareTo)
-            .orElse(0);
-
-        return datePrefix + String.format("%04d", maxSeq + 1);
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("ST-%s-%04d", date, numberAllocator.next("STOCKTAKING", date));
     }
 }
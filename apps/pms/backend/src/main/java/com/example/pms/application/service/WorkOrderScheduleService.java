@@ -0,0 +1,99 @@
+package com.example.pms.application.service;
+
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase;
+import com.example.pms.application.port.out.ProcessRepository;
+import com.example.pms.application.port.out.ProcessRouteRepository;
+import com.example.pms.application.port.out.WorkOrderRepository;
+import com.example.pms.domain.model.calendar.WorkingDayCalendar;
+import com.example.pms.domain.model.process.Process;
+import com.example.pms.domain.model.process.ProcessRoute;
+import com.example.pms.domain.model.process.WorkOrder;
+import com.example.pms.domain.model.process.WorkOrderStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 作業指示の負荷計画サービス.
+ *
+ * <p>未完了（未着手・作業中・中断）の作業指示を、品目の工程表の段取時間・標準作業時間（分）と
+ * 残数量から工程ごとの作業時間を求め、{@link WorkingCalendarIndex} の稼働日カレンダの稼働時間を
+ * 各工程の 1 日の能力として計画する。</p>
+ */
+@Service
+@Transactional(readOnly = true)
+public class WorkOrderScheduleService implements WorkOrderScheduleUseCase {
+
+    private static final List<WorkOrderStatus> OPEN_STATUSES = List.of(
+        WorkOrderStatus.NOT_STARTED, WorkOrderStatus.IN_PROGRESS, WorkOrderStatus.SUSPENDED);
+
+    private final WorkOrderRepository workOrderRepository;
+    private final ProcessRouteRepository processRouteRepository;
+    private final ProcessRepository processRepository;
+    private final WorkingCalendarIndex workingCalendarIndex;
+
+    public WorkOrderScheduleService(WorkOrderRepository workOrderRepository,
+                                    ProcessRouteRepository processRouteRepository,
+                                    ProcessRepository processRepository,
+                                    WorkingCalendarIndex workingCalendarIndex) {
+        this.workOrderRepository = workOrderRepository;
+        this.processRouteRepository = processRouteRepository;
+        this.processRepository = processRepository;
+        this.workingCalendarIndex = workingCalendarIndex;
+    }
+
+    @Override
+    public ScheduleResult schedule(ScheduleDirection direction, LocalDate startDate, int horizonDays,
+                                   String calendarCode) {
+        long startedAt = System.nanoTime();
+        LocalDate endDate = startDate.plusDays(horizonDays - 1L);
+        CapacityScheduler scheduler = new CapacityScheduler(startDate,
+            dailyCapacities(calendarCode, startDate, horizonDays));
+
+        Map<String, List<ProcessRoute>> routesByItem = processRouteRepository.findAll().stream()
+            .collect(Collectors.groupingBy(ProcessRoute::getItemCode));
+        List<WorkOrder> workOrders = new ArrayList<>();
+        for (WorkOrderStatus status : OPEN_STATUSES) {
+            workOrders.addAll(workOrderRepository.findByStatus(status));
+        }
+        workOrders.sort(Comparator.comparing(WorkOrder::getWorkOrderNumber));
+        for (WorkOrder workOrder : workOrders) {
+            scheduler.addWorkOrder(workOrder, routesByItem.getOrDefault(workOrder.getItemCode(), List.of()));
+        }
+
+        List<ScheduledWorkOrder> scheduled = scheduler.schedule(direction);
+        Map<String, String> processNames = processRepository.findAll().stream()
+            .collect(Collectors.toMap(Process::getProcessCode, Process::getProcessName, (a, b) -> a));
+        return ScheduleResult.builder()
+            .executionTime(LocalDateTime.now())
+            .direction(direction)
+            .periodStart(startDate)
+            .periodEnd(endDate)
+            .calendarCode(calendarCode)
+            .workOrders(scheduled)
+            .unscheduledWorkOrders(scheduler.unscheduledWorkOrders())
+            .processLoads(scheduler.processLoads(processNames))
+            .elapsedMillis((System.nanoTime() - startedAt) / 1_000_000L)
+            .build();
+    }
+
+    /**
+     * 計画開始日からの日ごとの稼働分.
+     */
+    private int[] dailyCapacities(String calendarCode, LocalDate startDate, int horizonDays) {
+        LocalDate endDate = startDate.plusDays(horizonDays - 1L);
+        WorkingDayCalendar calendar = workingCalendarIndex.get(calendarCode, startDate, endDate);
+        int[] capacities = new int[horizonDays];
+        for (int d = 0; d < horizonDays; d++) {
+            capacities[d] = calendar.workingMinutes(startDate.plusDays(d));
+        }
+        return capacities;
+    }
+}
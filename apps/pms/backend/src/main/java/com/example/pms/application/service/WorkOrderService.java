@@ -26,9 +26,11 @@ import java.util.Optional;
 public class WorkOrderService implements WorkOrderUseCase {
 
     private final WorkOrderRepository workOrderRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public WorkOrderService(WorkOrderRepository workOrderRepository) {
+    public WorkOrderService(WorkOrderRepository workOrderRepository, DocumentNumberAllocator numberAllocator) {
         this.workOrderRepository = workOrderRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -156,23 +158,7 @@ public class WorkOrderService implements WorkOrderUseCase {
     }
 
     private String generateWorkOrderNumber() {
-        String datePrefix = "WO-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
-        List<WorkOrder> allWorkOrders = workOrderRepository.findAll();
-
-        int maxSeq = allWorkOrders.stream()
-            .map(WorkOrder::getWorkOrderNumber)
-            .filter(num -> num != null && num.startsWith(datePrefix))
-            .map(num -> {
-                String seqStr = num.substring(datePrefix.length());
-                try {
-                    return Integer.parseInt(seqStr);
-                } catch (NumberFormatException e) {
-                    return 0;
-                }
-            })
-            .max(Integer::compareTo)
-            .orElse(0);
-
-        return datePrefix + String.format("%04d", maxSeq + 1);
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("WO-%s-%04d", date, numberAllocator.next("WORK_ORDER", date));
     }
 }
@@ -0,0 +1,96 @@
+package com.example.pms.application.service;
+
+import com.example.pms.application.port.out.WorkCalendarRepository;
+import com.example.pms.domain.model.calendar.WorkCalendar;
+import com.example.pms.domain.model.calendar.WorkingDayCalendar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 稼働日カレンダ索引のプロセス内キャッシュ.
+ *
+ * <p>カレンダコードごとにカレンダマスタを 1 回だけ読み込み、{@link WorkingDayCalendar} として保持する。
+ * 要求された期間が展開期間を外れる場合は、登録内容を読み直さずに展開期間を広げる。
+ * カレンダを登録・更新・削除した場合は {@link #invalidate(String)} を呼び出し、
+ * コミット後に該当カレンダコードの索引を破棄する。</p>
+ */
+@Component
+public class WorkingCalendarIndex {
+
+    /** 要求された期間の前後に余分に展開する日数. */
+    private static final int PADDING_DAYS = 366;
+    /** カレンダコード省略時（土日を休日とする既定の規則）のキー. */
+    private static final String DEFAULT_KEY = "";
+
+    private final WorkCalendarRepository workCalendarRepository;
+    private final Map<String, WorkingDayCalendar> calendars = new ConcurrentHashMap<>();
+    private final AtomicLong revisions = new AtomicLong();
+
+    public WorkingCalendarIndex(WorkCalendarRepository workCalendarRepository) {
+        this.workCalendarRepository = workCalendarRepository;
+    }
+
+    /**
+     * 指定期間を含む稼働日カレンダを取得する.
+     *
+     * @param calendarCode カレンダコード（null・空の場合は土日を休日とする）
+     * @param from 開始日
+     * @param to 終了日
+     * @return 稼働日カレンダ
+     */
+    public WorkingDayCalendar get(String calendarCode, LocalDate from, LocalDate to) {
+        String key = keyOf(calendarCode);
+        WorkingDayCalendar current = calendars.get(key);
+        if (current != null && current.covers(from, to)) {
+            return current;
+        }
+        return calendars.compute(key, (code, cached) -> {
+            if (cached != null && cached.covers(from, to)) {
+                return cached;
+            }
+            LocalDate first = from.minusDays(PADDING_DAYS);
+            LocalDate last = to.plusDays(PADDING_DAYS);
+            if (cached != null) {
+                return cached.widen(first, last);
+            }
+            List<WorkCalendar> registered = DEFAULT_KEY.equals(code)
+                ? List.of()
+                : workCalendarRepository.findByCalendarCode(code);
+            return WorkingDayCalendar.of(DEFAULT_KEY.equals(code) ? null : code, revisions.incrementAndGet(),
+                registered, first, last);
+        });
+    }
+
+    /**
+     * カレンダコードの索引を破棄する. トランザクション中はコミット後に破棄する.
+     *
+     * @param calendarCode カレンダコード
+     */
+    public void invalidate(String calendarCode) {
+        if (calendarCode == null) {
+            return;
+        }
+        String key = keyOf(calendarCode);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    calendars.remove(key);
+                }
+            });
+        } else {
+            calendars.remove(key);
+        }
+    }
+
+    private static String keyOf(String calendarCode) {
+        return calendarCode == null || calendarCode.isBlank() ? DEFAULT_KEY : calendarCode;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.pms.domain.exception;
+
+/**
+ * ロット構成不正例外.
+ */
+@SuppressWarnings("PMD.MissingSerialVersionUID")
+public class InvalidLotCompositionException extends DomainException {
+
+    public InvalidLotCompositionException(String message) {
+        super(message);
+    }
+}
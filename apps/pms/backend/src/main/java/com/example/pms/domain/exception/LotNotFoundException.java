@@ -0,0 +1,12 @@
+package com.example.pms.domain.exception;
+
+/**
+ * ロットが見つからない例外.
+ */
+@SuppressWarnings("PMD.MissingSerialVersionUID")
+public class LotNotFoundException extends DomainException {
+
+    public LotNotFoundException(String lotNumber) {
+        super("ロットが見つかりません: " + lotNumber);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.pms.domain.exception;
+
+import java.time.LocalDate;
+
+/**
+ * 賃率が見つからない例外.
+ */
+@SuppressWarnings("PMD.MissingSerialVersionUID")
+public class WageRateNotFoundException extends DomainException {
+
+    public WageRateNotFoundException(String workerCategoryCode, LocalDate targetDate) {
+        super("賃率が見つかりません: " + workerCategoryCode + "（" + targetDate + " 時点）");
+    }
+}
@@ -0,0 +1,423 @@
+package com.example.pms.domain.model.bom;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 部品構成表のインメモリグラフ.
+ *
+ * <p>品目コードを連番の整数インデックスに割り当て、親→子・子→親の隣接関係を
+ * CSR（圧縮行）形式の配列で保持する。構築時に低位レベルコード（LLC）を求め、
+ * 循環参照があれば例外とする。構築後は不変で、複数スレッドから参照できる。</p>
+ */
+@SuppressWarnings({"PMD.UseConcurrentHashMap", "PMD.AvoidArrayLoops", "PMD.MethodReturnsInternalArray"})
+public final class BomGraph {
+
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+    private static final int QUANTITY_SCALE = 6;
+    private static final long NO_END = Long.MAX_VALUE;
+
+    private final String[] itemCodes;
+    private final Map<String, Integer> indexByCode;
+
+    // 親→子（辺インデックスは親ごとに連続）
+    private final int[] childOffsets;
+    private final int[] edgeChild;
+    private final int[] edgeParent;
+    private final BigDecimal[] edgeQuantity;
+    private final long[] edgeEffectiveFrom;
+    private final long[] edgeEffectiveTo;
+    private final Bom[] edgeSource;
+
+    // 子→親（辺インデックスへの参照）
+    private final int[] parentOffsets;
+    private final int[] parentEdges;
+
+    private final int[] lowLevelCodes;
+    private final int[][] itemsByLevel;
+
+    private BomGraph(String[] itemCodes, Map<String, Integer> indexByCode, List<Bom> edges) {
+        this.itemCodes = itemCodes;
+        this.indexByCode = indexByCode;
+        int n = itemCodes.length;
+        int m = edges.size();
+
+        this.childOffsets = new int[n + 1];
+        this.edgeChild = new int[m];
+        this.edgeParent = new int[m];
+        this.edgeQuantity = new BigDecimal[m];
+        this.edgeEffectiveFrom = new long[m];
+        this.edgeEffectiveTo = new long[m];
+        this.edgeSource = new Bom[m];
+
+        // edges は親インデックス順に整列済み
+        for (int e = 0; e < m; e++) {
+            Bom bom = edges.get(e);
+            int parent = indexByCode.get(bom.getParentItemCode());
+            edgeParent[e] = parent;
+            edgeChild[e] = indexByCode.get(bom.getChildItemCode());
+            edgeQuantity[e] = quantityPerParent(bom);
+            edgeEffectiveFrom[e] = bom.getEffectiveFrom() != null ? bom.getEffectiveFrom().toEpochDay() : Long.MIN_VALUE;
+            edgeEffectiveTo[e] = bom.getEffectiveTo() != null ? bom.getEffectiveTo().toEpochDay() : NO_END;
+            edgeSource[e] = bom;
+            childOffsets[parent + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            childOffsets[i + 1] += childOffsets[i];
+        }
+
+        this.parentOffsets = new int[n + 1];
+        this.parentEdges = new int[m];
+        for (int e = 0; e < m; e++) {
+            parentOffsets[edgeChild[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            parentOffsets[i + 1] += parentOffsets[i];
+        }
+        int[] cursor = Arrays.copyOf(parentOffsets, n);
+        for (int e = 0; e < m; e++) {
+            parentEdges[cursor[edgeChild[e]]++] = e;
+        }
+
+        this.lowLevelCodes = computeLowLevelCodes();
+        this.itemsByLevel = groupByLevel();
+    }
+
+    /**
+     * 部品構成表の行からグラフを構築する.
+     *
+     * @param boms 部品構成表の全行
+     * @param additionalItemCodes 構成に現れない品目も含めたい場合の品目コード
+     * @return BOM グラフ
+     * @throws IllegalStateException 構成に循環参照がある場合
+     */
+    public static BomGraph of(Collection<Bom> boms, Collection<String> additionalItemCodes) {
+        TreeSet<String> codes = new TreeSet<>(additionalItemCodes);
+        for (Bom bom : boms) {
+            codes.add(bom.getParentItemCode());
+            codes.add(bom.getChildItemCode());
+        }
+        String[] itemCodes = codes.toArray(new String[0]);
+        Map<String, Integer> indexByCode = new HashMap<>(itemCodes.length * 2);
+        for (int i = 0; i < itemCodes.length; i++) {
+            indexByCode.put(itemCodes[i], i);
+        }
+
+        List<Bom> edges = new ArrayList<>(boms);
+        edges.sort(Comparator
+            .comparing((Bom b) -> indexByCode.get(b.getParentItemCode()))
+            .thenComparing(b -> b.getSequence() != null ? b.getSequence() : Integer.MAX_VALUE)
+            .thenComparing(b -> indexByCode.get(b.getChildItemCode()))
+            .thenComparing(Bom::getEffectiveFrom, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return new BomGraph(itemCodes, indexByCode, edges);
+    }
+
+    /**
+     * 構成に現れない品目を加えたグラフを返す. すべて含まれている場合はこのグラフをそのまま返す.
+     *
+     * <p>部品構成表を読み直さず、このグラフの辺から構築し直す。</p>
+     *
+     * @param additionalItemCodes 加える品目コード
+     * @return BOM グラフ
+     */
+    public BomGraph withItems(Collection<String> additionalItemCodes) {
+        List<String> missing = additionalItemCodes.stream()
+            .filter(code -> !indexByCode.containsKey(code))
+            .toList();
+        if (missing.isEmpty()) {
+            return this;
+        }
+        List<String> codes = new ArrayList<>(Arrays.asList(itemCodes));
+        codes.addAll(missing);
+        return of(Arrays.asList(edgeSource), codes);
+    }
+
+    /**
+     * 親品目 1 単位あたりの子品目所要量（不良率込み）を計算する.
+     */
+    private static BigDecimal quantityPerParent(Bom bom) {
+        BigDecimal required = bom.getRequiredQuantity() != null ? bom.getRequiredQuantity() : BigDecimal.ZERO;
+        BigDecimal base = bom.getBaseQuantity() != null && bom.getBaseQuantity().signum() > 0
+            ? bom.getBaseQuantity() : BigDecimal.ONE;
+        BigDecimal defectRate = bom.getDefectRate() != null ? bom.getDefectRate() : BigDecimal.ZERO;
+        BigDecimal perUnit = required.divide(base, QUANTITY_SCALE, RoundingMode.HALF_UP);
+        if (defectRate.signum() == 0) {
+            return plain(perUnit);
+        }
+        BigDecimal withDefects = BigDecimal.ONE.add(defectRate.divide(HUNDRED, QUANTITY_SCALE, RoundingMode.HALF_UP));
+        return plain(perUnit.multiply(withDefects).setScale(QUANTITY_SCALE, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * 末尾の 0 を除く。整数は指数表記（20 が 2E+1）にならないよう小数点以下 0 桁にする.
+     */
+    private static BigDecimal plain(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+    }
+
+    /**
+     * 低位レベルコードをトポロジカル順に計算する（最上位品目が 0）.
+     */
+    private int[] computeLowLevelCodes() {
+        int n = itemCodes.length;
+        int[] levels = new int[n];
+        int[] pendingParents = new int[n];
+        for (int i = 0; i < n; i++) {
+            pendingParents[i] = parentOffsets[i + 1] - parentOffsets[i];
+        }
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (pendingParents[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int item = queue[head++];
+            for (int e = childOffsets[item]; e < childOffsets[item + 1]; e++) {
+                int child = edgeChild[e];
+                levels[child] = Math.max(levels[child], levels[item] + 1);
+                if (--pendingParents[child] == 0) {
+                    queue[tail++] = child;
+                }
+            }
+        }
+        if (tail < n) {
+            for (int i = 0; i < n; i++) {
+                if (pendingParents[i] > 0) {
+                    throw new IllegalStateException("部品構成表に循環参照があります: " + itemCodes[i]);
+                }
+            }
+        }
+        return levels;
+    }
+
+    private int[][] groupByLevel() {
+        int maxLevel = 0;
+        for (int level : lowLevelCodes) {
+            maxLevel = Math.max(maxLevel, level);
+        }
+        int[] counts = new int[maxLevel + 1];
+        for (int level : lowLevelCodes) {
+            counts[level]++;
+        }
+        int[][] grouped = new int[itemCodes.length == 0 ? 0 : maxLevel + 1][];
+        for (int level = 0; level < grouped.length; level++) {
+            grouped[level] = new int[counts[level]];
+        }
+        int[] fill = new int[grouped.length];
+        // インデックスは品目コード順なので、レベル内も品目コード順になる
+        for (int i = 0; i < itemCodes.length; i++) {
+            int level = lowLevelCodes[i];
+            grouped[level][fill[level]++] = i;
+        }
+        return grouped;
+    }
+
+    /**
+     * 品目数を返す.
+     */
+    public int size() {
+        return itemCodes.length;
+    }
+
+    /**
+     * 品目コードのインデックスを返す（存在しない場合は -1）.
+     */
+    public int indexOf(String itemCode) {
+        Integer index = indexByCode.get(itemCode);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * インデックスの品目コードを返す.
+     */
+    public String itemCode(int index) {
+        return itemCodes[index];
+    }
+
+    /**
+     * 品目の低位レベルコードを返す.
+     */
+    public int lowLevelCode(int index) {
+        return lowLevelCodes[index];
+    }
+
+    /**
+     * レベル数（最大低位レベルコード + 1）を返す.
+     */
+    public int levelCount() {
+        return itemsByLevel.length;
+    }
+
+    /**
+     * 指定レベルの品目インデックスを品目コード順で返す.
+     */
+    public int[] itemsAtLevel(int level) {
+        return itemsByLevel[level];
+    }
+
+    /**
+     * 親品目の子辺の開始位置.
+     */
+    public int childEdgeStart(int parent) {
+        return childOffsets[parent];
+    }
+
+    /**
+     * 親品目の子辺の終了位置（排他）.
+     */
+    public int childEdgeEnd(int parent) {
+        return childOffsets[parent + 1];
+    }
+
+    /**
+     * 子品目の親辺の開始位置.
+     */
+    public int parentEdgeStart(int child) {
+        return parentOffsets[child];
+    }
+
+    /**
+     * 子品目の親辺の終了位置（排他）.
+     */
+    public int parentEdgeEnd(int child) {
+        return parentOffsets[child + 1];
+    }
+
+    /**
+     * 子→親の並びにおける辺インデックスを返す.
+     */
+    public int parentEdgeAt(int position) {
+        return parentEdges[position];
+    }
+
+    /**
+     * 辺の子品目インデックス.
+     */
+    public int edgeChild(int edge) {
+        return edgeChild[edge];
+    }
+
+    /**
+     * 辺の親品目インデックス.
+     */
+    public int edgeParent(int edge) {
+        return edgeParent[edge];
+    }
+
+    /**
+     * 親品目 1 単位あたりの子品目所要量（不良率込み）.
+     */
+    public BigDecimal edgeQuantity(int edge) {
+        return edgeQuantity[edge];
+    }
+
+    /**
+     * 辺の元になった部品構成表の行.
+     */
+    public Bom edgeSource(int edge) {
+        return edgeSource[edge];
+    }
+
+    /**
+     * 基準日に辺が有効かどうか（適用開始日 &lt;= 基準日 &lt; 適用停止日）.
+     */
+    public boolean isEffective(int edge, LocalDate baseDate) {
+        long day = baseDate.toEpochDay();
+        return edgeEffectiveFrom[edge] <= day && day < edgeEffectiveTo[edge];
+    }
+
+    /**
+     * 基準日時点で有効な構成をたどって全階層展開する.
+     *
+     * <p>結果は構成経路ごとに 1 行で、階層・親品目コード・工順・子品目コードの順に並ぶ。
+     * 累計数量は指定数量に経路上の必要数量 / 基準数量を掛け合わせた値。有効期間は
+     * {@link #isEffective} と同じく適用停止日を含まず、循環参照は構築時に除いているため階層の上限はない。</p>
+     *
+     * @param itemCode 展開する品目コード
+     * @param quantity 数量
+     * @param baseDate 基準日
+     * @return 展開結果
+     */
+    public List<BomExplosion> explode(String itemCode, BigDecimal quantity, LocalDate baseDate) {
+        List<BomExplosion> result = new ArrayList<>();
+        int root = indexOf(itemCode);
+        if (root < 0) {
+            return result;
+        }
+        walk(root, quantity, 1, baseDate, true, result);
+        result.sort(Comparator
+            .comparing(BomExplosion::getLevel)
+            .thenComparing(BomExplosion::getParentItemCode)
+            .thenComparing(e -> e.getSequence() != null ? e.getSequence() : Integer.MAX_VALUE)
+            .thenComparing(BomExplosion::getChildItemCode));
+        return result;
+    }
+
+    /**
+     * 基準日時点で有効な構成をたどって全階層の使用先を求める（逆展開）.
+     *
+     * <p>結果は経路ごとに 1 行で、累計数量は上位品目 1 単位あたりに含まれる
+     * 指定品目の数量に指定数量を掛けた値。</p>
+     *
+     * @param itemCode 子品目コード
+     * @param quantity 数量
+     * @param baseDate 基準日
+     * @return 使用先（全階層）
+     */
+    public List<BomExplosion> implode(String itemCode, BigDecimal quantity, LocalDate baseDate) {
+        List<BomExplosion> result = new ArrayList<>();
+        int root = indexOf(itemCode);
+        if (root < 0) {
+            return result;
+        }
+        walk(root, quantity, 1, baseDate, false, result);
+        result.sort(Comparator
+            .comparing(BomExplosion::getLevel)
+            .thenComparing(BomExplosion::getChildItemCode)
+            .thenComparing(BomExplosion::getParentItemCode));
+        return result;
+    }
+
+    private void walk(int item, BigDecimal quantity, int level, LocalDate baseDate,
+                      boolean downward, List<BomExplosion> out) {
+        int start = downward ? childOffsets[item] : parentOffsets[item];
+        int end = downward ? childOffsets[item + 1] : parentOffsets[item + 1];
+        for (int position = start; position < end; position++) {
+            int edge = downward ? position : parentEdges[position];
+            if (!isEffective(edge, baseDate)) {
+                continue;
+            }
+            Bom bom = edgeSource[edge];
+            BigDecimal base = bom.getBaseQuantity() != null && bom.getBaseQuantity().signum() > 0
+                ? bom.getBaseQuantity() : BigDecimal.ONE;
+            BigDecimal required = bom.getRequiredQuantity() != null ? bom.getRequiredQuantity() : BigDecimal.ZERO;
+            BigDecimal total = plain(quantity.multiply(required).divide(base, QUANTITY_SCALE, RoundingMode.HALF_UP));
+            out.add(BomExplosion.builder()
+                .parentItemCode(bom.getParentItemCode())
+                .childItemCode(bom.getChildItemCode())
+                .effectiveFrom(bom.getEffectiveFrom())
+                .effectiveTo(bom.getEffectiveTo())
+                .baseQuantity(bom.getBaseQuantity())
+                .requiredQuantity(bom.getRequiredQuantity())
+                .defectRate(bom.getDefectRate())
+                .sequence(bom.getSequence())
+                .level(level)
+                .totalQuantity(total)
+                .build());
+            walk(downward ? edgeChild[edge] : edgeParent[edge], total, level + 1, baseDate, downward, out);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.pms.domain.model.calendar;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 稼働日カレンダの索引.
+ *
+ * <p>1 つのカレンダコードについて、展開期間の日ごとの稼働分と、その日より前の稼働日数（序数）・
+ * 稼働分の累積を配列で保持する。展開期間内であれば「N 稼働日後（前）の日付」と
+ * 「期間の稼働日数・稼働時間」を日付を 1 日ずつたどらずに求められる。</p>
+ *
+ * <p>カレンダに登録のない日は平日を稼働日（8 時間）、土日を休日とする。休日は稼働 0 時間、
+ * 稼働時間が未設定の稼働日は 8 時間、半日稼働日は 4 時間とする。
+ * 展開期間外の日付は同じ規則で 1 日ずつ判定する。生成後は変更しない。</p>
+ */
+@SuppressWarnings("PMD.UseConcurrentHashMap")
+public final class WorkingDayCalendar {
+
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int DEFAULT_WORKING_MINUTES = 8 * MINUTES_PER_HOUR;
+    private static final int DEFAULT_HALF_DAY_MINUTES = 4 * MINUTES_PER_HOUR;
+
+    private final String calendarCode;
+    private final long revision;
+    private final Map<LocalDate, WorkCalendar> registered;
+    private final LocalDate firstDate;
+    private final int days;
+    /** 日ごとの稼働分. */
+    private final int[] minutes;
+    /** 展開開始日からその日の前日までの稼働日数（要素数は日数 + 1）. */
+    private final int[] ordinals;
+    /** 稼働日の展開開始日からの日数（稼働日の序数順）. */
+    private final int[] workingDayOffsets;
+    /** 展開開始日からその日の前日までの稼働分の累積（要素数は日数 + 1）. */
+    private final long[] minutePrefix;
+
+    private WorkingDayCalendar(String calendarCode, long revision, Map<LocalDate, WorkCalendar> registered,
+                               LocalDate firstDate, LocalDate lastDate) {
+        this.calendarCode = calendarCode;
+        this.revision = revision;
+        this.registered = registered;
+        this.firstDate = firstDate;
+        this.days = (int) ChronoUnit.DAYS.between(firstDate, lastDate) + 1;
+        this.minutes = new int[days];
+        this.ordinals = new int[days + 1];
+        this.minutePrefix = new long[days + 1];
+        int[] offsets = new int[days];
+        int workingDays = 0;
+        for (int d = 0; d < days; d++) {
+            LocalDate date = firstDate.plusDays(d);
+            minutes[d] = minutesOf(date, registered.get(date));
+            if (minutes[d] > 0) {
+                offsets[workingDays++] = d;
+            }
+            ordinals[d + 1] = workingDays;
+            minutePrefix[d + 1] = minutePrefix[d] + minutes[d];
+        }
+        this.workingDayOffsets = Arrays.copyOf(offsets, workingDays);
+    }
+
+    /**
+     * カレンダの登録内容から索引を作成する.
+     *
+     * @param calendarCode カレンダコード（null の場合は土日を休日とする既定の規則のみ）
+     * @param revision 読み込みごとの版数
+     * @param calendars カレンダコードの登録内容
+     * @param firstDate 展開開始日
+     * @param lastDate 展開終了日
+     * @return 稼働日カレンダの索引
+     */
+    public static WorkingDayCalendar of(String calendarCode, long revision, Collection<WorkCalendar> calendars,
+                                        LocalDate firstDate, LocalDate lastDate) {
+        if (lastDate.isBefore(firstDate)) {
+            throw new IllegalArgumentException("展開終了日が展開開始日より前です: " + firstDate + " - " + lastDate);
+        }
+        Map<LocalDate, WorkCalendar> registered = new HashMap<>();
+        for (WorkCalendar calendar : calendars) {
+            registered.put(calendar.getDate(), calendar);
+        }
+        return new WorkingDayCalendar(calendarCode, revision, Map.copyOf(registered), firstDate, lastDate);
+    }
+
+    /**
+     * 展開期間を広げた索引を作成する. 登録内容は読み直さない.
+     *
+     * @param from 展開開始日
+     * @param to 展開終了日
+     * @return 現在の展開期間と指定期間を含む索引
+     */
+    public WorkingDayCalendar widen(LocalDate from, LocalDate to) {
+        LocalDate first = from.isBefore(firstDate) ? from : firstDate;
+        LocalDate last = to.isAfter(getLastDate()) ? to : getLastDate();
+        return new WorkingDayCalendar(calendarCode, revision, registered, first, last);
+    }
+
+    /**
+     * 指定期間が展開期間に含まれるか判定する.
+     *
+     * @param from 開始日
+     * @param to 終了日
+     * @return 含まれる場合 true
+     */
+    public boolean covers(LocalDate from, LocalDate to) {
+        return !from.isBefore(firstDate) && !to.isAfter(getLastDate());
+    }
+
+    public String getCalendarCode() {
+        return calendarCode;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    public LocalDate getLastDate() {
+        return firstDate.plusDays(days - 1L);
+    }
+
+    /**
+     * 稼働日か判定する.
+     *
+     * @param date 日付
+     * @return 稼働時間が 0 より大きい場合 true
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        return workingMinutes(date) > 0;
+    }
+
+    /**
+     * その日の稼働分を返す.
+     *
+     * @param date 日付
+     * @return 稼働分
+     */
+    public int workingMinutes(LocalDate date) {
+        long offset = offsetOf(date);
+        return offset >= 0 && offset < days ? minutes[(int) offset] : minutesOf(date, registered.get(date));
+    }
+
+    /**
+     * 稼働日数を加算した日付を返す.
+     *
+     * <p>正の場合は翌日以降の稼働日を、負の場合は前日以前の稼働日を数える。
+     * 0 の場合は基準日をそのまま返す（基準日が休日でも稼働日に寄せない）。</p>
+     *
+     * @param date 基準日
+     * @param workingDays 加算する稼働日数
+     * @return 稼働日数を加算した日付
+     */
+    public LocalDate addWorkingDays(LocalDate date, int workingDays) {
+        if (workingDays == 0) {
+            return date;
+        }
+        long offset = offsetOf(date);
+        if (offset >= 0 && offset < days) {
+            int index = workingDays > 0
+                ? ordinals[(int) offset + 1] + workingDays - 1
+                : ordinals[(int) offset] + workingDays;
+            if (index >= 0 && index < workingDayOffsets.length) {
+                return firstDate.plusDays(workingDayOffsets[index]);
+            }
+        }
+        return step(date, workingDays);
+    }
+
+    /**
+     * 稼働日数を減算した日付を返す.
+     *
+     * @param date 基準日
+     * @param workingDays 減算する稼働日数
+     * @return 稼働日数を減算した日付
+     */
+    public LocalDate minusWorkingDays(LocalDate date, int workingDays) {
+        return addWorkingDays(date, -workingDays);
+    }
+
+    /**
+     * 期間（両端を含む）の稼働日数を返す.
+     *
+     * @param from 開始日
+     * @param to 終了日
+     * @return 稼働日数（終了日が開始日より前の場合は 0）
+     */
+    public int workingDaysBetween(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return 0;
+        }
+        if (covers(from, to)) {
+            return ordinals[(int) offsetOf(to) + 1] - ordinals[(int) offsetOf(from)];
+        }
+        int count = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (isWorkingDay(date)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 期間（両端を含む）の稼働分を返す.
+     *
+     * @param from 開始日
+     * @param to 終了日
+     * @return 稼働分（終了日が開始日より前の場合は 0）
+     */
+    public long workingMinutesBetween(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return 0L;
+        }
+        if (covers(from, to)) {
+            return minutePrefix[(int) offsetOf(to) + 1] - minutePrefix[(int) offsetOf(from)];
+        }
+        long total = 0L;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            total += workingMinutes(date);
+        }
+        return total;
+    }
+
+    /**
+     * 期間（両端を含む）の稼働時間を返す.
+     *
+     * @param from 開始日
+     * @param to 終了日
+     * @return 稼働時間
+     */
+    public BigDecimal workingHoursBetween(LocalDate from, LocalDate to) {
+        return BigDecimal.valueOf(workingMinutesBetween(from, to))
+            .divide(BigDecimal.valueOf(MINUTES_PER_HOUR), 2, RoundingMode.HALF_UP);
+    }
+
+    private long offsetOf(LocalDate date) {
+        return ChronoUnit.DAYS.between(firstDate, date);
+    }
+
+    /**
+     * 展開期間外にかかる場合に 1 日ずつ稼働日を数える.
+     */
+    private LocalDate step(LocalDate date, int workingDays) {
+        int direction = workingDays > 0 ? 1 : -1;
+        int remaining = Math.abs(workingDays);
+        LocalDate current = date;
+        while (remaining > 0) {
+            current = current.plusDays(direction);
+            if (isWorkingDay(current)) {
+                remaining--;
+            }
+        }
+        return current;
+    }
+
+    private static int minutesOf(LocalDate date, WorkCalendar day) {
+        if (day == null) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            boolean weekend = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+            return weekend ? 0 : DEFAULT_WORKING_MINUTES;
+        }
+        if (day.getDateType() == DateType.HOLIDAY) {
+            return 0;
+        }
+        if (day.getWorkingHours() != null) {
+            return day.getWorkingHours().max(BigDecimal.ZERO).multiply(BigDecimal.valueOf(MINUTES_PER_HOUR))
+                .setScale(0, RoundingMode.HALF_UP).intValueExact();
+        }
+        return day.getDateType() == DateType.HALF_DAY ? DEFAULT_HALF_DAY_MINUTES : DEFAULT_WORKING_MINUTES;
+    }
+}
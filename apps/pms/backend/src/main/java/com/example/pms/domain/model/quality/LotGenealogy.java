@@ -0,0 +1,352 @@
+package com.example.pms.domain.model.quality;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ロット構成（親ロット→子ロット）のインメモリグラフ.
+ *
+ * <p>ロット番号を連番の整数インデックスに割り当て、ロット構成を辺として
+ * 親ごと・子ごとの連結リスト（先頭辺と次の辺のインデックス）を配列で保持する。
+ * 配列は容量を倍にして伸ばすので、ロット・ロット構成の登録を再構築なしで反映できる。
+ * 追跡は読み取りロック、登録は書き込みロックで排他し、複数スレッドから利用できる。</p>
+ */
+@SuppressWarnings({"PMD.UseConcurrentHashMap", "PMD.AvoidArrayLoops", "PMD.TooManyMethods"})
+public final class LotGenealogy {
+
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int QUANTITY_SCALE = 2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> indexByLotNumber = new HashMap<>();
+
+    // ロット
+    private int lotCount;
+    private String[] lotNumbers;
+    private String[] itemCodes;
+    private LotType[] lotTypes;
+    private double[] lotQuantities;
+    private int[] firstChildEdge;
+    private int[] firstParentEdge;
+
+    // ロット構成（親→子）
+    private int edgeCount;
+    private int[] edgeParent;
+    private int[] edgeChild;
+    private double[] edgeUsedQuantity;
+    private int[] nextChildEdge;
+    private int[] nextParentEdge;
+
+    private LotGenealogy(int lotCapacity, int edgeCapacity) {
+        int lots = Math.max(INITIAL_CAPACITY, lotCapacity);
+        this.lotNumbers = new String[lots];
+        this.itemCodes = new String[lots];
+        this.lotTypes = new LotType[lots];
+        this.lotQuantities = new double[lots];
+        this.firstChildEdge = new int[lots];
+        this.firstParentEdge = new int[lots];
+        int edges = Math.max(INITIAL_CAPACITY, edgeCapacity);
+        this.edgeParent = new int[edges];
+        this.edgeChild = new int[edges];
+        this.edgeUsedQuantity = new double[edges];
+        this.nextChildEdge = new int[edges];
+        this.nextParentEdge = new int[edges];
+    }
+
+    /**
+     * ロットマスタとロット構成からグラフを構築する.
+     *
+     * @param lots ロットマスタ
+     * @param compositions ロット構成
+     * @return ロット構成グラフ
+     */
+    public static LotGenealogy of(Collection<LotMaster> lots, Collection<LotComposition> compositions) {
+        LotGenealogy genealogy = new LotGenealogy(lots.size(), compositions.size());
+        for (LotMaster lot : lots) {
+            genealogy.putLot(lot);
+        }
+        for (LotComposition composition : compositions) {
+            genealogy.putComposition(composition);
+        }
+        return genealogy;
+    }
+
+    /**
+     * ロットを追加する（登録済みのロットは品目・種別・数量を置き換える）.
+     *
+     * @param lot ロットマスタ
+     */
+    public void addLot(LotMaster lot) {
+        lock.writeLock().lock();
+        try {
+            putLot(lot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ロット構成を追加する（登録済みの親子の組は使用数量を置き換える）.
+     *
+     * @param composition ロット構成
+     */
+    public void addComposition(LotComposition composition) {
+        lock.writeLock().lock();
+        try {
+            putComposition(composition);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ロット構成を追加すると循環するかを判定する.
+     *
+     * @param parentLotNumber 親ロット番号
+     * @param childLotNumber 子ロット番号
+     * @return 子ロットから構成をたどって親ロットに到達する場合 true
+     */
+    public boolean wouldCreateCycle(String parentLotNumber, String childLotNumber) {
+        if (parentLotNumber.equals(childLotNumber)) {
+            return true;
+        }
+        lock.readLock().lock();
+        try {
+            Integer parent = indexByLotNumber.get(parentLotNumber);
+            Integer child = indexByLotNumber.get(childLotNumber);
+            if (parent == null || child == null) {
+                return false;
+            }
+            boolean[] visited = new boolean[lotCount];
+            int[] stack = new int[lotCount];
+            int top = 0;
+            stack[top++] = child;
+            visited[child] = true;
+            while (top > 0) {
+                int v = stack[--top];
+                for (int e = firstChildEdge[v]; e != NONE; e = nextChildEdge[e]) {
+                    int w = edgeChild[e];
+                    if (w == parent) {
+                        return true;
+                    }
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        stack[top++] = w;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ロットを起点に全階層をたどり、受け渡された数量を求める.
+     *
+     * <p>辺（親ロットが子ロットを使用数量 u だけ使用）をたどるごとに、たどってきたロットの数量 a と
+     * そのロット自体の数量 q から u × a / q を次のロットに加算する。順方向は起点ロットのうち各ロットに
+     * 含まれる数量、逆方向は各ロットのうち起点ロットに使われた数量になる。複数の経路で到達するロットは
+     * すべての経路の合計とする。数量が未登録のロットは、順方向は全量、逆方向は使用数量を全量受け渡した
+     * とみなす（回収範囲を過小にしない）。</p>
+     *
+     * @param lotNumber 起点のロット番号
+     * @param direction 追跡の方向
+     * @return 追跡結果（ロットが未登録の場合は空）
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    public Optional<LotTrace> trace(String lotNumber, LotTraceDirection direction) {
+        lock.readLock().lock();
+        try {
+            Integer originIndex = indexByLotNumber.get(lotNumber);
+            if (originIndex == null) {
+                return Optional.empty();
+            }
+            int origin = originIndex;
+            boolean forward = direction == LotTraceDirection.FORWARD;
+
+            // 幅優先で到達範囲と最短の階層を求める
+            int[] level = new int[lotCount];
+            Arrays.fill(level, NONE);
+            int[] reached = new int[lotCount];
+            int reachedCount = 0;
+            level[origin] = 0;
+            reached[reachedCount++] = origin;
+            for (int head = 0; head < reachedCount; head++) {
+                int v = reached[head];
+                for (int e = firstEdge(v, forward); e != NONE; e = nextEdge(e, forward)) {
+                    int w = target(e, forward);
+                    if (level[w] == NONE) {
+                        level[w] = level[v] + 1;
+                        reached[reachedCount++] = w;
+                    }
+                }
+            }
+
+            // 到達範囲内の入次数を数え、トポロジカル順に数量を受け渡す
+            int[] inDegree = new int[lotCount];
+            for (int i = 0; i < reachedCount; i++) {
+                for (int e = firstEdge(reached[i], forward); e != NONE; e = nextEdge(e, forward)) {
+                    inDegree[target(e, forward)]++;
+                }
+            }
+            double[] amount = new double[lotCount];
+            amount[origin] = Math.max(lotQuantities[origin], 0d);
+            int[] queue = new int[lotCount];
+            int tail = 0;
+            queue[tail++] = origin;
+            for (int head = 0; head < tail; head++) {
+                int v = queue[head];
+                double q = lotQuantities[v];
+                for (int e = firstEdge(v, forward); e != NONE; e = nextEdge(e, forward)) {
+                    int w = target(e, forward);
+                    double used = edgeUsedQuantity[e];
+                    if (q > 0d) {
+                        amount[w] += used * amount[v] / q;
+                    } else {
+                        amount[w] += forward ? amount[v] : used;
+                    }
+                    if (--inDegree[w] == 0 && w != origin) {
+                        queue[tail++] = w;
+                    }
+                }
+            }
+
+            List<LotTraceNode> nodes = new ArrayList<>(reachedCount - 1);
+            for (int i = 1; i < reachedCount; i++) {
+                int v = reached[i];
+                nodes.add(LotTraceNode.builder()
+                    .lotNumber(lotNumbers[v])
+                    .itemCode(itemCodes[v])
+                    .lotType(lotTypes[v])
+                    .level(level[v])
+                    .quantity(toQuantity(amount[v]))
+                    .terminal(firstEdge(v, forward) == NONE)
+                    .build());
+            }
+            nodes.sort(Comparator.comparing(LotTraceNode::getLevel).thenComparing(LotTraceNode::getLotNumber));
+            return Optional.of(LotTrace.builder()
+                .lotNumber(lotNumber)
+                .direction(direction)
+                .quantity(toQuantity(amount[origin]))
+                .nodes(nodes)
+                .build());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 登録済みのロット数.
+     */
+    public int lotCount() {
+        lock.readLock().lock();
+        try {
+            return lotCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 登録済みのロット構成数.
+     */
+    public int compositionCount() {
+        lock.readLock().lock();
+        try {
+            return edgeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int firstEdge(int lot, boolean forward) {
+        return forward ? firstParentEdge[lot] : firstChildEdge[lot];
+    }
+
+    private int nextEdge(int edge, boolean forward) {
+        return forward ? nextParentEdge[edge] : nextChildEdge[edge];
+    }
+
+    private int target(int edge, boolean forward) {
+        return forward ? edgeParent[edge] : edgeChild[edge];
+    }
+
+    private void putLot(LotMaster lot) {
+        int index = indexOf(lot.getLotNumber());
+        itemCodes[index] = lot.getItemCode();
+        lotTypes[index] = lot.getLotType();
+        lotQuantities[index] = toDouble(lot.getQuantity());
+    }
+
+    private void putComposition(LotComposition composition) {
+        int parent = indexOf(composition.getParentLotNumber());
+        int child = indexOf(composition.getChildLotNumber());
+        double used = toDouble(composition.getUsedQuantity());
+        for (int e = firstChildEdge[parent]; e != NONE; e = nextChildEdge[e]) {
+            if (edgeChild[e] == child) {
+                edgeUsedQuantity[e] = used;
+                return;
+            }
+        }
+        if (edgeCount == edgeParent.length) {
+            int capacity = edgeCount * 2;
+            edgeParent = Arrays.copyOf(edgeParent, capacity);
+            edgeChild = Arrays.copyOf(edgeChild, capacity);
+            edgeUsedQuantity = Arrays.copyOf(edgeUsedQuantity, capacity);
+            nextChildEdge = Arrays.copyOf(nextChildEdge, capacity);
+            nextParentEdge = Arrays.copyOf(nextParentEdge, capacity);
+        }
+        int e = edgeCount++;
+        edgeParent[e] = parent;
+        edgeChild[e] = child;
+        edgeUsedQuantity[e] = used;
+        nextChildEdge[e] = firstChildEdge[parent];
+        firstChildEdge[parent] = e;
+        nextParentEdge[e] = firstParentEdge[child];
+        firstParentEdge[child] = e;
+    }
+
+    /**
+     * ロット番号のインデックスを返す. 未登録の場合は数量未登録のロットとして追加する.
+     */
+    private int indexOf(String lotNumber) {
+        Integer existing = indexByLotNumber.get(lotNumber);
+        if (existing != null) {
+            return existing;
+        }
+        if (lotCount == lotNumbers.length) {
+            int capacity = lotCount * 2;
+            lotNumbers = Arrays.copyOf(lotNumbers, capacity);
+            itemCodes = Arrays.copyOf(itemCodes, capacity);
+            lotTypes = Arrays.copyOf(lotTypes, capacity);
+            lotQuantities = Arrays.copyOf(lotQuantities, capacity);
+            firstChildEdge = Arrays.copyOf(firstChildEdge, capacity);
+            firstParentEdge = Arrays.copyOf(firstParentEdge, capacity);
+        }
+        int index = lotCount++;
+        lotNumbers[index] = lotNumber;
+        firstChildEdge[index] = NONE;
+        firstParentEdge[index] = NONE;
+        indexByLotNumber.put(lotNumber, index);
+        return index;
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0d;
+    }
+
+    private static BigDecimal toQuantity(double value) {
+        return BigDecimal.valueOf(value).setScale(QUANTITY_SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.pms.domain.model.quality;
+
+import java.util.Objects;
+
+/**
+ * ロットマスタ・ロット構成の変更スタンプ.
+ *
+ * <p>件数・最大 ID・最終更新日時の組で、いずれかが変わっていれば他の更新があったとみなす。</p>
+ *
+ * @param lotCount ロット件数
+ * @param lotUpdatedAt ロットの最終更新日時
+ * @param compositionCount ロット構成件数
+ * @param maxCompositionId ロット構成の最大 ID
+ * @param compositionUpdatedAt ロット構成の最終更新日時
+ */
+public record LotGenealogyStamp(long lotCount, String lotUpdatedAt, long compositionCount,
+                                long maxCompositionId, String compositionUpdatedAt) {
+
+    /**
+     * このスタンプとの差がロット 1 件の登録だけかを判定する.
+     *
+     * @param before 登録前のスタンプ
+     * @return 差がロット 1 件の登録だけの場合 true
+     */
+    public boolean isLotInsertAfter(LotGenealogyStamp before) {
+        return lotCount == before.lotCount + 1
+            && compositionCount == before.compositionCount
+            && maxCompositionId == before.maxCompositionId
+            && Objects.equals(compositionUpdatedAt, before.compositionUpdatedAt);
+    }
+
+    /**
+     * このスタンプとの差が指定したロット構成 1 件の登録だけかを判定する.
+     *
+     * @param before 登録前のスタンプ
+     * @param compositionId 登録したロット構成の ID
+     * @return 差がロット構成 1 件の登録だけの場合 true
+     */
+    public boolean isCompositionInsertAfter(LotGenealogyStamp before, int compositionId) {
+        return compositionCount == before.compositionCount + 1
+            && maxCompositionId == compositionId
+            && lotCount == before.lotCount
+            && Objects.equals(lotUpdatedAt, before.lotUpdatedAt);
+    }
+}
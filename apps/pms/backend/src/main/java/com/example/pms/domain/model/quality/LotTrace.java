@@ -0,0 +1,25 @@
+package com.example.pms.domain.model.quality;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * ロット追跡の結果.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LotTrace {
+    private String lotNumber;
+    private LotTraceDirection direction;
+    /** 起点ロットの数量. */
+    private BigDecimal quantity;
+    /** 到達したロット（階層・ロット番号順、起点は含まない）. */
+    private List<LotTraceNode> nodes;
+}
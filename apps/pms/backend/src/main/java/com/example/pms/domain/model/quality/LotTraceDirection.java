@@ -0,0 +1,21 @@
+package com.example.pms.domain.model.quality;
+
+/**
+ * ロット追跡の方向.
+ */
+public enum LotTraceDirection {
+    /** 材料ロットから使用先（親ロット・製品ロット）へ. */
+    FORWARD("順方向"),
+    /** 製品ロットから構成ロット（子ロット・材料ロット）へ. */
+    BACKWARD("逆方向");
+
+    private final String displayName;
+
+    LotTraceDirection(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
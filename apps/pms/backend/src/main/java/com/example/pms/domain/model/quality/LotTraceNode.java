@@ -0,0 +1,30 @@
+package com.example.pms.domain.model.quality;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * ロット追跡で到達したロット.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LotTraceNode {
+    private String lotNumber;
+    private String itemCode;
+    private LotType lotType;
+    /** 起点からの最短の階層（起点の直接の親・子が 1）. */
+    private Integer level;
+    /**
+     * 起点ロットとの間で受け渡された数量.
+     * 順方向は起点ロットのうちこのロットに含まれる数量、逆方向はこのロットのうち起点ロットに使われた数量。
+     */
+    private BigDecimal quantity;
+    /** これ以上たどれるロットがない（順方向は最終製品、逆方向は購入ロット）. */
+    private boolean terminal;
+}
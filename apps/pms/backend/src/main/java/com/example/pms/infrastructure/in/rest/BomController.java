@@ -8,6 +8,7 @@ import com.example.pms.infrastructure.in.rest.dto.BomResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -52,6 +54,7 @@ public class BomController {
      *
      * @param itemCode 品目コード
      * @param quantity 数量（デフォルト: 1）
+     * @param baseDate 基準日（省略時は当日）
      * @return 展開結果
      */
     @GetMapping("/{itemCode}/explode")
@@ -59,8 +62,11 @@ public class BomController {
     public ResponseEntity<List<BomExplosionResponse>> explodeBom(
             @PathVariable String itemCode,
             @Parameter(description = "展開数量（デフォルト: 1）")
-            @RequestParam(defaultValue = "1") BigDecimal quantity) {
-        List<BomExplosion> explosions = bomUseCase.explodeBom(itemCode, quantity);
+            @RequestParam(defaultValue = "1") BigDecimal quantity,
+            @Parameter(description = "基準日（省略時は当日）")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate baseDate) {
+        List<BomExplosion> explosions = bomUseCase.explodeBom(itemCode, quantity,
+            baseDate != null ? baseDate : LocalDate.now());
         return ResponseEntity.ok(explosions.stream()
             .map(BomExplosionResponse::from)
             .toList());
@@ -80,4 +86,27 @@ public class BomController {
             .map(BomResponse::from)
             .toList());
     }
+
+    /**
+     * 全階層の逆展開（使用先照会）を実行する.
+     *
+     * @param itemCode 子品目コード
+     * @param quantity 子品目の数量（デフォルト: 1）
+     * @param baseDate 基準日（省略時は当日）
+     * @return 全階層の使用先
+     */
+    @GetMapping("/{itemCode}/implode")
+    @Operation(summary = "全階層逆展開（使用先照会）")
+    public ResponseEntity<List<BomExplosionResponse>> implodeBom(
+            @PathVariable String itemCode,
+            @Parameter(description = "子品目の数量（デフォルト: 1）")
+            @RequestParam(defaultValue = "1") BigDecimal quantity,
+            @Parameter(description = "基準日（省略時は当日）")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate baseDate) {
+        List<BomExplosion> usages = bomUseCase.whereUsedAllLevels(itemCode, quantity,
+            baseDate != null ? baseDate : LocalDate.now());
+        return ResponseEntity.ok(usages.stream()
+            .map(BomExplosionResponse::from)
+            .toList());
+    }
 }
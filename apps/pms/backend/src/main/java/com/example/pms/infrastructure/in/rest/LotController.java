@@ -0,0 +1,67 @@
+package com.example.pms.infrastructure.in.rest;
+
+import com.example.pms.application.port.in.LotMasterUseCase;
+import com.example.pms.domain.model.quality.LotComposition;
+import com.example.pms.domain.model.quality.LotTraceDirection;
+import com.example.pms.infrastructure.in.rest.dto.CreateLotCompositionRequest;
+import com.example.pms.infrastructure.in.rest.dto.LotCompositionResponse;
+import com.example.pms.infrastructure.in.rest.dto.LotTraceResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * ロットトレーサビリティ API Controller.
+ */
+@RestController
+@RequestMapping("/api/lots")
+@Tag(name = "lots", description = "ロットトレーサビリティ API")
+public class LotController {
+
+    private final LotMasterUseCase lotMasterUseCase;
+
+    public LotController(LotMasterUseCase lotMasterUseCase) {
+        this.lotMasterUseCase = lotMasterUseCase;
+    }
+
+    /**
+     * ロット構成を登録する.
+     *
+     * @param request 登録リクエスト
+     * @return 登録されたロット構成
+     */
+    @PostMapping("/compositions")
+    @Operation(summary = "ロット構成の登録")
+    public ResponseEntity<LotCompositionResponse> createLotComposition(
+            @Valid @RequestBody CreateLotCompositionRequest request) {
+        LotComposition composition = lotMasterUseCase.createLotComposition(request.toCommand());
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(LotCompositionResponse.from(composition));
+    }
+
+    /**
+     * ロットを起点に全階層のロット構成をたどる.
+     *
+     * @param lotNumber 起点のロット番号
+     * @param direction 追跡の方向（デフォルト: FORWARD）
+     * @return 追跡結果
+     */
+    @GetMapping("/{lotNumber}/trace")
+    @Operation(summary = "ロットの追跡（トレースフォワード・トレースバック）")
+    public ResponseEntity<LotTraceResponse> traceLot(
+            @PathVariable String lotNumber,
+            @Parameter(description = "FORWARD: 使用先の製品ロットへ, BACKWARD: 構成する材料ロットへ")
+            @RequestParam(defaultValue = "FORWARD") LotTraceDirection direction) {
+        return ResponseEntity.ok(LotTraceResponse.from(lotMasterUseCase.traceLot(lotNumber, direction)));
+    }
+}
@@ -46,6 +46,25 @@ public class MrpController {
         return ResponseEntity.ok(MrpResultResponse.from(result));
     }
 
+    /**
+     * 正味変更 MRP を実行する.
+     *
+     * @param request 実行リクエスト
+     * @return MRP 実行結果
+     */
+    @PostMapping("/execute-net-change")
+    @Operation(
+        summary = "正味変更 MRP の実行",
+        description = "前回の MRP 以降に需給が変わった品目とその下位品目だけを再計画します"
+    )
+    public ResponseEntity<MrpResultResponse> executeNetChange(@Valid @RequestBody ExecuteMrpRequest request) {
+        MrpUseCase.MrpResult result = mrpUseCase.executeNetChange(
+            request.getStartDate(),
+            request.getEndDate()
+        );
+        return ResponseEntity.ok(MrpResultResponse.from(result));
+    }
+
     /**
      * MRP 実行結果を照会する（未実装）.
      *
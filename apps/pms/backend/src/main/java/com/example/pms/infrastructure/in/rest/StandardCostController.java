@@ -0,0 +1,46 @@
+package com.example.pms.infrastructure.in.rest;
+
+import com.example.pms.application.port.in.StandardCostRollupUseCase;
+import com.example.pms.infrastructure.in.rest.dto.RollUpStandardCostRequest;
+import com.example.pms.infrastructure.in.rest.dto.StandardCostRollupResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 標準原価 API Controller.
+ */
+@RestController
+@RequestMapping("/api/standard-costs")
+@Tag(name = "standard-costs", description = "標準原価 API")
+public class StandardCostController {
+
+    private final StandardCostRollupUseCase standardCostRollupUseCase;
+
+    public StandardCostController(StandardCostRollupUseCase standardCostRollupUseCase) {
+        this.standardCostRollupUseCase = standardCostRollupUseCase;
+    }
+
+    /**
+     * 部品構成表と工程表から標準原価を積み上げる.
+     *
+     * @param request 積上げリクエスト
+     * @return 積上げ結果
+     */
+    @PostMapping("/roll-up")
+    @Operation(
+        summary = "標準原価の積上げ",
+        description = "部品構成表・工程表・賃率から製造品目の標準原価を下位から積み上げ、"
+            + "適用日から有効な標準原価として一括登録します"
+    )
+    public ResponseEntity<StandardCostRollupResponse> rollUp(
+            @Valid @RequestBody RollUpStandardCostRequest request) {
+        StandardCostRollupUseCase.RollupResult result = standardCostRollupUseCase.rollUp(request.toCommand());
+        return ResponseEntity.ok(StandardCostRollupResponse.from(result));
+    }
+}
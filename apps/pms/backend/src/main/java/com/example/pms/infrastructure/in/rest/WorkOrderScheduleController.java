@@ -0,0 +1,56 @@
+package com.example.pms.infrastructure.in.rest;
+
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduleDirection;
+import com.example.pms.infrastructure.in.rest.dto.ScheduleWorkOrdersRequest;
+import com.example.pms.infrastructure.in.rest.dto.WorkOrderScheduleResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * 作業指示の負荷計画 API Controller.
+ */
+@RestController
+@RequestMapping("/api/work-orders/schedule")
+@Tag(name = "work-order-schedule", description = "作業指示の負荷計画 API")
+public class WorkOrderScheduleController {
+
+    private static final int DEFAULT_HORIZON_DAYS = 180;
+
+    private final WorkOrderScheduleUseCase workOrderScheduleUseCase;
+
+    public WorkOrderScheduleController(WorkOrderScheduleUseCase workOrderScheduleUseCase) {
+        this.workOrderScheduleUseCase = workOrderScheduleUseCase;
+    }
+
+    /**
+     * 未完了の作業指示を工程の能力を考慮して計画する.
+     *
+     * @param request 計画リクエスト
+     * @return 着手日・完了日の提案と工程別の日別負荷
+     */
+    @PostMapping
+    @Operation(
+        summary = "作業指示の負荷計画",
+        description = "工程表の段取時間・標準作業時間とカレンダの稼働時間から、未完了の作業指示を工程ごとの"
+            + "有限能力で計画し、着手日・完了日の提案と工程別の日別負荷を返します（作業指示は更新しません）"
+    )
+    public ResponseEntity<WorkOrderScheduleResponse> schedule(
+            @Valid @RequestBody ScheduleWorkOrdersRequest request) {
+        WorkOrderScheduleUseCase.ScheduleResult result = workOrderScheduleUseCase.schedule(
+            request.getDirection() != null ? request.getDirection() : ScheduleDirection.FORWARD,
+            request.getStartDate() != null ? request.getStartDate() : LocalDate.now(),
+            request.getHorizonDays() != null ? request.getHorizonDays() : DEFAULT_HORIZON_DAYS,
+            request.getCalendarCode()
+        );
+        return ResponseEntity.ok(WorkOrderScheduleResponse.from(result));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.pms.infrastructure.in.rest.dto;
+
+import com.example.pms.application.port.in.command.CreateLotCompositionCommand;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * ロット構成登録リクエスト DTO.
+ */
+@Data
+public class CreateLotCompositionRequest {
+
+    @NotBlank(message = "親ロット番号は必須です")
+    private String parentLotNumber;
+
+    @NotBlank(message = "子ロット番号は必須です")
+    private String childLotNumber;
+
+    @NotNull(message = "使用数量は必須です")
+    @Positive(message = "使用数量は正の値である必要があります")
+    private BigDecimal usedQuantity;
+
+    /**
+     * コマンドに変換する.
+     *
+     * @return CreateLotCompositionCommand
+     */
+    public CreateLotCompositionCommand toCommand() {
+        return new CreateLotCompositionCommand(parentLotNumber, childLotNumber, usedQuantity);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.pms.infrastructure.in.rest.dto;
+
+import com.example.pms.domain.model.quality.LotComposition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * ロット構成レスポンス DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LotCompositionResponse {
+    private Integer id;
+    private String parentLotNumber;
+    private String childLotNumber;
+    private BigDecimal usedQuantity;
+
+    /**
+     * ドメインモデルからレスポンスを作成する.
+     *
+     * @param composition ロット構成
+     * @return LotCompositionResponse
+     */
+    public static LotCompositionResponse from(LotComposition composition) {
+        return LotCompositionResponse.builder()
+            .id(composition.getId())
+            .parentLotNumber(composition.getParentLotNumber())
+            .childLotNumber(composition.getChildLotNumber())
+            .usedQuantity(composition.getUsedQuantity())
+            .build();
+    }
+}
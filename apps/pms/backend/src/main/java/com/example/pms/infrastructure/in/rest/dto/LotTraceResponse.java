@@ -0,0 +1,67 @@
+package com.example.pms.infrastructure.in.rest.dto;
+
+import com.example.pms.domain.model.quality.LotTrace;
+import com.example.pms.domain.model.quality.LotTraceNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * ロット追跡結果レスポンス DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LotTraceResponse {
+    private String lotNumber;
+    private String direction;
+    private BigDecimal quantity;
+    private List<Node> nodes;
+
+    /**
+     * ドメインモデルからレスポンスを作成する.
+     *
+     * @param trace ロット追跡結果
+     * @return LotTraceResponse
+     */
+    public static LotTraceResponse from(LotTrace trace) {
+        return LotTraceResponse.builder()
+            .lotNumber(trace.getLotNumber())
+            .direction(trace.getDirection().name())
+            .quantity(trace.getQuantity())
+            .nodes(trace.getNodes().stream().map(Node::from).toList())
+            .build();
+    }
+
+    /**
+     * 到達したロット.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Node {
+        private Integer level;
+        private String lotNumber;
+        private String itemCode;
+        private String lotType;
+        private BigDecimal quantity;
+        private boolean terminal;
+
+        static Node from(LotTraceNode node) {
+            return Node.builder()
+                .level(node.getLevel())
+                .lotNumber(node.getLotNumber())
+                .itemCode(node.getItemCode())
+                .lotType(node.getLotType() != null ? node.getLotType().getDisplayName() : null)
+                .quantity(node.getQuantity())
+                .terminal(node.isTerminal())
+                .build();
+        }
+    }
+}
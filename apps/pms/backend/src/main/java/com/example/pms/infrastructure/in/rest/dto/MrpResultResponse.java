@@ -1,5 +1,6 @@
 package com.example.pms.infrastructure.in.rest.dto;
 
+import com.example.pms.application.port.in.MrpUseCase.LevelTiming;
 import com.example.pms.application.port.in.MrpUseCase.MrpResult;
 import com.example.pms.application.port.in.MrpUseCase.PlannedOrder;
 import com.example.pms.application.port.in.MrpUseCase.ShortageItem;
@@ -26,6 +27,9 @@ public class MrpResultResponse {
     LocalDate periodEnd;
     List<PlannedOrderResponse> plannedOrders;
     List<ShortageItemResponse> shortageItems;
+    List<LevelTimingResponse> levelTimings;
+    boolean netChange;
+    int replannedItemCount;
 
     /**
      * 計画オーダレスポンス.
@@ -39,7 +43,9 @@ public class MrpResultResponse {
         String itemName;
         String orderType;
         BigDecimal quantity;
+        LocalDate releaseDate;
         LocalDate dueDate;
+        int lowLevelCode;
 
         /**
          * ドメインモデルからレスポンスを作成する.
@@ -53,7 +59,9 @@ public class MrpResultResponse {
                 .itemName(plannedOrder.getItemName())
                 .orderType(plannedOrder.getOrderType())
                 .quantity(plannedOrder.getQuantity())
+                .releaseDate(plannedOrder.getReleaseDate())
                 .dueDate(plannedOrder.getDueDate())
+                .lowLevelCode(plannedOrder.getLowLevelCode())
                 .build();
         }
     }
@@ -87,6 +95,33 @@ public class MrpResultResponse {
         }
     }
 
+    /**
+     * レベル別処理時間レスポンス.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LevelTimingResponse {
+        int lowLevelCode;
+        int itemCount;
+        long elapsedMillis;
+
+        /**
+         * ドメインモデルからレスポンスを作成する.
+         *
+         * @param levelTiming レベル別処理時間
+         * @return LevelTimingResponse
+         */
+        public static LevelTimingResponse from(LevelTiming levelTiming) {
+            return LevelTimingResponse.builder()
+                .lowLevelCode(levelTiming.getLowLevelCode())
+                .itemCount(levelTiming.getItemCount())
+                .elapsedMillis(levelTiming.getElapsedMillis())
+                .build();
+        }
+    }
+
     /**
      * ドメインモデルからレスポンスを作成する.
      *
@@ -104,6 +139,11 @@ public class MrpResultResponse {
             .shortageItems(result.getShortageItems().stream()
                 .map(ShortageItemResponse::from)
                 .toList())
+            .levelTimings(result.getLevelTimings() != null
+                ? result.getLevelTimings().stream().map(LevelTimingResponse::from).toList()
+                : List.of())
+            .netChange(result.isNetChange())
+            .replannedItemCount(result.getReplannedItemCount())
             .build();
     }
 }
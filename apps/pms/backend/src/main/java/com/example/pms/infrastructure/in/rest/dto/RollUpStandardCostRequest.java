@@ -0,0 +1,39 @@
+package com.example.pms.infrastructure.in.rest.dto;
+
+import com.example.pms.application.port.in.command.RollUpStandardCostCommand;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 標準原価積上げリクエスト DTO.
+ */
+@Data
+public class RollUpStandardCostRequest {
+
+    /** 適用開始日（省略時は当日）. */
+    private LocalDate effectiveDate;
+
+    @NotBlank(message = "作業者区分コードは必須です")
+    private String workerCategoryCode;
+
+    /** 作業時間 1 時間あたりの製造間接費配賦率（省略時は 0）. */
+    @DecimalMin(value = "0", message = "製造間接費配賦率は0以上である必要があります")
+    private BigDecimal overheadRatePerHour;
+
+    /**
+     * コマンドに変換する.
+     *
+     * @return RollUpStandardCostCommand
+     */
+    public RollUpStandardCostCommand toCommand() {
+        return new RollUpStandardCostCommand(
+            effectiveDate != null ? effectiveDate : LocalDate.now(),
+            workerCategoryCode,
+            overheadRatePerHour
+        );
+    }
+}
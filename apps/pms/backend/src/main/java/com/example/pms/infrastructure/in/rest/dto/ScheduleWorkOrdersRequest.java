@@ -0,0 +1,27 @@
+package com.example.pms.infrastructure.in.rest.dto;
+
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduleDirection;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 作業指示の負荷計画リクエスト DTO.
+ */
+@Data
+public class ScheduleWorkOrdersRequest {
+
+    /** 計画の方向（省略時はフォワード）. */
+    private ScheduleDirection direction;
+
+    /** 計画開始日（省略時は当日）. */
+    private LocalDate startDate;
+
+    @Min(value = 1, message = "計画日数は1以上である必要があります")
+    @Max(value = 730, message = "計画日数は730以下である必要があります")
+    private Integer horizonDays;
+
+    private String calendarCode;
+}
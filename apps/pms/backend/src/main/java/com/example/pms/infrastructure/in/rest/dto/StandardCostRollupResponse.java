@@ -0,0 +1,75 @@
+package com.example.pms.infrastructure.in.rest.dto;
+
+import com.example.pms.application.port.in.StandardCostRollupUseCase.LevelTiming;
+import com.example.pms.application.port.in.StandardCostRollupUseCase.RollupResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 標準原価積上げ結果レスポンス DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandardCostRollupResponse {
+    private LocalDateTime executionTime;
+    private LocalDate effectiveDate;
+    private String workerCategoryCode;
+    private BigDecimal hourlyRate;
+    private BigDecimal overheadRatePerHour;
+    private int rolledItemCount;
+    private int leafItemCount;
+    private List<String> uncostedItemCodes;
+    private List<LevelTimingResponse> levelTimings;
+    private long elapsedMillis;
+
+    /**
+     * ドメインモデルからレスポンスを作成する.
+     *
+     * @param result 積上げ結果
+     * @return StandardCostRollupResponse
+     */
+    public static StandardCostRollupResponse from(RollupResult result) {
+        return StandardCostRollupResponse.builder()
+            .executionTime(result.getExecutionTime())
+            .effectiveDate(result.getEffectiveDate())
+            .workerCategoryCode(result.getWorkerCategoryCode())
+            .hourlyRate(result.getHourlyRate())
+            .overheadRatePerHour(result.getOverheadRatePerHour())
+            .rolledItemCount(result.getRolledItemCount())
+            .leafItemCount(result.getLeafItemCount())
+            .uncostedItemCodes(result.getUncostedItemCodes())
+            .levelTimings(result.getLevelTimings().stream().map(LevelTimingResponse::from).toList())
+            .elapsedMillis(result.getElapsedMillis())
+            .build();
+    }
+
+    /**
+     * 低位レベルコードごとの処理時間.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LevelTimingResponse {
+        private int lowLevelCode;
+        private int itemCount;
+        private long elapsedMillis;
+
+        static LevelTimingResponse from(LevelTiming timing) {
+            return LevelTimingResponse.builder()
+                .lowLevelCode(timing.getLowLevelCode())
+                .itemCount(timing.getItemCount())
+                .elapsedMillis(timing.getElapsedMillis())
+                .build();
+        }
+    }
+}
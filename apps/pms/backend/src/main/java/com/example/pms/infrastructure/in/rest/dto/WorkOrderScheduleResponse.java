@@ -0,0 +1,184 @@
+package com.example.pms.infrastructure.in.rest.dto;
+
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.DailyLoad;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ProcessLoad;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduleResult;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduledOperation;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduledWorkOrder;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.UnscheduledWorkOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 作業指示の負荷計画結果レスポンス DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkOrderScheduleResponse {
+    private LocalDateTime executionTime;
+    private String direction;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private String calendarCode;
+    private List<WorkOrderProposal> workOrders;
+    private List<UnscheduledWorkOrderResponse> unscheduledWorkOrders;
+    private List<ProcessLoadResponse> processLoads;
+    private long elapsedMillis;
+
+    /**
+     * ドメインモデルからレスポンスを作成する.
+     *
+     * @param result 計画結果
+     * @return WorkOrderScheduleResponse
+     */
+    public static WorkOrderScheduleResponse from(ScheduleResult result) {
+        return WorkOrderScheduleResponse.builder()
+            .executionTime(result.getExecutionTime())
+            .direction(result.getDirection().name())
+            .periodStart(result.getPeriodStart())
+            .periodEnd(result.getPeriodEnd())
+            .calendarCode(result.getCalendarCode())
+            .workOrders(result.getWorkOrders().stream().map(WorkOrderProposal::from).toList())
+            .unscheduledWorkOrders(result.getUnscheduledWorkOrders().stream()
+                .map(UnscheduledWorkOrderResponse::from).toList())
+            .processLoads(result.getProcessLoads().stream().map(ProcessLoadResponse::from).toList())
+            .elapsedMillis(result.getElapsedMillis())
+            .build();
+    }
+
+    /**
+     * 作業指示の着手日・完了日の提案.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WorkOrderProposal {
+        private String workOrderNumber;
+        private String itemCode;
+        private BigDecimal quantity;
+        private LocalDate currentStartDate;
+        private LocalDate currentEndDate;
+        private LocalDate proposedStartDate;
+        private LocalDate proposedEndDate;
+        private boolean late;
+        private List<OperationResponse> operations;
+
+        static WorkOrderProposal from(ScheduledWorkOrder workOrder) {
+            return WorkOrderProposal.builder()
+                .workOrderNumber(workOrder.getWorkOrderNumber())
+                .itemCode(workOrder.getItemCode())
+                .quantity(workOrder.getQuantity())
+                .currentStartDate(workOrder.getCurrentStartDate())
+                .currentEndDate(workOrder.getCurrentEndDate())
+                .proposedStartDate(workOrder.getProposedStartDate())
+                .proposedEndDate(workOrder.getProposedEndDate())
+                .late(workOrder.isLate())
+                .operations(workOrder.getOperations().stream().map(OperationResponse::from).toList())
+                .build();
+        }
+    }
+
+    /**
+     * 工程の計画.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OperationResponse {
+        private int sequence;
+        private String processCode;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private long minutes;
+
+        static OperationResponse from(ScheduledOperation operation) {
+            return OperationResponse.builder()
+                .sequence(operation.getSequence())
+                .processCode(operation.getProcessCode())
+                .startDate(operation.getStartDate())
+                .endDate(operation.getEndDate())
+                .minutes(operation.getMinutes())
+                .build();
+        }
+    }
+
+    /**
+     * 計画できなかった作業指示.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UnscheduledWorkOrderResponse {
+        private String workOrderNumber;
+        private String itemCode;
+        private String reason;
+
+        static UnscheduledWorkOrderResponse from(UnscheduledWorkOrder workOrder) {
+            return UnscheduledWorkOrderResponse.builder()
+                .workOrderNumber(workOrder.getWorkOrderNumber())
+                .itemCode(workOrder.getItemCode())
+                .reason(workOrder.getReason())
+                .build();
+        }
+    }
+
+    /**
+     * 工程別の負荷.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProcessLoadResponse {
+        private String processCode;
+        private String processName;
+        private long capacityMinutes;
+        private long loadMinutes;
+        private List<DailyLoadResponse> dailyLoads;
+
+        static ProcessLoadResponse from(ProcessLoad load) {
+            return ProcessLoadResponse.builder()
+                .processCode(load.getProcessCode())
+                .processName(load.getProcessName())
+                .capacityMinutes(load.getCapacityMinutes())
+                .loadMinutes(load.getLoadMinutes())
+                .dailyLoads(load.getDailyLoads().stream().map(DailyLoadResponse::from).toList())
+                .build();
+        }
+    }
+
+    /**
+     * 日別の負荷.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyLoadResponse {
+        private LocalDate date;
+        private long capacityMinutes;
+        private long loadMinutes;
+        private BigDecimal loadRate;
+
+        static DailyLoadResponse from(DailyLoad load) {
+            return DailyLoadResponse.builder()
+                .date(load.getDate())
+                .capacityMinutes(load.getCapacityMinutes())
+                .loadMinutes(load.getLoadMinutes())
+                .loadRate(load.getLoadRate())
+                .build();
+        }
+    }
+}
@@ -5,7 +5,9 @@ import com.example.pms.domain.exception.DuplicateItemException;
 import com.example.pms.domain.exception.InsufficientInventoryException;
 import com.example.pms.domain.exception.InvalidOrderStateException;
 import com.example.pms.domain.exception.ItemNotFoundException;
+import com.example.pms.domain.exception.LotNotFoundException;
 import com.example.pms.domain.exception.PurchaseOrderNotFoundException;
+import com.example.pms.domain.exception.WageRateNotFoundException;
 import com.example.pms.domain.exception.WorkOrderNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -131,6 +133,40 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    /**
+     * ロットが見つからない例外をハンドリング.
+     *
+     * @param ex 例外
+     * @return ProblemDetail
+     */
+    @ExceptionHandler(LotNotFoundException.class)
+    public ProblemDetail handleLotNotFoundException(LotNotFoundException ex) {
+        LOGGER.warn("ロットが見つかりません: {}", ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.NOT_FOUND, ex.getMessage());
+        problem.setTitle("ロットが見つかりません");
+        problem.setType(URI.create(ERROR_BASE_URI + "lot-not-found"));
+        problem.setProperty("timestamp", Instant.now());
+        return problem;
+    }
+
+    /**
+     * 賃率が見つからない例外をハンドリング.
+     *
+     * @param ex 例外
+     * @return ProblemDetail
+     */
+    @ExceptionHandler(WageRateNotFoundException.class)
+    public ProblemDetail handleWageRateNotFoundException(WageRateNotFoundException ex) {
+        LOGGER.warn("賃率が見つかりません: {}", ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.NOT_FOUND, ex.getMessage());
+        problem.setTitle("賃率が見つかりません");
+        problem.setType(URI.create(ERROR_BASE_URI + "wage-rate-not-found"));
+        problem.setProperty("timestamp", Instant.now());
+        return problem;
+    }
+
     /**
      * バリデーション例外をハンドリング.
      *
@@ -12,6 +12,7 @@ import com.example.pms.application.port.out.SupplierRepository;
 import com.example.pms.application.port.out.UnitPriceRepository;
 import com.example.pms.application.port.out.UnitRepository;
 import com.example.pms.application.port.out.WarehouseRepository;
+import com.example.pms.application.service.BomGraphCache;
 import com.example.pms.domain.model.bom.Bom;
 import com.example.pms.domain.model.defect.Defect;
 import com.example.pms.domain.model.department.Department;
@@ -65,6 +66,7 @@ public class MasterDataSeeder {
     private final StaffRepository staffRepository;
     private final UnitPriceRepository unitPriceRepository;
     private final DefectRepository defectRepository;
+    private final BomGraphCache bomGraphCache;
 
     /**
      * すべてのマスタデータを投入.
@@ -92,6 +94,7 @@ public class MasterDataSeeder {
         staffRepository.deleteAll();
         processRouteRepository.deleteAll();
         bomRepository.deleteAll();
+        bomGraphCache.invalidate();
         itemRepository.deleteAll();
         processRepository.deleteAll();
         warehouseRepository.deleteAll();
@@ -490,6 +493,7 @@ public class MasterDataSeeder {
         );
 
         boms.forEach(bomRepository::save);
+        bomGraphCache.invalidate();
         log.info("BOM {}件 投入完了", boms.size());
     }
 
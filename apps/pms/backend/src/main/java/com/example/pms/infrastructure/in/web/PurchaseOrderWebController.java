@@ -13,6 +13,8 @@ import com.example.pms.domain.model.supplier.Supplier;
 import com.example.pms.infrastructure.in.web.form.PurchaseOrderForm;
 import com.example.pms.infrastructure.report.ExcelReportGenerator;
 import com.example.pms.infrastructure.report.PdfReportGenerator;
+import com.example.pms.infrastructure.report.ReportWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -153,37 +156,36 @@ public class PurchaseOrderWebController {
      * 発注一覧を Excel で出力する.
      */
     @GetMapping("/export/excel")
-    public ResponseEntity<byte[]> exportExcel(
-            @RequestParam(required = false) PurchaseOrderStatus status) {
-
-        List<PurchaseOrder> orders = getOrdersByStatus(status);
-        byte[] excelData = excelReportGenerator.generatePurchaseOrderList(orders);
+    public void exportExcel(
+            @RequestParam(required = false) PurchaseOrderStatus status,
+            HttpServletResponse response) throws IOException {
 
         String filename = "purchase_orders_" + LocalDate.now() + ".xlsx";
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
 
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-            .contentType(MediaType.parseMediaType(
-                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-            .body(excelData);
+        try (ReportWriter<PurchaseOrder> writer =
+                excelReportGenerator.openPurchaseOrderList(response.getOutputStream())) {
+            purchaseOrderUseCase.forEachOrder(status, writer::write);
+        }
     }
 
     /**
      * 発注一覧を PDF で出力する.
      */
     @GetMapping("/export/pdf")
-    public ResponseEntity<byte[]> exportPdf(
-            @RequestParam(required = false) PurchaseOrderStatus status) {
-
-        List<PurchaseOrder> orders = getOrdersByStatus(status);
-        byte[] pdfData = pdfReportGenerator.generatePurchaseOrderList(orders);
+    public void exportPdf(
+            @RequestParam(required = false) PurchaseOrderStatus status,
+            HttpServletResponse response) throws IOException {
 
         String filename = "purchase_orders_" + LocalDate.now() + ".pdf";
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
 
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-            .contentType(MediaType.APPLICATION_PDF)
-            .body(pdfData);
+        try (ReportWriter<PurchaseOrder> writer =
+                pdfReportGenerator.openPurchaseOrderList(response.getOutputStream())) {
+            purchaseOrderUseCase.forEachOrder(status, writer::write);
+        }
     }
 
     /**
@@ -202,13 +204,6 @@ public class PurchaseOrderWebController {
             .body(pdfData);
     }
 
-    private List<PurchaseOrder> getOrdersByStatus(PurchaseOrderStatus status) {
-        if (status != null) {
-            return purchaseOrderUseCase.getOrdersByStatus(status);
-        }
-        return purchaseOrderUseCase.getAllOrders();
-    }
-
     private void addFormAttributes(Model model) {
         List<Supplier> suppliers = supplierRepository.findAll();
         List<Item> materials = itemUseCase.getItemsByCategory(ItemCategory.MATERIAL);
@@ -2,7 +2,9 @@ package com.example.pms.infrastructure.out.persistence.mapper;
 
 import com.example.pms.domain.model.plan.Allocation;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -11,5 +13,6 @@ public interface AllocationMapper {
     Allocation findById(Integer id);
     List<Allocation> findByRequirementId(Integer requirementId);
     List<Allocation> findAll();
+    List<Allocation> findByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
     void deleteAll();
 }
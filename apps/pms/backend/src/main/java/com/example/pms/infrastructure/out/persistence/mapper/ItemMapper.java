@@ -16,6 +16,7 @@ public interface ItemMapper {
     Optional<Item> findByItemCodeAndDate(@Param("itemCode") String itemCode,
                                           @Param("baseDate") LocalDate baseDate);
     List<Item> findAll();
+    String findChangeStamp();
     List<Item> findByCategory(@Param("category") ItemCategory category);
     List<Item> searchByKeyword(@Param("keyword") String keyword);
     void update(Item item);
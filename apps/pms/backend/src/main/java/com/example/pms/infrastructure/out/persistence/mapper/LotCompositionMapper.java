@@ -1,6 +1,7 @@
 package com.example.pms.infrastructure.out.persistence.mapper;
 
 import com.example.pms.domain.model.quality.LotComposition;
+import com.example.pms.domain.model.quality.LotGenealogyStamp;
 import org.apache.ibatis.annotations.Mapper;
 
 import java.util.List;
@@ -20,6 +21,8 @@ public interface LotCompositionMapper {
 
     List<LotComposition> findAll();
 
+    LotGenealogyStamp findGenealogyStamp();
+
     void update(LotComposition composition);
 
     void deleteById(Integer id);
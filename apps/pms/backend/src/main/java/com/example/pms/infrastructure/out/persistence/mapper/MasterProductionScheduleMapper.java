@@ -5,6 +5,7 @@ import com.example.pms.domain.model.plan.PlanStatus;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -18,6 +19,7 @@ public interface MasterProductionScheduleMapper {
     MasterProductionSchedule findByMpsNumberWithOrders(String mpsNumber);
     List<MasterProductionSchedule> findByStatus(PlanStatus status);
     List<MasterProductionSchedule> findAll();
+    List<MasterProductionSchedule> findByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
 
     /**
      * ページネーション付きで基準生産計画を検索する.
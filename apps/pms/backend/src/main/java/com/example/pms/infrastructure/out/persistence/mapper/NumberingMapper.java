@@ -0,0 +1,22 @@
+package com.example.pms.infrastructure.out.persistence.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 採番 Mapper.
+ */
+@Mapper
+public interface NumberingMapper {
+
+    int addLastNumber(@Param("numberingCode") String numberingCode,
+                      @Param("yearMonth") String yearMonth,
+                      @Param("count") int count);
+
+    void insertHistory(@Param("numberingCode") String numberingCode,
+                       @Param("yearMonth") String yearMonth,
+                       @Param("lastNumber") long lastNumber);
+
+    Long findLastNumber(@Param("numberingCode") String numberingCode,
+                        @Param("yearMonth") String yearMonth);
+}
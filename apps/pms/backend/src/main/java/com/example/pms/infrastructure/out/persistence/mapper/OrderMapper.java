@@ -5,6 +5,7 @@ import com.example.pms.domain.model.plan.PlanStatus;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -19,6 +20,8 @@ public interface OrderMapper {
     List<Order> findByMpsId(Integer mpsId);
     List<Order> findByParentOrderId(Integer parentOrderId);
     List<Order> findAll();
+    List<Order> findByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
+    List<Order> findByIds(@Param("ids") Collection<Integer> ids);
 
     /**
      * ページネーション付きでオーダを検索する.
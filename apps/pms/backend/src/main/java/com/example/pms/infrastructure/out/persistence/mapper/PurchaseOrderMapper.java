@@ -4,6 +4,7 @@ import com.example.pms.domain.model.purchase.PurchaseOrder;
 import com.example.pms.domain.model.purchase.PurchaseOrderStatus;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -21,6 +22,12 @@ public interface PurchaseOrderMapper {
     List<PurchaseOrder> findBySupplierCode(String supplierCode);
     List<PurchaseOrder> findByStatus(PurchaseOrderStatus status);
     List<PurchaseOrder> findAll();
+
+    /**
+     * 帳票出力向けにカーソルで発注を取得（ステータス未指定時は全件）.
+     */
+    Cursor<PurchaseOrder> streamByStatus(@Param("status") PurchaseOrderStatus status);
+
     void updateStatus(@Param("id") Integer id, @Param("status") PurchaseOrderStatus status);
     void deleteAll();
 
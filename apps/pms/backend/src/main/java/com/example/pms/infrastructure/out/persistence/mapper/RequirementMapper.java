@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -18,6 +19,7 @@ public interface RequirementMapper {
     Requirement findByRequirementNumberWithAllocations(String requirementNumber);
     List<Requirement> findByOrderId(Integer orderId);
     List<Requirement> findAll();
+    List<Requirement> findByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
     void updateAllocation(@Param("id") Integer id,
                           @Param("allocatedQuantity") BigDecimal allocatedQuantity,
                           @Param("shortageQuantity") BigDecimal shortageQuantity);
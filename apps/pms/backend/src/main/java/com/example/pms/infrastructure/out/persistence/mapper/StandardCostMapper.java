@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,6 +16,8 @@ public interface StandardCostMapper {
 
     void insert(StandardCost standardCost);
 
+    void insertBatch(@Param("standardCosts") List<StandardCost> standardCosts);
+
     int update(StandardCost standardCost);
 
     StandardCost findById(Integer id);
@@ -31,5 +34,14 @@ public interface StandardCostMapper {
 
     void deleteByItemCode(String itemCode);
 
+    int closeByItemCodes(
+            @Param("itemCodes") Collection<String> itemCodes,
+            @Param("effectiveDate") LocalDate effectiveDate,
+            @Param("endDate") LocalDate endDate);
+
+    int deleteByItemCodesAndStartDate(
+            @Param("itemCodes") Collection<String> itemCodes,
+            @Param("effectiveDate") LocalDate effectiveDate);
+
     void deleteAll();
 }
@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,6 +29,8 @@ public interface StockMapper {
 
     List<Stock> findAll();
 
+    List<Stock> findByItemCodes(@Param("itemCodes") Collection<String> itemCodes);
+
     List<Stock> findWithPagination(@Param("offset") int offset,
                                    @Param("limit") int limit,
                                    @Param("keyword") String keyword);
@@ -5,6 +5,7 @@ import com.example.pms.domain.model.plan.Allocation;
 import com.example.pms.infrastructure.out.persistence.mapper.AllocationMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,14 @@ public class AllocationRepositoryImpl implements AllocationRepository {
         return allocationMapper.findAll();
     }
 
+    @Override
+    public List<Allocation> findByItemCodes(Collection<String> itemCodes) {
+        if (itemCodes.isEmpty()) {
+            return List.of();
+        }
+        return allocationMapper.findByItemCodes(itemCodes);
+    }
+
     @Override
     public void deleteAll() {
         allocationMapper.deleteAll();
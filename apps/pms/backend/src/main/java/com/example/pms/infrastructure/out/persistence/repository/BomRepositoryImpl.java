@@ -44,6 +44,16 @@ public class BomRepositoryImpl implements BomRepository {
         return bomMapper.explode(itemCode, quantity);
     }
 
+    @Override
+    public List<Bom> findAll() {
+        return bomMapper.findAll();
+    }
+
+    @Override
+    public String findChangeStamp() {
+        return bomMapper.findChangeStamp();
+    }
+
     @Override
     public void deleteAll() {
         bomMapper.deleteAll();
@@ -42,6 +42,11 @@ public class ItemRepositoryImpl implements ItemRepository {
         return itemMapper.findAll();
     }
 
+    @Override
+    public String findChangeStamp() {
+        return itemMapper.findChangeStamp();
+    }
+
     @Override
     public List<Item> findByCategory(ItemCategory category) {
         return itemMapper.findByCategory(category);
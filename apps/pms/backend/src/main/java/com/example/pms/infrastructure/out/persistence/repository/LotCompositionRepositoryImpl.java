@@ -2,6 +2,7 @@ package com.example.pms.infrastructure.out.persistence.repository;
 
 import com.example.pms.application.port.out.LotCompositionRepository;
 import com.example.pms.domain.model.quality.LotComposition;
+import com.example.pms.domain.model.quality.LotGenealogyStamp;
 import com.example.pms.infrastructure.out.persistence.mapper.LotCompositionMapper;
 import org.springframework.stereotype.Repository;
 
@@ -45,6 +46,11 @@ public class LotCompositionRepositoryImpl implements LotCompositionRepository {
         return lotCompositionMapper.findAll();
     }
 
+    @Override
+    public LotGenealogyStamp findGenealogyStamp() {
+        return lotCompositionMapper.findGenealogyStamp();
+    }
+
     @Override
     public void update(LotComposition composition) {
         lotCompositionMapper.update(composition);
@@ -6,6 +6,7 @@ import com.example.pms.domain.model.plan.PlanStatus;
 import com.example.pms.infrastructure.out.persistence.mapper.MasterProductionScheduleMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +52,14 @@ public class MpsRepositoryImpl implements MpsRepository {
         return mpsMapper.findAll();
     }
 
+    @Override
+    public List<MasterProductionSchedule> findByItemCodes(Collection<String> itemCodes) {
+        if (itemCodes.isEmpty()) {
+            return List.of();
+        }
+        return mpsMapper.findByItemCodes(itemCodes);
+    }
+
     @Override
     public List<MasterProductionSchedule> findWithPagination(PlanStatus status, String keyword, int limit, int offset) {
         return mpsMapper.findWithPagination(status, keyword, limit, offset);
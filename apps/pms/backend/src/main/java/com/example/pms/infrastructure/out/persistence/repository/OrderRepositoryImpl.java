@@ -6,6 +6,7 @@ import com.example.pms.domain.model.plan.PlanStatus;
 import com.example.pms.infrastructure.out.persistence.mapper.OrderMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,6 +57,22 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderMapper.findAll();
     }
 
+    @Override
+    public List<Order> findByItemCodes(Collection<String> itemCodes) {
+        if (itemCodes.isEmpty()) {
+            return List.of();
+        }
+        return orderMapper.findByItemCodes(itemCodes);
+    }
+
+    @Override
+    public List<Order> findByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return orderMapper.findByIds(ids);
+    }
+
     @Override
     public List<Order> findWithPagination(PlanStatus status, String keyword, int limit, int offset) {
         return orderMapper.findWithPagination(status, keyword, limit, offset);
@@ -5,10 +5,15 @@ import com.example.pms.domain.model.purchase.PurchaseOrder;
 import com.example.pms.domain.model.purchase.PurchaseOrderStatus;
 import com.example.pms.infrastructure.out.persistence.mapper.PurchaseOrderDetailMapper;
 import com.example.pms.infrastructure.out.persistence.mapper.PurchaseOrderMapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 発注データリポジトリ実装
@@ -66,6 +71,16 @@ public class PurchaseOrderRepositoryImpl implements PurchaseOrderRepository {
         return purchaseOrderMapper.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachByStatus(PurchaseOrderStatus status, Consumer<PurchaseOrder> action) {
+        try (Cursor<PurchaseOrder> cursor = purchaseOrderMapper.streamByStatus(status)) {
+            cursor.forEach(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public void updateStatus(Integer id, PurchaseOrderStatus status) {
         purchaseOrderMapper.updateStatus(id, status);
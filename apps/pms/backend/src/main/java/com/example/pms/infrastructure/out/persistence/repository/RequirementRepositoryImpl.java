@@ -6,6 +6,7 @@ import com.example.pms.infrastructure.out.persistence.mapper.RequirementMapper;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +52,14 @@ public class RequirementRepositoryImpl implements RequirementRepository {
         return requirementMapper.findAll();
     }
 
+    @Override
+    public List<Requirement> findByItemCodes(Collection<String> itemCodes) {
+        if (itemCodes.isEmpty()) {
+            return List.of();
+        }
+        return requirementMapper.findByItemCodes(itemCodes);
+    }
+
     @Override
     public void updateAllocation(Integer id, BigDecimal allocatedQuantity, BigDecimal shortageQuantity) {
         requirementMapper.updateAllocation(id, allocatedQuantity, shortageQuantity);
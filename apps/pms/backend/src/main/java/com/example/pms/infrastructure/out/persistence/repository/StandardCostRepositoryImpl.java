@@ -6,6 +6,8 @@ import com.example.pms.infrastructure.out.persistence.mapper.StandardCostMapper;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,9 @@ import java.util.Optional;
 @Repository
 public class StandardCostRepositoryImpl implements StandardCostRepository {
 
+    /** 1 文あたりの行数・品目コード数（バインド変数の上限を超えないように分割する）. */
+    private static final int BATCH_SIZE = 1000;
+
     private final StandardCostMapper mapper;
 
     public StandardCostRepositoryImpl(StandardCostMapper mapper) {
@@ -26,6 +31,13 @@ public class StandardCostRepositoryImpl implements StandardCostRepository {
         mapper.insert(standardCost);
     }
 
+    @Override
+    public void saveAll(List<StandardCost> standardCosts) {
+        for (int from = 0; from < standardCosts.size(); from += BATCH_SIZE) {
+            mapper.insertBatch(standardCosts.subList(from, Math.min(from + BATCH_SIZE, standardCosts.size())));
+        }
+    }
+
     @Override
     public int update(StandardCost standardCost) {
         return mapper.update(standardCost);
@@ -61,8 +73,35 @@ public class StandardCostRepositoryImpl implements StandardCostRepository {
         mapper.deleteByItemCode(itemCode);
     }
 
+    @Override
+    public int closeByItemCodes(Collection<String> itemCodes, LocalDate effectiveDate) {
+        int updated = 0;
+        for (List<String> chunk : chunk(itemCodes)) {
+            updated += mapper.closeByItemCodes(chunk, effectiveDate, effectiveDate.minusDays(1));
+        }
+        return updated;
+    }
+
+    @Override
+    public int deleteByItemCodesAndStartDate(Collection<String> itemCodes, LocalDate effectiveDate) {
+        int deleted = 0;
+        for (List<String> chunk : chunk(itemCodes)) {
+            deleted += mapper.deleteByItemCodesAndStartDate(chunk, effectiveDate);
+        }
+        return deleted;
+    }
+
     @Override
     public void deleteAll() {
         mapper.deleteAll();
     }
+
+    private static List<List<String>> chunk(Collection<String> itemCodes) {
+        List<String> codes = List.copyOf(itemCodes);
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < codes.size(); from += BATCH_SIZE) {
+            chunks.add(codes.subList(from, Math.min(from + BATCH_SIZE, codes.size())));
+        }
+        return chunks;
+    }
 }
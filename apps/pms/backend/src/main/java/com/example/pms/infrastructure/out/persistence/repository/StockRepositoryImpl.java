@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,6 +55,14 @@ public class StockRepositoryImpl implements StockRepository {
         return stockMapper.findAll();
     }
 
+    @Override
+    public List<Stock> findByItemCodes(Collection<String> itemCodes) {
+        if (itemCodes.isEmpty()) {
+            return List.of();
+        }
+        return stockMapper.findByItemCodes(itemCodes);
+    }
+
     @Override
     public List<Stock> findWithPagination(int offset, int limit, String keyword) {
         return stockMapper.findWithPagination(offset, limit, keyword);
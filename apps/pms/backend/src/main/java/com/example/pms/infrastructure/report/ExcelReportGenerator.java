@@ -11,14 +11,14 @@ import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 /**
  * Excel 帳票生成.
@@ -28,28 +28,67 @@ public class ExcelReportGenerator {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
     private static final String[] HEADERS = {"発注番号", "発注日", "仕入先コード", "仕入先名", "ステータス", "備考"};
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int DATA_START_ROW = 4;
 
     /**
-     * 発注一覧 Excel を生成する.
+     * 発注一覧 Excel の書き出しを開始する.
      *
-     * @param orders 発注リスト
-     * @return Excel バイト配列
+     * <p>SXSSF で直近 {@value #ROW_ACCESS_WINDOW} 行だけをメモリに保持し、それより前の行は
+     * 一時ファイルへ書き出す。行数によらずヒープ使用量は一定。</p>
+     *
+     * @param out 出力先（クローズしない）
+     * @return 発注一覧のライター
+     */
+    public ReportWriter<PurchaseOrder> openPurchaseOrderList(OutputStream out) {
+        return new PurchaseOrderListWriter(out);
+    }
+
+    /**
+     * 発注一覧 Excel のライター.
      */
-    public byte[] generatePurchaseOrderList(List<PurchaseOrder> orders) {
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("発注一覧");
+    private final class PurchaseOrderListWriter implements ReportWriter<PurchaseOrder> {
+
+        private final OutputStream out;
+        private final SXSSFWorkbook workbook;
+        private final SXSSFSheet sheet;
+        private final CellStyle dataStyle;
+        private final CellStyle dateStyle;
+        private int count;
+
+        PurchaseOrderListWriter(OutputStream out) {
+            this.out = out;
+            this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+            this.sheet = workbook.createSheet("発注一覧");
+            // 一時ファイルへ書き出した行の幅も列幅の自動調整に反映する
+            sheet.trackAllColumnsForAutoSizing();
+            this.dataStyle = createDataStyle(workbook);
+            this.dateStyle = createDateStyle(workbook);
 
             createTitleRow(workbook, sheet);
             createDateRow(sheet);
             createHeaderRow(workbook, sheet);
-            createDataRows(workbook, sheet, orders);
-            createTotalRow(sheet, orders.size());
-            autoSizeColumns(sheet);
+        }
 
-            return toByteArray(workbook);
+        @Override
+        public void write(PurchaseOrder order) {
+            Row row = sheet.createRow(DATA_START_ROW + count);
+            createDataRow(row, order, dataStyle, dateStyle);
+            count++;
+        }
 
-        } catch (IOException e) {
-            throw new ReportGenerationException("Excel 生成に失敗しました", e);
+        @Override
+        public void close() {
+            try (workbook) {
+                createTotalRow(sheet, count);
+                autoSizeColumns(sheet);
+                workbook.write(out);
+            } catch (IOException e) {
+                throw new ReportGenerationException("Excel 生成に失敗しました", e);
+            } finally {
+                // 行の一時ファイルを削除する
+                workbook.dispose();
+            }
         }
     }
 
@@ -80,17 +119,6 @@ public class ExcelReportGenerator {
         }
     }
 
-    private void createDataRows(Workbook workbook, Sheet sheet, List<PurchaseOrder> orders) {
-        CellStyle dataStyle = createDataStyle(workbook);
-        CellStyle dateStyle = createDateStyle(workbook);
-
-        int rowNum = 4;
-        for (PurchaseOrder order : orders) {
-            Row row = sheet.createRow(rowNum++);
-            createDataRow(row, order, dataStyle, dateStyle);
-        }
-    }
-
     private void createDataRow(Row row, PurchaseOrder order, CellStyle dataStyle, CellStyle dateStyle) {
         createCell(row, 0, order.getPurchaseOrderNumber(), dataStyle);
         createCell(row, 1, formatDate(order.getOrderDate()), dateStyle);
@@ -107,7 +135,7 @@ public class ExcelReportGenerator {
     }
 
     private void createTotalRow(Sheet sheet, int count) {
-        Row totalRow = sheet.createRow(count + 5);
+        Row totalRow = sheet.createRow(DATA_START_ROW + count + 1);
         totalRow.createCell(0).setCellValue("合計: " + count + " 件");
     }
 
@@ -117,12 +145,6 @@ public class ExcelReportGenerator {
         }
     }
 
-    private byte[] toByteArray(Workbook workbook) throws IOException {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        workbook.write(out);
-        return out.toByteArray();
-    }
-
     private String formatDate(LocalDate date) {
         return date != null ? date.format(DATE_FORMATTER) : "";
     }
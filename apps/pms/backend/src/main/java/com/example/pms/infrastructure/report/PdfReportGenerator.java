@@ -3,6 +3,8 @@ package com.example.pms.infrastructure.report;
 import com.example.pms.domain.model.purchase.PurchaseOrder;
 import com.example.pms.domain.model.purchase.PurchaseOrderDetail;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -10,9 +12,13 @@ import org.springframework.stereotype.Component;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,6 +31,7 @@ public class PdfReportGenerator {
     private static final Logger LOG = LoggerFactory.getLogger(PdfReportGenerator.class);
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
     private static final int INITIAL_BUFFER_SIZE = 2048;
+    private static final int PDF_CHUNK_ROWS = 500;
     private static final String FONT_FAMILY = "Japanese";
 
     /** Windows のシステムフォントパス. */
@@ -52,26 +59,30 @@ public class PdfReportGenerator {
     }
 
     /**
-     * 発注一覧 PDF を生成する.
+     * 発注一覧 PDF の書き出しを開始する.
      *
-     * @param orders 発注リスト
+     * <p>明細 {@value #PDF_CHUNK_ROWS} 行ごとに HTML を PDF へ変換して一時ファイルに書き出し、
+     * 確定時に一時ファイル上で結合して出力先へ書き出す。変換対象の DOM が一定の大きさに
+     * 収まるため、行数によらずヒープ使用量は一定。チャンクの境目で改ページする。</p>
+     *
+     * @param out 出力先（クローズしない）
+     * @return 発注一覧のライター
+     */
+    public ReportWriter<PurchaseOrder> openPurchaseOrderList(OutputStream out) {
+        return new PurchaseOrderListWriter(out);
+    }
+
+    /**
+     * 発注書 PDF を生成する.
+     *
+     * @param order 発注
      * @return PDF バイト配列
      */
-    public byte[] generatePurchaseOrderList(List<PurchaseOrder> orders) {
-        String html = buildPurchaseOrderListHtml(orders);
+    public byte[] generatePurchaseOrderPdf(PurchaseOrder order) {
+        String html = buildPurchaseOrderHtml(order);
 
         try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            PdfRendererBuilder builder = new PdfRendererBuilder()
-                .useFastMode();
-
-            if (japaneseFontFile != null) {
-                builder = builder.useFont(japaneseFontFile, FONT_FAMILY);
-            }
-
-            builder.withHtmlContent(html, null)
-                .toStream(out)
-                .run();
-
+            render(html, out);
             return out.toByteArray();
 
         } catch (IOException e) {
@@ -79,31 +90,108 @@ public class PdfReportGenerator {
         }
     }
 
+    private void render(String html, OutputStream out) throws IOException {
+        PdfRendererBuilder builder = new PdfRendererBuilder()
+            .useFastMode();
+
+        if (japaneseFontFile != null) {
+            builder = builder.useFont(japaneseFontFile, FONT_FAMILY);
+        }
+
+        builder.withHtmlContent(html, null)
+            .toStream(out)
+            .run();
+    }
+
     /**
-     * 発注書 PDF を生成する.
-     *
-     * @param order 発注
-     * @return PDF バイト配列
+     * 発注一覧 PDF のライター.
      */
-    public byte[] generatePurchaseOrderPdf(PurchaseOrder order) {
-        String html = buildPurchaseOrderHtml(order);
+    private final class PurchaseOrderListWriter implements ReportWriter<PurchaseOrder> {
 
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            PdfRendererBuilder builder = new PdfRendererBuilder()
-                .useFastMode();
+        private final OutputStream out;
+        private final List<Path> chunkFiles = new ArrayList<>();
+        private StringBuilder html;
+        private int chunkRows;
+        private int count;
+
+        PurchaseOrderListWriter(OutputStream out) {
+            this.out = out;
+            startChunk();
+        }
+
+        @Override
+        public void write(PurchaseOrder order) {
+            appendOrderRow(html, order);
+            chunkRows++;
+            count++;
+            if (chunkRows == PDF_CHUNK_ROWS) {
+                html.append("</tbody></table>");
+                appendHtmlFooter(html);
+                try {
+                    flushChunk();
+                } catch (IOException e) {
+                    deleteChunkFiles();
+                    throw new ReportGenerationException("PDF 生成に失敗しました", e);
+                }
+                startChunk();
+            }
+        }
 
-            if (japaneseFontFile != null) {
-                builder = builder.useFont(japaneseFontFile, FONT_FAMILY);
+        @Override
+        public void close() {
+            appendTableFooter(html, count);
+            appendHtmlFooter(html);
+            try {
+                if (chunkFiles.isEmpty()) {
+                    render(html.toString(), out);
+                    return;
+                }
+                flushChunk();
+                merge();
+            } catch (IOException e) {
+                throw new ReportGenerationException("PDF 生成に失敗しました", e);
+            } finally {
+                deleteChunkFiles();
             }
+        }
 
-            builder.withHtmlContent(html, null)
-                .toStream(out)
-                .run();
+        private void startChunk() {
+            html = new StringBuilder(INITIAL_BUFFER_SIZE);
+            appendHtmlHeader(html);
+            if (chunkFiles.isEmpty()) {
+                appendTitle(html);
+            }
+            appendTableHeader(html);
+            chunkRows = 0;
+        }
 
-            return out.toByteArray();
+        private void flushChunk() throws IOException {
+            Path chunkFile = Files.createTempFile("report-chunk-", ".pdf");
+            chunkFiles.add(chunkFile);
+            try (OutputStream chunkOut = Files.newOutputStream(chunkFile)) {
+                render(html.toString(), chunkOut);
+            }
+            html = null;
+        }
 
-        } catch (IOException e) {
-            throw new ReportGenerationException("PDF 生成に失敗しました", e);
+        private void merge() throws IOException {
+            PDFMergerUtility merger = new PDFMergerUtility();
+            for (Path chunkFile : chunkFiles) {
+                merger.addSource(chunkFile.toFile());
+            }
+            merger.setDestinationStream(out);
+            merger.mergeDocuments(IOUtils.createTempFileOnlyStreamCache());
+        }
+
+        private void deleteChunkFiles() {
+            for (Path chunkFile : chunkFiles) {
+                try {
+                    Files.deleteIfExists(chunkFile);
+                } catch (IOException e) {
+                    LOG.warn("一時ファイルを削除できませんでした: {}", chunkFile);
+                }
+            }
+            chunkFiles.clear();
         }
     }
 
@@ -223,19 +311,6 @@ public class PdfReportGenerator {
         return String.format("%,.2f", value);
     }
 
-    private String buildPurchaseOrderListHtml(List<PurchaseOrder> orders) {
-        StringBuilder html = new StringBuilder(INITIAL_BUFFER_SIZE);
-
-        appendHtmlHeader(html);
-        appendTitle(html);
-        appendTableHeader(html);
-        appendTableBody(html, orders);
-        appendTableFooter(html, orders.size());
-        appendHtmlFooter(html);
-
-        return html.toString();
-    }
-
     private void appendHtmlHeader(StringBuilder html) {
         html.append("<!DOCTYPE html><html><head><meta charset=\"UTF-8\"/><style>")
             .append("body { font-family: Japanese, sans-serif; font-size: 12px; }")
@@ -262,12 +337,6 @@ public class PdfReportGenerator {
             .append("</tr></thead><tbody>");
     }
 
-    private void appendTableBody(StringBuilder html, List<PurchaseOrder> orders) {
-        for (PurchaseOrder order : orders) {
-            appendOrderRow(html, order);
-        }
-    }
-
     private void appendOrderRow(StringBuilder html, PurchaseOrder order) {
         html.append("<tr>")
             .append("<td>").append(escapeHtml(order.getPurchaseOrderNumber())).append("</td>")
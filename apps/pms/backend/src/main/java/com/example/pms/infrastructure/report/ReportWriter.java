@@ -0,0 +1,27 @@
+package com.example.pms.infrastructure.report;
+
+/**
+ * 帳票の明細行を 1 件ずつ書き出すライター.
+ *
+ * <p>{@link #close()} で合計行などを書き足して帳票を確定し、出力先へ書き出す。
+ * 出力先のストリームはクローズしない。</p>
+ *
+ * @param <T> 明細行の型
+ */
+public interface ReportWriter<T> extends AutoCloseable {
+
+    /**
+     * 明細行を書き出す.
+     *
+     * @param row 明細行
+     */
+    void write(T row);
+
+    /**
+     * 帳票を確定して出力先へ書き出し、一時領域を解放する.
+     *
+     * @throws ReportGenerationException 書き出しに失敗した場合
+     */
+    @Override
+    void close();
+}
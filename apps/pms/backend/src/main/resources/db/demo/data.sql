@@ -3,5 +3,15 @@
 -- Seed データは SeedDataRunner によりアプリケーション起動時に投入されます
 -- =============================================================================
 
--- ダミー文（Spring SQL init は空スクリプトを許容しないため）
-SELECT 1;
+-- 採番マスタ（伝票番号はプレフィックス-yyyyMMdd-連番）
+INSERT INTO "採番マスタ" ("採番コード", "採番名", "プレフィックス", "採番形式", "桁数") VALUES
+('MPS', '基準生産計画番号', 'MPS', 'DAILY', 4),
+('WORK_ORDER', '作業指示番号', 'WO', 'DAILY', 4),
+('COMPLETION_RESULT', '完成実績番号', 'CR', 'DAILY', 4),
+('LABOR_HOURS', '工数実績番号', 'LH', 'DAILY', 4),
+('PURCHASE_ORDER', '発注番号', 'PO', 'DAILY', 4),
+('RECEIVING', '入荷番号', 'RCV', 'DAILY', 4),
+('ACCEPTANCE', '検収番号', 'ACC', 'DAILY', 4),
+('PROCESS_INSPECTION', '工程検査番号', 'PI', 'DAILY', 4),
+('SHIPMENT_INSPECTION', '出荷検査番号', 'SI', 'DAILY', 4),
+('STOCKTAKING', '棚卸番号', 'ST', 'DAILY', 4);
@@ -1299,3 +1299,30 @@ CREATE INDEX IF NOT EXISTS idx_原価差異_作業指示 ON "原価差異デー
 ALTER TABLE "原価差異データ" ADD CONSTRAINT IF NOT EXISTS fk_原価差異_作業指示
     FOREIGN KEY ("作業指示番号") REFERENCES "作業指示データ"("作業指示番号");
 -- 品目マスタは世代管理対応（複合キー）のため、品目コードのみでの外部キー参照は不可
+
+-- --------------------------------------------------
+-- 採番マスタ (V014)
+-- --------------------------------------------------
+CREATE TABLE IF NOT EXISTS "採番マスタ" (
+    "採番コード" VARCHAR(20) PRIMARY KEY,
+    "採番名" VARCHAR(100) NOT NULL,
+    "プレフィックス" VARCHAR(10) NOT NULL,
+    "採番形式" VARCHAR(20) NOT NULL,
+    "桁数" INTEGER NOT NULL,
+    "作成日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    "更新日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- --------------------------------------------------
+-- 採番履歴データ (V014)
+-- --------------------------------------------------
+CREATE TABLE IF NOT EXISTS "採番履歴データ" (
+    "ID" INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    "採番コード" VARCHAR(20) NOT NULL,
+    "採番年月" VARCHAR(8) NOT NULL,
+    "最終番号" BIGINT NOT NULL,
+    "作成日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    "更新日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT fk_採番履歴_採番マスタ FOREIGN KEY ("採番コード") REFERENCES "採番マスタ"("採番コード"),
+    CONSTRAINT uk_採番履歴_採番コード_採番年月 UNIQUE ("採番コード", "採番年月")
+);
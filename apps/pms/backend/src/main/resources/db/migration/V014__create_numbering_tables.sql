@@ -0,0 +1,91 @@
+-- V014__create_numbering_tables.sql
+-- 採番テーブル（伝票番号の連番をブロック単位で確保する）
+
+-- --------------------------------------------------
+-- 採番マスタ
+-- --------------------------------------------------
+CREATE TABLE "採番マスタ" (
+    "採番コード" VARCHAR(20) PRIMARY KEY,
+    "採番名" VARCHAR(100) NOT NULL,
+    "プレフィックス" VARCHAR(10) NOT NULL,
+    "採番形式" VARCHAR(20) NOT NULL,
+    "桁数" INTEGER NOT NULL,
+    "作成日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    "更新日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE "採番マスタ" IS '伝票番号の採番ルールを管理するマスタテーブル';
+COMMENT ON COLUMN "採番マスタ"."採番形式" IS 'DAILY=日別連番';
+
+-- --------------------------------------------------
+-- 採番履歴データ
+-- --------------------------------------------------
+CREATE TABLE "採番履歴データ" (
+    "ID" SERIAL PRIMARY KEY,
+    "採番コード" VARCHAR(20) NOT NULL,
+    "採番年月" VARCHAR(8) NOT NULL,
+    "最終番号" BIGINT NOT NULL,
+    "作成日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    "更新日時" TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT "FK_採番履歴_採番マスタ" FOREIGN KEY ("採番コード")
+        REFERENCES "採番マスタ"("採番コード"),
+    CONSTRAINT "UK_採番履歴_採番コード_採番年月" UNIQUE ("採番コード", "採番年月")
+);
+
+COMMENT ON TABLE "採番履歴データ" IS '期間別の採番状況を記録するテーブル';
+COMMENT ON COLUMN "採番履歴データ"."採番年月" IS '連番を区切る期間（日別連番は yyyyMMdd）';
+COMMENT ON COLUMN "採番履歴データ"."最終番号" IS '確保済みの最大番号（未使用分は欠番になる）';
+
+-- 初期データ
+INSERT INTO "採番マスタ" ("採番コード", "採番名", "プレフィックス", "採番形式", "桁数") VALUES
+('MPS', '基準生産計画番号', 'MPS', 'DAILY', 4),
+('WORK_ORDER', '作業指示番号', 'WO', 'DAILY', 4),
+('COMPLETION_RESULT', '完成実績番号', 'CR', 'DAILY', 4),
+('LABOR_HOURS', '工数実績番号', 'LH', 'DAILY', 4),
+('PURCHASE_ORDER', '発注番号', 'PO', 'DAILY', 4),
+('RECEIVING', '入荷番号', 'RCV', 'DAILY', 4),
+('ACCEPTANCE', '検収番号', 'ACC', 'DAILY', 4),
+('PROCESS_INSPECTION', '工程検査番号', 'PI', 'DAILY', 4),
+('SHIPMENT_INSPECTION', '出荷検査番号', 'SI', 'DAILY', 4),
+('STOCKTAKING', '棚卸番号', 'ST', 'DAILY', 4);
+
+-- 既存伝票の日別最終番号を取り込む
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'MPS', SUBSTRING("MPS番号" FROM '^MPS-([0-9]{8})-'), MAX(CAST(SUBSTRING("MPS番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "基準生産計画" WHERE "MPS番号" ~ '^MPS-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'WORK_ORDER', SUBSTRING("作業指示番号" FROM '^WO-([0-9]{8})-'), MAX(CAST(SUBSTRING("作業指示番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "作業指示データ" WHERE "作業指示番号" ~ '^WO-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'COMPLETION_RESULT', SUBSTRING("完成実績番号" FROM '^CR-([0-9]{8})-'), MAX(CAST(SUBSTRING("完成実績番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "完成実績データ" WHERE "完成実績番号" ~ '^CR-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'LABOR_HOURS', SUBSTRING("工数実績番号" FROM '^LH-([0-9]{8})-'), MAX(CAST(SUBSTRING("工数実績番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "工数実績データ" WHERE "工数実績番号" ~ '^LH-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'PURCHASE_ORDER', SUBSTRING("発注番号" FROM '^PO-([0-9]{8})-'), MAX(CAST(SUBSTRING("発注番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "発注データ" WHERE "発注番号" ~ '^PO-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'RECEIVING', SUBSTRING("入荷番号" FROM '^RCV-([0-9]{8})-'), MAX(CAST(SUBSTRING("入荷番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "入荷受入データ" WHERE "入荷番号" ~ '^RCV-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'ACCEPTANCE', SUBSTRING("検収番号" FROM '^ACC-([0-9]{8})-'), MAX(CAST(SUBSTRING("検収番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "検収データ" WHERE "検収番号" ~ '^ACC-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'PROCESS_INSPECTION', SUBSTRING("工程検査番号" FROM '^PI-([0-9]{8})-'), MAX(CAST(SUBSTRING("工程検査番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "工程検査データ" WHERE "工程検査番号" ~ '^PI-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'SHIPMENT_INSPECTION', SUBSTRING("出荷検査番号" FROM '^SI-([0-9]{8})-'), MAX(CAST(SUBSTRING("出荷検査番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "出荷検査データ" WHERE "出荷検査番号" ~ '^SI-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'STOCKTAKING', SUBSTRING("棚卸番号" FROM '^ST-([0-9]{8})-'), MAX(CAST(SUBSTRING("棚卸番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "棚卸データ" WHERE "棚卸番号" ~ '^ST-[0-9]{8}-[0-9]+$' GROUP BY 2;
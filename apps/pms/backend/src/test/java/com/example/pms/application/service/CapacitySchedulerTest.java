@@ -0,0 +1,182 @@
+package com.example.pms.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.DailyLoad;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ProcessLoad;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduleDirection;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduledOperation;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.ScheduledWorkOrder;
+import com.example.pms.application.port.in.WorkOrderScheduleUseCase.UnscheduledWorkOrder;
+import com.example.pms.domain.model.process.ProcessRoute;
+import com.example.pms.domain.model.process.WorkOrder;
+import com.example.pms.domain.model.process.WorkOrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CapacityScheduler のユニットテスト.
+ */
+@DisplayName("有限能力の作業指示計画")
+class CapacitySchedulerTest {
+
+    /** 月曜日. */
+    private static final LocalDate START = LocalDate.of(2025, 4, 7);
+    /** 1 日 100 分 × 5 日. */
+    private static final int[] FIVE_DAYS = {100, 100, 100, 100, 100};
+
+    private static WorkOrder workOrder(String workOrderNumber, LocalDate plannedEndDate, WorkOrderStatus status) {
+        return WorkOrder.builder()
+            .workOrderNumber(workOrderNumber)
+            .itemCode("ITEM-" + workOrderNumber)
+            .orderQuantity(BigDecimal.ONE)
+            .plannedEndDate(plannedEndDate)
+            .status(status)
+            .build();
+    }
+
+    /**
+     * 数量 1 の作業指示の工程表（工程コードと作業分を交互に指定）.
+     */
+    private static List<ProcessRoute> routes(Object... processAndMinutes) {
+        List<ProcessRoute> routes = new ArrayList<>();
+        for (int i = 0; i < processAndMinutes.length; i += 2) {
+            routes.add(ProcessRoute.builder()
+                .sequence(i / 2 + 1)
+                .processCode((String) processAndMinutes[i])
+                .standardTime(new BigDecimal((Integer) processAndMinutes[i + 1]))
+                .build());
+        }
+        return routes;
+    }
+
+    private static ScheduledWorkOrder find(List<ScheduledWorkOrder> scheduled, String workOrderNumber) {
+        return scheduled.stream()
+            .filter(s -> s.getWorkOrderNumber().equals(workOrderNumber))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("フォワード")
+    class Forward {
+
+        @Test
+        @DisplayName("工程は前工程の完了後に、同じ工程の作業は先の作業の後に割り付け、休日は飛ばす")
+        void shouldPlaceOperationsInOrderSkippingHolidays() {
+            // 4/8 は休日
+            CapacityScheduler scheduler = new CapacityScheduler(START, new int[] {100, 0, 100, 100, 100});
+            scheduler.addWorkOrder(workOrder("WO-001", null, null), routes("P1", 150, "P2", 50));
+            scheduler.addWorkOrder(workOrder("WO-002", null, null), routes("P1", 100, "P2", 100));
+
+            List<ScheduledWorkOrder> scheduled = scheduler.schedule(ScheduleDirection.FORWARD);
+
+            assertThat(find(scheduled, "WO-001").getOperations())
+                .extracting(ScheduledOperation::getProcessCode, ScheduledOperation::getStartDate,
+                    ScheduledOperation::getEndDate)
+                .containsExactly(
+                    tuple("P1", LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 9)),
+                    tuple("P2", LocalDate.of(2025, 4, 9), LocalDate.of(2025, 4, 9)));
+            assertThat(find(scheduled, "WO-002").getOperations())
+                .extracting(ScheduledOperation::getProcessCode, ScheduledOperation::getStartDate,
+                    ScheduledOperation::getEndDate)
+                .containsExactly(
+                    tuple("P1", LocalDate.of(2025, 4, 9), LocalDate.of(2025, 4, 10)),
+                    tuple("P2", LocalDate.of(2025, 4, 10), LocalDate.of(2025, 4, 11)));
+            assertThat(scheduler.unscheduledWorkOrders()).isEmpty();
+
+            ProcessLoad p1 = scheduler.processLoads(Map.of("P1", "切削", "P2", "組立")).getFirst();
+            assertThat(p1.getProcessName()).isEqualTo("切削");
+            assertThat(p1.getLoadMinutes()).isEqualTo(250);
+            assertThat(p1.getDailyLoads())
+                .extracting(DailyLoad::getDate, DailyLoad::getLoadMinutes)
+                .containsExactly(
+                    tuple(LocalDate.of(2025, 4, 7), 100L),
+                    tuple(LocalDate.of(2025, 4, 9), 100L),
+                    tuple(LocalDate.of(2025, 4, 10), 50L),
+                    tuple(LocalDate.of(2025, 4, 11), 0L));
+        }
+
+        @Test
+        @DisplayName("計画期間内に能力が足りない作業指示と工程表のない作業指示は計画できない作業指示にする")
+        void shouldReportUnscheduledWhenCapacityRunsOut() {
+            CapacityScheduler scheduler = new CapacityScheduler(START, FIVE_DAYS);
+            scheduler.addWorkOrder(workOrder("WO-001", null, null), routes("P1", 300));
+            scheduler.addWorkOrder(workOrder("WO-002", null, null), routes("P1", 300));
+            scheduler.addWorkOrder(workOrder("WO-003", null, null), List.of());
+
+            List<ScheduledWorkOrder> scheduled = scheduler.schedule(ScheduleDirection.FORWARD);
+
+            assertThat(scheduled).extracting(ScheduledWorkOrder::getWorkOrderNumber).containsExactly("WO-001");
+            assertThat(scheduler.unscheduledWorkOrders())
+                .extracting(UnscheduledWorkOrder::getWorkOrderNumber, UnscheduledWorkOrder::getReason)
+                .containsExactlyInAnyOrder(
+                    tuple("WO-002", "計画期間内に工程 P1 の能力が足りません"),
+                    tuple("WO-003", "工程表が登録されていません"));
+        }
+    }
+
+    @Nested
+    @DisplayName("バックワード")
+    class Backward {
+
+        @Test
+        @DisplayName("予定終了日から逆に割り付け、間に合わない作業指示は先に割り付けた作業の間の空きへフォワードで割り付ける")
+        void shouldFallBackToForwardIntoGaps() {
+            CapacityScheduler scheduler = new CapacityScheduler(START, FIVE_DAYS);
+            scheduler.addWorkOrder(workOrder("WO-001", LocalDate.of(2025, 4, 11), WorkOrderStatus.NOT_STARTED),
+                routes("P1", 100));
+            scheduler.addWorkOrder(workOrder("WO-002", LocalDate.of(2025, 4, 8), WorkOrderStatus.NOT_STARTED),
+                routes("P1", 100));
+            // 4/7 終業までに 150 分は収まらない
+            scheduler.addWorkOrder(workOrder("WO-003", LocalDate.of(2025, 4, 7), WorkOrderStatus.NOT_STARTED),
+                routes("P1", 150));
+            // 着手済は予定終了日があっても最初にフォワードで計画する
+            scheduler.addWorkOrder(workOrder("WO-004", LocalDate.of(2025, 4, 11), WorkOrderStatus.IN_PROGRESS),
+                routes("P1", 100));
+
+            List<ScheduledWorkOrder> scheduled = scheduler.schedule(ScheduleDirection.BACKWARD);
+
+            assertThat(scheduled)
+                .extracting(ScheduledWorkOrder::getWorkOrderNumber, ScheduledWorkOrder::getProposedStartDate,
+                    ScheduledWorkOrder::getProposedEndDate, ScheduledWorkOrder::isLate)
+                .containsExactly(
+                    tuple("WO-004", LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 7), false),
+                    tuple("WO-002", LocalDate.of(2025, 4, 8), LocalDate.of(2025, 4, 8), false),
+                    tuple("WO-003", LocalDate.of(2025, 4, 9), LocalDate.of(2025, 4, 10), true),
+                    tuple("WO-001", LocalDate.of(2025, 4, 11), LocalDate.of(2025, 4, 11), false));
+            assertThat(scheduler.unscheduledWorkOrders()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("割り付けを取り消した工程の時間帯は前後の空きと連結し、1 つの空きとして使える")
+        void shouldMergeReleasedIntervalWithNeighbours() {
+            CapacityScheduler scheduler = new CapacityScheduler(START, FIVE_DAYS);
+            // P2 を 4/11 に割り付けた後、P1 が 4/10 までに収まらず取り消す
+            scheduler.addWorkOrder(workOrder("WO-001", LocalDate.of(2025, 4, 11), WorkOrderStatus.NOT_STARTED),
+                routes("P1", 450, "P2", 100));
+            // P2 を計画期間いっぱい使う（取り消した 4/11 の時間帯が 4/10 までの空きと連結していれば入る）
+            scheduler.addWorkOrder(workOrder("WO-002", LocalDate.of(2025, 4, 7), WorkOrderStatus.NOT_STARTED),
+                routes("P2", 500));
+
+            List<ScheduledWorkOrder> scheduled = scheduler.schedule(ScheduleDirection.BACKWARD);
+
+            ScheduledWorkOrder wo2 = find(scheduled, "WO-002");
+            assertThat(wo2.getProposedStartDate()).isEqualTo(LocalDate.of(2025, 4, 7));
+            assertThat(wo2.getProposedEndDate()).isEqualTo(LocalDate.of(2025, 4, 11));
+            assertThat(wo2.isLate()).isTrue();
+            assertThat(scheduled).extracting(ScheduledWorkOrder::getWorkOrderNumber).containsExactly("WO-002");
+            assertThat(scheduler.unscheduledWorkOrders())
+                .extracting(UnscheduledWorkOrder::getWorkOrderNumber, UnscheduledWorkOrder::getReason)
+                .containsExactly(tuple("WO-001", "計画期間内に工程 P2 の能力が足りません"));
+        }
+    }
+}
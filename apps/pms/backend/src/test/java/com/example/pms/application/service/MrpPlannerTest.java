@@ -0,0 +1,240 @@
+package com.example.pms.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.pms.application.port.in.MrpUseCase.PlannedOrder;
+import com.example.pms.domain.model.bom.Bom;
+import com.example.pms.domain.model.bom.BomGraph;
+import com.example.pms.domain.model.calendar.DateType;
+import com.example.pms.domain.model.calendar.WorkCalendar;
+import com.example.pms.domain.model.calendar.WorkingDayCalendar;
+import com.example.pms.domain.model.item.Item;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * MrpPlanner のユニットテスト.
+ */
+@DisplayName("MRP 正味所要量計算")
+@SuppressWarnings("PMD.UseConcurrentHashMap")
+class MrpPlannerTest {
+
+    /** 月曜日. */
+    private static final LocalDate START = LocalDate.of(2025, 4, 7);
+    private static final LocalDate END = LocalDate.of(2025, 5, 30);
+    private static final LocalDate APR_14 = LocalDate.of(2025, 4, 14);
+    private static final LocalDate APR_21 = LocalDate.of(2025, 4, 21);
+
+    private static Bom bom(String parent, String child, String requiredQuantity) {
+        return Bom.builder()
+            .parentItemCode(parent)
+            .childItemCode(child)
+            .effectiveFrom(LocalDate.of(2025, 1, 1))
+            .requiredQuantity(new BigDecimal(requiredQuantity))
+            .build();
+    }
+
+    private static WorkingDayCalendar calendar(WorkCalendar... days) {
+        return WorkingDayCalendar.of(null, 1L, List.of(days), START.minusDays(60), END);
+    }
+
+    private static MrpPlanner planner(BomGraph graph, Collection<Item> items, WorkingDayCalendar calendar) {
+        Map<String, Item> itemMap = items.stream().collect(Collectors.toMap(Item::getItemCode, Function.identity()));
+        return new MrpPlanner(graph, itemMap, START, END, calendar);
+    }
+
+    /**
+     * MrpService と同じく低位レベルコードの小さい順に計画し、従属需要を子品目へ反映する.
+     */
+    private static Map<String, MrpPlanner.ItemPlan> planAll(MrpPlanner planner, BomGraph graph) {
+        Map<String, MrpPlanner.ItemPlan> plans = new HashMap<>();
+        for (int level = 0; level < graph.levelCount(); level++) {
+            for (int index : graph.itemsAtLevel(level)) {
+                MrpPlanner.ItemPlan plan = planner.planItem(index);
+                planner.applyDependentDemands(plan.dependentDemands());
+                plans.put(graph.itemCode(index), plan);
+            }
+        }
+        return plans;
+    }
+
+    private static List<PlannedOrder> planSingleItem(Item item, WorkingDayCalendar calendar,
+                                                     Map<LocalDate, String> demands) {
+        BomGraph graph = BomGraph.of(List.of(), List.of(item.getItemCode()));
+        MrpPlanner planner = planner(graph, List.of(item), calendar);
+        demands.forEach((date, quantity) ->
+            planner.addGrossRequirement(item.getItemCode(), date, new BigDecimal(quantity)));
+        return planAll(planner, graph).get(item.getItemCode()).plannedOrders();
+    }
+
+    @Nested
+    @DisplayName("多段階の展開")
+    class MultiLevelExplosion {
+
+        @Test
+        @DisplayName("親の着手日に従属需要を展開し、複数の親を持つ品目は最下位のレベルで合算して計画する")
+        void shouldExplodeThroughLowLevelCodes() {
+            // 製品 P = 半製品 S × 2 + 材料 M × 1、半製品 S = 材料 M × 3
+            BomGraph graph = BomGraph.of(List.of(bom("P", "S", "2"), bom("P", "M", "1"), bom("S", "M", "3")),
+                List.of());
+            MrpPlanner planner = planner(graph, List.of(
+                Item.builder().itemCode("P").leadTime(5).build(),
+                Item.builder().itemCode("S").leadTime(2).build(),
+                Item.builder().itemCode("M").build()), calendar());
+            planner.addGrossRequirement("P", APR_21, new BigDecimal("10"));
+
+            Map<String, MrpPlanner.ItemPlan> plans = planAll(planner, graph);
+
+            assertThat(graph.lowLevelCode(graph.indexOf("P"))).isZero();
+            assertThat(graph.lowLevelCode(graph.indexOf("S"))).isEqualTo(1);
+            assertThat(graph.lowLevelCode(graph.indexOf("M"))).isEqualTo(2);
+            // P: 4/21 納期、5 稼働日前の 4/14 着手
+            assertThat(plans.get("P").plannedOrders()).singleElement().satisfies(order -> {
+                assertThat(order.getQuantity()).isEqualByComparingTo("10");
+                assertThat(order.getReleaseDate()).isEqualTo(APR_14);
+            });
+            // S: P の着手日 4/14 に 20、2 稼働日前の 4/10 着手
+            assertThat(plans.get("S").plannedOrders()).singleElement().satisfies(order -> {
+                assertThat(order.getQuantity()).isEqualByComparingTo("20");
+                assertThat(order.getDueDate()).isEqualTo(APR_14);
+                assertThat(order.getReleaseDate()).isEqualTo(LocalDate.of(2025, 4, 10));
+                assertThat(order.getLowLevelCode()).isEqualTo(1);
+            });
+            // M: S からの 60（4/10）と P からの 10（4/14）
+            assertThat(plans.get("M").plannedOrders())
+                .extracting(PlannedOrder::getDueDate, order -> order.getQuantity().intValueExact())
+                .containsExactly(tuple(LocalDate.of(2025, 4, 10), 60), tuple(APR_14, 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("リードタイム")
+    class LeadTime {
+
+        @Test
+        @DisplayName("リードタイムと安全リードタイムの合計を、休日を除いた稼働日でさかのぼる")
+        void shouldOffsetByWorkingDays() {
+            WorkingDayCalendar calendar = calendar(WorkCalendar.builder()
+                .date(LocalDate.of(2025, 4, 16))
+                .dateType(DateType.HOLIDAY)
+                .build());
+            Item item = Item.builder().itemCode("X").leadTime(3).safetyLeadTime(1).build();
+
+            List<PlannedOrder> orders = planSingleItem(item, calendar, Map.of(APR_21, "5"));
+
+            // 4/18, 4/17, (4/16 休日), 4/15, 4/14
+            assertThat(orders).singleElement().satisfies(order -> {
+                assertThat(order.getDueDate()).isEqualTo(APR_21);
+                assertThat(order.getReleaseDate()).isEqualTo(APR_14);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("ロットサイズ")
+    class LotSizing {
+
+        private final Item item = Item.builder()
+            .itemCode("X")
+            .minLotSize(new BigDecimal("10"))
+            .lotIncrement(new BigDecimal("5"))
+            .maxLotSize(new BigDecimal("30"))
+            .build();
+
+        @Test
+        @DisplayName("最小ロットに満たない所要量は最小ロットで計画する")
+        void shouldRoundUpToMinimumLot() {
+            List<PlannedOrder> orders = planSingleItem(item, calendar(), Map.of(APR_21, "3"));
+
+            assertThat(orders).extracting(order -> order.getQuantity().intValueExact()).containsExactly(10);
+        }
+
+        @Test
+        @DisplayName("最大ロットを超える所要量はロット増分で切り上げながら分割する")
+        void shouldSplitByMaximumLot() {
+            List<PlannedOrder> orders = planSingleItem(item, calendar(), Map.of(APR_21, "47"));
+
+            // 47 → 30 + 20（残り 17 を最小 10 + 増分 5 × 2 に切り上げ）
+            assertThat(orders).extracting(order -> order.getQuantity().intValueExact()).containsExactly(30, 20);
+        }
+    }
+
+    @Nested
+    @DisplayName("歩留り")
+    class Yield {
+
+        @Test
+        @DisplayName("正味所要量を歩留りで割り戻して計画し、利用可能在庫には良品数だけを加える")
+        void shouldAddBackGoodQuantityOnly() {
+            Item item = Item.builder().itemCode("X").yieldRate(new BigDecimal("80")).build();
+
+            List<PlannedOrder> orders = planSingleItem(item, calendar(), Map.of(APR_14, "100", APR_21, "40"));
+
+            // 125 × 80% = 100 で 4/14 の所要量をちょうど満たし、4/21 の 40 は 50 で計画する
+            assertThat(orders).extracting(order -> order.getQuantity().intValueExact()).containsExactly(125, 50);
+        }
+
+        @Test
+        @DisplayName("子品目には歩留りで割り戻したロット全量を展開する")
+        void shouldExplodeWholeLot() {
+            BomGraph graph = BomGraph.of(List.of(bom("X", "C", "1")), List.of());
+            MrpPlanner planner = planner(graph, List.of(
+                Item.builder().itemCode("X").yieldRate(new BigDecimal("80")).build(),
+                Item.builder().itemCode("C").build()), calendar());
+            planner.addGrossRequirement("X", APR_21, new BigDecimal("100"));
+
+            Map<String, MrpPlanner.ItemPlan> plans = planAll(planner, graph);
+
+            assertThat(plans.get("C").plannedOrders()).singleElement()
+                .satisfies(order -> assertThat(order.getQuantity()).isEqualByComparingTo("125"));
+        }
+    }
+
+    @Nested
+    @DisplayName("在庫・入庫予定")
+    class ScheduledReceipts {
+
+        @Test
+        @DisplayName("手持在庫と所要日までの入庫予定を差し引いた不足分だけを計画する")
+        void shouldNetOnHandAndScheduledReceipts() {
+            BomGraph graph = BomGraph.of(List.of(), List.of("X"));
+            MrpPlanner planner = planner(graph, List.of(Item.builder().itemCode("X").build()), calendar());
+            planner.addOnHand("X", new BigDecimal("5"));
+            planner.addScheduledReceipt("X", LocalDate.of(2025, 4, 18), new BigDecimal("10"));
+            planner.addGrossRequirement("X", APR_21, new BigDecimal("20"));
+
+            MrpPlanner.ItemPlan plan = planAll(planner, graph).get("X");
+
+            assertThat(plan.plannedOrders()).singleElement()
+                .satisfies(order -> assertThat(order.getQuantity()).isEqualByComparingTo("5"));
+            assertThat(plan.shortageItem().getShortageQuantity()).isEqualByComparingTo("5");
+            assertThat(plan.shortageItem().getRecommendedOrderDate()).isEqualTo(APR_21);
+        }
+
+        @Test
+        @DisplayName("所要日より後の入庫予定は不足を埋めない")
+        void shouldNotUseLaterReceipts() {
+            BomGraph graph = BomGraph.of(List.of(), List.of("X"));
+            MrpPlanner planner = planner(graph, List.of(Item.builder().itemCode("X").build()), calendar());
+            planner.addOnHand("X", new BigDecimal("5"));
+            planner.addScheduledReceipt("X", LocalDate.of(2025, 4, 25), new BigDecimal("10"));
+            planner.addGrossRequirement("X", APR_21, new BigDecimal("20"));
+
+            MrpPlanner.ItemPlan plan = planAll(planner, graph).get("X");
+
+            assertThat(plan.plannedOrders()).singleElement()
+                .satisfies(order -> assertThat(order.getQuantity()).isEqualByComparingTo("15"));
+        }
+    }
+}
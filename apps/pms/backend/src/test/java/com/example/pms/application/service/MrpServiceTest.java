@@ -0,0 +1,162 @@
+package com.example.pms.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.pms.application.port.in.MrpUseCase.MrpResult;
+import com.example.pms.application.port.in.MrpUseCase.PlannedOrder;
+import com.example.pms.application.port.in.MrpUseCase.ShortageItem;
+import com.example.pms.application.port.out.BomRepository;
+import com.example.pms.application.port.out.ItemRepository;
+import com.example.pms.domain.model.bom.Bom;
+import com.example.pms.domain.model.bom.BomGraph;
+import com.example.pms.domain.model.calendar.WorkingDayCalendar;
+import com.example.pms.domain.model.item.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * MrpService のユニットテスト.
+ */
+@DisplayName("MRP サービス")
+@SuppressWarnings({"PMD.TooManyStaticImports", "PMD.UseConcurrentHashMap"})
+class MrpServiceTest {
+
+    /** 月曜日. */
+    private static final LocalDate START = LocalDate.of(2025, 4, 7);
+    private static final LocalDate END = LocalDate.of(2025, 6, 27);
+    /** 並列実行の閾値（256 品目）を超える製品数. */
+    private static final int PRODUCT_COUNT = 300;
+
+    private final List<Item> items = new ArrayList<>();
+    private final List<Bom> boms = new ArrayList<>();
+    private WorkingDayCalendar calendar;
+    private ItemRepository itemRepository;
+    private MrpNetChangeTracker netChangeTracker;
+    private MrpService service;
+
+    @BeforeEach
+    void setUp() {
+        // 製品 P = 半製品 S × 2 + 材料 M × 1、半製品 S = 材料 M × 3（製品ごとに半製品を持つ）
+        items.add(Item.builder().itemCode("M").minLotSize(new BigDecimal("50")).build());
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            String product = String.format("P%03d", i);
+            String semi = String.format("S%03d", i);
+            items.add(Item.builder().itemCode(product).leadTime(i % 4).build());
+            items.add(Item.builder()
+                .itemCode(semi)
+                .leadTime(i % 3)
+                .yieldRate(new BigDecimal(90 + i % 10))
+                .lotIncrement(new BigDecimal("5"))
+                .build());
+            boms.add(bom(product, semi, "2"));
+            boms.add(bom(product, "M", "1"));
+            boms.add(bom(semi, "M", "3"));
+        }
+        calendar = WorkingDayCalendar.of(null, 1L, List.of(), START.minusDays(60), END);
+
+        itemRepository = mock(ItemRepository.class);
+        when(itemRepository.findAll()).thenReturn(items);
+        when(itemRepository.findChangeStamp()).thenReturn("1");
+        BomRepository bomRepository = mock(BomRepository.class);
+        when(bomRepository.findAll()).thenReturn(boms);
+        when(bomRepository.findChangeStamp()).thenReturn("1");
+        MrpSupplyDemandLoader loader = mock(MrpSupplyDemandLoader.class);
+        doAnswer(invocation -> {
+            loadDemands(invocation.getArgument(0));
+            return null;
+        }).when(loader).loadAll(any());
+        WorkingCalendarIndex calendarIndex = mock(WorkingCalendarIndex.class);
+        when(calendarIndex.get(anyString(), any(), any())).thenReturn(calendar);
+
+        netChangeTracker = new MrpNetChangeTracker();
+        service = new MrpService(itemRepository, bomRepository, new BomGraphCache(bomRepository), loader,
+            netChangeTracker, calendarIndex, "");
+    }
+
+    private static Bom bom(String parent, String child, String requiredQuantity) {
+        return Bom.builder()
+            .parentItemCode(parent)
+            .childItemCode(child)
+            .effectiveFrom(LocalDate.of(2025, 1, 1))
+            .requiredQuantity(new BigDecimal(requiredQuantity))
+            .build();
+    }
+
+    private static void loadDemands(MrpPlanner planner) {
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            String product = String.format("P%03d", i);
+            planner.addGrossRequirement(product, START.plusDays(14 + i % 30), new BigDecimal(1 + i % 17));
+            planner.addGrossRequirement(product, START.plusDays(40 + i % 20), new BigDecimal(3 + i % 5));
+            planner.addOnHand(String.format("S%03d", i), new BigDecimal(i % 6));
+        }
+        planner.addOnHand("M", new BigDecimal("100"));
+    }
+
+    @Test
+    @DisplayName("並列で計画したレベルの結果は、同じ入力を 1 品目ずつ順に計画した結果と一致する")
+    void shouldMatchSequentialPlanning() {
+        BomGraph graph = BomGraph.of(boms, List.of());
+        assertThat(graph.itemsAtLevel(1)).hasSizeGreaterThanOrEqualTo(256);
+
+        MrpResult result = service.execute(START, END);
+
+        Map<String, Item> itemMap = items.stream().collect(Collectors.toMap(Item::getItemCode, Function.identity()));
+        MrpPlanner planner = new MrpPlanner(graph, itemMap, START, END, calendar);
+        loadDemands(planner);
+        List<PlannedOrder> plannedOrders = new ArrayList<>();
+        List<ShortageItem> shortageItems = new ArrayList<>();
+        for (int level = 0; level < graph.levelCount(); level++) {
+            for (int index : graph.itemsAtLevel(level)) {
+                MrpPlanner.ItemPlan plan = planner.planItem(index);
+                planner.applyDependentDemands(plan.dependentDemands());
+                plannedOrders.addAll(plan.plannedOrders());
+                if (plan.shortageItem() != null) {
+                    shortageItems.add(plan.shortageItem());
+                }
+            }
+        }
+
+        assertThat(result.getPlannedOrders()).isNotEmpty().containsExactlyElementsOf(plannedOrders);
+        assertThat(result.getShortageItems()).containsExactlyElementsOf(shortageItems);
+    }
+
+    @Test
+    @DisplayName("並列で計画しても実行ごとに同じ順序・同じ数量の結果になる")
+    void shouldBeDeterministicAcrossRuns() {
+        MrpResult first = service.execute(START, END);
+        MrpResult second = service.execute(START, END);
+
+        assertThat(second.getPlannedOrders()).containsExactlyElementsOf(first.getPlannedOrders());
+        assertThat(second.getShortageItems()).containsExactlyElementsOf(first.getShortageItems());
+    }
+
+    @Test
+    @DisplayName("品目マスタが変わった場合、正味変更 MRP は前回計画の品目情報を使わず全件計画する")
+    void shouldPlanFullyWhenItemMasterChanges() {
+        service.execute(START, END);
+        netChangeTracker.markDirty("P000");
+        assertThat(service.executeNetChange(START, END).isNetChange()).isTrue();
+
+        when(itemRepository.findChangeStamp()).thenReturn("2");
+        netChangeTracker.markDirty("P000");
+        MrpResult result = service.executeNetChange(START, END);
+
+        assertThat(result.isNetChange()).isFalse();
+        assertThat(result.getReplannedItemCount()).isEqualTo(items.size());
+        assertThat(netChangeTracker.pendingCount()).isZero();
+    }
+}
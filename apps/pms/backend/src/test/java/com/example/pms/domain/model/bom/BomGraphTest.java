@@ -0,0 +1,169 @@
+package com.example.pms.domain.model.bom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * BomGraph のユニットテスト.
+ */
+@DisplayName("部品構成表グラフ")
+@SuppressWarnings("PMD.TooManyStaticImports")
+class BomGraphTest {
+
+    private static final LocalDate APR_1 = LocalDate.of(2025, 4, 1);
+    private static final LocalDate APR_10 = LocalDate.of(2025, 4, 10);
+
+    private static Bom.BomBuilder bom(String parent, String child, String requiredQuantity) {
+        return Bom.builder()
+            .parentItemCode(parent)
+            .childItemCode(child)
+            .effectiveFrom(APR_1)
+            .requiredQuantity(new BigDecimal(requiredQuantity));
+    }
+
+    /**
+     * 親品目から子品目への最初の辺を返す.
+     */
+    private static int edge(BomGraph graph, String parent, String child) {
+        int parentIndex = graph.indexOf(parent);
+        for (int edge = graph.childEdgeStart(parentIndex); edge < graph.childEdgeEnd(parentIndex); edge++) {
+            if (graph.itemCode(graph.edgeChild(edge)).equals(child)) {
+                return edge;
+            }
+        }
+        throw new AssertionError(parent + " -> " + child);
+    }
+
+    @Nested
+    @DisplayName("適用期間")
+    class Effectivity {
+
+        private final BomGraph graph = BomGraph.of(List.of(
+            bom("P", "OLD", "1").effectiveTo(APR_10).build(),
+            bom("P", "NEW", "1").effectiveFrom(APR_10).build()), List.of());
+
+        @Test
+        @DisplayName("適用開始日を含み、適用停止日は含まない")
+        void shouldExcludeEffectiveToDate() {
+            int edge = edge(graph, "P", "OLD");
+
+            assertThat(graph.isEffective(edge, APR_1.minusDays(1))).isFalse();
+            assertThat(graph.isEffective(edge, APR_1)).isTrue();
+            assertThat(graph.isEffective(edge, APR_10.minusDays(1))).isTrue();
+            assertThat(graph.isEffective(edge, APR_10)).isFalse();
+        }
+
+        @Test
+        @DisplayName("適用停止日に切り替わる構成は、停止日から新しい子品目だけを展開する")
+        void shouldSwitchChildOnEffectiveToDate() {
+            assertThat(graph.explode("P", BigDecimal.ONE, APR_10.minusDays(1)))
+                .extracting(BomExplosion::getChildItemCode).containsExactly("OLD");
+            assertThat(graph.explode("P", BigDecimal.ONE, APR_10))
+                .extracting(BomExplosion::getChildItemCode).containsExactly("NEW");
+        }
+    }
+
+    @Nested
+    @DisplayName("数量")
+    class Quantity {
+
+        @Test
+        @DisplayName("必要数量を基準数量で割り、辺の所要量には不良率を含める")
+        void shouldDivideByBaseQuantity() {
+            BomGraph graph = BomGraph.of(List.of(
+                bom("P", "A", "3").baseQuantity(new BigDecimal("2")).build(),
+                bom("P", "B", "3").baseQuantity(new BigDecimal("2")).defectRate(new BigDecimal("10")).build()),
+                List.of());
+
+            assertThat(graph.edgeQuantity(edge(graph, "P", "A"))).isEqualByComparingTo("1.5");
+            assertThat(graph.edgeQuantity(edge(graph, "P", "B"))).isEqualByComparingTo("1.65");
+        }
+
+        @Test
+        @DisplayName("全階層展開の累計数量は経路上の必要数量 / 基準数量を掛け合わせる")
+        void shouldMultiplyQuantitiesAlongPath() {
+            BomGraph graph = BomGraph.of(List.of(
+                bom("P", "S", "3").baseQuantity(new BigDecimal("2")).sequence(1).build(),
+                bom("S", "M", "4").sequence(1).build()), List.of());
+
+            assertThat(graph.explode("P", new BigDecimal("10"), APR_10))
+                .extracting(BomExplosion::getChildItemCode, BomExplosion::getLevel,
+                    e -> e.getTotalQuantity().intValueExact())
+                .containsExactly(tuple("S", 1, 15), tuple("M", 2, 60));
+            assertThat(graph.implode("M", BigDecimal.ONE, APR_10))
+                .extracting(BomExplosion::getParentItemCode, e -> e.getTotalQuantity().toPlainString())
+                .containsExactly(tuple("S", "4"), tuple("P", "6"));
+        }
+    }
+
+    @Nested
+    @DisplayName("低位レベルコード")
+    class LowLevelCode {
+
+        @Test
+        @DisplayName("複数の階層に現れる品目は最も深いレベルになり、構成にない品目は 0")
+        void shouldUseDeepestLevel() {
+            BomGraph graph = BomGraph.of(List.of(
+                bom("P", "S", "1").build(),
+                bom("P", "M", "1").build(),
+                bom("S", "M", "1").build()), List.of("X"));
+
+            assertThat(graph.lowLevelCode(graph.indexOf("P"))).isZero();
+            assertThat(graph.lowLevelCode(graph.indexOf("S"))).isEqualTo(1);
+            assertThat(graph.lowLevelCode(graph.indexOf("M"))).isEqualTo(2);
+            assertThat(graph.lowLevelCode(graph.indexOf("X"))).isZero();
+            assertThat(graph.levelCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("循環参照がある場合は構築できない")
+        void shouldRejectCycle() {
+            List<Bom> boms = List.of(
+                bom("A", "B", "1").build(),
+                bom("B", "C", "1").build(),
+                bom("C", "A", "1").build());
+
+            assertThatThrownBy(() -> BomGraph.of(boms, List.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("部品構成表に循環参照があります: ");
+        }
+    }
+
+    @Nested
+    @DisplayName("品目の追加")
+    class WithItems {
+
+        private final BomGraph graph = BomGraph.of(List.of(
+            bom("P", "S", "2").build(),
+            bom("S", "M", "3").build()), List.of());
+
+        @Test
+        @DisplayName("すべての品目が含まれていれば同じグラフを返す")
+        void shouldReturnSameGraphWhenNothingToAdd() {
+            assertThat(graph.withItems(List.of("M", "P"))).isSameAs(graph);
+        }
+
+        @Test
+        @DisplayName("構成に現れない品目を加え、構成と低位レベルコードは元のグラフと同じになる")
+        void shouldAddItemsWithoutChangingStructure() {
+            BomGraph added = graph.withItems(List.of("P", "X"));
+
+            assertThat(added.size()).isEqualTo(4);
+            assertThat(added.lowLevelCode(added.indexOf("X"))).isZero();
+            assertThat(added.lowLevelCode(added.indexOf("M"))).isEqualTo(2);
+            assertThat(added.explode("P", BigDecimal.ONE, APR_1))
+                .extracting(BomExplosion::getChildItemCode)
+                .containsExactlyElementsOf(graph.explode("P", BigDecimal.ONE, APR_1).stream()
+                    .map(BomExplosion::getChildItemCode).toList());
+        }
+    }
+}
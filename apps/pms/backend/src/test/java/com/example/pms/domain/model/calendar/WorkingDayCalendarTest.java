@@ -0,0 +1,186 @@
+package com.example.pms.domain.model.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * WorkingDayCalendar のユニットテスト.
+ */
+@DisplayName("稼働日カレンダの索引")
+class WorkingDayCalendarTest {
+
+    /** 展開開始日（火曜日）. */
+    private static final LocalDate FIRST = LocalDate.of(2025, 4, 1);
+    /** 展開終了日（水曜日）. */
+    private static final LocalDate LAST = LocalDate.of(2025, 4, 30);
+
+    /** 休日（水曜日）. */
+    private static final LocalDate APR_16 = LocalDate.of(2025, 4, 16);
+    /** 稼働時間未設定の半日稼働日（金曜日）. */
+    private static final LocalDate APR_18 = LocalDate.of(2025, 4, 18);
+    /** 6 時間の休日出勤日（土曜日）. */
+    private static final LocalDate APR_12 = LocalDate.of(2025, 4, 12);
+    /** 展開期間外の休日（水曜日）. */
+    private static final LocalDate MAY_7 = LocalDate.of(2025, 5, 7);
+
+    private static final List<WorkCalendar> DAYS = List.of(
+        day(APR_16, DateType.HOLIDAY, null),
+        day(APR_18, DateType.HALF_DAY, null),
+        day(APR_12, DateType.WORKING, "6"),
+        day(MAY_7, DateType.HOLIDAY, null));
+
+    private final WorkingDayCalendar calendar = WorkingDayCalendar.of("CAL", 1L, DAYS, FIRST, LAST);
+
+    private static WorkCalendar day(LocalDate date, DateType dateType, String workingHours) {
+        return WorkCalendar.builder()
+            .calendarCode("CAL")
+            .date(date)
+            .dateType(dateType)
+            .workingHours(workingHours == null ? null : new BigDecimal(workingHours))
+            .build();
+    }
+
+    @Nested
+    @DisplayName("日ごとの稼働時間")
+    class WorkingMinutes {
+
+        @Test
+        @DisplayName("登録のない平日は 8 時間、土日は休日になる")
+        void shouldApplyDefaultRules() {
+            assertThat(calendar.workingMinutes(LocalDate.of(2025, 4, 14))).isEqualTo(480);
+            assertThat(calendar.workingMinutes(LocalDate.of(2025, 4, 19))).isZero();
+            assertThat(calendar.workingMinutes(LocalDate.of(2025, 4, 20))).isZero();
+        }
+
+        @Test
+        @DisplayName("休日は 0 時間、稼働時間未設定の半日稼働日は 4 時間、稼働時間の登録があればそれを使う")
+        void shouldApplyRegisteredDays() {
+            assertThat(calendar.workingMinutes(APR_16)).isZero();
+            assertThat(calendar.isWorkingDay(APR_16)).isFalse();
+            assertThat(calendar.workingMinutes(APR_18)).isEqualTo(240);
+            assertThat(calendar.isWorkingDay(APR_18)).isTrue();
+            assertThat(calendar.workingMinutes(APR_12)).isEqualTo(360);
+            assertThat(calendar.isWorkingDay(APR_12)).isTrue();
+        }
+
+        @Test
+        @DisplayName("展開期間外の日付も登録内容と既定の規則で判定する")
+        void shouldJudgeDatesOutsideRange() {
+            assertThat(calendar.covers(MAY_7, MAY_7)).isFalse();
+            assertThat(calendar.isWorkingDay(MAY_7)).isFalse();
+            assertThat(calendar.workingMinutes(LocalDate.of(2025, 5, 10))).isZero();
+            assertThat(calendar.workingMinutes(LocalDate.of(2025, 3, 31))).isEqualTo(480);
+        }
+    }
+
+    @Nested
+    @DisplayName("稼働日数の加算")
+    class AddWorkingDays {
+
+        @Test
+        @DisplayName("正の稼働日数は翌日以降の稼働日を数え、休日と土日を飛ばす")
+        void shouldSkipHolidaysForward() {
+            assertThat(calendar.addWorkingDays(LocalDate.of(2025, 4, 15), 1)).isEqualTo(LocalDate.of(2025, 4, 17));
+            // 4/17, 4/18（半日）, (4/19, 4/20 土日), 4/21
+            assertThat(calendar.addWorkingDays(LocalDate.of(2025, 4, 15), 3)).isEqualTo(LocalDate.of(2025, 4, 21));
+        }
+
+        @Test
+        @DisplayName("負の稼働日数は前日以前の稼働日を数え、稼働時間のある土曜日も数える")
+        void shouldCountBackward() {
+            // 4/18（半日）, 4/17, (4/16 休日), 4/15, 4/14
+            assertThat(calendar.addWorkingDays(LocalDate.of(2025, 4, 21), -4)).isEqualTo(LocalDate.of(2025, 4, 14));
+            // (4/13 日曜), 4/12 休日出勤, 4/11
+            assertThat(calendar.minusWorkingDays(LocalDate.of(2025, 4, 14), 2)).isEqualTo(LocalDate.of(2025, 4, 11));
+        }
+
+        @Test
+        @DisplayName("0 の場合は基準日が休日でもそのまま返す")
+        void shouldReturnSameDateForZero() {
+            assertThat(calendar.addWorkingDays(APR_16, 0)).isEqualTo(APR_16);
+        }
+
+        @Test
+        @DisplayName("基準日が休日の場合も、前後の稼働日から数える")
+        void shouldCountFromHoliday() {
+            assertThat(calendar.addWorkingDays(APR_16, 1)).isEqualTo(LocalDate.of(2025, 4, 17));
+            assertThat(calendar.addWorkingDays(APR_16, -1)).isEqualTo(LocalDate.of(2025, 4, 15));
+        }
+
+        @Test
+        @DisplayName("展開期間をまたぐ場合は期間外を 1 日ずつ数え、期間外の休日も飛ばす")
+        void shouldStepOutsideRange() {
+            // 4/29, 4/30, 5/1, 5/2, (5/3 - 5/4 土日), 5/5, 5/6, (5/7 休日), 5/8
+            assertThat(calendar.addWorkingDays(LocalDate.of(2025, 4, 28), 7)).isEqualTo(LocalDate.of(2025, 5, 8));
+            // 4/1, 3/31, (3/29 - 3/30 土日), 3/28
+            assertThat(calendar.addWorkingDays(LocalDate.of(2025, 4, 2), -3)).isEqualTo(LocalDate.of(2025, 3, 28));
+            assertThat(calendar.addWorkingDays(LocalDate.of(2025, 5, 6), 1)).isEqualTo(LocalDate.of(2025, 5, 8));
+        }
+
+        @Test
+        @DisplayName("展開期間を広げた索引と期間外を 1 日ずつ数えた結果は一致する")
+        void shouldMatchWidenedCalendar() {
+            WorkingDayCalendar widened = calendar.widen(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 5, 31));
+
+            assertThat(widened.covers(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 5, 31))).isTrue();
+            for (int workingDays = -30; workingDays <= 30; workingDays++) {
+                assertThat(widened.addWorkingDays(LocalDate.of(2025, 4, 10), workingDays))
+                    .isEqualTo(calendar.addWorkingDays(LocalDate.of(2025, 4, 10), workingDays));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("期間の集計")
+    class Between {
+
+        @Test
+        @DisplayName("両端を含む稼働日数と稼働時間を返す")
+        void shouldSumWorkingDaysAndHours() {
+            LocalDate from = LocalDate.of(2025, 4, 14);
+            LocalDate to = LocalDate.of(2025, 4, 20);
+
+            // 4/14, 4/15, 4/17 が 8 時間、4/18 が 4 時間
+            assertThat(calendar.workingDaysBetween(from, to)).isEqualTo(4);
+            assertThat(calendar.workingMinutesBetween(from, to)).isEqualTo(28L * 60);
+            assertThat(calendar.workingHoursBetween(from, to)).isEqualByComparingTo("28");
+        }
+
+        @Test
+        @DisplayName("展開期間外にかかる期間も同じ規則で集計する")
+        void shouldSumOutsideRange() {
+            LocalDate from = LocalDate.of(2025, 4, 28);
+            LocalDate to = LocalDate.of(2025, 5, 9);
+            WorkingDayCalendar widened = calendar.widen(from, to);
+
+            // 4/28 - 5/9 の平日 10 日から 5/7 の休日を除く
+            assertThat(calendar.workingDaysBetween(from, to)).isEqualTo(9);
+            assertThat(calendar.workingMinutesBetween(from, to)).isEqualTo(9L * 480);
+            assertThat(widened.workingDaysBetween(from, to)).isEqualTo(9);
+            assertThat(widened.workingMinutesBetween(from, to)).isEqualTo(9L * 480);
+        }
+
+        @Test
+        @DisplayName("終了日が開始日より前の場合は 0")
+        void shouldReturnZeroForReversedRange() {
+            assertThat(calendar.workingDaysBetween(LAST, FIRST)).isZero();
+            assertThat(calendar.workingMinutesBetween(LAST, FIRST)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("展開終了日が展開開始日より前の場合は作成できない")
+    void shouldRejectReversedExpansionRange() {
+        assertThatThrownBy(() -> WorkingDayCalendar.of(null, 1L, List.of(), LAST, FIRST))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("展開終了日が展開開始日より前です: ");
+    }
+}
@@ -11,6 +11,7 @@ import com.example.pms.domain.model.purchase.PurchaseOrderStatus;
 import com.example.pms.domain.model.supplier.Supplier;
 import com.example.pms.infrastructure.report.ExcelReportGenerator;
 import com.example.pms.infrastructure.report.PdfReportGenerator;
+import com.example.pms.infrastructure.report.ReportWriter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 発注業務画面コントローラーテスト.
@@ -193,26 +195,39 @@ class PurchaseOrderWebControllerTest {
         @DisplayName("Excel で出力できる")
         void shouldExportExcel() throws Exception {
             PurchaseOrder order = createTestOrder("PO-001", PurchaseOrderStatus.CREATING);
-            Mockito.when(purchaseOrderUseCase.getAllOrders()).thenReturn(List.of(order));
-            Mockito.when(excelReportGenerator.generatePurchaseOrderList(ArgumentMatchers.anyList()))
-                .thenReturn(new byte[]{1, 2, 3});
+            ReportWriter<PurchaseOrder> writer = mockWriter();
+            Mockito.when(excelReportGenerator.openPurchaseOrderList(ArgumentMatchers.any()))
+                .thenReturn(writer);
+            Mockito.doAnswer(invocation -> {
+                Consumer<PurchaseOrder> action = invocation.getArgument(1);
+                action.accept(order);
+                return null;
+            }).when(purchaseOrderUseCase).forEachOrder(ArgumentMatchers.isNull(), ArgumentMatchers.any());
 
             mockMvc.perform(MockMvcRequestBuilders.get("/purchase-orders/export/excel"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.header().exists("Content-Disposition"));
+
+            Mockito.verify(writer).write(order);
+            Mockito.verify(writer).close();
         }
 
         @Test
         @DisplayName("PDF で出力できる")
         void shouldExportPdf() throws Exception {
-            PurchaseOrder order = createTestOrder("PO-001", PurchaseOrderStatus.CREATING);
-            Mockito.when(purchaseOrderUseCase.getAllOrders()).thenReturn(List.of(order));
-            Mockito.when(pdfReportGenerator.generatePurchaseOrderList(ArgumentMatchers.anyList()))
-                .thenReturn(new byte[]{1, 2, 3});
+            ReportWriter<PurchaseOrder> writer = mockWriter();
+            Mockito.when(pdfReportGenerator.openPurchaseOrderList(ArgumentMatchers.any()))
+                .thenReturn(writer);
 
-            mockMvc.perform(MockMvcRequestBuilders.get("/purchase-orders/export/pdf"))
+            mockMvc.perform(MockMvcRequestBuilders.get("/purchase-orders/export/pdf")
+                    .param("status", "ORDERED"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.header().exists("Content-Disposition"));
+                .andExpect(MockMvcResultMatchers.header().exists("Content-Disposition"))
+                .andExpect(MockMvcResultMatchers.content().contentType("application/pdf"));
+
+            Mockito.verify(purchaseOrderUseCase).forEachOrder(
+                ArgumentMatchers.eq(PurchaseOrderStatus.ORDERED), ArgumentMatchers.any());
+            Mockito.verify(writer).close();
         }
 
         @Test
@@ -230,6 +245,11 @@ class PurchaseOrderWebControllerTest {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private ReportWriter<PurchaseOrder> mockWriter() {
+        return Mockito.mock(ReportWriter.class);
+    }
+
     private PurchaseOrder createTestOrder(String orderNumber, PurchaseOrderStatus status) {
         return PurchaseOrder.builder()
             .id(1)
@@ -3,6 +3,7 @@ package com.example.pms.infrastructure.out.persistence.repository;
 import com.example.pms.application.port.out.LotCompositionRepository;
 import com.example.pms.application.port.out.LotMasterRepository;
 import com.example.pms.domain.model.quality.LotComposition;
+import com.example.pms.domain.model.quality.LotGenealogyStamp;
 import com.example.pms.domain.model.quality.LotMaster;
 import com.example.pms.domain.model.quality.LotType;
 import com.example.pms.testsetup.BaseIntegrationTest;
@@ -130,6 +131,22 @@ class LotCompositionRepositoryImplTest extends BaseIntegrationTest {
             List<LotComposition> found = lotCompositionRepository.findByParentLotNumber(parentLotNumber);
             assertThat(found).hasSize(2);
         }
+
+        @Test
+        @DisplayName("変更スタンプはロット構成の登録で件数と最大IDが進む")
+        void canFindGenealogyStamp() {
+            LotGenealogyStamp before = lotCompositionRepository.findGenealogyStamp();
+            assertThat(before.lotCount()).isEqualTo(3);
+            assertThat(before.compositionCount()).isZero();
+
+            LotComposition composition = createLotComposition(parentLotNumber, childLotNumber1, BigDecimal.TEN);
+            lotCompositionRepository.save(composition);
+
+            LotGenealogyStamp after = lotCompositionRepository.findGenealogyStamp();
+            assertThat(after.maxCompositionId()).isEqualTo(composition.getId());
+            assertThat(after.isCompositionInsertAfter(before, composition.getId())).isTrue();
+            assertThat(after.isLotInsertAfter(before)).isFalse();
+        }
     }
 
     @Nested
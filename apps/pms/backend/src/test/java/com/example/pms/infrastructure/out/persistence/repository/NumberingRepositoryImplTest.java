@@ -0,0 +1,155 @@
+package com.example.pms.infrastructure.out.persistence.repository;
+
+import com.example.pms.application.port.out.NumberingRepository;
+import com.example.pms.application.service.DocumentNumberAllocator;
+import com.example.pms.testsetup.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 採番リポジトリテスト.
+ */
+@DisplayName("採番リポジトリ")
+class NumberingRepositoryImplTest extends BaseIntegrationTest {
+
+    private static final String CODE = "MPS";
+    /** 他のテストの採番と重ならない期間. */
+    private static final String PERIOD = "29991231";
+    private static final String NEXT_PERIOD = "30000101";
+
+    @Autowired
+    private NumberingRepository numberingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM \"採番履歴データ\" WHERE \"採番コード\" = ? AND \"採番年月\" IN (?, ?)",
+                CODE, PERIOD, NEXT_PERIOD);
+    }
+
+    private Long lastNumber(String period) {
+        return jdbcTemplate.queryForObject(
+                "SELECT \"最終番号\" FROM \"採番履歴データ\" WHERE \"採番コード\" = ? AND \"採番年月\" = ?",
+                Long.class, CODE, period);
+    }
+
+    @Nested
+    @DisplayName("番号の確保")
+    class Reservation {
+
+        @Test
+        @DisplayName("初回は採番履歴を作成し、以降は最終番号に件数を加算する")
+        void canReserveNumbers() {
+            assertThat(numberingRepository.reserveNumbers(CODE, PERIOD, 20)).isEqualTo(20);
+            assertThat(numberingRepository.reserveNumbers(CODE, PERIOD, 5)).isEqualTo(25);
+            assertThat(lastNumber(PERIOD)).isEqualTo(25);
+        }
+    }
+
+    @Nested
+    @DisplayName("伝票番号の採番")
+    class Allocation {
+
+        @Test
+        @DisplayName("ブロックを使い切ると次のブロックを確保して連番を続ける")
+        void shouldRefillBlock() {
+            DocumentNumberAllocator allocator = new DocumentNumberAllocator(numberingRepository);
+
+            List<Long> numbers = IntStream.range(0, 21).mapToObj(i -> allocator.next(CODE, PERIOD)).toList();
+
+            assertThat(numbers).containsExactlyElementsOf(LongStream.rangeClosed(1, 21).boxed().toList());
+            assertThat(lastNumber(PERIOD)).isEqualTo(40);
+        }
+
+        @Test
+        @DisplayName("期間が変わると 1 から採番し、前の期間のブロックの残りは欠番にする")
+        void shouldRollOverPeriod() {
+            DocumentNumberAllocator allocator = new DocumentNumberAllocator(numberingRepository);
+
+            assertThat(allocator.next(CODE, PERIOD)).isEqualTo(1);
+            assertThat(allocator.next(CODE, PERIOD)).isEqualTo(2);
+            assertThat(allocator.next(CODE, NEXT_PERIOD)).isEqualTo(1);
+            assertThat(allocator.next(CODE, PERIOD)).isEqualTo(21);
+        }
+
+        @Test
+        @DisplayName("初回確保が他のプロセスと競合して一意制約違反になった場合は、作成済みの履歴に加算して確保し直す")
+        void shouldRetryOnDuplicateKey() {
+            AtomicInteger calls = new AtomicInteger();
+            NumberingRepository racing = (numberingCode, period, count) -> {
+                if (calls.getAndIncrement() == 0) {
+                    // 他のプロセスが先に同じ期間の採番履歴を作成した
+                    numberingRepository.reserveNumbers(numberingCode, period, count);
+                    throw new DuplicateKeyException("採番履歴データ");
+                }
+                return numberingRepository.reserveNumbers(numberingCode, period, count);
+            };
+
+            assertThat(new DocumentNumberAllocator(racing).next(CODE, PERIOD)).isEqualTo(21);
+            assertThat(calls).hasValue(2);
+            assertThat(lastNumber(PERIOD)).isEqualTo(40);
+        }
+
+        @Test
+        @DisplayName("複数プロセス・複数スレッドから同時に採番しても番号が重複しない")
+        @SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidInstantiatingObjectsInLoops"})
+        void shouldNotDuplicateUnderConcurrency() throws Exception {
+            int processes = 3;
+            int threads = 12;
+            int perThread = 50;
+            List<DocumentNumberAllocator> allocators = IntStream.range(0, processes)
+                    .mapToObj(i -> new DocumentNumberAllocator(numberingRepository))
+                    .toList();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            try {
+                for (int t = 0; t < threads; t++) {
+                    DocumentNumberAllocator allocator = allocators.get(t % processes);
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        List<Long> numbers = new ArrayList<>();
+                        for (int i = 0; i < perThread; i++) {
+                            numbers.add(allocator.next(CODE, PERIOD));
+                        }
+                        return numbers;
+                    }));
+                }
+                start.countDown();
+
+                Set<Long> allocated = new HashSet<>();
+                for (Future<List<Long>> future : futures) {
+                    allocated.addAll(future.get(30, TimeUnit.SECONDS));
+                }
+
+                long last = lastNumber(PERIOD);
+                assertThat(allocated).hasSize(threads * perThread);
+                assertThat(allocated).allSatisfy(number -> assertThat(number).isBetween(1L, last));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -164,6 +165,21 @@ class PurchaseOrderRepositoryImplTest extends BaseIntegrationTest {
             // Assert
             assertThat(all).hasSize(3);
         }
+
+        @Test
+        @DisplayName("カーソルで 1 件ずつ読み出せる")
+        void canStreamByStatus() {
+            // Act
+            List<PurchaseOrder> creating = new ArrayList<>();
+            purchaseOrderRepository.forEachByStatus(PurchaseOrderStatus.CREATING, creating::add);
+            List<PurchaseOrder> all = new ArrayList<>();
+            purchaseOrderRepository.forEachByStatus(null, all::add);
+
+            // Assert
+            assertThat(creating).hasSize(2);
+            assertThat(creating).allMatch(po -> po.getStatus() == PurchaseOrderStatus.CREATING);
+            assertThat(all).hasSize(3);
+        }
     }
 
     @Nested
@@ -77,6 +77,48 @@ class StandardCostRepositoryImplTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("一括登録")
+    class BatchRegistration {
+        @Test
+        @DisplayName("複数の標準原価をまとめて登録できる")
+        void canSaveAll() {
+            repository.saveAll(List.of(
+                    createStandardCost("ITEM001", LocalDate.of(2024, 1, 1), null),
+                    createStandardCost("ITEM002", LocalDate.of(2024, 1, 1), null)));
+
+            assertThat(repository.findAll()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("適用日時点で有効な標準原価を前日で締められる")
+        void canCloseByItemCodes() {
+            repository.save(createStandardCost("ITEM001", LocalDate.of(2024, 1, 1), null));
+            repository.save(createStandardCost("ITEM002", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31)));
+
+            int updated = repository.closeByItemCodes(List.of("ITEM001", "ITEM002"), LocalDate.of(2024, 7, 1));
+
+            assertThat(updated).isEqualTo(1);
+            StandardCost closed = repository.findByItemCode("ITEM001").get(0);
+            assertThat(closed.getEffectiveEndDate()).isEqualTo(LocalDate.of(2024, 6, 30));
+            assertThat(closed.getVersion()).isEqualTo(2);
+            assertThat(repository.findByItemCode("ITEM002").get(0).getEffectiveEndDate())
+                    .isEqualTo(LocalDate.of(2024, 3, 31));
+        }
+
+        @Test
+        @DisplayName("適用開始日が一致する標準原価を削除できる")
+        void canDeleteByItemCodesAndStartDate() {
+            repository.save(createStandardCost("ITEM001", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30)));
+            repository.save(createStandardCost("ITEM001", LocalDate.of(2024, 7, 1), null));
+
+            int deleted = repository.deleteByItemCodesAndStartDate(List.of("ITEM001"), LocalDate.of(2024, 7, 1));
+
+            assertThat(deleted).isEqualTo(1);
+            assertThat(repository.findByItemCode("ITEM001")).hasSize(1);
+        }
+    }
+
     @Nested
     @DisplayName("検索")
     class Search {
@@ -0,0 +1,181 @@
+package com.example.pms.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.pms.application.port.out.BomRepository;
+import com.example.pms.application.service.BomGraphCache;
+import com.example.pms.domain.model.bom.BomExplosion;
+import com.example.pms.domain.model.bom.BomGraph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 部品構成表グラフキャッシュ統合テスト.
+ */
+@DisplayName("部品構成表グラフキャッシュ統合テスト")
+class BomGraphCacheIntegrationTest extends IntegrationTestBase {
+
+    private final LocalDate today = LocalDate.now();
+
+    @Autowired
+    private BomGraphCache bomGraphCache;
+
+    @Autowired
+    private BomRepository bomRepository;
+
+    @BeforeEach
+    void setUp() {
+        createUnit("個", "個", "個");
+        createItem("TEST-GPROD", "テスト製品", "製品");
+        createItem("TEST-GMAT1", "テスト材料1", "材料");
+        createItem("TEST-GMAT2", "テスト材料2", "材料");
+        createItem("TEST-GSEMI", "テスト半製品", "半製品");
+        cleanupBomData();
+        createBom("TEST-GMAT1", "2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupBomData();
+    }
+
+    private void cleanupBomData() {
+        jdbcTemplate.execute("DELETE FROM \"部品構成表\" WHERE \"親品目コード\" LIKE 'TEST%'");
+    }
+
+    private void createBom(String childItemCode, String requiredQuantity) {
+        jdbcTemplate.update(
+                "INSERT INTO \"部品構成表\" (\"親品目コード\", \"子品目コード\", \"適用開始日\", \"基準数量\", "
+                        + "\"必要数量\", \"不良率\", \"工順\") VALUES (?, ?, ?, ?, ?, ?, ?)",
+                "TEST-GPROD", childItemCode, today, BigDecimal.ONE, new BigDecimal(requiredQuantity),
+                BigDecimal.ZERO, 1
+        );
+    }
+
+    private void insertBom(String parentItemCode, String childItemCode, LocalDate effectiveFrom,
+                           LocalDate effectiveTo, String baseQuantity, String requiredQuantity) {
+        jdbcTemplate.update(
+                "INSERT INTO \"部品構成表\" (\"親品目コード\", \"子品目コード\", \"適用開始日\", \"適用停止日\", "
+                        + "\"基準数量\", \"必要数量\", \"不良率\", \"工順\") VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                parentItemCode, childItemCode, effectiveFrom, effectiveTo, new BigDecimal(baseQuantity),
+                new BigDecimal(requiredQuantity), BigDecimal.ZERO, 1
+        );
+    }
+
+    private static List<BomExplosion> explode(BomGraph graph) {
+        return graph.explode("TEST-GPROD", BigDecimal.ONE, LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("変更スタンプが変わらなければ同じグラフを返す")
+    void shouldReuseGraphWhileStampIsUnchanged() {
+        BomGraph first = bomGraphCache.get();
+
+        assertThat(bomGraphCache.get()).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("SQL で直接行を追加すると件数が変わり、グラフを再構築する")
+    void shouldRebuildWhenRowIsAdded() {
+        BomGraph before = bomGraphCache.get();
+        createBom("TEST-GMAT2", "5");
+
+        BomGraph after = bomGraphCache.get();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(explode(after)).extracting(BomExplosion::getChildItemCode)
+                .containsExactly("TEST-GMAT1", "TEST-GMAT2");
+    }
+
+    @Test
+    @DisplayName("SQL で直接行を更新すると最終更新日時が変わり、グラフを再構築する")
+    void shouldRebuildWhenRowIsUpdated() {
+        BomGraph before = bomGraphCache.get();
+        jdbcTemplate.update(
+                "UPDATE \"部品構成表\" SET \"必要数量\" = ?, \"更新日時\" = CURRENT_TIMESTAMP + INTERVAL '1 day' "
+                        + "WHERE \"親品目コード\" = ?",
+                new BigDecimal("7"), "TEST-GPROD"
+        );
+
+        BomGraph after = bomGraphCache.get();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(explode(after)).singleElement()
+                .satisfies(row -> assertThat(row.getTotalQuantity()).isEqualByComparingTo("7"));
+    }
+
+    @Test
+    @DisplayName("破棄すると変更スタンプが同じでも再構築する")
+    void shouldRebuildAfterInvalidate() {
+        BomGraph before = bomGraphCache.get();
+        bomGraphCache.invalidate();
+
+        BomGraph after = bomGraphCache.get();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(explode(after)).singleElement()
+                .satisfies(row -> assertThat(row.getTotalQuantity()).isEqualByComparingTo("2"));
+    }
+
+    @Test
+    @DisplayName("基準数量 1・適用中・停止日なしの構成は、旧 SQL（再帰 CTE）の展開と同じ結果になる")
+    void shouldMatchRecursiveQueryForCurrentStructure() {
+        insertBom("TEST-GPROD", "TEST-GSEMI", today.minusDays(30), null, "1", "3");
+        insertBom("TEST-GSEMI", "TEST-GMAT2", today.minusDays(30), today.plusDays(1), "1", "4");
+
+        List<BomExplosion> expected = bomRepository.explode("TEST-GPROD", BigDecimal.TEN);
+        List<BomExplosion> actual = bomGraphCache.get().explode("TEST-GPROD", BigDecimal.TEN, today);
+
+        assertThat(actual)
+                .extracting(BomExplosion::getParentItemCode, BomExplosion::getChildItemCode, BomExplosion::getLevel,
+                        e -> e.getTotalQuantity().stripTrailingZeros().toPlainString())
+                .containsExactlyElementsOf(expected.stream()
+                        .map(e -> tuple(e.getParentItemCode(), e.getChildItemCode(), e.getLevel(),
+                                e.getTotalQuantity().stripTrailingZeros().toPlainString()))
+                        .toList())
+                .containsExactly(
+                        tuple("TEST-GPROD", "TEST-GMAT1", 1, "20"),
+                        tuple("TEST-GPROD", "TEST-GSEMI", 1, "30"),
+                        tuple("TEST-GSEMI", "TEST-GMAT2", 2, "120"));
+        assertThat(actual).allSatisfy(e -> assertThat(e.getTotalQuantity().scale()).isNotNegative());
+    }
+
+    @Test
+    @DisplayName("旧 SQL と異なり、適用停止日当日・適用開始前の構成は展開せず、累計数量は基準数量で割る")
+    void shouldDifferFromRecursiveQueryOnEffectivityAndBaseQuantity() {
+        // 当日で停止する構成（旧 SQL は停止日当日も展開していた）
+        insertBom("TEST-GPROD", "TEST-GMAT2", today.minusDays(30), today, "1", "5");
+        // 明日から適用する構成（旧 SQL は適用開始日を見ていなかった）
+        insertBom("TEST-GPROD", "TEST-GSEMI", today.plusDays(1), null, "1", "3");
+        // 基準数量 2 の構成（旧 SQL は基準数量で割っていなかった）
+        insertBom("TEST-GSEMI", "TEST-GMAT1", today.minusDays(30), null, "2", "4");
+
+        assertThat(bomRepository.explode("TEST-GPROD", BigDecimal.ONE))
+                .extracting(BomExplosion::getChildItemCode, BomExplosion::getLevel,
+                        e -> e.getTotalQuantity().stripTrailingZeros().toPlainString())
+                .containsExactly(
+                        tuple("TEST-GMAT1", 1, "2"),
+                        tuple("TEST-GMAT2", 1, "5"),
+                        tuple("TEST-GSEMI", 1, "3"),
+                        tuple("TEST-GMAT1", 2, "12"));
+        assertThat(bomGraphCache.get().explode("TEST-GPROD", BigDecimal.ONE, today))
+                .extracting(BomExplosion::getChildItemCode, BomExplosion::getLevel,
+                        e -> e.getTotalQuantity().toPlainString())
+                .containsExactly(tuple("TEST-GMAT1", 1, "2"));
+        assertThat(bomGraphCache.get().explode("TEST-GPROD", BigDecimal.ONE, today.plusDays(1)))
+                .extracting(BomExplosion::getChildItemCode, BomExplosion::getLevel,
+                        e -> e.getTotalQuantity().toPlainString())
+                .containsExactly(
+                        tuple("TEST-GMAT1", 1, "2"),
+                        tuple("TEST-GSEMI", 1, "3"),
+                        tuple("TEST-GMAT1", 2, "6"));
+    }
+}
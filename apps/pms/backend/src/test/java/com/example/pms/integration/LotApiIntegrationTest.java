@@ -0,0 +1,169 @@
+package com.example.pms.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.pms.infrastructure.in.rest.dto.CreateLotCompositionRequest;
+import com.example.pms.infrastructure.in.rest.dto.LotCompositionResponse;
+import com.example.pms.infrastructure.in.rest.dto.LotTraceResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ロットトレーサビリティ API 統合テスト.
+ */
+@DisplayName("ロットトレーサビリティ API 統合テスト")
+@SuppressWarnings("PMD.TooManyStaticImports")
+class LotApiIntegrationTest extends IntegrationTestBase {
+
+    private static final String API_PATH = "/api/lots";
+
+    @BeforeEach
+    void setUp() {
+        cleanupLotData();
+        // 材料ロット -> 半製品ロット -> 製品ロット1・2（製品ロット1は材料ロットも直接使用）
+        createLot("TEST-LOT-MAT", "TEST-MAT001", "購入ロット", "100");
+        createLot("TEST-LOT-SEMI", "TEST-SEMI001", "製造ロット", "50");
+        createLot("TEST-LOT-PROD1", "TEST-PROD001", "製造ロット", "10");
+        createLot("TEST-LOT-PROD2", "TEST-PROD001", "製造ロット", "10");
+        createComposition("TEST-LOT-SEMI", "TEST-LOT-MAT", "40");
+        createComposition("TEST-LOT-PROD1", "TEST-LOT-SEMI", "20");
+        createComposition("TEST-LOT-PROD2", "TEST-LOT-SEMI", "30");
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupLotData();
+    }
+
+    private void cleanupLotData() {
+        jdbcTemplate.execute("DELETE FROM \"ロット構成\" WHERE \"親ロット番号\" LIKE 'TEST%'");
+        jdbcTemplate.execute("DELETE FROM \"ロットマスタ\" WHERE \"ロット番号\" LIKE 'TEST%'");
+    }
+
+    private void createLot(String lotNumber, String itemCode, String lotType, String quantity) {
+        jdbcTemplate.update(
+                "INSERT INTO \"ロットマスタ\" (\"ロット番号\", \"品目コード\", \"ロット種別\", \"数量\") "
+                        + "VALUES (?, ?, ?, ?)",
+                lotNumber, itemCode, lotType, new BigDecimal(quantity)
+        );
+    }
+
+    private LotCompositionResponse createComposition(String parentLotNumber, String childLotNumber,
+                                                     String usedQuantity) {
+        CreateLotCompositionRequest request = new CreateLotCompositionRequest();
+        request.setParentLotNumber(parentLotNumber);
+        request.setChildLotNumber(childLotNumber);
+        request.setUsedQuantity(new BigDecimal(usedQuantity));
+        return getRestClient()
+                .post()
+                .uri(API_PATH + "/compositions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(LotCompositionResponse.class);
+    }
+
+    private LotTraceResponse trace(String lotNumber, String direction) {
+        return getRestClient()
+                .get()
+                .uri(API_PATH + "/" + lotNumber + "/trace?direction=" + direction)
+                .retrieve()
+                .body(LotTraceResponse.class);
+    }
+
+    private static Map<String, LotTraceResponse.Node> byLotNumber(LotTraceResponse trace) {
+        return trace.getNodes().stream()
+                .collect(Collectors.toMap(LotTraceResponse.Node::getLotNumber, n -> n));
+    }
+
+    @Nested
+    @DisplayName("ロット追跡")
+    class Trace {
+
+        @Test
+        @DisplayName("材料ロットから全階層の製品ロットと含まれる数量をたどれる")
+        void shouldTraceForward() {
+            LotTraceResponse trace = trace("TEST-LOT-MAT", "FORWARD");
+
+            Map<String, LotTraceResponse.Node> nodes = byLotNumber(trace);
+            assertThat(nodes).containsOnlyKeys("TEST-LOT-SEMI", "TEST-LOT-PROD1", "TEST-LOT-PROD2");
+            assertThat(nodes.get("TEST-LOT-SEMI").getLevel()).isEqualTo(1);
+            assertThat(nodes.get("TEST-LOT-SEMI").getQuantity()).isEqualByComparingTo("40");
+            assertThat(nodes.get("TEST-LOT-SEMI").isTerminal()).isFalse();
+            // 半製品ロット 50 のうち材料ロット分は 40: 20 × 40 / 50 = 16
+            assertThat(nodes.get("TEST-LOT-PROD1").getLevel()).isEqualTo(2);
+            assertThat(nodes.get("TEST-LOT-PROD1").getQuantity()).isEqualByComparingTo("16");
+            assertThat(nodes.get("TEST-LOT-PROD1").isTerminal()).isTrue();
+            assertThat(nodes.get("TEST-LOT-PROD2").getQuantity()).isEqualByComparingTo("24");
+        }
+
+        @Test
+        @DisplayName("製品ロットから材料ロットまでさかのぼれる")
+        void shouldTraceBackward() {
+            LotTraceResponse trace = trace("TEST-LOT-PROD1", "BACKWARD");
+
+            Map<String, LotTraceResponse.Node> nodes = byLotNumber(trace);
+            assertThat(nodes).containsOnlyKeys("TEST-LOT-SEMI", "TEST-LOT-MAT");
+            assertThat(nodes.get("TEST-LOT-SEMI").getQuantity()).isEqualByComparingTo("20");
+            assertThat(nodes.get("TEST-LOT-MAT").getLevel()).isEqualTo(2);
+            assertThat(nodes.get("TEST-LOT-MAT").getQuantity()).isEqualByComparingTo("16");
+            assertThat(nodes.get("TEST-LOT-MAT").getLotType()).isEqualTo("購入ロット");
+            assertThat(nodes.get("TEST-LOT-MAT").isTerminal()).isTrue();
+        }
+
+        @Test
+        @DisplayName("登録したロット構成が次の追跡に反映される")
+        void shouldReflectAddedComposition() {
+            trace("TEST-LOT-MAT", "FORWARD");
+
+            createComposition("TEST-LOT-PROD1", "TEST-LOT-MAT", "10");
+
+            Map<String, LotTraceResponse.Node> nodes = byLotNumber(trace("TEST-LOT-MAT", "FORWARD"));
+            assertThat(nodes.get("TEST-LOT-PROD1").getLevel()).isEqualTo(1);
+            assertThat(nodes.get("TEST-LOT-PROD1").getQuantity()).isEqualByComparingTo("26");
+        }
+
+        @Test
+        @DisplayName("存在しないロットを追跡すると404エラー")
+        void shouldReturn404WhenLotNotFound() {
+            assertThatThrownBy(() -> trace("TEST-LOT-NONE", "FORWARD"))
+                    .isInstanceOf(HttpClientErrorException.class)
+                    .satisfies(ex -> assertThat(((HttpClientErrorException) ex).getStatusCode())
+                            .isEqualTo(HttpStatus.NOT_FOUND));
+        }
+    }
+
+    @Nested
+    @DisplayName("ロット構成登録")
+    class CreateComposition {
+
+        @Test
+        @DisplayName("循環するロット構成は登録できない")
+        void shouldRejectCycle() {
+            assertThatThrownBy(() -> createComposition("TEST-LOT-MAT", "TEST-LOT-PROD1", "1"))
+                    .isInstanceOf(HttpClientErrorException.class)
+                    .satisfies(ex -> assertThat(((HttpClientErrorException) ex).getStatusCode())
+                            .isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+
+        @Test
+        @DisplayName("存在しないロットを指定すると404エラー")
+        void shouldReturn404WhenChildLotNotFound() {
+            assertThatThrownBy(() -> createComposition("TEST-LOT-PROD1", "TEST-LOT-NONE", "1"))
+                    .isInstanceOf(HttpClientErrorException.class)
+                    .satisfies(ex -> assertThat(((HttpClientErrorException) ex).getStatusCode())
+                            .isEqualTo(HttpStatus.NOT_FOUND));
+        }
+    }
+}
@@ -2,17 +2,22 @@ package com.example.pms.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.example.pms.application.port.in.MpsUseCase;
+import com.example.pms.domain.model.plan.MasterProductionSchedule;
 import com.example.pms.infrastructure.in.rest.dto.ExecuteMrpRequest;
 import com.example.pms.infrastructure.in.rest.dto.MrpResultResponse;
+import com.example.pms.infrastructure.in.rest.dto.MrpResultResponse.PlannedOrderResponse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * MRP API 統合テスト.
@@ -23,6 +28,9 @@ class MrpApiIntegrationTest extends IntegrationTestBase {
 
     private static final String API_PATH = "/api/mrp";
 
+    @Autowired
+    private MpsUseCase mpsUseCase;
+
     @BeforeEach
     void setUp() {
         createUnit("個", "個", "個");
@@ -45,6 +53,8 @@ class MrpApiIntegrationTest extends IntegrationTestBase {
     private void cleanupMrpData() {
         jdbcTemplate.execute("DELETE FROM \"部品構成表\" WHERE \"親品目コード\" LIKE 'TEST%'");
         jdbcTemplate.execute("DELETE FROM \"在庫情報\" WHERE \"品目コード\" LIKE 'TEST%'");
+        jdbcTemplate.execute("DELETE FROM \"基準生産計画\" WHERE \"品目コード\" LIKE 'TEST%'");
+        jdbcTemplate.execute("UPDATE \"品目マスタ\" SET \"歩留率\" = 100 WHERE \"品目コード\" = 'TEST-SEMI001'");
     }
 
     /**
@@ -73,6 +83,42 @@ class MrpApiIntegrationTest extends IntegrationTestBase {
                         + "ON CONFLICT (\"場所コード\", \"品目コード\") DO UPDATE SET \"在庫数量\" = EXCLUDED.\"在庫数量\"",
                 "TEST-LOC001", "TEST-MAT001", new BigDecimal("10"), new BigDecimal("10"), BigDecimal.ZERO, BigDecimal.ZERO
         );
+
+        // 半製品は歩留り 80%
+        jdbcTemplate.update(
+                "UPDATE \"品目マスタ\" SET \"歩留率\" = ? WHERE \"品目コード\" = ?",
+                new BigDecimal("80"), "TEST-SEMI001"
+        );
+
+        // 確定済みの基準生産計画: 製品 10 個を 14 日後に
+        jdbcTemplate.update(
+                "INSERT INTO \"基準生産計画\" (\"MPS番号\", \"計画日\", \"品目コード\", \"計画数量\", \"納期\", \"ステータス\") "
+                        + "VALUES (?, ?, ?, ?, ?, '確定'::\"計画ステータス\")",
+                "TEST-MPS001", today, "TEST-PROD001", new BigDecimal("10"), today.plusDays(14)
+        );
+    }
+
+    private MrpResultResponse executeMrp() {
+        return executeMrp("/execute");
+    }
+
+    private MrpResultResponse executeMrp(String path) {
+        ExecuteMrpRequest request = new ExecuteMrpRequest();
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusDays(30));
+        return getRestClient()
+                .post()
+                .uri(API_PATH + path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(MrpResultResponse.class);
+    }
+
+    private static List<PlannedOrderResponse> ordersOf(MrpResultResponse response, String itemCode) {
+        return response.getPlannedOrders().stream()
+                .filter(order -> itemCode.equals(order.getItemCode()))
+                .toList();
     }
 
     @Nested
@@ -82,24 +128,69 @@ class MrpApiIntegrationTest extends IntegrationTestBase {
         @Test
         @DisplayName("MRP を実行できる")
         void shouldExecuteMrp() {
-            ExecuteMrpRequest request = new ExecuteMrpRequest();
-            request.setStartDate(LocalDate.now());
-            request.setEndDate(LocalDate.now().plusDays(30));
-
-            MrpResultResponse response = getRestClient()
-                    .post()
-                    .uri(API_PATH + "/execute")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(request)
-                    .retrieve()
-                    .body(MrpResultResponse.class);
+            MrpResultResponse response = executeMrp();
 
             assertThat(response).isNotNull();
             assertThat(response.getExecutionTime()).isNotNull();
             assertThat(response.getPeriodStart()).isEqualTo(LocalDate.now());
             assertThat(response.getPeriodEnd()).isEqualTo(LocalDate.now().plusDays(30));
-            assertThat(response.getPlannedOrders()).isNotNull();
-            assertThat(response.getShortageItems()).isNotNull();
+            assertThat(response.isNetChange()).isFalse();
+        }
+
+        @Test
+        @DisplayName("基準生産計画を部品構成表で展開し、歩留りと在庫を考慮した計画オーダを作成する")
+        void shouldPlanOrdersThroughBom() {
+            MrpResultResponse response = executeMrp();
+            LocalDate dueDate = LocalDate.now().plusDays(14);
+
+            // 製品 10 → 半製品 20 を歩留り 80% で割り戻して 25 → 材料 25 × 3 = 75 から在庫 10 を引いて 65
+            assertThat(ordersOf(response, "TEST-PROD001")).singleElement().satisfies(order -> {
+                assertThat(order.getQuantity()).isEqualByComparingTo("10");
+                assertThat(order.getOrderType()).isEqualTo("MANUFACTURING");
+                assertThat(order.getDueDate()).isEqualTo(dueDate);
+                assertThat(order.getLowLevelCode()).isZero();
+            });
+            assertThat(ordersOf(response, "TEST-SEMI001")).singleElement().satisfies(order -> {
+                assertThat(order.getQuantity()).isEqualByComparingTo("25");
+                assertThat(order.getLowLevelCode()).isEqualTo(1);
+            });
+            assertThat(ordersOf(response, "TEST-MAT001")).singleElement().satisfies(order -> {
+                assertThat(order.getQuantity()).isEqualByComparingTo("65");
+                assertThat(order.getOrderType()).isEqualTo("PURCHASE");
+                assertThat(order.getLowLevelCode()).isEqualTo(2);
+            });
+            assertThat(response.getShortageItems())
+                    .filteredOn(item -> "TEST-MAT001".equals(item.getItemCode()))
+                    .singleElement()
+                    .satisfies(item -> assertThat(item.getShortageQuantity()).isEqualByComparingTo("65"));
+        }
+    }
+
+    @Nested
+    @DisplayName("正味変更 MRP")
+    class NetChange {
+
+        @Test
+        @DisplayName("基準生産計画の変更後の正味変更 MRP は全件計画と同じ結果になる")
+        void shouldMatchFullRegenerationAfterMpsChange() {
+            executeMrp();
+            MasterProductionSchedule mps = mpsUseCase.createMps(MasterProductionSchedule.builder()
+                    .planDate(LocalDate.now())
+                    .itemCode("TEST-PROD001")
+                    .planQuantity(new BigDecimal("6"))
+                    .dueDate(LocalDate.now().plusDays(21))
+                    .build());
+            mpsUseCase.confirmMps(mps.getMpsNumber());
+
+            MrpResultResponse netChange = executeMrp("/execute-net-change");
+            MrpResultResponse full = executeMrp();
+
+            // 変更品目の製品と、その下位の半製品・材料だけを再計画する
+            assertThat(netChange.isNetChange()).isTrue();
+            assertThat(netChange.getReplannedItemCount()).isEqualTo(3);
+            assertThat(ordersOf(netChange, "TEST-PROD001")).hasSize(2);
+            assertThat(netChange.getPlannedOrders()).containsExactlyElementsOf(full.getPlannedOrders());
+            assertThat(netChange.getShortageItems()).containsExactlyElementsOf(full.getShortageItems());
         }
     }
 
@@ -0,0 +1,179 @@
+package com.example.pms.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.pms.infrastructure.in.rest.dto.StandardCostRollupResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 標準原価 API 統合テスト.
+ */
+@DisplayName("標準原価 API 統合テスト")
+@SuppressWarnings("PMD.TooManyStaticImports")
+class StandardCostApiIntegrationTest extends IntegrationTestBase {
+
+    private static final String API_PATH = "/api/standard-costs";
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        createUnit("個", "個", "個");
+        createItem("TEST-CPROD", "テスト製品", "製品");
+        createItem("TEST-CSEMI", "テスト半製品", "半製品");
+        createItem("TEST-CMAT", "テスト材料", "材料");
+        createItem("TEST-CPART", "テスト部品", "部品");
+        cleanupCostData();
+        // 製品 = 半製品 × 2 + 部品 × 1、半製品 = 材料 × 3
+        createBom("TEST-CPROD", "TEST-CSEMI", "2", 1);
+        createBom("TEST-CPROD", "TEST-CPART", "1", 2);
+        createBom("TEST-CSEMI", "TEST-CMAT", "3", 1);
+        // 半製品は 6 分/個、製品は 30 分/個
+        createProcess("TEST-CP1", "テスト加工");
+        createRoute("TEST-CSEMI", "6");
+        createRoute("TEST-CPROD", "30");
+        // 材料は標準原価、部品は単価（安い方を採用）から積み上げる
+        createStandardCost("TEST-CMAT", LocalDate.of(2020, 1, 1), "100");
+        createStandardCost("TEST-CPROD", LocalDate.of(2020, 1, 1), "9999");
+        createUnitPrice("TEST-CPART", "TEST-SUP1", "50");
+        createUnitPrice("TEST-CPART", "TEST-SUP2", "70");
+        jdbcTemplate.update(
+                "INSERT INTO \"賃率マスタ\" (\"作業者区分コード\", \"作業者区分名\", \"適用開始日\", \"時間単価\") "
+                        + "VALUES (?, ?, ?, ?)",
+                "TEST-W1", "テスト作業者", LocalDate.of(2020, 1, 1), new BigDecimal("1200")
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupCostData();
+    }
+
+    private void cleanupCostData() {
+        jdbcTemplate.execute("DELETE FROM \"標準原価マスタ\" WHERE \"品目コード\" LIKE 'TEST%'");
+        jdbcTemplate.execute("DELETE FROM \"賃率マスタ\" WHERE \"作業者区分コード\" LIKE 'TEST%'");
+        jdbcTemplate.execute("DELETE FROM \"単価マスタ\" WHERE \"品目コード\" LIKE 'TEST%'");
+        jdbcTemplate.execute("DELETE FROM \"部品構成表\" WHERE \"親品目コード\" LIKE 'TEST%'");
+        jdbcTemplate.execute("DELETE FROM \"工程表\" WHERE \"品目コード\" LIKE 'TEST%'");
+        jdbcTemplate.execute("DELETE FROM \"工程マスタ\" WHERE \"工程コード\" LIKE 'TEST-CP%'");
+    }
+
+    private void createBom(String parentItemCode, String childItemCode, String requiredQuantity, int sequence) {
+        jdbcTemplate.update(
+                "INSERT INTO \"部品構成表\" (\"親品目コード\", \"子品目コード\", \"適用開始日\", \"基準数量\", "
+                        + "\"必要数量\", \"不良率\", \"工順\") VALUES (?, ?, ?, ?, ?, ?, ?)",
+                parentItemCode, childItemCode, today, BigDecimal.ONE, new BigDecimal(requiredQuantity),
+                BigDecimal.ZERO, sequence
+        );
+    }
+
+    private void createProcess(String processCode, String processName) {
+        jdbcTemplate.update(
+                "INSERT INTO \"工程マスタ\" (\"工程コード\", \"工程名\") VALUES (?, ?) ON CONFLICT DO NOTHING",
+                processCode, processName
+        );
+    }
+
+    private void createRoute(String itemCode, String standardTime) {
+        jdbcTemplate.update(
+                "INSERT INTO \"工程表\" (\"品目コード\", \"工順\", \"工程コード\", \"標準作業時間\", \"段取時間\") "
+                        + "VALUES (?, ?, ?, ?, ?)",
+                itemCode, 1, "TEST-CP1", new BigDecimal(standardTime), BigDecimal.ZERO
+        );
+    }
+
+    private void createStandardCost(String itemCode, LocalDate startDate, String materialCost) {
+        jdbcTemplate.update(
+                "INSERT INTO \"標準原価マスタ\" (\"品目コード\", \"適用開始日\", \"標準材料費\", \"標準労務費\", "
+                        + "\"標準経費\", \"標準製造原価\") VALUES (?, ?, ?, ?, ?, ?)",
+                itemCode, startDate, new BigDecimal(materialCost), BigDecimal.ZERO, BigDecimal.ZERO,
+                new BigDecimal(materialCost)
+        );
+    }
+
+    private void createUnitPrice(String itemCode, String supplierCode, String price) {
+        jdbcTemplate.update(
+                "INSERT INTO \"単価マスタ\" (\"品目コード\", \"取引先コード\", \"適用開始日\", \"単価\") "
+                        + "VALUES (?, ?, ?, ?)",
+                itemCode, supplierCode, LocalDate.of(2020, 1, 1), new BigDecimal(price)
+        );
+    }
+
+    private StandardCostRollupResponse rollUp(String workerCategoryCode) {
+        return getRestClient()
+                .post()
+                .uri(API_PATH + "/roll-up")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("effectiveDate", today.toString(), "workerCategoryCode", workerCategoryCode,
+                        "overheadRatePerHour", 600))
+                .retrieve()
+                .body(StandardCostRollupResponse.class);
+    }
+
+    private List<Map<String, Object>> findStandardCosts(String itemCode) {
+        return jdbcTemplate.queryForList(
+                "SELECT * FROM \"標準原価マスタ\" WHERE \"品目コード\" = ? ORDER BY \"適用開始日\"", itemCode);
+    }
+
+    @Nested
+    @DisplayName("標準原価の積上げ")
+    class RollUp {
+
+        @Test
+        @DisplayName("下位品目の原価と自工程の労務費・経費を積み上げて登録する")
+        void shouldRollUpThroughBom() {
+            StandardCostRollupResponse response = rollUp("TEST-W1");
+
+            assertThat(response.getHourlyRate()).isEqualByComparingTo("1200");
+            assertThat(response.getUncostedItemCodes()).doesNotContain("TEST-CMAT", "TEST-CPART");
+            // 半製品: 材料 100 × 3、労務費 0.1 時間 × 1200、経費 0.1 時間 × 600
+            Map<String, Object> semi = findStandardCosts("TEST-CSEMI").getFirst();
+            assertThat((BigDecimal) semi.get("標準材料費")).isEqualByComparingTo("300");
+            assertThat((BigDecimal) semi.get("標準労務費")).isEqualByComparingTo("120");
+            assertThat((BigDecimal) semi.get("標準経費")).isEqualByComparingTo("60");
+            // 製品: 半製品 × 2 + 部品 50、自工程 0.5 時間
+            Map<String, Object> product = findStandardCosts("TEST-CPROD").getLast();
+            assertThat(product.get("適用開始日").toString()).isEqualTo(today.toString());
+            assertThat((BigDecimal) product.get("標準材料費")).isEqualByComparingTo("650");
+            assertThat((BigDecimal) product.get("標準労務費")).isEqualByComparingTo("840");
+            assertThat((BigDecimal) product.get("標準経費")).isEqualByComparingTo("420");
+            assertThat((BigDecimal) product.get("標準製造原価")).isEqualByComparingTo("1910");
+        }
+
+        @Test
+        @DisplayName("有効だった標準原価を前日で締め、同じ適用日の積上げは置き換える")
+        void shouldCloseCurrentCostAndReplaceOnRerun() {
+            rollUp("TEST-W1");
+            rollUp("TEST-W1");
+
+            List<Map<String, Object>> costs = findStandardCosts("TEST-CPROD");
+            assertThat(costs).hasSize(2);
+            assertThat(costs.getFirst().get("適用終了日").toString()).isEqualTo(today.minusDays(1).toString());
+            assertThat(costs.getLast().get("適用終了日")).isNull();
+            // 購入品は積み上げの起点で、標準原価は登録しない
+            assertThat(findStandardCosts("TEST-CPART")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("賃率が見つからない場合は404エラー")
+        void shouldReturn404WhenWageRateNotFound() {
+            assertThatThrownBy(() -> rollUp("TEST-NONE"))
+                    .isInstanceOf(HttpClientErrorException.class)
+                    .satisfies(ex -> assertThat(((HttpClientErrorException) ex).getStatusCode())
+                            .isEqualTo(HttpStatus.NOT_FOUND));
+        }
+    }
+}
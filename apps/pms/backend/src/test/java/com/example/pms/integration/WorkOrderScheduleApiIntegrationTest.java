@@ -0,0 +1,201 @@
+package com.example.pms.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.pms.application.port.in.CalendarUseCase;
+import com.example.pms.application.port.in.command.CreateCalendarCommand;
+import com.example.pms.domain.model.calendar.DateType;
+import com.example.pms.infrastructure.in.rest.dto.WorkOrderScheduleResponse;
+import com.example.pms.infrastructure.in.rest.dto.WorkOrderScheduleResponse.ProcessLoadResponse;
+import com.example.pms.infrastructure.in.rest.dto.WorkOrderScheduleResponse.WorkOrderProposal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 作業指示の負荷計画 API 統合テスト.
+ */
+@DisplayName("作業指示の負荷計画 API 統合テスト")
+@SuppressWarnings("PMD.TooManyStaticImports")
+class WorkOrderScheduleApiIntegrationTest extends IntegrationTestBase {
+
+    private static final String API_PATH = "/api/work-orders/schedule";
+    /** 月曜日. */
+    private static final LocalDate START = LocalDate.of(2030, 1, 7);
+    private static final String CALENDAR_CODE = "TEST-CAL";
+
+    @Autowired
+    private CalendarUseCase calendarUseCase;
+
+    @BeforeEach
+    void setUp() {
+        createUnit("個", "個", "個");
+        createItem("TEST-SCH001", "テスト製品", "製品");
+        createLocation("TEST-LOC001", "テスト倉庫");
+        cleanupScheduleData();
+        createOrder("TEST-ORD001", "TEST-SCH001", "TEST-LOC001");
+        createProcess("TEST-P1", "テスト加工");
+        createProcess("TEST-P2", "テスト検査");
+        // 段取 60 分 + 3 分/個、検査は 1 分/個
+        createRoute(1, "TEST-P1", "3", "60");
+        createRoute(2, "TEST-P2", "1", "0");
+        // 作業指示1: 100 個、1/11 まで。作業指示2: 200 個、1/7 まで（1 日に収まらない）
+        createWorkOrder("TEST-WO001", "100", START.plusDays(4));
+        createWorkOrder("TEST-WO002", "200", START);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupScheduleData();
+    }
+
+    private void cleanupScheduleData() {
+        // 稼働日カレンダの索引も破棄されるようにユースケース経由で削除する
+        calendarUseCase.deleteCalendar(CALENDAR_CODE, START);
+        cleanupWorkOrderData();
+        cleanupOrderData();
+        jdbcTemplate.execute("DELETE FROM \"工程表\" WHERE \"品目コード\" LIKE 'TEST%'");
+        jdbcTemplate.execute("DELETE FROM \"工程マスタ\" WHERE \"工程コード\" LIKE 'TEST-P%'");
+    }
+
+    private void createProcess(String processCode, String processName) {
+        jdbcTemplate.update(
+                "INSERT INTO \"工程マスタ\" (\"工程コード\", \"工程名\") VALUES (?, ?) ON CONFLICT DO NOTHING",
+                processCode, processName
+        );
+    }
+
+    private void createRoute(int sequence, String processCode, String standardTime, String setupTime) {
+        jdbcTemplate.update(
+                "INSERT INTO \"工程表\" (\"品目コード\", \"工順\", \"工程コード\", \"標準作業時間\", \"段取時間\") "
+                        + "VALUES (?, ?, ?, ?, ?)",
+                "TEST-SCH001", sequence, processCode, new BigDecimal(standardTime), new BigDecimal(setupTime)
+        );
+    }
+
+    private void createWorkOrder(String workOrderNumber, String quantity, LocalDate plannedEndDate) {
+        jdbcTemplate.update(
+                "INSERT INTO \"作業指示データ\" (\"作業指示番号\", \"オーダ番号\", \"作業指示日\", \"品目コード\", "
+                        + "\"作業指示数\", \"場所コード\", \"開始予定日\", \"完成予定日\") "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                workOrderNumber, "TEST-ORD001", START, "TEST-SCH001", new BigDecimal(quantity), "TEST-LOC001",
+                START, plannedEndDate
+        );
+    }
+
+    private WorkOrderScheduleResponse schedule(String direction) {
+        return schedule(Map.of("direction", direction, "startDate", START.toString(), "horizonDays", 28));
+    }
+
+    private WorkOrderScheduleResponse schedule(Map<String, Object> request) {
+        return getRestClient()
+                .post()
+                .uri(API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(WorkOrderScheduleResponse.class);
+    }
+
+    private static Map<String, WorkOrderProposal> proposals(WorkOrderScheduleResponse response) {
+        return response.getWorkOrders().stream()
+                .collect(Collectors.toMap(WorkOrderProposal::getWorkOrderNumber, Function.identity()));
+    }
+
+    @Nested
+    @DisplayName("フォワード")
+    class Forward {
+
+        @Test
+        @DisplayName("期限の早い作業指示から工程の空きに順に割り付ける")
+        void shouldScheduleForwardWithFiniteCapacity() {
+            WorkOrderScheduleResponse response = schedule("FORWARD");
+
+            Map<String, WorkOrderProposal> proposals = proposals(response);
+            // 作業指示2: 加工 660 分（1/7〜1/8）→ 検査 200 分（1/8）
+            WorkOrderProposal second = proposals.get("TEST-WO002");
+            assertThat(second.getProposedStartDate()).isEqualTo(START);
+            assertThat(second.getProposedEndDate()).isEqualTo(START.plusDays(1));
+            assertThat(second.isLate()).isTrue();
+            // 作業指示1: 加工は作業指示2の後（1/8〜1/9）→ 検査 100 分（1/9）
+            WorkOrderProposal first = proposals.get("TEST-WO001");
+            assertThat(first.getProposedStartDate()).isEqualTo(START.plusDays(1));
+            assertThat(first.getProposedEndDate()).isEqualTo(START.plusDays(2));
+            assertThat(first.isLate()).isFalse();
+            assertThat(first.getOperations()).extracting("processCode").containsExactly("TEST-P1", "TEST-P2");
+            assertThat(first.getOperations().getFirst().getMinutes()).isEqualTo(360);
+        }
+
+        @Test
+        @DisplayName("工程別の日別負荷を返す")
+        void shouldReturnLoadChartPerProcess() {
+            WorkOrderScheduleResponse response = schedule("FORWARD");
+
+            ProcessLoadResponse load = response.getProcessLoads().stream()
+                    .filter(l -> "TEST-P1".equals(l.getProcessCode()))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(load.getProcessName()).isEqualTo("テスト加工");
+            assertThat(load.getLoadMinutes()).isEqualTo(1020);
+            assertThat(load.getDailyLoads().get(0).getLoadMinutes()).isEqualTo(480);
+            assertThat(load.getDailyLoads().get(0).getLoadRate()).isEqualByComparingTo("100");
+            assertThat(load.getDailyLoads().get(1).getLoadMinutes()).isEqualTo(480);
+            assertThat(load.getDailyLoads().get(2).getLoadMinutes()).isEqualTo(60);
+        }
+    }
+
+    @Nested
+    @DisplayName("バックワード")
+    class Backward {
+
+        @Test
+        @DisplayName("予定終了日から逆に割り付け、間に合わない作業指示はフォワードで計画する")
+        void shouldScheduleBackwardAndFallBackToForward() {
+            WorkOrderScheduleResponse response = schedule("BACKWARD");
+
+            Map<String, WorkOrderProposal> proposals = proposals(response);
+            WorkOrderProposal first = proposals.get("TEST-WO001");
+            assertThat(first.getProposedStartDate()).isEqualTo(START.plusDays(4));
+            assertThat(first.getProposedEndDate()).isEqualTo(START.plusDays(4));
+            assertThat(first.isLate()).isFalse();
+            WorkOrderProposal second = proposals.get("TEST-WO002");
+            assertThat(second.getProposedStartDate()).isEqualTo(START);
+            assertThat(second.getProposedEndDate()).isEqualTo(START.plusDays(1));
+            assertThat(second.isLate()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("カレンダ")
+    class Calendar {
+
+        private WorkOrderScheduleResponse scheduleWithCalendar() {
+            return schedule(Map.of("direction", "FORWARD", "startDate", START.toString(), "horizonDays", 28,
+                    "calendarCode", CALENDAR_CODE));
+        }
+
+        @Test
+        @DisplayName("登録した休日が次の計画に反映される")
+        void shouldReflectRegisteredHoliday() {
+            assertThat(proposals(scheduleWithCalendar()).get("TEST-WO002").getProposedStartDate())
+                    .isEqualTo(START);
+
+            calendarUseCase.createCalendar(
+                    new CreateCalendarCommand(CALENDAR_CODE, START, DateType.HOLIDAY, null, "テスト休日"));
+
+            WorkOrderProposal second = proposals(scheduleWithCalendar()).get("TEST-WO002");
+            assertThat(second.getProposedStartDate()).isEqualTo(START.plusDays(1));
+            assertThat(second.getProposedEndDate()).isEqualTo(START.plusDays(2));
+        }
+    }
+}
@@ -28,7 +28,7 @@ val springdocVersion = "2.8.3"
 val thymeleafLayoutVersion = "3.4.0"
 val bootstrapVersion = "5.3.3"
 val poiVersion = "5.3.0"
-val openhtmltopdfVersion = "1.1.22"
+val openhtmltopdfVersion = "1.1.36"
 
 dependencies {
     // === implementation ===
@@ -4,8 +4,10 @@ import com.example.sms.application.port.in.command.CreateInvoiceCommand;
 import com.example.sms.application.port.in.command.UpdateInvoiceCommand;
 import com.example.sms.domain.model.common.PageResult;
 import com.example.sms.domain.model.invoice.Invoice;
+import com.example.sms.domain.model.invoice.InvoiceClosingResult;
 import com.example.sms.domain.model.invoice.InvoiceStatus;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -86,4 +88,15 @@ public interface InvoiceUseCase {
      * @param invoiceNumber 請求番号
      */
     void deleteInvoice(String invoiceNumber);
+
+    /**
+     * 締日に該当するすべての顧客の請求締処理を行う.
+     *
+     * <p>前回残高・入金額・未請求の売上から請求を作成し、請求締履歴と売掛金残高を登録する。
+     * 当月の締処理が済んでいる顧客は対象外とする。</p>
+     *
+     * @param closingDate 締日
+     * @return 実行結果
+     */
+    InvoiceClosingResult closeInvoices(LocalDate closingDate);
 }
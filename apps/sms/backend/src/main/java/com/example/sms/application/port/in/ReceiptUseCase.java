@@ -4,6 +4,7 @@ import com.example.sms.application.port.in.command.CreateReceiptCommand;
 import com.example.sms.application.port.in.command.UpdateReceiptCommand;
 import com.example.sms.domain.model.common.PageResult;
 import com.example.sms.domain.model.receipt.Receipt;
+import com.example.sms.domain.model.receipt.ReceiptMatchingResult;
 import com.example.sms.domain.model.receipt.ReceiptStatus;
 
 import java.util.List;
@@ -86,4 +87,15 @@ public interface ReceiptUseCase {
      * @return 入金リスト
      */
     List<Receipt> getReceiptsByDateRange(java.time.LocalDate from, java.time.LocalDate to);
+
+    /**
+     * 未消込の入金を未回収の請求に自動で消し込む.
+     *
+     * <p>入金額・振込名義・回収予定日で消込先を決め、振込手数料の許容額以内の差額は手数料として処理する。
+     * 消込先が決まらない入金は未消込のまま残す。</p>
+     *
+     * @param applicationDate 消込日（この日までの入金・請求が対象）
+     * @return 実行結果
+     */
+    ReceiptMatchingResult matchReceipts(java.time.LocalDate applicationDate);
 }
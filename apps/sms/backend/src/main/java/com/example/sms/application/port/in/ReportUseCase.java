@@ -5,7 +5,9 @@ import com.example.sms.domain.model.invoice.Invoice;
 import com.example.sms.domain.model.purchase.PurchaseOrder;
 import com.example.sms.domain.model.sales.Quotation;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 帳票ユースケース（Input Port）.
@@ -13,11 +15,13 @@ import java.util.List;
 public interface ReportUseCase {
 
     /**
-     * 在庫レポートデータを取得する.
+     * 在庫レポートデータを 1 行ずつ生成して処理する.
      *
-     * @return 在庫レポートデータリスト
+     * <p>在庫は全件をメモリに載せず、カーソルで読みながら {@code action} に渡す。</p>
+     *
+     * @param action 在庫レポート行ごとの処理
      */
-    List<InventoryReportData> getInventoryReport();
+    void forEachInventoryReportRow(Consumer<InventoryReportData> action);
 
     /**
      * 請求書データを取得する.
@@ -27,6 +31,15 @@ public interface ReportUseCase {
      */
     Invoice getInvoiceForReport(String invoiceNumber);
 
+    /**
+     * 請求日が期間内の請求番号を取得する（請求書の一括出力用）.
+     *
+     * @param from 請求日（開始）
+     * @param to 請求日（終了）
+     * @return 請求番号（昇順）
+     */
+    List<String> getInvoiceNumbersForReport(LocalDate from, LocalDate to);
+
     /**
      * 発注書データを取得する.
      *
@@ -35,6 +48,15 @@ public interface ReportUseCase {
      */
     PurchaseOrder getPurchaseOrderForReport(String purchaseOrderNumber);
 
+    /**
+     * 発注日が期間内の発注番号を取得する（発注書の一括出力用）.
+     *
+     * @param from 発注日（開始）
+     * @param to 発注日（終了）
+     * @return 発注番号（昇順）
+     */
+    List<String> getPurchaseOrderNumbersForReport(LocalDate from, LocalDate to);
+
     /**
      * 見積書データを取得する.
      *
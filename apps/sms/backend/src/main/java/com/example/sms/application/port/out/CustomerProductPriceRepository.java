@@ -3,6 +3,7 @@ package com.example.sms.application.port.out;
 import com.example.sms.domain.model.product.CustomerProductPrice;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,11 @@ public interface CustomerProductPriceRepository {
 
     List<CustomerProductPrice> findByPartner(String partnerCode);
 
+    /**
+     * 取引先の指定した商品の単価を全期間分取得する（商品コード・適用開始日順）.
+     */
+    List<CustomerProductPrice> findByPartnerAndProducts(String partnerCode, Collection<String> productCodes);
+
     List<CustomerProductPrice> findAll();
 
     void update(CustomerProductPrice price);
@@ -0,0 +1,44 @@
+package com.example.sms.application.port.out;
+
+import com.example.sms.domain.model.inventory.Inventory;
+import com.example.sms.domain.model.inventory.StockMovement;
+import com.example.sms.domain.model.inventory.StockRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 在庫引当リポジトリ（Output Port）.
+ */
+public interface InventoryAllocationRepository {
+
+    /**
+     * 要求された倉庫・商品の在庫を、倉庫コード・商品コード・有効期限（期限なしは最後）・ID の順に取得する.
+     */
+    List<Inventory> findStocks(Collection<StockRequest> requests);
+
+    /**
+     * ID を指定して在庫を取得する.
+     */
+    List<Inventory> findByIds(Collection<Integer> ids);
+
+    /**
+     * 在庫の現在庫数・引当数を 1 文の条件付き更新で増減する.
+     *
+     * <p>更新後に {@code 0 <= 引当数 <= 現在庫数} とならない場合は更新しない。</p>
+     *
+     * @param id 在庫 ID
+     * @param stockDelta 現在庫数の増減
+     * @param allocationDelta 引当数の増減
+     * @param shipmentDate 最終出庫日（出庫でない場合は null）
+     * @return 更新した場合は true
+     */
+    boolean applyDelta(Integer id, BigDecimal stockDelta, BigDecimal allocationDelta, LocalDate shipmentDate);
+
+    /**
+     * 入出庫履歴をまとめて登録する.
+     */
+    void saveMovements(List<StockMovement> movements);
+}
@@ -7,6 +7,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 在庫リポジトリ（Output Port）.
@@ -29,6 +30,15 @@ public interface InventoryRepository {
 
     List<Inventory> findAll();
 
+    /**
+     * 全在庫を倉庫コード・商品コード順に 1 件ずつ読み出して処理する.
+     *
+     * <p>全件をメモリに載せず、カーソルで読みながら {@code action} を呼び出す。</p>
+     *
+     * @param action 在庫ごとの処理
+     */
+    void forEach(Consumer<Inventory> action);
+
     PageResult<Inventory> findWithPagination(int page, int size, String keyword, String warehouseCode);
 
     void update(Inventory inventory);
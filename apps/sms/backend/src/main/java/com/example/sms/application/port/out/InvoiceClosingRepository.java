@@ -0,0 +1,55 @@
+package com.example.sms.application.port.out;
+
+import com.example.sms.domain.model.invoice.ClosingHistory;
+import com.example.sms.domain.model.invoice.ClosingSales;
+import com.example.sms.domain.model.invoice.ClosingTarget;
+import com.example.sms.domain.model.invoice.CustomerAmount;
+import com.example.sms.domain.model.invoice.InvoiceClosing;
+import com.example.sms.domain.model.invoice.InvoiceClosingPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 請求締処理リポジトリ（Output Port）.
+ *
+ * <p>検索はいずれも締日に該当し、当月の締処理が済んでいない顧客を対象に 1 クエリで行う。</p>
+ */
+public interface InvoiceClosingRepository {
+
+    /**
+     * 締日に該当する顧客を取得する（顧客コード順）.
+     */
+    List<ClosingTarget> findClosingTargets(InvoiceClosingPeriod period);
+
+    /**
+     * 締日に該当するが、当月の締処理が済んでいる顧客を取得する（顧客コード順）.
+     *
+     * <p>請求締履歴は顧客・締年月ごとに 1 件のため、顧客締日2 を持つ顧客の月 2 回目の締はここに含まれる。</p>
+     */
+    List<ClosingTarget> findClosedTargets(InvoiceClosingPeriod period);
+
+    /**
+     * 対象顧客の締日以前の未請求の売上を取得する（顧客コード・売上日順）.
+     */
+    List<ClosingSales> findUnbilledSales(InvoiceClosingPeriod period);
+
+    /**
+     * 対象顧客の前回締日の翌日から今回締日までの入金額を顧客ごとに合計する.
+     */
+    List<CustomerAmount> sumReceipts(InvoiceClosingPeriod period);
+
+    /**
+     * 対象顧客の締日より前の直近の売掛金残高を取得する.
+     */
+    List<CustomerAmount> findPreviousBalances(InvoiceClosingPeriod period);
+
+    /**
+     * 締処理の結果を一括登録し、請求した売上を請求済にする.
+     */
+    void saveAll(List<InvoiceClosing> closings);
+
+    List<ClosingHistory> findHistoriesByClosingDate(LocalDate closingDate);
+
+    void deleteAllHistories();
+}
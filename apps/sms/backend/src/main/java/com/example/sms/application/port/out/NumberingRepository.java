@@ -37,6 +37,19 @@ public interface NumberingRepository {
 
     void incrementLastNumber(Integer historyId);
 
+    /**
+     * 採番履歴の最終番号を指定件数だけ進め、進めた後の最終番号を返す.
+     *
+     * <p>呼び出し元のトランザクションとは独立してコミットされる。
+     * 該当する採番履歴がなければ作成する。</p>
+     *
+     * @param numberingCode 採番コード
+     * @param yearMonth 採番年月（採番の区切りとなる期間）
+     * @param count 確保する件数
+     * @return 確保した番号の最大値
+     */
+    long reserveNumbers(String numberingCode, String yearMonth, int count);
+
     void updateHistory(NumberingHistory history);
 
     void deleteHistoryById(Integer id);
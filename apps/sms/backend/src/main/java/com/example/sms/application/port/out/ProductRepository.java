@@ -4,6 +4,7 @@ import com.example.sms.domain.model.common.PageResult;
 import com.example.sms.domain.model.product.Product;
 import com.example.sms.domain.model.product.ProductCategory;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,11 @@ public interface ProductRepository {
 
     Optional<Product> findByCode(String productCode);
 
+    /**
+     * 商品コードを指定して複数の商品を取得（存在しないコードは結果に含まれない）.
+     */
+    List<Product> findByCodes(Collection<String> productCodes);
+
     List<Product> findAll();
 
     List<Product> findByCategory(ProductCategory category);
@@ -0,0 +1,31 @@
+package com.example.sms.application.port.out;
+
+import com.example.sms.domain.model.receipt.OpenInvoice;
+import com.example.sms.domain.model.receipt.ReceiptMatch;
+import com.example.sms.domain.model.receipt.UnappliedReceipt;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 入金自動消込リポジトリ（Output Port）.
+ */
+public interface ReceiptMatchingRepository {
+
+    /**
+     * 消込日までに入金され、未消込金額の残っている入金を取得する（入金日・入金番号順）.
+     */
+    List<UnappliedReceipt> findUnappliedReceipts(LocalDate applicationDate);
+
+    /**
+     * 消込日までに請求した、請求残高のある発行済の請求を顧客名カナとともに取得する.
+     */
+    List<OpenInvoice> findOpenInvoices(LocalDate applicationDate);
+
+    /**
+     * 消込結果を一括で反映する（入金消込明細の登録と、入金・請求の金額とステータスの更新）.
+     *
+     * @throws com.example.sms.domain.exception.OptimisticLockException 入金または請求が他で更新されていた場合
+     */
+    void saveAll(List<ReceiptMatch> matches);
+}
@@ -4,6 +4,7 @@ import com.example.sms.domain.model.common.PageResult;
 import com.example.sms.domain.model.sales.OrderStatus;
 import com.example.sms.domain.model.sales.SalesOrder;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +46,16 @@ public interface SalesOrderRepository {
 
     void update(SalesOrder salesOrder);
 
+    /**
+     * 受注明細に出荷を記録する（出荷数量を加算し、残数量と引当数量を減らす）.
+     * 受注明細がないか、他の出荷が先に引当を消化して引当数量が足りない場合は楽観ロック例外とする。
+     *
+     * @param detailId 受注明細ID
+     * @param shippedQuantity 出荷数量
+     * @param consumedAllocation 出荷で消化した引当数量
+     */
+    void recordShipment(Integer detailId, BigDecimal shippedQuantity, BigDecimal consumedAllocation);
+
     void deleteById(Integer id);
 
     void deleteAll();
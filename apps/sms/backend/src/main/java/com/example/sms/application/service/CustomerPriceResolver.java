@@ -0,0 +1,144 @@
+package com.example.sms.application.service;
+
+import com.example.sms.application.port.out.CustomerProductPriceRepository;
+import com.example.sms.application.port.out.ProductRepository;
+import com.example.sms.domain.model.product.CustomerPriceSchedule;
+import com.example.sms.domain.model.product.CustomerProductPrice;
+import com.example.sms.domain.model.product.Product;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 顧客別販売単価の解決（取引先・商品ごとの単価表のキャッシュ）.
+ *
+ * <p>取引先・商品ごとに顧客別販売単価を {@link CustomerPriceSchedule} にまとめてキャッシュし、
+ * 指定日に適用される単価を返す。顧客別販売単価がない商品は商品マスタの販売単価とする
+ * （商品マスタの販売単価も未設定の商品は解決できない）。
+ * キャッシュにない単価表は取引先ごとに 1 クエリでまとめて読み込み、登録のない組み合わせも空の単価表として保持する。
+ * 保持する取引先数・取引先ごとの単価表の数には上限があり、超える場合は取引先（または全体）の単価表を破棄して読み込み直す。</p>
+ *
+ * <p>顧客別販売単価を更新したら {@link #evict(String, String)} を呼ぶこと。トランザクション中であれば
+ * 完了後にも破棄するので、コミット前の単価や取り消された単価をキャッシュしない。</p>
+ */
+@Component
+public class CustomerPriceResolver {
+
+    /** 単価表を保持する取引先数の上限. */
+    private static final int MAX_PARTNERS = 256;
+
+    /** 取引先ごとに保持する単価表（商品）の数の上限. */
+    private static final int MAX_SCHEDULES_PER_PARTNER = 1024;
+
+    private final CustomerProductPriceRepository customerProductPriceRepository;
+    private final ProductRepository productRepository;
+
+    private final Map<String, Map<String, CustomerPriceSchedule>> schedulesByPartner = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public CustomerPriceResolver(CustomerProductPriceRepository customerProductPriceRepository,
+                                 ProductRepository productRepository) {
+        this.customerProductPriceRepository = customerProductPriceRepository;
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * 取引先の複数商品について、指定日に適用される販売単価をまとめて解決する.
+     *
+     * @param partnerCode 取引先コード
+     * @param date 適用日
+     * @param productCodes 商品コード
+     * @return 商品コードごとの販売単価（顧客別販売単価も商品マスタの販売単価もない商品は含まない）
+     */
+    public Map<String, BigDecimal> resolve(String partnerCode, LocalDate date, Collection<String> productCodes) {
+        Map<String, CustomerPriceSchedule> schedules = schedules(partnerCode, productCodes);
+
+        Map<String, BigDecimal> prices = new HashMap<>();
+        Set<String> standardPriceCodes = new LinkedHashSet<>();
+        for (String productCode : productCodes) {
+            schedules.getOrDefault(productCode, CustomerPriceSchedule.EMPTY).priceOn(date).ifPresentOrElse(
+                price -> prices.put(productCode, price),
+                () -> standardPriceCodes.add(productCode));
+        }
+        for (Product product : productRepository.findByCodes(standardPriceCodes)) {
+            if (product.getSellingPrice() != null) {
+                prices.put(product.getProductCode(), product.getSellingPrice());
+            }
+        }
+        return prices;
+    }
+
+    private Map<String, CustomerPriceSchedule> schedules(String partnerCode, Collection<String> productCodes) {
+        Map<String, CustomerPriceSchedule> cached = schedulesByPartner.getOrDefault(partnerCode, Map.of());
+        Set<String> missing = productCodes.stream()
+            .filter(code -> !cached.containsKey(code))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (missing.isEmpty()) {
+            return cached;
+        }
+
+        // 読み込み中に破棄された場合は、古い単価かもしれないのでキャッシュしない
+        long loadedGeneration = generation.get();
+        Map<String, List<CustomerProductPrice>> loaded = customerProductPriceRepository
+            .findByPartnerAndProducts(partnerCode, missing).stream()
+            .collect(Collectors.groupingBy(CustomerProductPrice::getProductCode));
+        Map<String, CustomerPriceSchedule> loadedSchedules = new HashMap<>();
+        missing.forEach(code -> loadedSchedules.put(code,
+            CustomerPriceSchedule.of(loaded.getOrDefault(code, List.of()))));
+        synchronized (this) {
+            if (generation.get() == loadedGeneration) {
+                if (schedulesByPartner.size() >= MAX_PARTNERS && !schedulesByPartner.containsKey(partnerCode)) {
+                    schedulesByPartner.clear();
+                }
+                Map<String, CustomerPriceSchedule> partnerSchedules =
+                    schedulesByPartner.computeIfAbsent(partnerCode, p -> new ConcurrentHashMap<>());
+                if (partnerSchedules.size() + loadedSchedules.size() > MAX_SCHEDULES_PER_PARTNER) {
+                    partnerSchedules.clear();
+                }
+                partnerSchedules.putAll(loadedSchedules);
+            }
+        }
+        Map<String, CustomerPriceSchedule> schedules = new HashMap<>(cached);
+        schedules.putAll(loadedSchedules);
+        return schedules;
+    }
+
+    /**
+     * 商品・取引先の単価表を破棄し、次の参照時に読み込み直す.
+     *
+     * @param productCode 商品コード
+     * @param partnerCode 取引先コード
+     */
+    public void evict(String productCode, String partnerCode) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(productCode, partnerCode);
+                }
+            });
+        }
+        invalidate(productCode, partnerCode);
+    }
+
+    private synchronized void invalidate(String productCode, String partnerCode) {
+        generation.incrementAndGet();
+        Map<String, CustomerPriceSchedule> schedules = schedulesByPartner.get(partnerCode);
+        if (schedules != null) {
+            schedules.remove(productCode);
+        }
+    }
+}
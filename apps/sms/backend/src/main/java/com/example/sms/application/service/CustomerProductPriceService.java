@@ -20,6 +20,7 @@ import java.util.List;
 public class CustomerProductPriceService implements CustomerProductPriceUseCase {
 
     private final CustomerProductPriceRepository customerProductPriceRepository;
+    private final CustomerPriceResolver customerPriceResolver;
 
     @Override
     @Transactional(readOnly = true)
@@ -50,15 +51,18 @@ public class CustomerProductPriceService implements CustomerProductPriceUseCase
     @Override
     public void createPrice(CustomerProductPrice price) {
         customerProductPriceRepository.save(price);
+        customerPriceResolver.evict(price.getProductCode(), price.getPartnerCode());
     }
 
     @Override
     public void updatePrice(CustomerProductPrice price) {
         customerProductPriceRepository.update(price);
+        customerPriceResolver.evict(price.getProductCode(), price.getPartnerCode());
     }
 
     @Override
     public void deletePrice(String productCode, String partnerCode, LocalDate startDate) {
         customerProductPriceRepository.deleteByKey(productCode, partnerCode, startDate);
+        customerPriceResolver.evict(productCode, partnerCode);
     }
 }
@@ -0,0 +1,101 @@
+package com.example.sms.application.service;
+
+import com.example.sms.application.port.out.NumberingRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 伝票番号の採番.
+ *
+ * <p>採番履歴データの最終番号をブロック単位で確保し（hi-lo 方式）、
+ * ブロック内の番号はメモリ上で払い出す。確保は独立トランザクションで行うため、
+ * 伝票テーブルの走査や採番行の長時間ロックは発生しない。</p>
+ *
+ * <p>確保したまま使われなかった番号は、プロセス停止や業務トランザクションの
+ * ロールバックにより欠番となる。番号が重複することはない。</p>
+ */
+@Component
+public class DocumentNumberAllocator {
+
+    /** 一度に確保する番号の件数. */
+    static final int BLOCK_SIZE = 20;
+
+    private final NumberingRepository numberingRepository;
+    private final ConcurrentMap<BlockKey, NumberBlock> blocks = new ConcurrentHashMap<>();
+
+    public DocumentNumberAllocator(NumberingRepository numberingRepository) {
+        this.numberingRepository = numberingRepository;
+    }
+
+    /**
+     * 次の連番を払い出す.
+     *
+     * @param numberingCode 採番コード（採番マスタに登録済みであること）
+     * @param period 連番を区切る期間（例: yyyyMMdd）
+     * @return 期間内の連番（1 始まり）
+     */
+    public long next(String numberingCode, String period) {
+        BlockKey key = new BlockKey(numberingCode, period);
+        NumberBlock block = blocks.computeIfAbsent(key, k -> new NumberBlock());
+        block.lock.lock();
+        try {
+            if (block.next > block.last) {
+                long last = reserve(numberingCode, period, BLOCK_SIZE);
+                block.next = last - BLOCK_SIZE + 1;
+                block.last = last;
+                evictPreviousPeriods(key);
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    /**
+     * 連続した番号をまとめて確保する.
+     *
+     * <p>締処理などの一括作成向け。ブロックを経由せず採番履歴データから直接確保するため、
+     * {@link #next(String, String)} が払い出す番号と重複しない。</p>
+     *
+     * @param numberingCode 採番コード（採番マスタに登録済みであること）
+     * @param period 連番を区切る期間（例: yyyyMMdd）
+     * @param count 確保する件数
+     * @return 確保した範囲の先頭の連番
+     */
+    public long reserveRange(String numberingCode, String period, int count) {
+        return reserve(numberingCode, period, count) - count + 1;
+    }
+
+    private long reserve(String numberingCode, String period, int count) {
+        try {
+            return numberingRepository.reserveNumbers(numberingCode, period, count);
+        } catch (DuplicateKeyException e) {
+            // 同じ期間の初回確保が他のプロセスと競合した場合は、作成済みの履歴を加算する
+            return numberingRepository.reserveNumbers(numberingCode, period, count);
+        }
+    }
+
+    /**
+     * 過去の期間のブロックを破棄する（残りの番号は欠番になる）.
+     */
+    private void evictPreviousPeriods(BlockKey current) {
+        blocks.keySet().removeIf(key -> key.numberingCode().equals(current.numberingCode())
+            && key.period().compareTo(current.period()) < 0);
+    }
+
+    private record BlockKey(String numberingCode, String period) {
+    }
+
+    /**
+     * 確保済みの番号ブロック.
+     */
+    private static final class NumberBlock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next = 1;
+        private long last;
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.sms.application.service;
+
+import com.example.sms.application.port.out.InventoryAllocationRepository;
+import com.example.sms.domain.exception.InsufficientInventoryException;
+import com.example.sms.domain.model.inventory.Inventory;
+import com.example.sms.domain.model.inventory.StockMovement;
+import com.example.sms.domain.model.inventory.StockOperation;
+import com.example.sms.domain.model.inventory.StockRequest;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 在庫の引当・出庫（受注時の引当、出荷時の引当消化、受注取消時の引当解除）.
+ *
+ * <p>倉庫・商品ごとの要求数量を有効期限の近い在庫から順に割り当て、在庫 1 行ごとに
+ * 現在庫数・引当数の増減を 1 文の条件付き UPDATE で反映する。在庫を読んで計算した値を書き戻さないので
+ * 行ロックは UPDATE からコミットまでしか持たず、同じ商品への同時の受注もバージョン競合で失敗しない。
+ * 読み出した後に他の取引が先に在庫を使った行は更新されないため、その商品だけ読み直して残りを割り当て直す。</p>
+ *
+ * <p>倉庫・商品は常にコード順、在庫は有効期限・ID 順に更新するので、同じ商品を含む取引どうしが
+ * デッドロックすることはない。反映した増減は入出庫履歴データとしてまとめて 1 回で登録する。
+ * 呼び出し側のトランザクションの最後に呼ぶこと（行ロックを持つ時間が短くなる）。</p>
+ */
+@Component
+public class InventoryAllocator {
+
+    /** 他の取引と競合した商品を読み直して割り当て直す回数の上限. */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final InventoryAllocationRepository inventoryAllocationRepository;
+
+    public InventoryAllocator(InventoryAllocationRepository inventoryAllocationRepository) {
+        this.inventoryAllocationRepository = inventoryAllocationRepository;
+    }
+
+    /**
+     * 受注の数量を引き当てる.
+     *
+     * @param orderNumber 受注番号
+     * @param requests 倉庫・商品ごとの受注数量
+     * @return 登録した入出庫履歴
+     * @throws InsufficientInventoryException 有効在庫が不足する商品がある場合
+     */
+    public List<StockMovement> allocate(String orderNumber, List<StockRequest> requests) {
+        return execute("受注", orderNumber, null, demands(StockOperation.ALLOCATE, requests));
+    }
+
+    /**
+     * 受注の引当を解除する（引当数を超える分は解除しない）.
+     *
+     * @param orderNumber 受注番号
+     * @param requests 倉庫・商品ごとの解除数量
+     * @return 登録した入出庫履歴
+     */
+    public List<StockMovement> release(String orderNumber, List<StockRequest> requests) {
+        return execute("受注", orderNumber, null, demands(StockOperation.RELEASE, requests));
+    }
+
+    /**
+     * 出荷した数量を出庫する.
+     *
+     * @param shipmentNumber 出荷番号
+     * @param shipmentDate 出荷日
+     * @param allocated 受注で引き当てた在庫から出庫する数量
+     * @param unallocated 引当のない有効在庫から出庫する数量
+     * @return 登録した入出庫履歴
+     * @throws InsufficientInventoryException 引当数または有効在庫が不足する商品がある場合
+     */
+    public List<StockMovement> ship(String shipmentNumber, LocalDate shipmentDate,
+                                    List<StockRequest> allocated, List<StockRequest> unallocated) {
+        List<Demand> demands = new ArrayList<>(demands(StockOperation.SHIP_ALLOCATED, allocated));
+        demands.addAll(demands(StockOperation.SHIP_UNALLOCATED, unallocated));
+        return execute("出荷", shipmentNumber, shipmentDate, demands);
+    }
+
+    /**
+     * 倉庫・商品・操作ごとに数量をまとめ、倉庫コード・商品コード順に並べる.
+     */
+    private static List<Demand> demands(StockOperation operation, List<StockRequest> requests) {
+        Map<String, Demand> demands = new TreeMap<>();
+        for (StockRequest request : requests) {
+            if (request.getWarehouseCode() == null || request.getWarehouseCode().isBlank()
+                    || request.getQuantity() == null || request.getQuantity().signum() <= 0) {
+                continue;
+            }
+            demands.merge(stockKey(request.getWarehouseCode(), request.getProductCode()),
+                new Demand(operation, request), Demand::add);
+        }
+        return List.copyOf(demands.values());
+    }
+
+    private List<StockMovement> execute(String documentType, String documentNumber, LocalDate shipmentDate,
+                                        List<Demand> demands) {
+        if (demands.isEmpty()) {
+            return List.of();
+        }
+        Map<String, List<Inventory>> stocks = group(inventoryAllocationRepository.findStocks(
+            demands.stream().map(Demand::request).toList()));
+
+        Map<Integer, Map<StockOperation, BigDecimal>> applied = new LinkedHashMap<>();
+        for (Demand demand : demands.stream().sorted().toList()) {
+            fulfil(demand, stocks.getOrDefault(demand.key(), List.of()), shipmentDate, applied);
+        }
+        if (applied.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Inventory> updated = inventoryAllocationRepository.findByIds(applied.keySet()).stream()
+            .collect(Collectors.toMap(Inventory::getId, Function.identity()));
+        LocalDateTime movedAt = LocalDateTime.now();
+        List<StockMovement> movements = new ArrayList<>();
+        applied.forEach((id, quantities) -> {
+            // 同じ在庫に複数の操作を反映した場合は、更新後の値から逆順にたどって各操作の前後を求める
+            Inventory stock = updated.get(id);
+            List<StockMovement> rowMovements = new ArrayList<>(quantities.size());
+            BigDecimal after = null;
+            for (StockOperation operation : quantities.keySet().stream().sorted(Comparator.reverseOrder()).toList()) {
+                if (after == null) {
+                    after = operation.recordedQuantityOf(stock);
+                }
+                StockMovement movement = movement(operation, stock, quantities.get(operation), after,
+                    documentType, documentNumber, movedAt);
+                rowMovements.addFirst(movement);
+                after = movement.getBeforeQuantity();
+            }
+            movements.addAll(rowMovements);
+        });
+        inventoryAllocationRepository.saveMovements(movements);
+        return movements;
+    }
+
+    /**
+     * 要求数量を在庫に割り当てて反映する. 他の取引と競合した場合は読み直して残りを割り当て直す.
+     */
+    private void fulfil(Demand demand, List<Inventory> candidates, LocalDate shipmentDate,
+                        Map<Integer, Map<StockOperation, BigDecimal>> applied) {
+        StockOperation operation = demand.operation();
+        BigDecimal remaining = demand.quantity();
+        List<Inventory> stocks = candidates;
+        for (int attempt = 1; ; attempt++) {
+            boolean conflicted = false;
+            for (Inventory stock : stocks) {
+                if (remaining.signum() <= 0) {
+                    break;
+                }
+                BigDecimal quantity = operation.capacityOf(stock).min(remaining);
+                if (quantity.signum() <= 0) {
+                    continue;
+                }
+                if (inventoryAllocationRepository.applyDelta(stock.getId(), operation.stockDelta(quantity),
+                        operation.allocationDelta(quantity), operation.isShipment() ? shipmentDate : null)) {
+                    applied.computeIfAbsent(stock.getId(), id -> new LinkedHashMap<>())
+                        .merge(operation, quantity, BigDecimal::add);
+                    remaining = remaining.subtract(quantity);
+                } else {
+                    conflicted = true;
+                }
+            }
+            if (remaining.signum() <= 0 || !conflicted || attempt >= MAX_ATTEMPTS) {
+                break;
+            }
+            stocks = inventoryAllocationRepository.findStocks(List.of(demand.request()));
+        }
+        if (remaining.signum() > 0 && operation != StockOperation.RELEASE) {
+            throw new InsufficientInventoryException(
+                demand.request().getProductCode(), demand.quantity().subtract(remaining), demand.quantity());
+        }
+    }
+
+    private static StockMovement movement(StockOperation operation, Inventory after, BigDecimal quantity,
+                                          BigDecimal afterQuantity, String documentType, String documentNumber,
+                                          LocalDateTime movedAt) {
+        return StockMovement.builder()
+            .warehouseCode(after.getWarehouseCode())
+            .productCode(after.getProductCode())
+            .movementDateTime(movedAt)
+            .movementType(operation.getMovementType())
+            .movementQuantity(quantity)
+            .beforeQuantity(afterQuantity.subtract(operation.recordedDelta(quantity)))
+            .afterQuantity(afterQuantity)
+            .documentNumber(documentNumber)
+            .documentType(documentType)
+            .movementReason(operation.getMovementReason())
+            .locationCode(after.getLocationCode())
+            .lotNumber(after.getLotNumber())
+            .build();
+    }
+
+    private static Map<String, List<Inventory>> group(List<Inventory> stocks) {
+        Map<String, List<Inventory>> grouped = new HashMap<>();
+        for (Inventory stock : stocks) {
+            grouped.computeIfAbsent(stockKey(stock.getWarehouseCode(), stock.getProductCode()),
+                k -> new ArrayList<>()).add(stock);
+        }
+        return grouped;
+    }
+
+    private static String stockKey(String warehouseCode, String productCode) {
+        return warehouseCode + '\t' + productCode;
+    }
+
+    /**
+     * 倉庫・商品ごとの要求（倉庫コード・商品コード順、同じ商品は出荷の引当消化を先に反映する）.
+     */
+    private record Demand(StockOperation operation, StockRequest request) implements Comparable<Demand> {
+
+        String key() {
+            return stockKey(request.getWarehouseCode(), request.getProductCode());
+        }
+
+        BigDecimal quantity() {
+            return request.getQuantity();
+        }
+
+        Demand add(Demand other) {
+            return new Demand(operation, StockRequest.builder()
+                .warehouseCode(request.getWarehouseCode())
+                .productCode(request.getProductCode())
+                .quantity(quantity().add(other.quantity()))
+                .build());
+        }
+
+        @Override
+        public int compareTo(Demand other) {
+            int byKey = key().compareTo(other.key());
+            return byKey != 0 ? byKey : operation.compareTo(other.operation);
+        }
+    }
+}
@@ -3,13 +3,22 @@ package com.example.sms.application.service;
 import com.example.sms.application.port.in.InvoiceUseCase;
 import com.example.sms.application.port.in.command.CreateInvoiceCommand;
 import com.example.sms.application.port.in.command.UpdateInvoiceCommand;
+import com.example.sms.application.port.out.InvoiceClosingRepository;
 import com.example.sms.application.port.out.InvoiceRepository;
 import com.example.sms.domain.exception.InvoiceNotFoundException;
 import com.example.sms.domain.exception.OptimisticLockException;
 import com.example.sms.domain.model.common.PageResult;
+import com.example.sms.domain.model.invoice.ClosingSales;
+import com.example.sms.domain.model.invoice.ClosingTarget;
+import com.example.sms.domain.model.invoice.CustomerAmount;
 import com.example.sms.domain.model.invoice.Invoice;
+import com.example.sms.domain.model.invoice.InvoiceClosing;
+import com.example.sms.domain.model.invoice.InvoiceClosingPeriod;
+import com.example.sms.domain.model.invoice.InvoiceClosingResult;
 import com.example.sms.domain.model.invoice.InvoiceStatus;
 import com.example.sms.domain.model.invoice.InvoiceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +26,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * 請求アプリケーションサービス.
@@ -25,12 +37,22 @@ import java.util.List;
 @Transactional
 public class InvoiceService implements InvoiceUseCase {
 
+    private static final Logger LOG = LoggerFactory.getLogger(InvoiceService.class);
+
     private static final DateTimeFormatter INVOICE_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
+    private static final String INVOICE_NUMBERING_CODE = "INVOICE";
+
     private final InvoiceRepository invoiceRepository;
+    private final InvoiceClosingRepository invoiceClosingRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public InvoiceService(InvoiceRepository invoiceRepository) {
+    public InvoiceService(InvoiceRepository invoiceRepository,
+                          InvoiceClosingRepository invoiceClosingRepository,
+                          DocumentNumberAllocator numberAllocator) {
         this.invoiceRepository = invoiceRepository;
+        this.invoiceClosingRepository = invoiceClosingRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -181,11 +203,77 @@ public class InvoiceService implements InvoiceUseCase {
         invoiceRepository.deleteById(existing.getId());
     }
 
+    @Override
+    public InvoiceClosingResult closeInvoices(LocalDate closingDate) {
+        InvoiceClosingPeriod period = InvoiceClosingPeriod.of(closingDate);
+        List<ClosingTarget> targets = invoiceClosingRepository.findClosingTargets(period);
+        // 請求締履歴は顧客・月ごとに 1 件のため、当月に締めた顧客（顧客締日2 の締を含む）は締めずに結果で知らせる
+        List<ClosingTarget> skipped = invoiceClosingRepository.findClosedTargets(period);
+        if (!skipped.isEmpty() && LOG.isWarnEnabled()) {
+            LOG.warn("請求締処理 締日={} 当月の締処理が済んでいるため締めなかった顧客={}件", closingDate, skipped.size());
+        }
+        if (targets.isEmpty()) {
+            return InvoiceClosingResult.of(closingDate, 0, List.of(), skipped);
+        }
+
+        // 入力ごとに 1 クエリで取得し、顧客単位にメモリ上で突き合わせる
+        Map<String, List<ClosingSales>> salesByCustomer = invoiceClosingRepository.findUnbilledSales(period)
+            .stream()
+            .collect(Collectors.groupingBy(s -> customerKey(s.getCustomerCode(), s.getCustomerBranchNumber())));
+        Map<String, BigDecimal> receipts = toAmountMap(invoiceClosingRepository.sumReceipts(period));
+        Map<String, BigDecimal> previousBalances = toAmountMap(invoiceClosingRepository.findPreviousBalances(period));
+
+        // 顧客ごとの組み立ては互いに独立しているため並列に行う（結果は顧客コード順のまま）
+        List<InvoiceClosing> closings = targets.parallelStream()
+            .map(target -> {
+                String key = customerKey(target.getCustomerCode(), target.getCustomerBranchNumber());
+                return InvoiceClosing.assemble(target, period,
+                    previousBalances.getOrDefault(key, BigDecimal.ZERO),
+                    receipts.getOrDefault(key, BigDecimal.ZERO),
+                    salesByCustomer.getOrDefault(key, List.of()));
+            })
+            .flatMap(Optional::stream)
+            .toList();
+
+        if (!closings.isEmpty()) {
+            assignInvoiceNumbers(closings);
+            invoiceClosingRepository.saveAll(closings);
+        }
+        InvoiceClosingResult result = InvoiceClosingResult.of(closingDate, targets.size(), closings, skipped);
+        if (LOG.isInfoEnabled()) {
+            LOG.info("請求締処理 締日={} 対象顧客={}件 請求={}件 売上={}件", closingDate,
+                result.getTargetCustomerCount(), result.getInvoiceCount(), result.getSalesCount());
+        }
+        return result;
+    }
+
+    /**
+     * 締処理の請求に顧客コード順で連続した請求番号を設定する（採番は 1 回で確保する）.
+     */
+    private void assignInvoiceNumbers(List<InvoiceClosing> closings) {
+        String datePrefix = LocalDate.now().format(INVOICE_NUMBER_FORMAT);
+        long first = numberAllocator.reserveRange(INVOICE_NUMBERING_CODE, datePrefix, closings.size());
+        for (int i = 0; i < closings.size(); i++) {
+            closings.get(i).getInvoice().setInvoiceNumber(formatInvoiceNumber(datePrefix, first + i));
+        }
+    }
+
+    private static Map<String, BigDecimal> toAmountMap(List<CustomerAmount> amounts) {
+        return amounts.stream().collect(Collectors.toMap(
+            a -> customerKey(a.getCustomerCode(), a.getCustomerBranchNumber()), CustomerAmount::getAmount));
+    }
+
+    private static String customerKey(String customerCode, String customerBranchNumber) {
+        return customerCode + '\t' + customerBranchNumber;
+    }
+
     private String generateInvoiceNumber() {
         String datePrefix = LocalDate.now().format(INVOICE_NUMBER_FORMAT);
-        List<Invoice> todayInvoices = invoiceRepository.findByInvoiceDateBetween(
-            LocalDate.now(), LocalDate.now());
-        int sequence = todayInvoices.size() + 1;
+        long sequence = numberAllocator.next(INVOICE_NUMBERING_CODE, datePrefix);
+        return formatInvoiceNumber(datePrefix, sequence);
+    }
+
+    private static String formatInvoiceNumber(String datePrefix, long sequence) {
         return String.format("INV-%s-%04d", datePrefix, sequence);
     }
 }
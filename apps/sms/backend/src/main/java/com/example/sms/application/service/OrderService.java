@@ -9,9 +9,11 @@ import com.example.sms.application.port.out.PartnerRepository;
 import com.example.sms.application.port.out.ProductRepository;
 import com.example.sms.application.port.out.SalesOrderRepository;
 import com.example.sms.domain.exception.OptimisticLockException;
+import com.example.sms.domain.exception.ProductNotFoundException;
 import com.example.sms.domain.exception.SalesOrderNotFoundException;
 import com.example.sms.domain.model.product.Product;
 import com.example.sms.domain.model.common.PageResult;
+import com.example.sms.domain.model.inventory.StockRequest;
 import com.example.sms.domain.model.product.TaxCategory;
 import com.example.sms.domain.model.sales.OrderStatus;
 import com.example.sms.domain.model.sales.SalesOrder;
@@ -30,7 +32,10 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * 受注アプリケーションサービス.
@@ -52,18 +57,29 @@ public class OrderService implements OrderUseCase {
     private final SalesOrderRepository salesOrderRepository;
     private final ProductRepository productRepository;
     private final PartnerRepository partnerRepository;
+    private final DocumentNumberAllocator numberAllocator;
+    private final CustomerPriceResolver customerPriceResolver;
+    private final InventoryAllocator inventoryAllocator;
 
     public OrderService(SalesOrderRepository salesOrderRepository,
                         ProductRepository productRepository,
-                        PartnerRepository partnerRepository) {
+                        PartnerRepository partnerRepository,
+                        DocumentNumberAllocator numberAllocator,
+                        CustomerPriceResolver customerPriceResolver,
+                        InventoryAllocator inventoryAllocator) {
         this.salesOrderRepository = salesOrderRepository;
         this.productRepository = productRepository;
         this.partnerRepository = partnerRepository;
+        this.numberAllocator = numberAllocator;
+        this.customerPriceResolver = customerPriceResolver;
+        this.inventoryAllocator = inventoryAllocator;
     }
 
     @Override
     public SalesOrder createOrder(CreateOrderCommand command) {
         String orderNumber = generateOrderNumber();
+        LocalDate orderDate = command.orderDate() != null ? command.orderDate() : LocalDate.now();
+        Map<String, BigDecimal> resolvedPrices = resolveUnitPrices(command, orderDate);
 
         List<SalesOrderDetail> details = new ArrayList<>();
         AtomicInteger lineNumber = new AtomicInteger(1);
@@ -72,7 +88,10 @@ public class OrderService implements OrderUseCase {
 
         if (command.details() != null) {
             for (CreateOrderCommand.CreateOrderDetailCommand detailCmd : command.details()) {
-                BigDecimal amount = detailCmd.unitPrice().multiply(detailCmd.orderQuantity());
+                BigDecimal unitPrice = detailCmd.unitPrice() != null
+                    ? detailCmd.unitPrice()
+                    : resolvedPrices.get(detailCmd.productCode());
+                BigDecimal amount = unitPrice.multiply(detailCmd.orderQuantity());
                 BigDecimal detailTax = amount.multiply(TAX_RATE).setScale(0, RoundingMode.DOWN);
 
                 SalesOrderDetail detail = SalesOrderDetail.builder()
@@ -80,9 +99,12 @@ public class OrderService implements OrderUseCase {
                     .productCode(detailCmd.productCode())
                     .productName(detailCmd.productName())
                     .orderQuantity(detailCmd.orderQuantity())
+                    .allocatedQuantity(detailCmd.warehouseCode() != null && !detailCmd.warehouseCode().isBlank()
+                        ? detailCmd.orderQuantity()
+                        : BigDecimal.ZERO)
                     .remainingQuantity(detailCmd.orderQuantity())
                     .unit(detailCmd.unit())
-                    .unitPrice(detailCmd.unitPrice())
+                    .unitPrice(unitPrice)
                     .amount(amount)
                     .taxCategory(TaxCategory.EXCLUSIVE)
                     .taxRate(TAX_RATE_PERCENT)
@@ -100,7 +122,7 @@ public class OrderService implements OrderUseCase {
 
         SalesOrder salesOrder = SalesOrder.builder()
             .orderNumber(orderNumber)
-            .orderDate(command.orderDate() != null ? command.orderDate() : LocalDate.now())
+            .orderDate(orderDate)
             .customerCode(command.customerCode())
             .customerBranchNumber(command.customerBranchNumber())
             .shippingDestinationNumber(command.shippingDestinationNumber())
@@ -118,9 +140,52 @@ public class OrderService implements OrderUseCase {
             .build();
 
         salesOrderRepository.save(salesOrder);
+        // 倉庫を指定した明細の数量を引き当てる（在庫の行ロックを最後に取る）
+        inventoryAllocator.allocate(orderNumber, stockRequests(details, SalesOrderDetail::getOrderQuantity));
         return salesOrder;
     }
 
+    private static List<StockRequest> stockRequests(List<SalesOrderDetail> details,
+                                                    Function<SalesOrderDetail, BigDecimal> quantity) {
+        if (details == null) {
+            return List.of();
+        }
+        return details.stream()
+            .filter(detail -> detail.getWarehouseCode() != null)
+            .map(detail -> StockRequest.builder()
+                .warehouseCode(detail.getWarehouseCode())
+                .productCode(detail.getProductCode())
+                .quantity(quantity.apply(detail))
+                .build())
+            .toList();
+    }
+
+    /**
+     * 単価が指定されていない明細の単価を、受注日に適用される顧客別販売単価（なければ商品の販売単価）で一括して解決する.
+     */
+    private Map<String, BigDecimal> resolveUnitPrices(CreateOrderCommand command, LocalDate orderDate) {
+        if (command.details() == null) {
+            return Map.of();
+        }
+        List<String> productCodes = command.details().stream()
+            .filter(detail -> detail.unitPrice() == null)
+            .map(CreateOrderCommand.CreateOrderDetailCommand::productCode)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        if (productCodes.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, BigDecimal> prices = customerPriceResolver.resolve(command.customerCode(), orderDate, productCodes);
+        productCodes.stream()
+            .filter(code -> !prices.containsKey(code))
+            .findFirst()
+            .ifPresent(code -> {
+                throw new ProductNotFoundException(code);
+            });
+        return prices;
+    }
+
     @Override
     public SalesOrder updateOrder(String orderNumber, UpdateOrderCommand command) {
         SalesOrder existing = salesOrderRepository.findWithDetailsByOrderNumber(orderNumber)
@@ -128,12 +193,33 @@ public class OrderService implements OrderUseCase {
 
         validateOptimisticLock(command.version(), existing.getVersion(), orderNumber);
 
+        // ステータスをキャンセルに変える更新は、受注取消と同じく明細に残っている引当を解除する
+        List<StockRequest> releases = command.status() == OrderStatus.CANCELLED
+            ? takeRemainingAllocations(existing)
+            : List.of();
+
         SalesOrder updated = buildUpdatedOrder(existing, command, orderNumber);
 
         salesOrderRepository.update(updated);
+        inventoryAllocator.release(orderNumber, releases);
         return updated;
     }
 
+    /**
+     * 出荷で消化した分を除き、明細にまだ残っている引当を解除数量として取り出し、明細の引当数量を 0 にする.
+     * 取消済みの受注は引当を解除済みなので空を返す.
+     */
+    private static List<StockRequest> takeRemainingAllocations(SalesOrder order) {
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            return List.of();
+        }
+        List<StockRequest> releases = stockRequests(order.getDetails(), SalesOrderDetail::getAllocatedQuantity);
+        if (order.getDetails() != null) {
+            order.getDetails().forEach(detail -> detail.setAllocatedQuantity(BigDecimal.ZERO));
+        }
+        return releases;
+    }
+
     private void validateOptimisticLock(Integer commandVersion, Integer existingVersion, String orderNumber) {
         if (commandVersion != null && !commandVersion.equals(existingVersion)) {
             throw new OptimisticLockException("受注", orderNumber);
@@ -210,10 +296,12 @@ public class OrderService implements OrderUseCase {
 
     @Override
     public void deleteOrder(String orderNumber) {
-        SalesOrder existing = salesOrderRepository.findByOrderNumber(orderNumber)
+        SalesOrder existing = salesOrderRepository.findWithDetailsByOrderNumber(orderNumber)
             .orElseThrow(() -> new SalesOrderNotFoundException(orderNumber));
 
+        List<StockRequest> releases = takeRemainingAllocations(existing);
         salesOrderRepository.deleteById(existing.getId());
+        inventoryAllocator.release(orderNumber, releases);
     }
 
     @Override
@@ -225,6 +313,8 @@ public class OrderService implements OrderUseCase {
             throw new OptimisticLockException("受注", orderNumber);
         }
 
+        List<StockRequest> releases = takeRemainingAllocations(existing);
+
         SalesOrder cancelled = SalesOrder.builder()
             .id(existing.getId())
             .orderNumber(orderNumber)
@@ -249,22 +339,14 @@ public class OrderService implements OrderUseCase {
             .build();
 
         salesOrderRepository.update(cancelled);
+        inventoryAllocator.release(orderNumber, releases);
         return cancelled;
     }
 
     private String generateOrderNumber() {
         String datePrefix = LocalDate.now().format(ORDER_NUMBER_FORMAT);
-        String prefix = "ORD-" + datePrefix + "-";
-
-        int nextSequence = salesOrderRepository.findMaxOrderNumberByPrefix(prefix)
-                .map(maxNumber -> {
-                    // ORD-20260110-0001 から 0001 を抽出して +1
-                    String seqPart = maxNumber.substring(prefix.length());
-                    return Integer.parseInt(seqPart) + 1;
-                })
-                .orElse(1);
-
-        return String.format("%s%04d", prefix, nextSequence);
+        long sequence = numberAllocator.next("ORDER", datePrefix);
+        return String.format("ORD-%s-%04d", datePrefix, sequence);
     }
 
     @Override
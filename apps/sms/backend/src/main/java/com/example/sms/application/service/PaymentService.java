@@ -27,9 +27,11 @@ public class PaymentService implements PaymentUseCase {
     private static final DateTimeFormatter PAYMENT_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final PaymentRepository paymentRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public PaymentService(PaymentRepository paymentRepository) {
+    public PaymentService(PaymentRepository paymentRepository, DocumentNumberAllocator numberAllocator) {
         this.paymentRepository = paymentRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -86,9 +88,7 @@ public class PaymentService implements PaymentUseCase {
 
     private String generatePaymentNumber() {
         String datePrefix = LocalDate.now().format(PAYMENT_NUMBER_FORMAT);
-        List<Payment> todayPayments = paymentRepository.findByPaymentDueDateBetween(
-            LocalDate.now(), LocalDate.now());
-        int sequence = todayPayments.size() + 1;
+        long sequence = numberAllocator.next("PAYMENT", datePrefix);
         return String.format("PAY-%s-%04d", datePrefix, sequence);
     }
 
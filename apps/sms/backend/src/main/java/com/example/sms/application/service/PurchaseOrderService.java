@@ -27,9 +27,11 @@ public class PurchaseOrderService implements PurchaseOrderUseCase {
     private static final DateTimeFormatter ORDER_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final PurchaseOrderRepository purchaseOrderRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public PurchaseOrderService(PurchaseOrderRepository purchaseOrderRepository) {
+    public PurchaseOrderService(PurchaseOrderRepository purchaseOrderRepository, DocumentNumberAllocator numberAllocator) {
         this.purchaseOrderRepository = purchaseOrderRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -72,9 +74,7 @@ public class PurchaseOrderService implements PurchaseOrderUseCase {
 
     private String generatePurchaseOrderNumber() {
         String datePrefix = LocalDate.now().format(ORDER_NUMBER_FORMAT);
-        List<PurchaseOrder> todayOrders = purchaseOrderRepository.findByOrderDateBetween(
-            LocalDate.now(), LocalDate.now());
-        int sequence = todayOrders.size() + 1;
+        long sequence = numberAllocator.next("PURCHASE_ORDER", datePrefix);
         return String.format("PO-%s-%04d", datePrefix, sequence);
     }
 
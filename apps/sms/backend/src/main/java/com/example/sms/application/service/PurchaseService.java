@@ -25,9 +25,11 @@ public class PurchaseService implements PurchaseUseCase {
     private static final DateTimeFormatter PURCHASE_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final PurchaseRepository purchaseRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public PurchaseService(PurchaseRepository purchaseRepository) {
+    public PurchaseService(PurchaseRepository purchaseRepository, DocumentNumberAllocator numberAllocator) {
         this.purchaseRepository = purchaseRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -65,9 +67,7 @@ public class PurchaseService implements PurchaseUseCase {
 
     private String generatePurchaseNumber() {
         String datePrefix = LocalDate.now().format(PURCHASE_NUMBER_FORMAT);
-        List<Purchase> todayPurchases = purchaseRepository.findByPurchaseDateBetween(
-            LocalDate.now(), LocalDate.now());
-        int sequence = todayPurchases.size() + 1;
+        long sequence = numberAllocator.next("PURCHASE", datePrefix);
         return String.format("PUR-%s-%04d", datePrefix, sequence);
     }
 
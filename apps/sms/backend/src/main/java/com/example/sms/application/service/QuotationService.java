@@ -34,9 +34,11 @@ public class QuotationService implements QuotationUseCase {
     private static final DateTimeFormatter QUOTATION_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final QuotationRepository quotationRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public QuotationService(QuotationRepository quotationRepository) {
+    public QuotationService(QuotationRepository quotationRepository, DocumentNumberAllocator numberAllocator) {
         this.quotationRepository = quotationRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -244,9 +246,7 @@ public class QuotationService implements QuotationUseCase {
 
     private String generateQuotationNumber() {
         String datePrefix = LocalDate.now().format(QUOTATION_NUMBER_FORMAT);
-        List<Quotation> todayQuotations = quotationRepository.findByQuotationDateBetween(
-            LocalDate.now(), LocalDate.now());
-        int sequence = todayQuotations.size() + 1;
+        long sequence = numberAllocator.next("QUOTATION", datePrefix);
         return String.format("QT-%s-%04d", datePrefix, sequence);
     }
 }
@@ -3,18 +3,27 @@ package com.example.sms.application.service;
 import com.example.sms.application.port.in.ReceiptUseCase;
 import com.example.sms.application.port.in.command.CreateReceiptCommand;
 import com.example.sms.application.port.in.command.UpdateReceiptCommand;
+import com.example.sms.application.port.out.ReceiptMatchingRepository;
 import com.example.sms.application.port.out.ReceiptRepository;
 import com.example.sms.domain.exception.OptimisticLockException;
 import com.example.sms.domain.exception.ReceiptNotFoundException;
 import com.example.sms.domain.model.common.PageResult;
 import com.example.sms.domain.model.receipt.Receipt;
+import com.example.sms.domain.model.receipt.ReceiptMatch;
+import com.example.sms.domain.model.receipt.ReceiptMatcher;
+import com.example.sms.domain.model.receipt.ReceiptMatchingResult;
 import com.example.sms.domain.model.receipt.ReceiptStatus;
+import com.example.sms.domain.model.receipt.UnappliedReceipt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,12 +33,23 @@ import java.util.List;
 @Transactional
 public class ReceiptService implements ReceiptUseCase {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ReceiptService.class);
+
     private static final DateTimeFormatter RECEIPT_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final ReceiptRepository receiptRepository;
-
-    public ReceiptService(ReceiptRepository receiptRepository) {
+    private final ReceiptMatchingRepository receiptMatchingRepository;
+    private final DocumentNumberAllocator numberAllocator;
+    private final BigDecimal bankFeeTolerance;
+
+    public ReceiptService(ReceiptRepository receiptRepository,
+                          ReceiptMatchingRepository receiptMatchingRepository,
+                          DocumentNumberAllocator numberAllocator,
+                          @Value("${sms.receipt-matching.bank-fee-tolerance:880}") BigDecimal bankFeeTolerance) {
         this.receiptRepository = receiptRepository;
+        this.receiptMatchingRepository = receiptMatchingRepository;
+        this.numberAllocator = numberAllocator;
+        this.bankFeeTolerance = bankFeeTolerance;
     }
 
     @Override
@@ -140,11 +160,36 @@ public class ReceiptService implements ReceiptUseCase {
         return receiptRepository.findByReceiptDateBetween(from, to);
     }
 
+    @Override
+    public ReceiptMatchingResult matchReceipts(LocalDate applicationDate) {
+        List<UnappliedReceipt> receipts = receiptMatchingRepository.findUnappliedReceipts(applicationDate);
+        if (receipts.isEmpty()) {
+            return ReceiptMatchingResult.of(applicationDate, 0, List.of());
+        }
+
+        // 未回収請求は 1 クエリで取得して索引付けし、入金日順に突き合わせる（先の入金が先に消し込む）
+        ReceiptMatcher matcher = ReceiptMatcher.of(
+            receiptMatchingRepository.findOpenInvoices(applicationDate), bankFeeTolerance);
+        List<ReceiptMatch> matches = new ArrayList<>();
+        for (UnappliedReceipt receipt : receipts) {
+            matcher.match(receipt, applicationDate).ifPresent(matches::add);
+        }
+
+        if (!matches.isEmpty()) {
+            receiptMatchingRepository.saveAll(matches);
+        }
+        ReceiptMatchingResult result = ReceiptMatchingResult.of(applicationDate, receipts.size(), matches);
+        if (LOG.isInfoEnabled()) {
+            LOG.info("入金自動消込 消込日={} 対象入金={}件 消込={}件 未消込={}件 請求={}件", applicationDate,
+                result.getReceiptCount(), result.getMatchedCount(), result.getUnmatchedCount(),
+                result.getInvoiceCount());
+        }
+        return result;
+    }
+
     private String generateReceiptNumber() {
         String datePrefix = LocalDate.now().format(RECEIPT_NUMBER_FORMAT);
-        List<Receipt> todayReceipts = receiptRepository.findByReceiptDateBetween(
-            LocalDate.now(), LocalDate.now());
-        int sequence = todayReceipts.size() + 1;
+        long sequence = numberAllocator.next("RECEIPT", datePrefix);
         return String.format("RCP-%s-%04d", datePrefix, sequence);
     }
 }
@@ -27,9 +27,11 @@ public class ReceivingService implements ReceivingUseCase {
     private static final DateTimeFormatter RECEIVING_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final ReceivingRepository receivingRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public ReceivingService(ReceivingRepository receivingRepository) {
+    public ReceivingService(ReceivingRepository receivingRepository, DocumentNumberAllocator numberAllocator) {
         this.receivingRepository = receivingRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -74,9 +76,7 @@ public class ReceivingService implements ReceivingUseCase {
 
     private String generateReceivingNumber() {
         String datePrefix = LocalDate.now().format(RECEIVING_NUMBER_FORMAT);
-        List<Receiving> todayReceivings = receivingRepository.findByReceivingDateBetween(
-            LocalDate.now(), LocalDate.now());
-        int sequence = todayReceivings.size() + 1;
+        long sequence = numberAllocator.next("RECEIVING", datePrefix);
         return String.format("RCV-%s-%04d", datePrefix, sequence);
     }
 
@@ -12,7 +12,6 @@ import com.example.sms.application.port.out.WarehouseRepository;
 import com.example.sms.domain.exception.InvoiceNotFoundException;
 import com.example.sms.domain.exception.PurchaseOrderNotFoundException;
 import com.example.sms.domain.exception.QuotationNotFoundException;
-import com.example.sms.domain.model.inventory.Inventory;
 import com.example.sms.domain.model.inventory.Warehouse;
 import com.example.sms.domain.model.invoice.Invoice;
 import com.example.sms.domain.model.partner.Partner;
@@ -22,8 +21,10 @@ import com.example.sms.domain.model.sales.Quotation;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -59,32 +60,28 @@ public class ReportService implements ReportUseCase {
     }
 
     @Override
-    public List<InventoryReportData> getInventoryReport() {
-        List<Inventory> inventories = inventoryRepository.findAll();
-
+    public void forEachInventoryReportRow(Consumer<InventoryReportData> action) {
         Map<String, Product> productMap = productRepository.findAll().stream()
             .collect(Collectors.toMap(Product::getProductCode, p -> p));
 
         Map<String, Warehouse> warehouseMap = warehouseRepository.findAll().stream()
             .collect(Collectors.toMap(Warehouse::getWarehouseCode, w -> w));
 
-        return inventories.stream()
-            .map(inventory -> {
-                Product product = productMap.get(inventory.getProductCode());
-                Warehouse warehouse = warehouseMap.get(inventory.getWarehouseCode());
-
-                return InventoryReportData.builder()
-                    .warehouseCode(inventory.getWarehouseCode())
-                    .warehouseName(warehouse != null ? warehouse.getWarehouseName() : "")
-                    .productCode(inventory.getProductCode())
-                    .productName(product != null ? product.getProductName() : "")
-                    .currentStock(inventory.getCurrentQuantity())
-                    .allocatedStock(inventory.getAllocatedQuantity())
-                    .availableStock(inventory.getAvailableQuantity())
-                    .locationCode(inventory.getLocationCode())
-                    .build();
-            })
-            .collect(Collectors.toList());
+        inventoryRepository.forEach(inventory -> {
+            Product product = productMap.get(inventory.getProductCode());
+            Warehouse warehouse = warehouseMap.get(inventory.getWarehouseCode());
+
+            action.accept(InventoryReportData.builder()
+                .warehouseCode(inventory.getWarehouseCode())
+                .warehouseName(warehouse != null ? warehouse.getWarehouseName() : "")
+                .productCode(inventory.getProductCode())
+                .productName(product != null ? product.getProductName() : "")
+                .currentStock(inventory.getCurrentQuantity())
+                .allocatedStock(inventory.getAllocatedQuantity())
+                .availableStock(inventory.getAvailableQuantity())
+                .locationCode(inventory.getLocationCode())
+                .build());
+        });
     }
 
     @Override
@@ -93,6 +90,14 @@ public class ReportService implements ReportUseCase {
             .orElseThrow(() -> new InvoiceNotFoundException(invoiceNumber));
     }
 
+    @Override
+    public List<String> getInvoiceNumbersForReport(LocalDate from, LocalDate to) {
+        return invoiceRepository.findByInvoiceDateBetween(from, to).stream()
+            .map(Invoice::getInvoiceNumber)
+            .sorted()
+            .toList();
+    }
+
     /**
      * 顧客コードから顧客名を取得する.
      *
@@ -114,6 +119,14 @@ public class ReportService implements ReportUseCase {
             .orElseThrow(() -> new PurchaseOrderNotFoundException(purchaseOrderNumber));
     }
 
+    @Override
+    public List<String> getPurchaseOrderNumbersForReport(LocalDate from, LocalDate to) {
+        return purchaseOrderRepository.findByOrderDateBetween(from, to).stream()
+            .map(PurchaseOrder::getPurchaseOrderNumber)
+            .sorted()
+            .toList();
+    }
+
     /**
      * 仕入先コードから仕入先名を取得する.
      *
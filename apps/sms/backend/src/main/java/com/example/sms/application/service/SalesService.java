@@ -33,9 +33,11 @@ public class SalesService implements SalesUseCase {
     private static final DateTimeFormatter SALES_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final SalesRepository salesRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public SalesService(SalesRepository salesRepository) {
+    public SalesService(SalesRepository salesRepository, DocumentNumberAllocator numberAllocator) {
         this.salesRepository = salesRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -199,9 +201,7 @@ public class SalesService implements SalesUseCase {
 
     private String generateSalesNumber() {
         String datePrefix = LocalDate.now().format(SALES_NUMBER_FORMAT);
-        List<Sales> todaySales = salesRepository.findBySalesDateBetween(
-            LocalDate.now(), LocalDate.now());
-        int sequence = todaySales.size() + 1;
+        long sequence = numberAllocator.next("SALES", datePrefix);
         return String.format("SLS-%s-%04d", datePrefix, sequence);
     }
 }
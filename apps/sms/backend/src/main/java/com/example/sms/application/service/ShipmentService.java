@@ -3,10 +3,13 @@ package com.example.sms.application.service;
 import com.example.sms.application.port.in.ShipmentUseCase;
 import com.example.sms.application.port.in.command.CreateShipmentCommand;
 import com.example.sms.application.port.in.command.UpdateShipmentCommand;
+import com.example.sms.application.port.out.SalesOrderRepository;
 import com.example.sms.application.port.out.ShipmentRepository;
 import com.example.sms.domain.exception.ShipmentNotFoundException;
 import com.example.sms.domain.model.common.PageResult;
+import com.example.sms.domain.model.inventory.StockRequest;
 import com.example.sms.domain.model.product.TaxCategory;
+import com.example.sms.domain.model.sales.SalesOrderDetail;
 import com.example.sms.domain.model.shipping.Shipment;
 import com.example.sms.domain.model.shipping.ShipmentDetail;
 import com.example.sms.domain.model.shipping.ShipmentStatus;
@@ -18,8 +21,13 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 出荷アプリケーションサービス.
@@ -33,9 +41,18 @@ public class ShipmentService implements ShipmentUseCase {
     private static final DateTimeFormatter SHIPMENT_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final ShipmentRepository shipmentRepository;
+    private final SalesOrderRepository salesOrderRepository;
+    private final DocumentNumberAllocator numberAllocator;
+    private final InventoryAllocator inventoryAllocator;
 
-    public ShipmentService(ShipmentRepository shipmentRepository) {
+    public ShipmentService(ShipmentRepository shipmentRepository,
+                           SalesOrderRepository salesOrderRepository,
+                           DocumentNumberAllocator numberAllocator,
+                           InventoryAllocator inventoryAllocator) {
         this.shipmentRepository = shipmentRepository;
+        this.salesOrderRepository = salesOrderRepository;
+        this.numberAllocator = numberAllocator;
+        this.inventoryAllocator = inventoryAllocator;
     }
 
     @Override
@@ -89,9 +106,63 @@ public class ShipmentService implements ShipmentUseCase {
             .build();
 
         shipmentRepository.save(shipment);
+        shipFromStock(shipment);
         return shipment;
     }
 
+    /**
+     * 出荷明細の数量を在庫から出庫し、受注明細に出荷を記録する.
+     *
+     * <p>明細に倉庫がなければ出荷の倉庫から出庫する。受注で同じ倉庫に引き当てた明細は、受注明細に残っている
+     * 引当数量までを引当数から、超える分は有効在庫から出庫する。それ以外は有効在庫から出庫する。</p>
+     */
+    private void shipFromStock(Shipment shipment) {
+        Map<Integer, SalesOrderDetail> orderDetails = shipment.getOrderId() == null
+            ? Map.of()
+            : salesOrderRepository.findByIdWithDetails(shipment.getOrderId())
+                .map(order -> order.getDetails().stream()
+                    .collect(Collectors.toMap(SalesOrderDetail::getId, Function.identity())))
+                .orElse(Map.of());
+
+        // 同じ受注明細を複数の出荷明細で出荷する場合に備え、消化した引当数量を明細ごとに差し引く
+        Map<Integer, BigDecimal> remainingAllocations = new HashMap<>();
+        List<StockRequest> allocated = new ArrayList<>();
+        List<StockRequest> unallocated = new ArrayList<>();
+        for (ShipmentDetail detail : shipment.getDetails()) {
+            String warehouseCode = detail.getWarehouseCode() != null
+                ? detail.getWarehouseCode()
+                : shipment.getWarehouseCode();
+            SalesOrderDetail orderDetail = detail.getOrderDetailId() == null
+                ? null
+                : orderDetails.get(detail.getOrderDetailId());
+            BigDecimal consumed = BigDecimal.ZERO;
+            if (orderDetail != null && Objects.equals(orderDetail.getWarehouseCode(), warehouseCode)) {
+                BigDecimal reserved = remainingAllocations.computeIfAbsent(orderDetail.getId(),
+                    id -> Objects.requireNonNullElse(orderDetail.getAllocatedQuantity(), BigDecimal.ZERO));
+                consumed = reserved.min(detail.getShippedQuantity()).max(BigDecimal.ZERO);
+                remainingAllocations.put(orderDetail.getId(), reserved.subtract(consumed));
+            }
+            addRequest(allocated, warehouseCode, detail.getProductCode(), consumed);
+            addRequest(unallocated, warehouseCode, detail.getProductCode(),
+                detail.getShippedQuantity().subtract(consumed));
+            if (orderDetail != null) {
+                salesOrderRepository.recordShipment(orderDetail.getId(), detail.getShippedQuantity(), consumed);
+            }
+        }
+        inventoryAllocator.ship(shipment.getShipmentNumber(), shipment.getShipmentDate(), allocated, unallocated);
+    }
+
+    private static void addRequest(List<StockRequest> requests, String warehouseCode, String productCode,
+                                   BigDecimal quantity) {
+        if (quantity.signum() > 0) {
+            requests.add(StockRequest.builder()
+                .warehouseCode(warehouseCode)
+                .productCode(productCode)
+                .quantity(quantity)
+                .build());
+        }
+    }
+
     @Override
     public Shipment updateShipment(String shipmentNumber, UpdateShipmentCommand command) {
         Shipment existing = shipmentRepository.findByShipmentNumber(shipmentNumber)
@@ -193,9 +264,7 @@ public class ShipmentService implements ShipmentUseCase {
 
     private String generateShipmentNumber() {
         String datePrefix = LocalDate.now().format(SHIPMENT_NUMBER_FORMAT);
-        List<Shipment> todayShipments = shipmentRepository.findByShipmentDateBetween(
-            LocalDate.now(), LocalDate.now());
-        int sequence = todayShipments.size() + 1;
+        long sequence = numberAllocator.next("SHIPMENT", datePrefix);
         return String.format("SHP-%s-%04d", datePrefix, sequence);
     }
 }
@@ -27,9 +27,11 @@ public class StocktakingService implements StocktakingUseCase {
     private static final DateTimeFormatter STOCKTAKING_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final StocktakingRepository stocktakingRepository;
+    private final DocumentNumberAllocator numberAllocator;
 
-    public StocktakingService(StocktakingRepository stocktakingRepository) {
+    public StocktakingService(StocktakingRepository stocktakingRepository, DocumentNumberAllocator numberAllocator) {
         this.stocktakingRepository = stocktakingRepository;
+        this.numberAllocator = numberAllocator;
     }
 
     @Override
@@ -71,9 +73,7 @@ public class StocktakingService implements StocktakingUseCase {
 
     private String generateStocktakingNumber() {
         String datePrefix = LocalDate.now().format(STOCKTAKING_NUMBER_FORMAT);
-        List<Stocktaking> todayStocktakings = stocktakingRepository.findByStocktakingDateBetween(
-            LocalDate.now(), LocalDate.now());
-        int sequence = todayStocktakings.size() + 1;
+        long sequence = numberAllocator.next("STOCKTAKING", datePrefix);
         return String.format("STK-%s-%04d", datePrefix, sequence);
     }
 
@@ -0,0 +1,12 @@
+package com.example.sms.domain.exception;
+
+/**
+ * 完了していない帳票の一括出力ジョブの出力を取得しようとした場合の例外.
+ */
+@SuppressWarnings("PMD.MissingSerialVersionUID")
+public class ReportJobNotCompletedException extends BusinessRuleViolationException {
+
+    public ReportJobNotCompletedException(String jobId, String status) {
+        super(String.format("帳票出力ジョブが完了していません（ジョブ: %s, 状態: %s）", jobId, status));
+    }
+}
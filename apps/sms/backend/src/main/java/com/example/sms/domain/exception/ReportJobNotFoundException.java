@@ -0,0 +1,12 @@
+package com.example.sms.domain.exception;
+
+/**
+ * 帳票の一括出力ジョブが見つからない場合の例外.
+ */
+@SuppressWarnings("PMD.MissingSerialVersionUID")
+public class ReportJobNotFoundException extends ResourceNotFoundException {
+
+    public ReportJobNotFoundException(String jobId) {
+        super("帳票出力ジョブが見つかりません: " + jobId);
+    }
+}
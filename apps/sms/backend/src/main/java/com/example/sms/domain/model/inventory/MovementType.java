@@ -16,7 +16,9 @@ public enum MovementType {
     ADJUSTMENT_PLUS("棚卸調整増"),
     ADJUSTMENT_MINUS("棚卸調整減"),
     RETURN_RECEIPT("返品入庫"),
-    DISPOSAL("廃棄");
+    DISPOSAL("廃棄"),
+    ALLOCATION("引当"),
+    ALLOCATION_RELEASE("引当解除");
 
     private final String displayName;
 
@@ -44,4 +46,11 @@ public enum MovementType {
         return this == SHIPMENT || this == TRANSFER_OUT ||
                this == ADJUSTMENT_MINUS || this == DISPOSAL;
     }
+
+    /**
+     * 現在庫数を変えず、引当数だけを増減する移動かどうか.
+     */
+    public boolean isAllocation() {
+        return this == ALLOCATION || this == ALLOCATION_RELEASE;
+    }
 }
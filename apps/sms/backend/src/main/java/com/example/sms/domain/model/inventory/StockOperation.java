@@ -0,0 +1,75 @@
+package com.example.sms.domain.model.inventory;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 在庫の引当・出庫操作.
+ *
+ * <p>どの操作も在庫データの現在庫数・引当数の増減として表し、更新後も
+ * {@code 0 <= 引当数 <= 現在庫数} が成り立つ場合だけ反映する。</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StockOperation {
+    /** 受注引当（有効在庫を引当数に移す）. */
+    ALLOCATE(MovementType.ALLOCATION, "受注引当"),
+    /** 引当解除（引当数を有効在庫に戻す）. */
+    RELEASE(MovementType.ALLOCATION_RELEASE, "受注取消による引当解除"),
+    /** 引当済の在庫の出荷（現在庫数と引当数を減らす）. */
+    SHIP_ALLOCATED(MovementType.SHIPMENT, "引当済在庫の出荷"),
+    /** 引当のない出荷（有効在庫から現在庫数を減らす）. */
+    SHIP_UNALLOCATED(MovementType.SHIPMENT, "未引当在庫からの出荷");
+
+    private final MovementType movementType;
+    private final String movementReason;
+
+    /**
+     * 在庫 1 行からこの操作で動かせる数量.
+     */
+    public BigDecimal capacityOf(Inventory inventory) {
+        return switch (this) {
+            case ALLOCATE, SHIP_UNALLOCATED -> inventory.getAvailableQuantity();
+            case RELEASE -> inventory.getAllocatedQuantity();
+            case SHIP_ALLOCATED -> inventory.getAllocatedQuantity().min(inventory.getCurrentQuantity());
+        };
+    }
+
+    /**
+     * 数量に対する現在庫数の増減.
+     */
+    public BigDecimal stockDelta(BigDecimal quantity) {
+        return isShipment() ? quantity.negate() : BigDecimal.ZERO;
+    }
+
+    /**
+     * 数量に対する引当数の増減.
+     */
+    public BigDecimal allocationDelta(BigDecimal quantity) {
+        return switch (this) {
+            case ALLOCATE -> quantity;
+            case RELEASE, SHIP_ALLOCATED -> quantity.negate();
+            case SHIP_UNALLOCATED -> BigDecimal.ZERO;
+        };
+    }
+
+    /**
+     * 入出庫履歴の移動前後に記録する在庫数（出荷は現在庫数、引当・引当解除は有効在庫数）.
+     */
+    public BigDecimal recordedQuantityOf(Inventory inventory) {
+        return isShipment() ? inventory.getCurrentQuantity() : inventory.getAvailableQuantity();
+    }
+
+    /**
+     * 数量に対する、入出庫履歴に記録する在庫数の増減.
+     */
+    public BigDecimal recordedDelta(BigDecimal quantity) {
+        return this == RELEASE ? quantity : quantity.negate();
+    }
+
+    public boolean isShipment() {
+        return this == SHIP_ALLOCATED || this == SHIP_UNALLOCATED;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.sms.domain.model.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 在庫の引当・出庫の要求（倉庫・商品ごとの数量）.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockRequest {
+    private String warehouseCode;
+    private String productCode;
+    private BigDecimal quantity;
+}
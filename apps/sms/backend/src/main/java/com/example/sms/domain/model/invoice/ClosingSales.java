@@ -0,0 +1,45 @@
+package com.example.sms.domain.model.invoice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 請求締処理の対象となる未請求の売上.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClosingSales {
+    private Integer salesId;
+    private String salesNumber;
+    private LocalDate salesDate;
+    private String customerCode;
+    private String customerBranchNumber;
+    private BigDecimal salesAmount;
+    private BigDecimal taxAmount;
+    private BigDecimal totalAmount;
+
+    /**
+     * 請求明細に変換する.
+     *
+     * @param lineNumber 行番号
+     * @return 請求明細
+     */
+    public InvoiceDetail toInvoiceDetail(int lineNumber) {
+        return InvoiceDetail.builder()
+            .lineNumber(lineNumber)
+            .salesId(salesId)
+            .salesNumber(salesNumber)
+            .salesDate(salesDate)
+            .salesAmount(salesAmount)
+            .taxAmount(taxAmount)
+            .totalAmount(totalAmount)
+            .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.sms.domain.model.invoice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 請求締処理の対象顧客.
+ *
+ * <p>顧客マスタの締日・支払条件のうち、締処理に必要な項目だけを持つ。</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClosingTarget {
+    private String customerCode;
+    private String customerBranchNumber;
+    private String billingCode;
+    private Integer closingDay1;
+    private Integer paymentMonth1;
+    private Integer paymentDay1;
+    private Integer closingDay2;
+    private Integer paymentMonth2;
+    private Integer paymentDay2;
+
+    /**
+     * 対象期間の締日に該当する支払条件から回収予定日を計算する.
+     *
+     * <p>支払日が支払月の日数を超える場合（例: 31 日払い）は月末とする。</p>
+     *
+     * @param period 対象期間
+     * @return 回収予定日（支払日が未設定の場合は null）
+     */
+    public LocalDate dueDate(InvoiceClosingPeriod period) {
+        boolean firstTerms = matches(closingDay1, period) || !matches(closingDay2, period);
+        Integer paymentMonth = firstTerms ? paymentMonth1 : paymentMonth2;
+        Integer paymentDay = firstTerms ? paymentDay1 : paymentDay2;
+        if (paymentDay == null) {
+            return null;
+        }
+        LocalDate paymentMonthDate = period.getClosingDate().plusMonths(paymentMonth != null ? paymentMonth : 0);
+        return paymentMonthDate.withDayOfMonth(Math.min(paymentDay, paymentMonthDate.lengthOfMonth()));
+    }
+
+    private static boolean matches(Integer closingDay, InvoiceClosingPeriod period) {
+        if (closingDay == null) {
+            return false;
+        }
+        return closingDay == period.getClosingDay() || period.isMonthEnd() && closingDay > period.getClosingDay();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.sms.domain.model.invoice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 顧客別の集計金額（入金合計・前回残高など）.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerAmount {
+    private String customerCode;
+    private String customerBranchNumber;
+    private BigDecimal amount;
+}
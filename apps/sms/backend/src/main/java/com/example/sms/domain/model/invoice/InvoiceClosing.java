@@ -0,0 +1,94 @@
+package com.example.sms.domain.model.invoice;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 顧客 1 件分の請求締処理の結果.
+ *
+ * <p>締処理で作成する請求（明細付き）・請求締履歴・売掛金残高をまとめて持つ。</p>
+ */
+@Data
+@AllArgsConstructor
+public class InvoiceClosing {
+    private Invoice invoice;
+    private ClosingHistory closingHistory;
+    private AccountsReceivable accountsReceivable;
+
+    /**
+     * 顧客の前回残高・入金額・未請求の売上から請求を組み立てる.
+     *
+     * <p>売上も入金も前回残高もない顧客には請求を作成しない。請求番号は呼び出し元で採番する。</p>
+     *
+     * @param target 対象顧客
+     * @param period 対象期間
+     * @param previousBalance 前回請求残高
+     * @param receiptAmount 前回締日の翌日から今回締日までの入金額
+     * @param sales 対象顧客の未請求の売上（売上日順）
+     * @return 締処理の結果
+     */
+    public static Optional<InvoiceClosing> assemble(ClosingTarget target, InvoiceClosingPeriod period,
+            BigDecimal previousBalance, BigDecimal receiptAmount, List<ClosingSales> sales) {
+        if (sales.isEmpty() && previousBalance.signum() == 0 && receiptAmount.signum() == 0) {
+            return Optional.empty();
+        }
+
+        List<InvoiceDetail> details = new ArrayList<>(sales.size());
+        BigDecimal salesAmount = BigDecimal.ZERO;
+        BigDecimal taxAmount = BigDecimal.ZERO;
+        for (ClosingSales s : sales) {
+            details.add(s.toInvoiceDetail(details.size() + 1));
+            salesAmount = salesAmount.add(s.getSalesAmount());
+            taxAmount = taxAmount.add(s.getTaxAmount());
+        }
+        BigDecimal carriedBalance = previousBalance.subtract(receiptAmount);
+        BigDecimal currentInvoiceAmount = salesAmount.add(taxAmount);
+        BigDecimal invoiceBalance = carriedBalance.add(currentInvoiceAmount);
+
+        Invoice invoice = Invoice.builder()
+            .invoiceDate(period.getClosingDate())
+            .billingCode(target.getBillingCode() != null ? target.getBillingCode() : target.getCustomerCode())
+            .customerCode(target.getCustomerCode())
+            .customerBranchNumber(target.getCustomerBranchNumber())
+            .closingDate(period.getClosingDate())
+            .invoiceType(InvoiceType.CLOSING)
+            .previousBalance(previousBalance)
+            .receiptAmount(receiptAmount)
+            .carriedBalance(carriedBalance)
+            .currentSalesAmount(salesAmount)
+            .currentTaxAmount(taxAmount)
+            .currentInvoiceAmount(currentInvoiceAmount)
+            .invoiceBalance(invoiceBalance)
+            .dueDate(target.dueDate(period))
+            .status(InvoiceStatus.DRAFT)
+            .details(details)
+            .build();
+
+        ClosingHistory closingHistory = ClosingHistory.builder()
+            .customerCode(target.getCustomerCode())
+            .customerBranchNumber(target.getCustomerBranchNumber())
+            .closingYearMonth(period.getClosingYearMonth())
+            .closingDate(period.getClosingDate())
+            .salesCount(sales.size())
+            .salesTotal(salesAmount)
+            .taxTotal(taxAmount)
+            .build();
+
+        AccountsReceivable accountsReceivable = AccountsReceivable.builder()
+            .customerCode(target.getCustomerCode())
+            .customerBranchNumber(target.getCustomerBranchNumber())
+            .baseDate(period.getClosingDate())
+            .previousMonthBalance(previousBalance)
+            .currentMonthSales(currentInvoiceAmount)
+            .currentMonthReceipts(receiptAmount)
+            .currentMonthBalance(invoiceBalance)
+            .build();
+
+        return Optional.of(new InvoiceClosing(invoice, closingHistory, accountsReceivable));
+    }
+}
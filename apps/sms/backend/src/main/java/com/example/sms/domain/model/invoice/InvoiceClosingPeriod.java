@@ -0,0 +1,51 @@
+package com.example.sms.domain.model.invoice;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 請求締処理の対象期間.
+ *
+ * <p>締日が月末の場合は、締日の日付以降を指定した顧客（例: 31 日締め）も対象とする。</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class InvoiceClosingPeriod {
+
+    private static final DateTimeFormatter YEAR_MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    /** 締日. */
+    private final LocalDate closingDate;
+
+    /** 締日の日付（顧客締日と突き合わせる値）. */
+    private final int closingDay;
+
+    /** 締日が月末かどうか. */
+    private final boolean monthEnd;
+
+    /** 締年月（yyyy-MM）. */
+    private final String closingYearMonth;
+
+    /** 前回締日（前回の売掛金残高がない顧客の入金集計の起点）. */
+    private final LocalDate previousClosingDate;
+
+    /**
+     * 締日から対象期間を作成する.
+     *
+     * @param closingDate 締日
+     * @return 対象期間
+     */
+    public static InvoiceClosingPeriod of(LocalDate closingDate) {
+        boolean monthEnd = closingDate.getDayOfMonth() == closingDate.lengthOfMonth();
+        LocalDate previousClosingDate = monthEnd
+            ? closingDate.minusMonths(1).with(TemporalAdjusters.lastDayOfMonth())
+            : closingDate.minusMonths(1);
+        return new InvoiceClosingPeriod(closingDate, closingDate.getDayOfMonth(), monthEnd,
+            closingDate.format(YEAR_MONTH_FORMAT), previousClosingDate);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.sms.domain.model.invoice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 請求締処理の実行結果.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoiceClosingResult {
+    private LocalDate closingDate;
+    private int targetCustomerCount;
+    private int invoiceCount;
+    private int salesCount;
+    private BigDecimal totalInvoiceAmount;
+    /** 締日に該当したが当月の締処理が済んでいたため締めなかった顧客（顧客コード-顧客枝番）. */
+    @Builder.Default
+    private List<String> skippedCustomers = List.of();
+
+    /**
+     * 締処理の結果を集計する.
+     *
+     * @param closingDate 締日
+     * @param targetCustomerCount 締日に該当した顧客数
+     * @param closings 作成した締処理の結果
+     * @param skipped 当月の締処理が済んでいたため締めなかった顧客
+     * @return 実行結果
+     */
+    public static InvoiceClosingResult of(LocalDate closingDate, int targetCustomerCount,
+            List<InvoiceClosing> closings, List<ClosingTarget> skipped) {
+        int salesCount = 0;
+        BigDecimal totalInvoiceAmount = BigDecimal.ZERO;
+        for (InvoiceClosing closing : closings) {
+            salesCount += closing.getInvoice().getDetails().size();
+            totalInvoiceAmount = totalInvoiceAmount.add(closing.getInvoice().getCurrentInvoiceAmount());
+        }
+        List<String> skippedCustomers = skipped.stream()
+            .map(target -> target.getCustomerCode() + "-" + target.getCustomerBranchNumber())
+            .toList();
+        return new InvoiceClosingResult(closingDate, targetCustomerCount, closings.size(),
+            salesCount, totalInvoiceAmount, skippedCustomers);
+    }
+}
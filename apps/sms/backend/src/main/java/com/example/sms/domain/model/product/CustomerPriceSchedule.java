@@ -0,0 +1,60 @@
+package com.example.sms.domain.model.product;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 1 つの商品・取引先の顧客別販売単価を適用開始日で索引付けした単価表.
+ *
+ * <p>指定日の単価は、適用開始日が指定日以前で最も新しい単価とし、その適用終了日を過ぎていれば単価なしとする。</p>
+ */
+public final class CustomerPriceSchedule {
+
+    /** 顧客別販売単価が登録されていない商品・取引先の単価表. */
+    public static final CustomerPriceSchedule EMPTY = new CustomerPriceSchedule(Collections.emptyNavigableMap());
+
+    private final NavigableMap<LocalDate, CustomerProductPrice> pricesByStartDate;
+
+    private CustomerPriceSchedule(NavigableMap<LocalDate, CustomerProductPrice> pricesByStartDate) {
+        this.pricesByStartDate = pricesByStartDate;
+    }
+
+    /**
+     * 同じ商品・取引先の顧客別販売単価から単価表を作成する.
+     *
+     * @param prices 顧客別販売単価
+     * @return 単価表
+     */
+    public static CustomerPriceSchedule of(List<CustomerProductPrice> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+        NavigableMap<LocalDate, CustomerProductPrice> byStartDate = new TreeMap<>();
+        prices.forEach(price -> byStartDate.put(price.getStartDate(), price));
+        return new CustomerPriceSchedule(Collections.unmodifiableNavigableMap(byStartDate));
+    }
+
+    /**
+     * 指定日に適用される販売単価を返す.
+     *
+     * @param date 適用日
+     * @return 販売単価（適用される単価がない場合は空）
+     */
+    public Optional<BigDecimal> priceOn(LocalDate date) {
+        Map.Entry<LocalDate, CustomerProductPrice> entry = pricesByStartDate.floorEntry(date);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        CustomerProductPrice price = entry.getValue();
+        if (price.getEndDate() != null && price.getEndDate().isBefore(date)) {
+            return Optional.empty();
+        }
+        return Optional.of(price.getSellingPrice());
+    }
+}
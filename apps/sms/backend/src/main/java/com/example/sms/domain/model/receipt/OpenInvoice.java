@@ -0,0 +1,48 @@
+package com.example.sms.domain.model.receipt;
+
+import com.example.sms.domain.model.invoice.InvoiceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 消込対象の未回収請求（請求残高のある発行済の請求）.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenInvoice {
+    private Integer invoiceId;
+    private String invoiceNumber;
+    private String customerCode;
+    private String customerBranchNumber;
+    private String customerNameKana;
+    private LocalDate dueDate;
+    private BigDecimal receiptAmount;
+    private BigDecimal invoiceBalance;
+    private Integer version;
+
+    /**
+     * 入金を充当し、入金額と請求残高を更新する.
+     *
+     * @param amount 充当額
+     */
+    public void apply(BigDecimal amount) {
+        receiptAmount = receiptAmount.add(amount);
+        invoiceBalance = invoiceBalance.subtract(amount);
+    }
+
+    /**
+     * 充当後の請求ステータスを返す.
+     *
+     * @return 残高がなければ入金済、残っていれば一部入金
+     */
+    public InvoiceStatus getStatusAfterApplication() {
+        return invoiceBalance.signum() > 0 ? InvoiceStatus.PARTIALLY_PAID : InvoiceStatus.PAID;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.sms.domain.model.receipt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 1 件の入金の自動消込結果.
+ *
+ * <p>入金は消込後の金額・ステータスに更新済み、請求は充当後の入金額・請求残高に更新済みの状態で保持する。</p>
+ */
+@Data
+@AllArgsConstructor
+public class ReceiptMatch {
+    private Receipt receipt;
+    private List<ReceiptApplication> applications;
+    private List<OpenInvoice> invoices;
+    private BigDecimal bankFee;
+}
@@ -0,0 +1,229 @@
+package com.example.sms.domain.model.receipt;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * 入金自動消込（入金と未回収請求の突き合わせ）.
+ *
+ * <p>未回収請求を顧客ごとに「回収予定日順のリスト」と「請求残高をキーにした順序付きマップ」へ索引付けし、
+ * 入金ごとに次の順で消込先を決める。</p>
+ * <ol>
+ *   <li>請求残高が未消込金額以上で、差額が振込手数料の許容額以内の請求 1 件（差額の小さい順・回収予定日順）</li>
+ *   <li>回収予定日の古い請求から累計した請求残高が、未消込金額以上かつ差額が許容額以内に収まる複数の請求</li>
+ * </ol>
+ *
+ * <p>入金の顧客で消込先が見つからない場合は、振込名義が顧客名カナと一致する顧客（1 社に特定できる場合のみ）の
+ * 請求で同じ突き合わせを行う。どちらでも見つからない入金は手作業の消込に残す。</p>
+ *
+ * <p>消込先の請求は全額回収済とする。請求残高の合計と未消込金額の差額は振込手数料として入金の入金金額と手数料に加え、
+ * 消込明細は入金された金額で登録する（手数料は請求残高の最も大きい請求の明細から差し引き、備考に記録する）。</p>
+ *
+ * <p>請求は消込のたびに索引から外すため、同じ請求が複数の入金に消し込まれることはない。スレッドセーフではない。</p>
+ */
+public final class ReceiptMatcher {
+
+    private static final Comparator<OpenInvoice> DUE_DATE_ORDER = Comparator
+        .comparing(OpenInvoice::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(OpenInvoice::getInvoiceNumber);
+
+    private static final String SMALL_KANA = "ァィゥェォッャュョヮヵヶ";
+    private static final String LARGE_KANA = "アイウエオツヤユヨワカケ";
+
+    /** 振込名義の法人格の略語（カ) ・(カ など）と正式表記（小書き文字は大文字化した後の表記）. */
+    private static final Pattern LEGAL_ENTITY = Pattern.compile(
+        "カブシキガイシヤ|ユウゲンガイシヤ|ゴウドウガイシヤ|\\((?:カ|ユ|ド)\\)?|(?:カ|ユ|ド)\\)");
+
+    private static final String FEE_REMARKS = "振込手数料 %s 円を差し引いて消込";
+
+    private final BigDecimal bankFeeTolerance;
+    private final Map<String, List<OpenInvoice>> invoicesByCustomer = new HashMap<>();
+    private final Map<String, NavigableMap<BigDecimal, List<OpenInvoice>>> invoicesByBalance = new HashMap<>();
+    private final Map<String, Set<String>> customersByPayerName = new HashMap<>();
+
+    private ReceiptMatcher(BigDecimal bankFeeTolerance) {
+        this.bankFeeTolerance = bankFeeTolerance;
+    }
+
+    /**
+     * 未回収請求を索引付けする.
+     *
+     * @param invoices 未回収請求
+     * @param bankFeeTolerance 振込手数料として差し引かれたとみなす差額の上限
+     * @return 自動消込
+     */
+    public static ReceiptMatcher of(List<OpenInvoice> invoices, BigDecimal bankFeeTolerance) {
+        ReceiptMatcher matcher = new ReceiptMatcher(bankFeeTolerance);
+        invoices.stream().sorted(DUE_DATE_ORDER).forEach(matcher::index);
+        return matcher;
+    }
+
+    private void index(OpenInvoice invoice) {
+        String key = customerKey(invoice.getCustomerCode(), invoice.getCustomerBranchNumber());
+        invoicesByCustomer.computeIfAbsent(key, k -> new ArrayList<>()).add(invoice);
+        invoicesByBalance.computeIfAbsent(key, k -> new TreeMap<>())
+            .computeIfAbsent(invoice.getInvoiceBalance(), b -> new ArrayList<>()).add(invoice);
+        String payerName = normalizePayerName(invoice.getCustomerNameKana());
+        if (!payerName.isEmpty()) {
+            customersByPayerName.computeIfAbsent(payerName, n -> new LinkedHashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * 入金の消込先を決め、入金・請求の金額を消込後の状態に更新する.
+     *
+     * @param unapplied 未消込の入金
+     * @param applicationDate 消込日
+     * @return 消込結果（消込先が決まらない場合は空）
+     */
+    public Optional<ReceiptMatch> match(UnappliedReceipt unapplied, LocalDate applicationDate) {
+        Receipt receipt = unapplied.getReceipt();
+        BigDecimal amount = receipt.getUnappliedAmount();
+        if (amount == null || amount.signum() <= 0) {
+            return Optional.empty();
+        }
+        String key = customerKey(receipt.getCustomerCode(), receipt.getCustomerBranchNumber());
+        List<OpenInvoice> invoices = findInvoices(key, amount);
+        if (invoices.isEmpty()) {
+            String payerKey = findCustomerByPayerName(receipt.getPayerName(), key);
+            if (payerKey != null) {
+                invoices = findInvoices(payerKey, amount);
+            }
+        }
+        if (invoices.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(apply(unapplied, invoices, applicationDate));
+    }
+
+    private List<OpenInvoice> findInvoices(String key, BigDecimal amount) {
+        NavigableMap<BigDecimal, List<OpenInvoice>> byBalance = invoicesByBalance.get(key);
+        if (byBalance == null || byBalance.isEmpty()) {
+            return List.of();
+        }
+        // 1. 未消込金額以上で最も近い請求残高の請求
+        Map.Entry<BigDecimal, List<OpenInvoice>> nearest = byBalance.ceilingEntry(amount);
+        if (nearest != null && nearest.getKey().subtract(amount).compareTo(bankFeeTolerance) <= 0) {
+            return List.of(nearest.getValue().getFirst());
+        }
+
+        // 2. 回収予定日の古い請求からの累計
+        BigDecimal limit = amount.add(bankFeeTolerance);
+        List<OpenInvoice> selected = new ArrayList<>();
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal largest = BigDecimal.ZERO;
+        for (OpenInvoice invoice : invoicesByCustomer.get(key)) {
+            selected.add(invoice);
+            total = total.add(invoice.getInvoiceBalance());
+            largest = largest.max(invoice.getInvoiceBalance());
+            if (total.compareTo(limit) > 0) {
+                return List.of();
+            }
+            if (total.compareTo(amount) >= 0) {
+                // 手数料を 1 件の明細から差し引けない組み合わせは採用しない
+                return total.subtract(amount).compareTo(largest) < 0 ? selected : List.of();
+            }
+        }
+        return List.of();
+    }
+
+    private String findCustomerByPayerName(String payerName, String receiptCustomerKey) {
+        Set<String> customers = customersByPayerName.get(normalizePayerName(payerName));
+        if (customers == null || customers.size() != 1 || customers.contains(receiptCustomerKey)) {
+            return null;
+        }
+        return customers.iterator().next();
+    }
+
+    private ReceiptMatch apply(UnappliedReceipt unapplied, List<OpenInvoice> invoices, LocalDate applicationDate) {
+        Receipt receipt = unapplied.getReceipt();
+        BigDecimal cash = receipt.getUnappliedAmount();
+        BigDecimal total = BigDecimal.ZERO;
+        OpenInvoice feeInvoice = invoices.getFirst();
+        for (OpenInvoice invoice : invoices) {
+            total = total.add(invoice.getInvoiceBalance());
+            if (invoice.getInvoiceBalance().compareTo(feeInvoice.getInvoiceBalance()) > 0) {
+                feeInvoice = invoice;
+            }
+        }
+        BigDecimal fee = total.subtract(cash);
+
+        int lineNumber = unapplied.getLastLineNumber();
+        List<ReceiptApplication> applications = new ArrayList<>(invoices.size());
+        for (OpenInvoice invoice : invoices) {
+            BigDecimal balance = invoice.getInvoiceBalance();
+            boolean feeLine = invoice.equals(feeInvoice) && fee.signum() > 0;
+            lineNumber++;
+            applications.add(ReceiptApplication.builder()
+                .receiptId(receipt.getId())
+                .lineNumber(lineNumber)
+                .invoiceId(invoice.getInvoiceId())
+                .applicationDate(applicationDate)
+                .appliedAmount(feeLine ? balance.subtract(fee) : balance)
+                .remarks(feeLine ? String.format(FEE_REMARKS, fee.toPlainString()) : null)
+                .build());
+            remove(invoice);
+            invoice.apply(balance);
+        }
+        unapplied.setLastLineNumber(lineNumber);
+
+        receipt.setReceiptAmount(receipt.getReceiptAmount().add(fee));
+        receipt.setBankFee(receipt.getBankFee().add(fee));
+        receipt.setAppliedAmount(receipt.getAppliedAmount().add(cash));
+        receipt.setUnappliedAmount(BigDecimal.ZERO);
+        receipt.setStatus(ReceiptStatus.APPLIED);
+        return new ReceiptMatch(receipt, applications, List.copyOf(invoices), fee);
+    }
+
+    private void remove(OpenInvoice invoice) {
+        String key = customerKey(invoice.getCustomerCode(), invoice.getCustomerBranchNumber());
+        invoicesByCustomer.get(key).remove(invoice);
+        NavigableMap<BigDecimal, List<OpenInvoice>> byBalance = invoicesByBalance.get(key);
+        List<OpenInvoice> sameBalance = byBalance.get(invoice.getInvoiceBalance());
+        sameBalance.remove(invoice);
+        if (sameBalance.isEmpty()) {
+            byBalance.remove(invoice.getInvoiceBalance());
+        }
+    }
+
+    /**
+     * 振込名義・顧客名カナを突き合わせ用に正規化する.
+     *
+     * <p>全角・半角を揃え（NFKC）、空白と記号を除き、小書き文字を大文字にし、法人格の表記を取り除く。</p>
+     *
+     * @param name 振込名義または顧客名カナ
+     * @return 正規化した名義（null の場合は空文字）
+     */
+    public static String normalizePayerName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c) || c == '・' || c == '.' || c == ',') {
+                continue;
+            }
+            int small = SMALL_KANA.indexOf(c);
+            builder.append(small >= 0 ? LARGE_KANA.charAt(small) : c);
+        }
+        return LEGAL_ENTITY.matcher(builder).replaceAll("");
+    }
+
+    private static String customerKey(String customerCode, String customerBranchNumber) {
+        return customerCode + '\t' + customerBranchNumber;
+    }
+}
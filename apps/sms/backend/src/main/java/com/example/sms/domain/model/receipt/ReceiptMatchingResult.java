@@ -0,0 +1,50 @@
+package com.example.sms.domain.model.receipt;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 入金自動消込の実行結果.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReceiptMatchingResult {
+    private LocalDate applicationDate;
+    private int receiptCount;
+    private int matchedCount;
+    private int unmatchedCount;
+    private int invoiceCount;
+    private BigDecimal appliedAmount;
+    private BigDecimal bankFee;
+
+    /**
+     * 消込結果を集計する.
+     *
+     * @param applicationDate 消込日
+     * @param receiptCount 消込対象とした入金の件数
+     * @param matches 消込できた入金の結果
+     * @return 実行結果
+     */
+    public static ReceiptMatchingResult of(LocalDate applicationDate, int receiptCount, List<ReceiptMatch> matches) {
+        int invoiceCount = 0;
+        BigDecimal appliedAmount = BigDecimal.ZERO;
+        BigDecimal bankFee = BigDecimal.ZERO;
+        for (ReceiptMatch match : matches) {
+            invoiceCount += match.getInvoices().size();
+            for (ReceiptApplication application : match.getApplications()) {
+                appliedAmount = appliedAmount.add(application.getAppliedAmount());
+            }
+            bankFee = bankFee.add(match.getBankFee());
+        }
+        return new ReceiptMatchingResult(applicationDate, receiptCount, matches.size(),
+            receiptCount - matches.size(), invoiceCount, appliedAmount, bankFee);
+    }
+}
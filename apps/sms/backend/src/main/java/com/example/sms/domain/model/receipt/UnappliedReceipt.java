@@ -0,0 +1,16 @@
+package com.example.sms.domain.model.receipt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 未消込金額の残っている入金と、登録済みの消込明細の最終行番号.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnappliedReceipt {
+    private Receipt receipt;
+    private int lastLineNumber;
+}
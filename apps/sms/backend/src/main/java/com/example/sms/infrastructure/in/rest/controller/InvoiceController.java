@@ -6,6 +6,7 @@ import com.example.sms.application.port.in.command.UpdateInvoiceCommand;
 import com.example.sms.domain.model.invoice.Invoice;
 import com.example.sms.domain.model.invoice.InvoiceStatus;
 import com.example.sms.infrastructure.in.rest.dto.CreateInvoiceRequest;
+import com.example.sms.infrastructure.in.rest.dto.InvoiceClosingResponse;
 import com.example.sms.infrastructure.in.rest.dto.InvoiceResponse;
 import com.example.sms.infrastructure.in.rest.dto.UpdateInvoiceRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -101,6 +104,16 @@ public class InvoiceController {
             .body(InvoiceResponse.from(invoice));
     }
 
+    @PostMapping("/closing")
+    @Operation(summary = "請求締処理", description = "締日に該当するすべての顧客の請求を作成します")
+    @ApiResponse(responseCode = "200", description = "締処理の結果を返却")
+    public ResponseEntity<InvoiceClosingResponse> closeInvoices(
+            @Parameter(description = "締日", example = "2025-01-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate closingDate) {
+
+        return ResponseEntity.ok(InvoiceClosingResponse.from(invoiceUseCase.closeInvoices(closingDate)));
+    }
+
     @PutMapping("/{invoiceNumber}")
     @Operation(summary = "請求の更新", description = "請求番号を指定して請求情報を更新します")
     @ApiResponse(responseCode = "200", description = "請求を更新")
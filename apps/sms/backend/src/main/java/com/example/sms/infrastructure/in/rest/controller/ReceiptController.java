@@ -6,6 +6,7 @@ import com.example.sms.application.port.in.command.UpdateReceiptCommand;
 import com.example.sms.domain.model.receipt.Receipt;
 import com.example.sms.domain.model.receipt.ReceiptStatus;
 import com.example.sms.infrastructure.in.rest.dto.CreateReceiptRequest;
+import com.example.sms.infrastructure.in.rest.dto.ReceiptMatchingResponse;
 import com.example.sms.infrastructure.in.rest.dto.ReceiptResponse;
 import com.example.sms.infrastructure.in.rest.dto.UpdateReceiptRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -101,6 +104,17 @@ public class ReceiptController {
             .body(ReceiptResponse.from(receipt));
     }
 
+    @PostMapping("/matching")
+    @Operation(summary = "入金自動消込", description = "未消込の入金を未回収の請求に自動で消し込みます")
+    @ApiResponse(responseCode = "200", description = "消込の結果を返却")
+    @ApiResponse(responseCode = "409", description = "楽観ロックエラー")
+    public ResponseEntity<ReceiptMatchingResponse> matchReceipts(
+            @Parameter(description = "消込日", example = "2025-02-28")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate applicationDate) {
+
+        return ResponseEntity.ok(ReceiptMatchingResponse.from(receiptUseCase.matchReceipts(applicationDate)));
+    }
+
     @PutMapping("/{receiptNumber}")
     @Operation(summary = "入金の更新", description = "入金番号を指定して入金情報を更新します")
     @ApiResponse(responseCode = "200", description = "入金を更新")
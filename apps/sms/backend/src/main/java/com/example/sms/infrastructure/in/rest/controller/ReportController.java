@@ -0,0 +1,103 @@
+package com.example.sms.infrastructure.in.rest.controller;
+
+import com.example.sms.infrastructure.in.rest.dto.BulkPdfJobResponse;
+import com.example.sms.infrastructure.in.rest.dto.StartBulkPdfRequest;
+import com.example.sms.infrastructure.in.web.service.BulkPdfJob;
+import com.example.sms.infrastructure.in.web.service.BulkPdfOutputFormat;
+import com.example.sms.infrastructure.in.web.service.BulkPdfRenderingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * 帳票 API コントローラー.
+ */
+@RestController
+@RequestMapping("/api/v1/reports")
+@Tag(name = "reports", description = "帳票 API")
+public class ReportController {
+
+    private final BulkPdfRenderingService bulkPdfRenderingService;
+
+    public ReportController(BulkPdfRenderingService bulkPdfRenderingService) {
+        this.bulkPdfRenderingService = bulkPdfRenderingService;
+    }
+
+    @PostMapping("/bulk-pdf")
+    @Operation(summary = "帳票の一括出力の開始",
+        description = "期間内の請求書・発注書の PDF 一括出力をバックグラウンドで開始します")
+    @ApiResponse(responseCode = "202", description = "開始したジョブを返却")
+    @ApiResponse(responseCode = "400", description = "リクエストが不正")
+    public ResponseEntity<BulkPdfJobResponse> startBulkPdf(@Valid @RequestBody StartBulkPdfRequest request) {
+
+        BulkPdfOutputFormat outputFormat = request.outputFormat() != null
+            ? request.outputFormat() : BulkPdfOutputFormat.ZIP;
+        BulkPdfJob job = bulkPdfRenderingService.start(
+            request.documentType(), request.from(), request.to(), outputFormat);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/reports/bulk-pdf/" + job.getJobId()))
+            .body(BulkPdfJobResponse.from(job));
+    }
+
+    @GetMapping("/bulk-pdf/{jobId}")
+    @Operation(summary = "帳票の一括出力の進捗",
+        description = "ジョブの状態・進捗と文書ごとの生成時間（平均・最大）を取得します")
+    @ApiResponse(responseCode = "200", description = "ジョブを返却")
+    @ApiResponse(responseCode = "404", description = "ジョブが見つからない")
+    public ResponseEntity<BulkPdfJobResponse> getBulkPdfJob(
+            @Parameter(description = "ジョブ ID")
+            @PathVariable String jobId) {
+
+        return ResponseEntity.ok(BulkPdfJobResponse.from(bulkPdfRenderingService.getJob(jobId)));
+    }
+
+    @GetMapping("/bulk-pdf/{jobId}/file")
+    @Operation(summary = "帳票の一括出力のダウンロード", description = "完了したジョブの ZIP または結合 PDF を取得します")
+    @ApiResponse(responseCode = "200", description = "出力ファイルを返却")
+    @ApiResponse(responseCode = "404", description = "ジョブが見つからない")
+    @ApiResponse(responseCode = "422", description = "ジョブが完了していない")
+    public ResponseEntity<Resource> downloadBulkPdf(
+            @Parameter(description = "ジョブ ID")
+            @PathVariable String jobId) {
+
+        Path outputFile = bulkPdfRenderingService.getOutputFile(jobId);
+        BulkPdfJob job = bulkPdfRenderingService.getJob(jobId);
+        String fileName = job.getDocumentType().getFileNamePrefix() + "_" + job.getStartedAt().toLocalDate()
+            + job.getOutputFormat().getExtension();
+        ContentDisposition contentDisposition = ContentDisposition.attachment().filename(fileName).build();
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(job.getOutputFormat().getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+            .body(new FileSystemResource(outputFile));
+    }
+
+    @DeleteMapping("/bulk-pdf/{jobId}")
+    @Operation(summary = "帳票の一括出力の破棄", description = "実行中のジョブは取り消し、出力ファイルを削除します")
+    @ApiResponse(responseCode = "204", description = "ジョブを破棄")
+    @ApiResponse(responseCode = "404", description = "ジョブが見つからない")
+    public ResponseEntity<Void> discardBulkPdf(
+            @Parameter(description = "ジョブ ID")
+            @PathVariable String jobId) {
+
+        bulkPdfRenderingService.discard(jobId);
+        return ResponseEntity.noContent().build();
+    }
+}
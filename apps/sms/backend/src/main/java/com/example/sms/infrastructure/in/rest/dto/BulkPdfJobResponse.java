@@ -0,0 +1,55 @@
+package com.example.sms.infrastructure.in.rest.dto;
+
+import com.example.sms.infrastructure.in.web.service.BulkPdfDocumentType;
+import com.example.sms.infrastructure.in.web.service.BulkPdfJob;
+import com.example.sms.infrastructure.in.web.service.BulkPdfJobStatus;
+import com.example.sms.infrastructure.in.web.service.BulkPdfOutputFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 帳票一括出力ジョブのレスポンス DTO.
+ */
+public record BulkPdfJobResponse(
+    String jobId,
+    BulkPdfDocumentType documentType,
+    BulkPdfOutputFormat outputFormat,
+    BulkPdfJobStatus status,
+    int totalCount,
+    int renderedCount,
+    int failedCount,
+    int progressPercent,
+    long averageRenderMillis,
+    long maxRenderMillis,
+    long elapsedMillis,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    List<String> errors
+) {
+
+    /**
+     * ジョブからレスポンス DTO を作成.
+     *
+     * @param job 帳票一括出力ジョブ
+     * @return 帳票一括出力ジョブのレスポンス DTO
+     */
+    public static BulkPdfJobResponse from(BulkPdfJob job) {
+        return new BulkPdfJobResponse(
+            job.getJobId(),
+            job.getDocumentType(),
+            job.getOutputFormat(),
+            job.getStatus(),
+            job.getTotalCount(),
+            job.getRenderedCount(),
+            job.getFailedCount(),
+            job.getProgressPercent(),
+            job.getAverageRenderMillis(),
+            job.getMaxRenderMillis(),
+            job.getElapsedMillis(),
+            job.getStartedAt(),
+            job.getFinishedAt(),
+            job.getErrors()
+        );
+    }
+}
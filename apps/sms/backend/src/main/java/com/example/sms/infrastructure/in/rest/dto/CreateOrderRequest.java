@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -55,7 +56,8 @@ public record CreateOrderRequest(
 
         String unit,
 
-        @NotNull(message = "単価は必須です")
+        /** 未指定の場合は受注日に適用される顧客別販売単価（なければ商品の販売単価）. */
+        @PositiveOrZero(message = "単価は0以上で入力してください")
         BigDecimal unitPrice,
 
         String warehouseCode,
@@ -0,0 +1,37 @@
+package com.example.sms.infrastructure.in.rest.dto;
+
+import com.example.sms.domain.model.invoice.InvoiceClosingResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 請求締処理結果レスポンス DTO.
+ */
+public record InvoiceClosingResponse(
+    LocalDate closingDate,
+    int targetCustomerCount,
+    int invoiceCount,
+    int salesCount,
+    BigDecimal totalInvoiceAmount,
+    List<String> skippedCustomers
+) {
+
+    /**
+     * ドメインモデルからレスポンス DTO を作成.
+     *
+     * @param result 請求締処理の実行結果
+     * @return 請求締処理結果レスポンス DTO
+     */
+    public static InvoiceClosingResponse from(InvoiceClosingResult result) {
+        return new InvoiceClosingResponse(
+            result.getClosingDate(),
+            result.getTargetCustomerCount(),
+            result.getInvoiceCount(),
+            result.getSalesCount(),
+            result.getTotalInvoiceAmount(),
+            result.getSkippedCustomers()
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.sms.infrastructure.in.rest.dto;
+
+import com.example.sms.domain.model.receipt.ReceiptMatchingResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 入金自動消込結果レスポンス DTO.
+ */
+public record ReceiptMatchingResponse(
+    LocalDate applicationDate,
+    int receiptCount,
+    int matchedCount,
+    int unmatchedCount,
+    int invoiceCount,
+    BigDecimal appliedAmount,
+    BigDecimal bankFee
+) {
+
+    /**
+     * ドメインモデルからレスポンス DTO を作成.
+     *
+     * @param result 入金自動消込の実行結果
+     * @return 入金自動消込結果レスポンス DTO
+     */
+    public static ReceiptMatchingResponse from(ReceiptMatchingResult result) {
+        return new ReceiptMatchingResponse(
+            result.getApplicationDate(),
+            result.getReceiptCount(),
+            result.getMatchedCount(),
+            result.getUnmatchedCount(),
+            result.getInvoiceCount(),
+            result.getAppliedAmount(),
+            result.getBankFee()
+        );
+    }
+}
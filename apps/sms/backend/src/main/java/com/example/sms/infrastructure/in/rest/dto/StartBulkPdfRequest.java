@@ -0,0 +1,24 @@
+package com.example.sms.infrastructure.in.rest.dto;
+
+import com.example.sms.infrastructure.in.web.service.BulkPdfDocumentType;
+import com.example.sms.infrastructure.in.web.service.BulkPdfOutputFormat;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * 帳票一括出力の開始リクエスト DTO.
+ */
+public record StartBulkPdfRequest(
+    @NotNull(message = "帳票の種類は必須です")
+    BulkPdfDocumentType documentType,
+
+    @NotNull(message = "対象期間（開始）は必須です")
+    LocalDate from,
+
+    @NotNull(message = "対象期間（終了）は必須です")
+    LocalDate to,
+
+    BulkPdfOutputFormat outputFormat
+) {
+}
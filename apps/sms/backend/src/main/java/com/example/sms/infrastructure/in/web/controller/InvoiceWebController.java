@@ -4,10 +4,12 @@ import com.example.sms.application.port.in.InvoiceUseCase;
 import com.example.sms.application.port.in.PartnerUseCase;
 import com.example.sms.domain.model.common.PageResult;
 import com.example.sms.domain.model.invoice.Invoice;
+import com.example.sms.domain.model.invoice.InvoiceClosingResult;
 import com.example.sms.domain.model.invoice.InvoiceStatus;
 import com.example.sms.domain.model.partner.Partner;
 import com.example.sms.infrastructure.in.web.form.InvoiceForm;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -100,6 +103,23 @@ public class InvoiceWebController {
         return "redirect:/invoices";
     }
 
+    /**
+     * 請求締処理を実行.
+     */
+    @PostMapping("/closing")
+    public String close(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate closingDate,
+            RedirectAttributes redirectAttributes) {
+
+        InvoiceClosingResult result = invoiceUseCase.closeInvoices(closingDate);
+        redirectAttributes.addFlashAttribute("successMessage",
+            "締日 " + closingDate + " の締処理で請求を " + result.getInvoiceCount() + " 件作成しました"
+                + (result.getSkippedCustomers().isEmpty() ? ""
+                    : "（当月の締処理が済んでいる顧客 " + String.join(", ", result.getSkippedCustomers())
+                        + " は締めていません）"));
+        return "redirect:/invoices";
+    }
+
     /**
      * 請求編集フォームを表示.
      */
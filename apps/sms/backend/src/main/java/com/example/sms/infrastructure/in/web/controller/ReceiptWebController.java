@@ -5,10 +5,12 @@ import com.example.sms.application.port.in.PartnerUseCase;
 import com.example.sms.domain.model.common.PageResult;
 import com.example.sms.domain.model.partner.Partner;
 import com.example.sms.domain.model.receipt.Receipt;
+import com.example.sms.domain.model.receipt.ReceiptMatchingResult;
 import com.example.sms.domain.model.receipt.ReceiptMethod;
 import com.example.sms.domain.model.receipt.ReceiptStatus;
 import com.example.sms.infrastructure.in.web.form.ReceiptForm;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -134,6 +137,20 @@ public class ReceiptWebController {
         return "redirect:/receipts/" + receiptNumber;
     }
 
+    /**
+     * 入金自動消込を実行.
+     */
+    @PostMapping("/matching")
+    public String match(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate applicationDate,
+            RedirectAttributes redirectAttributes) {
+
+        ReceiptMatchingResult result = receiptUseCase.matchReceipts(applicationDate);
+        redirectAttributes.addFlashAttribute("successMessage",
+            "入金 " + result.getMatchedCount() + " 件を消し込みました（未消込 " + result.getUnmatchedCount() + " 件）");
+        return "redirect:/receipts";
+    }
+
     /**
      * 入金を削除.
      */
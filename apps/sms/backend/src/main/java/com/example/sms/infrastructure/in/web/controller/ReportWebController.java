@@ -1,6 +1,5 @@
 package com.example.sms.infrastructure.in.web.controller;
 
-import com.example.sms.infrastructure.in.web.dto.InventoryReportData;
 import com.example.sms.application.service.ReportService;
 import com.example.sms.domain.model.invoice.Invoice;
 import com.example.sms.domain.model.purchase.PurchaseOrder;
@@ -14,9 +13,9 @@ import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,7 +24,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -35,6 +33,9 @@ import java.util.Map;
 @RequestMapping("/reports")
 public class ReportWebController {
 
+    /** Excel 出力時にメモリへ保持する行数. */
+    private static final int ROW_ACCESS_WINDOW = 100;
+
     private final ReportService reportService;
     private final PdfGeneratorService pdfGeneratorService;
 
@@ -53,8 +54,11 @@ public class ReportWebController {
         response.setHeader("Content-Disposition",
             "attachment; filename=inventory_" + LocalDate.now() + ".xlsx");
 
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("在庫一覧");
+        // 明細はカーソルで 1 行ずつ読み、直近 ROW_ACCESS_WINDOW 行だけをメモリに保持する
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("在庫一覧");
+            sheet.trackAllColumnsForAutoSizing();
 
             // ヘッダースタイル
             CellStyle headerStyle = createHeaderStyle(workbook);
@@ -69,10 +73,9 @@ public class ReportWebController {
             }
 
             // データ行
-            List<InventoryReportData> inventoryList = reportService.getInventoryReport();
-            int rowNum = 1;
-            for (InventoryReportData data : inventoryList) {
-                Row row = sheet.createRow(rowNum++);
+            int[] rowNum = {1};
+            reportService.forEachInventoryReportRow(data -> {
+                Row row = sheet.createRow(rowNum[0]++);
                 row.createCell(0).setCellValue(data.getWarehouseCode());
                 row.createCell(1).setCellValue(data.getWarehouseName());
                 row.createCell(2).setCellValue(data.getProductCode());
@@ -81,7 +84,7 @@ public class ReportWebController {
                 row.createCell(5).setCellValue(formatNumber(data.getAllocatedStock()));
                 row.createCell(6).setCellValue(formatNumber(data.getAvailableStock()));
                 row.createCell(7).setCellValue(data.getLocationCode() != null ? data.getLocationCode() : "");
-            }
+            });
 
             // 列幅自動調整
             for (int i = 0; i < headers.length; i++) {
@@ -89,6 +92,9 @@ public class ReportWebController {
             }
 
             workbook.write(response.getOutputStream());
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 
@@ -108,15 +114,13 @@ public class ReportWebController {
             "customerName", customerName
         );
 
-        // PDFを生成
-        byte[] pdfBytes = pdfGeneratorService.generatePdf("reports/invoice-pdf", variables);
-
         // レスポンスを設定
         response.setContentType("application/pdf");
         response.setHeader("Content-Disposition",
             "attachment; filename=invoice_" + invoiceNumber + ".pdf");
-        response.setContentLength(pdfBytes.length);
-        response.getOutputStream().write(pdfBytes);
+
+        // PDFを生成してレスポンスへ直接書き出す
+        pdfGeneratorService.generatePdf("reports/invoice-pdf", variables, response.getOutputStream());
     }
 
     /**
@@ -135,15 +139,13 @@ public class ReportWebController {
             "supplierName", supplierName
         );
 
-        // PDFを生成
-        byte[] pdfBytes = pdfGeneratorService.generatePdf("reports/purchase-order-pdf", variables);
-
         // レスポンスを設定
         response.setContentType("application/pdf");
         response.setHeader("Content-Disposition",
             "attachment; filename=purchase_order_" + purchaseOrderNumber + ".pdf");
-        response.setContentLength(pdfBytes.length);
-        response.getOutputStream().write(pdfBytes);
+
+        // PDFを生成してレスポンスへ直接書き出す
+        pdfGeneratorService.generatePdf("reports/purchase-order-pdf", variables, response.getOutputStream());
     }
 
     /**
@@ -162,15 +164,13 @@ public class ReportWebController {
             "customerName", customerName
         );
 
-        // PDFを生成
-        byte[] pdfBytes = pdfGeneratorService.generatePdf("reports/quotation-pdf", variables);
-
         // レスポンスを設定
         response.setContentType("application/pdf");
         response.setHeader("Content-Disposition",
             "attachment; filename=quotation_" + quotationNumber + ".pdf");
-        response.setContentLength(pdfBytes.length);
-        response.getOutputStream().write(pdfBytes);
+
+        // PDFを生成してレスポンスへ直接書き出す
+        pdfGeneratorService.generatePdf("reports/quotation-pdf", variables, response.getOutputStream());
     }
 
     private CellStyle createHeaderStyle(Workbook workbook) {
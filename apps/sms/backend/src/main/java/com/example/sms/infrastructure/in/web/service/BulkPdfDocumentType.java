@@ -0,0 +1,20 @@
+package com.example.sms.infrastructure.in.web.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 一括出力する帳票の種類.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BulkPdfDocumentType {
+    /** 請求書（請求日で対象を選ぶ）. */
+    INVOICE("請求書", "reports/invoice-pdf", "invoice"),
+    /** 発注書（発注日で対象を選ぶ）. */
+    PURCHASE_ORDER("発注書", "reports/purchase-order-pdf", "purchase_order");
+
+    private final String displayName;
+    private final String templateName;
+    private final String fileNamePrefix;
+}
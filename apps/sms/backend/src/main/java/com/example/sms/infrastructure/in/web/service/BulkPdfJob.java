@@ -0,0 +1,170 @@
+package com.example.sms.infrastructure.in.web.service;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 帳票 PDF の一括出力ジョブ.
+ *
+ * <p>進捗（生成済・失敗件数）と文書ごとの生成時間の集計を保持する。ワーカースレッドから同時に
+ * 記録してよい。状態と出力ファイルはジョブを実行するスレッドだけが更新する。</p>
+ */
+public class BulkPdfJob {
+
+    /** 保持するエラーの上限件数. */
+    private static final int MAX_ERRORS = 100;
+
+    @Getter
+    private final String jobId;
+    @Getter
+    private final BulkPdfDocumentType documentType;
+    @Getter
+    private final BulkPdfOutputFormat outputFormat;
+    @Getter
+    private final int totalCount;
+    @Getter
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final AtomicInteger renderedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private final LongAdder totalRenderNanos = new LongAdder();
+    private final LongAccumulator maxRenderNanos = new LongAccumulator(Math::max, 0L);
+    private final List<String> errors = new CopyOnWriteArrayList<>();
+
+    @Getter
+    private volatile BulkPdfJobStatus status = BulkPdfJobStatus.RUNNING;
+    @Getter
+    private volatile LocalDateTime finishedAt;
+    @Getter
+    private volatile Path outputFile;
+    private volatile boolean cancelRequested;
+
+    public BulkPdfJob(String jobId, BulkPdfDocumentType documentType, BulkPdfOutputFormat outputFormat,
+                      int totalCount) {
+        this.jobId = jobId;
+        this.documentType = documentType;
+        this.outputFormat = outputFormat;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * 文書 1 件の生成を記録する.
+     *
+     * @param renderNanos 生成にかかった時間（ナノ秒）
+     */
+    public void recordRendered(long renderNanos) {
+        totalRenderNanos.add(renderNanos);
+        maxRenderNanos.accumulate(renderNanos);
+        renderedCount.incrementAndGet();
+    }
+
+    /**
+     * 文書 1 件の失敗を記録する（エラー内容は先頭 {@value #MAX_ERRORS} 件まで保持する）.
+     *
+     * @param documentNumber 伝票番号
+     * @param message エラー内容
+     */
+    public void recordFailed(String documentNumber, String message) {
+        if (failedCount.incrementAndGet() <= MAX_ERRORS) {
+            errors.add(documentNumber + ": " + message);
+        }
+    }
+
+    public int getRenderedCount() {
+        return renderedCount.get();
+    }
+
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 処理済（生成済・失敗）の割合.
+     *
+     * @return 進捗率（0〜100）
+     */
+    public int getProgressPercent() {
+        if (totalCount == 0) {
+            return status.isFinished() ? 100 : 0;
+        }
+        return (getRenderedCount() + getFailedCount()) * 100 / totalCount;
+    }
+
+    /**
+     * 生成できた文書 1 件あたりの平均生成時間（ミリ秒）.
+     */
+    public long getAverageRenderMillis() {
+        int rendered = getRenderedCount();
+        return rendered == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(totalRenderNanos.sum() / rendered);
+    }
+
+    /**
+     * 文書 1 件の最大生成時間（ミリ秒）.
+     */
+    public long getMaxRenderMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxRenderNanos.get());
+    }
+
+    /**
+     * 開始からの経過時間（終了したジョブは終了までの時間）（ミリ秒）.
+     */
+    public long getElapsedMillis() {
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        return Duration.between(startedAt, end).toMillis();
+    }
+
+    public List<String> getErrors() {
+        return List.copyOf(errors);
+    }
+
+    /**
+     * 取消を要求する. 実行中の場合は生成中の文書を待って終了する.
+     *
+     * @return 完了していた場合は出力ファイル、それ以外は null
+     */
+    public synchronized Path requestCancel() {
+        cancelRequested = true;
+        return outputFile;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    /**
+     * 完了にする. 取消が要求されていた場合は完了にしない.
+     *
+     * @return 完了にした場合 true
+     */
+    synchronized boolean complete(Path outputFile) {
+        if (cancelRequested) {
+            return false;
+        }
+        this.outputFile = outputFile;
+        finish(BulkPdfJobStatus.COMPLETED);
+        return true;
+    }
+
+    void cancelled() {
+        finish(BulkPdfJobStatus.CANCELLED);
+    }
+
+    void fail(String message) {
+        errors.add(message);
+        finish(BulkPdfJobStatus.FAILED);
+    }
+
+    private void finish(BulkPdfJobStatus finalStatus) {
+        this.finishedAt = LocalDateTime.now();
+        this.status = finalStatus;
+    }
+}
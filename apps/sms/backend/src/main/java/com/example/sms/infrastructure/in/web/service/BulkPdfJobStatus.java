@@ -0,0 +1,22 @@
+package com.example.sms.infrastructure.in.web.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 一括出力ジョブの状態.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BulkPdfJobStatus {
+    RUNNING("実行中"),
+    COMPLETED("完了"),
+    CANCELLED("取消"),
+    FAILED("失敗");
+
+    private final String displayName;
+
+    public boolean isFinished() {
+        return this != RUNNING;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.sms.infrastructure.in.web.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 一括出力の形式.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BulkPdfOutputFormat {
+    /** 文書ごとの PDF をまとめた ZIP（生成した順に書き足すため件数が多くても一定のメモリで出力できる）. */
+    ZIP("ZIP", ".zip", "application/zip"),
+    /** 全文書を 1 つに結合した PDF（全文書の生成後に結合する）. */
+    MERGED("結合PDF", ".pdf", "application/pdf");
+
+    private final String displayName;
+    private final String extension;
+    private final String contentType;
+}
@@ -0,0 +1,477 @@
+package com.example.sms.infrastructure.in.web.service;
+
+import com.example.sms.application.service.ReportService;
+import com.example.sms.domain.exception.ReportJobNotCompletedException;
+import com.example.sms.domain.exception.ReportJobNotFoundException;
+import com.example.sms.domain.model.invoice.Invoice;
+import com.example.sms.domain.model.purchase.PurchaseOrder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 帳票 PDF の一括出力サービス.
+ *
+ * <p>期間内の請求書・発注書をジョブとしてバックグラウンドで生成する。文書は固定数のワーカースレッドで
+ * 並列に生成して一時ファイルに書き出し、伝票番号順に ZIP へ書き足すか、最後に 1 つの PDF に結合する。
+ * 伝票は番号だけを先に取得し、明細はワーカーが生成する直前に 1 件ずつ読むので、件数が多くても
+ * メモリに載るのは生成待ちの {@value #DOCUMENTS_AHEAD_PER_WORKER} × ワーカー数 件まで。</p>
+ *
+ * <p>テンプレートは画面用の設定（{@code spring.thymeleaf.cache}）によらず 1 回だけ解析してキャッシュし、
+ * 日本語フォントは {@link PdfGeneratorService} が解析済みのものを使い回す。文書ごとの生成時間は
+ * ジョブの進捗と Actuator のメトリクス {@code sms.report.bulk-pdf.render} で確認できる。</p>
+ *
+ * <p>ジョブと出力ファイルは {@link #discard(String)} するか、終了してから保持期間
+ * （{@code sms.report.bulk-pdf.retention-minutes}）が過ぎるまで保持する。保持期間を過ぎたジョブは
+ * {@value #SWEEP_INTERVAL_MINUTES} 分ごとに破棄し、出力ファイルを削除する。</p>
+ */
+@Service
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class BulkPdfRenderingService implements InitializingBean, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkPdfRenderingService.class);
+
+    /** ワーカー 1 つあたりに先行して投入する文書数. */
+    private static final int DOCUMENTS_AHEAD_PER_WORKER = 4;
+
+    /** 保持期間を過ぎたジョブを破棄する間隔（分）. */
+    private static final long SWEEP_INTERVAL_MINUTES = 1;
+
+    private final ReportService reportService;
+    private final PdfGeneratorService pdfGeneratorService;
+    private final TemplateEngine templateEngine;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final Duration retention;
+    private final ScheduledExecutorService sweeper;
+    private final Map<BulkPdfDocumentType, Timer> renderTimers = new EnumMap<>(BulkPdfDocumentType.class);
+    private final Map<String, BulkPdfJob> jobs = new ConcurrentHashMap<>();
+
+    public BulkPdfRenderingService(ReportService reportService,
+            PdfGeneratorService pdfGeneratorService,
+            MeterRegistry meterRegistry,
+            @Value("${sms.report.bulk-pdf.workers:0}") int workers,
+            @Value("${sms.report.bulk-pdf.retention-minutes:60}") long retentionMinutes) {
+        this.reportService = reportService;
+        this.pdfGeneratorService = pdfGeneratorService;
+        this.templateEngine = createTemplateEngine();
+        this.workerCount = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.workers = Executors.newFixedThreadPool(workerCount,
+            Thread.ofPlatform().name("bulk-pdf-", 1).daemon(true).factory());
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("bulk-pdf-sweeper").daemon(true).factory());
+        for (BulkPdfDocumentType type : BulkPdfDocumentType.values()) {
+            renderTimers.put(type, Timer.builder("sms.report.bulk-pdf.render")
+                .description("一括出力での帳票 1 文書の生成時間")
+                .tag("documentType", type.name())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 期間内の帳票の一括出力を開始する.
+     *
+     * @param documentType 帳票の種類
+     * @param from 対象期間（開始）
+     * @param to 対象期間（終了）
+     * @param outputFormat 出力形式
+     * @return 開始したジョブ
+     */
+    public BulkPdfJob start(BulkPdfDocumentType documentType, LocalDate from, LocalDate to,
+                            BulkPdfOutputFormat outputFormat) {
+        List<String> documentNumbers = switch (documentType) {
+            case INVOICE -> reportService.getInvoiceNumbersForReport(from, to);
+            case PURCHASE_ORDER -> reportService.getPurchaseOrderNumbersForReport(from, to);
+        };
+        BulkPdfJob job = new BulkPdfJob(UUID.randomUUID().toString(), documentType, outputFormat,
+            documentNumbers.size());
+        jobs.put(job.getJobId(), job);
+        if (LOG.isInfoEnabled()) {
+            LOG.info("帳票の一括出力を開始します: {} {} 件（{}）, ジョブ: {}", documentType.getDisplayName(),
+                documentNumbers.size(), outputFormat.getDisplayName(), job.getJobId());
+        }
+        Thread.ofVirtual().name("bulk-pdf-job-" + job.getJobId()).start(() -> run(job, documentNumbers));
+        return job;
+    }
+
+    /**
+     * ジョブを取得する.
+     *
+     * @param jobId ジョブ ID
+     * @return ジョブ
+     * @throws ReportJobNotFoundException ジョブが見つからない場合
+     */
+    public BulkPdfJob getJob(String jobId) {
+        BulkPdfJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ReportJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 完了したジョブの出力ファイルを取得する.
+     *
+     * @param jobId ジョブ ID
+     * @return 出力ファイル
+     * @throws ReportJobNotCompletedException ジョブが完了していない場合
+     */
+    public Path getOutputFile(String jobId) {
+        BulkPdfJob job = getJob(jobId);
+        if (job.getStatus() != BulkPdfJobStatus.COMPLETED) {
+            throw new ReportJobNotCompletedException(jobId, job.getStatus().getDisplayName());
+        }
+        return job.getOutputFile();
+    }
+
+    /**
+     * ジョブを破棄する. 実行中の場合は取り消し、出力ファイルを削除する.
+     *
+     * @param jobId ジョブ ID
+     */
+    public void discard(String jobId) {
+        BulkPdfJob job = jobs.remove(jobId);
+        if (job == null) {
+            throw new ReportJobNotFoundException(jobId);
+        }
+        // 実行中のジョブは終了時に出力ファイルを削除する
+        deleteQuietly(job.requestCancel());
+    }
+
+    /**
+     * 終了してから保持期間が過ぎたジョブを破棄し、出力ファイルを削除する. 実行中のジョブは破棄しない.
+     *
+     * @param now 基準日時
+     * @return 破棄したジョブ数
+     */
+    public int purgeExpired(LocalDateTime now) {
+        LocalDateTime expiredBefore = now.minus(retention);
+        int purged = 0;
+        for (BulkPdfJob job : jobs.values()) {
+            LocalDateTime finishedAt = job.getFinishedAt();
+            if (finishedAt != null && finishedAt.isBefore(expiredBefore) && jobs.remove(job.getJobId(), job)) {
+                deleteQuietly(job.requestCancel());
+                purged++;
+            }
+        }
+        if (purged > 0 && LOG.isInfoEnabled()) {
+            LOG.info("保持期間を過ぎた帳票の一括出力ジョブを破棄しました: {} 件", purged);
+        }
+        return purged;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        sweeper.scheduleWithFixedDelay(() -> purgeExpired(LocalDateTime.now()),
+            SWEEP_INTERVAL_MINUTES, SWEEP_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+        workers.shutdownNow();
+        jobs.values().forEach(job -> deleteQuietly(job.requestCancel()));
+        jobs.clear();
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void run(BulkPdfJob job, List<String> documentNumbers) {
+        Path outputFile = null;
+        try {
+            Path workDir = Files.createTempDirectory("bulk-pdf-");
+            try {
+                outputFile = Files.createTempFile("bulk-pdf-", job.getOutputFormat().getExtension());
+                try (DocumentSink sink = openSink(job, outputFile)) {
+                    renderAll(job, documentNumbers, workDir, sink);
+                    if (!job.isCancelRequested()) {
+                        sink.finish();
+                    }
+                }
+            } finally {
+                deleteDirectory(workDir);
+            }
+            if (!job.complete(outputFile)) {
+                deleteQuietly(outputFile);
+                job.cancelled();
+            }
+        } catch (IOException | ExecutionException | RuntimeException e) {
+            // 出力の書き込みやワーカーの取消（CancellationException）で失敗しても、ジョブを実行中のまま残さない
+            deleteQuietly(outputFile);
+            job.fail(e.getMessage());
+            LOG.error("帳票の一括出力に失敗しました: ジョブ {}", job.getJobId(), e);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteQuietly(outputFile);
+            job.fail("中断されました");
+            return;
+        }
+        if (LOG.isInfoEnabled()) {
+            LOG.info("帳票の一括出力を終了しました: ジョブ {} {}, 生成 {} 件, 失敗 {} 件, 平均 {} ms, 最大 {} ms, 経過 {} ms",
+                job.getJobId(), job.getStatus().getDisplayName(), job.getRenderedCount(), job.getFailedCount(),
+                job.getAverageRenderMillis(), job.getMaxRenderMillis(), job.getElapsedMillis());
+        }
+    }
+
+    /**
+     * 文書をワーカーへ順に投入し、投入した順に出力へ書き出す. 書き出し待ちが一定数に達したら先頭の完了を待つ.
+     */
+    private void renderAll(BulkPdfJob job, List<String> documentNumbers, Path workDir, DocumentSink sink)
+            throws IOException, InterruptedException, ExecutionException {
+        Map<String, String> partnerNames = new ConcurrentHashMap<>();
+        Deque<Future<RenderedDocument>> pending = new ArrayDeque<>();
+        int window = workerCount * DOCUMENTS_AHEAD_PER_WORKER;
+        try {
+            for (String documentNumber : documentNumbers) {
+                if (job.isCancelRequested()) {
+                    break;
+                }
+                if (pending.size() >= window) {
+                    write(pending.removeFirst(), sink);
+                }
+                pending.addLast(workers.submit(() -> render(job, documentNumber, workDir, partnerNames)));
+            }
+            while (!pending.isEmpty()) {
+                write(pending.removeFirst(), sink);
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static void write(Future<RenderedDocument> future, DocumentSink sink)
+            throws IOException, InterruptedException, ExecutionException {
+        RenderedDocument document = future.get();
+        if (document.file() != null) {
+            sink.add(document);
+        }
+    }
+
+    /**
+     * 文書 1 件を一時ファイルに生成する. 失敗した場合はジョブに記録して次の文書へ進む.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private RenderedDocument render(BulkPdfJob job, String documentNumber, Path workDir,
+                                    Map<String, String> partnerNames) {
+        if (job.isCancelRequested()) {
+            return new RenderedDocument(documentNumber, null);
+        }
+        long startedAt = System.nanoTime();
+        Path file = null;
+        try {
+            Context context = createContext(job.getDocumentType(), documentNumber, partnerNames);
+            String html = templateEngine.process(job.getDocumentType().getTemplateName(), context);
+            file = Files.createTempFile(workDir, "document-", ".pdf");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                pdfGeneratorService.renderHtml(html, out);
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            job.recordFailed(documentNumber, e.getMessage());
+            LOG.warn("帳票を生成できませんでした: {}", documentNumber, e);
+            return new RenderedDocument(documentNumber, null);
+        }
+        long renderNanos = System.nanoTime() - startedAt;
+        renderTimers.get(job.getDocumentType()).record(renderNanos, TimeUnit.NANOSECONDS);
+        job.recordRendered(renderNanos);
+        return new RenderedDocument(documentNumber, file);
+    }
+
+    private Context createContext(BulkPdfDocumentType documentType, String documentNumber,
+                                  Map<String, String> partnerNames) {
+        Context context = new Context();
+        switch (documentType) {
+            case INVOICE -> {
+                Invoice invoice = reportService.getInvoiceForReport(documentNumber);
+                context.setVariable("invoice", invoice);
+                context.setVariable("customerName",
+                    partnerName(partnerNames, invoice.getCustomerCode(), reportService::getCustomerName));
+            }
+            case PURCHASE_ORDER -> {
+                PurchaseOrder purchaseOrder = reportService.getPurchaseOrderForReport(documentNumber);
+                context.setVariable("purchaseOrder", purchaseOrder);
+                context.setVariable("supplierName",
+                    partnerName(partnerNames, purchaseOrder.getSupplierCode(), reportService::getSupplierName));
+            }
+        }
+        return context;
+    }
+
+    /**
+     * 取引先名をジョブ内でキャッシュして取得する（同じ取引先の伝票ごとに読み直さない）.
+     */
+    private static String partnerName(Map<String, String> partnerNames, String partnerCode,
+                                      Function<String, String> loader) {
+        String code = Objects.toString(partnerCode, "");
+        String name = partnerNames.get(code);
+        if (name == null) {
+            name = loader.apply(code);
+            partnerNames.putIfAbsent(code, name);
+        }
+        return name;
+    }
+
+    private static DocumentSink openSink(BulkPdfJob job, Path outputFile) throws IOException {
+        return switch (job.getOutputFormat()) {
+            case ZIP -> new ZipSink(outputFile, job.getDocumentType().getFileNamePrefix());
+            case MERGED -> new MergedPdfSink(outputFile);
+        };
+    }
+
+    /**
+     * 帳票 PDF 用のテンプレートエンジン（テンプレートは初回に解析してキャッシュする）.
+     */
+    private static TemplateEngine createTemplateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        engine.setEnableSpringELCompiler(true);
+        return engine;
+    }
+
+    private static void deleteDirectory(Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(BulkPdfRenderingService::deleteQuietly);
+        } catch (IOException e) {
+            LOG.warn("一時ディレクトリを削除できませんでした: {}", dir);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("一時ファイルを削除できませんでした: {}", file);
+        }
+    }
+
+    /**
+     * 生成した文書（失敗した場合はファイルなし）.
+     */
+    private record RenderedDocument(String documentNumber, Path file) {
+    }
+
+    /**
+     * 生成した文書の書き出し先.
+     */
+    private interface DocumentSink extends Closeable {
+
+        void add(RenderedDocument document) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * 文書ごとの PDF を ZIP に書き足す. 書き足した一時ファイルはすぐに削除する.
+     */
+    private static final class ZipSink implements DocumentSink {
+
+        private final ZipOutputStream zip;
+        private final String fileNamePrefix;
+
+        ZipSink(Path outputFile, String fileNamePrefix) throws IOException {
+            this.zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(outputFile)));
+            // PDF のストリームは圧縮済みのため、ZIP では圧縮に時間をかけない
+            this.zip.setLevel(Deflater.BEST_SPEED);
+            this.fileNamePrefix = fileNamePrefix;
+        }
+
+        @Override
+        public void add(RenderedDocument document) throws IOException {
+            zip.putNextEntry(new ZipEntry(fileNamePrefix + "_" + document.documentNumber() + ".pdf"));
+            Files.copy(document.file(), zip);
+            zip.closeEntry();
+            deleteQuietly(document.file());
+        }
+
+        @Override
+        public void finish() throws IOException {
+            zip.finish();
+        }
+
+        @Override
+        public void close() throws IOException {
+            zip.close();
+        }
+    }
+
+    /**
+     * 全文書を 1 つの PDF に結合する. 結合時のバッファは一時ファイルに置く.
+     */
+    private static final class MergedPdfSink implements DocumentSink {
+
+        private final PDFMergerUtility merger = new PDFMergerUtility();
+
+        MergedPdfSink(Path outputFile) {
+            merger.setDestinationFileName(outputFile.toString());
+        }
+
+        @Override
+        public void add(RenderedDocument document) throws IOException {
+            merger.addSource(document.file().toFile());
+        }
+
+        @Override
+        public void finish() throws IOException {
+            merger.mergeDocuments(IOUtils.createTempFileOnlyStreamCache());
+        }
+
+        @Override
+        public void close() {
+            // 結合元の一時ファイルはジョブの一時ディレクトリごと削除する
+        }
+    }
+}
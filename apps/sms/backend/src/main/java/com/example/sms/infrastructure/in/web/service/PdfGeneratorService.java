@@ -1,6 +1,12 @@
 package com.example.sms.infrastructure.in.web.service;
 
+import com.openhtmltopdf.pdfboxout.PDFontSupplier;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
@@ -11,11 +17,22 @@ import org.thymeleaf.context.Context;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * PDF生成サービス.
  * ThymeleafテンプレートからPDFを生成する.
+ *
+ * <p>日本語フォントが TrueType（.ttf）の場合は、起動時に 1 回だけ読み込んで解析し、解析済みのフォントを
+ * 文書ごとに使い回す（文書ごとにフォントファイルを読み直して解析しない）。解析済みのフォントは
+ * スレッドセーフではないため、同時に生成する文書の数だけ用意して 1 文書ずつ貸し出す。
+ * TrueType コレクション（.ttc）は従来どおり文書ごとにファイルから登録する。</p>
  */
 @Service
 @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
@@ -39,15 +56,34 @@ public class PdfGeneratorService {
         "/Library/Fonts/Arial Unicode.ttf"
     };
 
+    /** クラスパス上の日本語フォント. */
+    private static final String CLASSPATH_FONT = "fonts/NotoSansJP-Regular.ttf";
+
     private final TemplateEngine templateEngine;
+
+    /** 日本語フォントファイル（TrueType コレクションなど、解析済みフォントを使い回せない場合）. */
     private final File japaneseFontFile;
 
+    /** 日本語フォント（TrueType）の内容. 解析済みフォントを追加で用意するときに使う. */
+    private final byte[] japaneseFontData;
+
+    /** 貸し出していない解析済みの日本語フォント. */
+    private final Queue<TrueTypeFont> idleFonts = new ConcurrentLinkedQueue<>();
+
     /**
      * コンストラクタ.
      */
     public PdfGeneratorService(TemplateEngine templateEngine) {
         this.templateEngine = templateEngine;
-        this.japaneseFontFile = findJapaneseFont();
+
+        byte[] fontData = readClasspathFont();
+        File fontFile = null;
+        if (fontData == null) {
+            fontFile = findJapaneseFont();
+            fontData = readTrueTypeFont(fontFile);
+        }
+        this.japaneseFontData = fontData != null && preloadFont(fontData) ? fontData : null;
+        this.japaneseFontFile = fontFile;
     }
 
     /**
@@ -58,49 +94,136 @@ public class PdfGeneratorService {
      * @return PDF バイト配列
      */
     public byte[] generatePdf(String templateName, Map<String, Object> variables) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generatePdf(templateName, variables, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * ThymeleafテンプレートからPDFを生成し、出力先へ直接書き出す.
+     *
+     * <p>PDF 全体をバイト配列に溜めずにレスポンスへ書き出す場合に使う。
+     * 出力先のストリームはクローズしない。</p>
+     *
+     * @param templateName テンプレート名（例: "reports/invoice"）
+     * @param variables テンプレート変数
+     * @param outputStream 出力先
+     */
+    public void generatePdf(String templateName, Map<String, Object> variables, OutputStream outputStream) {
         // ThymeleafでHTMLを生成
         Context context = new Context();
         context.setVariables(variables);
         String html = templateEngine.process(templateName, context);
 
         // HTMLをPDFに変換
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+        renderHtml(html, outputStream);
+    }
+
+    /**
+     * HTML を PDF に変換して出力先へ書き出す. 複数のスレッドから同時に呼び出してよい.
+     *
+     * @param html HTML
+     * @param outputStream 出力先（クローズしない）
+     */
+    public void renderHtml(String html, OutputStream outputStream) {
+        TrueTypeFont font = japaneseFontData != null ? borrowFont() : null;
+        try (PDDocument document = new PDDocument()) {
             PdfRendererBuilder builder = new PdfRendererBuilder()
-                .useFastMode();
+                .useFastMode()
+                .usePDDocument(document);
 
-            // 日本語フォントを登録
-            if (japaneseFontFile != null) {
+            // 日本語フォントを登録（解析済みのフォントをこの文書にサブセットで埋め込む）
+            if (font != null) {
+                builder = builder.useFont(new PDFontSupplier(PDType0Font.load(document, font, true)), FONT_FAMILY);
+            } else if (japaneseFontFile != null) {
                 builder = builder.useFont(japaneseFontFile, FONT_FAMILY);
             }
 
             builder.withHtmlContent(html, null)
                 .toStream(outputStream)
                 .run();
-
-            return outputStream.toByteArray();
         } catch (IOException e) {
             throw new PdfGenerationException("PDF生成に失敗しました", e);
+        } finally {
+            if (font != null) {
+                idleFonts.offer(font);
+            }
         }
     }
 
     /**
-     * 日本語フォントを検索する.
+     * 解析済みの日本語フォントを借りる. 空いているものがなければ新たに解析する.
      */
-    private File findJapaneseFont() {
-        // クラスパスからフォントを検索
-        ClassPathResource fontResource = new ClassPathResource("fonts/NotoSansJP-Regular.ttf");
-        if (fontResource.exists()) {
-            try {
-                File fontFile = fontResource.getFile();
-                if (LOG.isInfoEnabled()) {
-                    LOG.info("クラスパスから日本語フォントを読み込みました: {}", fontFile.getPath());
-                }
-                return fontFile;
-            } catch (IOException e) {
-                LOG.debug("クラスパスからのフォント読み込みに失敗しました");
+    private TrueTypeFont borrowFont() {
+        TrueTypeFont font = idleFonts.poll();
+        if (font != null) {
+            return font;
+        }
+        try {
+            return parseFont(japaneseFontData);
+        } catch (IOException e) {
+            throw new PdfGenerationException("日本語フォントの解析に失敗しました", e);
+        }
+    }
+
+    private static TrueTypeFont parseFont(byte[] fontData) throws IOException {
+        return new TTFParser().parse(new RandomAccessReadBuffer(fontData));
+    }
+
+    /**
+     * 日本語フォントを 1 つ解析して貸し出し待ちにする.
+     *
+     * @return 解析できた場合 true
+     */
+    private boolean preloadFont(byte[] fontData) {
+        try {
+            idleFonts.offer(parseFont(fontData));
+            return true;
+        } catch (IOException e) {
+            LOG.warn("日本語フォントを解析できません。文書ごとにフォントファイルから登録します。", e);
+            return false;
+        }
+    }
+
+    /**
+     * クラスパスから日本語フォントを読み込む.
+     */
+    private byte[] readClasspathFont() {
+        ClassPathResource fontResource = new ClassPathResource(CLASSPATH_FONT);
+        if (!fontResource.exists()) {
+            return null;
+        }
+        try (InputStream in = fontResource.getInputStream()) {
+            byte[] fontData = in.readAllBytes();
+            if (LOG.isInfoEnabled()) {
+                LOG.info("クラスパスから日本語フォントを読み込みました: {}", CLASSPATH_FONT);
             }
+            return fontData;
+        } catch (IOException e) {
+            LOG.debug("クラスパスからのフォント読み込みに失敗しました");
+            return null;
         }
+    }
 
+    /**
+     * TrueType フォントファイルを読み込む（TrueType コレクションなどは読み込まない）.
+     */
+    private byte[] readTrueTypeFont(File fontFile) {
+        if (fontFile == null || !fontFile.getName().toLowerCase(Locale.ROOT).endsWith(".ttf")) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(fontFile.toPath());
+        } catch (IOException e) {
+            LOG.debug("フォントファイルの読み込みに失敗しました: {}", fontFile.getPath());
+            return null;
+        }
+    }
+
+    /**
+     * システムの日本語フォントを検索する.
+     */
+    private File findJapaneseFont() {
         // Windowsのシステムフォントを検索
         File windowsFont = findExistingFont(WINDOWS_FONTS);
         if (windowsFont != null) {
@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,9 @@ public interface CustomerProductPriceMapper {
 
     List<CustomerProductPrice> findByPartner(String partnerCode);
 
+    List<CustomerProductPrice> findByPartnerAndProducts(@Param("partnerCode") String partnerCode,
+                                                        @Param("productCodes") Collection<String> productCodes);
+
     List<CustomerProductPrice> findAll();
 
     void update(CustomerProductPrice price);
@@ -0,0 +1,31 @@
+package com.example.sms.infrastructure.out.persistence.mapper;
+
+import com.example.sms.domain.model.inventory.Inventory;
+import com.example.sms.domain.model.inventory.StockMovement;
+import com.example.sms.domain.model.inventory.StockRequest;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 在庫引当マッパー.
+ */
+@Mapper
+public interface InventoryAllocationMapper {
+
+    List<Inventory> findStocks(@Param("requests") Collection<StockRequest> requests);
+
+    List<Inventory> findByIds(@Param("ids") Collection<Integer> ids);
+
+    int applyDelta(
+            @Param("id") Integer id,
+            @Param("stockDelta") BigDecimal stockDelta,
+            @Param("allocationDelta") BigDecimal allocationDelta,
+            @Param("shipmentDate") LocalDate shipmentDate);
+
+    void insertMovements(@Param("movements") List<StockMovement> movements);
+}
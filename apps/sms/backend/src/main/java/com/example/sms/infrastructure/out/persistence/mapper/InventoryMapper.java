@@ -3,6 +3,7 @@ package com.example.sms.infrastructure.out.persistence.mapper;
 import com.example.sms.domain.model.inventory.Inventory;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -36,6 +37,8 @@ public interface InventoryMapper {
 
     List<Inventory> findAll();
 
+    Cursor<Inventory> streamAll();
+
     List<Inventory> findWithPagination(
             @Param("offset") int offset,
             @Param("limit") int limit,
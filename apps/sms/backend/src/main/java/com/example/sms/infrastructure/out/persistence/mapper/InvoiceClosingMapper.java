@@ -0,0 +1,57 @@
+package com.example.sms.infrastructure.out.persistence.mapper;
+
+import com.example.sms.domain.model.invoice.AccountsReceivable;
+import com.example.sms.domain.model.invoice.ClosingHistory;
+import com.example.sms.domain.model.invoice.ClosingSales;
+import com.example.sms.domain.model.invoice.ClosingTarget;
+import com.example.sms.domain.model.invoice.CustomerAmount;
+import com.example.sms.domain.model.invoice.Invoice;
+import com.example.sms.domain.model.invoice.InvoiceClosingPeriod;
+import com.example.sms.domain.model.invoice.InvoiceDetail;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 請求締処理 MyBatis Mapper.
+ */
+@Mapper
+public interface InvoiceClosingMapper {
+
+    List<ClosingTarget> findClosingTargets(InvoiceClosingPeriod period);
+
+    List<ClosingTarget> findClosedTargets(InvoiceClosingPeriod period);
+
+    List<ClosingSales> findUnbilledSales(InvoiceClosingPeriod period);
+
+    List<CustomerAmount> sumReceipts(InvoiceClosingPeriod period);
+
+    List<CustomerAmount> findPreviousBalances(InvoiceClosingPeriod period);
+
+    /**
+     * 請求ヘッダを複数行 INSERT で一括登録.
+     */
+    void insertInvoices(@Param("invoices") List<Invoice> invoices);
+
+    /**
+     * 請求番号から ID を取得（ID と請求番号のみ設定）.
+     */
+    List<Invoice> findInvoiceKeys(@Param("invoiceNumbers") List<String> invoiceNumbers);
+
+    void insertInvoiceDetails(@Param("details") List<InvoiceDetail> details);
+
+    void insertClosingHistories(@Param("histories") List<ClosingHistory> histories);
+
+    void insertAccountsReceivables(@Param("receivables") List<AccountsReceivable> receivables);
+
+    /**
+     * 売上に請求明細の請求 ID を設定し、請求済にする.
+     */
+    void markSalesBilled(@Param("salesIds") List<Integer> salesIds);
+
+    List<ClosingHistory> findHistoriesByClosingDate(@Param("closingDate") LocalDate closingDate);
+
+    void deleteAllHistories();
+}
@@ -27,6 +27,11 @@ public interface NumberingHistoryMapper {
 
     void incrementLastNumber(@Param("id") Integer id);
 
+    int addLastNumber(
+            @Param("numberingCode") String numberingCode,
+            @Param("yearMonth") String yearMonth,
+            @Param("count") int count);
+
     void update(NumberingHistory history);
 
     void deleteById(@Param("id") Integer id);
@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper;
 
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,8 @@ public interface ProductMapper {
 
     Optional<Product> findByCode(String productCode);
 
+    List<Product> findByCodes(@Param("productCodes") Collection<String> productCodes);
+
     List<Product> findAll();
 
     List<Product> findByCategory(String category);
@@ -0,0 +1,38 @@
+package com.example.sms.infrastructure.out.persistence.mapper;
+
+import com.example.sms.domain.model.receipt.OpenInvoice;
+import com.example.sms.domain.model.receipt.Receipt;
+import com.example.sms.domain.model.receipt.ReceiptApplication;
+import com.example.sms.domain.model.receipt.UnappliedReceipt;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 入金自動消込 MyBatis Mapper.
+ */
+@Mapper
+public interface ReceiptMatchingMapper {
+
+    List<UnappliedReceipt> findUnappliedReceipts(@Param("applicationDate") LocalDate applicationDate);
+
+    List<OpenInvoice> findOpenInvoices(@Param("applicationDate") LocalDate applicationDate);
+
+    void insertApplications(@Param("applications") List<ReceiptApplication> applications);
+
+    /**
+     * 入金の金額とステータスを 1 文で更新する（バージョンが一致した行のみ）.
+     *
+     * @return 更新件数
+     */
+    int updateReceipts(@Param("receipts") List<Receipt> receipts);
+
+    /**
+     * 請求の入金額・請求残高・ステータスを 1 文で更新する（バージョンが一致した行のみ）.
+     *
+     * @return 更新件数
+     */
+    int updateInvoices(@Param("invoices") List<OpenInvoice> invoices);
+}
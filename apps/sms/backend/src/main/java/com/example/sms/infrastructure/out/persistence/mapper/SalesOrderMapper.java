@@ -6,6 +6,7 @@ import com.example.sms.domain.model.sales.SalesOrderDetail;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -63,6 +64,10 @@ public interface SalesOrderMapper {
 
     void updateDetail(SalesOrderDetail detail);
 
+    int recordShipment(@Param("detailId") Integer detailId,
+                       @Param("shippedQuantity") BigDecimal shippedQuantity,
+                       @Param("consumedAllocation") BigDecimal consumedAllocation);
+
     void deleteDetailsByOrderId(Integer orderId);
 
     void deleteById(Integer id);
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +40,14 @@ public class CustomerProductPriceRepositoryImpl implements CustomerProductPriceR
         return customerProductPriceMapper.findByPartner(partnerCode);
     }
 
+    @Override
+    public List<CustomerProductPrice> findByPartnerAndProducts(String partnerCode, Collection<String> productCodes) {
+        if (productCodes.isEmpty()) {
+            return List.of();
+        }
+        return customerProductPriceMapper.findByPartnerAndProducts(partnerCode, productCodes);
+    }
+
     @Override
     public List<CustomerProductPrice> findAll() {
         return customerProductPriceMapper.findAll();
@@ -0,0 +1,60 @@
+package com.example.sms.infrastructure.out.persistence.repository;
+
+import com.example.sms.application.port.out.InventoryAllocationRepository;
+import com.example.sms.domain.model.inventory.Inventory;
+import com.example.sms.domain.model.inventory.StockMovement;
+import com.example.sms.domain.model.inventory.StockRequest;
+import com.example.sms.infrastructure.out.persistence.mapper.InventoryAllocationMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 在庫引当リポジトリ実装.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryAllocationRepositoryImpl implements InventoryAllocationRepository {
+
+    /** 複数行 INSERT / IN 句 1 回あたりの最大件数（バインド変数の上限を超えないよう分割）. */
+    private static final int CHUNK_SIZE = 500;
+
+    private final InventoryAllocationMapper inventoryAllocationMapper;
+
+    @Override
+    public List<Inventory> findStocks(Collection<StockRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        return inventoryAllocationMapper.findStocks(requests);
+    }
+
+    @Override
+    public List<Inventory> findByIds(Collection<Integer> ids) {
+        List<Integer> list = List.copyOf(ids);
+        List<Inventory> inventories = new ArrayList<>(list.size());
+        for (int from = 0; from < list.size(); from += CHUNK_SIZE) {
+            inventories.addAll(inventoryAllocationMapper.findByIds(
+                list.subList(from, Math.min(from + CHUNK_SIZE, list.size()))));
+        }
+        return inventories;
+    }
+
+    @Override
+    public boolean applyDelta(Integer id, BigDecimal stockDelta, BigDecimal allocationDelta, LocalDate shipmentDate) {
+        return inventoryAllocationMapper.applyDelta(id, stockDelta, allocationDelta, shipmentDate) > 0;
+    }
+
+    @Override
+    public void saveMovements(List<StockMovement> movements) {
+        for (int from = 0; from < movements.size(); from += CHUNK_SIZE) {
+            inventoryAllocationMapper.insertMovements(
+                movements.subList(from, Math.min(from + CHUNK_SIZE, movements.size())));
+        }
+    }
+}
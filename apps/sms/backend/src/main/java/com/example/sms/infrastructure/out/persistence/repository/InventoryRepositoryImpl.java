@@ -6,13 +6,17 @@ import com.example.sms.domain.model.common.PageResult;
 import com.example.sms.domain.model.inventory.Inventory;
 import com.example.sms.infrastructure.out.persistence.mapper.InventoryMapper;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 在庫リポジトリ実装.
@@ -67,6 +71,16 @@ public class InventoryRepositoryImpl implements InventoryRepository {
         return inventoryMapper.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Inventory> action) {
+        try (Cursor<Inventory> cursor = inventoryMapper.streamAll()) {
+            cursor.forEach(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public PageResult<Inventory> findWithPagination(int page, int size, String keyword, String warehouseCode) {
         int offset = page * size;
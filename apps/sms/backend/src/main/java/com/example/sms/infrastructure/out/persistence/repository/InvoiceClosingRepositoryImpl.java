@@ -0,0 +1,115 @@
+package com.example.sms.infrastructure.out.persistence.repository;
+
+import com.example.sms.application.port.out.InvoiceClosingRepository;
+import com.example.sms.domain.model.invoice.AccountsReceivable;
+import com.example.sms.domain.model.invoice.ClosingHistory;
+import com.example.sms.domain.model.invoice.ClosingSales;
+import com.example.sms.domain.model.invoice.ClosingTarget;
+import com.example.sms.domain.model.invoice.CustomerAmount;
+import com.example.sms.domain.model.invoice.Invoice;
+import com.example.sms.domain.model.invoice.InvoiceClosing;
+import com.example.sms.domain.model.invoice.InvoiceClosingPeriod;
+import com.example.sms.domain.model.invoice.InvoiceDetail;
+import com.example.sms.infrastructure.out.persistence.mapper.InvoiceClosingMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 請求締処理リポジトリ実装.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InvoiceClosingRepositoryImpl implements InvoiceClosingRepository {
+
+    /** 複数行 INSERT / IN 句 1 回あたりの最大件数（バインド変数の上限を超えないよう分割）. */
+    private static final int CHUNK_SIZE = 500;
+
+    private final InvoiceClosingMapper invoiceClosingMapper;
+
+    @Override
+    public List<ClosingTarget> findClosingTargets(InvoiceClosingPeriod period) {
+        return invoiceClosingMapper.findClosingTargets(period);
+    }
+
+    @Override
+    public List<ClosingTarget> findClosedTargets(InvoiceClosingPeriod period) {
+        return invoiceClosingMapper.findClosedTargets(period);
+    }
+
+    @Override
+    public List<ClosingSales> findUnbilledSales(InvoiceClosingPeriod period) {
+        return invoiceClosingMapper.findUnbilledSales(period);
+    }
+
+    @Override
+    public List<CustomerAmount> sumReceipts(InvoiceClosingPeriod period) {
+        return invoiceClosingMapper.sumReceipts(period);
+    }
+
+    @Override
+    public List<CustomerAmount> findPreviousBalances(InvoiceClosingPeriod period) {
+        return invoiceClosingMapper.findPreviousBalances(period);
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<InvoiceClosing> closings) {
+        List<Invoice> invoices = closings.stream().map(InvoiceClosing::getInvoice).toList();
+        forEachChunk(invoices, this::insertInvoices);
+
+        List<InvoiceDetail> details = new ArrayList<>();
+        List<ClosingHistory> histories = new ArrayList<>(closings.size());
+        List<AccountsReceivable> receivables = new ArrayList<>(closings.size());
+        List<Integer> salesIds = new ArrayList<>();
+        for (InvoiceClosing closing : closings) {
+            Invoice invoice = closing.getInvoice();
+            for (InvoiceDetail detail : invoice.getDetails()) {
+                detail.setInvoiceId(invoice.getId());
+                details.add(detail);
+                salesIds.add(detail.getSalesId());
+            }
+            closing.getClosingHistory().setInvoiceId(invoice.getId());
+            histories.add(closing.getClosingHistory());
+            receivables.add(closing.getAccountsReceivable());
+        }
+        forEachChunk(details, invoiceClosingMapper::insertInvoiceDetails);
+        forEachChunk(histories, invoiceClosingMapper::insertClosingHistories);
+        forEachChunk(receivables, invoiceClosingMapper::insertAccountsReceivables);
+        forEachChunk(salesIds, invoiceClosingMapper::markSalesBilled);
+    }
+
+    /**
+     * 請求ヘッダを登録し、採番された ID を請求番号で引き当てて設定する.
+     */
+    private void insertInvoices(List<Invoice> invoices) {
+        invoiceClosingMapper.insertInvoices(invoices);
+        Map<String, Integer> ids = invoiceClosingMapper.findInvoiceKeys(
+                invoices.stream().map(Invoice::getInvoiceNumber).toList()).stream()
+            .collect(Collectors.toMap(Invoice::getInvoiceNumber, Invoice::getId));
+        invoices.forEach(invoice -> invoice.setId(ids.get(invoice.getInvoiceNumber())));
+    }
+
+    private static <T> void forEachChunk(List<T> rows, Consumer<List<T>> action) {
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            action.accept(rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size())));
+        }
+    }
+
+    @Override
+    public List<ClosingHistory> findHistoriesByClosingDate(LocalDate closingDate) {
+        return invoiceClosingMapper.findHistoriesByClosingDate(closingDate);
+    }
+
+    @Override
+    public void deleteAllHistories() {
+        invoiceClosingMapper.deleteAllHistories();
+    }
+}
@@ -7,6 +7,8 @@ import com.example.sms.infrastructure.out.persistence.mapper.NumberingHistoryMap
 import com.example.sms.infrastructure.out.persistence.mapper.NumberingMasterMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -85,6 +87,23 @@ public class NumberingRepositoryImpl implements NumberingRepository {
         numberingHistoryMapper.incrementLastNumber(historyId);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveNumbers(String numberingCode, String yearMonth, int count) {
+        // 更新で行ロックを取り、確保後すぐにコミットしてロックを解放する
+        if (numberingHistoryMapper.addLastNumber(numberingCode, yearMonth, count) == 0) {
+            numberingHistoryMapper.insert(NumberingHistory.builder()
+                    .numberingCode(numberingCode)
+                    .yearMonth(yearMonth)
+                    .lastNumber((long) count)
+                    .build());
+        }
+        return numberingHistoryMapper.findByCodeAndYearMonth(numberingCode, yearMonth)
+                .map(NumberingHistory::getLastNumber)
+                .orElseThrow(() -> new IllegalStateException(
+                        "採番履歴が見つかりません: " + numberingCode + " " + yearMonth));
+    }
+
     @Override
     public void updateHistory(NumberingHistory history) {
         numberingHistoryMapper.update(history);
@@ -8,6 +8,7 @@ import com.example.sms.infrastructure.out.persistence.mapper.ProductMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,14 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productMapper.findByCode(productCode);
     }
 
+    @Override
+    public List<Product> findByCodes(Collection<String> productCodes) {
+        if (productCodes.isEmpty()) {
+            return List.of();
+        }
+        return productMapper.findByCodes(productCodes);
+    }
+
     @Override
     public List<Product> findAll() {
         return productMapper.findAll();
@@ -0,0 +1,70 @@
+package com.example.sms.infrastructure.out.persistence.repository;
+
+import com.example.sms.application.port.out.ReceiptMatchingRepository;
+import com.example.sms.domain.exception.OptimisticLockException;
+import com.example.sms.domain.model.receipt.OpenInvoice;
+import com.example.sms.domain.model.receipt.Receipt;
+import com.example.sms.domain.model.receipt.ReceiptApplication;
+import com.example.sms.domain.model.receipt.ReceiptMatch;
+import com.example.sms.domain.model.receipt.UnappliedReceipt;
+import com.example.sms.infrastructure.out.persistence.mapper.ReceiptMatchingMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 入金自動消込リポジトリ実装.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReceiptMatchingRepositoryImpl implements ReceiptMatchingRepository {
+
+    /** 複数行 INSERT / UPDATE 1 回あたりの最大件数（バインド変数の上限を超えないよう分割）. */
+    private static final int CHUNK_SIZE = 500;
+
+    private final ReceiptMatchingMapper receiptMatchingMapper;
+
+    @Override
+    public List<UnappliedReceipt> findUnappliedReceipts(LocalDate applicationDate) {
+        return receiptMatchingMapper.findUnappliedReceipts(applicationDate);
+    }
+
+    @Override
+    public List<OpenInvoice> findOpenInvoices(LocalDate applicationDate) {
+        return receiptMatchingMapper.findOpenInvoices(applicationDate);
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<ReceiptMatch> matches) {
+        List<Receipt> receipts = matches.stream().map(ReceiptMatch::getReceipt).toList();
+        List<OpenInvoice> invoices = matches.stream().flatMap(m -> m.getInvoices().stream()).toList();
+        List<ReceiptApplication> applications = matches.stream()
+            .flatMap(m -> m.getApplications().stream())
+            .toList();
+
+        forEachChunk(receipts, chunk -> {
+            if (receiptMatchingMapper.updateReceipts(chunk) != chunk.size()) {
+                throw new OptimisticLockException("入金",
+                    chunk.getFirst().getReceiptNumber() + "〜" + chunk.getLast().getReceiptNumber());
+            }
+        });
+        forEachChunk(invoices, chunk -> {
+            if (receiptMatchingMapper.updateInvoices(chunk) != chunk.size()) {
+                throw new OptimisticLockException("請求",
+                    chunk.getFirst().getInvoiceNumber() + "〜" + chunk.getLast().getInvoiceNumber());
+            }
+        });
+        forEachChunk(applications, receiptMatchingMapper::insertApplications);
+    }
+
+    private static <T> void forEachChunk(List<T> rows, Consumer<List<T>> action) {
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            action.accept(rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size())));
+        }
+    }
+}
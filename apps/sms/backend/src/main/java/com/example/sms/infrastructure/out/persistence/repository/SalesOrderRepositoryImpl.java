@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -118,6 +119,13 @@ public class SalesOrderRepositoryImpl implements SalesOrderRepository {
         }
     }
 
+    @Override
+    public void recordShipment(Integer detailId, BigDecimal shippedQuantity, BigDecimal consumedAllocation) {
+        if (salesOrderMapper.recordShipment(detailId, shippedQuantity, consumedAllocation) == 0) {
+            throw new OptimisticLockException("受注明細", detailId);
+        }
+    }
+
     @Override
     public void deleteById(Integer id) {
         salesOrderMapper.deleteById(id);
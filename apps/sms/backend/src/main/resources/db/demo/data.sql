@@ -3,5 +3,16 @@
 -- Seed データは SeedRunner によりアプリケーション起動時に投入されます
 -- =============================================================================
 
--- ダミー文（Spring SQL init は空スクリプトを許容しないため）
-SELECT 1;
+-- 採番マスタ（伝票番号はプレフィックス-yyyyMMdd-連番）
+INSERT INTO "採番マスタ" ("採番コード", "採番名", "プレフィックス", "採番形式", "桁数") VALUES
+('QUOTATION', '見積番号', 'QT', 'DAILY', 4),
+('ORDER', '受注番号', 'ORD', 'DAILY', 4),
+('SHIPMENT', '出荷番号', 'SHP', 'DAILY', 4),
+('SALES', '売上番号', 'SLS', 'DAILY', 4),
+('INVOICE', '請求番号', 'INV', 'DAILY', 4),
+('RECEIPT', '入金番号', 'RCP', 'DAILY', 4),
+('PURCHASE_ORDER', '発注番号', 'PO', 'DAILY', 4),
+('RECEIVING', '入荷番号', 'RCV', 'DAILY', 4),
+('PURCHASE', '仕入番号', 'PUR', 'DAILY', 4),
+('PAYMENT', '支払番号', 'PAY', 'DAILY', 4),
+('STOCKTAKING', '棚卸番号', 'STK', 'DAILY', 4);
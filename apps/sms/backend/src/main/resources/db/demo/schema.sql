@@ -169,6 +169,8 @@ CREATE TABLE "顧客マスタ" (
 );
 
 CREATE INDEX idx_顧客マスタ_請求先 ON "顧客マスタ"("請求先コード", "請求先枝番");
+CREATE INDEX idx_顧客マスタ_締日1 ON "顧客マスタ"("顧客締日1");
+CREATE INDEX idx_顧客マスタ_締日2 ON "顧客マスタ"("顧客締日2");
 
 -- 仕入先マスタ
 CREATE TABLE "仕入先マスタ" (
@@ -449,6 +451,7 @@ CREATE INDEX idx_売上データ_出荷ID ON "売上データ"("出荷ID");
 CREATE INDEX idx_売上データ_顧客コード ON "売上データ"("顧客コード");
 CREATE INDEX idx_売上データ_売上日 ON "売上データ"("売上日");
 CREATE INDEX idx_売上データ_ステータス ON "売上データ"("ステータス");
+CREATE INDEX idx_売上データ_顧客_売上日 ON "売上データ"("顧客コード", "顧客枝番", "売上日");
 
 -- 売上明細
 CREATE TABLE "売上明細" (
@@ -588,6 +591,7 @@ CREATE TABLE "入金データ" (
 CREATE INDEX idx_入金データ_顧客コード ON "入金データ"("顧客コード");
 CREATE INDEX idx_入金データ_入金日 ON "入金データ"("入金日");
 CREATE INDEX idx_入金データ_ステータス ON "入金データ"("ステータス");
+CREATE INDEX idx_入金データ_顧客_入金日 ON "入金データ"("顧客コード", "顧客枝番", "入金日");
 
 -- 入金消込明細
 CREATE TABLE "入金消込明細" (
@@ -0,0 +1,59 @@
+-- 採番マスタを実際の伝票番号体系（プレフィックス-yyyyMMdd-連番）に合わせる
+UPDATE "採番マスタ" SET "プレフィックス" = 'SLS', "採番形式" = 'DAILY' WHERE "採番コード" = 'SALES';
+UPDATE "採番マスタ" SET "プレフィックス" = 'ORD', "採番形式" = 'DAILY' WHERE "採番コード" = 'ORDER';
+UPDATE "採番マスタ" SET "プレフィックス" = 'SHP', "採番形式" = 'DAILY' WHERE "採番コード" = 'SHIPMENT';
+UPDATE "採番マスタ" SET "プレフィックス" = 'INV', "採番形式" = 'DAILY' WHERE "採番コード" = 'INVOICE';
+UPDATE "採番マスタ" SET "プレフィックス" = 'RCP', "採番形式" = 'DAILY' WHERE "採番コード" = 'RECEIPT';
+UPDATE "採番マスタ" SET "プレフィックス" = 'PO', "採番形式" = 'DAILY' WHERE "採番コード" = 'PURCHASE_ORDER';
+UPDATE "採番マスタ" SET "プレフィックス" = 'PUR', "採番形式" = 'DAILY' WHERE "採番コード" = 'PURCHASE';
+UPDATE "採番マスタ" SET "プレフィックス" = 'PAY', "採番形式" = 'DAILY' WHERE "採番コード" = 'PAYMENT';
+UPDATE "採番マスタ" SET "プレフィックス" = 'STK', "採番形式" = 'DAILY' WHERE "採番コード" = 'STOCKTAKING';
+
+INSERT INTO "採番マスタ" ("採番コード", "採番名", "プレフィックス", "採番形式", "桁数") VALUES
+('QUOTATION', '見積番号', 'QT', 'DAILY', 4),
+('RECEIVING', '入荷番号', 'RCV', 'DAILY', 4);
+
+-- 既存伝票の日別最終番号を採番履歴に取り込む（採番年月には yyyyMMdd を格納）
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'QUOTATION', SUBSTRING("見積番号" FROM '^QT-([0-9]{8})-'), MAX(CAST(SUBSTRING("見積番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "見積データ" WHERE "見積番号" ~ '^QT-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'ORDER', SUBSTRING("受注番号" FROM '^ORD-([0-9]{8})-'), MAX(CAST(SUBSTRING("受注番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "受注データ" WHERE "受注番号" ~ '^ORD-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'SHIPMENT', SUBSTRING("出荷番号" FROM '^SHP-([0-9]{8})-'), MAX(CAST(SUBSTRING("出荷番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "出荷データ" WHERE "出荷番号" ~ '^SHP-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'SALES', SUBSTRING("売上番号" FROM '^SLS-([0-9]{8})-'), MAX(CAST(SUBSTRING("売上番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "売上データ" WHERE "売上番号" ~ '^SLS-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'INVOICE', SUBSTRING("請求番号" FROM '^INV-([0-9]{8})-'), MAX(CAST(SUBSTRING("請求番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "請求データ" WHERE "請求番号" ~ '^INV-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'RECEIPT', SUBSTRING("入金番号" FROM '^RCP-([0-9]{8})-'), MAX(CAST(SUBSTRING("入金番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "入金データ" WHERE "入金番号" ~ '^RCP-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'PURCHASE_ORDER', SUBSTRING("発注番号" FROM '^PO-([0-9]{8})-'), MAX(CAST(SUBSTRING("発注番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "発注データ" WHERE "発注番号" ~ '^PO-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'RECEIVING', SUBSTRING("入荷番号" FROM '^RCV-([0-9]{8})-'), MAX(CAST(SUBSTRING("入荷番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "入荷データ" WHERE "入荷番号" ~ '^RCV-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'PURCHASE', SUBSTRING("仕入番号" FROM '^PUR-([0-9]{8})-'), MAX(CAST(SUBSTRING("仕入番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "仕入データ" WHERE "仕入番号" ~ '^PUR-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'PAYMENT', SUBSTRING("支払番号" FROM '^PAY-([0-9]{8})-'), MAX(CAST(SUBSTRING("支払番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "支払データ" WHERE "支払番号" ~ '^PAY-[0-9]{8}-[0-9]+$' GROUP BY 2;
+
+INSERT INTO "採番履歴データ" ("採番コード", "採番年月", "最終番号")
+SELECT 'STOCKTAKING', SUBSTRING("棚卸番号" FROM '^STK-([0-9]{8})-'), MAX(CAST(SUBSTRING("棚卸番号" FROM '-([0-9]+)$') AS BIGINT))
+FROM "棚卸データ" WHERE "棚卸番号" ~ '^STK-[0-9]{8}-[0-9]+$' GROUP BY 2;
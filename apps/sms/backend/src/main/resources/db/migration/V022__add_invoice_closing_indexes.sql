@@ -0,0 +1,15 @@
+-- 請求締処理用インデックス
+-- 締処理は顧客ごとに未請求の売上・期間内の入金・直近の売掛金残高を集計する
+
+-- 未請求の売上（請求ID が未設定の行だけを対象とする部分インデックス）
+CREATE INDEX "idx_売上データ_未請求_顧客_売上日"
+    ON "売上データ"("顧客コード", "顧客枝番", "売上日")
+    WHERE "請求ID" IS NULL;
+
+-- 顧客別の入金
+CREATE INDEX "idx_入金データ_顧客_入金日"
+    ON "入金データ"("顧客コード", "顧客枝番", "入金日");
+
+-- 締日に該当する顧客
+CREATE INDEX "idx_顧客マスタ_締日1" ON "顧客マスタ"("顧客締日1");
+CREATE INDEX "idx_顧客マスタ_締日2" ON "顧客マスタ"("顧客締日2");
@@ -0,0 +1,5 @@
+-- 受注引当・引当解除の入出庫履歴
+-- 受注時の引当と受注取消時の引当解除も入出庫履歴データに記録する（現在庫数は変わらず、有効在庫数が増減する）
+
+ALTER TYPE 移動区分 ADD VALUE IF NOT EXISTS '引当';
+ALTER TYPE 移動区分 ADD VALUE IF NOT EXISTS '引当解除';
@@ -0,0 +1,83 @@
+package com.example.sms.domain.model.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 顧客別販売単価の単価表テスト.
+ */
+@DisplayName("顧客別販売単価の単価表")
+class CustomerPriceScheduleTest {
+
+    private static CustomerProductPrice price(LocalDate startDate, LocalDate endDate, String sellingPrice) {
+        return CustomerProductPrice.builder()
+            .productCode("P001")
+            .partnerCode("C001")
+            .startDate(startDate)
+            .endDate(endDate)
+            .sellingPrice(new BigDecimal(sellingPrice))
+            .build();
+    }
+
+    @Nested
+    @DisplayName("適用期間の境界")
+    class Boundaries {
+
+        // 1/1〜3/31 は 800、4 月は登録なし、5/1 以降は終了日なしで 750
+        private final CustomerPriceSchedule schedule = CustomerPriceSchedule.of(List.of(
+            price(LocalDate.of(2025, 5, 1), null, "750"),
+            price(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31), "800")));
+
+        @Test
+        @DisplayName("最初の適用開始日より前は単価なし")
+        void shouldHaveNoPriceBeforeFirstStartDate() {
+            assertThat(schedule.priceOn(LocalDate.of(2024, 12, 31))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("適用開始日と適用終了日は単価の適用期間に含む")
+        void shouldIncludeStartAndEndDates() {
+            assertThat(schedule.priceOn(LocalDate.of(2025, 1, 1))).hasValueSatisfying(
+                p -> assertThat(p).isEqualByComparingTo("800"));
+            assertThat(schedule.priceOn(LocalDate.of(2025, 3, 31))).hasValueSatisfying(
+                p -> assertThat(p).isEqualByComparingTo("800"));
+        }
+
+        @Test
+        @DisplayName("適用終了日の翌日から次の適用開始日の前日までは単価なし")
+        void shouldHaveNoPriceInGap() {
+            assertThat(schedule.priceOn(LocalDate.of(2025, 4, 1))).isEmpty();
+            assertThat(schedule.priceOn(LocalDate.of(2025, 4, 30))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("適用終了日のない単価は適用開始日以降ずっと適用する")
+        void shouldApplyOpenEndedPrice() {
+            assertThat(schedule.priceOn(LocalDate.of(2025, 5, 1))).hasValueSatisfying(
+                p -> assertThat(p).isEqualByComparingTo("750"));
+            assertThat(schedule.priceOn(LocalDate.of(2099, 12, 31))).hasValueSatisfying(
+                p -> assertThat(p).isEqualByComparingTo("750"));
+        }
+    }
+
+    @Nested
+    @DisplayName("登録のない単価表")
+    class Empty {
+
+        @Test
+        @DisplayName("顧客別販売単価がなければ空の単価表になり、どの日も単価なし")
+        void shouldReturnEmptySchedule() {
+            CustomerPriceSchedule schedule = CustomerPriceSchedule.of(List.of());
+
+            assertThat(schedule).isSameAs(CustomerPriceSchedule.EMPTY);
+            assertThat(schedule.priceOn(LocalDate.of(2025, 1, 1))).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.sms.domain.model.receipt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 入金自動消込テスト.
+ */
+@DisplayName("入金自動消込")
+class ReceiptMatcherTest {
+
+    private static final BigDecimal TOLERANCE = new BigDecimal("1000");
+    private static final LocalDate APPLICATION_DATE = LocalDate.of(2025, 5, 10);
+
+    private static OpenInvoice invoice(int id, String customerCode, String nameKana, LocalDate dueDate,
+            String balance) {
+        return OpenInvoice.builder()
+            .invoiceId(id)
+            .invoiceNumber(String.format("INV-%04d", id))
+            .customerCode(customerCode)
+            .customerBranchNumber("00")
+            .customerNameKana(nameKana)
+            .dueDate(dueDate)
+            .receiptAmount(BigDecimal.ZERO)
+            .invoiceBalance(new BigDecimal(balance))
+            .build();
+    }
+
+    private static OpenInvoice invoice(int id, LocalDate dueDate, String balance) {
+        return invoice(id, "C001", "ヤマダシヨウジ", dueDate, balance);
+    }
+
+    private static UnappliedReceipt receipt(String customerCode, String payerName, String amount) {
+        Receipt receipt = Receipt.builder()
+            .id(1)
+            .receiptNumber("RCP-0001")
+            .receiptDate(APPLICATION_DATE)
+            .customerCode(customerCode)
+            .customerBranchNumber("00")
+            .receiptAmount(new BigDecimal(amount))
+            .unappliedAmount(new BigDecimal(amount))
+            .payerName(payerName)
+            .build();
+        return new UnappliedReceipt(receipt, 0);
+    }
+
+    private static Optional<ReceiptMatch> match(List<OpenInvoice> invoices, UnappliedReceipt receipt) {
+        return ReceiptMatcher.of(invoices, TOLERANCE).match(receipt, APPLICATION_DATE);
+    }
+
+    @Nested
+    @DisplayName("1 件の請求への消込")
+    class SingleInvoice {
+
+        @Test
+        @DisplayName("請求残高と同額の入金は手数料なしで消し込む")
+        void shouldMatchExactAmount() {
+            OpenInvoice target = invoice(1, LocalDate.of(2025, 4, 30), "50000");
+            UnappliedReceipt unapplied = receipt("C001", null, "50000");
+
+            Optional<ReceiptMatch> result = match(List.of(target), unapplied);
+
+            assertThat(result).isPresent();
+            assertThat(result.get().getInvoices()).containsExactly(target);
+            assertThat(result.get().getBankFee()).isEqualByComparingTo("0");
+            ReceiptApplication application = result.get().getApplications().getFirst();
+            assertThat(application.getAppliedAmount()).isEqualByComparingTo("50000");
+            assertThat(application.getRemarks()).isNull();
+            assertThat(target.getInvoiceBalance()).isEqualByComparingTo("0");
+            assertThat(unapplied.getReceipt().getStatus()).isEqualTo(ReceiptStatus.APPLIED);
+            assertThat(unapplied.getReceipt().getUnappliedAmount()).isEqualByComparingTo("0");
+        }
+
+        @Test
+        @DisplayName("差額が許容額ちょうどの入金は差額を振込手数料として消し込む")
+        void shouldMatchWithBankFeeAtTolerance() {
+            OpenInvoice target = invoice(1, LocalDate.of(2025, 4, 30), "50000");
+            UnappliedReceipt unapplied = receipt("C001", null, "49000");
+
+            Optional<ReceiptMatch> result = match(List.of(target), unapplied);
+
+            assertThat(result).isPresent();
+            assertThat(result.get().getBankFee()).isEqualByComparingTo("1000");
+            ReceiptApplication application = result.get().getApplications().getFirst();
+            assertThat(application.getAppliedAmount()).isEqualByComparingTo("49000");
+            assertThat(application.getRemarks()).isEqualTo("振込手数料 1000 円を差し引いて消込");
+            Receipt receipt = unapplied.getReceipt();
+            assertThat(receipt.getReceiptAmount()).isEqualByComparingTo("50000");
+            assertThat(receipt.getBankFee()).isEqualByComparingTo("1000");
+            assertThat(receipt.getAppliedAmount()).isEqualByComparingTo("49000");
+        }
+
+        @Test
+        @DisplayName("差額が許容額を超える入金は消し込まない")
+        void shouldNotMatchBeyondTolerance() {
+            OpenInvoice target = invoice(1, LocalDate.of(2025, 4, 30), "50000");
+            UnappliedReceipt unapplied = receipt("C001", null, "48999");
+
+            assertThat(match(List.of(target), unapplied)).isEmpty();
+            assertThat(target.getInvoiceBalance()).isEqualByComparingTo("50000");
+            assertThat(unapplied.getReceipt().getStatus()).isEqualTo(ReceiptStatus.RECEIVED);
+        }
+
+        @Test
+        @DisplayName("消し込んだ請求は次の入金の消込先にならない")
+        void shouldNotMatchSameInvoiceTwice() {
+            ReceiptMatcher matcher = ReceiptMatcher.of(
+                List.of(invoice(1, LocalDate.of(2025, 4, 30), "50000")), TOLERANCE);
+
+            assertThat(matcher.match(receipt("C001", null, "50000"), APPLICATION_DATE)).isPresent();
+            assertThat(matcher.match(receipt("C001", null, "50000"), APPLICATION_DATE)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("複数の請求への消込")
+    class CumulativeInvoices {
+
+        @Test
+        @DisplayName("回収予定日の古い請求から累計し、手数料は請求残高の最も大きい請求の明細から差し引く")
+        void shouldMatchOldestInvoicesCumulatively() {
+            OpenInvoice later = invoice(2, LocalDate.of(2025, 5, 31), "20000");
+            OpenInvoice older = invoice(1, LocalDate.of(2025, 4, 30), "30000");
+            OpenInvoice latest = invoice(3, LocalDate.of(2025, 6, 30), "10000");
+
+            Optional<ReceiptMatch> result = match(List.of(later, latest, older), receipt("C001", null, "49500"));
+
+            assertThat(result).isPresent();
+            assertThat(result.get().getInvoices()).containsExactly(older, later);
+            assertThat(result.get().getBankFee()).isEqualByComparingTo("500");
+            assertThat(result.get().getApplications())
+                .extracting(ReceiptApplication::getAppliedAmount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("29500"), new BigDecimal("20000"));
+            assertThat(latest.getInvoiceBalance()).isEqualByComparingTo("10000");
+        }
+
+        @Test
+        @DisplayName("累計が許容額を超えて入金額を上回る場合は消し込まない")
+        void shouldNotMatchWhenCumulativeTotalOvershoots() {
+            List<OpenInvoice> invoices = List.of(
+                invoice(1, LocalDate.of(2025, 4, 30), "30000"),
+                invoice(2, LocalDate.of(2025, 5, 31), "25000"));
+
+            assertThat(match(invoices, receipt("C001", null, "50000"))).isEmpty();
+            assertThat(invoices).extracting(OpenInvoice::getInvoiceBalance)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("30000"), new BigDecimal("25000"));
+        }
+    }
+
+    @Nested
+    @DisplayName("振込名義による顧客の特定")
+    class PayerName {
+
+        @Test
+        @DisplayName("入金の顧客に消込先がなければ、振込名義が顧客名カナと一致する顧客の請求に消し込む")
+        void shouldMatchByPayerName() {
+            OpenInvoice target = invoice(1, "C002", "ヤマダシヨウジ(カ", LocalDate.of(2025, 4, 30), "50000");
+
+            Optional<ReceiptMatch> result = match(List.of(target), receipt("C999", "ｶ)ﾔﾏﾀﾞ ｼｮｳｼﾞ", "50000"));
+
+            assertThat(result).isPresent();
+            assertThat(result.get().getInvoices()).containsExactly(target);
+        }
+
+        @Test
+        @DisplayName("振込名義に一致する顧客が複数ある場合は消し込まない")
+        void shouldNotMatchAmbiguousPayerName() {
+            List<OpenInvoice> invoices = List.of(
+                invoice(1, "C002", "ヤマダシヨウジ", LocalDate.of(2025, 4, 30), "50000"),
+                invoice(2, "C003", "(カ)ヤマダシヨウジ", LocalDate.of(2025, 4, 30), "50000"));
+
+            assertThat(match(invoices, receipt("C999", "ﾔﾏﾀﾞｼﾖｳｼﾞ", "50000"))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("振込名義の正規化")
+    class NormalizePayerName {
+
+        @Test
+        @DisplayName("半角カナを全角にし、空白を除き、小書き文字を大文字にする")
+        void shouldNormalizeHalfWidthAndSmallKana() {
+            assertThat(ReceiptMatcher.normalizePayerName("ﾔﾏﾀﾞ ｼｮｳｼﾞ")).isEqualTo("ヤマダシヨウジ");
+            assertThat(ReceiptMatcher.normalizePayerName("ヤマダ　ショウジ")).isEqualTo("ヤマダシヨウジ");
+        }
+
+        @Test
+        @DisplayName("法人格の略語と正式表記を取り除く")
+        void shouldRemoveLegalEntity() {
+            assertThat(ReceiptMatcher.normalizePayerName("ｶ)ﾔﾏﾀﾞ")).isEqualTo("ヤマダ");
+            assertThat(ReceiptMatcher.normalizePayerName("(カ)ヤマダ")).isEqualTo("ヤマダ");
+            assertThat(ReceiptMatcher.normalizePayerName("ヤマダ(カ")).isEqualTo("ヤマダ");
+            assertThat(ReceiptMatcher.normalizePayerName("カブシキガイシャヤマダ")).isEqualTo("ヤマダ");
+        }
+
+        @Test
+        @DisplayName("null は空文字にする")
+        void shouldReturnEmptyForNull() {
+            assertThat(ReceiptMatcher.normalizePayerName(null)).isEmpty();
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package com.example.sms.infrastructure.in.rest;
 
+import com.example.sms.application.port.out.AccountsReceivableRepository;
+import com.example.sms.application.port.out.CustomerRepository;
 import com.example.sms.application.port.out.InvoiceRepository;
+import com.example.sms.application.port.out.PartnerRepository;
+import com.example.sms.domain.model.invoice.AccountsReceivable;
+import com.example.sms.domain.model.partner.BillingType;
+import com.example.sms.domain.model.partner.Customer;
+import com.example.sms.domain.model.partner.Partner;
 import com.example.sms.testsetup.BaseIntegrationTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +20,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
 /**
  * 請求 API テスト.
  */
@@ -27,6 +37,15 @@ class InvoiceControllerTest extends BaseIntegrationTest {
     @Autowired
     private InvoiceRepository invoiceRepository;
 
+    @Autowired
+    private AccountsReceivableRepository accountsReceivableRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
     @BeforeEach
     void setUp() {
         invoiceRepository.deleteAll();
@@ -83,6 +102,105 @@ class InvoiceControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/invoices/closing")
+    class CloseInvoices {
+
+        @BeforeEach
+        void setUpCustomer() {
+            accountsReceivableRepository.deleteAll();
+            customerRepository.deleteAll();
+            partnerRepository.deleteAll();
+
+            partnerRepository.save(Partner.builder()
+                .partnerCode("C001")
+                .partnerName("テスト顧客")
+                .isCustomer(true)
+                .build());
+            customerRepository.save(Customer.builder()
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .customerName("テスト顧客本社")
+                .billingType(BillingType.PERIODIC)
+                .closingDay1(31)
+                .paymentMonth1(1)
+                .paymentDay1(31)
+                .build());
+            accountsReceivableRepository.save(AccountsReceivable.builder()
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .baseDate(LocalDate.of(2024, 12, 31))
+                .currentMonthBalance(new BigDecimal("50000"))
+                .build());
+        }
+
+        @Test
+        @DisplayName("締日に該当する顧客の請求を作成し、同じ月の再実行では作成しない")
+        void shouldCloseInvoicesOncePerMonth() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/invoices/closing")
+                    .param("closingDate", "2025-01-31"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.targetCustomerCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.invoiceCount").value(1));
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/invoices")
+                    .param("customerCode", "C001"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].previousBalance").value(50000.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].invoiceBalance").value(50000.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].dueDate").value("2025-02-28"));
+
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/invoices/closing")
+                    .param("closingDate", "2025-01-31"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.targetCustomerCount").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.invoiceCount").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.skippedCustomers[0]").value("C001-00"));
+        }
+
+        @Test
+        @DisplayName("顧客締日2 の締は当月の締処理が済んでいるため請求を作成せず、締めなかった顧客として返す")
+        void shouldReportCustomerSkippedAtSecondClosingDay() throws Exception {
+            partnerRepository.save(Partner.builder()
+                .partnerCode("C002")
+                .partnerName("テスト顧客2")
+                .isCustomer(true)
+                .build());
+            customerRepository.save(Customer.builder()
+                .customerCode("C002")
+                .customerBranchNumber("00")
+                .customerName("テスト顧客2本社")
+                .billingType(BillingType.PERIODIC)
+                .closingDay1(15)
+                .paymentMonth1(1)
+                .paymentDay1(15)
+                .closingDay2(31)
+                .paymentMonth2(1)
+                .paymentDay2(31)
+                .build());
+            accountsReceivableRepository.save(AccountsReceivable.builder()
+                .customerCode("C002")
+                .customerBranchNumber("00")
+                .baseDate(LocalDate.of(2024, 12, 31))
+                .currentMonthBalance(new BigDecimal("20000"))
+                .build());
+
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/invoices/closing")
+                    .param("closingDate", "2025-01-15"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.invoiceCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.skippedCustomers").isEmpty());
+
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/invoices/closing")
+                    .param("closingDate", "2025-01-31"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.targetCustomerCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.invoiceCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.skippedCustomers.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.skippedCustomers[0]").value("C002-00"));
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /api/v1/invoices/{invoiceNumber}")
     class DeleteInvoice {
@@ -1,7 +1,22 @@
 package com.example.sms.infrastructure.in.rest;
 
+import com.example.sms.application.port.in.CustomerProductPriceUseCase;
+import com.example.sms.application.port.out.CustomerRepository;
+import com.example.sms.application.port.out.InventoryRepository;
+import com.example.sms.application.port.out.PartnerRepository;
+import com.example.sms.application.port.out.ProductRepository;
 import com.example.sms.application.port.out.SalesOrderRepository;
+import com.example.sms.application.port.out.StockMovementRepository;
+import com.example.sms.domain.model.inventory.Inventory;
+import com.example.sms.domain.model.inventory.MovementType;
+import com.example.sms.domain.model.partner.Customer;
+import com.example.sms.domain.model.partner.Partner;
+import com.example.sms.domain.model.product.CustomerProductPrice;
+import com.example.sms.domain.model.product.Product;
+import com.example.sms.domain.model.product.ProductCategory;
+import com.example.sms.domain.model.product.TaxCategory;
 import com.example.sms.testsetup.BaseIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,10 +24,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * 受注 API テスト.
  */
@@ -83,6 +104,289 @@ class OrderControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/orders（単価の自動設定）")
+    class CreateOrderWithResolvedPrice {
+
+        private static final String REQUEST = """
+            {
+                "orderDate": "2025-02-01",
+                "customerCode": "C001",
+                "customerBranchNumber": "00",
+                "details": [
+                    { "productCode": "P001", "orderQuantity": 2 },
+                    { "productCode": "P002", "orderQuantity": 1 }
+                ]
+            }
+            """;
+
+        @Autowired
+        private CustomerProductPriceUseCase customerProductPriceUseCase;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private PartnerRepository partnerRepository;
+
+        @BeforeEach
+        void setUpMasters() {
+            customerRepository.deleteAll();
+            partnerRepository.deleteAll();
+            productRepository.deleteAll();
+
+            partnerRepository.save(Partner.builder()
+                .partnerCode("C001")
+                .partnerName("テスト顧客")
+                .isCustomer(true)
+                .build());
+            customerRepository.save(Customer.builder()
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .customerName("テスト顧客本社")
+                .build());
+            saveProduct("P001", "1000");
+            saveProduct("P002", "1500");
+            customerProductPriceUseCase.createPrice(CustomerProductPrice.builder()
+                .productCode("P001")
+                .partnerCode("C001")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31))
+                .sellingPrice(new BigDecimal("800"))
+                .build());
+        }
+
+        private void saveProduct(String code, String sellingPrice) {
+            productRepository.save(Product.builder()
+                .productCode(code)
+                .productName("商品" + code)
+                .productCategory(ProductCategory.PRODUCT)
+                .sellingPrice(new BigDecimal(sellingPrice))
+                .taxCategory(TaxCategory.EXCLUSIVE)
+                .build());
+        }
+
+        @Test
+        @DisplayName("単価を省略した明細には受注日の顧客別販売単価、なければ商品の販売単価を設定する")
+        void shouldResolveUnitPrices() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(REQUEST))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.details[0].unitPrice").value(800.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.details[1].unitPrice").value(1500.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.orderAmount").value(3100.0));
+        }
+
+        @Test
+        @DisplayName("顧客別販売単価を更新すると次の受注から新しい単価を設定する")
+        void shouldUseUpdatedPriceAfterUpdate() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(REQUEST))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.details[0].unitPrice").value(800.0));
+
+            var price = customerProductPriceUseCase.getPrice("P001", "C001", LocalDate.of(2025, 1, 1));
+            price.setSellingPrice(new BigDecimal("750"));
+            customerProductPriceUseCase.updatePrice(price);
+
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(REQUEST))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.details[0].unitPrice").value(750.0));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/orders（在庫の引当）")
+    class CreateOrderWithAllocation {
+
+        @Autowired
+        private InventoryRepository inventoryRepository;
+
+        @Autowired
+        private StockMovementRepository stockMovementRepository;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private PartnerRepository partnerRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @BeforeEach
+        void setUpStock() {
+            cleanUpStock();
+            customerRepository.deleteAll();
+            partnerRepository.deleteAll();
+
+            partnerRepository.save(Partner.builder()
+                .partnerCode("C001")
+                .partnerName("テスト顧客")
+                .isCustomer(true)
+                .build());
+            customerRepository.save(Customer.builder()
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .customerName("テスト顧客本社")
+                .build());
+            productRepository.save(Product.builder()
+                .productCode("P001")
+                .productName("商品P001")
+                .productCategory(ProductCategory.PRODUCT)
+                .sellingPrice(new BigDecimal("1000"))
+                .taxCategory(TaxCategory.EXCLUSIVE)
+                .build());
+            jdbcTemplate.update("INSERT INTO \"倉庫マスタ\" (\"倉庫コード\", \"倉庫名\", \"倉庫区分\") "
+                + "VALUES (?, ?, ?::倉庫区分) ON CONFLICT DO NOTHING", "WH001", "メイン倉庫", "自社");
+            inventoryRepository.save(Inventory.builder()
+                .warehouseCode("WH001")
+                .productCode("P001")
+                .currentQuantity(new BigDecimal("10"))
+                .allocatedQuantity(BigDecimal.ZERO)
+                .orderedQuantity(BigDecimal.ZERO)
+                .build());
+        }
+
+        @AfterEach
+        void cleanUpStock() {
+            // 倉庫マスタを削除する他のテストの妨げにならないよう、在庫と入出庫履歴を残さない
+            stockMovementRepository.deleteAll();
+            inventoryRepository.deleteAll();
+            productRepository.deleteAll();
+        }
+
+        private String request(int quantity) {
+            return """
+                {
+                    "orderDate": "2025-02-01",
+                    "customerCode": "C001",
+                    "customerBranchNumber": "00",
+                    "details": [
+                        { "productCode": "P001", "orderQuantity": %d, "unitPrice": 1000, "warehouseCode": "WH001" }
+                    ]
+                }
+                """.formatted(quantity);
+        }
+
+        private Inventory stock() {
+            return inventoryRepository.findByWarehouseAndProduct("WH001", "P001").orElseThrow();
+        }
+
+        @Test
+        @DisplayName("倉庫を指定した明細の数量を引き当て、入出庫履歴を記録する")
+        void shouldAllocateStock() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request(4)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+            assertThat(stock().getAllocatedQuantity()).isEqualByComparingTo("4");
+            String orderNumber = salesOrderRepository.findAll().getFirst().getOrderNumber();
+            assertThat(stockMovementRepository.findByMovementType(MovementType.ALLOCATION)).singleElement()
+                .satisfies(m -> {
+                    assertThat(m.getDocumentNumber()).isEqualTo(orderNumber);
+                    assertThat(m.getMovementQuantity()).isEqualByComparingTo("4");
+                    assertThat(m.getBeforeQuantity()).isEqualByComparingTo("10");
+                    assertThat(m.getAfterQuantity()).isEqualByComparingTo("6");
+                });
+        }
+
+        @Test
+        @DisplayName("有効在庫が不足する場合は422を返し、受注も引当も登録しない")
+        void shouldReturn422WhenStockIsInsufficient() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request(4)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request(7)))
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("BUSINESS_RULE_VIOLATION"));
+
+            assertThat(salesOrderRepository.findAll()).hasSize(1);
+            assertThat(stock().getAllocatedQuantity()).isEqualByComparingTo("4");
+        }
+
+        @Test
+        @DisplayName("受注を取り消すと引当を解除する")
+        void shouldReleaseAllocationOnCancel() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request(4)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+            String orderNumber = salesOrderRepository.findAll().getFirst().getOrderNumber();
+
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders/{orderNumber}/cancel", orderNumber))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+            assertThat(stock().getAllocatedQuantity()).isEqualByComparingTo("0");
+            assertThat(stockMovementRepository.findByMovementType(MovementType.ALLOCATION_RELEASE)).singleElement()
+                .satisfies(m -> assertThat(m.getAfterQuantity()).isEqualByComparingTo("10"));
+        }
+
+        @Test
+        @DisplayName("ステータスをキャンセルに更新すると引当を解除する")
+        void shouldReleaseAllocationOnStatusUpdateToCancelled() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request(4)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+            String orderNumber = salesOrderRepository.findAll().getFirst().getOrderNumber();
+
+            mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/orders/{orderNumber}", orderNumber)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        {
+                            "status": "CANCELLED"
+                        }
+                        """))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("CANCELLED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.details[0].allocatedQuantity").value(0));
+
+            assertThat(stock().getAllocatedQuantity()).isEqualByComparingTo("0");
+            assertThat(stockMovementRepository.findByMovementType(MovementType.ALLOCATION_RELEASE)).singleElement()
+                .satisfies(m -> assertThat(m.getAfterQuantity()).isEqualByComparingTo("10"));
+
+            // 取消済みの受注を取り消し直しても二重に解除しない
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders/{orderNumber}/cancel", orderNumber))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+            assertThat(stockMovementRepository.findByMovementType(MovementType.ALLOCATION_RELEASE)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("受注を削除すると引当を解除する")
+        void shouldReleaseAllocationOnDelete() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request(4)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+            String orderNumber = salesOrderRepository.findAll().getFirst().getOrderNumber();
+
+            mockMvc.perform(MockMvcRequestBuilders.delete("/api/v1/orders/{orderNumber}", orderNumber))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+            assertThat(salesOrderRepository.findAll()).isEmpty();
+            assertThat(stock().getAllocatedQuantity()).isEqualByComparingTo("0");
+            assertThat(stockMovementRepository.findByMovementType(MovementType.ALLOCATION_RELEASE)).singleElement()
+                .satisfies(m -> {
+                    assertThat(m.getDocumentNumber()).isEqualTo(orderNumber);
+                    assertThat(m.getAfterQuantity()).isEqualByComparingTo("10");
+                });
+        }
+    }
+
     @Nested
     @DisplayName("PUT /api/v1/orders/{orderNumber}")
     class UpdateOrder {
@@ -83,6 +83,22 @@ class ReceiptControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/receipts/matching")
+    class MatchReceipts {
+
+        @Test
+        @DisplayName("未消込の入金がない場合は 0 件の結果を返す")
+        void shouldReturnEmptyResultWhenNoUnappliedReceipts() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/receipts/matching")
+                    .param("applicationDate", "2025-02-28"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.applicationDate").value("2025-02-28"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.receiptCount").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.matchedCount").value(0));
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /api/v1/receipts/{receiptNumber}")
     class DeleteReceipt {
@@ -0,0 +1,256 @@
+package com.example.sms.infrastructure.in.rest;
+
+import com.example.sms.application.port.out.CustomerRepository;
+import com.example.sms.application.port.out.InvoiceRepository;
+import com.example.sms.application.port.out.PartnerRepository;
+import com.example.sms.domain.model.invoice.Invoice;
+import com.example.sms.domain.model.invoice.InvoiceStatus;
+import com.example.sms.domain.model.partner.Customer;
+import com.example.sms.domain.model.partner.Partner;
+import com.example.sms.infrastructure.in.web.service.BulkPdfRenderingService;
+import com.example.sms.testsetup.BaseIntegrationTest;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 帳票 API テスト.
+ */
+@AutoConfigureMockMvc
+@DisplayName("帳票 API テスト")
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+class ReportControllerTest extends BaseIntegrationTest {
+
+    private static final String BULK_PDF = "/api/v1/reports/bulk-pdf";
+
+    /** ジョブの完了を待つ回数の上限（100 ミリ秒間隔）. */
+    private static final int MAX_POLLS = 300;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private BulkPdfRenderingService bulkPdfRenderingService;
+
+    @BeforeEach
+    void setUp() {
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+
+        partnerRepository.save(Partner.builder()
+                .partnerCode("C001")
+                .partnerName("顧客C001")
+                .isCustomer(true)
+                .build());
+        customerRepository.save(Customer.builder()
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .customerName("顧客C001")
+                .build());
+    }
+
+    private void saveInvoice(String invoiceNumber, LocalDate invoiceDate) {
+        invoiceRepository.save(Invoice.builder()
+                .invoiceNumber(invoiceNumber)
+                .invoiceDate(invoiceDate)
+                .billingCode("C001")
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .currentSalesAmount(new BigDecimal("11000"))
+                .currentInvoiceAmount(new BigDecimal("11000"))
+                .invoiceBalance(new BigDecimal("11000"))
+                .dueDate(invoiceDate.plusMonths(1))
+                .status(InvoiceStatus.ISSUED)
+                .build());
+    }
+
+    private String start(String request) throws Exception {
+        String body = mockMvc.perform(MockMvcRequestBuilders.post(BULK_PDF)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request))
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.jobId");
+    }
+
+    private void awaitFinished(String jobId) throws Exception {
+        for (int i = 0; i < MAX_POLLS; i++) {
+            String body = mockMvc.perform(MockMvcRequestBuilders.get(BULK_PDF + "/" + jobId))
+                    .andReturn().getResponse().getContentAsString();
+            if (!"RUNNING".equals(JsonPath.read(body, "$.status"))) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("ジョブが終了しません: " + jobId);
+    }
+
+    private static List<String> zipEntryNames(byte[] zip) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/reports/bulk-pdf")
+    class StartBulkPdf {
+
+        @Test
+        @DisplayName("期間内の請求書を ZIP に出力し、進捗と生成時間を返す")
+        void shouldRenderInvoicesIntoZip() throws Exception {
+            saveInvoice("INV-0002", LocalDate.of(2025, 1, 31));
+            saveInvoice("INV-0001", LocalDate.of(2025, 1, 15));
+            saveInvoice("INV-0003", LocalDate.of(2025, 2, 28));
+
+            String jobId = start("""
+                {
+                    "documentType": "INVOICE",
+                    "from": "2025-01-01",
+                    "to": "2025-01-31",
+                    "outputFormat": "ZIP"
+                }
+                """);
+            awaitFinished(jobId);
+
+            mockMvc.perform(MockMvcRequestBuilders.get(BULK_PDF + "/" + jobId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("COMPLETED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalCount").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.renderedCount").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failedCount").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.progressPercent").value(100));
+
+            byte[] zip = mockMvc.perform(MockMvcRequestBuilders.get(BULK_PDF + "/" + jobId + "/file"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType("application/zip"))
+                .andReturn().getResponse().getContentAsByteArray();
+            assertThat(zipEntryNames(zip)).containsExactly("invoice_INV-0001.pdf", "invoice_INV-0002.pdf");
+
+            mockMvc.perform(MockMvcRequestBuilders.delete(BULK_PDF + "/" + jobId))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+            mockMvc.perform(MockMvcRequestBuilders.get(BULK_PDF + "/" + jobId))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("請求書を 1 つの PDF に結合して出力する")
+        void shouldMergeInvoicesIntoSinglePdf() throws Exception {
+            saveInvoice("INV-0001", LocalDate.of(2025, 1, 15));
+            saveInvoice("INV-0002", LocalDate.of(2025, 1, 31));
+
+            String jobId = start("""
+                {
+                    "documentType": "INVOICE",
+                    "from": "2025-01-01",
+                    "to": "2025-01-31",
+                    "outputFormat": "MERGED"
+                }
+                """);
+            awaitFinished(jobId);
+
+            byte[] pdf = mockMvc.perform(MockMvcRequestBuilders.get(BULK_PDF + "/" + jobId + "/file"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_PDF))
+                .andReturn().getResponse().getContentAsByteArray();
+            assertThat(new String(pdf, 0, 5, StandardCharsets.US_ASCII)).isEqualTo("%PDF-");
+
+            mockMvc.perform(MockMvcRequestBuilders.delete(BULK_PDF + "/" + jobId))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+        }
+
+        @Test
+        @DisplayName("帳票の種類が欠けている場合は400を返す")
+        void shouldReturn400WhenDocumentTypeMissing() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post(BULK_PDF)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        {
+                            "from": "2025-01-01",
+                            "to": "2025-01-31"
+                        }
+                        """))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("VALIDATION_ERROR"));
+        }
+    }
+
+    @Nested
+    @DisplayName("一括出力ジョブの保持期間")
+    class Retention {
+
+        @Test
+        @DisplayName("終了してから保持期間が過ぎたジョブは破棄し、出力ファイルを削除する")
+        void shouldPurgeExpiredJob() throws Exception {
+            saveInvoice("INV-0001", LocalDate.of(2025, 1, 15));
+
+            String jobId = start("""
+                {
+                    "documentType": "INVOICE",
+                    "from": "2025-01-01",
+                    "to": "2025-01-31",
+                    "outputFormat": "ZIP"
+                }
+                """);
+            awaitFinished(jobId);
+            Path outputFile = bulkPdfRenderingService.getOutputFile(jobId);
+
+            assertThat(bulkPdfRenderingService.purgeExpired(LocalDateTime.now())).isZero();
+            assertThat(outputFile).exists();
+
+            assertThat(bulkPdfRenderingService.purgeExpired(LocalDateTime.now().plusMinutes(61))).isEqualTo(1);
+            assertThat(outputFile).doesNotExist();
+            mockMvc.perform(MockMvcRequestBuilders.get(BULK_PDF + "/" + jobId))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/reports/bulk-pdf/{jobId}")
+    class GetBulkPdfJob {
+
+        @Test
+        @DisplayName("存在しないジョブの場合は404を返す")
+        void shouldReturn404WhenJobNotFound() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.get(BULK_PDF + "/UNKNOWN"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("NOT_FOUND"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("帳票出力ジョブが見つかりません: UNKNOWN"));
+        }
+    }
+}
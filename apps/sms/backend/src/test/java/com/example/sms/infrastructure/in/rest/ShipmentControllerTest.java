@@ -1,7 +1,23 @@
 package com.example.sms.infrastructure.in.rest;
 
+import com.example.sms.application.port.out.CustomerRepository;
+import com.example.sms.application.port.out.InventoryRepository;
+import com.example.sms.application.port.out.PartnerRepository;
+import com.example.sms.application.port.out.ProductRepository;
+import com.example.sms.application.port.out.SalesOrderRepository;
 import com.example.sms.application.port.out.ShipmentRepository;
+import com.example.sms.application.port.out.StockMovementRepository;
+import com.example.sms.domain.model.inventory.Inventory;
+import com.example.sms.domain.model.inventory.MovementType;
+import com.example.sms.domain.model.partner.Customer;
+import com.example.sms.domain.model.partner.Partner;
+import com.example.sms.domain.model.product.Product;
+import com.example.sms.domain.model.product.ProductCategory;
+import com.example.sms.domain.model.product.TaxCategory;
+import com.example.sms.domain.model.sales.SalesOrder;
+import com.example.sms.domain.model.sales.SalesOrderDetail;
 import com.example.sms.testsetup.BaseIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,10 +25,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * 出荷 API テスト.
  */
@@ -83,6 +104,190 @@ class ShipmentControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/shipments（在庫の出庫）")
+    class CreateShipmentFromStock {
+
+        @Autowired
+        private SalesOrderRepository salesOrderRepository;
+
+        @Autowired
+        private InventoryRepository inventoryRepository;
+
+        @Autowired
+        private StockMovementRepository stockMovementRepository;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @Autowired
+        private CustomerRepository customerRepository;
+
+        @Autowired
+        private PartnerRepository partnerRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        private SalesOrder order;
+
+        @BeforeEach
+        void setUpStock() throws Exception {
+            cleanUpStock();
+            customerRepository.deleteAll();
+            partnerRepository.deleteAll();
+
+            partnerRepository.save(Partner.builder()
+                .partnerCode("C001")
+                .partnerName("テスト顧客")
+                .isCustomer(true)
+                .build());
+            customerRepository.save(Customer.builder()
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .customerName("テスト顧客本社")
+                .build());
+            productRepository.save(Product.builder()
+                .productCode("P001")
+                .productName("商品P001")
+                .productCategory(ProductCategory.PRODUCT)
+                .sellingPrice(new BigDecimal("1000"))
+                .taxCategory(TaxCategory.EXCLUSIVE)
+                .build());
+            jdbcTemplate.update("INSERT INTO \"倉庫マスタ\" (\"倉庫コード\", \"倉庫名\", \"倉庫区分\") "
+                + "VALUES (?, ?, ?::倉庫区分) ON CONFLICT DO NOTHING", "WH001", "メイン倉庫", "自社");
+            inventoryRepository.save(Inventory.builder()
+                .warehouseCode("WH001")
+                .productCode("P001")
+                .currentQuantity(new BigDecimal("10"))
+                .allocatedQuantity(BigDecimal.ZERO)
+                .orderedQuantity(BigDecimal.ZERO)
+                .build());
+
+            // 受注で 4 個を引き当てる
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        {
+                            "orderDate": "2025-02-01",
+                            "customerCode": "C001",
+                            "customerBranchNumber": "00",
+                            "details": [
+                                { "productCode": "P001", "orderQuantity": 4, "unitPrice": 1000,
+                                  "warehouseCode": "WH001" }
+                            ]
+                        }
+                        """))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+            String orderNumber = salesOrderRepository.findAll().getFirst().getOrderNumber();
+            order = salesOrderRepository.findWithDetailsByOrderNumber(orderNumber).orElseThrow();
+        }
+
+        @AfterEach
+        void cleanUpStock() {
+            // 倉庫マスタを削除する他のテストの妨げにならないよう、在庫と入出庫履歴を残さない
+            shipmentRepository.deleteAll();
+            salesOrderRepository.deleteAll();
+            stockMovementRepository.deleteAll();
+            inventoryRepository.deleteAll();
+            productRepository.deleteAll();
+        }
+
+        private String request(Integer orderDetailId, int quantity) {
+            return """
+                {
+                    "shipmentDate": "2025-02-10",
+                    "orderId": %d,
+                    "customerCode": "C001",
+                    "customerBranchNumber": "00",
+                    "warehouseCode": "WH001",
+                    "details": [
+                        { "orderDetailId": %s, "productCode": "P001", "shippedQuantity": %d, "unitPrice": 1000 }
+                    ]
+                }
+                """.formatted(order.getId(), orderDetailId, quantity);
+        }
+
+        private Inventory stock() {
+            return inventoryRepository.findByWarehouseAndProduct("WH001", "P001").orElseThrow();
+        }
+
+        @Test
+        @DisplayName("受注で引き当てた数量を出庫し、出荷出庫の入出庫履歴を記録する")
+        void shouldShipAllocatedStock() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/shipments")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request(order.getDetails().getFirst().getId(), 4)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+            Inventory shipped = stock();
+            assertThat(shipped.getCurrentQuantity()).isEqualByComparingTo("6");
+            assertThat(shipped.getAllocatedQuantity()).isEqualByComparingTo("0");
+            assertThat(stockMovementRepository.findByMovementType(MovementType.SHIPMENT)).singleElement()
+                .satisfies(m -> {
+                    assertThat(m.getBeforeQuantity()).isEqualByComparingTo("10");
+                    assertThat(m.getAfterQuantity()).isEqualByComparingTo("6");
+                });
+        }
+
+        @Test
+        @DisplayName("引当のない出荷は他の受注の引当分を出庫せず、有効在庫が不足すれば422を返す")
+        void shouldReturn422WhenUnallocatedStockIsInsufficient() throws Exception {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/shipments")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request(null, 7)))
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+
+            Inventory unchanged = stock();
+            assertThat(unchanged.getCurrentQuantity()).isEqualByComparingTo("10");
+            assertThat(unchanged.getAllocatedQuantity()).isEqualByComparingTo("4");
+            assertThat(shipmentRepository.findAll()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("一部を出荷した受注を取り消すと、受注明細に残っている引当だけを解除する")
+        void shouldReleaseOnlyRemainingAllocationOnCancelAfterShipment() throws Exception {
+            // 別の受注で 2 個を引き当てる（引当数 6）
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        {
+                            "orderDate": "2025-02-01",
+                            "customerCode": "C001",
+                            "customerBranchNumber": "00",
+                            "details": [
+                                { "productCode": "P001", "orderQuantity": 2, "unitPrice": 1000,
+                                  "warehouseCode": "WH001" }
+                            ]
+                        }
+                        """))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/shipments")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request(order.getDetails().getFirst().getId(), 3)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+            SalesOrderDetail shippedLine = salesOrderRepository.findWithDetailsByOrderNumber(order.getOrderNumber())
+                .orElseThrow().getDetails().getFirst();
+            assertThat(shippedLine.getShippedQuantity()).isEqualByComparingTo("3");
+            assertThat(shippedLine.getRemainingQuantity()).isEqualByComparingTo("1");
+            assertThat(shippedLine.getAllocatedQuantity()).isEqualByComparingTo("1");
+            assertThat(stock().getAllocatedQuantity()).isEqualByComparingTo("3");
+
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/orders/{orderNumber}/cancel",
+                    order.getOrderNumber()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+            // 別の受注の引当 2 個は残る
+            Inventory cancelled = stock();
+            assertThat(cancelled.getCurrentQuantity()).isEqualByComparingTo("7");
+            assertThat(cancelled.getAllocatedQuantity()).isEqualByComparingTo("2");
+            assertThat(stockMovementRepository.findByMovementType(MovementType.ALLOCATION_RELEASE)).singleElement()
+                .satisfies(m -> assertThat(m.getMovementQuantity()).isEqualByComparingTo("1"));
+        }
+    }
+
     @Nested
     @DisplayName("PUT /api/v1/shipments/{shipmentNumber}")
     class UpdateShipment {
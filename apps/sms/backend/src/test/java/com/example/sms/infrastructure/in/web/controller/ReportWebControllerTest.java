@@ -27,9 +27,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 帳票出力コントローラーテスト.
@@ -67,7 +69,11 @@ class ReportWebControllerTest {
                     .locationCode("A-01-01")
                     .build()
             );
-            Mockito.when(reportService.getInventoryReport()).thenReturn(inventoryList);
+            Mockito.doAnswer(invocation -> {
+                Consumer<InventoryReportData> action = invocation.getArgument(0);
+                inventoryList.forEach(action);
+                return null;
+            }).when(reportService).forEachInventoryReportRow(ArgumentMatchers.any());
 
             mockMvc.perform(MockMvcRequestBuilders.get("/reports/inventory/excel"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
@@ -80,12 +86,12 @@ class ReportWebControllerTest {
         @Test
         @DisplayName("在庫データが空でも Excel をエクスポートできる")
         void shouldExportEmptyInventoryAsExcel() throws Exception {
-            Mockito.when(reportService.getInventoryReport()).thenReturn(List.of());
-
             mockMvc.perform(MockMvcRequestBuilders.get("/reports/inventory/excel"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content()
                     .contentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+
+            Mockito.verify(reportService).forEachInventoryReportRow(ArgumentMatchers.any());
         }
     }
 
@@ -99,16 +105,17 @@ class ReportWebControllerTest {
             Invoice invoice = createTestInvoice("INV-20240101-001");
             Mockito.when(reportService.getInvoiceForReport("INV-20240101-001")).thenReturn(invoice);
             Mockito.when(reportService.getCustomerName("CUST001")).thenReturn("テスト顧客株式会社");
-            Mockito.when(pdfGeneratorService.generatePdf(
-                ArgumentMatchers.eq("reports/invoice-pdf"),
-                ArgumentMatchers.anyMap()
-            )).thenReturn("PDF content".getBytes());
 
             mockMvc.perform(MockMvcRequestBuilders.get("/reports/invoice/INV-20240101-001/pdf"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().contentType("application/pdf"))
                 .andExpect(MockMvcResultMatchers.header()
                     .string("Content-Disposition", "attachment; filename=invoice_INV-20240101-001.pdf"));
+
+            Mockito.verify(pdfGeneratorService).generatePdf(
+                ArgumentMatchers.eq("reports/invoice-pdf"),
+                ArgumentMatchers.anyMap(),
+                ArgumentMatchers.any(OutputStream.class));
         }
 
         @Test
@@ -132,16 +139,17 @@ class ReportWebControllerTest {
             PurchaseOrder purchaseOrder = createTestPurchaseOrder("PO-20240101-001");
             Mockito.when(reportService.getPurchaseOrderForReport("PO-20240101-001")).thenReturn(purchaseOrder);
             Mockito.when(reportService.getSupplierName("SUP001")).thenReturn("テスト仕入先株式会社");
-            Mockito.when(pdfGeneratorService.generatePdf(
-                ArgumentMatchers.eq("reports/purchase-order-pdf"),
-                ArgumentMatchers.anyMap()
-            )).thenReturn("PDF content".getBytes());
 
             mockMvc.perform(MockMvcRequestBuilders.get("/reports/purchase-order/PO-20240101-001/pdf"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().contentType("application/pdf"))
                 .andExpect(MockMvcResultMatchers.header()
                     .string("Content-Disposition", "attachment; filename=purchase_order_PO-20240101-001.pdf"));
+
+            Mockito.verify(pdfGeneratorService).generatePdf(
+                ArgumentMatchers.eq("reports/purchase-order-pdf"),
+                ArgumentMatchers.anyMap(),
+                ArgumentMatchers.any(OutputStream.class));
         }
 
         @Test
@@ -165,16 +173,17 @@ class ReportWebControllerTest {
             Quotation quotation = createTestQuotation("QT-20240101-001");
             Mockito.when(reportService.getQuotationForReport("QT-20240101-001")).thenReturn(quotation);
             Mockito.when(reportService.getCustomerName("CUST001")).thenReturn("テスト顧客株式会社");
-            Mockito.when(pdfGeneratorService.generatePdf(
-                ArgumentMatchers.eq("reports/quotation-pdf"),
-                ArgumentMatchers.anyMap()
-            )).thenReturn("PDF content".getBytes());
 
             mockMvc.perform(MockMvcRequestBuilders.get("/reports/quotation/QT-20240101-001/pdf"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().contentType("application/pdf"))
                 .andExpect(MockMvcResultMatchers.header()
                     .string("Content-Disposition", "attachment; filename=quotation_QT-20240101-001.pdf"));
+
+            Mockito.verify(pdfGeneratorService).generatePdf(
+                ArgumentMatchers.eq("reports/quotation-pdf"),
+                ArgumentMatchers.anyMap(),
+                ArgumentMatchers.any(OutputStream.class));
         }
 
         @Test
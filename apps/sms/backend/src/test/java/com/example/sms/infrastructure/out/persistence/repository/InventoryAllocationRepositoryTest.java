@@ -0,0 +1,200 @@
+package com.example.sms.infrastructure.out.persistence.repository;
+
+import com.example.sms.application.port.out.InventoryAllocationRepository;
+import com.example.sms.application.port.out.InventoryRepository;
+import com.example.sms.application.port.out.ProductRepository;
+import com.example.sms.application.port.out.StockMovementRepository;
+import com.example.sms.domain.model.inventory.Inventory;
+import com.example.sms.domain.model.inventory.MovementType;
+import com.example.sms.domain.model.inventory.StockMovement;
+import com.example.sms.domain.model.inventory.StockRequest;
+import com.example.sms.domain.model.product.Product;
+import com.example.sms.domain.model.product.ProductCategory;
+import com.example.sms.domain.model.product.TaxCategory;
+import com.example.sms.testsetup.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 在庫引当リポジトリテスト.
+ */
+@DisplayName("在庫引当リポジトリ")
+class InventoryAllocationRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private InventoryAllocationRepository inventoryAllocationRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 倉庫・商品を参照するトランザクションデータを先に削除
+        jdbcTemplate.execute("TRUNCATE TABLE \"入出庫履歴データ\" CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE \"棚卸データ\" CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE \"入荷データ\" CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE \"発注データ\" CASCADE");
+        inventoryRepository.deleteAll();
+        jdbcTemplate.execute("DELETE FROM \"ロケーションマスタ\"");
+        jdbcTemplate.execute("DELETE FROM \"倉庫マスタ\"");
+        productRepository.deleteAll();
+
+        jdbcTemplate.update(
+                "INSERT INTO \"倉庫マスタ\" (\"倉庫コード\", \"倉庫名\", \"倉庫区分\") VALUES (?, ?, ?::倉庫区分)",
+                "WH001", "メイン倉庫", "自社");
+        for (String code : List.of("P001", "P002")) {
+            productRepository.save(Product.builder()
+                    .productCode(code)
+                    .productName("商品" + code)
+                    .productCategory(ProductCategory.PRODUCT)
+                    .taxCategory(TaxCategory.EXCLUSIVE)
+                    .build());
+        }
+    }
+
+    private Inventory saveInventory(String productCode, String lotNumber, LocalDate expirationDate,
+                                    String current, String allocated) {
+        var inventory = Inventory.builder()
+                .warehouseCode("WH001")
+                .productCode(productCode)
+                .lotNumber(lotNumber)
+                .expirationDate(expirationDate)
+                .currentQuantity(new BigDecimal(current))
+                .allocatedQuantity(new BigDecimal(allocated))
+                .orderedQuantity(BigDecimal.ZERO)
+                .build();
+        inventoryRepository.save(inventory);
+        return inventory;
+    }
+
+    private static StockRequest request(String productCode) {
+        return StockRequest.builder().warehouseCode("WH001").productCode(productCode).build();
+    }
+
+    @Nested
+    @DisplayName("在庫の検索")
+    class FindStocks {
+
+        @Test
+        @DisplayName("要求された倉庫・商品の在庫を有効期限の近い順（期限なしは最後）に取得する")
+        void findsStocksInExpirationOrder() {
+            saveInventory("P001", "LOT-C", null, "10", "0");
+            saveInventory("P001", "LOT-B", LocalDate.of(2025, 6, 30), "10", "0");
+            saveInventory("P001", "LOT-A", LocalDate.of(2025, 3, 31), "10", "0");
+            saveInventory("P002", "LOT-D", null, "10", "0");
+
+            List<Inventory> stocks = inventoryAllocationRepository.findStocks(List.of(request("P001")));
+
+            assertThat(stocks).extracting(Inventory::getLotNumber).containsExactly("LOT-A", "LOT-B", "LOT-C");
+            assertThat(inventoryAllocationRepository.findStocks(List.of())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("条件付きの増減")
+    class ApplyDelta {
+
+        @Test
+        @DisplayName("有効在庫の範囲内なら引当数を増やし、超える場合は更新しない")
+        void allocatesWithinAvailableQuantity() {
+            Inventory inventory = saveInventory("P001", null, null, "10", "4");
+
+            assertThat(inventoryAllocationRepository.applyDelta(
+                    inventory.getId(), BigDecimal.ZERO, new BigDecimal("6"), null)).isTrue();
+            assertThat(inventoryAllocationRepository.applyDelta(
+                    inventory.getId(), BigDecimal.ZERO, BigDecimal.ONE, null)).isFalse();
+
+            var updated = inventoryRepository.findById(inventory.getId()).orElseThrow();
+            assertThat(updated.getAllocatedQuantity()).isEqualByComparingTo("10");
+            assertThat(updated.getVersion()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("引当済の在庫を出庫すると現在庫数と引当数を減らし、最終出庫日を設定する")
+        void shipsAllocatedStock() {
+            Inventory inventory = saveInventory("P001", null, null, "10", "4");
+            LocalDate shipmentDate = LocalDate.of(2025, 2, 10);
+
+            assertThat(inventoryAllocationRepository.applyDelta(
+                    inventory.getId(), new BigDecimal("-3"), new BigDecimal("-3"), shipmentDate)).isTrue();
+            assertThat(inventoryAllocationRepository.applyDelta(
+                    inventory.getId(), new BigDecimal("-2"), new BigDecimal("-2"), shipmentDate)).isFalse();
+
+            var updated = inventoryRepository.findById(inventory.getId()).orElseThrow();
+            assertThat(updated.getCurrentQuantity()).isEqualByComparingTo("7");
+            assertThat(updated.getAllocatedQuantity()).isEqualByComparingTo("1");
+            assertThat(updated.getLastShipmentDate()).isEqualTo(shipmentDate);
+        }
+
+        @Test
+        @DisplayName("引当のない出庫は引当済の数量に手を付けない")
+        void doesNotShipAllocatedStockWithoutAllocation() {
+            Inventory inventory = saveInventory("P001", null, null, "10", "8");
+
+            assertThat(inventoryAllocationRepository.applyDelta(
+                    inventory.getId(), new BigDecimal("-3"), BigDecimal.ZERO, LocalDate.of(2025, 2, 10))).isFalse();
+            assertThat(inventoryAllocationRepository.applyDelta(
+                    inventory.getId(), new BigDecimal("-2"), BigDecimal.ZERO, LocalDate.of(2025, 2, 10))).isTrue();
+
+            assertThat(inventoryRepository.findById(inventory.getId()).orElseThrow().getCurrentQuantity())
+                    .isEqualByComparingTo("8");
+        }
+    }
+
+    @Nested
+    @DisplayName("入出庫履歴の一括登録")
+    class SaveMovements {
+
+        @Test
+        @DisplayName("引当・出荷出庫の入出庫履歴をまとめて登録する")
+        void savesMovements() {
+            LocalDateTime movedAt = LocalDateTime.of(2025, 2, 10, 9, 0);
+            inventoryAllocationRepository.saveMovements(List.of(
+                    movement("P001", MovementType.ALLOCATION, movedAt),
+                    movement("P002", MovementType.SHIPMENT, movedAt)));
+
+            assertThat(stockMovementRepository.findByMovementType(MovementType.ALLOCATION)).singleElement()
+                    .satisfies(m -> {
+                        assertThat(m.getProductCode()).isEqualTo("P001");
+                        assertThat(m.getDocumentNumber()).isEqualTo("ORD-20250210-0001");
+                        assertThat(m.getBeforeQuantity()).isEqualByComparingTo("10");
+                        assertThat(m.getAfterQuantity()).isEqualByComparingTo("7");
+                    });
+            assertThat(stockMovementRepository.findByMovementType(MovementType.SHIPMENT)).hasSize(1);
+        }
+
+        private StockMovement movement(String productCode, MovementType type, LocalDateTime movedAt) {
+            return StockMovement.builder()
+                    .warehouseCode("WH001")
+                    .productCode(productCode)
+                    .movementDateTime(movedAt)
+                    .movementType(type)
+                    .movementQuantity(new BigDecimal("3"))
+                    .beforeQuantity(new BigDecimal("10"))
+                    .afterQuantity(new BigDecimal("7"))
+                    .documentNumber("ORD-20250210-0001")
+                    .documentType("受注")
+                    .build();
+        }
+    }
+}
@@ -17,6 +17,8 @@ import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -143,6 +145,18 @@ class InventoryRepositoryTest extends BaseIntegrationTest {
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getWarehouseCode()).isEqualTo("WH001");
         }
+
+        @Test
+        @DisplayName("全在庫をカーソルで順に読み出せる")
+        void canStreamAll() {
+            var inv1 = createInventory("WH001", "P001", new BigDecimal("100"));
+            inventoryRepository.save(inv1);
+
+            List<Inventory> result = new ArrayList<>();
+            inventoryRepository.forEach(result::add);
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getCurrentQuantity()).isEqualByComparingTo("100");
+        }
     }
 
     @Nested
@@ -0,0 +1,255 @@
+package com.example.sms.infrastructure.out.persistence.repository;
+
+import com.example.sms.application.port.out.AccountsReceivableRepository;
+import com.example.sms.application.port.out.CustomerRepository;
+import com.example.sms.application.port.out.InvoiceClosingRepository;
+import com.example.sms.application.port.out.InvoiceRepository;
+import com.example.sms.application.port.out.PartnerRepository;
+import com.example.sms.application.port.out.ReceiptRepository;
+import com.example.sms.application.port.out.SalesOrderRepository;
+import com.example.sms.application.port.out.SalesRepository;
+import com.example.sms.domain.model.invoice.AccountsReceivable;
+import com.example.sms.domain.model.invoice.ClosingSales;
+import com.example.sms.domain.model.invoice.ClosingTarget;
+import com.example.sms.domain.model.invoice.CustomerAmount;
+import com.example.sms.domain.model.invoice.InvoiceClosing;
+import com.example.sms.domain.model.invoice.InvoiceClosingPeriod;
+import com.example.sms.domain.model.partner.BillingType;
+import com.example.sms.domain.model.partner.Customer;
+import com.example.sms.domain.model.partner.Partner;
+import com.example.sms.domain.model.receipt.Receipt;
+import com.example.sms.domain.model.receipt.ReceiptMethod;
+import com.example.sms.domain.model.receipt.ReceiptStatus;
+import com.example.sms.domain.model.sales.OrderStatus;
+import com.example.sms.domain.model.sales.Sales;
+import com.example.sms.domain.model.sales.SalesOrder;
+import com.example.sms.domain.model.sales.SalesStatus;
+import com.example.sms.testsetup.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 請求締処理リポジトリテスト.
+ */
+@DisplayName("請求締処理リポジトリ")
+@SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops", "PMD.UseUnderscoresInNumericLiterals"})
+class InvoiceClosingRepositoryTest extends BaseIntegrationTest {
+
+    private static final LocalDate CLOSING_DATE = LocalDate.of(2025, 1, 31);
+
+    @Autowired
+    private InvoiceClosingRepository invoiceClosingRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private AccountsReceivableRepository accountsReceivableRepository;
+
+    @Autowired
+    private ReceiptRepository receiptRepository;
+
+    @Autowired
+    private SalesRepository salesRepository;
+
+    @Autowired
+    private SalesOrderRepository salesOrderRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Integer orderId;
+
+    @BeforeEach
+    void setUp() {
+        invoiceClosingRepository.deleteAllHistories();
+        invoiceRepository.deleteAll();
+        salesRepository.deleteAll();
+        salesOrderRepository.deleteAll();
+        receiptRepository.deleteAll();
+        accountsReceivableRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+
+        // 月末締め翌月末払い・20 日締め翌月 10 日払い・都度請求の顧客
+        saveCustomer("C001", BillingType.PERIODIC, 31, 1, 31);
+        saveCustomer("C002", BillingType.PERIODIC, 20, 1, 10);
+        saveCustomer("C003", BillingType.ON_DEMAND, null, null, null);
+
+        var order = SalesOrder.builder()
+                .orderNumber("SO-2025-0001")
+                .orderDate(LocalDate.of(2025, 1, 5))
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .status(OrderStatus.RECEIVED)
+                .build();
+        salesOrderRepository.save(order);
+        orderId = order.getId();
+    }
+
+    private void saveCustomer(String code, BillingType billingType,
+                              Integer closingDay, Integer paymentMonth, Integer paymentDay) {
+        partnerRepository.save(Partner.builder()
+                .partnerCode(code)
+                .partnerName("顧客" + code)
+                .isCustomer(true)
+                .build());
+        customerRepository.save(Customer.builder()
+                .customerCode(code)
+                .customerBranchNumber("00")
+                .customerName("顧客" + code)
+                .billingCode(code)
+                .billingType(billingType)
+                .closingDay1(closingDay)
+                .paymentMonth1(paymentMonth)
+                .paymentDay1(paymentDay)
+                .build());
+    }
+
+    private Sales saveSales(String salesNumber, LocalDate salesDate, String amount, String tax) {
+        var sales = Sales.builder()
+                .salesNumber(salesNumber)
+                .salesDate(salesDate)
+                .orderId(orderId)
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .salesAmount(new BigDecimal(amount))
+                .taxAmount(new BigDecimal(tax))
+                .totalAmount(new BigDecimal(amount).add(new BigDecimal(tax)))
+                .status(SalesStatus.RECORDED)
+                .build();
+        salesRepository.save(sales);
+        return sales;
+    }
+
+    private void saveReceipt(String receiptNumber, LocalDate receiptDate, String amount) {
+        receiptRepository.save(Receipt.builder()
+                .receiptNumber(receiptNumber)
+                .receiptDate(receiptDate)
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .receiptMethod(ReceiptMethod.BANK_TRANSFER)
+                .receiptAmount(new BigDecimal(amount))
+                .appliedAmount(BigDecimal.ZERO)
+                .unappliedAmount(new BigDecimal(amount))
+                .status(ReceiptStatus.RECEIVED)
+                .build());
+    }
+
+    private void saveBalance(LocalDate baseDate, String balance) {
+        accountsReceivableRepository.save(AccountsReceivable.builder()
+                .customerCode("C001")
+                .customerBranchNumber("00")
+                .baseDate(baseDate)
+                .currentMonthBalance(new BigDecimal(balance))
+                .build());
+    }
+
+    @Nested
+    @DisplayName("対象の検索")
+    class FindTargets {
+
+        @Test
+        @DisplayName("月末の締日では締日が月末以降の締め請求の顧客だけを対象とする")
+        void findsCustomersClosingAtMonthEnd() {
+            List<ClosingTarget> targets = invoiceClosingRepository.findClosingTargets(
+                    InvoiceClosingPeriod.of(LocalDate.of(2025, 2, 28)));
+
+            assertThat(targets).extracting(ClosingTarget::getCustomerCode).containsExactly("C001");
+        }
+
+        @Test
+        @DisplayName("締日の日付が一致する顧客を対象とする")
+        void findsCustomersByClosingDay() {
+            List<ClosingTarget> targets = invoiceClosingRepository.findClosingTargets(
+                    InvoiceClosingPeriod.of(LocalDate.of(2025, 1, 20)));
+
+            assertThat(targets).extracting(ClosingTarget::getCustomerCode).containsExactly("C002");
+        }
+
+        @Test
+        @DisplayName("締日以前の未請求の売上を取得する")
+        void findsUnbilledSalesUntilClosingDate() {
+            saveSales("SL-0001", LocalDate.of(2025, 1, 10), "10000", "1000");
+            saveSales("SL-0002", LocalDate.of(2025, 2, 1), "20000", "2000");
+
+            List<ClosingSales> sales = invoiceClosingRepository.findUnbilledSales(
+                    InvoiceClosingPeriod.of(CLOSING_DATE));
+
+            assertThat(sales).extracting(ClosingSales::getSalesNumber).containsExactly("SL-0001");
+        }
+
+        @Test
+        @DisplayName("前回締日の翌日から今回締日までの入金を合計する")
+        void sumsReceiptsSincePreviousClosing() {
+            saveBalance(LocalDate.of(2024, 12, 31), "50000");
+            saveReceipt("RCP-0001", LocalDate.of(2024, 12, 31), "5000");
+            saveReceipt("RCP-0002", LocalDate.of(2025, 1, 10), "30000");
+            saveReceipt("RCP-0003", LocalDate.of(2025, 1, 31), "10000");
+
+            List<CustomerAmount> receipts = invoiceClosingRepository.sumReceipts(
+                    InvoiceClosingPeriod.of(CLOSING_DATE));
+            List<CustomerAmount> balances = invoiceClosingRepository.findPreviousBalances(
+                    InvoiceClosingPeriod.of(CLOSING_DATE));
+
+            assertThat(receipts).singleElement()
+                    .satisfies(r -> assertThat(r.getAmount()).isEqualByComparingTo("40000"));
+            assertThat(balances).singleElement()
+                    .satisfies(b -> assertThat(b.getAmount()).isEqualByComparingTo("50000"));
+        }
+    }
+
+    @Nested
+    @DisplayName("一括登録")
+    class SaveAll {
+
+        @Test
+        @DisplayName("請求・請求明細・請求締履歴・売掛金残高を登録し、売上を請求済にする")
+        void savesClosingsAndMarksSalesBilled() {
+            Sales sales = saveSales("SL-0001", LocalDate.of(2025, 1, 10), "10000", "1000");
+            var period = InvoiceClosingPeriod.of(CLOSING_DATE);
+            ClosingTarget target = invoiceClosingRepository.findClosingTargets(period).getFirst();
+            InvoiceClosing closing = InvoiceClosing.assemble(target, period,
+                    new BigDecimal("50000"), new BigDecimal("30000"),
+                    invoiceClosingRepository.findUnbilledSales(period)).orElseThrow();
+            closing.getInvoice().setInvoiceNumber("INV-20250131-0001");
+
+            invoiceClosingRepository.saveAll(List.of(closing));
+
+            var invoice = invoiceRepository.findWithDetailsByInvoiceNumber("INV-20250131-0001").orElseThrow();
+            assertThat(invoice.getDetails()).hasSize(1);
+            assertThat(invoice.getCurrentInvoiceAmount()).isEqualByComparingTo("11000");
+            assertThat(invoice.getInvoiceBalance()).isEqualByComparingTo("31000");
+            assertThat(invoice.getDueDate()).isEqualTo(LocalDate.of(2025, 2, 28));
+
+            assertThat(invoiceClosingRepository.findHistoriesByClosingDate(CLOSING_DATE)).singleElement()
+                    .satisfies(h -> {
+                        assertThat(h.getInvoiceId()).isEqualTo(invoice.getId());
+                        assertThat(h.getClosingYearMonth()).isEqualTo("2025-01");
+                        assertThat(h.getSalesCount()).isEqualTo(1);
+                    });
+            assertThat(accountsReceivableRepository.findByCustomerAndBaseDate("C001", "00", CLOSING_DATE))
+                    .hasValueSatisfying(a -> assertThat(a.getCurrentMonthBalance()).isEqualByComparingTo("31000"));
+
+            var billed = salesRepository.findById(sales.getId()).orElseThrow();
+            assertThat(billed.getStatus()).isEqualTo(SalesStatus.BILLED);
+            assertThat(billed.getBillingId()).isEqualTo(invoice.getId());
+
+            // 締処理済みの顧客は同じ月の対象から外れる
+            assertThat(invoiceClosingRepository.findClosingTargets(period)).isEmpty();
+            assertThat(invoiceClosingRepository.findUnbilledSales(period)).isEmpty();
+        }
+    }
+}
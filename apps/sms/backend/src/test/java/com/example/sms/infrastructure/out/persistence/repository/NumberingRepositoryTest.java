@@ -1,6 +1,7 @@
 package com.example.sms.infrastructure.out.persistence.repository;
 
 import com.example.sms.application.port.out.NumberingRepository;
+import com.example.sms.application.service.DocumentNumberAllocator;
 import com.example.sms.domain.model.common.NumberingHistory;
 import com.example.sms.domain.model.common.NumberingMaster;
 import com.example.sms.testsetup.BaseIntegrationTest;
@@ -9,16 +10,34 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * 採番リポジトリテスト.
  */
 @DisplayName("採番リポジトリ")
+@SuppressWarnings("PMD.TooManyStaticImports")
 class NumberingRepositoryTest extends BaseIntegrationTest {
 
     @Autowired
@@ -154,6 +173,118 @@ class NumberingRepositoryTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("伝票番号の採番")
+    class Allocation {
+
+        private static final String PERIOD = "20250101";
+        private static final String NEXT_PERIOD = "20250102";
+
+        @BeforeEach
+        void setUpMaster() {
+            numberingRepository.saveMaster(createMaster("TEST", "テスト番号"));
+        }
+
+        private long lastNumber(String period) {
+            return numberingRepository.findHistoryByCodeAndYearMonth("TEST", period).orElseThrow().getLastNumber();
+        }
+
+        @Test
+        @DisplayName("ブロックを使い切ると次のブロックを確保して連番を続ける")
+        void shouldRefillBlock() {
+            DocumentNumberAllocator allocator = new DocumentNumberAllocator(numberingRepository);
+
+            List<Long> numbers = IntStream.range(0, 21).mapToObj(i -> allocator.next("TEST", PERIOD)).toList();
+
+            assertThat(numbers).containsExactlyElementsOf(LongStream.rangeClosed(1, 21).boxed().toList());
+            assertThat(lastNumber(PERIOD)).isEqualTo(40L);
+        }
+
+        @Test
+        @DisplayName("期間が変わると 1 から採番し、前の期間のブロックの残りは欠番にする")
+        void shouldRollOverPeriod() {
+            DocumentNumberAllocator allocator = new DocumentNumberAllocator(numberingRepository);
+
+            assertThat(allocator.next("TEST", PERIOD)).isEqualTo(1);
+            assertThat(allocator.next("TEST", PERIOD)).isEqualTo(2);
+            assertThat(allocator.next("TEST", NEXT_PERIOD)).isEqualTo(1);
+            assertThat(allocator.next("TEST", PERIOD)).isEqualTo(21);
+        }
+
+        @Test
+        @DisplayName("一括確保した範囲はブロックから払い出す番号と重ならない")
+        void shouldReserveRangeOutsideBlocks() {
+            DocumentNumberAllocator allocator = new DocumentNumberAllocator(numberingRepository);
+
+            assertThat(allocator.next("TEST", PERIOD)).isEqualTo(1);
+            assertThat(allocator.reserveRange("TEST", PERIOD, 5)).isEqualTo(21);
+            assertThat(allocator.next("TEST", PERIOD)).isEqualTo(2);
+            assertThat(lastNumber(PERIOD)).isEqualTo(25L);
+        }
+
+        @Test
+        @DisplayName("初回確保が他のプロセスと競合して一意制約違反になった場合は、作成済みの履歴に加算して確保し直す")
+        void shouldRetryOnDuplicateKey() {
+            AtomicInteger calls = new AtomicInteger();
+            NumberingRepository racing = mock(NumberingRepository.class);
+            when(racing.reserveNumbers(anyString(), anyString(), anyInt())).thenAnswer(invocation -> {
+                String numberingCode = invocation.getArgument(0);
+                String period = invocation.getArgument(1);
+                int count = invocation.getArgument(2);
+                if (calls.getAndIncrement() == 0) {
+                    // 他のプロセスが先に同じ期間の採番履歴を作成した
+                    numberingRepository.reserveNumbers(numberingCode, period, count);
+                    throw new DuplicateKeyException("採番履歴データ");
+                }
+                return numberingRepository.reserveNumbers(numberingCode, period, count);
+            });
+
+            assertThat(new DocumentNumberAllocator(racing).next("TEST", PERIOD)).isEqualTo(21);
+            assertThat(calls).hasValue(2);
+            assertThat(lastNumber(PERIOD)).isEqualTo(40L);
+        }
+
+        @Test
+        @DisplayName("複数プロセス・複数スレッドから同時に採番しても番号が重複しない")
+        @SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidInstantiatingObjectsInLoops"})
+        void shouldNotDuplicateUnderConcurrency() throws Exception {
+            int processes = 3;
+            int threads = 12;
+            int perThread = 50;
+            List<DocumentNumberAllocator> allocators = IntStream.range(0, processes)
+                    .mapToObj(i -> new DocumentNumberAllocator(numberingRepository))
+                    .toList();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            try {
+                for (int t = 0; t < threads; t++) {
+                    DocumentNumberAllocator allocator = allocators.get(t % processes);
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        List<Long> numbers = new ArrayList<>();
+                        for (int i = 0; i < perThread; i++) {
+                            numbers.add(allocator.next("TEST", PERIOD));
+                        }
+                        return numbers;
+                    }));
+                }
+                start.countDown();
+
+                Set<Long> allocated = new HashSet<>();
+                for (Future<List<Long>> future : futures) {
+                    allocated.addAll(future.get(30, TimeUnit.SECONDS));
+                }
+
+                long last = lastNumber(PERIOD);
+                assertThat(allocated).hasSize(threads * perThread);
+                assertThat(allocated).allSatisfy(number -> assertThat(number).isBetween(1L, last));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
     private NumberingMaster createMaster(String code, String name) {
         return NumberingMaster.builder()
                 .numberingCode(code)
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -142,6 +143,21 @@ class ProductRepositoryTest extends BaseIntegrationTest {
                     .extracting(Product::getProductName)
                     .containsExactlyInAnyOrder("商品1", "商品2");
         }
+
+        @Test
+        @DisplayName("複数の商品コードでまとめて検索できる")
+        void canFindByCodes() {
+            productRepository.save(createProduct("PROD001", "商品1", TaxCategory.EXCLUSIVE));
+            productRepository.save(createProduct("PROD002", "商品2", TaxCategory.EXCLUSIVE));
+            productRepository.save(createProduct("PROD003", "商品3", TaxCategory.EXCLUSIVE));
+
+            var products = productRepository.findByCodes(List.of("PROD003", "PROD001", "UNKNOWN"));
+
+            assertThat(products)
+                    .extracting(Product::getProductCode)
+                    .containsExactly("PROD001", "PROD003");
+            assertThat(productRepository.findByCodes(List.of())).isEmpty();
+        }
     }
 
     private Product createProduct(String code, String name, TaxCategory taxCategory) {
@@ -0,0 +1,222 @@
+package com.example.sms.infrastructure.out.persistence.repository;
+
+import com.example.sms.application.port.out.CustomerRepository;
+import com.example.sms.application.port.out.InvoiceRepository;
+import com.example.sms.application.port.out.PartnerRepository;
+import com.example.sms.application.port.out.ReceiptMatchingRepository;
+import com.example.sms.application.port.out.ReceiptRepository;
+import com.example.sms.domain.model.invoice.Invoice;
+import com.example.sms.domain.model.invoice.InvoiceStatus;
+import com.example.sms.domain.model.partner.Customer;
+import com.example.sms.domain.model.partner.Partner;
+import com.example.sms.domain.model.receipt.OpenInvoice;
+import com.example.sms.domain.model.receipt.Receipt;
+import com.example.sms.domain.model.receipt.ReceiptApplication;
+import com.example.sms.domain.model.receipt.ReceiptMatch;
+import com.example.sms.domain.model.receipt.ReceiptMatcher;
+import com.example.sms.domain.model.receipt.ReceiptMethod;
+import com.example.sms.domain.model.receipt.ReceiptStatus;
+import com.example.sms.domain.model.receipt.UnappliedReceipt;
+import com.example.sms.testsetup.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 入金自動消込リポジトリテスト.
+ */
+@DisplayName("入金自動消込リポジトリ")
+@SuppressWarnings("PMD.UseUnderscoresInNumericLiterals")
+class ReceiptMatchingRepositoryTest extends BaseIntegrationTest {
+
+    private static final LocalDate APPLICATION_DATE = LocalDate.of(2025, 2, 28);
+
+    private static final BigDecimal TOLERANCE = new BigDecimal("880");
+
+    @Autowired
+    private ReceiptMatchingRepository receiptMatchingRepository;
+
+    @Autowired
+    private ReceiptRepository receiptRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @BeforeEach
+    void setUp() {
+        receiptRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+
+        saveCustomer("C001", "カブシキガイシャ ヤマダショウジ");
+        saveCustomer("C002", "スズキサンギョウ");
+    }
+
+    private void saveCustomer(String code, String nameKana) {
+        partnerRepository.save(Partner.builder()
+                .partnerCode(code)
+                .partnerName("顧客" + code)
+                .isCustomer(true)
+                .build());
+        customerRepository.save(Customer.builder()
+                .customerCode(code)
+                .customerBranchNumber("00")
+                .customerName("顧客" + code)
+                .customerNameKana(nameKana)
+                .build());
+    }
+
+    private Invoice saveInvoice(String invoiceNumber, String customerCode, LocalDate dueDate,
+                                String balance, InvoiceStatus status) {
+        var invoice = Invoice.builder()
+                .invoiceNumber(invoiceNumber)
+                .invoiceDate(LocalDate.of(2025, 1, 31))
+                .billingCode(customerCode)
+                .customerCode(customerCode)
+                .customerBranchNumber("00")
+                .currentSalesAmount(new BigDecimal(balance))
+                .currentInvoiceAmount(new BigDecimal(balance))
+                .invoiceBalance(new BigDecimal(balance))
+                .dueDate(dueDate)
+                .status(status)
+                .build();
+        invoiceRepository.save(invoice);
+        return invoice;
+    }
+
+    private Receipt saveReceipt(String receiptNumber, String customerCode, String payerName, String amount) {
+        var receipt = Receipt.builder()
+                .receiptNumber(receiptNumber)
+                .receiptDate(LocalDate.of(2025, 2, 27))
+                .customerCode(customerCode)
+                .customerBranchNumber("00")
+                .receiptMethod(ReceiptMethod.BANK_TRANSFER)
+                .receiptAmount(new BigDecimal(amount))
+                .appliedAmount(BigDecimal.ZERO)
+                .unappliedAmount(new BigDecimal(amount))
+                .payerName(payerName)
+                .status(ReceiptStatus.RECEIVED)
+                .build();
+        receiptRepository.save(receipt);
+        return receipt;
+    }
+
+    @Nested
+    @DisplayName("対象の検索")
+    class FindTargets {
+
+        @Test
+        @DisplayName("消込日までの未消込の入金を入金日順に取得する")
+        void findsUnappliedReceipts() {
+            saveReceipt("RCP-0001", "C001", "カ)ヤマダシヨウジ", "100000");
+            Receipt applied = saveReceipt("RCP-0002", "C001", "カ)ヤマダシヨウジ", "5000");
+            applied.setStatus(ReceiptStatus.APPLIED);
+            receiptRepository.update(applied);
+
+            List<UnappliedReceipt> receipts = receiptMatchingRepository.findUnappliedReceipts(APPLICATION_DATE);
+
+            assertThat(receipts).singleElement().satisfies(r -> {
+                assertThat(r.getReceipt().getReceiptNumber()).isEqualTo("RCP-0001");
+                assertThat(r.getLastLineNumber()).isZero();
+            });
+            assertThat(receiptMatchingRepository.findUnappliedReceipts(LocalDate.of(2025, 2, 26))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("請求残高のある発行済の請求を顧客名カナとともに取得する")
+        void findsOpenInvoices() {
+            saveInvoice("INV-0001", "C001", LocalDate.of(2025, 2, 28), "100000", InvoiceStatus.ISSUED);
+            saveInvoice("INV-0002", "C001", LocalDate.of(2025, 2, 28), "50000", InvoiceStatus.DRAFT);
+            saveInvoice("INV-0003", "C002", LocalDate.of(2025, 2, 28), "0", InvoiceStatus.PAID);
+
+            List<OpenInvoice> invoices = receiptMatchingRepository.findOpenInvoices(APPLICATION_DATE);
+
+            assertThat(invoices).singleElement().satisfies(i -> {
+                assertThat(i.getInvoiceNumber()).isEqualTo("INV-0001");
+                assertThat(i.getCustomerNameKana()).isEqualTo("カブシキガイシャ ヤマダショウジ");
+                assertThat(i.getInvoiceBalance()).isEqualByComparingTo("100000");
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("一括反映")
+    class SaveAll {
+
+        @Test
+        @DisplayName("振込手数料を差し引いた入金で請求を全額消し込み、消込明細を登録する")
+        void appliesReceiptWithBankFee() {
+            Invoice invoice = saveInvoice("INV-0001", "C001", LocalDate.of(2025, 2, 28), "100000",
+                    InvoiceStatus.ISSUED);
+            Receipt receipt = saveReceipt("RCP-0001", "C001", "カ)ヤマダシヨウジ", "99340");
+
+            ReceiptMatcher matcher = ReceiptMatcher.of(
+                    receiptMatchingRepository.findOpenInvoices(APPLICATION_DATE), TOLERANCE);
+            List<ReceiptMatch> matches = receiptMatchingRepository.findUnappliedReceipts(APPLICATION_DATE).stream()
+                    .flatMap(r -> matcher.match(r, APPLICATION_DATE).stream())
+                    .toList();
+
+            receiptMatchingRepository.saveAll(matches);
+
+            var applied = receiptRepository.findWithApplicationsByReceiptNumber("RCP-0001").orElseThrow();
+            assertThat(applied.getStatus()).isEqualTo(ReceiptStatus.APPLIED);
+            assertThat(applied.getReceiptAmount()).isEqualByComparingTo("100000");
+            assertThat(applied.getBankFee()).isEqualByComparingTo("660");
+            assertThat(applied.getAppliedAmount()).isEqualByComparingTo("99340");
+            assertThat(applied.getUnappliedAmount()).isEqualByComparingTo("0");
+            assertThat(applied.getVersion()).isEqualTo(receipt.getVersion() + 1);
+            assertThat(applied.getApplications()).singleElement().satisfies(a -> {
+                assertThat(a.getInvoiceId()).isEqualTo(invoice.getId());
+                assertThat(a.getLineNumber()).isEqualTo(1);
+                assertThat(a.getAppliedAmount()).isEqualByComparingTo("99340");
+                assertThat(a.getRemarks()).contains("660");
+            });
+
+            var paid = invoiceRepository.findById(invoice.getId()).orElseThrow();
+            assertThat(paid.getStatus()).isEqualTo(InvoiceStatus.PAID);
+            assertThat(paid.getReceiptAmount()).isEqualByComparingTo("100000");
+            assertThat(paid.getInvoiceBalance()).isEqualByComparingTo("0");
+
+            // 消し込んだ入金と請求は次回の対象から外れる
+            assertThat(receiptMatchingRepository.findUnappliedReceipts(APPLICATION_DATE)).isEmpty();
+            assertThat(receiptMatchingRepository.findOpenInvoices(APPLICATION_DATE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("振込名義の顧客の請求を回収予定日の古い順にまとめて消し込む")
+        void appliesReceiptToPayerInvoices() {
+            saveInvoice("INV-0001", "C002", LocalDate.of(2025, 1, 31), "30000", InvoiceStatus.OVERDUE);
+            saveInvoice("INV-0002", "C002", LocalDate.of(2025, 2, 28), "20000", InvoiceStatus.ISSUED);
+            saveInvoice("INV-0003", "C002", LocalDate.of(2025, 3, 31), "10000", InvoiceStatus.ISSUED);
+            saveReceipt("RCP-0001", "C001", "ｽｽﾞｷｻﾝｷﾞﾖｳ", "50000");
+
+            ReceiptMatcher matcher = ReceiptMatcher.of(
+                    receiptMatchingRepository.findOpenInvoices(APPLICATION_DATE), TOLERANCE);
+            List<ReceiptMatch> matches = receiptMatchingRepository.findUnappliedReceipts(APPLICATION_DATE).stream()
+                    .flatMap(r -> matcher.match(r, APPLICATION_DATE).stream())
+                    .toList();
+
+            receiptMatchingRepository.saveAll(matches);
+
+            var applied = receiptRepository.findWithApplicationsByReceiptNumber("RCP-0001").orElseThrow();
+            assertThat(applied.getApplications()).extracting(ReceiptApplication::getLineNumber).containsExactly(1, 2);
+            assertThat(receiptMatchingRepository.findOpenInvoices(APPLICATION_DATE))
+                    .extracting(OpenInvoice::getInvoiceNumber).containsExactly("INV-0003");
+        }
+    }
+}
@@ -96,6 +96,70 @@ class OrderApiIntegrationTest extends IntegrationTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("単価の解決")
+    class UnitPriceResolution {
+
+        @Test
+        @DisplayName("単価を省略した明細は商品マスタの販売単価で登録する")
+        void shouldUseSellingPriceWhenUnitPriceOmitted() {
+            OrderResponse response = createOrder(createOrderRequestWithoutUnitPrice());
+
+            assertThat(response.details().getFirst().unitPrice()).isEqualByComparingTo("5000");
+        }
+
+        @Test
+        @DisplayName("販売単価が未設定の商品で単価を省略すると404エラー")
+        void shouldReturn404WhenSellingPriceNotSet() {
+            jdbcTemplate.update("UPDATE \"商品マスタ\" SET \"販売単価\" = NULL WHERE \"商品コード\" = ?",
+                "PRD-INT-001");
+
+            assertThatThrownBy(() -> createOrder(createOrderRequestWithoutUnitPrice()))
+                .isInstanceOf(HttpClientErrorException.class)
+                .satisfies(ex -> {
+                    HttpClientErrorException httpEx = (HttpClientErrorException) ex;
+                    assertThat(httpEx.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+                });
+        }
+
+        private OrderResponse createOrder(CreateOrderRequest request) {
+            return getRestClient()
+                .post()
+                .uri(API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(OrderResponse.class);
+        }
+
+        private CreateOrderRequest createOrderRequestWithoutUnitPrice() {
+            CreateOrderRequest request = createOrderRequest();
+            CreateOrderDetailRequest detail = request.details().getFirst();
+            return new CreateOrderRequest(
+                request.orderDate(),
+                request.customerCode(),
+                request.customerBranchNumber(),
+                null,
+                null,
+                request.requestedDeliveryDate(),
+                request.scheduledShippingDate(),
+                null,
+                request.customerOrderNumber(),
+                request.remarks(),
+                List.of(new CreateOrderDetailRequest(
+                    detail.productCode(),
+                    detail.productName(),
+                    detail.orderQuantity(),
+                    detail.unit(),
+                    null,
+                    null,
+                    detail.requestedDeliveryDate(),
+                    detail.remarks()
+                ))
+            );
+        }
+    }
+
     @Nested
     @DisplayName("受注キャンセルフロー")
     class OrderCancelFlow {